@@ -0,0 +1,184 @@
+package io.sirix.benchmark;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares the JSON results of a JMH run with the results of a baseline run. Results are matched by the benchmark
+ * name and the parameters. A result is a regression if its score is worse than the baseline score by more than the
+ * threshold and the difference isn't covered by the errors of both scores.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class BenchmarkReport {
+
+  /**
+   * The default threshold (10%).
+   */
+  public static final double DEFAULT_THRESHOLD = 0.1;
+
+  private final Map<String, Result> baseline;
+
+  private final Map<String, Result> current;
+
+  private final double threshold;
+
+  /**
+   * A single benchmark result.
+   */
+  static final class Result {
+    private final String mode;
+
+    private final double score;
+
+    private final double scoreError;
+
+    private final String scoreUnit;
+
+    Result(final String mode, final double score, final double scoreError, final String scoreUnit) {
+      this.mode = mode;
+      this.score = score;
+      this.scoreError = scoreError;
+      this.scoreUnit = scoreUnit;
+    }
+
+    double score() {
+      return score;
+    }
+
+    double scoreError() {
+      return scoreError;
+    }
+
+    String scoreUnit() {
+      return scoreUnit;
+    }
+
+    boolean isHigherBetter() {
+      return "thrpt".equals(mode);
+    }
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param baseline  the JMH results (in JSON format) of the baseline
+   * @param current   the JMH results (in JSON format) of the current run
+   * @param threshold relative difference, above which a worse score is reported as a regression
+   * @throws IOException if reading the results fails
+   */
+  public BenchmarkReport(final Path baseline, final Path current, final double threshold) throws IOException {
+    if (threshold < 0) {
+      throw new IllegalArgumentException("The threshold must be >= 0!");
+    }
+    this.baseline = read(baseline);
+    this.current = read(current);
+    this.threshold = threshold;
+  }
+
+  /**
+   * Determines if any benchmark result regressed compared to the baseline.
+   *
+   * @return {@code true}, if at least one result regressed, {@code false} otherwise
+   */
+  public boolean hasRegressions() {
+    return current.entrySet().stream().anyMatch(entry -> {
+      final Result baselineResult = baseline.get(entry.getKey());
+      return baselineResult != null && isRegression(baselineResult, entry.getValue());
+    });
+  }
+
+  /**
+   * Create a Markdown report, which lists each benchmark result, the baseline result and the relative change.
+   *
+   * @return the report
+   */
+  public String toMarkdown() {
+    final var report = new StringBuilder();
+    report.append("| Benchmark | Baseline | Current | Unit | Change | |\n");
+    report.append("|---|---:|---:|---|---:|---|\n");
+    for (final Map.Entry<String, Result> entry : current.entrySet()) {
+      final Result currentResult = entry.getValue();
+      final Result baselineResult = baseline.get(entry.getKey());
+      report.append("| ").append(entry.getKey()).append(" | ");
+      if (baselineResult == null) {
+        report.append("-");
+      } else {
+        report.append(format(baselineResult));
+      }
+      report.append(" | ").append(format(currentResult)).append(" | ").append(currentResult.scoreUnit()).append(" | ");
+      if (baselineResult == null || baselineResult.score() == 0) {
+        report.append("new | |\n");
+      } else {
+        final double change = (currentResult.score() - baselineResult.score()) / baselineResult.score();
+        report.append(String.format("%+.1f%%", change * 100)).append(" | ");
+        if (isRegression(baselineResult, currentResult)) {
+          report.append("REGRESSION");
+        } else if (isRegression(currentResult, baselineResult)) {
+          report.append("improvement");
+        }
+        report.append(" |\n");
+      }
+    }
+    for (final String removed : baseline.keySet()) {
+      if (!current.containsKey(removed)) {
+        report.append("| ").append(removed).append(" | ").append(format(baseline.get(removed))).append(" | - | ")
+              .append(baseline.get(removed).scoreUnit()).append(" | removed | |\n");
+      }
+    }
+    return report.toString();
+  }
+
+  private boolean isRegression(final Result baselineResult, final Result currentResult) {
+    final double difference = baselineResult.isHigherBetter()
+        ? baselineResult.score() - currentResult.score()
+        : currentResult.score() - baselineResult.score();
+    return difference > baselineResult.score() * threshold
+        && difference > baselineResult.scoreError() + currentResult.scoreError();
+  }
+
+  private static String format(final Result result) {
+    return String.format("%.3f ± %.3f", result.score(), result.scoreError());
+  }
+
+  private static Map<String, Result> read(final Path results) throws IOException {
+    final Map<String, Result> benchmarks = new LinkedHashMap<>();
+    try (final Reader reader = Files.newBufferedReader(results)) {
+      for (final JsonElement element : JsonParser.parseReader(reader).getAsJsonArray()) {
+        final JsonObject benchmark = element.getAsJsonObject();
+        final JsonObject primaryMetric = benchmark.getAsJsonObject("primaryMetric");
+        final JsonElement scoreError = primaryMetric.get("scoreError");
+        benchmarks.put(key(benchmark),
+                       new Result(benchmark.get("mode").getAsString(),
+                                  primaryMetric.get("score").getAsDouble(),
+                                  scoreError.isJsonPrimitive() && scoreError.getAsJsonPrimitive().isNumber()
+                                      ? scoreError.getAsDouble()
+                                      : 0,
+                                  primaryMetric.get("scoreUnit").getAsString()));
+      }
+    }
+    return benchmarks;
+  }
+
+  private static String key(final JsonObject benchmark) {
+    final String name = benchmark.get("benchmark").getAsString();
+    final var key = new StringBuilder(name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1));
+    final JsonObject params = benchmark.getAsJsonObject("params");
+    if (params != null) {
+      // Sort the parameters, such that the key doesn't depend on their order.
+      final Map<String, String> sortedParams = new TreeMap<>();
+      params.entrySet().forEach(param -> sortedParams.put(param.getKey(), param.getValue().getAsString()));
+      key.append(sortedParams);
+    }
+    return key.toString();
+  }
+}
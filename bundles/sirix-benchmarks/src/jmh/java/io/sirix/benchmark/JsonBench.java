@@ -0,0 +1,246 @@
+package io.sirix.benchmark;
+
+import org.brackit.xquery.atomic.Str;
+import org.brackit.xquery.xdm.Type;
+import org.openjdk.jmh.annotations.*;
+import org.sirix.access.trx.node.HashType;
+import org.sirix.access.trx.node.json.JsonIndexController;
+import org.sirix.api.Database;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.index.IndexDef;
+import org.sirix.index.IndexDefs;
+import org.sirix.index.SearchMode;
+import org.sirix.index.path.json.JsonPCRCollector;
+import org.sirix.io.StorageType;
+import org.sirix.node.NodeKind;
+import org.sirix.service.json.BasicJsonDiff;
+import org.sirix.service.json.serialize.JsonSerializer;
+import org.sirix.service.json.shredder.JsonShredder;
+import org.sirix.settings.VersioningType;
+
+import java.io.Writer;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.brackit.xquery.util.path.Path.parse;
+
+/**
+ * Benchmarks of the read path of JSON resources: serialization, point lookups, scans, index lookups, diffs and
+ * point-in-time opens. The resource is created once per trial from a generated {@link JsonBenchDataset} and updated in
+ * a fixed number of revisions afterwards.
+ *
+ * @author Johannes Lichtenberger
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xms2G", "-Xmx2G", "--enable-preview", "--add-modules=jdk.incubator.foreign" })
+public class JsonBench {
+
+  /**
+   * Number of revisions, which are committed after the initial import.
+   */
+  static final int NUMBER_OF_UPDATES = 10;
+
+  /**
+   * Number of precomputed random lookup keys (a power of two).
+   */
+  private static final int NUMBER_OF_KEYS = 1 << 12;
+
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Benchmark
+  public void serialize(final ResourceState state) {
+    JsonSerializer.newBuilder(state.manager, Writer.nullWriter()).build().call();
+  }
+
+  @Benchmark
+  public NodeKind moveTo(final ReaderState reader) {
+    reader.rtx.moveTo(reader.nextKey());
+    return reader.rtx.getKind();
+  }
+
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Benchmark
+  public long descendantAxisScan(final ReaderState reader) {
+    reader.rtx.moveToDocumentRoot();
+    long count = 0;
+    for (final var axis = new DescendantAxis(reader.rtx); axis.hasNext(); axis.next()) {
+      count++;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public long casIndexLookup(final ResourceState state, final ReaderState reader) {
+    final JsonIndexController indexController = state.manager.getRtxIndexController(reader.rtx.getRevisionNumber());
+    final var filter = indexController.createCASFilter(Set.of(JsonBenchDataset.CATEGORY_PATH),
+                                                       new Str(JsonBenchDataset.category(reader.random)),
+                                                       SearchMode.EQUAL,
+                                                       new JsonPCRCollector(reader.rtx));
+    return count(indexController.openCASIndex(reader.rtx.getPageTrx(), state.casIndex, filter));
+  }
+
+  @Benchmark
+  public long pathIndexLookup(final ResourceState state, final ReaderState reader) {
+    final JsonIndexController indexController = state.manager.getRtxIndexController(reader.rtx.getRevisionNumber());
+    return count(indexController.openPathIndex(reader.rtx.getPageTrx(), state.pathIndex, null));
+  }
+
+  @Benchmark
+  public long nameIndexLookup(final ResourceState state, final ReaderState reader) {
+    final JsonIndexController indexController = state.manager.getRtxIndexController(reader.rtx.getRevisionNumber());
+    final var filter = indexController.createNameFilter(Set.of(JsonBenchDataset.NAMES));
+    return count(indexController.openNameIndex(reader.rtx.getPageTrx(), state.nameIndex, filter));
+  }
+
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Benchmark
+  public String diff(final ResourceState state) {
+    final int newRevision = state.manager.getMostRecentRevisionNumber();
+    return new BasicJsonDiff().generateDiff(state.manager, newRevision - 1, newRevision);
+  }
+
+  @Benchmark
+  public int pointInTimeOpen(final ResourceState state, final ReaderState reader) {
+    final Instant pointInTime = state.revisionTimestamps[reader.random.nextInt(state.revisionTimestamps.length)];
+    try (final var rtx = state.manager.beginNodeReadOnlyTrx(pointInTime)) {
+      return rtx.getRevisionNumber();
+    }
+  }
+
+  private static long count(final Iterator<?> iterator) {
+    long count = 0;
+    while (iterator.hasNext()) {
+      iterator.next();
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * The resource, which is shared by all threads of a trial.
+   */
+  @State(Scope.Benchmark)
+  public static class ResourceState {
+
+    @Param({ "IN_MEMORY", "FILE", "DIRECT", "MEMORY_MAPPED" })
+    StorageType storageType;
+
+    @Param({ "FULL", "INCREMENTAL", "DIFFERENTIAL", "SLIDING_SNAPSHOT" })
+    VersioningType versioningType;
+
+    @Param({ "ROLLING", "POSTORDER", "NONE" })
+    HashType hashType;
+
+    @Param({ "10000" })
+    int numberOfRecords;
+
+    Database<JsonResourceManager> database;
+
+    JsonResourceManager manager;
+
+    IndexDef casIndex;
+
+    IndexDef pathIndex;
+
+    IndexDef nameIndex;
+
+    /**
+     * The commit timestamps of all revisions (except the bootstrapped revision 0).
+     */
+    Instant[] revisionTimestamps;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      database = JsonBenchSupport.createDatabase("read");
+      database.createResource(JsonBenchSupport.createResourceConfig(JsonBenchSupport.RESOURCE,
+                                                                    storageType,
+                                                                    versioningType,
+                                                                    hashType));
+      manager = database.openResourceManager(JsonBenchSupport.RESOURCE);
+
+      casIndex = IndexDefs.createCASIdxDef(false, Type.STR, Set.of(parse(JsonBenchDataset.CATEGORY_PATH)), 0);
+      pathIndex = IndexDefs.createPathIdxDef(Set.of(parse(JsonBenchDataset.CITY_PATH)), 1);
+      nameIndex = IndexDefs.createNameIdxDef(2, IndexDefs.NameIndexType.JSON);
+
+      final var dataset = new JsonBenchDataset(numberOfRecords);
+      revisionTimestamps = new Instant[NUMBER_OF_UPDATES + 1];
+
+      try (final JsonNodeTrx wtx = manager.beginNodeTrx()) {
+        final JsonIndexController indexController = manager.getWtxIndexController(wtx.getRevisionNumber());
+        indexController.createIndexes(Set.of(casIndex, pathIndex, nameIndex), wtx);
+
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(dataset.generate()), JsonNodeTrx.Commit.No);
+        wtx.commit();
+
+        // Move to the "records" array.
+        wtx.moveToDocumentRoot();
+        wtx.moveToFirstChild();
+        wtx.moveToFirstChild();
+        wtx.moveToFirstChild();
+        final long recordsKey = wtx.getNodeKey();
+
+        for (int revision = 1; revision <= NUMBER_OF_UPDATES; revision++) {
+          wtx.moveTo(recordsKey);
+          wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(dataset.generateRecord(revision)),
+                                        JsonNodeTrx.Commit.No);
+          wtx.commit();
+        }
+      }
+
+      for (int revision = 1; revision <= revisionTimestamps.length; revision++) {
+        try (final var rtx = manager.beginNodeReadOnlyTrx(revision)) {
+          revisionTimestamps[revision - 1] = rtx.getRevisionTimestamp();
+        }
+      }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      manager.close();
+      JsonBenchSupport.removeDatabase(database);
+    }
+  }
+
+  /**
+   * A read-only transaction and a reproducible random generator per thread.
+   */
+  @State(Scope.Thread)
+  public static class ReaderState {
+
+    JsonNodeReadOnlyTrx rtx;
+
+    Random random;
+
+    long[] keys;
+
+    int index;
+
+    @Setup(Level.Trial)
+    public void setUp(final ResourceState state) {
+      rtx = state.manager.beginNodeReadOnlyTrx();
+      random = new Random(JsonBenchDataset.DEFAULT_SEED);
+      keys = new long[NUMBER_OF_KEYS];
+      final long maxNodeKey = rtx.getMaxNodeKey();
+      for (int i = 0; i < keys.length; i++) {
+        keys[i] = 1 + (long) (random.nextDouble() * maxNodeKey);
+      }
+    }
+
+    long nextKey() {
+      return keys[index++ & (NUMBER_OF_KEYS - 1)];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      rtx.close();
+    }
+  }
+}
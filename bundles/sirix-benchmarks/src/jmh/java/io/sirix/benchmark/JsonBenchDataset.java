@@ -0,0 +1,163 @@
+package io.sirix.benchmark;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.Random;
+
+/**
+ * Generates reproducible JSON datasets for the JSON benchmarks. The same seed and number of records always yield the
+ * same document, such that results of different runs (and of a baseline) are comparable.
+ *
+ * <pre>
+ * {"records":[{"id":0,"name":"...","category":"...","price":1.5,"active":true,"tags":["..."],
+ *              "address":{"street":"...","city":"..."},"description":"..."}, ...]}
+ * </pre>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class JsonBenchDataset {
+
+  /**
+   * The default seed.
+   */
+  public static final long DEFAULT_SEED = 0x5152_4958L;
+
+  /**
+   * Path to the categories, which are indexed by a CAS index.
+   */
+  public static final String CATEGORY_PATH = "/records/[]/category";
+
+  /**
+   * Path to the cities, which are indexed by a path index.
+   */
+  public static final String CITY_PATH = "/records/[]/address/city";
+
+  /**
+   * Object key names, which are looked up in the name index.
+   */
+  public static final String[] NAMES = { "tags", "description" };
+
+  /**
+   * The categories (values of {@link #CATEGORY_PATH}).
+   */
+  public static final String[] CATEGORIES = { "books", "music", "movies", "games", "garden", "tools", "toys", "food" };
+
+  private static final String[] CITIES = { "Konstanz", "Zurich", "Munich", "Vienna", "Berlin", "Hamburg", "Basel" };
+
+  private static final String[] WORDS =
+      { "versioned", "database", "revision", "node", "page", "snapshot", "index", "trie", "record", "commit", "diff",
+          "query", "storage", "temporal", "document", "cursor" };
+
+  private final long seed;
+
+  private final int numberOfRecords;
+
+  /**
+   * Constructor.
+   *
+   * @param numberOfRecords the number of records of the dataset
+   */
+  public JsonBenchDataset(final int numberOfRecords) {
+    this(numberOfRecords, DEFAULT_SEED);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param numberOfRecords the number of records of the dataset
+   * @param seed            the seed of the random generator
+   */
+  public JsonBenchDataset(final int numberOfRecords, final long seed) {
+    if (numberOfRecords <= 0) {
+      throw new IllegalArgumentException("The number of records must be > 0!");
+    }
+    this.numberOfRecords = numberOfRecords;
+    this.seed = seed;
+  }
+
+  /**
+   * Generate the JSON document.
+   *
+   * @return the JSON document
+   */
+  public String generate() {
+    final var random = new Random(seed);
+    final var stringWriter = new StringWriter(numberOfRecords * 256);
+    try (final var writer = new JsonWriter(stringWriter)) {
+      writer.beginObject();
+      writer.name("records");
+      writer.beginArray();
+      for (int i = 0; i < numberOfRecords; i++) {
+        writeRecord(writer, random, i);
+      }
+      writer.endArray();
+      writer.endObject();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return stringWriter.toString();
+  }
+
+  /**
+   * Generate a single record, which is used to update the dataset to create new revisions.
+   *
+   * @param revision the revision, the record is generated for
+   * @return the record
+   */
+  public String generateRecord(final int revision) {
+    final var random = new Random(seed + revision);
+    final var stringWriter = new StringWriter(256);
+    try (final var writer = new JsonWriter(stringWriter)) {
+      writeRecord(writer, random, numberOfRecords + revision);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return stringWriter.toString();
+  }
+
+  /**
+   * Get a random category based on the random generator.
+   *
+   * @param random the random generator
+   * @return the category
+   */
+  public static String category(final Random random) {
+    return CATEGORIES[random.nextInt(CATEGORIES.length)];
+  }
+
+  private static void writeRecord(final JsonWriter writer, final Random random, final int id) throws IOException {
+    writer.beginObject();
+    writer.name("id").value(id);
+    writer.name("name").value("name-" + Integer.toHexString(random.nextInt()));
+    writer.name("category").value(category(random));
+    writer.name("price").value(random.nextInt(100_000) / 100.0);
+    writer.name("active").value(random.nextBoolean());
+    writer.name("tags");
+    writer.beginArray();
+    for (int i = 0, tags = 1 + random.nextInt(4); i < tags; i++) {
+      writer.value(WORDS[random.nextInt(WORDS.length)]);
+    }
+    writer.endArray();
+    writer.name("address");
+    writer.beginObject();
+    writer.name("street").value(random.nextInt(200) + " " + WORDS[random.nextInt(WORDS.length)] + " street");
+    writer.name("city").value(CITIES[random.nextInt(CITIES.length)]);
+    writer.endObject();
+    if (random.nextBoolean()) {
+      writer.name("description").nullValue();
+    } else {
+      final var description = new StringBuilder();
+      for (int i = 0, words = 5 + random.nextInt(40); i < words; i++) {
+        if (i > 0) {
+          description.append(' ');
+        }
+        description.append(WORDS[random.nextInt(WORDS.length)]);
+      }
+      writer.name("description").value(description.toString());
+    }
+    writer.endObject();
+  }
+}
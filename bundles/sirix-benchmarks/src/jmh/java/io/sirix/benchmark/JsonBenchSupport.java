@@ -0,0 +1,81 @@
+package io.sirix.benchmark;
+
+import org.sirix.access.DatabaseConfiguration;
+import org.sirix.access.Databases;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.access.trx.node.HashType;
+import org.sirix.api.Database;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.io.StorageType;
+import org.sirix.settings.VersioningType;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Setup shared by the JSON benchmarks.
+ *
+ * @author Johannes Lichtenberger
+ */
+final class JsonBenchSupport {
+
+  /**
+   * Base path of the benchmark databases.
+   */
+  static final Path DB_PATH = Paths.get(System.getProperty("user.home"), "sirix-data", "json-bench-db");
+
+  /**
+   * Name of the resource.
+   */
+  static final String RESOURCE = "resource";
+
+  private JsonBenchSupport() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Create a new, empty JSON database. An existing database with the same name is removed beforehand.
+   *
+   * @param name the name of the database
+   * @return the database
+   */
+  static Database<JsonResourceManager> createDatabase(final String name) {
+    final Path dbPath = DB_PATH.resolveSibling(DB_PATH.getFileName() + "." + name);
+    if (Databases.existsDatabase(dbPath)) {
+      Databases.removeDatabase(dbPath);
+    }
+    Databases.createJsonDatabase(new DatabaseConfiguration(dbPath));
+    return Databases.openJsonDatabase(dbPath);
+  }
+
+  /**
+   * Close and remove a database.
+   *
+   * @param database the database
+   */
+  static void removeDatabase(final Database<JsonResourceManager> database) {
+    final Path dbPath = database.getDatabaseConfig().getDatabaseFile();
+    database.close();
+    Databases.removeDatabase(dbPath);
+  }
+
+  /**
+   * Create the resource configuration for a benchmark run.
+   *
+   * @param resource    the name of the resource
+   * @param storageType the storage type
+   * @param versioning  the versioning approach
+   * @param hashType    the kind of hashes to store
+   * @return the resource configuration
+   */
+  static ResourceConfiguration createResourceConfig(final String resource, final StorageType storageType,
+      final VersioningType versioning, final HashType hashType) {
+    return ResourceConfiguration.newBuilder(resource)
+                                .storageType(storageType)
+                                .versioningApproach(versioning)
+                                .hashKind(hashType)
+                                .useTextCompression(false)
+                                .buildPathSummary(true)
+                                .build();
+  }
+}
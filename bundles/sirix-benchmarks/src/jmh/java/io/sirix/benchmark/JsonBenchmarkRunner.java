@@ -0,0 +1,68 @@
+package io.sirix.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Runs the JSON benchmarks and compares the results with a baseline.
+ *
+ * <p>
+ * Usage: {@code JsonBenchmarkRunner [baseline-results.json]}. The results are written to
+ * {@code build/jmh/json-results.json}, such that they can be used as the baseline of a subsequent run. If a baseline
+ * is given, a Markdown report is written to {@code build/jmh/json-report.md} and the runner exits with status 1, if
+ * a benchmark regressed by more than the threshold (system property {@code sirix.benchmark.threshold}, default 0.1).
+ * Parameters can be restricted through the system properties {@code sirix.benchmark.storageTypes},
+ * {@code sirix.benchmark.versioningTypes} and {@code sirix.benchmark.hashTypes} (comma separated).
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public class JsonBenchmarkRunner {
+
+  private static final Path OUTPUT = Paths.get("build", "jmh");
+
+  public static void main(String[] args) throws RunnerException, IOException {
+    Files.createDirectories(OUTPUT);
+    final Path results = OUTPUT.resolve("json-results.json");
+
+    final var opt = new OptionsBuilder().include(JsonBench.class.getSimpleName())
+                                        .include(JsonImportBench.class.getSimpleName())
+                                        .resultFormat(ResultFormatType.JSON)
+                                        .result(results.toString());
+    param(opt, "storageType", "sirix.benchmark.storageTypes");
+    param(opt, "versioningType", "sirix.benchmark.versioningTypes");
+    param(opt, "hashType", "sirix.benchmark.hashTypes");
+    param(opt, "numberOfRecords", "sirix.benchmark.numberOfRecords");
+
+    new Runner(opt.build()).run();
+
+    if (args.length > 0) {
+      final var report = new BenchmarkReport(Paths.get(args[0]),
+                                             results,
+                                             Double.parseDouble(System.getProperty("sirix.benchmark.threshold",
+                                                                                   String.valueOf(BenchmarkReport.DEFAULT_THRESHOLD))));
+      final String markdown = report.toMarkdown();
+      Files.writeString(OUTPUT.resolve("json-report.md"), markdown);
+      System.out.println(markdown);
+
+      if (report.hasRegressions()) {
+        System.exit(1);
+      }
+    }
+  }
+
+  private static void param(final ChainedOptionsBuilder opt, final String name, final String property) {
+    final String values = System.getProperty(property);
+    if (values != null && !values.isBlank()) {
+      opt.param(name, values.split(","));
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package io.sirix.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.sirix.access.trx.node.HashType;
+import org.sirix.api.Database;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.io.StorageType;
+import org.sirix.service.json.shredder.JsonShredder;
+import org.sirix.service.xml.shredder.InsertPosition;
+import org.sirix.settings.VersioningType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Import throughput of the {@link JsonShredder}. Each invocation imports a generated {@link JsonBenchDataset} into a
+ * new, empty resource and commits.
+ *
+ * @author Johannes Lichtenberger
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xms2G", "-Xmx2G", "--enable-preview", "--add-modules=jdk.incubator.foreign" })
+public class JsonImportBench {
+
+  @Benchmark
+  public void shred(final ImportState state) {
+    try (final var manager = state.database.openResourceManager(JsonBenchSupport.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      new JsonShredder.Builder(wtx,
+                               JsonShredder.createStringReader(state.json),
+                               InsertPosition.AS_FIRST_CHILD).commitAfterwards().build().call();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ImportState {
+
+    @Param({ "IN_MEMORY", "FILE", "DIRECT", "MEMORY_MAPPED" })
+    StorageType storageType;
+
+    @Param({ "FULL", "INCREMENTAL", "DIFFERENTIAL", "SLIDING_SNAPSHOT" })
+    VersioningType versioningType;
+
+    @Param({ "ROLLING", "POSTORDER", "NONE" })
+    HashType hashType;
+
+    @Param({ "10000" })
+    int numberOfRecords;
+
+    String json;
+
+    Database<JsonResourceManager> database;
+
+    @Setup(Level.Trial)
+    public void generateDataset() {
+      json = new JsonBenchDataset(numberOfRecords).generate();
+    }
+
+    @Setup(Level.Invocation)
+    public void createResource() {
+      database = JsonBenchSupport.createDatabase("import." + Thread.currentThread().getId());
+      database.createResource(JsonBenchSupport.createResourceConfig(JsonBenchSupport.RESOURCE,
+                                                                    storageType,
+                                                                    versioningType,
+                                                                    hashType));
+    }
+
+    @TearDown(Level.Invocation)
+    public void removeResource() {
+      JsonBenchSupport.removeDatabase(database);
+    }
+  }
+}
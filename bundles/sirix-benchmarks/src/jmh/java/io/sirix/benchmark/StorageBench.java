@@ -10,6 +10,12 @@ import org.sirix.io.Reader;
 import org.sirix.io.Storage;
 import org.sirix.io.StorageType;
 import org.sirix.io.Writer;
+import org.sirix.io.bytepipe.ByteHandlePipeline;
+import org.sirix.io.bytepipe.ByteHandler;
+import org.sirix.io.bytepipe.DeflateCompressor;
+import org.sirix.io.bytepipe.LZ4Compressor;
+import org.sirix.io.bytepipe.SnappyCompressor;
+import org.sirix.io.bytepipe.ZstdCompressor;
 import org.sirix.page.PageReference;
 import org.sirix.service.xml.shredder.XmlShredder;
 
@@ -75,6 +81,19 @@ public class StorageBench {
     @Param({"IN_MEMORY", "FILE"})
     StorageType storageType;
 
+    @Param({"SNAPPY", "DEFLATE", "LZ4", "ZSTD"})
+    String compressor;
+
+    private ByteHandler createCompressor() {
+      return switch (compressor) {
+        case "SNAPPY" -> new SnappyCompressor();
+        case "DEFLATE" -> new DeflateCompressor();
+        case "LZ4" -> new LZ4Compressor();
+        case "ZSTD" -> new ZstdCompressor(true);
+        default -> throw new IllegalStateException("Unknown compressor: " + compressor);
+      };
+    }
+
     @Setup(Level.Iteration)
     public void doTrialSetup() {
       dbPath = DB_PATH.resolveSibling(DB_PATH.getFileName() + "." + Thread.currentThread().getId());
@@ -87,6 +106,7 @@ public class StorageBench {
       db = Databases.openXmlDatabase(dbPath);
       conf = ResourceConfiguration.newBuilder("resource")
           .useTextCompression(false)
+          .byteHandlerPipeline(new ByteHandlePipeline(createCompressor()))
           .build();
 
       db.createResource(conf);
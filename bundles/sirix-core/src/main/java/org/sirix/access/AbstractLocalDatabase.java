@@ -11,8 +11,8 @@ import org.sirix.access.trx.TransactionManagerImpl;
 import org.sirix.api.*;
 import org.sirix.cache.BufferManager;
 import org.sirix.cache.BufferManagerImpl;
+import org.sirix.cache.BufferPool;
 import org.sirix.exception.SirixIOException;
-import org.sirix.io.StorageType;
 import org.sirix.io.bytepipe.Encryptor;
 import org.sirix.utils.SirixFiles;
 
@@ -55,6 +55,11 @@ public abstract class AbstractLocalDatabase<T extends ResourceManager<? extends
    */
   protected final ConcurrentMap<Path, BufferManager> bufferManagers;
 
+  /**
+   * Memory budgeted buffer pool shared by the buffer managers of all resources.
+   */
+  protected final BufferPool bufferPool;
+
   /**
    * Central repository of all resource-ID/resource-name tuples.
    */
@@ -74,15 +79,12 @@ public abstract class AbstractLocalDatabase<T extends ResourceManager<? extends
     this.dbConfig = checkNotNull(dbConfig);
     resourceIDsToResourceNames = Maps.synchronizedBiMap(HashBiMap.create());
     bufferManagers = new ConcurrentHashMap<>();
+    bufferPool = new BufferPool(dbConfig.getMaxBufferMemoryInBytes());
     transactionManager = new TransactionManagerImpl();
   }
 
   protected void addResourceToBufferManagerMapping(Path resourceFile, ResourceConfiguration resourceConfig) {
-    if (resourceConfig.getStorageType() == StorageType.MEMORY_MAPPED) {
-      bufferManagers.put(resourceFile, new BufferManagerImpl(100, 50, 150, 50_000_000));
-    } else {
-      bufferManagers.put(resourceFile, new BufferManagerImpl(5_000, 1_000, 1_000, 50_000_000));
-    }
+    bufferManagers.put(resourceFile, new BufferManagerImpl(bufferPool, resourceConfig.getID()));
   }
 
   @Override
@@ -194,7 +196,10 @@ public abstract class AbstractLocalDatabase<T extends ResourceManager<? extends
 
       DatabasesInternals.removeWriteLock(resourceFile);
 
-      bufferManagers.remove(resourceFile);
+      final BufferManager bufferManager = bufferManagers.remove(resourceFile);
+      if (bufferManager != null) {
+        bufferManager.clearAllCaches();
+      }
     }
 
     return this;
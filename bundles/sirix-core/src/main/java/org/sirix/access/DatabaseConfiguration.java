@@ -153,6 +153,11 @@ public final class DatabaseConfiguration {
    */
   private DatabaseType databaseType;
 
+  /**
+   * Memory budget in bytes of the buffer pool shared by all resources of the database, or {@code 0}, if it is not set.
+   */
+  private long maxBufferMemoryInBytes;
+
   /**
    * Constructor with the path to be set.
    *
@@ -204,6 +209,28 @@ public final class DatabaseConfiguration {
     return maxResourceID;
   }
 
+  /**
+   * Set the memory budget in bytes of the buffer pool, which is shared by all resources of the database.
+   *
+   * @param maxBufferMemoryInBytes the memory budget in bytes
+   * @return this {@link DatabaseConfiguration} instance
+   */
+  public DatabaseConfiguration setMaxBufferMemoryInBytes(final long maxBufferMemoryInBytes) {
+    checkArgument(maxBufferMemoryInBytes > 0, "The memory budget must be > 0!");
+    this.maxBufferMemoryInBytes = maxBufferMemoryInBytes;
+    return this;
+  }
+
+  /**
+   * Get the memory budget in bytes of the buffer pool, which is shared by all resources of the database. If it is not
+   * set, it is a quarter of the max heap size of the JVM the database is opened in.
+   *
+   * @return the memory budget in bytes
+   */
+  public long getMaxBufferMemoryInBytes() {
+    return maxBufferMemoryInBytes > 0 ? maxBufferMemoryInBytes : Runtime.getRuntime().maxMemory() / 4;
+  }
+
   /**
    * Getting the database file.
    *
@@ -264,6 +291,10 @@ public final class DatabaseConfiguration {
       jsonWriter.name("file").value(filePath);
       jsonWriter.name("ID").value(config.maxResourceID);
       jsonWriter.name("databaseType").value(config.databaseType.toString());
+      // Only an explicitly set memory budget is stored, otherwise it depends on the heap size at open time.
+      if (config.maxBufferMemoryInBytes > 0) {
+        jsonWriter.name("maxBufferMemoryInBytes").value(config.maxBufferMemoryInBytes);
+      }
       jsonWriter.endObject();
     } catch (final IOException e) {
       throw new SirixIOException(e);
@@ -291,10 +322,17 @@ public final class DatabaseConfiguration {
       final String databaseType = jsonReader.nextName();
       assert databaseType.equals("databaseType");
       final String type = jsonReader.nextString();
-      jsonReader.endObject();
       final DatabaseType dbType = DatabaseType.fromString(type)
                                               .orElseThrow(() -> new IllegalStateException("Type can not be unknown."));
-      return new DatabaseConfiguration(dbFile).setMaximumResourceID(ID).setDatabaseType(dbType);
+      final var config = new DatabaseConfiguration(dbFile).setMaximumResourceID(ID).setDatabaseType(dbType);
+      // Databases created before the buffer pool was introduced or without a set budget don't store a memory budget.
+      if (jsonReader.hasNext()) {
+        final String maxBufferMemoryName = jsonReader.nextName();
+        assert maxBufferMemoryName.equals("maxBufferMemoryInBytes");
+        config.setMaxBufferMemoryInBytes(jsonReader.nextLong());
+      }
+      jsonReader.endObject();
+      return config;
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
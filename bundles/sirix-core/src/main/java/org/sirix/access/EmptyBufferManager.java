@@ -1,14 +1,15 @@
 package org.sirix.access;
 
-import org.sirix.cache.RBIndexKey;
+import org.sirix.cache.BufferManager;
+import org.sirix.cache.BufferPool;
 import org.sirix.cache.Cache;
+import org.sirix.cache.CacheStatistics;
 import org.sirix.cache.EmptyCache;
-import org.sirix.index.redblacktree.RBNode;
 import org.sirix.page.PageReference;
 import org.sirix.page.RevisionRootPage;
 import org.sirix.page.interfaces.Page;
 
-public final class EmptyBufferManager implements org.sirix.cache.BufferManager {
+public final class EmptyBufferManager implements BufferManager {
 
   private static final EmptyCache<PageReference, Page> RECORD_PAGE_CACHE = new EmptyCache<>();
 
@@ -16,8 +17,6 @@ public final class EmptyBufferManager implements org.sirix.cache.BufferManager {
 
   private static final EmptyCache<Integer, RevisionRootPage> REVISION_ROOT_PAGE_CACHE = new EmptyCache<>();
 
-  private static final EmptyCache<RBIndexKey, RBNode<?, ?>> AVL_NODE_CACHE = new EmptyCache<>();
-
   EmptyBufferManager() {
   }
 
@@ -37,8 +36,17 @@ public final class EmptyBufferManager implements org.sirix.cache.BufferManager {
   }
 
   @Override
-  public Cache<RBIndexKey, RBNode<?, ?>> getIndexCache() {
-    return AVL_NODE_CACHE;
+  public CacheStatistics getStatistics(BufferPool.Kind kind) {
+    return new CacheStatistics(0, 0, 0);
+  }
+
+  @Override
+  public void clearAllCaches() {
+  }
+
+  @Override
+  public BufferManager newGeneration() {
+    return this;
   }
 
   @Override
@@ -77,6 +77,7 @@ public final class LocalJsonDatabase extends AbstractLocalDatabase<JsonResourceM
     isClosed = true;
     resourceStore.close();
     transactionManager.close();
+    bufferPool.clear();
 
     // Remove from database mapping.
     Databases.removeDatabase(dbConfig.getDatabaseFile(), this);
@@ -72,6 +72,7 @@ public final class LocalXmlDatabase extends AbstractLocalDatabase<XmlResourceMan
     isClosed = true;
     resourceStore.close();
     transactionManager.close();
+    bufferPool.clear();
 
     // Remove from database mapping.
     Databases.removeDatabase(dbConfig.getDatabaseFile(), this);
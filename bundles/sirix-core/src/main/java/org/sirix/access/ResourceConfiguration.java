@@ -36,6 +36,7 @@ import org.sirix.node.NodeSerializerImpl;
 import org.sirix.node.interfaces.RecordSerializer;
 import org.sirix.settings.VersioningType;
 import org.sirix.utils.OS;
+import org.sirix.utils.ValueCompressor;
 
 import javax.annotation.Nonnegative;
 import java.io.FileReader;
@@ -207,6 +208,13 @@ public final class ResourceConfiguration {
    */
   public final int numberOfRevisionsToRestore;
 
+  /**
+   * Read cost of a record page (the number of fragments read in addition to the most recent one since the last complete
+   * version), above which the next modification of the page writes a complete version of the page. {@code 0} disables
+   * adaptive complete versions.
+   */
+  public final int adaptiveMilestoneThreshold;
+
   /**
    * Byte handler pipeline.
    */
@@ -227,6 +235,16 @@ public final class ResourceConfiguration {
    */
   public final boolean useTextCompression;
 
+  /**
+   * The codec to compress values with, if text-compression is used.
+   */
+  public final ValueCompressor valueCompressor;
+
+  /**
+   * Values with at most this number of bytes aren't compressed.
+   */
+  public final int valueCompressionThreshold;
+
   /**
    * Determines if a path summary should be build and kept up to date or not.
    */
@@ -291,7 +309,10 @@ public final class ResourceConfiguration {
     revisioningType = builder.revisionKind;
     hashType = builder.hashKind;
     numberOfRevisionsToRestore = builder.revisionsToRestore;
+    adaptiveMilestoneThreshold = builder.adaptiveMilestoneThreshold;
     useTextCompression = builder.useTextCompression;
+    valueCompressor = builder.valueCompressor;
+    valueCompressionThreshold = builder.valueCompressionThreshold;
     withPathSummary = builder.pathSummary;
     areDeweyIDsStored = builder.useDeweyIDs;
     recordPersister = builder.persistenter;
@@ -409,13 +430,22 @@ public final class ResourceConfiguration {
     return storeChildCount;
   }
 
+  /**
+   * Get the codec to compress values with.
+   *
+   * @return the codec or {@link ValueCompressor#NONE}, if text-compression isn't used
+   */
+  public ValueCompressor getValueCompressor() {
+    return useTextCompression ? valueCompressor : ValueCompressor.NONE;
+  }
+
   /**
    * JSON names.
    */
   private static final String[] JSONNAMES =
       { "revisioning", "revisioningClass", "numbersOfRevisiontoRestore", "byteHandlerClasses", "storageKind",
           "hashKind", "hashFunction", "compression", "pathSummary", "resourceID", "deweyIDsStored", "persistenter",
-          "storeDiffs" };
+          "storeDiffs", "valueCompressor", "valueCompressionThreshold", "adaptiveMilestoneThreshold" };
 
   /**
    * Serialize the configuration.
@@ -459,6 +489,11 @@ public final class ResourceConfiguration {
       jsonWriter.name(JSONNAMES[11]).value(config.recordPersister.getClass().getName());
       // Diffs.
       jsonWriter.name(JSONNAMES[12]).value(config.storeDiffs);
+      // Value compression.
+      jsonWriter.name(JSONNAMES[13]).value(config.valueCompressor.name());
+      jsonWriter.name(JSONNAMES[14]).value(config.valueCompressionThreshold);
+      // Adaptive complete versions of record pages.
+      jsonWriter.name(JSONNAMES[15]).value(config.adaptiveMilestoneThreshold);
       jsonWriter.endObject();
     } catch (final IOException e) {
       throw new SirixIOException(e);
@@ -549,6 +584,24 @@ public final class ResourceConfiguration {
       name = jsonReader.nextName();
       assert name.equals(JSONNAMES[12]);
       final boolean storeDiffs = jsonReader.nextBoolean();
+      // Value compression (not stored by resources created before the codec has been configurable).
+      ValueCompressor valueCompressor = ValueCompressor.DEFLATE;
+      int valueCompressionThreshold = ValueCompressor.DEFAULT_THRESHOLD;
+      if (jsonReader.hasNext()) {
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[13]);
+        valueCompressor = ValueCompressor.valueOf(jsonReader.nextString());
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[14]);
+        valueCompressionThreshold = jsonReader.nextInt();
+      }
+      // Adaptive complete versions of record pages (not stored by resources created before they have been supported).
+      int adaptiveMilestoneThreshold = 0;
+      if (jsonReader.hasNext()) {
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[15]);
+        adaptiveMilestoneThreshold = jsonReader.nextInt();
+      }
 
       jsonReader.endObject();
       jsonReader.close();
@@ -563,9 +616,12 @@ public final class ResourceConfiguration {
              .hashKind(hashing)
              .versioningApproach(revisioning)
              .revisionsToRestore(revisionToRestore)
+             .adaptiveMilestoneThreshold(adaptiveMilestoneThreshold)
              .storageType(storage)
              .persistenter(serializer)
              .useTextCompression(compression)
+             .valueCompressor(valueCompressor)
+             .valueCompressionThreshold(valueCompressionThreshold)
              .buildPathSummary(pathSummary)
              .useDeweyIDs(deweyIDsStored)
              .storeDiffs(storeDiffs);
@@ -614,6 +670,11 @@ public final class ResourceConfiguration {
      */
     private int revisionsToRestore = VERSIONS_TO_RESTORE;
 
+    /**
+     * Read cost of a record page, above which a complete version of the page is written.
+     */
+    private int adaptiveMilestoneThreshold;
+
     /**
      * Record/Node persistenter.
      */
@@ -629,6 +690,16 @@ public final class ResourceConfiguration {
      */
     private boolean useTextCompression;
 
+    /**
+     * The codec to compress values with.
+     */
+    private ValueCompressor valueCompressor = ValueCompressor.DEFLATE;
+
+    /**
+     * Values with at most this number of bytes aren't compressed.
+     */
+    private int valueCompressionThreshold = ValueCompressor.DEFAULT_THRESHOLD;
+
     /**
      * Byte handler pipeline.
      */
@@ -743,6 +814,21 @@ public final class ResourceConfiguration {
       return this;
     }
 
+    /**
+     * Set the read cost of a record page, that is the number of fragments read in addition to the most recent one
+     * since the last complete version of the page, above which the next modification of the page writes a complete
+     * version. Frequently read pages thus stay cheap to reconstruct, whereas rarely read pages are stored as
+     * determined by the versioning approach.
+     *
+     * @param adaptiveMilestoneThreshold the read cost threshold (default: {@code 0}, that is disabled)
+     * @return reference to the builder object
+     */
+    public Builder adaptiveMilestoneThreshold(final @Nonnegative int adaptiveMilestoneThreshold) {
+      checkArgument(adaptiveMilestoneThreshold >= 0, "adaptiveMilestoneThreshold must be >= 0!");
+      this.adaptiveMilestoneThreshold = adaptiveMilestoneThreshold;
+      return this;
+    }
+
     /**
      * Determines if DeweyIDs should be stored or not.
      *
@@ -765,6 +851,29 @@ public final class ResourceConfiguration {
       return this;
     }
 
+    /**
+     * Set the codec to compress values with, if text-compression is used.
+     *
+     * @param valueCompressor the codec (default: {@link ValueCompressor#DEFLATE})
+     * @return reference to the builder object
+     */
+    public Builder valueCompressor(final ValueCompressor valueCompressor) {
+      this.valueCompressor = checkNotNull(valueCompressor);
+      return this;
+    }
+
+    /**
+     * Set the size threshold, up to which values aren't compressed.
+     *
+     * @param valueCompressionThreshold values with at most this number of bytes aren't compressed
+     * @return reference to the builder object
+     */
+    public Builder valueCompressionThreshold(final @Nonnegative int valueCompressionThreshold) {
+      checkArgument(valueCompressionThreshold >= 0, "valueCompressionThreshold must be >= 0!");
+      this.valueCompressionThreshold = valueCompressionThreshold;
+      return this;
+    }
+
     /**
      * Determines if a path summary should be build.
      *
@@ -789,6 +898,9 @@ public final class ResourceConfiguration {
                         .add("HashFunction", hashFunction)
                         .add("PathSummary", pathSummary)
                         .add("TextCompression", useTextCompression)
+                        .add("ValueCompressor", valueCompressor)
+                        .add("ValueCompressionThreshold", valueCompressionThreshold)
+                        .add("AdaptiveMilestoneThreshold", adaptiveMilestoneThreshold)
                         .add("Store diffs", storeDiffs)
                         .toString();
     }
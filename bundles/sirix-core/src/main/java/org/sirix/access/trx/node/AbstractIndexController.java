@@ -10,7 +10,7 @@ import org.sirix.access.trx.node.xml.XmlIndexController.ChangeType;
 import org.sirix.api.*;
 import org.sirix.exception.SirixRuntimeException;
 import org.sirix.index.*;
-import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.index.keyvalue.NodeReferences;
 import org.sirix.index.cas.CASFilter;
 import org.sirix.index.cas.CASFilterRange;
 import org.sirix.index.cas.CASIndex;
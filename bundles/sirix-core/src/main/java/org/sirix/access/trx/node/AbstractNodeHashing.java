@@ -4,6 +4,7 @@ import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.PageTrx;
 import org.sirix.exception.SirixIOException;
 import org.sirix.index.IndexType;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.interfaces.Node;
 import org.sirix.node.interfaces.StructNode;
@@ -19,7 +20,7 @@ public abstract class AbstractNodeHashing {
   /**
    * Prime for computing the hash.
    */
-  private static final BigInteger PRIME = BigInteger.valueOf(77081);
+  private static final long PRIME = 77081;
 
   /**
    * The hash type.
@@ -43,6 +44,19 @@ public abstract class AbstractNodeHashing {
 
   private boolean autoCommit;
 
+  /**
+   * Reused accumulators, such that no objects have to be created while adapting the hashes of the ancestors.
+   */
+  private final Hash128 hashToAdd = new Hash128();
+
+  private final Hash128 hashToRemove = new Hash128();
+
+  private final Hash128 possibleOldHash = new Hash128();
+
+  private final Hash128 newHash = new Hash128();
+
+  private final Hash128 nodeHash = new Hash128();
+
   /**
    * Constructor.
    *
@@ -145,19 +159,19 @@ public abstract class AbstractNodeHashing {
   private void postorderAdd() {
     // start with hash to add
     final ImmutableNode startNode = getCurrentNode();
-    // long for adapting the hash of the parent
-    BigInteger hashCodeForParent = BigInteger.ZERO;
+    // hash for adapting the hash of the parent
+    final Hash128 hashCodeForParent = newHash.clear();
     // adapting the parent if the current node is no structural one.
     if (!(startNode instanceof StructNode)) {
       final Node node = pageTrx.prepareRecordForModification(getCurrentNode().getNodeKey(), IndexType.DOCUMENT, -1);
-      node.setHash(getCurrentNode().computeHash());
+      node.setHash(nodeHash.set(getCurrentNode().computeHash()));
       nodeReadOnlyTrx.moveTo(getCurrentNode().getParentKey());
     }
     // Cursor to root
     StructNode cursorToRoot;
     do {
       cursorToRoot = pageTrx.prepareRecordForModification(getCurrentNode().getNodeKey(), IndexType.DOCUMENT, -1);
-      hashCodeForParent = getCurrentNode().computeHash().add(hashCodeForParent.multiply(PRIME));
+      hashCodeForParent.multiply(PRIME).add(nodeHash.set(getCurrentNode().computeHash()));
       // Caring about attributes and namespaces if node is an element.
       if (cursorToRoot.getKind() == NodeKind.ELEMENT) {
         final ElementNode currentElement = (ElementNode) cursorToRoot;
@@ -165,12 +179,12 @@ public abstract class AbstractNodeHashing {
         final int attCount = ((ElementNode) cursorToRoot).getAttributeCount();
         for (int i = 0; i < attCount; i++) {
           nodeReadOnlyTrx.moveTo(currentElement.getAttributeKey(i));
-          hashCodeForParent = getCurrentNode().computeHash().add(hashCodeForParent.multiply(PRIME));
+          hashCodeForParent.multiply(PRIME).add(nodeHash.set(getCurrentNode().computeHash()));
         }
         final int nspCount = ((ElementNode) cursorToRoot).getNamespaceCount();
         for (int i = 0; i < nspCount; i++) {
           nodeReadOnlyTrx.moveTo(currentElement.getNamespaceKey(i));
-          hashCodeForParent = getCurrentNode().computeHash().add(hashCodeForParent.multiply(PRIME));
+          hashCodeForParent.multiply(PRIME).add(nodeHash.set(getCurrentNode().computeHash()));
         }
         nodeReadOnlyTrx.moveTo(cursorToRoot.getNodeKey());
       }
@@ -178,14 +192,14 @@ public abstract class AbstractNodeHashing {
       // Caring about the children of a node
       if (nodeReadOnlyTrx.moveTo(getStructuralNode().getFirstChildKey()).hasMoved()) {
         do {
-          hashCodeForParent = getCurrentNode().getHash().add(hashCodeForParent.multiply(PRIME));
+          hashCodeForParent.multiply(PRIME).add(getCurrentNode().getHash(nodeHash));
         } while (nodeReadOnlyTrx.moveTo(getStructuralNode().getRightSiblingKey()).hasMoved());
         nodeReadOnlyTrx.moveTo(getStructuralNode().getParentKey());
       }
 
       // setting hash and resetting hash
       cursorToRoot.setHash(hashCodeForParent);
-      hashCodeForParent = BigInteger.ZERO;
+      hashCodeForParent.clear();
     } while (nodeReadOnlyTrx.moveTo(cursorToRoot.getParentKey()).hasMoved());
 
     setCurrentNode(startNode);
@@ -205,18 +219,18 @@ public abstract class AbstractNodeHashing {
    */
   private void rollingUpdate(final BigInteger oldHash) {
     final ImmutableNode newNode = getCurrentNode();
-    final BigInteger hash = newNode.computeHash();
-    BigInteger resultNew;
+    final Hash128 hash = hashToAdd.set(newNode.computeHash());
+    final Hash128 hashToRemove = this.hashToRemove.set(oldHash);
+    final Hash128 resultNew = newHash;
 
     // go the path to the root
     do {
       final Node node = pageTrx.prepareRecordForModification(getCurrentNode().getNodeKey(), IndexType.DOCUMENT, -1);
+      node.getHash(resultNew);
       if (node.getNodeKey() == newNode.getNodeKey()) {
-        resultNew = Node.to128BitsAtMaximumBigInteger(node.getHash().subtract(oldHash));
-        resultNew = Node.to128BitsAtMaximumBigInteger(resultNew.add(hash));
+        resultNew.subtract(hashToRemove).add(hash);
       } else {
-        resultNew = Node.to128BitsAtMaximumBigInteger(node.getHash().subtract(oldHash.multiply(PRIME)));
-        resultNew = Node.to128BitsAtMaximumBigInteger(resultNew.add(hash.multiply(PRIME)));
+        resultNew.subtractProduct(hashToRemove, PRIME).addProduct(hash, PRIME);
       }
       node.setHash(resultNew);
     } while (nodeReadOnlyTrx.moveTo(getCurrentNode().getParentKey()).hasMoved());
@@ -229,29 +243,28 @@ public abstract class AbstractNodeHashing {
    */
   private void rollingRemove() {
     final ImmutableNode startNode = getCurrentNode();
-    BigInteger hashToRemove = startNode.getHash();
-    BigInteger hashToAdd = BigInteger.ZERO;
-    BigInteger newHash;
+    final Hash128 hashToRemove = startNode.getHash(this.hashToRemove);
+    final Hash128 hashToAdd = this.hashToAdd.clear();
+    final Hash128 newHash = this.newHash;
     // go the path to the root
     do {
       final Node node = pageTrx.prepareRecordForModification(getCurrentNode().getNodeKey(), IndexType.DOCUMENT, -1);
       if (node.getNodeKey() == startNode.getNodeKey()) {
         // the begin node is always null
-        newHash = BigInteger.ZERO;
+        newHash.clear();
       } else if (node.getNodeKey() == startNode.getParentKey()) {
         // the parent node is just removed
-        newHash = Node.to128BitsAtMaximumBigInteger(node.getHash().subtract(hashToRemove.multiply(PRIME)));
-        hashToRemove = Node.to128BitsAtMaximumBigInteger(node.getHash());
+        node.getHash(newHash).subtractProduct(hashToRemove, PRIME);
+        node.getHash(hashToRemove);
         setRemoveDescendants(startNode);
       } else {
         // the ancestors are all touched regarding the modification
-        newHash = Node.to128BitsAtMaximumBigInteger(node.getHash().subtract(hashToRemove.multiply(PRIME)));
-        newHash = Node.to128BitsAtMaximumBigInteger(newHash.add(hashToAdd.multiply(PRIME)));
-        hashToRemove = node.getHash();
+        node.getHash(newHash).subtractProduct(hashToRemove, PRIME).addProduct(hashToAdd, PRIME);
+        node.getHash(hashToRemove);
         setRemoveDescendants(startNode);
       }
       node.setHash(newHash);
-      hashToAdd = newHash;
+      hashToAdd.set(newHash);
     } while (nodeReadOnlyTrx.moveTo(getCurrentNode().getParentKey()).hasMoved());
 
     setCurrentNode(startNode);
@@ -280,11 +293,12 @@ public abstract class AbstractNodeHashing {
     final ImmutableNode startNode = getCurrentNode();
     final long oldDescendantCount = getStructuralNode().getDescendantCount();
     final long descendantCount = oldDescendantCount == 0 ? 1 : oldDescendantCount + 1;
-    BigInteger hashToAdd = startNode.getHash() == null || BigInteger.ZERO.equals(startNode.getHash())
-        ? startNode.computeHash()
-        : startNode.getHash();
-    BigInteger newHash;
-    BigInteger possibleOldHash = BigInteger.ZERO;
+    final Hash128 hashToAdd = startNode.getHash(this.hashToAdd);
+    if (hashToAdd.isZero()) {
+      hashToAdd.set(startNode.computeHash());
+    }
+    final Hash128 newHash = this.newHash;
+    final Hash128 possibleOldHash = this.possibleOldHash.clear();
 
     if (startNode.getKind() == NodeKind.STRING_VALUE || startNode.getKind() == NodeKind.OBJECT_STRING_VALUE
         || startNode.getKind() == NodeKind.BOOLEAN_VALUE || startNode.getKind() == NodeKind.OBJECT_BOOLEAN_VALUE
@@ -298,20 +312,20 @@ public abstract class AbstractNodeHashing {
       final Node node = pageTrx.prepareRecordForModification(getCurrentNode().getNodeKey(), IndexType.DOCUMENT, -1);
       if (node.getNodeKey() == startNode.getNodeKey()) {
         // first, take the hashcode of the node only
-        newHash = hashToAdd;
+        newHash.set(hashToAdd);
       } else if (node.getNodeKey() == startNode.getParentKey()) {
         // at the parent level, just add the node
-        possibleOldHash = node.getHash();
-        newHash = Node.to128BitsAtMaximumBigInteger(possibleOldHash.add(hashToAdd.multiply(PRIME)));
-        hashToAdd = newHash;
+        node.getHash(possibleOldHash);
+        newHash.set(possibleOldHash).addProduct(hashToAdd, PRIME);
+        hashToAdd.set(newHash);
         setAddDescendants(startNode, node, descendantCount);
       } else {
         // at the rest, remove the existing old key for this element
         // and add the new one
-        newHash = Node.to128BitsAtMaximumBigInteger(node.getHash().subtract(possibleOldHash.multiply(PRIME)));
-        newHash = Node.to128BitsAtMaximumBigInteger(newHash.add(hashToAdd.multiply(PRIME)));
-        hashToAdd = newHash;
-        possibleOldHash = node.getHash();
+        final Hash128 oldHash = node.getHash(nodeHash);
+        newHash.set(oldHash).subtractProduct(possibleOldHash, PRIME).addProduct(hashToAdd, PRIME);
+        hashToAdd.set(newHash);
+        possibleOldHash.set(oldHash);
         setAddDescendants(startNode, node, descendantCount);
       }
       node.setHash(newHash);
@@ -327,9 +341,9 @@ public abstract class AbstractNodeHashing {
   public void addParentHash(final ImmutableNode startNode) {
     switch (hashType) {
       case ROLLING:
-        final BigInteger hashToAdd = startNode.computeHash();
+        final Hash128 hashToAdd = this.hashToAdd.set(startNode.computeHash());
         final Node node = pageTrx.prepareRecordForModification(getCurrentNode().getNodeKey(), IndexType.DOCUMENT, -1);
-        node.setHash(node.getHash().add(hashToAdd.multiply(PRIME)));
+        node.setHash(node.getHash(newHash).addProduct(hashToAdd, PRIME));
         if (startNode instanceof StructNode) {
           ((StructNode) node).setDescendantCount(
               ((StructNode) node).getDescendantCount() + ((StructNode) startNode).getDescendantCount() + 1);
@@ -354,9 +368,12 @@ public abstract class AbstractNodeHashing {
         final long descendantCount = oldDescendantCount == 0 ? 1 : oldDescendantCount + 1;
 
         // Set start node.
-        final BigInteger hashToAdd = startNode.getHash() == null || BigInteger.ZERO.equals(startNode.getHash())
-            ? startNode.computeHash()
-            : startNode.getHash().add(startNode.computeHash());
+        final Hash128 hashToAdd = startNode.getHash(this.hashToAdd);
+        if (hashToAdd.isZero()) {
+          hashToAdd.set(startNode.computeHash());
+        } else {
+          hashToAdd.add(nodeHash.set(startNode.computeHash()));
+        }
         Node node = pageTrx.prepareRecordForModification(getCurrentNode().getNodeKey(), IndexType.DOCUMENT, -1);
         node.setHash(hashToAdd);
 
@@ -364,9 +381,11 @@ public abstract class AbstractNodeHashing {
         if (startNode.hasParent()) {
           nodeReadOnlyTrx.moveTo(startNode.getParentKey());
           node = pageTrx.prepareRecordForModification(getCurrentNode().getNodeKey(), IndexType.DOCUMENT, -1);
-          final BigInteger hash =
-              node.getHash() == null || BigInteger.ZERO.equals(node.getHash()) ? node.computeHash() : node.getHash();
-          node.setHash(hash.add(hashToAdd.multiply(PRIME)));
+          final Hash128 hash = node.getHash(newHash);
+          if (hash.isZero()) {
+            hash.set(node.computeHash());
+          }
+          node.setHash(hash.addProduct(hashToAdd, PRIME));
 
           setAddDescendants(startNode, node, descendantCount);
         }
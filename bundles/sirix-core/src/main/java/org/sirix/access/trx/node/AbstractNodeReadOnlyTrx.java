@@ -6,9 +6,14 @@ import org.sirix.api.Move;
 import org.sirix.api.NodeCursor;
 import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.api.PageTrx;
+import org.sirix.index.IndexType;
+import org.sirix.node.FlyweightNode;
 import org.sirix.node.NodeKind;
+import org.sirix.node.NodeSerializerImpl;
 import org.sirix.node.NullNode;
 import org.sirix.node.SirixDeweyID;
+import org.sirix.node.interfaces.DataRecord;
 import org.sirix.node.interfaces.NameNode;
 import org.sirix.node.interfaces.StructNode;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
@@ -25,6 +30,7 @@ import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 
 /**
  * A skeletal implementation of a read-only node transaction.
@@ -41,6 +47,9 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor> implements N
   /** The current node. */
   protected ImmutableNode currentNode;
 
+  /** The node, which is reused for all nodes read in flyweight mode, or {@code null} if the mode is disabled. */
+  protected FlyweightNode flyweightNode;
+
   /**
    * Constructor.
    * @param trxId the transaction ID
@@ -125,10 +134,85 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor> implements N
     return pageReadOnlyTrx.getName(key, currentNode.getKind());
   }
 
+  @Override
+  public boolean isFlyweightModeSupported() {
+    assertNotClosed();
+    return !(pageReadOnlyTrx instanceof PageTrx)
+        && pageReadOnlyTrx.getResourceManager().getResourceConfig().recordPersister instanceof NodeSerializerImpl;
+  }
+
+  @Override
+  public void setFlyweightMode(final boolean enabled) {
+    assertNotClosed();
+    if (!enabled) {
+      materializeCurrentNode();
+      flyweightNode = null;
+    } else if (flyweightNode == null) {
+      checkState(!(pageReadOnlyTrx instanceof PageTrx), "Flyweight nodes are only supported by read-only transactions.");
+      final var resourceConfig = pageReadOnlyTrx.getResourceManager().getResourceConfig();
+      checkState(resourceConfig.recordPersister instanceof NodeSerializerImpl,
+                 "Flyweight nodes are not supported by the record serializer of the resource.");
+      flyweightNode = new FlyweightNode(resourceConfig);
+    }
+  }
+
+  @Override
+  public boolean isFlyweightMode() {
+    assertNotClosed();
+    return flyweightNode != null;
+  }
+
+  /**
+   * Read a node as a flyweight node, if the flyweight mode is enabled and the serialized record is available.
+   *
+   * @param nodeKey the node key of the node
+   * @return {@code true}, if the flyweight node has been bound to the node, {@code false} if the node has to be read
+   * as a record
+   */
+  protected final boolean readFlyweightNode(final long nodeKey) {
+    if (flyweightNode == null) {
+      return false;
+    }
+    final byte[] data = pageReadOnlyTrx.getSerializedRecord(nodeKey, IndexType.DOCUMENT, -1);
+    return data != null && flyweightNode.set(nodeKey, data);
+  }
+
+  /**
+   * Replace the flyweight node by the record it has been read from, if the transaction currently is located on a
+   * flyweight node. Needed whenever the node itself is handed out, or a field is requested, which is not read by the
+   * flyweight node.
+   */
+  protected final void materializeCurrentNode() {
+    final ImmutableNode node = currentNode;
+    if (node != null && node == flyweightNode) {
+      final Optional<DataRecord> record = pageReadOnlyTrx.getRecord(node.getNodeKey(), IndexType.DOCUMENT, -1);
+      currentNode = (ImmutableNode) record.orElseThrow(() -> new IllegalStateException(
+          "Node " + node.getNodeKey() + " not found."));
+    }
+  }
+
+  /**
+   * Move back to a node, which has been the current node before. A flyweight node is bound to the node it has been
+   * read from last, thus the node is read again in this case.
+   *
+   * @param node    the node, which has been the current node before
+   * @param nodeKey the node key of the node
+   */
+  protected final void resetCurrentNode(final ImmutableNode node, final long nodeKey) {
+    if (node == flyweightNode) {
+      moveTo(nodeKey);
+    } else {
+      currentNode = node;
+    }
+  }
+
   @Override
   public long getPathNodeKey() {
     assertNotClosed();
     final ImmutableNode node = currentNode;
+    if (node == flyweightNode) {
+      return flyweightNode.getPathNodeKey();
+    }
     if (node instanceof NameNode) {
       return ((NameNode) node).getPathNodeKey();
     }
@@ -203,6 +287,7 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor> implements N
   @Override
   public BigInteger getHash() {
     assertNotClosed();
+    materializeCurrentNode();
     return currentNode.getHash();
   }
 
@@ -440,6 +525,7 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor> implements N
 
   @Override
   public SirixDeweyID getDeweyID() {
+    materializeCurrentNode();
     return currentNode.getDeweyID();
   }
 }
@@ -1,5 +1,6 @@
 package org.sirix.access.trx.node;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.brackit.xquery.xdm.DocumentException;
 import org.sirix.access.DatabaseConfiguration;
 import org.sirix.access.ResourceConfiguration;
@@ -8,22 +9,24 @@ import org.sirix.access.User;
 import org.sirix.access.trx.node.xml.XmlResourceManagerImpl;
 import org.sirix.access.trx.page.NodePageReadOnlyTrx;
 import org.sirix.access.trx.page.PageTrxFactory;
+import org.sirix.access.trx.page.RecordPageStatistics;
+import org.sirix.access.trx.page.ResourceCompactor;
 import org.sirix.access.trx.page.RevisionRootPageReader;
 import org.sirix.api.*;
 import org.sirix.api.json.JsonNodeTrx;
 import org.sirix.api.xml.XmlNodeTrx;
-import org.sirix.cache.RBIndexKey;
 import org.sirix.cache.BufferManager;
-import org.sirix.cache.Cache;
 import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixThreadedException;
 import org.sirix.exception.SirixUsageException;
 import org.sirix.index.IndexType;
-import org.sirix.index.redblacktree.RBNode;
+import org.sirix.index.path.summary.PathSummaryData;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.io.IOStorage;
+import org.sirix.io.Reader;
 import org.sirix.io.Writer;
+import org.sirix.node.ChangedNodeReferenceNode;
 import org.sirix.node.interfaces.Node;
 import org.sirix.page.PageKind;
 import org.sirix.page.UberPage;
@@ -39,14 +42,23 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -59,6 +71,11 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
    */
   final ExecutorService threadPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
 
+  /**
+   * Runs the asynchronous commits. A single thread suffices, as only one write transaction exists at a time.
+   */
+  final ExecutorService commitExecutor = Executors.newSingleThreadExecutor();
+
   /**
    * The database.
    */
@@ -120,9 +137,32 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
   volatile boolean isClosed;
 
   /**
-   * The cache of in-memory pages shared amongst all manager / resource transactions.
+   * The cache of in-memory pages shared amongst all manager / resource transactions. A new generation is used after
+   * each compaction, as the keys of the pages change.
+   */
+  volatile BufferManager bufferManager;
+
+  /**
+   * The buffer managers used before compactions, which are still used by the transactions started before. Guarded by
+   * {@link #bufferManagerReaders}.
+   */
+  private final Set<BufferManager> retiredBufferManagers;
+
+  /**
+   * The number of open page read-only transactions per generation of the buffer manager. A retired generation is
+   * cleared, once its last reader has been closed.
+   */
+  private final Map<BufferManager, Integer> bufferManagerReaders;
+
+  /**
+   * Determines if the resource has been compacted since the resource manager has been opened.
+   */
+  private volatile boolean isCompacted;
+
+  /**
+   * Guards the replacement of the data files after a compaction.
    */
-  final BufferManager bufferManager;
+  private final ReadWriteLock storageLock;
 
   /**
    * The resource store with which this manager has been created.
@@ -134,6 +174,26 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
    */
   final User user;
 
+  /**
+   * The maximum number of revisions, for which the path summary is kept.
+   */
+  private static final int MAX_NUMBER_OF_PATH_SUMMARIES = 16;
+
+  /**
+   * The path summaries of the most recently used revisions, shared amongst all path summary readers of a revision.
+   */
+  private final com.github.benmanes.caffeine.cache.Cache<Integer, PathSummaryData> pathSummaries;
+
+  /**
+   * The keys of the path nodes, which have been changed by the commit of a revision, for the most recent revisions.
+   */
+  private final com.github.benmanes.caffeine.cache.Cache<Integer, Set<Long>> changedPathNodeKeys;
+
+  /**
+   * Statistics about the reconstruction and the writes of the record pages of the resource.
+   */
+  private final RecordPageStatistics recordPageStatistics;
+
   /**
    * Package private constructor.
    *
@@ -167,6 +227,13 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
     lastCommittedUberPage = new AtomicReference<>(uberPage);
     this.user = user;
 
+    pathSummaries = Caffeine.newBuilder().maximumSize(MAX_NUMBER_OF_PATH_SUMMARIES).build();
+    changedPathNodeKeys = Caffeine.newBuilder().maximumSize(MAX_NUMBER_OF_PATH_SUMMARIES).build();
+    recordPageStatistics = new RecordPageStatistics();
+    retiredBufferManagers = new HashSet<>();
+    bufferManagerReaders = new HashMap<>();
+    storageLock = new ReentrantReadWriteLock();
+
     isClosed = false;
   }
 
@@ -188,11 +255,6 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
     }
   }
 
-  @Override
-  public Cache<RBIndexKey, RBNode<?, ?>> getIndexCache() {
-    return bufferManager.getIndexCache();
-  }
-
   /**
    * Create a new {@link PageTrx}.
    *
@@ -244,22 +306,99 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
 
     final var revisionInfos = new ArrayList<Future<RevisionInfo>>();
 
-    for (int revision = fromRevision; revision > 0 && revision >= toRevision; revision--) {
-      revisionInfos.add(threadPool.submit(new RevisionInfoRunnable(this, revision)));
+    try (final Reader reader = createReader()) {
+      for (int revision = fromRevision; revision > 0 && revision >= toRevision; revision--) {
+        if (reader.isRevisionStored(revision)) {
+          revisionInfos.add(threadPool.submit(new RevisionInfoRunnable(this, revision)));
+        }
+      }
     }
 
     return getResult(revisionInfos);
   }
 
+  @Override
+  public Stream<ChangedNode> getChangedNodes(int fromRevision, int toRevision) {
+    assertAccess(fromRevision);
+    assertAccess(toRevision);
+
+    checkArgument(fromRevision <= toRevision);
+
+    if (!areChangedNodesIndexed(fromRevision, toRevision)) {
+      throw new SirixUsageException("The changes of the revisions " + fromRevision + " to " + toRevision
+                                        + " aren't stored in the changed nodes index.");
+    }
+
+    return IntStream.rangeClosed(fromRevision, toRevision).boxed().flatMap(this::getChangedNodes);
+  }
+
+  @Override
+  public boolean areChangedNodesIndexed(int fromRevision, int toRevision) {
+    assertAccess(fromRevision);
+    assertAccess(toRevision);
+
+    checkArgument(fromRevision <= toRevision);
+
+    // The bootstrapped revision 0 doesn't contain changes. The changes of pruned revisions are reported for the next
+    // stored revision, which is only flagged as indexed, if the changes of the pruned revisions are indexed, too.
+    try (final Reader reader = createReader()) {
+      for (int revision = Math.max(fromRevision, 1); revision <= toRevision; revision++) {
+        if (reader.isRevisionStored(revision) && !reader.readRevisionRootPage(revision, null)
+                                                         .areChangedNodesIndexed()) {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  private Stream<ChangedNode> getChangedNodes(int revision) {
+    // The changes of revisions, which have been pruned by a compaction, are reported for the next stored revision.
+    int previousRevision = revision - 1;
+    try (final Reader reader = createReader()) {
+      if (!reader.isRevisionStored(revision)) {
+        return Stream.empty();
+      }
+      while (previousRevision >= 0 && !reader.isRevisionStored(previousRevision)) {
+        previousRevision--;
+      }
+    }
+
+    final PageReadOnlyTrx pageReadOnlyTrx = beginPageReadOnlyTrx(revision);
+
+    // The changed nodes index of each revision continues the one of the previous revision, key 0 is reserved.
+    final long firstNodeKey = previousRevision < 0
+        ? 1
+        : pageReadOnlyTrx.loadRevRoot(previousRevision).getMaxNodeKeyInChangedNodesIndex() + 1;
+    final long lastNodeKey = pageReadOnlyTrx.getActualRevisionRootPage().getMaxNodeKeyInChangedNodesIndex();
+
+    return LongStream.rangeClosed(firstNodeKey, lastNodeKey)
+                     .mapToObj(nodeKey -> {
+                       final Optional<ChangedNodeReferenceNode> changedNode =
+                           pageReadOnlyTrx.getRecord(nodeKey, IndexType.CHANGED_NODES, 0);
+                       return changedNode;
+                     })
+                     .flatMap(Optional::stream)
+                     .map(changedNode -> new ChangedNode(revision,
+                                                         changedNode.getChangedNodeKey(),
+                                                         changedNode.getDiffType()))
+                     .onClose(pageReadOnlyTrx::close);
+  }
+
   private List<RevisionInfo> getHistoryInformations(int revisions) {
     checkArgument(revisions > 0);
 
     final int lastCommittedRevision = lastCommittedUberPage.get().getRevisionNumber();
     final var revisionInfos = new ArrayList<Future<RevisionInfo>>();
 
-    for (int revision = lastCommittedRevision; revision > 0 && revision > lastCommittedRevision - revisions;
-        revision--) {
-      revisionInfos.add(threadPool.submit(new RevisionInfoRunnable(this, revision)));
+    try (final Reader reader = createReader()) {
+      for (int revision = lastCommittedRevision; revision > 0 && revision > lastCommittedRevision - revisions;
+          revision--) {
+        if (reader.isRevisionStored(revision)) {
+          revisionInfos.add(threadPool.submit(new RevisionInfoRunnable(this, revision)));
+        }
+      }
     }
 
     return getResult(revisionInfos);
@@ -291,6 +430,20 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
     return commitLock;
   }
 
+  @Override
+  public ExecutorService getThreadPool() {
+    assertNotClosed();
+
+    return threadPool;
+  }
+
+  @Override
+  public ExecutorService getCommitExecutor() {
+    assertNotClosed();
+
+    return commitExecutor;
+  }
+
   @Override
   public R beginNodeReadOnlyTrx() {
     return beginNodeReadOnlyTrx(lastCommittedUberPage.get().getRevisionNumber());
@@ -425,8 +578,11 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
   @Override
   public synchronized void close() {
     if (!isClosed) {
+      // The commit executor first, as commits serialize their pages on the thread pool.
+      commitExecutor.shutdown();
       threadPool.shutdown();
       try {
+        commitExecutor.awaitTermination(5, TimeUnit.SECONDS);
         threadPool.awaitTermination(5, TimeUnit.SECONDS);
       } catch (InterruptedException e) {
         throw new IllegalStateException(e);
@@ -454,8 +610,21 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
       nodeTrxMap.clear();
       pageTrxMap.clear();
       nodePageTrxMap.clear();
+      pathSummaries.invalidateAll();
+      changedPathNodeKeys.invalidateAll();
       resourceStore.closeResourceManager(resourceConfig.getResource());
 
+      // The buffer manager handed out by the database for the resource caches pages of the replaced data files and
+      // the pages of the generations used after a compaction are never accessed again.
+      if (isCompacted) {
+        synchronized (bufferManagerReaders) {
+          retiredBufferManagers.forEach(BufferManager::clearAllCaches);
+          retiredBufferManagers.clear();
+          bufferManagerReaders.clear();
+        }
+        bufferManager.clearAllCaches();
+      }
+
       storage.close();
 
       isClosed = true;
@@ -608,6 +777,13 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
     return isClosed;
   }
 
+  @Override
+  public UberPage getLastCommittedUberPage() {
+    assertNotClosed();
+
+    return lastCommittedUberPage.get();
+  }
+
   /**
    * Set last commited {@link UberPage}.
    *
@@ -635,11 +811,53 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
   }
 
   @Override
-  public synchronized PathSummaryReader openPathSummary(final @Nonnegative int revision) {
+  public PathSummaryReader openPathSummary(final @Nonnegative int revision) {
     assertAccess(revision);
 
     final PageReadOnlyTrx pageReadTrx = beginPageReadOnlyTrx(revision);
-    return PathSummaryReader.getInstance(pageReadTrx, this);
+    try {
+      final PathSummaryData pathSummaryData =
+          pathSummaries.get(revision, unused -> createPathSummaryData(pageReadTrx));
+      return PathSummaryReader.getInstance(pageReadTrx, this, pathSummaryData);
+    } catch (final RuntimeException e) {
+      pageReadTrx.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Create the path summary of a revision, derived from the path summary of the previous revision if it is still
+   * cached and the changes of the revision are known, otherwise by traversing the whole path summary.
+   *
+   * @param pageReadTrx the page reader, which is bound to the revision
+   * @return the path summary of the revision
+   */
+  private PathSummaryData createPathSummaryData(final PageReadOnlyTrx pageReadTrx) {
+    final int revision = pageReadTrx.getRevisionNumber();
+    final PathSummaryData previousPathSummaryData = revision == 0 ? null : pathSummaries.getIfPresent(revision - 1);
+    final Set<Long> pathNodeKeys = changedPathNodeKeys.getIfPresent(revision);
+
+    if (previousPathSummaryData != null && pathNodeKeys != null) {
+      return previousPathSummaryData.update(pageReadTrx, pathNodeKeys);
+    }
+
+    return PathSummaryData.create(pageReadTrx, this);
+  }
+
+  @Override
+  public void setChangedPathNodeKeys(final @Nonnegative int revision, final Set<Long> pathNodeKeys) {
+    changedPathNodeKeys.put(revision, Set.copyOf(pathNodeKeys));
+  }
+
+  @Override
+  public void invalidatePathSummary(final @Nonnegative int revision) {
+    changedPathNodeKeys.invalidate(revision);
+    pathSummaries.invalidate(revision);
+  }
+
+  @Override
+  public RecordPageStatistics getRecordPageStatistics() {
+    return recordPageStatistics;
   }
 
   @Override
@@ -656,14 +874,34 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
   public PageReadOnlyTrx beginPageReadOnlyTrx(final @Nonnegative int revision) {
     assertAccess(revision);
 
+    // The reader, the uber page and the buffer manager have to belong to the same data files.
+    final Reader reader;
+    final UberPage uberPage;
+    final BufferManager currentBufferManager;
+    storageLock.readLock().lock();
+    try {
+      reader = storage.createReader();
+      uberPage = lastCommittedUberPage.get();
+      currentBufferManager = bufferManager;
+      acquireBufferManager(currentBufferManager);
+    } finally {
+      storageLock.readLock().unlock();
+    }
+
+    if (!reader.isRevisionStored(revision)) {
+      reader.close();
+      releaseBufferManager(currentBufferManager);
+      throw new SirixUsageException("Revision " + revision + " has been pruned by a compaction.");
+    }
+
     final long currentPageTrxID = pageTrxIDCounter.incrementAndGet();
     final NodePageReadOnlyTrx pageReadTrx = new NodePageReadOnlyTrx(currentPageTrxID,
                                                                     this,
-                                                                    lastCommittedUberPage.get(),
+                                                                    uberPage,
                                                                     revision,
-                                                                    storage.createReader(),
+                                                                    reader,
                                                                     null,
-                                                                    bufferManager,
+                                                                    currentBufferManager,
                                                                     new RevisionRootPageReader());
 
     // Remember page transaction for debugging and safe close.
@@ -735,90 +973,180 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
 
   @Override
   public R beginNodeReadOnlyTrx(final @Nonnull Instant pointInTime) {
+    return beginNodeReadOnlyTrx(getRevisionNumber(pointInTime));
+  }
+
+  /**
+   * Binary search over the commit timestamps stored in the revisions offset file.
+   *
+   * @param reader       the reader to read the commit timestamps with
+   * @param timestamp    the timestamp to search for
+   * @param lastRevision the most recent revision
+   * @return the revision, if a revision with the given timestamp exists, {@code -(insertion point) - 1} otherwise
+   */
+  private static int binarySearch(final Reader reader, final long timestamp, final int lastRevision) {
+    int low = 0;
+    int high = lastRevision;
+
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final long midVal = reader.readRevisionTimestamp(mid);
+
+      if (midVal < timestamp)
+        low = mid + 1;
+      else if (midVal > timestamp)
+        high = mid - 1;
+      else
+        return mid; // key found
+    }
+
+    return -(low + 1); // key not found
+  }
+
+  @Override
+  public int getRevisionNumber(final @Nonnull Instant pointInTime) {
     checkNotNull(pointInTime);
     assertNotClosed();
 
     final long timestamp = pointInTime.toEpochMilli();
+    final int lastRevision = getMostRecentRevisionNumber();
 
-    int revision = binarySearch(timestamp);
-
-    if (revision < 0) {
-      revision = -revision - 1;
+    try (final Reader reader = createReader()) {
+      return getNearestStoredRevision(reader, getNearestRevision(reader, timestamp, lastRevision), lastRevision);
     }
+  }
+
+  private static int getNearestRevision(final Reader reader, final long timestamp, final int lastRevision) {
+    int revision = binarySearch(reader, timestamp, lastRevision);
+
+    if (revision >= 0)
+      return revision;
+
+    revision = -revision - 1;
 
     if (revision == 0)
-      return beginNodeReadOnlyTrx(0);
-    else if (revision == getMostRecentRevisionNumber() + 1)
-      return beginNodeReadOnlyTrx();
-
-    final R rtxRevisionMinus1 = beginNodeReadOnlyTrx(revision - 1);
-    final R rtxRevision = beginNodeReadOnlyTrx(revision);
-
-    if (timeDiff(timestamp, rtxRevisionMinus1.getRevisionTimestamp().toEpochMilli()) < timeDiff(timestamp,
-                                                                                                rtxRevision.getRevisionTimestamp()
-                                                                                                           .toEpochMilli())) {
-      rtxRevision.close();
-      return rtxRevisionMinus1;
-    } else {
-      rtxRevisionMinus1.close();
-      return rtxRevision;
-    }
-  }
+      return 0;
+    else if (revision == lastRevision + 1)
+      return lastRevision;
 
-  private int binarySearch(final long timestamp) {
-    int low = 0;
-    int high = getMostRecentRevisionNumber();
+    if (timeDiff(timestamp, reader.readRevisionTimestamp(revision - 1)) < timeDiff(timestamp,
+                                                                                   reader.readRevisionTimestamp(
+                                                                                       revision))) {
+      return revision - 1;
+    }
 
-    while (low <= high) {
-      final int mid = (low + high) >>> 1;
+    return revision;
+  }
 
-      try (final PageReadOnlyTrx trx = beginPageReadOnlyTrx(mid)) {
-        final long midVal = trx.getActualRevisionRootPage().getRevisionTimestamp();
-        final int cmp = Instant.ofEpochMilli(midVal).compareTo(Instant.ofEpochMilli(timestamp));
+  /**
+   * Get the given revision, if it is stored, or the nearest stored revision before it otherwise, as revisions, which
+   * have been pruned by a compaction, can't be opened anymore. If no revision before it is stored, the nearest stored
+   * revision after it is returned.
+   *
+   * @param reader       the reader to check if a revision is stored with
+   * @param revision     the revision
+   * @param lastRevision the most recent revision, which is always stored
+   * @return the nearest stored revision
+   */
+  private static int getNearestStoredRevision(final Reader reader, final int revision, final int lastRevision) {
+    for (int storedRevision = revision; storedRevision >= 0; storedRevision--) {
+      if (reader.isRevisionStored(storedRevision)) {
+        return storedRevision;
+      }
+    }
 
-        if (cmp < 0)
-          low = mid + 1;
-        else if (cmp > 0)
-          high = mid - 1;
-        else
-          return mid; // key found
+    for (int storedRevision = revision + 1; storedRevision < lastRevision; storedRevision++) {
+      if (reader.isRevisionStored(storedRevision)) {
+        return storedRevision;
       }
     }
 
-    return -(low + 1); // key not found
+    return lastRevision;
   }
 
   @Override
-  public int getRevisionNumber(final @Nonnull Instant pointInTime) {
-    checkNotNull(pointInTime);
+  public CompletableFuture<Void> compactAsync(final @Nonnull CompactionOptions options) {
+    checkNotNull(options);
     assertNotClosed();
 
-    final long timestamp = pointInTime.toEpochMilli();
+    return CompletableFuture.runAsync(() -> compact(options), threadPool);
+  }
 
-    int revision = binarySearch(timestamp);
+  private void compact(final CompactionOptions options) {
+    // Block read-write transactions, such that no revision is committed during the compaction.
+    try {
+      if (!writeLock.tryLock(20, TimeUnit.SECONDS)) {
+        throw new SirixUsageException(
+            "The resource can't be compacted, please close the read-write transaction first.");
+      }
+    } catch (final InterruptedException e) {
+      throw new SirixThreadedException(e);
+    }
 
-    if (revision < 0) {
-      revision = -revision - 1;
+    try {
+      final IOStorage compactionStorage = storage.createCompactionStorage();
+
+      try (final Reader reader = storage.createReader(); final Writer writer = compactionStorage.createWriter()) {
+        new ResourceCompactor(this, options, reader, writer).compact();
+      } finally {
+        compactionStorage.close();
+      }
+
+      storageLock.writeLock().lock();
+      try {
+        storage.replaceWith(compactionStorage);
+
+        try (final Reader reader = storage.createReader()) {
+          lastCommittedUberPage.set((UberPage) reader.readUberPageReference().getPage());
+        }
+
+        retireBufferManager(bufferManager);
+        bufferManager = bufferManager.newGeneration();
+        isCompacted = true;
+        pathSummaries.invalidateAll();
+        changedPathNodeKeys.invalidateAll();
+      } finally {
+        storageLock.writeLock().unlock();
+      }
+    } finally {
+      writeLock.unlock();
     }
+  }
 
-    if (revision == 0)
-      return 0;
-    else if (revision == getMostRecentRevisionNumber() + 1)
-      return getMostRecentRevisionNumber();
+  private void acquireBufferManager(final BufferManager bufferManager) {
+    synchronized (bufferManagerReaders) {
+      bufferManagerReaders.merge(bufferManager, 1, Integer::sum);
+    }
+  }
 
-    try (final R rtxRevisionMinus1 = beginNodeReadOnlyTrx(revision - 1);
-         final R rtxRevision = beginNodeReadOnlyTrx(revision)) {
-      final int revisionNumber;
+  @Override
+  public void releaseBufferManager(final BufferManager bufferManager) {
+    synchronized (bufferManagerReaders) {
+      final Integer readers =
+          bufferManagerReaders.computeIfPresent(bufferManager, (unused, count) -> count == 1 ? null : count - 1);
 
-      if (timeDiff(timestamp, rtxRevisionMinus1.getRevisionTimestamp().toEpochMilli()) < timeDiff(timestamp,
-                                                                                                  rtxRevision.getRevisionTimestamp()
-                                                                                                             .toEpochMilli())) {
-        revisionNumber = rtxRevisionMinus1.getRevisionNumber();
+      if (readers == null && retiredBufferManagers.remove(bufferManager)) {
+        bufferManager.clearAllCaches();
+      }
+    }
+  }
+
+  private void retireBufferManager(final BufferManager bufferManager) {
+    synchronized (bufferManagerReaders) {
+      if (bufferManagerReaders.containsKey(bufferManager)) {
+        retiredBufferManagers.add(bufferManager);
       } else {
-        revisionNumber = rtxRevision.getRevisionNumber();
+        bufferManager.clearAllCaches();
       }
+    }
+  }
 
-      return revisionNumber;
+  private Reader createReader() {
+    storageLock.readLock().lock();
+    try {
+      return storage.createReader();
+    } finally {
+      storageLock.readLock().unlock();
     }
   }
 
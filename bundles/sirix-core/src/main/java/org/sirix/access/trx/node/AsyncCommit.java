@@ -0,0 +1,84 @@
+package org.sirix.access.trx.node;
+
+import org.sirix.api.PageTrx;
+import org.sirix.page.UberPage;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Runs the commit of a node transaction on an executor.
+ * <p>
+ * The node transaction doesn't accept modifications in a new intent log while the previous revision is flushed, as the
+ * page transaction of the next revision is created from the committed {@link UberPage}.
+ * </p>
+ * <p>
+ * The resources of the page transaction, which are confined to the thread, which has created them (for instance the
+ * memory mapped segments of the storage), are handed over to the committing thread before the commit starts and back
+ * to the calling thread once the commit has finished. The node transaction therefore must not be used until the
+ * returned future has been completed.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class AsyncCommit {
+
+  /**
+   * Private constructor to prevent instantiation.
+   */
+  private AsyncCommit() {
+    throw new AssertionError("May never be instantiated!");
+  }
+
+  /**
+   * Commit asynchronously.
+   *
+   * @param executor the executor, which runs the commit
+   * @param pageTrx  supplies the current page transaction of the node transaction (it is replaced during a commit)
+   * @param commit   commits the node transaction and supplies the {@link UberPage} of the new revision
+   * @return a future, which is completed with the {@link UberPage} of the new revision, once it has been committed
+   */
+  public static CompletableFuture<UberPage> commitAsync(final Executor executor, final Supplier<PageTrx> pageTrx,
+      final Supplier<UberPage> commit) {
+    checkNotNull(executor);
+    checkNotNull(pageTrx);
+    checkNotNull(commit);
+
+    final Thread caller = Thread.currentThread();
+    final CompletableFuture<Thread> committer = new CompletableFuture<>();
+    final CompletableFuture<Void> handedOver = new CompletableFuture<>();
+
+    final CompletableFuture<UberPage> result = CompletableFuture.supplyAsync(() -> {
+      committer.complete(Thread.currentThread());
+      handedOver.join();
+
+      final UberPage uberPage;
+      try {
+        uberPage = commit.get();
+      } catch (final RuntimeException | Error e) {
+        try {
+          pageTrx.get().transferOwnership(caller);
+        } catch (final RuntimeException suppressed) {
+          e.addSuppressed(suppressed);
+        }
+        throw e;
+      }
+
+      pageTrx.get().transferOwnership(caller);
+      return uberPage;
+    }, executor);
+
+    try {
+      pageTrx.get().transferOwnership(committer.join());
+      handedOver.complete(null);
+    } catch (final RuntimeException e) {
+      handedOver.completeExceptionally(e);
+      throw e;
+    }
+
+    return result;
+  }
+}
@@ -0,0 +1,104 @@
+package org.sirix.access.trx.node;
+
+import org.sirix.api.PageTrx;
+import org.sirix.diff.DiffFactory.DiffType;
+import org.sirix.index.IndexType;
+import org.sirix.node.ChangedNodeReferenceNode;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Collects the keys of the nodes, which are changed by a write transaction, and stores them in the changed nodes index
+ * of the revision once it is committed. Every node is stored once per revision, with the kind of its change. Nodes,
+ * which are inserted and removed in the same revision are omitted.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ChangedNodesIndex {
+
+  /**
+   * The page trx to create index-entries.
+   */
+  private PageTrx pageTrx;
+
+  /**
+   * The maximum node key of the document, before the transaction has been started.
+   */
+  private long maxNodeKeyOfPreviousRevision;
+
+  /**
+   * The changed node keys in the order of their first change.
+   */
+  private final Map<Long, DiffType> changedNodes;
+
+  /**
+   * Constructor
+   *
+   * @param pageTrx the page trx to create index-entries.
+   */
+  public ChangedNodesIndex(final PageTrx pageTrx) {
+    changedNodes = new LinkedHashMap<>();
+    setPageTrx(pageTrx);
+  }
+
+  /**
+   * Set a new page trx, after a commit or a rollback. Not yet stored changes are discarded.
+   *
+   * @param pageTrx the page trx to create index-entries.
+   */
+  public void setPageTrx(final PageTrx pageTrx) {
+    this.pageTrx = requireNonNull(pageTrx);
+    maxNodeKeyOfPreviousRevision = pageTrx.getActualRevisionRootPage().getMaxNodeKeyInDocumentIndex();
+    changedNodes.clear();
+  }
+
+  /**
+   * Add an inserted node.
+   *
+   * @param nodeKey the key of the inserted node
+   */
+  public void addInsertedNode(final long nodeKey) {
+    changedNodes.put(nodeKey, DiffType.INSERTED);
+  }
+
+  /**
+   * Add an updated node.
+   *
+   * @param nodeKey the key of the updated node
+   */
+  public void addUpdatedNode(final long nodeKey) {
+    changedNodes.putIfAbsent(nodeKey, DiffType.UPDATED);
+  }
+
+  /**
+   * Add a removed node.
+   *
+   * @param nodeKey the key of the removed node
+   */
+  public void addDeletedNode(final long nodeKey) {
+    if (nodeKey > maxNodeKeyOfPreviousRevision) {
+      changedNodes.remove(nodeKey);
+    } else {
+      changedNodes.put(nodeKey, DiffType.DELETED);
+    }
+  }
+
+  /**
+   * Store the collected node keys in the changed nodes index. Has to be called right before the page trx commits.
+   */
+  public void flush() {
+    for (final Map.Entry<Long, DiffType> changedNode : changedNodes.entrySet()) {
+      pageTrx.createRecord(0L,
+                           new ChangedNodeReferenceNode(pageTrx.getActualRevisionRootPage()
+                                                               .getMaxNodeKeyInChangedNodesIndex() + 1,
+                                                        changedNode.getKey(),
+                                                        changedNode.getValue()),
+                           IndexType.CHANGED_NODES,
+                           0);
+    }
+    changedNodes.clear();
+  }
+}
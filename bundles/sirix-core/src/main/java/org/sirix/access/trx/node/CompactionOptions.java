@@ -0,0 +1,124 @@
+package org.sirix.access.trx.node;
+
+import com.google.common.base.MoreObjects;
+
+import javax.annotation.Nonnegative;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Determines which revisions are retained by a compaction of a resource. The first and the most recent revision are
+ * always retained. By default all revisions are retained, such that a compaction only collapses the fragments of the
+ * record pages into complete pages.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class CompactionOptions {
+
+  /**
+   * The number of most recent revisions to retain ({@code 0}, if all revisions are retained).
+   */
+  private final int recentRevisionsToKeep;
+
+  /**
+   * Every revision, which is a multiple of this number, is retained ({@code 0}, if not used).
+   */
+  private final int revisionInterval;
+
+  /**
+   * Constructor.
+   *
+   * @param builder the builder
+   */
+  private CompactionOptions(final Builder builder) {
+    recentRevisionsToKeep = builder.recentRevisionsToKeep;
+    revisionInterval = builder.revisionInterval;
+  }
+
+  /**
+   * Determines if all revisions are retained.
+   *
+   * @return {@code true}, if all revisions are retained, {@code false} otherwise
+   */
+  public boolean isRetainingAllRevisions() {
+    return recentRevisionsToKeep == 0 && revisionInterval == 0;
+  }
+
+  /**
+   * Determines if a revision is retained by the compaction.
+   *
+   * @param revision           the revision
+   * @param mostRecentRevision the most recent revision of the resource
+   * @return {@code true}, if the revision is retained, {@code false}, if it is pruned
+   */
+  public boolean isRetained(final @Nonnegative int revision, final @Nonnegative int mostRecentRevision) {
+    checkArgument(revision >= 0 && revision <= mostRecentRevision,
+                  "revision must be >= 0 and <= the most recent revision!");
+    if (isRetainingAllRevisions() || revision == 0 || revision == mostRecentRevision) {
+      return true;
+    }
+    if (recentRevisionsToKeep > 0 && revision > mostRecentRevision - recentRevisionsToKeep) {
+      return true;
+    }
+    return revisionInterval > 0 && revision % revisionInterval == 0;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("recentRevisionsToKeep", recentRevisionsToKeep)
+                      .add("revisionInterval", revisionInterval)
+                      .toString();
+  }
+
+  /**
+   * Builder to create {@link CompactionOptions}.
+   */
+  public static final class Builder {
+
+    /**
+     * The number of most recent revisions to retain.
+     */
+    private int recentRevisionsToKeep;
+
+    /**
+     * Every revision, which is a multiple of this number, is retained.
+     */
+    private int revisionInterval;
+
+    /**
+     * Retain the given number of most recent revisions. Older revisions are pruned, unless they are retained due to
+     * {@link #keepEveryNthRevision(int)}.
+     *
+     * @param recentRevisionsToKeep the number of most recent revisions to retain
+     * @return this builder instance
+     */
+    public Builder keepRecentRevisions(final @Nonnegative int recentRevisionsToKeep) {
+      checkArgument(recentRevisionsToKeep > 0, "recentRevisionsToKeep must be > 0!");
+      this.recentRevisionsToKeep = recentRevisionsToKeep;
+      return this;
+    }
+
+    /**
+     * Retain every revision, which is a multiple of the given number. Other revisions are pruned, unless they are
+     * retained due to {@link #keepRecentRevisions(int)}.
+     *
+     * @param revisionInterval the interval of the retained revisions
+     * @return this builder instance
+     */
+    public Builder keepEveryNthRevision(final @Nonnegative int revisionInterval) {
+      checkArgument(revisionInterval > 0, "revisionInterval must be > 0!");
+      this.revisionInterval = revisionInterval;
+      return this;
+    }
+
+    /**
+     * Build the compaction options.
+     *
+     * @return the compaction options
+     */
+    public CompactionOptions build() {
+      return new CompactionOptions(this);
+    }
+  }
+}
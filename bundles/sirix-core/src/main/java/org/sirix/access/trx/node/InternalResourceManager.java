@@ -1,13 +1,17 @@
 package org.sirix.access.trx.node;
 
 import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.locks.Lock;
 
+import org.sirix.access.trx.page.RecordPageStatistics;
 import org.sirix.api.NodeCursor;
 import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.NodeTrx;
 import org.sirix.api.PageTrx;
 import org.sirix.api.ResourceManager;
+import org.sirix.cache.BufferManager;
 import org.sirix.node.interfaces.DataRecord;
 import org.sirix.page.UberPage;
 import org.sirix.page.UnorderedKeyValuePage;
@@ -37,8 +41,46 @@ public interface InternalResourceManager<R extends NodeReadOnlyTrx & NodeCursor,
 
   Lock getCommitLock();
 
+  ExecutorService getThreadPool();
+
+  /**
+   * Get the executor, which runs the asynchronous commits of the write transaction. It's not shared with other
+   * tasks, such that a commit doesn't wait for them.
+   *
+   * @return the commit executor
+   */
+  ExecutorService getCommitExecutor();
+
+  UberPage getLastCommittedUberPage();
+
   void setLastCommittedUberPage(UberPage lastUberPage);
 
+  /**
+   * Remember the keys of the path nodes, which have been inserted, modified or removed by the commit of a revision,
+   * such that the path summary of the revision can be derived from the path summary of the previous revision.
+   *
+   * @param revision     the committed revision
+   * @param pathNodeKeys the keys of the changed path nodes
+   */
+  void setChangedPathNodeKeys(int revision, Set<Long> pathNodeKeys);
+
+  /**
+   * Forget the changed path nodes and the path summary of a revision, such that the path summary is rebuilt by
+   * traversing the whole path summary, for instance as the revision has been reverted to a former revision and the
+   * changes aren't known relative to the previous revision.
+   *
+   * @param revision the committed revision
+   */
+  void invalidatePathSummary(int revision);
+
+  /**
+   * Get the statistics about the reconstruction and the writes of the record pages of the resource, which are used to
+   * write complete versions of frequently read pages adaptively.
+   *
+   * @return the record page statistics
+   */
+  RecordPageStatistics getRecordPageStatistics();
+
   void closeWriteTransaction(long transactionID);
 
   void setNodePageWriteTransaction(long transactionID, PageTrx pageTrx);
@@ -50,4 +92,12 @@ public interface InternalResourceManager<R extends NodeReadOnlyTrx & NodeCursor,
   void closePageReadTransaction(long trxId);
 
   void closePageWriteTransaction(long transactionID);
+
+  /**
+   * Release the buffer manager used by a page read-only transaction, which is closed. The buffer manager of a
+   * generation retired by a compaction is cleared, once it isn't used anymore.
+   *
+   * @param bufferManager the buffer manager used by the transaction
+   */
+  void releaseBufferManager(BufferManager bufferManager);
 }
@@ -39,6 +39,21 @@ public abstract class AbstractForwardingJsonNodeReadOnlyTrx extends ForwardingOb
     return delegate().storeDeweyIDs();
   }
 
+  @Override
+  public boolean isFlyweightModeSupported() {
+    return delegate().isFlyweightModeSupported();
+  }
+
+  @Override
+  public void setFlyweightMode(boolean enabled) {
+    delegate().setFlyweightMode(enabled);
+  }
+
+  @Override
+  public boolean isFlyweightMode() {
+    return delegate().isFlyweightMode();
+  }
+
   @Override
   public Optional<User> getUser() {
     return delegate().getUser();
@@ -343,4 +358,14 @@ public abstract class AbstractForwardingJsonNodeReadOnlyTrx extends ForwardingOb
   public Move<? extends JsonNodeReadOnlyTrx> moveToRightSibling() {
     return delegate().moveToRightSibling();
   }
+
+  @Override
+  public Move<? extends JsonNodeReadOnlyTrx> moveToField(QNm name) {
+    return delegate().moveToField(name);
+  }
+
+  @Override
+  public Move<? extends JsonNodeReadOnlyTrx> moveToChildAt(long index) {
+    return delegate().moveToChildAt(index);
+  }
 }
@@ -0,0 +1,154 @@
+package org.sirix.access.trx.node.json;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Maps the field names of objects to the node keys of their object key nodes, such that a field of an object with many
+ * fields is found without scanning the children. Directories are only built for objects with at least
+ * {@link #MIN_NUMBER_OF_FIELDS} fields, on the first lookup, and only the directories of the most recently used
+ * objects are kept. If the same name is used for several fields of an object, the first one in document order is
+ * mapped. The directories of read-only transactions are shared amongst all read-only transactions on the same
+ * revision, whereas a read-write transaction keeps its own directories and adapts them to its modifications. The
+ * directories are never persisted, but rebuilt after a resource manager has been opened.
+ *
+ * @author Johannes Lichtenberger
+ */
+final class FieldDirectory {
+
+  /**
+   * The minimum number of fields of an object, for which a directory is built. Smaller objects are scanned.
+   */
+  static final int MIN_NUMBER_OF_FIELDS = 16;
+
+  /**
+   * The maximum number of objects, for which directories are kept.
+   */
+  private static final int MAX_NUMBER_OF_OBJECTS = 1_024;
+
+  /**
+   * Object node key to the directory of the object, in access order.
+   */
+  private final Map<Long, Map<String, Long>> directories;
+
+  /**
+   * Determines if the directories are shared with other transactions.
+   */
+  private final boolean isShared;
+
+  /**
+   * Constructor for the directories of a read-write transaction.
+   */
+  FieldDirectory() {
+    directories = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<Long, Map<String, Long>> eldest) {
+        return size() > MAX_NUMBER_OF_OBJECTS;
+      }
+    };
+    isShared = false;
+  }
+
+  /**
+   * Constructor for the directories of a read-only transaction.
+   *
+   * @param directories the directories of the revision, shared amongst all read-only transactions on the revision
+   * @see #createSharedDirectories()
+   */
+  FieldDirectory(final ConcurrentMap<Long, Map<String, Long>> directories) {
+    this.directories = directories;
+    isShared = true;
+  }
+
+  /**
+   * Create the directories of a revision, which are shared amongst all read-only transactions on the revision.
+   *
+   * @return the shared directories
+   */
+  static ConcurrentMap<Long, Map<String, Long>> createSharedDirectories() {
+    return Caffeine.newBuilder().maximumSize(MAX_NUMBER_OF_OBJECTS).<Long, Map<String, Long>>build().asMap();
+  }
+
+  /**
+   * Get the directory of an object.
+   *
+   * @param objectNodeKey the node key of the object
+   * @return the directory or {@code null}, if it hasn't been built yet
+   */
+  Map<String, Long> get(final long objectNodeKey) {
+    return directories.get(objectNodeKey);
+  }
+
+  /**
+   * Create an empty directory for an object, which has to be filled with its fields in document order and is added
+   * afterwards.
+   *
+   * @param numberOfFields the number of fields of the object
+   * @return the directory
+   * @see #put(long, Map)
+   */
+  static Map<String, Long> createDirectory(final long numberOfFields) {
+    return new HashMap<>((int) Math.min(numberOfFields * 4 / 3 + 1, 1 << 30));
+  }
+
+  /**
+   * Add the completely filled directory of an object. Other transactions might read it from now on.
+   *
+   * @param objectNodeKey the node key of the object
+   * @param directory     the directory
+   */
+  void put(final long objectNodeKey, final Map<String, Long> directory) {
+    directories.put(objectNodeKey, directory);
+  }
+
+  /**
+   * Adapt the directory of an object, if it exists, to an inserted field.
+   *
+   * @param objectNodeKey the node key of the object
+   * @param name          the name of the field
+   * @param fieldNodeKey  the node key of the object key node
+   */
+  void fieldInserted(final long objectNodeKey, final String name, final long fieldNodeKey) {
+    final Map<String, Long> directory = directories.get(objectNodeKey);
+
+    if (directory == null) {
+      return;
+    }
+
+    // The inserted field might precede the mapped one with the same name.
+    if (directory.containsKey(name)) {
+      directories.remove(objectNodeKey);
+    } else {
+      directory.put(name, fieldNodeKey);
+    }
+  }
+
+  /**
+   * Adapt the directory of an object, if it exists, to a removed field.
+   *
+   * @param objectNodeKey the node key of the object
+   * @param name          the name of the field
+   * @param fieldNodeKey  the node key of the object key node
+   */
+  void fieldRemoved(final long objectNodeKey, final String name, final long fieldNodeKey) {
+    final Map<String, Long> directory = directories.get(objectNodeKey);
+
+    // Another field with the same name might follow the removed one.
+    if (directory != null && Long.valueOf(fieldNodeKey).equals(directory.get(name))) {
+      directories.remove(objectNodeKey);
+    }
+  }
+
+  /**
+   * Remove all directories of the transaction. Shared directories are kept for the other transactions.
+   */
+  void clear() {
+    if (!isShared) {
+      directories.clear();
+    }
+  }
+}
@@ -15,4 +15,8 @@ public interface InternalJsonNodeReadOnlyTrx extends InternalNodeReadOnlyTrx {
   void assertNotClosed();
 
   void setPageReadTransaction(PageReadOnlyTrx trx);
+
+  FieldDirectory getFieldDirectory();
+
+  PositionalIndex getPositionalIndex();
 }
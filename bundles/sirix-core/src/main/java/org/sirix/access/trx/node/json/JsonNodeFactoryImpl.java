@@ -2,6 +2,7 @@ package org.sirix.access.trx.node.json;
 
 import com.google.common.hash.HashFunction;
 import org.brackit.xquery.atomic.QNm;
+import org.sirix.access.ResourceConfiguration;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexType;
 import org.sirix.index.path.summary.PathNode;
@@ -15,12 +16,11 @@ import org.sirix.node.delegates.ValueNodeDelegate;
 import org.sirix.node.json.*;
 import org.sirix.page.PathSummaryPage;
 import org.sirix.settings.Fixed;
-import org.sirix.utils.Compression;
 import org.sirix.utils.NamePageHash;
+import org.sirix.utils.ValueCompressor;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
-import java.util.zip.Deflater;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -172,9 +172,7 @@ final class JsonNodeFactoryImpl implements JsonNodeFactory {
                                                   null,
                                                   revision,
                                                   id);
-    final boolean compression = doCompress && value.length > 10;
-    final byte[] compressedValue = compression ? Compression.compress(value, Deflater.HUFFMAN_ONLY) : value;
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression);
+    final ValueNodeDelegate valDel = createValueNodeDelegate(nodeDel, value, doCompress);
     final StructNodeDelegate structDel = new StructNodeDelegate(nodeDel,
                                                                 Fixed.NULL_NODE_KEY.getStandardProperty(),
                                                                 Fixed.NULL_NODE_KEY.getStandardProperty(),
@@ -254,9 +252,7 @@ final class JsonNodeFactoryImpl implements JsonNodeFactory {
                                                   null,
                                                   revision,
                                                   id);
-    final boolean compression = doCompress && value.length > 40;
-    final byte[] compressedValue = compression ? Compression.compress(value, Deflater.BEST_COMPRESSION) : value;
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression);
+    final ValueNodeDelegate valDel = createValueNodeDelegate(nodeDel, value, doCompress);
     final StructNodeDelegate structDel = new StructNodeDelegate(nodeDel,
                                                                 Fixed.NULL_NODE_KEY.getStandardProperty(),
                                                                 Fixed.NULL_NODE_KEY.getStandardProperty(),
@@ -312,4 +308,23 @@ final class JsonNodeFactoryImpl implements JsonNodeFactory {
   public DeweyIDNode createDeweyIdNode(long nodeKey, @Nonnull SirixDeweyID id) {
     return pageTrx.createRecord(nodeKey, new DeweyIDNode(nodeKey, id), IndexType.DEWEYID_TO_RECORDID, 0);
   }
+
+  /**
+   * Create a value node delegate, which compresses the value with the codec of the resource, if it exceeds the size
+   * threshold.
+   *
+   * @param nodeDel        the node delegate
+   * @param value          the uncompressed value
+   * @param useCompression determines if the value should be compressed or not
+   * @return the value node delegate
+   */
+  private ValueNodeDelegate createValueNodeDelegate(final NodeDelegate nodeDel, final byte[] value,
+      final boolean useCompression) {
+    final ResourceConfiguration resourceConfig = pageTrx.getResourceManager().getResourceConfig();
+    final ValueCompressor compressor = useCompression ? resourceConfig.getValueCompressor() : ValueCompressor.NONE;
+    final int threshold = resourceConfig.valueCompressionThreshold;
+    final boolean compression = compressor.shouldCompress(value, threshold);
+    final byte[] compressedValue = compression ? compressor.compress(value) : value;
+    return new ValueNodeDelegate(nodeDel, compressedValue, compression, compressor, threshold);
+  }
 }
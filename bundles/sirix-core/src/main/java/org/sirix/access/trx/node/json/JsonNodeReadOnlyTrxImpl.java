@@ -40,6 +40,7 @@ import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -66,6 +67,16 @@ public final class JsonNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<JsonN
    */
   private boolean isClosed;
 
+  /**
+   * Maps the field names of big objects to their object key nodes.
+   */
+  private final FieldDirectory fieldDirectory;
+
+  /**
+   * Maps the positions of the children of big arrays and objects to their node keys.
+   */
+  private final PositionalIndex positionalIndex;
+
   /**
    * Constructor.
    *
@@ -73,14 +84,18 @@ public final class JsonNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<JsonN
    * @param trxId               ID of the reader
    * @param pageReadTransaction {@link PageReadOnlyTrx} to interact with the page layer
    * @param documentNode        the document node
+   * @param fieldDirectory      maps the field names of big objects to the node keys of their object key nodes
    */
   JsonNodeReadOnlyTrxImpl(final InternalResourceManager<JsonNodeReadOnlyTrx, JsonNodeTrx> resourceManager,
-      final @Nonnegative long trxId, final PageReadOnlyTrx pageReadTransaction, final ImmutableJsonNode documentNode) {
+      final @Nonnegative long trxId, final PageReadOnlyTrx pageReadTransaction, final ImmutableJsonNode documentNode,
+      final FieldDirectory fieldDirectory) {
     super(trxId, pageReadTransaction, documentNode);
     this.resourceManager = checkNotNull(resourceManager);
     checkArgument(trxId >= 0);
     this.trxId = trxId;
     isClosed = false;
+    this.fieldDirectory = checkNotNull(fieldDirectory);
+    positionalIndex = new PositionalIndex();
   }
 
   @Override
@@ -99,6 +114,136 @@ public final class JsonNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<JsonN
     return Move.notMoved();
   }
 
+  @Override
+  public Move<JsonNodeReadOnlyTrx> moveToField(final QNm name) {
+    checkNotNull(name);
+    assertNotClosed();
+
+    if (currentNode.getKind() != NodeKind.OBJECT) {
+      return Move.notMoved();
+    }
+
+    final StructNode objectNode = getStructuralNode();
+    final long objectNodeKey = objectNode.getNodeKey();
+    final String localName = name.getLocalName();
+
+    if (objectNode.getChildCount() < FieldDirectory.MIN_NUMBER_OF_FIELDS) {
+      return moveToFieldOfSmallObject(objectNode, objectNodeKey, localName);
+    }
+
+    Map<String, Long> directory = fieldDirectory.get(objectNodeKey);
+
+    if (directory == null) {
+      directory = FieldDirectory.createDirectory(objectNode.getChildCount());
+
+      if (moveToFirstChild().hasMoved()) {
+        do {
+          directory.putIfAbsent(getName().getLocalName(), getNodeKey());
+        } while (moveToRightSibling().hasMoved());
+      }
+
+      resetCurrentNode(objectNode, objectNodeKey);
+      fieldDirectory.put(objectNodeKey, directory);
+    }
+
+    final Long fieldNodeKey = directory.get(localName);
+
+    if (fieldNodeKey == null) {
+      return Move.notMoved();
+    }
+
+    return moveTo(fieldNodeKey);
+  }
+
+  private Move<JsonNodeReadOnlyTrx> moveToFieldOfSmallObject(final StructNode objectNode, final long objectNodeKey,
+      final String localName) {
+    if (moveToFirstChild().hasMoved()) {
+      do {
+        if (getName().getLocalName().equals(localName)) {
+          return Move.moved(thisInstance());
+        }
+      } while (moveToRightSibling().hasMoved());
+    }
+
+    resetCurrentNode(objectNode, objectNodeKey);
+    return Move.notMoved();
+  }
+
+  @Override
+  public FieldDirectory getFieldDirectory() {
+    return fieldDirectory;
+  }
+
+  @Override
+  public Move<JsonNodeReadOnlyTrx> moveToChildAt(final long index) {
+    checkArgument(index >= 0, "The index must be >= 0.");
+    assertNotClosed();
+
+    if (currentNode.getKind() != NodeKind.ARRAY && currentNode.getKind() != NodeKind.OBJECT) {
+      return Move.notMoved();
+    }
+
+    final StructNode parentNode = getStructuralNode();
+    final long parentNodeKey = parentNode.getNodeKey();
+
+    if (index < PositionalIndex.MIN_INDEXED_POSITION) {
+      return moveToChildAtSmallPosition(parentNode, parentNodeKey, index);
+    }
+
+    PositionalIndex.ChildNodeKeys childNodeKeys = positionalIndex.get(parentNodeKey);
+
+    if (childNodeKeys == null) {
+      childNodeKeys = positionalIndex.create(parentNodeKey);
+    }
+
+    if (index < childNodeKeys.size()) {
+      return moveTo(childNodeKeys.get((int) index));
+    }
+
+    if (childNodeKeys.isComplete()) {
+      return Move.notMoved();
+    }
+
+    // Continue collecting the children after the last collected child up to the position.
+    boolean hasMoved = childNodeKeys.size() == 0
+        ? moveToFirstChild().hasMoved()
+        : moveTo(childNodeKeys.get(childNodeKeys.size() - 1)).hasMoved() && moveToRightSibling().hasMoved();
+
+    while (hasMoved) {
+      childNodeKeys.add(getNodeKey());
+      if (childNodeKeys.size() > index) {
+        return Move.moved(thisInstance());
+      }
+      hasMoved = moveToRightSibling().hasMoved();
+    }
+
+    childNodeKeys.setComplete();
+    resetCurrentNode(parentNode, parentNodeKey);
+    return Move.notMoved();
+  }
+
+  private Move<JsonNodeReadOnlyTrx> moveToChildAtSmallPosition(final StructNode parentNode, final long parentNodeKey,
+      final long index) {
+    if (moveToFirstChild().hasMoved()) {
+      long position = 0;
+
+      do {
+        if (position == index) {
+          return Move.moved(thisInstance());
+        }
+        position++;
+      } while (moveToRightSibling().hasMoved());
+    }
+
+    resetCurrentNode(parentNode, parentNodeKey);
+    return Move.notMoved();
+  }
+
+  @Override
+  public PositionalIndex getPositionalIndex() {
+    return positionalIndex;
+  }
+
   @Override
   public List<JsonObject> getUpdateOperations() {
     final var revisionNumber = pageReadOnlyTrx instanceof PageTrx ? getRevisionNumber() - 1 : getRevisionNumber();
@@ -231,6 +376,9 @@ public final class JsonNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<JsonN
       // Immediately return node from item list if node key negative.
       if (nodeKey < 0) {
         newNode = Optional.empty();
+      } else if (readFlyweightNode(nodeKey)) {
+        currentNode = flyweightNode;
+        return Move.moved(this);
       } else {
         newNode = pageReadOnlyTrx.getRecord(nodeKey, IndexType.DOCUMENT, -1);
       }
@@ -250,6 +398,9 @@ public final class JsonNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<JsonN
   @Override
   public String getValue() {
     assertNotClosed();
+    if (currentNode == flyweightNode) {
+      return getFlyweightValue();
+    }
     // $CASES-OMITTED$
     return switch (currentNode.getKind()) {
       case OBJECT_STRING_VALUE, STRING_VALUE -> new String(((ValueNode) currentNode).getRawValue(),
@@ -263,6 +414,17 @@ public final class JsonNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<JsonN
     };
   }
 
+  private String getFlyweightValue() {
+    // $CASES-OMITTED$
+    return switch (flyweightNode.getKind()) {
+      case OBJECT_STRING_VALUE, STRING_VALUE -> flyweightNode.getValue();
+      case OBJECT_BOOLEAN_VALUE, BOOLEAN_VALUE -> String.valueOf(flyweightNode.getBooleanValue());
+      case OBJECT_NULL_VALUE, NULL_VALUE -> "null";
+      case OBJECT_NUMBER_VALUE, NUMBER_VALUE -> String.valueOf(flyweightNode.getNumberValue());
+      default -> "";
+    };
+  }
+
   @Override
   public boolean storeDeweyIDs() {
     return resourceManager.getResourceConfig().areDeweyIDsStored;
@@ -271,6 +433,8 @@ public final class JsonNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<JsonN
   @Override
   public boolean getBooleanValue() {
     assertNotClosed();
+    if (currentNode == flyweightNode)
+      return flyweightNode.getBooleanValue();
     if (currentNode.getKind() == NodeKind.BOOLEAN_VALUE)
       return ((BooleanNode) currentNode).getValue();
     else if (currentNode.getKind() == NodeKind.OBJECT_BOOLEAN_VALUE)
@@ -281,6 +445,8 @@ public final class JsonNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<JsonN
   @Override
   public Number getNumberValue() {
     assertNotClosed();
+    if (currentNode == flyweightNode)
+      return flyweightNode.getNumberValue();
     if (currentNode.getKind() == NodeKind.NUMBER_VALUE)
       return ((NumberNode) currentNode).getValue();
     else if (currentNode.getKind() == NodeKind.OBJECT_NUMBER_VALUE)
@@ -304,6 +470,7 @@ public final class JsonNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<JsonN
   @Override
   public ImmutableNode getNode() {
     assertNotClosed();
+    materializeCurrentNode();
 
     // $CASES-OMITTED$
     return switch (currentNode.getKind()) {
@@ -375,6 +542,8 @@ public final class JsonNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<JsonN
       resourceManager.closeReadTransaction(trxId);
 
       setPageReadTransaction(null);
+      fieldDirectory.clear();
+      positionalIndex.clear();
 
       // Immediately release all references.
       pageReadOnlyTrx = null;
@@ -406,7 +575,7 @@ public final class JsonNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<JsonN
     assertNotClosed();
 
     if (currentNode.getKind() == NodeKind.OBJECT_KEY) {
-      final int nameKey = ((ObjectKeyNode) currentNode).getNameKey();
+      final int nameKey = getNameKey();
       final String localName = nameKey == -1 ? "" : pageReadOnlyTrx.getName(nameKey, currentNode.getKind());
       return new QNm(localName);
     }
@@ -417,11 +586,13 @@ public final class JsonNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<JsonN
   @Override
   public VisitResult acceptVisitor(JsonNodeVisitor visitor) {
     assertNotClosed();
+    materializeCurrentNode();
     return ((ImmutableJsonNode) currentNode).acceptVisitor(visitor);
   }
 
   @Override
   public ImmutableJsonNode getCurrentNode() {
+    materializeCurrentNode();
     return (ImmutableJsonNode) currentNode;
   }
 
@@ -434,6 +605,9 @@ public final class JsonNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<JsonN
   @Override
   public int getNameKey() {
     assertNotClosed();
+    if (currentNode == flyweightNode) {
+      return flyweightNode.getNameKey();
+    }
     if (currentNode.getKind() == NodeKind.OBJECT_KEY) {
       return ((ObjectKeyNode) currentNode).getNameKey();
     }
@@ -77,17 +77,19 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.math.BigInteger;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.function.Predicate;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -130,6 +132,11 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
    */
   private final RecordToRevisionsIndex nodeToRevisionsIndex;
 
+  /**
+   * The changed nodes index (which nodes have changed in a revision)
+   */
+  private final ChangedNodesIndex changedNodesIndex;
+
   /**
    * Hashes nodes.
    */
@@ -166,6 +173,12 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
    */
   private final boolean buildPathSummary;
 
+  /**
+   * Determines if the transaction has been reverted to a former revision since the last commit, such that the changes
+   * of the next revision aren't known relative to the most recent revision.
+   */
+  private boolean isReverted;
+
   /**
    * {@link JsonNodeFactory} to be able to create nodes.
    */
@@ -212,14 +225,19 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
   private final HashFunction hashFunction;
 
   /**
-   * Collects update operations in pre-order, thus it must be an order-preserving sorted map.
+   * Collects update operations in pre-order, thus it must be sorted by DeweyIDs.
    */
-  private final SortedMap<SirixDeweyID, DiffTuple> updateOperationsOrdered;
+  private final UpdateOperations<SirixDeweyID> updateOperationsOrdered;
 
   /**
    * Collects update operations in no particular order (if DeweyIDs used for sorting are not stored).
    */
-  private final Map<Long, DiffTuple> updateOperationsUnordered;
+  private final UpdateOperations<Long> updateOperationsUnordered;
+
+  /**
+   * The maximum node key of the document, before the current revision has been started.
+   */
+  private long maxNodeKeyOfPreviousRevision;
 
   /**
    * Flag to decide whether to store child count.
@@ -272,6 +290,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
    * @param nodeFactory          to create nodes
    * @param afterCommitState     state after committing, keep open or close
    * @param nodeToRevisionsIndex the node to revisions index (when a node has changed)
+   * @param changedNodesIndex    the changed nodes index (which nodes have changed in a revision)
    * @throws SirixIOException    if the reading of the props is failing
    * @throws SirixUsageException if {@code pMaxNodeCount < 0} or {@code pMaxTime < 0}
    */
@@ -279,12 +298,14 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       final InternalJsonNodeReadOnlyTrx nodeReadTrx, final PathSummaryWriter<JsonNodeReadOnlyTrx> pathSummaryWriter,
       @Nonnegative final int maxNodeCount, final TimeUnit timeUnit, @Nonnegative final int maxTime,
       @Nonnull final JsonNodeHashing nodeHashing, final JsonNodeFactory nodeFactory,
-      @Nonnull final AfterCommitState afterCommitState, final RecordToRevisionsIndex nodeToRevisionsIndex) {
+      @Nonnull final AfterCommitState afterCommitState, final RecordToRevisionsIndex nodeToRevisionsIndex,
+      final ChangedNodesIndex changedNodesIndex) {
     // Do not accept negative values.
     Preconditions.checkArgument(maxNodeCount >= 0 && maxTime >= 0,
                                 "Negative arguments for maxNodeCount and maxTime are not accepted.");
 
     this.nodeToRevisionsIndex = Preconditions.checkNotNull(nodeToRevisionsIndex);
+    this.changedNodesIndex = Preconditions.checkNotNull(changedNodesIndex);
     this.nodeHashing = Preconditions.checkNotNull(nodeHashing);
     this.hashFunction = resourceManager.getResourceConfig().nodeHashFunction;
     this.resourceManager = Preconditions.checkNotNull(resourceManager);
@@ -316,8 +337,15 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
 
     deweyIDManager = new JsonDeweyIDManager(this);
 
-    updateOperationsOrdered = new TreeMap<>();
-    updateOperationsUnordered = new HashMap<>();
+    final Path updateOperationsSpillDirectory =
+        resourceManager.getResourceConfig()
+                       .getResource()
+                       .resolve(ResourceConfiguration.ResourcePaths.TRANSACTION_INTENT_LOG.getPath());
+    updateOperationsOrdered =
+        new UpdateOperations<>(UpdateOperations.DEWEYID_PERSISTER, updateOperationsSpillDirectory);
+    updateOperationsUnordered =
+        new UpdateOperations<>(UpdateOperations.NODE_KEY_PERSISTER, updateOperationsSpillDirectory);
+    maxNodeKeyOfPreviousRevision = pageTrx.getActualRevisionRootPage().getMaxNodeKeyInDocumentIndex();
 
     this.afterCommitState = Preconditions.checkNotNull(afterCommitState);
     state = State.Running;
@@ -577,6 +605,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -616,6 +645,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -652,6 +682,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -688,6 +719,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -740,6 +772,8 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
+      nodeReadOnlyTrx.getFieldDirectory().fieldInserted(parentKey, key, node.getNodeKey());
 
       return this;
     } finally {
@@ -793,6 +827,8 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
+      nodeReadOnlyTrx.getFieldDirectory().fieldInserted(parentKey, key, node.getNodeKey());
 
       return this;
     } finally {
@@ -900,6 +936,8 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
+      nodeReadOnlyTrx.getFieldDirectory().fieldInserted(parentKey, key, node.getNodeKey());
 
       return this;
     } finally {
@@ -945,6 +983,8 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
+      nodeReadOnlyTrx.getFieldDirectory().fieldInserted(parentKey, key, node.getNodeKey());
 
       return this;
     } finally {
@@ -986,6 +1026,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -1027,6 +1068,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -1062,6 +1104,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -1097,6 +1140,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -1178,6 +1222,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -1228,6 +1273,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -1283,6 +1329,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -1317,6 +1364,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -1363,6 +1411,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -1409,6 +1458,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -1439,6 +1489,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -1469,6 +1520,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -1547,6 +1599,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -1594,6 +1647,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -1625,6 +1679,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -1656,6 +1711,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -1699,6 +1755,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -1742,6 +1799,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -1773,6 +1831,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -1804,6 +1863,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       nodeToRevisionsIndex.addToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addInsertedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -1841,6 +1901,8 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
 
       canRemoveValue = false;
 
+      final String removedFieldName = node.getKind() == NodeKind.OBJECT_KEY ? getName().getLocalName() : null;
+
       if (getParentKind() != NodeKind.OBJECT_KEY) {
         adaptUpdateOperationsForRemove(node.getDeweyID(), node.getNodeKey());
       }
@@ -1861,6 +1923,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
         pageTrx.removeRecord(currentNode.getNodeKey(), IndexType.DOCUMENT, -1);
 
         nodeToRevisionsIndex.addRevisionToRecordToRevisionsIndex(currentNode.getNodeKey());
+        changedNodesIndex.addDeletedNode(currentNode.getNodeKey());
       }
 
       // Remove the name of subtree-root.
@@ -1878,6 +1941,11 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       nodeReadOnlyTrx.setCurrentNode(jsonNode);
 
       nodeToRevisionsIndex.addRevisionToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addDeletedNode(node.getNodeKey());
+
+      if (removedFieldName != null) {
+        nodeReadOnlyTrx.getFieldDirectory().fieldRemoved(node.getParentKey(), removedFieldName, node.getNodeKey());
+      }
 
       if (node.hasRightSibling()) {
         moveTo(node.getRightSiblingKey());
@@ -1897,11 +1965,10 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
     moveToNext();
     final var diffTuple =
         new DiffTuple(DiffFactory.DiffType.DELETED, 0, oldNodeKey, id == null ? null : new DiffDepth(0, id.getLevel()));
+    // Replaces a former operation on the node, as the DeweyID or node key of the node is the same.
     if (id == null) {
-      updateOperationsUnordered.values().removeIf(currDiffTuple -> currDiffTuple.getNewNodeKey() == oldNodeKey);
       updateOperationsUnordered.put(oldNodeKey, diffTuple);
     } else {
-      updateOperationsOrdered.values().removeIf(currDiffTuple -> currDiffTuple.getNewNodeKey() == oldNodeKey);
       updateOperationsOrdered.put(id, diffTuple);
     }
     moveTo(oldNodeKey);
@@ -1962,6 +2029,8 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       ObjectKeyNode node = (ObjectKeyNode) nodeReadOnlyTrx.getCurrentNode();
       final BigInteger oldHash = node.computeHash();
 
+      final String oldName = getName().getLocalName();
+
       // Remove old keys from mapping.
       final NodeKind nodeKind = node.getKind();
       final int oldNameKey = node.getNameKey();
@@ -1989,6 +2058,11 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       adaptUpdateOperationsForUpdate(node.getDeweyID(), node.getNodeKey());
 
       nodeToRevisionsIndex.addRevisionToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addUpdatedNode(node.getNodeKey());
+
+      final FieldDirectory fieldDirectory = nodeReadOnlyTrx.getFieldDirectory();
+      fieldDirectory.fieldRemoved(node.getParentKey(), oldName, node.getNodeKey());
+      fieldDirectory.fieldInserted(node.getParentKey(), key, node.getNodeKey());
 
       return this;
     } finally {
@@ -2001,27 +2075,16 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
                                         nodeKey,
                                         nodeKey,
                                         id == null ? null : new DiffDepth(id.getLevel(), id.getLevel()));
-    if (id == null && updateOperationsUnordered.get(nodeKey) == null) {
-      updateOperationsUnordered.put(nodeKey, diffTuple);
-    } else if (hasNoUpdatingNodeWithGivenNodeKey(nodeKey)) {
-      updateOperationsOrdered.put(id, diffTuple);
+    // Nodes inserted in this revision are reported as inserted with their current content.
+    if (nodeKey <= maxNodeKeyOfPreviousRevision) {
+      if (id == null) {
+        updateOperationsUnordered.put(nodeKey, diffTuple);
+      } else {
+        updateOperationsOrdered.put(id, diffTuple);
+      }
     }
   }
 
-  private boolean hasNoUpdatingNodeWithGivenNodeKey(long nodeKey) {
-    return updateOperationsOrdered.values()
-                                  .stream()
-                                  .filter(filterInsertedOrDeletedTuplesWithNodeKey(nodeKey))
-                                  .findAny()
-                                  .isEmpty();
-  }
-
-  private Predicate<DiffTuple> filterInsertedOrDeletedTuplesWithNodeKey(long nodeKey) {
-    return currDiffTuple ->
-        (currDiffTuple.getNewNodeKey() == nodeKey && currDiffTuple.getDiff() == DiffFactory.DiffType.INSERTED) || (
-            currDiffTuple.getOldNodeKey() == nodeKey && currDiffTuple.getDiff() == DiffFactory.DiffType.DELETED);
-  }
-
   @Override
   public JsonNodeTrx setStringValue(final String value) {
     checkNotNull(value);
@@ -2058,6 +2121,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       adaptUpdateOperationsForUpdate(node.getDeweyID(), node.getNodeKey());
 
       nodeToRevisionsIndex.addRevisionToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addUpdatedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -2097,6 +2161,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       adaptUpdateOperationsForUpdate(node.getDeweyID(), node.getNodeKey());
 
       nodeToRevisionsIndex.addRevisionToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addUpdatedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -2137,6 +2202,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       adaptUpdateOperationsForUpdate(node.getDeweyID(), node.getNodeKey());
 
       nodeToRevisionsIndex.addRevisionToRecordToRevisionsIndex(node.getNodeKey());
+      changedNodesIndex.addUpdatedNode(node.getNodeKey());
 
       return this;
     } finally {
@@ -2174,6 +2240,12 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       // Reset modification counter.
       modificationCount = 0L;
 
+      isReverted = true;
+
+      // The directories and positions are the ones of the current revision.
+      nodeReadOnlyTrx.getFieldDirectory().clear();
+      nodeReadOnlyTrx.getPositionalIndex().clear();
+
       // Move to document root.
       moveToDocumentRoot();
 
@@ -2202,6 +2274,9 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
         pathSummaryWriter = null;
         nodeFactory = null;
 
+        updateOperationsUnordered.clear();
+        updateOperationsOrdered.clear();
+
         // Shutdown pool.
         threadPool.shutdown();
         try {
@@ -2230,6 +2305,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       final int revNumber = pageTrx.getUberPage().isBootstrap() ? 0 : revision - 1;
 
       final UberPage uberPage = pageTrx.rollback();
+      isReverted = false;
 
       // Remember succesfully committed uber page in resource manager.
       resourceManager.setLastCommittedUberPage(uberPage);
@@ -2247,6 +2323,10 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
 
       reInstantiateIndexes();
 
+      // The directories and positions might contain children, which have been inserted, renamed or removed.
+      nodeReadOnlyTrx.getFieldDirectory().clear();
+      nodeReadOnlyTrx.getPositionalIndex().clear();
+
       return this;
     } finally {
       unLockIfNecessary();
@@ -2292,6 +2372,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
 
     updateOperationsUnordered.clear();
     updateOperationsOrdered.clear();
+    maxNodeKeyOfPreviousRevision = pageTrx.getActualRevisionRootPage().getMaxNodeKeyInDocumentIndex();
 
     reInstantiateIndexes();
   }
@@ -2310,6 +2391,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
     indexController.createIndexListeners(indexDefs, this);
 
     nodeToRevisionsIndex.setPageTrx(pageTrx);
+    changedNodesIndex.setPageTrx(pageTrx);
   }
 
   /**
@@ -2362,6 +2444,9 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
           pageTrx.prepareRecordForModification(structNode.getLeftSiblingKey(), IndexType.DOCUMENT, -1);
       leftSiblingNode.setRightSiblingKey(structNode.getNodeKey());
     }
+
+    nodeReadOnlyTrx.getPositionalIndex()
+                   .childInserted(structNode.getParentKey(), structNode.getLeftSiblingKey(), structNode.getNodeKey());
   }
 
   // ////////////////////////////////////////////////////////////
@@ -2408,6 +2493,8 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       parent.decrementChildCount();
     }
 
+    nodeReadOnlyTrx.getPositionalIndex().childRemoved(oldNode.getParentKey(), oldNode.getNodeKey());
+
     // Remove non structural nodes of old node.
     if (oldNode.getKind() == NodeKind.ELEMENT) {
       moveTo(oldNode.getNodeKey());
@@ -2523,6 +2610,16 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
     return doCommit(commitMessage);
   }
 
+  @Override
+  public CompletableFuture<UberPage> commitAsync(final String commitMessage) {
+    nodeReadOnlyTrx.assertNotClosed();
+
+    return AsyncCommit.commitAsync(resourceManager.getCommitExecutor(), () -> pageTrx, () -> {
+      commit(commitMessage);
+      return resourceManager.getLastCommittedUberPage();
+    });
+  }
+
   public void serializeUpdateDiffs() {
     final int revisionNumber = getRevisionNumber();
     if (!nodeHashing.isBulkInsert() && revisionNumber - 1 > 0) {
@@ -2532,9 +2629,8 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
                                                             : revisionNumber - 1,
                                                         revisionNumber,
                                                         storeDeweyIDs()
-                                                            ? updateOperationsOrdered.values()
-                                                            : updateOperationsUnordered.values());
-      final var jsonDiff = diffSerializer.serialize(false);
+                                                            ? updateOperationsOrdered
+                                                            : updateOperationsUnordered);
 
       // Deserialize index definitions.
       final Path diff = resourceManager.getResourceConfig()
@@ -2542,9 +2638,8 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
                                        .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.getPath())
                                        .resolve(
                                            "diffFromRev" + (revisionNumber - 1) + "toRev" + revisionNumber + ".json");
-      try {
-        Files.createFile(diff);
-        Files.writeString(diff, jsonDiff);
+      try (final Writer writer = Files.newBufferedWriter(diff, StandardOpenOption.CREATE_NEW)) {
+        diffSerializer.serialize(false, writer);
       } catch (final IOException e) {
         throw new UncheckedIOException(e);
       }
@@ -2601,8 +2696,26 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       // Reset modification counter.
       modificationCount = 0L;
 
+      changedNodesIndex.flush();
+
+      // The changes made after reverting to a former revision don't describe the changes of the revision.
+      pageTrx.getActualRevisionRootPage().setChangedNodesIndexed(!isReverted);
+
       final UberPage uberPage = commitMessage == null ? pageTrx.commit() : pageTrx.commit(commitMessage);
 
+      // Remember the changed path nodes to derive the path summary of the revision from the previous one. The path
+      // summary of a reverted revision has to be rebuilt, as the path summary writer only knows the changes made
+      // after reverting.
+      if (buildPathSummary) {
+        if (isReverted) {
+          resourceManager.invalidatePathSummary(uberPage.getRevisionNumber());
+        } else {
+          resourceManager.setChangedPathNodeKeys(uberPage.getRevisionNumber(),
+                                                 pathSummaryWriter.getChangedPathNodeKeys());
+        }
+      }
+      isReverted = false;
+
       // Remember succesfully committed uber page in resource manager.
       resourceManager.setLastCommittedUberPage(uberPage);
 
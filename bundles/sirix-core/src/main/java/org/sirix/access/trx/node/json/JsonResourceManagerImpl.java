@@ -21,12 +21,15 @@
 
 package org.sirix.access.trx.node.json;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.sirix.access.DatabaseConfiguration;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.User;
 import org.sirix.access.json.JsonResourceStore;
 import org.sirix.access.trx.node.AbstractResourceManager;
 import org.sirix.access.trx.node.AfterCommitState;
+import org.sirix.access.trx.node.ChangedNodesIndex;
 import org.sirix.access.trx.node.InternalResourceManager;
 import org.sirix.access.trx.node.RecordToRevisionsIndex;
 import org.sirix.api.Database;
@@ -44,6 +47,7 @@ import org.sirix.page.UberPage;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
@@ -65,6 +69,17 @@ public final class JsonResourceManagerImpl extends AbstractResourceManager<JsonN
    */
   private final ConcurrentMap<Integer, JsonIndexController> wtxIndexControllers;
 
+  /**
+   * The maximum number of revisions, for which the field directories are kept.
+   */
+  private static final int MAX_NUMBER_OF_FIELD_DIRECTORIES = 16;
+
+  /**
+   * The field directories of the most recently used revisions, shared amongst all read-only transactions of a
+   * revision.
+   */
+  private final Cache<Integer, ConcurrentMap<Long, Map<String, Long>>> fieldDirectories;
+
   /**
    * Constructor.
    *
@@ -86,11 +101,15 @@ public final class JsonResourceManagerImpl extends AbstractResourceManager<JsonN
 
     rtxIndexControllers = new ConcurrentHashMap<>();
     wtxIndexControllers = new ConcurrentHashMap<>();
+    fieldDirectories = Caffeine.newBuilder().maximumSize(MAX_NUMBER_OF_FIELD_DIRECTORIES).build();
   }
 
   @Override
   public JsonNodeReadOnlyTrx createNodeReadOnlyTrx(long nodeTrxId, PageReadOnlyTrx pageReadTrx, Node documentNode) {
-    return new JsonNodeReadOnlyTrxImpl(this, nodeTrxId, pageReadTrx, (ImmutableJsonNode) documentNode);
+    final FieldDirectory fieldDirectory = new FieldDirectory(
+        fieldDirectories.get(pageReadTrx.getRevisionNumber(), unused -> FieldDirectory.createSharedDirectories()));
+    return new JsonNodeReadOnlyTrxImpl(this, nodeTrxId, pageReadTrx, (ImmutableJsonNode) documentNode,
+                                       fieldDirectory);
   }
 
   @Override
@@ -98,7 +117,7 @@ public final class JsonResourceManagerImpl extends AbstractResourceManager<JsonN
       int maxTime, Node documentNode, AfterCommitState afterCommitState) {
     // The node read-only transaction.
     final InternalJsonNodeReadOnlyTrx nodeReadOnlyTrx =
-        new JsonNodeReadOnlyTrxImpl(this, nodeTrxId, pageTrx, (ImmutableJsonNode) documentNode);
+        new JsonNodeReadOnlyTrxImpl(this, nodeTrxId, pageTrx, (ImmutableJsonNode) documentNode, new FieldDirectory());
 
     // Node factory.
     final JsonNodeFactory nodeFactory = new JsonNodeFactoryImpl(getResourceConfig().nodeHashFunction, pageTrx);
@@ -121,7 +140,8 @@ public final class JsonResourceManagerImpl extends AbstractResourceManager<JsonN
                                new JsonNodeHashing(getResourceConfig().hashType, nodeReadOnlyTrx, pageTrx),
                                nodeFactory,
                                afterCommitState,
-                               new RecordToRevisionsIndex(pageTrx));
+                               new RecordToRevisionsIndex(pageTrx),
+                               new ChangedNodesIndex(pageTrx));
   }
 
   @SuppressWarnings("unchecked")
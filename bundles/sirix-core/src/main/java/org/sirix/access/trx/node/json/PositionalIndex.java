@@ -0,0 +1,189 @@
+package org.sirix.access.trx.node.json;
+
+import org.sirix.settings.Fixed;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Maps the positions of the children of arrays and objects to their node keys, such that the child at a position is
+ * found without scanning the preceding siblings. The child node keys of a node are collected in document order up to
+ * the accessed position, once a position of at least {@link #MIN_INDEXED_POSITION} is accessed, and only the children
+ * of the most recently used nodes are kept. Accessing a position behind the collected children continues the scan at
+ * the last collected child.
+ * <p>
+ * The index is a cache of a transaction and isn't stored in the record pages. The children of a node in a revision,
+ * which is read, never change, thus a read-only transaction scans each child at most once and afterwards finds each
+ * collected position in constant time. A write transaction updates the collected children, whenever a child is
+ * inserted or removed, and drops all children, if it is reverted or rolled back.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+final class PositionalIndex {
+
+  /**
+   * The minimum position, for which the children are indexed. Smaller positions are reached by scanning.
+   */
+  static final long MIN_INDEXED_POSITION = 16;
+
+  /**
+   * The maximum number of nodes, for which the children are kept.
+   */
+  private static final int MAX_NUMBER_OF_PARENTS = 64;
+
+  /**
+   * Parent node key to the child node keys, in access order.
+   */
+  private final Map<Long, ChildNodeKeys> children;
+
+  /**
+   * Constructor.
+   */
+  PositionalIndex() {
+    children = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<Long, ChildNodeKeys> eldest) {
+        return size() > MAX_NUMBER_OF_PARENTS;
+      }
+    };
+  }
+
+  /**
+   * Get the child node keys of a node.
+   *
+   * @param parentNodeKey the node key of the parent node
+   * @return the child node keys or {@code null}, if they haven't been collected yet
+   */
+  ChildNodeKeys get(final long parentNodeKey) {
+    return children.get(parentNodeKey);
+  }
+
+  /**
+   * Create the empty child node keys of a node, which have to be filled in document order.
+   *
+   * @param parentNodeKey the node key of the parent node
+   * @return the child node keys
+   */
+  ChildNodeKeys create(final long parentNodeKey) {
+    final ChildNodeKeys childNodeKeys = new ChildNodeKeys();
+    children.put(parentNodeKey, childNodeKeys);
+    return childNodeKeys;
+  }
+
+  /**
+   * Add an inserted child to the child node keys of its parent, if its position is within the collected children.
+   *
+   * @param parentNodeKey      the node key of the parent node
+   * @param leftSiblingNodeKey the node key of the left sibling of the inserted child, or
+   *                           {@code Fixed.NULL_NODE_KEY.getStandardProperty()} if it's the first child
+   * @param nodeKey            the node key of the inserted child
+   */
+  void childInserted(final long parentNodeKey, final long leftSiblingNodeKey, final long nodeKey) {
+    final ChildNodeKeys childNodeKeys = children.get(parentNodeKey);
+    if (childNodeKeys == null) {
+      return;
+    }
+    if (leftSiblingNodeKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      childNodeKeys.add(0, nodeKey);
+      return;
+    }
+    final int leftSiblingPosition = childNodeKeys.lastIndexOf(leftSiblingNodeKey);
+    if (leftSiblingPosition >= 0) {
+      childNodeKeys.add(leftSiblingPosition + 1, nodeKey);
+    } else if (childNodeKeys.isComplete()) {
+      // Must not happen, as all children have been collected.
+      children.remove(parentNodeKey);
+    }
+    // Otherwise the child is inserted behind the collected children.
+  }
+
+  /**
+   * Remove a removed child from the child node keys of its parent and drop the child node keys of the removed child.
+   *
+   * @param parentNodeKey the node key of the parent node
+   * @param nodeKey       the node key of the removed child
+   */
+  void childRemoved(final long parentNodeKey, final long nodeKey) {
+    children.remove(nodeKey);
+    final ChildNodeKeys childNodeKeys = children.get(parentNodeKey);
+    if (childNodeKeys == null) {
+      return;
+    }
+    final int position = childNodeKeys.lastIndexOf(nodeKey);
+    if (position >= 0) {
+      childNodeKeys.remove(position);
+    } else if (childNodeKeys.isComplete()) {
+      // Must not happen, as all children have been collected.
+      children.remove(parentNodeKey);
+    }
+  }
+
+  /**
+   * Remove all child node keys.
+   */
+  void clear() {
+    children.clear();
+  }
+
+  /**
+   * The node keys of the first children of a node, in document order.
+   */
+  static final class ChildNodeKeys {
+    private long[] nodeKeys = new long[16];
+
+    private int size;
+
+    /**
+     * Determines if all children have been collected.
+     */
+    private boolean isComplete;
+
+    void add(final long nodeKey) {
+      add(size, nodeKey);
+    }
+
+    void add(final int position, final long nodeKey) {
+      if (size == nodeKeys.length) {
+        nodeKeys = Arrays.copyOf(nodeKeys, size << 1);
+      }
+      System.arraycopy(nodeKeys, position, nodeKeys, position + 1, size - position);
+      nodeKeys[position] = nodeKey;
+      size++;
+    }
+
+    void remove(final int position) {
+      System.arraycopy(nodeKeys, position + 1, nodeKeys, position, size - position - 1);
+      size--;
+    }
+
+    /**
+     * Get the position of a child, whereas children are mostly appended, so the search starts at the end.
+     */
+    int lastIndexOf(final long nodeKey) {
+      for (int position = size - 1; position >= 0; position--) {
+        if (nodeKeys[position] == nodeKey) {
+          return position;
+        }
+      }
+      return -1;
+    }
+
+    long get(final int position) {
+      return nodeKeys[position];
+    }
+
+    int size() {
+      return size;
+    }
+
+    boolean isComplete() {
+      return isComplete;
+    }
+
+    void setComplete() {
+      isComplete = true;
+    }
+  }
+}
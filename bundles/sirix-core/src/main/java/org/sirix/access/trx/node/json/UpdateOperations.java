@@ -0,0 +1,335 @@
+package org.sirix.access.trx.node.json;
+
+import org.sirix.diff.DiffDepth;
+import org.sirix.diff.DiffFactory.DiffType;
+import org.sirix.diff.DiffTuple;
+import org.sirix.node.SirixDeweyID;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Collects the update operations of a write transaction, keyed by the DeweyID or the node key of the changed node. A
+ * later operation on the same key replaces the former one. Once too many operations are collected, they are spilled
+ * as a sorted run into a file, such that huge transactions don't keep all operations in memory. Iterating merges the
+ * runs and the operations in memory in key order.
+ *
+ * @param <K> the key type
+ * @author Johannes Lichtenberger
+ */
+final class UpdateOperations<K extends Comparable<? super K>> implements Iterable<DiffTuple> {
+
+  /**
+   * The maximum number of operations kept in memory.
+   */
+  private static final int MAX_IN_MEMORY_OPERATIONS = 1 << 18;
+
+  /**
+   * Reads and writes keys of spilled operations.
+   *
+   * @param <K> the key type
+   */
+  interface KeyPersister<K> {
+    void serialize(DataOutput sink, K key) throws IOException;
+
+    K deserialize(DataInput source) throws IOException;
+  }
+
+  /**
+   * Persists DeweyIDs.
+   */
+  static final KeyPersister<SirixDeweyID> DEWEYID_PERSISTER = new KeyPersister<>() {
+    @Override
+    public void serialize(final DataOutput sink, final SirixDeweyID key) throws IOException {
+      final byte[] deweyIDBytes = key.toBytes();
+      sink.writeInt(deweyIDBytes.length);
+      sink.write(deweyIDBytes);
+    }
+
+    @Override
+    public SirixDeweyID deserialize(final DataInput source) throws IOException {
+      final byte[] deweyIDBytes = new byte[source.readInt()];
+      source.readFully(deweyIDBytes);
+      return new SirixDeweyID(deweyIDBytes);
+    }
+  };
+
+  /**
+   * Persists node keys.
+   */
+  static final KeyPersister<Long> NODE_KEY_PERSISTER = new KeyPersister<>() {
+    @Override
+    public void serialize(final DataOutput sink, final Long key) throws IOException {
+      sink.writeLong(key);
+    }
+
+    @Override
+    public Long deserialize(final DataInput source) throws IOException {
+      return source.readLong();
+    }
+  };
+
+  /**
+   * Reads and writes keys of spilled operations.
+   */
+  private final KeyPersister<K> keyPersister;
+
+  /**
+   * The directory, in which runs are stored.
+   */
+  private final Path spillDirectory;
+
+  /**
+   * The maximum number of operations kept in memory.
+   */
+  private final int maxInMemoryOperations;
+
+  /**
+   * The most recent operations.
+   */
+  private final TreeMap<K, DiffTuple> operations;
+
+  /**
+   * The spilled runs, from the oldest to the most recent one.
+   */
+  private final List<Path> runs;
+
+  /**
+   * Constructor.
+   *
+   * @param keyPersister   reads and writes keys of spilled operations
+   * @param spillDirectory the directory, in which runs are stored
+   */
+  UpdateOperations(final KeyPersister<K> keyPersister, final Path spillDirectory) {
+    this(keyPersister, spillDirectory, MAX_IN_MEMORY_OPERATIONS);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param keyPersister          reads and writes keys of spilled operations
+   * @param spillDirectory        the directory, in which runs are stored
+   * @param maxInMemoryOperations the maximum number of operations kept in memory
+   */
+  UpdateOperations(final KeyPersister<K> keyPersister, final Path spillDirectory, final int maxInMemoryOperations) {
+    this.keyPersister = requireNonNull(keyPersister);
+    this.spillDirectory = requireNonNull(spillDirectory);
+    this.maxInMemoryOperations = maxInMemoryOperations;
+    operations = new TreeMap<>();
+    runs = new ArrayList<>();
+  }
+
+  /**
+   * Add an operation, which replaces a former operation with the same key.
+   *
+   * @param key       the DeweyID or node key of the changed node
+   * @param diffTuple the operation
+   */
+  void put(final K key, final DiffTuple diffTuple) {
+    operations.put(key, diffTuple);
+
+    if (operations.size() > maxInMemoryOperations) {
+      spill();
+    }
+  }
+
+  /**
+   * Determines if no operation has been added.
+   *
+   * @return {@code true}, if no operation has been added
+   */
+  boolean isEmpty() {
+    return operations.isEmpty() && runs.isEmpty();
+  }
+
+  /**
+   * Remove all operations and delete the spilled runs.
+   */
+  void clear() {
+    operations.clear();
+    try {
+      for (final Path run : runs) {
+        Files.deleteIfExists(run);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      runs.clear();
+    }
+  }
+
+  private void spill() {
+    try {
+      final Path run = Files.createTempFile(spillDirectory, "update-operations", ".run");
+      try (final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run)))) {
+        output.writeInt(operations.size());
+        for (final Map.Entry<K, DiffTuple> operation : operations.entrySet()) {
+          keyPersister.serialize(output, operation.getKey());
+          serializeDiffTuple(output, operation.getValue());
+        }
+      }
+      runs.add(run);
+      operations.clear();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void serializeDiffTuple(final DataOutput sink, final DiffTuple diffTuple) throws IOException {
+    sink.writeByte(diffTuple.getDiff().ordinal());
+    sink.writeLong(diffTuple.getNewNodeKey());
+    sink.writeLong(diffTuple.getOldNodeKey());
+    final DiffDepth depth = diffTuple.getDepth();
+    sink.writeBoolean(depth != null);
+    if (depth != null) {
+      sink.writeInt(depth.getNewDepth());
+      sink.writeInt(depth.getOldDepth());
+    }
+  }
+
+  private static DiffTuple deserializeDiffTuple(final DataInput source) throws IOException {
+    final DiffType diffType = DiffType.values()[source.readByte()];
+    final long newNodeKey = source.readLong();
+    final long oldNodeKey = source.readLong();
+    final DiffDepth depth = source.readBoolean() ? new DiffDepth(source.readInt(), source.readInt()) : null;
+    return new DiffTuple(diffType, newNodeKey, oldNodeKey, depth);
+  }
+
+  /**
+   * Iterate over all operations in key order. The spilled runs are read lazily.
+   *
+   * @return an iterator over all operations
+   */
+  @Override
+  public Iterator<DiffTuple> iterator() {
+    if (runs.isEmpty()) {
+      return operations.values().iterator();
+    }
+    return new MergingIterator();
+  }
+
+  /**
+   * The current operation of a run, while merging.
+   */
+  private final class RunCursor {
+    private final Iterator<Map.Entry<K, DiffTuple>> inMemoryOperations;
+
+    private final DataInputStream input;
+
+    private final int age;
+
+    private int remaining;
+
+    private K key;
+
+    private DiffTuple diffTuple;
+
+    RunCursor(final Iterator<Map.Entry<K, DiffTuple>> inMemoryOperations, final int age) {
+      this.inMemoryOperations = inMemoryOperations;
+      this.input = null;
+      this.age = age;
+    }
+
+    RunCursor(final Path run, final int age) throws IOException {
+      this.inMemoryOperations = null;
+      this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(run)));
+      this.age = age;
+      remaining = input.readInt();
+    }
+
+    boolean next() throws IOException {
+      if (inMemoryOperations != null) {
+        if (!inMemoryOperations.hasNext()) {
+          return false;
+        }
+        final Map.Entry<K, DiffTuple> operation = inMemoryOperations.next();
+        key = operation.getKey();
+        diffTuple = operation.getValue();
+        return true;
+      }
+
+      if (remaining == 0) {
+        input.close();
+        return false;
+      }
+      remaining--;
+      key = keyPersister.deserialize(input);
+      diffTuple = deserializeDiffTuple(input);
+      return true;
+    }
+  }
+
+  /**
+   * Merges the sorted runs and the operations in memory. If the same key is found in multiple runs, only the
+   * operation of the most recent run is emitted.
+   */
+  private final class MergingIterator implements Iterator<DiffTuple> {
+    private final PriorityQueue<RunCursor> cursors;
+
+    MergingIterator() {
+      final Comparator<RunCursor> byKey = (first, second) -> first.key.compareTo(second.key);
+      cursors = new PriorityQueue<>(byKey.thenComparing(cursor -> cursor.age, Comparator.reverseOrder()));
+      try {
+        for (int i = 0; i < runs.size(); i++) {
+          advance(new RunCursor(runs.get(i), i));
+        }
+        advance(new RunCursor(operations.entrySet().iterator(), runs.size()));
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private void advance(final RunCursor cursor) throws IOException {
+      if (cursor.next()) {
+        cursors.add(cursor);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !cursors.isEmpty();
+    }
+
+    @Override
+    public DiffTuple next() {
+      final RunCursor cursor = cursors.poll();
+      if (cursor == null) {
+        throw new NoSuchElementException();
+      }
+
+      final K key = cursor.key;
+      final DiffTuple diffTuple = cursor.diffTuple;
+
+      try {
+        advance(cursor);
+
+        // Skip the operations of older runs, which have been replaced.
+        while (!cursors.isEmpty() && cursors.peek().key.compareTo(key) == 0) {
+          advance(cursors.poll());
+        }
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+
+      return diffTuple;
+    }
+  }
+}
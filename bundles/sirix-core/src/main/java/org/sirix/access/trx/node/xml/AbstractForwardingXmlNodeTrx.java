@@ -1,6 +1,7 @@
 package org.sirix.access.trx.node.xml;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nonnull;
 import javax.xml.stream.XMLEventReader;
 import org.brackit.xquery.atomic.QNm;
@@ -9,6 +10,7 @@ import org.sirix.api.Movement;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.api.xml.XmlNodeTrx;
 import org.sirix.exception.SirixException;
+import org.sirix.page.UberPage;
 
 /**
  * Forwards all methods to the delegate.
@@ -44,6 +46,16 @@ public abstract class AbstractForwardingXmlNodeTrx extends AbstractForwardingXml
     return delegate().commit();
   }
 
+  @Override
+  public XmlNodeTrx commit(String commitMessage) {
+    return delegate().commit(commitMessage);
+  }
+
+  @Override
+  public CompletableFuture<UberPage> commitAsync(String commitMessage) {
+    return delegate().commitAsync(commitMessage);
+  }
+
   @Override
   public XmlNodeTrx moveSubtreeToLeftSibling(long fromKey) throws SirixException {
     return delegate().moveSubtreeToLeftSibling(fromKey);
@@ -88,13 +88,14 @@ public interface XmlNodeFactory extends NodeFactory {
    * @param parentKey parent node key
    * @param name the {@link QNm} of the attribute
    * @param value the value
+   * @param isCompressed determines if the value is compressed or not
    * @param pathNodeKey the path class record
    * @param id optional DeweyID
    * @return the created node
    * @throws SirixIOException if an I/O error occurs
    */
-  AttributeNode createAttributeNode(@Nonnegative long parentKey, QNm name, byte[] value, @Nonnegative long pathNodeKey,
-      SirixDeweyID id);
+  AttributeNode createAttributeNode(@Nonnegative long parentKey, QNm name, byte[] value, boolean isCompressed,
+      @Nonnegative long pathNodeKey, SirixDeweyID id);
 
   /**
    * Create a {@link NamespaceNode}.
@@ -3,6 +3,7 @@ package org.sirix.access.trx.node.xml;
 import com.google.common.collect.HashBiMap;
 import com.google.common.hash.HashFunction;
 import org.brackit.xquery.atomic.QNm;
+import org.sirix.access.ResourceConfiguration;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexType;
 import org.sirix.index.path.summary.PathNode;
@@ -16,13 +17,12 @@ import org.sirix.node.xml.*;
 import org.sirix.page.PageKind;
 import org.sirix.page.PathSummaryPage;
 import org.sirix.settings.Fixed;
-import org.sirix.utils.Compression;
 import org.sirix.utils.NamePageHash;
+import org.sirix.utils.ValueCompressor;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
-import java.util.zip.Deflater;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -128,9 +128,7 @@ final class XmlNodeFactoryImpl implements XmlNodeFactory {
                                                   null,
                                                   revision,
                                                   id);
-    final boolean compression = isCompressed && value.length > 10;
-    final byte[] compressedValue = compression ? Compression.compress(value, Deflater.HUFFMAN_ONLY) : value;
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression);
+    final ValueNodeDelegate valDel = createValueNodeDelegate(nodeDel, value, isCompressed);
     final StructNodeDelegate structDel =
         new StructNodeDelegate(nodeDel, Fixed.NULL_NODE_KEY.getStandardProperty(), rightSibKey, leftSibKey, 0, 0);
     return pageTrx.createRecord(nodeDel.getNodeKey(), new TextNode(valDel, structDel), IndexType.DOCUMENT, -1);
@@ -138,7 +136,8 @@ final class XmlNodeFactoryImpl implements XmlNodeFactory {
 
   @Override
   public AttributeNode createAttributeNode(final @Nonnegative long parentKey, @Nonnull final QNm name,
-      @Nonnull final byte[] value, final @Nonnegative long pathNodeKey, final SirixDeweyID id) {
+      @Nonnull final byte[] value, final boolean isCompressed, final @Nonnegative long pathNodeKey,
+      final SirixDeweyID id) {
     final long revision = pageTrx.getRevisionNumber();
     final int uriKey = pageTrx.createNameKey(name.getNamespaceURI(), NodeKind.NAMESPACE);
     final int prefixKey =
@@ -153,7 +152,7 @@ final class XmlNodeFactoryImpl implements XmlNodeFactory {
                                                   revision,
                                                   id);
     final NameNodeDelegate nameDel = new NameNodeDelegate(nodeDel, uriKey, prefixKey, localNameKey, pathNodeKey);
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, value, false);
+    final ValueNodeDelegate valDel = createValueNodeDelegate(nodeDel, value, isCompressed);
 
     return pageTrx.createRecord(nodeDel.getNodeKey(),
                                 new AttributeNode(nodeDel, nameDel, valDel, name),
@@ -207,7 +206,7 @@ final class XmlNodeFactoryImpl implements XmlNodeFactory {
     final StructNodeDelegate structDel =
         new StructNodeDelegate(nodeDel, Fixed.NULL_NODE_KEY.getStandardProperty(), rightSibKey, leftSibKey, 0, 0);
     final NameNodeDelegate nameDel = new NameNodeDelegate(nodeDel, uriKey, prefixKey, localNameKey, pathNodeKey);
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, content, false);
+    final ValueNodeDelegate valDel = createValueNodeDelegate(nodeDel, content, isCompressed);
 
     return pageTrx.createRecord(nodeDel.getNodeKey(),
                                 new PINode(structDel, nameDel, valDel, pageTrx),
@@ -225,11 +224,28 @@ final class XmlNodeFactoryImpl implements XmlNodeFactory {
                                                   null,
                                                   revision,
                                                   id);
-    final boolean compression = isCompressed && value.length > 10;
-    final byte[] compressedValue = compression ? Compression.compress(value, Deflater.HUFFMAN_ONLY) : value;
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression);
+    final ValueNodeDelegate valDel = createValueNodeDelegate(nodeDel, value, isCompressed);
     final StructNodeDelegate structDel =
         new StructNodeDelegate(nodeDel, Fixed.NULL_NODE_KEY.getStandardProperty(), rightSibKey, leftSibKey, 0, 0);
     return pageTrx.createRecord(nodeDel.getNodeKey(), new CommentNode(valDel, structDel), IndexType.DOCUMENT, -1);
   }
+
+  /**
+   * Create a value node delegate, which compresses the value with the codec of the resource, if it exceeds the size
+   * threshold.
+   *
+   * @param nodeDel        the node delegate
+   * @param value          the uncompressed value
+   * @param useCompression determines if the value should be compressed or not
+   * @return the value node delegate
+   */
+  private ValueNodeDelegate createValueNodeDelegate(final NodeDelegate nodeDel, final byte[] value,
+      final boolean useCompression) {
+    final ResourceConfiguration resourceConfig = pageTrx.getResourceManager().getResourceConfig();
+    final ValueCompressor compressor = useCompression ? resourceConfig.getValueCompressor() : ValueCompressor.NONE;
+    final int threshold = resourceConfig.valueCompressionThreshold;
+    final boolean compression = compressor.shouldCompress(value, threshold);
+    final byte[] compressedValue = compression ? compressor.compress(value) : value;
+    return new ValueNodeDelegate(nodeDel, compressedValue, compression, compressor, threshold);
+  }
 }
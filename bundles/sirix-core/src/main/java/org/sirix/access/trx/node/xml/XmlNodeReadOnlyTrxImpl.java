@@ -45,6 +45,7 @@ import org.sirix.node.interfaces.DataRecord;
 import org.sirix.node.interfaces.StructNode;
 import org.sirix.node.interfaces.ValueNode;
 import org.sirix.node.interfaces.immutable.ImmutableNameNode;
+import org.sirix.node.interfaces.immutable.ImmutableNode;
 import org.sirix.node.interfaces.immutable.ImmutableValueNode;
 import org.sirix.node.interfaces.immutable.ImmutableXmlNode;
 import org.sirix.node.xml.*;
@@ -119,7 +120,7 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
     assertNotClosed();
 
     // Remember old node and fetch new one.
-    final ImmutableXmlNode oldNode = (ImmutableXmlNode) currentNode;
+    final ImmutableNode oldNode = currentNode;
     Optional<? extends DataRecord> newNode;
     try {
       // Immediately return node from item list if node key negative.
@@ -129,6 +130,9 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
         } else {
           newNode = Optional.empty();
         }
+      } else if (readFlyweightNode(nodeKey)) {
+        currentNode = flyweightNode;
+        return Move.moved(this);
       } else {
         newNode = getPageTransaction().getRecord(nodeKey, IndexType.DOCUMENT, -1);
       }
@@ -148,6 +152,7 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
   @Override
   public ImmutableXmlNode getNode() {
     assertNotClosed();
+    materializeCurrentNode();
 
     // $CASES-OMITTED$
     return switch (currentNode.getKind()) {
@@ -165,18 +170,23 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
   @Override
   public ImmutableNameNode getNameNode() {
     assertNotClosed();
+    materializeCurrentNode();
     return (ImmutableNameNode) currentNode;
   }
 
   @Override
   public ImmutableValueNode getValueNode() {
     assertNotClosed();
+    materializeCurrentNode();
     return (ImmutableValueNode) currentNode;
   }
 
   @Override
   public Move<? extends XmlNodeReadOnlyTrx> moveToAttribute(final int index) {
     assertNotClosed();
+    if (currentNode == flyweightNode) {
+      return flyweightNode.getAttributeCount() > index ? moveTo(flyweightNode.getAttributeKey(index)) : Move.notMoved();
+    }
     if (currentNode.getKind() == NodeKind.ELEMENT) {
       final ElementNode element = ((ElementNode) currentNode);
       if (element.getAttributeCount() > index) {
@@ -192,6 +202,9 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
   @Override
   public Move<? extends XmlNodeReadOnlyTrx> moveToNamespace(final int index) {
     assertNotClosed();
+    if (currentNode == flyweightNode) {
+      return flyweightNode.getNamespaceCount() > index ? moveTo(flyweightNode.getNamespaceKey(index)) : Move.notMoved();
+    }
     if (currentNode.getKind() == NodeKind.ELEMENT) {
       final ElementNode element = ((ElementNode) currentNode);
       if (element.getNamespaceCount() > index) {
@@ -207,25 +220,34 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
   @Override
   public QNm getName() {
     assertNotClosed();
+    if (currentNode == flyweightNode) {
+      return flyweightNode.isNameNode()
+          ? getName(flyweightNode.getURIKey(), flyweightNode.getPrefixKey(), flyweightNode.getLocalNameKey())
+          : null;
+    }
     if (currentNode instanceof NameNode) {
-      final String uri = pageReadOnlyTrx.getName(((NameNode) currentNode).getURIKey(), NodeKind.NAMESPACE);
-      final int prefixKey = ((NameNode) currentNode).getPrefixKey();
-      final String prefix = prefixKey == -1
-          ? ""
-          : pageReadOnlyTrx.getName(prefixKey, currentNode.getKind());
-      final int localNameKey = ((NameNode) currentNode).getLocalNameKey();
-      final String localName = localNameKey == -1
-          ? ""
-          : pageReadOnlyTrx.getName(localNameKey, currentNode.getKind());
-      return new QNm(uri, prefix, localName);
+      final NameNode node = (NameNode) currentNode;
+      return getName(node.getURIKey(), node.getPrefixKey(), node.getLocalNameKey());
     }
 
     return null;
   }
 
+  private QNm getName(final int uriKey, final int prefixKey, final int localNameKey) {
+    final String uri = pageReadOnlyTrx.getName(uriKey, NodeKind.NAMESPACE);
+    final String prefix = prefixKey == -1
+        ? ""
+        : pageReadOnlyTrx.getName(prefixKey, currentNode.getKind());
+    final String localName = localNameKey == -1
+        ? ""
+        : pageReadOnlyTrx.getName(localNameKey, currentNode.getKind());
+    return new QNm(uri, prefix, localName);
+  }
+
   @Override
   public String getType() {
     assertNotClosed();
+    materializeCurrentNode();
     return pageReadOnlyTrx.getName(((ImmutableXmlNode) currentNode).getTypeKey(), currentNode.getKind());
   }
 
@@ -280,6 +302,7 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
   @Override
   public Move<? extends XmlNodeReadOnlyTrx> moveToAttributeByName(final QNm name) {
     assertNotClosed();
+    materializeCurrentNode();
     if (currentNode.getKind() == NodeKind.ELEMENT) {
       final ElementNode element = ((ElementNode) currentNode);
       final Optional<Long> attrKey = element.getAttributeKeyByName(name);
@@ -313,6 +336,9 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
   @Override
   public int getAttributeCount() {
     assertNotClosed();
+    if (currentNode == flyweightNode) {
+      return flyweightNode.getAttributeCount();
+    }
     if (currentNode.getKind() == NodeKind.ELEMENT) {
       final ElementNode node = (ElementNode) currentNode;
       return node.getAttributeCount();
@@ -323,6 +349,9 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
   @Override
   public int getNamespaceCount() {
     assertNotClosed();
+    if (currentNode == flyweightNode) {
+      return flyweightNode.getNamespaceCount();
+    }
     if (currentNode.getKind() == NodeKind.ELEMENT) {
       final ElementNode node = (ElementNode) currentNode;
       return node.getNamespaceCount();
@@ -333,12 +362,18 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
   @Override
   public boolean isNameNode() {
     assertNotClosed();
+    if (currentNode == flyweightNode) {
+      return flyweightNode.isNameNode();
+    }
     return currentNode instanceof NameNode;
   }
 
   @Override
   public int getPrefixKey() {
     assertNotClosed();
+    if (currentNode == flyweightNode) {
+      return flyweightNode.getPrefixKey();
+    }
     if (currentNode instanceof NameNode) {
       return ((NameNode) currentNode).getPrefixKey();
     }
@@ -348,6 +383,9 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
   @Override
   public int getLocalNameKey() {
     assertNotClosed();
+    if (currentNode == flyweightNode) {
+      return flyweightNode.getLocalNameKey();
+    }
     if (currentNode instanceof NameNode) {
       return ((NameNode) currentNode).getLocalNameKey();
     }
@@ -357,18 +395,23 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
   @Override
   public int getTypeKey() {
     assertNotClosed();
+    materializeCurrentNode();
     return ((ImmutableXmlNode) currentNode).getTypeKey();
   }
 
   @Override
   public VisitResult acceptVisitor(final XmlNodeVisitor visitor) {
     assertNotClosed();
+    materializeCurrentNode();
     return ((ImmutableXmlNode) currentNode).acceptVisitor(visitor);
   }
 
   @Override
   public long getAttributeKey(final @Nonnegative int index) {
     assertNotClosed();
+    if (currentNode == flyweightNode) {
+      return flyweightNode.getKind() == NodeKind.ELEMENT ? flyweightNode.getAttributeKey(index) : -1;
+    }
     if (currentNode.getKind() == NodeKind.ELEMENT) {
       return ((ElementNode) currentNode).getAttributeKey(index);
     }
@@ -384,6 +427,9 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
   @Override
   public int getURIKey() {
     assertNotClosed();
+    if (currentNode == flyweightNode) {
+      return flyweightNode.getURIKey();
+    }
     if (currentNode instanceof NameNode) {
       return ((NameNode) currentNode).getURIKey();
     }
@@ -393,6 +439,7 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
   @Override
   public List<Long> getAttributeKeys() {
     assertNotClosed();
+    materializeCurrentNode();
     if (currentNode.getKind() == NodeKind.ELEMENT) {
       return ((ElementNode) currentNode).getAttributeKeys();
     }
@@ -402,6 +449,7 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
   @Override
   public List<Long> getNamespaceKeys() {
     assertNotClosed();
+    materializeCurrentNode();
     if (currentNode.getKind() == NodeKind.ELEMENT) {
       return ((ElementNode) currentNode).getNamespaceKeys();
     }
@@ -411,8 +459,8 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
   @Override
   public String getNamespaceURI() {
     assertNotClosed();
-    if (currentNode instanceof NameNode) {
-      return pageReadOnlyTrx.getName(((NameNode) currentNode).getURIKey(), NodeKind.NAMESPACE);
+    if (isNameNode()) {
+      return pageReadOnlyTrx.getName(getURIKey(), NodeKind.NAMESPACE);
     }
     return null;
   }
@@ -462,18 +510,19 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
   @Override
   public boolean hasAttributes() {
     assertNotClosed();
-    return currentNode.getKind() == NodeKind.ELEMENT && ((ElementNode) currentNode).getAttributeCount() > 0;
+    return getAttributeCount() > 0;
   }
 
   @Override
   public boolean hasNamespaces() {
     assertNotClosed();
-    return currentNode.getKind() == NodeKind.ELEMENT && ((ElementNode) currentNode).getNamespaceCount() > 0;
+    return getNamespaceCount() > 0;
   }
 
   @Override
   public SirixDeweyID getDeweyID() {
     assertNotClosed();
+    materializeCurrentNode();
     return ((ImmutableXmlNode) currentNode).getDeweyID();
   }
 
@@ -566,7 +615,9 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
 
     final String returnVal;
 
-    if (currentNode instanceof ValueNode) {
+    if (currentNode == flyweightNode) {
+      returnVal = flyweightNode.isValueNode() ? flyweightNode.getValue() : "";
+    } else if (currentNode instanceof ValueNode) {
       returnVal = new String(((ValueNode) currentNode).getRawValue(), Constants.DEFAULT_ENCODING);
     } else if (currentNode.getKind() == NodeKind.NAMESPACE) {
       returnVal = pageReadOnlyTrx.getName(((NamespaceNode) currentNode).getURIKey(), NodeKind.NAMESPACE);
@@ -585,7 +636,7 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
   @Override
   public int getNameCount(String name, @Nonnull NodeKind kind) {
     assertNotClosed();
-    if (currentNode instanceof NameNode) {
+    if (isNameNode()) {
       return pageReadOnlyTrx.getNameCount(NamePageHash.generateHashForString(name), kind);
     }
     return 0;
@@ -594,18 +645,25 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
   @Override
   public boolean isValueNode() {
     assertNotClosed();
+    if (currentNode == flyweightNode) {
+      return flyweightNode.isValueNode();
+    }
     return currentNode instanceof ValueNode;
   }
 
   @Override
   public BigInteger getHash() {
     assertNotClosed();
+    materializeCurrentNode();
     return currentNode.getHash();
   }
 
   @Override
   public byte[] getRawValue() {
     assertNotClosed();
+    if (currentNode == flyweightNode) {
+      return flyweightNode.isValueNode() ? flyweightNode.getRawValue() : null;
+    }
     if (currentNode instanceof ValueNode) {
       return ((ValueNode) currentNode).getRawValue();
     }
@@ -627,6 +685,7 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
 
   @Override
   public ImmutableXmlNode getCurrentNode() {
+    materializeCurrentNode();
     return (ImmutableXmlNode) currentNode;
   }
 }
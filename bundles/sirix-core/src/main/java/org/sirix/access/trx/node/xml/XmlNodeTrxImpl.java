@@ -27,6 +27,7 @@ import com.google.common.base.Preconditions;
 import org.brackit.xquery.atomic.QNm;
 import org.sirix.access.User;
 import org.sirix.access.trx.node.AfterCommitState;
+import org.sirix.access.trx.node.AsyncCommit;
 import org.sirix.access.trx.node.CommitCredentials;
 import org.sirix.access.trx.node.HashType;
 import org.sirix.access.trx.node.InternalResourceManager;
@@ -78,6 +79,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -148,6 +150,12 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
    */
   private final boolean buildPathSummary;
 
+  /**
+   * Determines if the transaction has been reverted to a former revision since the last commit, such that the changes
+   * of the next revision aren't known relative to the most recent revision.
+   */
+  private boolean isReverted;
+
   /**
    * {@link XmlNodeFactory} to be able to create nodes.
    */
@@ -1200,7 +1208,12 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
 
         final SirixDeweyID id = deweyIDManager.newAttributeID();
         final long elementKey = getCurrentNode().getNodeKey();
-        final AttributeNode node = nodeFactory.createAttributeNode(elementKey, name, attValue, pathNodeKey, id);
+        final AttributeNode node = nodeFactory.createAttributeNode(elementKey,
+                                                                   name,
+                                                                   attValue,
+                                                                   useTextCompression,
+                                                                   pathNodeKey,
+                                                                   id);
 
         final Node parentNode = pageTrx.prepareRecordForModification(node.getParentKey(), IndexType.DOCUMENT, -1);
         ((ElementNode) parentNode).insertAttribute(node.getNodeKey(), node.getPrefixKey() + node.getLocalNameKey());
@@ -1556,6 +1569,8 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
       // Reset modification counter.
       modificationCount = 0L;
 
+      isReverted = true;
+
       // Move to document root.
       moveToDocumentRoot();
 
@@ -1612,6 +1627,7 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
       final int revNumber = pageTrx.getUberPage().isBootstrap() ? 0 : revision - 1;
 
       final UberPage uberPage = pageTrx.rollback();
+      isReverted = false;
 
       // Remember succesfully committed uber page in resource manager.
       resourceManager.setLastCommittedUberPage(uberPage);
@@ -2252,6 +2268,19 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
 
       final UberPage uberPage = commitMessage == null ? pageTrx.commit() : pageTrx.commit(commitMessage);
 
+      // Remember the changed path nodes to derive the path summary of the revision from the previous one. The path
+      // summary of a reverted revision has to be rebuilt, as the path summary writer only knows the changes made
+      // after reverting.
+      if (buildPathSummary) {
+        if (isReverted) {
+          resourceManager.invalidatePathSummary(uberPage.getRevisionNumber());
+        } else {
+          resourceManager.setChangedPathNodeKeys(uberPage.getRevisionNumber(),
+                                                 pathSummaryWriter.getChangedPathNodeKeys());
+        }
+      }
+      isReverted = false;
+
       // Remember succesfully committed uber page in resource manager.
       resourceManager.setLastCommittedUberPage(uberPage);
 
@@ -2269,6 +2298,16 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
     return this;
   }
 
+  @Override
+  public CompletableFuture<UberPage> commitAsync(final String commitMessage) {
+    nodeReadOnlyTrx.assertNotClosed();
+
+    return AsyncCommit.commitAsync(resourceManager.getCommitExecutor(), () -> pageTrx, () -> {
+      commit(commitMessage);
+      return resourceManager.getLastCommittedUberPage();
+    });
+  }
+
   /**
    * Create new instances.
    *
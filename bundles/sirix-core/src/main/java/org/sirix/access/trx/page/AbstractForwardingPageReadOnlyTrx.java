@@ -62,6 +62,11 @@ public abstract class AbstractForwardingPageReadOnlyTrx
     return delegate().getRecord(key, indexType, index);
   }
 
+  @Override
+  public byte[] getSerializedRecord(long key, @Nonnull IndexType indexType, int index) {
+    return delegate().getSerializedRecord(key, indexType, index);
+  }
+
   @Override
   public CommitCredentials getCommitCredentials() {
     return delegate().getCommitCredentials();
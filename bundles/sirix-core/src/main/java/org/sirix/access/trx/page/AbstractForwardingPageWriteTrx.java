@@ -62,6 +62,11 @@ public abstract class AbstractForwardingPageWriteTrx extends AbstractForwardingP
     return delegate().commit();
   }
 
+  @Override
+  public PageTrx transferOwnership(Thread newOwner) {
+    return delegate().transferOwnership(newOwner);
+  }
+
   @Override
   public void commit(PageReference reference) {
     delegate().commit(reference);
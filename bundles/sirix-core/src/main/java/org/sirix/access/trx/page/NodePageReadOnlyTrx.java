@@ -48,6 +48,8 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -232,13 +234,33 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       };
 
       //noinspection unchecked
-      return (Optional<V>) page.map(thePage -> ((UnorderedKeyValuePage) thePage).getValue(nodeKey))
+      return (Optional<V>) page.map(thePage -> ((UnorderedKeyValuePage) thePage).getValue(nodeKey, this))
                                .flatMap(this::checkItemIfDeleted);
     }
 
     return Optional.empty();
   }
 
+  @Override
+  public byte[] getSerializedRecord(final long nodeKey, @Nonnull final IndexType indexType,
+      @Nonnegative final int index) {
+    checkNotNull(indexType);
+    assertNotClosed();
+
+    if (nodeKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      return null;
+    }
+
+    final Optional<Page> page =
+        getRecordPage(new IndexLogKey(indexType, pageKey(nodeKey, indexType), index, revisionNumber));
+
+    if (page.isEmpty()) {
+      return null;
+    }
+
+    return ((UnorderedKeyValuePage) page.get()).getSerializedValue(nodeKey);
+  }
+
   /**
    * Method to check if an {@link DataRecord} is deleted.
    *
@@ -397,7 +419,9 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       }
     }
 
-    // Load list of page "fragments" from persistent storage.
+    // Load list of page "fragments" from persistent storage. Only reconstructions are recorded in the statistics of
+    // the page, as pages found in the buffers above are read without combining any fragments.
+    final long reconstructionStart = System.nanoTime();
     final List<T> pages = getPageFragments(pageReferenceToRecordPage.get());
 
     if (pages.isEmpty()) {
@@ -408,6 +432,13 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     final VersioningType versioningApproach = resourceConfig.revisioningType;
     final Page completePage = versioningApproach.combineRecordPages(pages, mileStoneRevision, this);
 
+    resourceManager.getRecordPageStatistics()
+                   .recordRead(new RecordPageStatistics.PageKey(indexLogKey.getIndexType(),
+                                                                indexLogKey.getIndex(),
+                                                                indexLogKey.getRecordPageKey()),
+                               pages.size(),
+                               System.nanoTime() - reconstructionStart);
+
     if (trxIntentLog == null) {
       resourceBufferManager.getRecordPageCache().put(pageReferenceToRecordPage.get(), completePage);
       pageReferenceToRecordPage.get().setPage(completePage);
@@ -472,16 +503,30 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
   @SuppressWarnings("unchecked")
   private <K, V, T extends KeyValuePage<? extends K, ? extends V>> List<T> getPreviousPageFragments(
       final Collection<PageFragmentKey> pageFragments) {
-    return pageFragments.stream().map(pageFragmentKey -> {
-      if (pageFragmentKey.getRevision() == rootPage.getRevision()) {
-        return (T) pageReader.read(new PageReference().setKey(pageFragmentKey.getKey()), this);
-      } else {
-        try (final var pageReadOnlyTrx = resourceManager.beginPageReadOnlyTrx(pageFragmentKey.getRevision())) {
-          return (T) pageReadOnlyTrx.getReader()
-                                    .read(new PageReference().setKey(pageFragmentKey.getKey()), pageReadOnlyTrx);
-        }
+    // Issue all reads up front, such that the reader is able to fetch the fragments concurrently. Fragments of
+    // previous revisions are read through the shared reader of this transaction, as the page itself stores the
+    // revision it has been written in.
+    final List<CompletableFuture<? extends Page>> pageFragmentFutures =
+        pageFragments.stream()
+                     .map(pageFragmentKey -> pageReader.readAsync(new PageReference().setKey(pageFragmentKey.getKey()),
+                                                                  this))
+                     .collect(Collectors.toList());
+
+    return pageFragmentFutures.stream()
+                              .map(pageFragmentFuture -> (T) joinPageFragment(pageFragmentFuture))
+                              .sorted(Comparator.<T, Integer>comparing(KeyValuePage::getRevision).reversed())
+                              .collect(Collectors.toList());
+  }
+
+  private static Page joinPageFragment(final CompletableFuture<? extends Page> pageFragmentFuture) {
+    try {
+      return pageFragmentFuture.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof SirixIOException sirixIOException) {
+        throw sirixIOException;
       }
-    }).sorted(Comparator.<T, Integer>comparing(KeyValuePage::getRevision).reversed()).collect(Collectors.toList());
+      throw new SirixIOException(e.getCause());
+    }
   }
 
   /**
@@ -642,10 +687,9 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     if (!isClosed) {
       if (trxIntentLog == null) {
         pageReader.close();
-      }
-
-      if (resourceBufferManager instanceof BufferManagerImpl) {
-        ((BufferManagerImpl) resourceBufferManager).close();
+        // The buffered pages are shared with the other transactions of the resource and are keyed by their immutable
+        // offsets in the storage, thus they are only cleared once the buffer manager has been retired.
+        resourceManager.releaseBufferManager(resourceBufferManager);
       }
 
       if (resourceManager.getNodeReadTrxByTrxId(trxId).isEmpty()) {
@@ -124,6 +124,11 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
 
   private MostRecentPageContainer mostRecentPageContainer;
 
+  /**
+   * The pipeline, which writes the pages of a running commit, or {@code null}, if no commit is running.
+   */
+  private PageCommitPipeline commitPipeline;
+
   /**
    * Constructor.
    *
@@ -191,8 +196,9 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
           throw new SirixIOException("Cannot retrieve record from cache!");
         }
         record = oldRecord;
-        ((UnorderedKeyValuePage) cont.getModified()).setRecord(nodeKey, record);
       }
+      // The record is modified in place, thus its serialized form is discarded.
+      ((UnorderedKeyValuePage) cont.getModified()).setRecord(nodeKey, record);
 
       return (V) record;
     }
@@ -211,7 +217,7 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
       // $CASES-OMITTED$
       final long createdRecordKey = switch (indexType) {
         case DOCUMENT -> newRevisionRootPage.incrementAndGetMaxNodeKeyInDocumentIndex();
-        case CHANGED_NODES -> newRevisionRootPage.incrementAndGetMaxNodeKeyInRecordToRevisionsIndex() ;
+        case CHANGED_NODES -> newRevisionRootPage.incrementAndGetMaxNodeKeyInChangedNodesIndex();
         case RECORD_TO_REVISIONS -> newRevisionRootPage.incrementAndGetMaxNodeKeyInRecordToRevisionsIndex();
         case PATH_SUMMARY -> {
           final PathSummaryPage pathSummaryPage =
@@ -301,6 +307,12 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
     return null;
   }
 
+  @Override
+  public byte[] getSerializedRecord(final long key, @Nonnull final IndexType indexType, @Nonnegative final int index) {
+    // Records might have been modified in the transaction intent log, thus they are always deserialized.
+    return null;
+  }
+
   @Override
   public String getName(final int nameKey, @Nonnull final NodeKind nodeKind) {
     pageRtx.assertNotClosed();
@@ -342,10 +354,15 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
 
     // Recursively commit indirectly referenced pages and then write self.f
     page.commit(this);
-    storagePageReaderWriter.write(reference);
 
-    // Remove page reference.
-    reference.setPage(null);
+    if (commitPipeline == null) {
+      storagePageReaderWriter.write(reference);
+
+      // Remove page reference.
+      reference.setPage(null);
+    } else {
+      commitPipeline.enqueue(reference);
+    }
   }
 
   @Override
@@ -378,10 +395,17 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
       }
 
       // Recursively write indirectly referenced pages.
-      uberPage.commit(this);
+      commitPipeline = new PageCommitPipeline(storagePageReaderWriter, pageRtx.resourceManager.getThreadPool());
+      try {
+        uberPage.commit(this);
+        commitPipeline.flush();
+      } finally {
+        commitPipeline = null;
+      }
 
       uberPageReference.setPage(uberPage);
       storagePageReaderWriter.writeUberPageReference(uberPageReference);
+      storagePageReaderWriter.force();
       uberPageReference.setPage(null);
 
       final Path indexes = pageRtx.getResourceManager().getResourceConfig().resourcePath.resolve(ResourceConfiguration.ResourcePaths.INDEXES.getPath())
@@ -427,6 +451,12 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
     return commit((String) null);
   }
 
+  @Override
+  public PageTrx transferOwnership(final Thread newOwner) {
+    storagePageReaderWriter.transferOwnership(checkNotNull(newOwner));
+    return this;
+  }
+
   @Override
   public UberPage rollback() {
     pageRtx.assertNotClosed();
@@ -498,7 +528,7 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
         final UnorderedKeyValuePage modifyPage = new UnorderedKeyValuePage(pageRtx, completePage);
         pageContainer = PageContainer.getInstance(completePage, modifyPage);
       } else {
-        pageContainer = dereferenceRecordPageForModification(reference);
+        pageContainer = dereferenceRecordPageForModification(reference, recordPageKey, indexNumber, indexType);
       }
 
       assert pageContainer != null;
@@ -525,16 +555,43 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
   }
 
   /**
-   * Dereference record page reference.
+   * Dereference record page reference. A complete version of the page is written, if the read cost of the page
+   * crossed the configured threshold.
    *
-   * @param reference reference to leaf, that is the record page
+   * @param reference     reference to leaf, that is the record page
+   * @param recordPageKey the record page key
+   * @param indexNumber   the index number
+   * @param indexType     the index type
    * @return dereferenced page
    */
-  private PageContainer dereferenceRecordPageForModification(final PageReference reference) {
+  private PageContainer dereferenceRecordPageForModification(final PageReference reference,
+      final @Nonnegative long recordPageKey, final int indexNumber, final IndexType indexType) {
+    final ResourceConfiguration resourceConfig = pageRtx.resourceManager.getResourceConfig();
+    final RecordPageStatistics statistics = pageRtx.resourceManager.getRecordPageStatistics();
+    final var pageKey = new RecordPageStatistics.PageKey(indexType, indexNumber, recordPageKey);
+    final boolean isFullDumpForced =
+        statistics.isFullDumpRequired(pageKey, resourceConfig.adaptiveMilestoneThreshold);
+
+    final long reconstructionStart = System.nanoTime();
     final List<UnorderedKeyValuePage> pageFragments = pageRtx.getPageFragments(reference);
-    final VersioningType revisioning = pageRtx.resourceManager.getResourceConfig().revisioningType;
-    final int mileStoneRevision = pageRtx.resourceManager.getResourceConfig().numberOfRevisionsToRestore;
-    return revisioning.combineRecordPagesForModification(pageFragments, mileStoneRevision, pageRtx, reference, log);
+    final VersioningType revisioning = resourceConfig.revisioningType;
+    final int mileStoneRevision = resourceConfig.numberOfRevisionsToRestore;
+    final PageContainer pageContainer = revisioning.combineRecordPagesForModification(pageFragments,
+                                                                                      mileStoneRevision,
+                                                                                      pageRtx,
+                                                                                      reference,
+                                                                                      log,
+                                                                                      isFullDumpForced);
+
+    // The fragments have been combined just like for a read, thus they add to the read cost of the page.
+    statistics.recordRead(pageKey, pageFragments.size(), System.nanoTime() - reconstructionStart);
+
+    // The page to write so far only contains the records, which are carried over from the previous versions.
+    statistics.recordWrite(pageKey,
+                           reference.getPageFragments().size() + 1,
+                           ((KeyValuePage<?, ?>) pageContainer.getModified()).size(),
+                           isFullDumpForced);
+    return pageContainer;
   }
 
   @Override
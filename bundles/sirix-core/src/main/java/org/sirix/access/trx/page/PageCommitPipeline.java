@@ -0,0 +1,149 @@
+package org.sirix.access.trx.page;
+
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.Writer;
+import org.sirix.page.PageReference;
+import org.sirix.page.interfaces.KeyValuePage;
+import org.sirix.page.interfaces.Page;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Writes the pages of a commit. Pages are enqueued in post-order, that is children before their parents. Record pages
+ * are serialized and compressed on a worker pool as soon as they are enqueued, as they don't depend on the storage
+ * keys of other pages of the commit. All pages are appended in the order they have been enqueued through the single
+ * storage writer, such that all other pages are serialized once the keys of their children are known. At most a
+ * bounded number of pages is pending, before the oldest pages are written. A page, whose serialization hasn't been
+ * started by the worker pool once it has to be written, is serialized by the committing thread, such that a commit,
+ * which runs on the worker pool itself, doesn't wait for a free worker.
+ *
+ * @author Johannes Lichtenberger
+ */
+final class PageCommitPipeline {
+
+  /**
+   * Number of pending pages for each available processor.
+   */
+  private static final int PENDING_PAGES_PER_PROCESSOR = 8;
+
+  /**
+   * The storage writer.
+   */
+  private final Writer writer;
+
+  /**
+   * The worker pool to serialize record pages.
+   */
+  private final Executor executor;
+
+  /**
+   * The maximum number of pending pages.
+   */
+  private final int maxPendingPages;
+
+  /**
+   * The pending pages in the order they have to be written.
+   */
+  private final Deque<PendingPage> pendingPages;
+
+  /**
+   * The references of the pending pages.
+   */
+  private final Set<PageReference> pendingReferences;
+
+  /**
+   * Constructor.
+   *
+   * @param writer   the storage writer
+   * @param executor the worker pool to serialize record pages
+   */
+  PageCommitPipeline(final Writer writer, final Executor executor) {
+    this.writer = checkNotNull(writer);
+    this.executor = checkNotNull(executor);
+    maxPendingPages = PENDING_PAGES_PER_PROCESSOR * Runtime.getRuntime().availableProcessors();
+    pendingPages = new ArrayDeque<>(maxPendingPages + 1);
+    pendingReferences = Collections.newSetFromMap(new IdentityHashMap<>());
+  }
+
+  /**
+   * Enqueue the page of a reference, whose children have been enqueued before.
+   *
+   * @param reference the reference of the page to write
+   */
+  void enqueue(final PageReference reference) {
+    final Page page = reference.getPage();
+    assert page != null;
+
+    final FutureTask<byte[]> serializedPage;
+    if (page instanceof KeyValuePage<?, ?> keyValuePage && !hasPendingReferences(keyValuePage)) {
+      serializedPage = new FutureTask<>(() -> writer.serializePage(page));
+      executor.execute(serializedPage);
+    } else {
+      serializedPage = null;
+    }
+
+    pendingPages.addLast(new PendingPage(reference, serializedPage));
+    pendingReferences.add(reference);
+
+    while (pendingPages.size() > maxPendingPages) {
+      writeOldestPage();
+    }
+  }
+
+  /**
+   * Write all pending pages.
+   */
+  void flush() {
+    while (!pendingPages.isEmpty()) {
+      writeOldestPage();
+    }
+  }
+
+  private boolean hasPendingReferences(final KeyValuePage<?, ?> page) {
+    return page.referenceEntrySet().stream().anyMatch(entry -> pendingReferences.contains(entry.getValue()));
+  }
+
+  private void writeOldestPage() {
+    final PendingPage pendingPage = pendingPages.removeFirst();
+    final PageReference reference = pendingPage.reference();
+
+    final byte[] serializedPage = pendingPage.serializedPage() == null
+        ? writer.serializePage(reference.getPage())
+        : join(pendingPage.serializedPage());
+
+    writer.write(reference, serializedPage);
+    pendingReferences.remove(reference);
+
+    // Remove page reference.
+    reference.setPage(null);
+  }
+
+  private static byte[] join(final FutureTask<byte[]> serializedPage) {
+    // Serializes the page in the current thread, if no worker has started to serialize it so far.
+    serializedPage.run();
+
+    try {
+      return serializedPage.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SirixIOException(e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new SirixIOException(e.getCause());
+    }
+  }
+
+  private record PendingPage(PageReference reference, FutureTask<byte[]> serializedPage) {
+  }
+}
@@ -0,0 +1,208 @@
+package org.sirix.access.trx.page;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.sirix.index.IndexType;
+
+import javax.annotation.Nonnegative;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Statistics about the reconstruction and the writes of record pages, collected per resource.
+ * <p>
+ * Reading a record page from the storage means reading and combining the fragments of the page, which have been
+ * written by the versioning approach. The read cost of a page is the number of fragments read in addition to the most
+ * recent one, summed up over all reconstructions since a complete version of the page has been written, including the
+ * reconstructions of write transactions, which modify the page. Pages served from the buffers aren't reconstructed and
+ * therefore don't add to the read cost. Once the read cost of a page crosses a threshold, the next write of the page
+ * writes a complete version (a milestone for this page), such that frequently read pages stay cheap to reconstruct,
+ * whereas rarely read pages keep the space savings of the versioning approach.
+ * </p>
+ * <p>
+ * Statistics are kept in memory for a bounded number of recently used pages. Statistics of evicted pages are lost,
+ * which is fine, as such pages obviously aren't read frequently.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RecordPageStatistics {
+
+  /**
+   * The maximum number of pages, for which statistics are kept.
+   */
+  private static final int MAX_NUMBER_OF_PAGES = 1 << 16;
+
+  /**
+   * Identifies a record page.
+   */
+  public record PageKey(IndexType indexType, int index, long recordPageKey) {
+  }
+
+  /**
+   * Immutable view of the statistics of a record page.
+   *
+   * @param reads                   the number of reconstructions of the page from the storage
+   * @param fragmentsRead           the total number of fragments read
+   * @param reconstructionNanos     the total time spent reading and combining the fragments in nanoseconds
+   * @param lastFragmentChainLength the number of fragments, which have to be read to reconstruct the most recent
+   *                                version of the page
+   * @param readCost                the number of fragments read in addition to the most recent one since a complete
+   *                                version of the page has been written
+   * @param writes                  the number of versions written
+   * @param carriedOverRecords      the total number of unchanged records, which had to be written again by the
+   *                                versioning approach
+   * @param adaptiveFullDumps       the number of complete versions written due to the read cost
+   */
+  public record PageStatistics(long reads, long fragmentsRead, long reconstructionNanos, int lastFragmentChainLength,
+      long readCost, long writes, long carriedOverRecords, long adaptiveFullDumps) {
+    /**
+     * Get the average number of fragments read per reconstruction.
+     *
+     * @return the average fragment chain length
+     */
+    public double averageFragmentChainLength() {
+      return reads == 0 ? 0 : (double) fragmentsRead / reads;
+    }
+
+    /**
+     * Get the average time of a reconstruction in nanoseconds.
+     *
+     * @return the average reconstruction time
+     */
+    public double averageReconstructionNanos() {
+      return reads == 0 ? 0 : (double) reconstructionNanos / reads;
+    }
+
+    /**
+     * Get the write amplification, that is the average number of unchanged records written per version of the page.
+     *
+     * @return the write amplification
+     */
+    public double writeAmplification() {
+      return writes == 0 ? 0 : (double) carriedOverRecords / writes;
+    }
+  }
+
+  /**
+   * Mutable statistics of a single page.
+   */
+  private static final class Entry {
+    private long reads;
+
+    private long fragmentsRead;
+
+    private long reconstructionNanos;
+
+    private int lastFragmentChainLength;
+
+    private long readCost;
+
+    private long writes;
+
+    private long carriedOverRecords;
+
+    private long adaptiveFullDumps;
+
+    synchronized PageStatistics snapshot() {
+      return new PageStatistics(reads,
+                                fragmentsRead,
+                                reconstructionNanos,
+                                lastFragmentChainLength,
+                                readCost,
+                                writes,
+                                carriedOverRecords,
+                                adaptiveFullDumps);
+    }
+  }
+
+  /**
+   * The statistics per page.
+   */
+  private final Cache<PageKey, Entry> pages;
+
+  /**
+   * Constructor.
+   */
+  public RecordPageStatistics() {
+    pages = Caffeine.newBuilder().maximumSize(MAX_NUMBER_OF_PAGES).build();
+  }
+
+  /**
+   * Record the reconstruction of a page from the storage.
+   *
+   * @param key                 the page
+   * @param numberOfFragments   the number of fragments read
+   * @param reconstructionNanos the time spent reading and combining the fragments in nanoseconds
+   */
+  public void recordRead(final PageKey key, final @Nonnegative int numberOfFragments,
+      final @Nonnegative long reconstructionNanos) {
+    checkArgument(numberOfFragments > 0, "At least one fragment must have been read!");
+    final Entry entry = getEntry(key);
+    synchronized (entry) {
+      entry.reads++;
+      entry.fragmentsRead += numberOfFragments;
+      entry.reconstructionNanos += reconstructionNanos;
+      entry.lastFragmentChainLength = numberOfFragments;
+      entry.readCost += numberOfFragments - 1;
+    }
+  }
+
+  /**
+   * Record the write of a new version of a page.
+   *
+   * @param key                 the page
+   * @param fragmentChainLength the number of fragments, which have to be read to reconstruct the new version
+   * @param carriedOverRecords  the number of unchanged records, which are written again by the versioning approach
+   * @param isAdaptiveFullDump  {@code true}, if a complete version is written due to the read cost of the page
+   */
+  public void recordWrite(final PageKey key, final @Nonnegative int fragmentChainLength,
+      final @Nonnegative int carriedOverRecords, final boolean isAdaptiveFullDump) {
+    final Entry entry = getEntry(key);
+    synchronized (entry) {
+      entry.writes++;
+      entry.carriedOverRecords += carriedOverRecords;
+      entry.lastFragmentChainLength = fragmentChainLength;
+      if (isAdaptiveFullDump) {
+        entry.adaptiveFullDumps++;
+        entry.readCost = 0;
+      }
+    }
+  }
+
+  /**
+   * Determines if the next version of a page should be written completely, as its read cost crossed the threshold.
+   *
+   * @param key       the page
+   * @param threshold the read cost threshold ({@code 0}, if complete versions shouldn't be written adaptively)
+   * @return {@code true}, if a complete version should be written, {@code false} otherwise
+   */
+  public boolean isFullDumpRequired(final PageKey key, final @Nonnegative int threshold) {
+    if (threshold <= 0) {
+      return false;
+    }
+    final Entry entry = pages.getIfPresent(checkNotNull(key));
+    if (entry == null) {
+      return false;
+    }
+    synchronized (entry) {
+      return entry.lastFragmentChainLength > 1 && entry.readCost >= threshold;
+    }
+  }
+
+  /**
+   * Get the statistics of a page.
+   *
+   * @param key the page
+   * @return the statistics, if any have been collected
+   */
+  public Optional<PageStatistics> getStatistics(final PageKey key) {
+    return Optional.ofNullable(pages.getIfPresent(checkNotNull(key))).map(Entry::snapshot);
+  }
+
+  private Entry getEntry(final PageKey key) {
+    return pages.get(checkNotNull(key), unused -> new Entry());
+  }
+}
@@ -0,0 +1,264 @@
+package org.sirix.access.trx.page;
+
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.access.trx.node.CompactionOptions;
+import org.sirix.access.trx.node.InternalResourceManager;
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.Reader;
+import org.sirix.io.Writer;
+import org.sirix.page.OverflowPage;
+import org.sirix.page.PageReference;
+import org.sirix.page.RevisionRootPage;
+import org.sirix.page.UberPage;
+import org.sirix.page.interfaces.KeyValuePage;
+import org.sirix.page.interfaces.Page;
+import org.sirix.settings.Constants;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Copies the most recent state of a resource into a new storage, whereby the record pages of each retained revision
+ * are written as complete pages and the pages of pruned revisions are dropped.
+ * <p>
+ * Pages, which are shared amongst revisions, are copied once. The revisions keep their numbers and timestamps. The
+ * revision root pages of pruned revisions aren't copied, such that pruned revisions can't be opened anymore.
+ * </p>
+ * <p>
+ * The writer must not be used concurrently, that is no transaction must commit, while the resource is compacted.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ResourceCompactor {
+
+  /**
+   * The new key and hash of a page, which has already been copied.
+   */
+  private record CopiedPage(long key, byte[] hash) {
+  }
+
+  /**
+   * The resource manager of the resource to compact.
+   */
+  private final InternalResourceManager<?, ?> resourceManager;
+
+  /**
+   * Determines which revisions are retained.
+   */
+  private final CompactionOptions options;
+
+  /**
+   * Reads the pages from the current storage.
+   */
+  private final Reader reader;
+
+  /**
+   * Writes the pages to the new storage.
+   */
+  private final Writer writer;
+
+  /**
+   * The pages copied so far, mapped from the key in the current storage.
+   */
+  private final Map<Long, CopiedPage> copiedPages;
+
+  /**
+   * The most recent revision of the resource.
+   */
+  private int mostRecentRevision;
+
+  /**
+   * The next revision, for which an entry in the revisions offset file has to be written.
+   */
+  private int nextRevision;
+
+  /**
+   * Determines if the changes of the revisions pruned since the last retained revision are indexed.
+   */
+  private boolean areChangedNodesOfPrunedRevisionsIndexed;
+
+  /**
+   * Constructor.
+   *
+   * @param resourceManager the resource manager of the resource to compact
+   * @param options         determines which revisions are retained
+   * @param reader          reads the pages from the current storage
+   * @param writer          writes the pages to the new storage
+   */
+  public ResourceCompactor(final InternalResourceManager<?, ?> resourceManager, final CompactionOptions options,
+      final Reader reader, final Writer writer) {
+    this.resourceManager = checkNotNull(resourceManager);
+    this.options = checkNotNull(options);
+    this.reader = checkNotNull(reader);
+    this.writer = checkNotNull(writer);
+    copiedPages = new HashMap<>();
+  }
+
+  /**
+   * Compact the resource.
+   *
+   * @return the uber page written to the new storage
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public UberPage compact() {
+    final PageReference uberPageReference = reader.readUberPageReference();
+    final UberPage uberPage = (UberPage) uberPageReference.getPage();
+    mostRecentRevision = uberPage.getRevisionNumber();
+    nextRevision = 0;
+    areChangedNodesOfPrunedRevisionsIndexed = true;
+
+    copyRevisionTree(uberPage.getIndirectPageReference());
+    writePrunedRevisions(mostRecentRevision + 1);
+
+    if (nextRevision != mostRecentRevision + 1) {
+      throw new SirixIOException("The revision tree doesn't contain all revisions up to " + mostRecentRevision + ".");
+    }
+
+    // The uber pages written before the compaction don't exist in the new storage.
+    uberPage.setPreviousUberPageKey(Constants.NULL_ID_LONG);
+
+    final var newUberPageReference = new PageReference();
+    newUberPageReference.setPage(uberPage);
+    writer.writeUberPageReference(newUberPageReference);
+    writer.force();
+
+    return uberPage;
+  }
+
+  private void copyRevisionTree(final PageReference reference) {
+    if (reference == null || reference.getKey() == Constants.NULL_ID_LONG) {
+      return;
+    }
+
+    final Page page = reader.read(reference, null);
+
+    if (page instanceof RevisionRootPage revisionRootPage) {
+      copyRevision(reference, revisionRootPage);
+      return;
+    }
+
+    for (final PageReference childReference : page.getReferences()) {
+      copyRevisionTree(childReference);
+    }
+
+    write(reference, page);
+  }
+
+  private void copyRevision(final PageReference reference, final RevisionRootPage revisionRootPage) {
+    final int revision = revisionRootPage.getRevision();
+    writePrunedRevisions(revision);
+
+    if (options.isRetained(revision, mostRecentRevision)) {
+      try (final NodePageReadOnlyTrx pageRtx = (NodePageReadOnlyTrx) resourceManager.beginPageReadOnlyTrx(revision)) {
+        for (final PageReference childReference : revisionRootPage.getReferences()) {
+          copy(childReference, pageRtx);
+        }
+
+        // The changes of the pruned revisions are reported for the next retained revision.
+        revisionRootPage.setChangedNodesIndexed(
+            revisionRootPage.areChangedNodesIndexed() && areChangedNodesOfPrunedRevisionsIndexed);
+        areChangedNodesOfPrunedRevisionsIndexed = true;
+
+        // Appends the entry of the revision to the revisions offset file.
+        write(reference, revisionRootPage);
+      }
+    } else {
+      areChangedNodesOfPrunedRevisionsIndexed &= revisionRootPage.areChangedNodesIndexed();
+      writer.writePrunedRevision(revisionRootPage.getRevisionTimestamp());
+      reference.setKey(Constants.NULL_ID_LONG);
+      reference.setHash(null);
+      reference.setPageFragments(new ArrayList<>());
+    }
+
+    nextRevision = revision + 1;
+  }
+
+  /**
+   * Write the entries of revisions, which have already been pruned by a previous compaction.
+   *
+   * @param untilRevision the revision up to which (exclusive) entries are written
+   */
+  private void writePrunedRevisions(final int untilRevision) {
+    for (; nextRevision < untilRevision; nextRevision++) {
+      writer.writePrunedRevision(reader.readRevisionTimestamp(nextRevision));
+    }
+  }
+
+  private void copy(final PageReference reference, final NodePageReadOnlyTrx pageRtx) {
+    if (reference == null || reference.getKey() == Constants.NULL_ID_LONG) {
+      return;
+    }
+
+    final CopiedPage copiedPage = copiedPages.get(reference.getKey());
+
+    if (copiedPage != null) {
+      reference.setKey(copiedPage.key());
+      reference.setHash(copiedPage.hash());
+      reference.setPageFragments(new ArrayList<>());
+      return;
+    }
+
+    final Page page = reader.read(reference, pageRtx);
+
+    if (page instanceof KeyValuePage<?, ?> keyValuePage) {
+      write(reference, combineFragments(reference, keyValuePage, pageRtx));
+    } else if (page instanceof OverflowPage) {
+      write(reference, page);
+    } else {
+      for (final PageReference childReference : page.getReferences()) {
+        copy(childReference, pageRtx);
+      }
+      write(reference, page);
+    }
+  }
+
+  /**
+   * Combine the fragments of a record page into a complete page and copy the overflow pages referenced by it.
+   *
+   * @param reference the reference to the record page
+   * @param page      the most recent fragment of the record page
+   * @param pageRtx   the page transaction of the revision, which is copied
+   * @return the complete record page
+   */
+  private <K, V, T extends KeyValuePage<K, V>> T combineFragments(final PageReference reference, final T page,
+      final NodePageReadOnlyTrx pageRtx) {
+    final T completePage;
+
+    if (reference.getPageFragments().isEmpty()) {
+      completePage = page;
+    } else {
+      final List<T> pageFragments = pageRtx.getPageFragments(reference);
+      final ResourceConfiguration resourceConfig = resourceManager.getResourceConfig();
+      completePage = resourceConfig.revisioningType.combineRecordPages(pageFragments,
+                                                                       resourceConfig.numberOfRevisionsToRestore,
+                                                                       pageRtx);
+    }
+
+    final List<PageReference> overflowReferences =
+        completePage.referenceEntrySet().stream().map(Map.Entry::getValue).collect(Collectors.toList());
+
+    for (final PageReference overflowReference : overflowReferences) {
+      copy(overflowReference, pageRtx);
+    }
+
+    return completePage;
+  }
+
+  private void write(final PageReference reference, final Page page) {
+    final var newReference = new PageReference();
+    newReference.setPage(page);
+    writer.write(newReference);
+
+    copiedPages.put(reference.getKey(), new CopiedPage(newReference.getKey(), newReference.getHash()));
+
+    reference.setKey(newReference.getKey());
+    reference.setHash(newReference.getHash());
+    reference.setPageFragments(new ArrayList<>());
+  }
+}
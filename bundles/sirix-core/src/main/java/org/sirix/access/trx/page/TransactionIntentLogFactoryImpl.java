@@ -31,14 +31,8 @@ import org.sirix.access.ResourceConfiguration;
 import org.sirix.cache.PersistentFileCache;
 import org.sirix.cache.TransactionIntentLog;
 import org.sirix.io.bytepipe.ByteHandlePipeline;
-import org.sirix.io.file.FileWriter;
 import org.sirix.page.PagePersister;
-import org.sirix.page.SerializationType;
 
-import java.io.IOException;
-import java.io.RandomAccessFile;
-import java.io.UncheckedIOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 
 /**
@@ -59,23 +53,10 @@ final class TransactionIntentLogFactoryImpl implements TransactionIntentLogFacto
                                        .resolve(ResourceConfiguration.ResourcePaths.TRANSACTION_INTENT_LOG.getPath())
                                        .resolve("intent-log");
 
-    try {
-      if (Files.exists(logFile)) {
-        Files.delete(logFile);
-        Files.createFile(logFile);
-      }
+    final PersistentFileCache persistentFileCache =
+        new PersistentFileCache(logFile, new ByteHandlePipeline(resourceConfig.byteHandlePipeline),
+                                new PagePersister());
 
-      final RandomAccessFile file = new RandomAccessFile(logFile.toFile(), "rw");
-
-      final FileWriter fileWriter = new FileWriter(file, null,
-          new ByteHandlePipeline(resourceConfig.byteHandlePipeline), SerializationType.TRANSACTION_INTENT_LOG,
-          new PagePersister());
-
-      final PersistentFileCache persistentFileCache = new PersistentFileCache(fileWriter);
-
-      return new TransactionIntentLog(persistentFileCache, 1 << 19);
-    } catch (final IOException e) {
-      throw new UncheckedIOException(e);
-    }
+    return new TransactionIntentLog(persistentFileCache, 1 << 19);
   }
 }
@@ -0,0 +1,15 @@
+package org.sirix.api;
+
+import org.sirix.diff.DiffFactory.DiffType;
+
+/**
+ * A node, which has been changed in a revision, as stored in the changed nodes index of the revision.
+ *
+ * @param revision the revision the node has been changed in
+ * @param nodeKey  the key of the changed node
+ * @param diffType the kind of the change, that is {@link DiffType#INSERTED}, {@link DiffType#UPDATED} or
+ *                 {@link DiffType#DELETED}
+ * @author Johannes Lichtenberger
+ */
+public record ChangedNode(int revision, long nodeKey, DiffType diffType) {
+}
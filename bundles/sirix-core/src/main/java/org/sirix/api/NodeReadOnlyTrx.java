@@ -194,4 +194,30 @@ public interface NodeReadOnlyTrx extends AutoCloseable {
    * @return the DeweyID of the current node
    */
   SirixDeweyID getDeweyID();
+
+  /**
+   * Determines if the flyweight mode is supported, that is the transaction isn't able to modify nodes and the records
+   * of the resource are serialized in a format, which flyweight nodes are able to read.
+   *
+   * @return {@code true}, if the flyweight mode is supported, {@code false} otherwise
+   */
+  boolean isFlyweightModeSupported();
+
+  /**
+   * Enable or disable the flyweight mode, in which the transactional cursor reads the fields of the nodes it moves to
+   * directly from the serialized records, instead of deserializing a node object for each node. Nodes, which are
+   * requested as a whole (for instance through a visitor), are deserialized on demand.
+   *
+   * @param enabled {@code true} to enable the flyweight mode, {@code false} to disable it
+   * @throws IllegalStateException if the flyweight mode is enabled, but not {@link #isFlyweightModeSupported()
+   *                               supported}
+   */
+  void setFlyweightMode(boolean enabled);
+
+  /**
+   * Determines if the flyweight mode is enabled.
+   *
+   * @return {@code true}, if the flyweight mode is enabled, {@code false} otherwise
+   */
+  boolean isFlyweightMode();
 }
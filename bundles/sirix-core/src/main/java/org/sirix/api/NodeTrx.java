@@ -6,10 +6,13 @@ import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixIOException;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.interfaces.DataRecord;
+import org.sirix.page.UberPage;
 import org.sirix.page.UnorderedKeyValuePage;
 
 import javax.annotation.Nonnegative;
+import javax.annotation.Nullable;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface NodeTrx extends NodeReadOnlyTrx, AutoCloseable {
 
@@ -32,6 +35,27 @@ public interface NodeTrx extends NodeReadOnlyTrx, AutoCloseable {
    */
   NodeTrx commit(String commitMessage);
 
+  /**
+   * Commit all modifications of the exclusive write transaction asynchronously on the commit executor of the resource
+   * manager. The transaction must not be used until the returned future has been completed.
+   *
+   * @return a future, which is completed with the {@link UberPage} of the new revision once it has been committed
+   */
+  default CompletableFuture<UberPage> commitAsync() {
+    return commitAsync(null);
+  }
+
+  /**
+   * Commit all modifications of the exclusive write transaction asynchronously on the commit executor of the resource
+   * manager. The commit runs through the same path as {@link #commit(String)}, that is the hooks are executed and the
+   * transaction is locked while committing. The transaction must not be used until the returned future has been
+   * completed.
+   *
+   * @param commitMessage message of the commit (might be {@code null})
+   * @return a future, which is completed with the {@link UberPage} of the new revision once it has been committed
+   */
+  CompletableFuture<UberPage> commitAsync(@Nullable String commitMessage);
+
   /**
    * Rollback all modifications of the exclusive write transaction.
    *
@@ -61,6 +61,18 @@ public interface PageReadOnlyTrx extends AutoCloseable {
    */
   <K, V> Optional<V> getRecord(@Nonnull K key, @Nonnull IndexType indexType, @Nonnegative int index);
 
+  /**
+   * Get the serialized form of a record from persistent storage without deserializing it.
+   *
+   * @param key       the unique record-ID
+   * @param indexType the index type
+   * @param index     the index number
+   * @return the serialized record, or {@code null}, if the record is not available in its serialized form, for instance
+   * because it has been modified or is stored in an overflow page
+   * @throws SirixIOException if an I/O error occurred
+   */
+  byte[] getSerializedRecord(long key, @Nonnull IndexType indexType, @Nonnegative int index);
+
   /**
    * Current reference to actual revision-root page.
    *
@@ -110,6 +110,16 @@ public interface PageTrx extends PageReadOnlyTrx {
    */
   UberPage commit(String commitMessage);
 
+  /**
+   * Hand the resources of the transaction, which are confined to the thread, which has created them (for instance
+   * memory mapped segments of the storage), over to another thread, which continues to use the transaction. Must be
+   * invoked by the current owner.
+   *
+   * @param newOwner the thread, which continues to use the transaction
+   * @return this page transaction instance
+   */
+  PageTrx transferOwnership(Thread newOwner);
+
   /**
    * Committing a {@link PageTrx}. This method is recursively invoked by all {@link PageReference}s.
    *
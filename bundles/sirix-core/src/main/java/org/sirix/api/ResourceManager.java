@@ -24,16 +24,14 @@ package org.sirix.api;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.User;
 import org.sirix.access.trx.node.AfterCommitState;
+import org.sirix.access.trx.node.CompactionOptions;
 import org.sirix.access.trx.node.IndexController;
 import org.sirix.access.trx.node.xml.XmlIndexController;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.api.xml.XmlNodeTrx;
-import org.sirix.cache.RBIndexKey;
-import org.sirix.cache.Cache;
 import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixThreadedException;
 import org.sirix.exception.SirixUsageException;
-import org.sirix.index.redblacktree.RBNode;
 import org.sirix.index.path.summary.PathSummaryReader;
 
 import javax.annotation.Nonnegative;
@@ -42,7 +40,9 @@ import java.nio.file.Path;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -96,6 +96,29 @@ public interface ResourceManager<R extends NodeReadOnlyTrx & NodeCursor, W exten
    */
   List<RevisionInfo> getHistory(int fromRevision, int toRevision);
 
+  /**
+   * Get the nodes, which have been changed in the given revisions, as recorded in the changed nodes index of each
+   * revision. The stream is lazily populated and has to be closed.
+   *
+   * @param fromRevision first revision (must not be bigger than {@code toRevision})
+   * @param toRevision   last revision (must not be lower than {@code fromRevision})
+   * @return the changed nodes, ordered by revision
+   * @throws SirixUsageException if the changes of a revision aren't indexed (see {@link
+   *                             #areChangedNodesIndexed(int, int)})
+   */
+  Stream<ChangedNode> getChangedNodes(int fromRevision, int toRevision);
+
+  /**
+   * Determines if the changes of all given revisions are stored in the changed nodes index. The changes of revisions
+   * of XML resources, of revisions committed before the index has been maintained and of revisions committed after
+   * reverting to a former revision aren't indexed.
+   *
+   * @param fromRevision first revision (must not be bigger than {@code toRevision})
+   * @param toRevision   last revision (must not be lower than {@code fromRevision})
+   * @return {@code true}, if the changes of all revisions are indexed, {@code false} otherwise
+   */
+  boolean areChangedNodesIndexed(int fromRevision, int toRevision);
+
   /**
    * Get the single node writer if available, wrapped in an {@link Optional}.
    *
@@ -283,13 +306,30 @@ public interface ResourceManager<R extends NodeReadOnlyTrx & NodeCursor, W exten
   PathSummaryReader openPathSummary();
 
   /**
-   * Get the revision number, which was committed at the closest time to the given point in time.
+   * Get the revision number, which was committed at the closest time to the given point in time. If the revision has
+   * been pruned by a compaction, the nearest retained revision before it is returned.
    *
    * @param pointInTime the point in time
-   * @return the revision number, which was committed at the closest time to the given point in time.
+   * @return the number of the retained revision, which was committed at the closest time to the given point in time.
    */
   int getRevisionNumber(@Nonnull Instant pointInTime);
 
+  /**
+   * Compact the data files of the resource in the background. The record pages of all retained revisions are written
+   * as complete pages into new data files, which replace the current ones once the compaction is finished. Revisions,
+   * which aren't retained, keep their revision numbers and timestamps, but can't be opened anymore.
+   * <p>
+   * Read-only transactions, which are running or are started during the compaction, aren't blocked and keep reading
+   * from the data files they have been started on. A read-write transaction can't be started during the compaction.
+   * </p>
+   *
+   * @param options determines which revisions are retained
+   * @return a future, which is completed once the data files have been replaced
+   * @throws UnsupportedOperationException if the storage of the resource can't be compacted (exceptionally through the
+   *                                       future)
+   */
+  CompletableFuture<Void> compactAsync(@Nonnull CompactionOptions options);
+
   /**
    * Safely close resource manager and immediately release all resources. If there are running
    * transactions, they will automatically be closed.
@@ -369,11 +409,4 @@ public interface ResourceManager<R extends NodeReadOnlyTrx & NodeCursor, W exten
    * @return the user
    */
   Optional<User> getUser();
-
-  /**
-   * Get cache for index-structures.
-   *
-   * @return the cache
-   */
-  Cache<RBIndexKey, RBNode<?, ?>> getIndexCache();
 }
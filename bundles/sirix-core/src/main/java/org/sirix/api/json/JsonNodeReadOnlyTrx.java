@@ -1,6 +1,7 @@
 package org.sirix.api.json;
 
 import com.google.gson.JsonObject;
+import org.brackit.xquery.atomic.QNm;
 import org.sirix.api.Move;
 import org.sirix.api.NodeCursor;
 import org.sirix.api.NodeReadOnlyTrx;
@@ -60,6 +61,24 @@ public interface JsonNodeReadOnlyTrx extends NodeCursor, NodeReadOnlyTrx {
   @Override
   Move<? extends JsonNodeReadOnlyTrx> moveToNextFollowing();
 
+  /**
+   * Move to the object key node of a field, if the transaction is located at an object node. The fields of objects
+   * with many fields are looked up in a directory instead of scanning the children.
+   *
+   * @param name the name of the field
+   * @return {@link Move} instance, which hasn't moved, if the current node isn't an object or hasn't such a field
+   */
+  Move<? extends JsonNodeReadOnlyTrx> moveToField(QNm name);
+
+  /**
+   * Move to the child at a position, if the transaction is located at an array or object node. Positions of the
+   * children of big arrays and objects are looked up in an index instead of scanning the preceding siblings.
+   *
+   * @param index the position of the child, starting at {@code 0}
+   * @return {@link Move} instance, which hasn't moved, if the current node hasn't a child at the position
+   */
+  Move<? extends JsonNodeReadOnlyTrx> moveToChildAt(long index);
+
   /**
    * Accept a visitor.
    *
@@ -25,6 +25,7 @@ import java.util.ArrayDeque;
 import java.util.Deque;
 import javax.annotation.Nonnegative;
 import org.sirix.api.NodeCursor;
+import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.settings.Fixed;
 
 /**
@@ -32,6 +33,10 @@ import org.sirix.settings.Fixed;
  * Iterate over all structural descendants starting at a given node (in preorder). Self might or
  * might not be included.
  * </p>
+ * <p>
+ * The flyweight mode of a read-only transaction is enabled during the traversal, if it is supported
+ * and not enabled already, and disabled again, once the traversal is done or the axis is reset.
+ * </p>
  */
 public final class DescendantAxis extends AbstractAxis {
 
@@ -41,6 +46,9 @@ public final class DescendantAxis extends AbstractAxis {
   /** Determines if it's the first call to hasNext(). */
   private boolean mFirst;
 
+  /** Determines if the flyweight mode of the transaction has been enabled for the traversal. */
+  private boolean mHasEnabledFlyweightMode;
+
   /**
    * Constructor initializing internal state.
    *
@@ -65,6 +73,7 @@ public final class DescendantAxis extends AbstractAxis {
     super.reset(nodeKey);
     mFirst = true;
     mRightSiblingKeyStack = new ArrayDeque<>();
+    disableFlyweightMode();
   }
 
   @Override
@@ -83,6 +92,10 @@ public final class DescendantAxis extends AbstractAxis {
         key = cursor.getFirstChildKey();
       }
 
+      if (key != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+        enableFlyweightMode(cursor);
+      }
+
       return key;
     }
 
@@ -112,6 +125,35 @@ public final class DescendantAxis extends AbstractAxis {
     return done();
   }
 
+  @Override
+  protected long done() {
+    disableFlyweightMode();
+    return super.done();
+  }
+
+  /**
+   * Enable the flyweight mode of a read-only transaction for the traversal, as the nodes are only
+   * moved to.
+   *
+   * @param cursor the cursor to iterate with
+   */
+  private void enableFlyweightMode(final NodeCursor cursor) {
+    if (cursor instanceof NodeReadOnlyTrx trx && !trx.isFlyweightMode() && trx.isFlyweightModeSupported()) {
+      trx.setFlyweightMode(true);
+      mHasEnabledFlyweightMode = true;
+    }
+  }
+
+  /**
+   * Disable the flyweight mode, if it has been enabled for the traversal.
+   */
+  private void disableFlyweightMode() {
+    if (mHasEnabledFlyweightMode) {
+      ((NodeReadOnlyTrx) getCursor()).setFlyweightMode(false);
+      mHasEnabledFlyweightMode = false;
+    }
+  }
+
   /**
    * Determines if the subtree-traversal is finished.
    *
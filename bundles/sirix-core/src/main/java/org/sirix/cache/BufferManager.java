@@ -1,6 +1,5 @@
 package org.sirix.cache;
 
-import org.sirix.index.redblacktree.RBNode;
 import org.sirix.page.PageReference;
 import org.sirix.page.RevisionRootPage;
 import org.sirix.page.interfaces.Page;
@@ -12,5 +11,28 @@ public interface BufferManager extends AutoCloseable {
 
   Cache<Integer, RevisionRootPage> getRevisionRootPageCache();
 
-  Cache<RBIndexKey, RBNode<?, ?>> getIndexCache();
+  /**
+   * Get the hit/miss/eviction statistics of a kind of entries buffered by this buffer manager.
+   *
+   * @param kind the kind of the entries
+   * @return the statistics
+   */
+  CacheStatistics getStatistics(BufferPool.Kind kind);
+
+  /**
+   * Remove all buffered entries.
+   */
+  void clearAllCaches();
+
+  /**
+   * Create a buffer manager for the same resource, which doesn't share any buffered entries with this buffer manager.
+   * Pages are buffered by their offsets in the storage, thus a new generation is required once the storage of the
+   * resource has been replaced by a compacted copy, while transactions started before keep using this one.
+   *
+   * @return the buffer manager of the new generation
+   */
+  BufferManager newGeneration();
+
+  @Override
+  void close();
 }
@@ -1,25 +1,40 @@
 package org.sirix.cache;
 
-import org.sirix.index.redblacktree.RBNode;
 import org.sirix.page.PageReference;
 import org.sirix.page.RevisionRootPage;
 import org.sirix.page.interfaces.Page;
 
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The buffer manager of a single resource, which is a view on the {@link BufferPool} shared by all resources of a
+ * database.
+ */
 public final class BufferManagerImpl implements BufferManager {
+  /**
+   * Generates the IDs of the buffer managers of new generations, which are negative, such that they don't clash with
+   * resource IDs.
+   */
+  private static final AtomicLong GENERATION_IDS = new AtomicLong();
+
+  private final BufferPool bufferPool;
+
+  private final long resourceId;
+
   private final PageCache pageCache;
 
   private final RecordPageCache recordPageCache;
 
   private final RevisionRootPageCache revisionRootPageCache;
 
-  private final RedBlackTreeNodeCache redBlackTreeNodeCache;
-
-  public BufferManagerImpl(final int maxPageCacheSize, final int maxRecordPageCacheSize,
-      final int maxRevisionRootPageCache, final int maxRBTreeNodeCache) {
-    pageCache = new PageCache(maxPageCacheSize);
-    recordPageCache = new RecordPageCache(maxRecordPageCacheSize);
-    revisionRootPageCache = new RevisionRootPageCache(maxRevisionRootPageCache);
-    redBlackTreeNodeCache = new RedBlackTreeNodeCache(maxRBTreeNodeCache);
+  public BufferManagerImpl(final BufferPool bufferPool, final long resourceId) {
+    this.bufferPool = checkNotNull(bufferPool);
+    this.resourceId = resourceId;
+    pageCache = new PageCache(bufferPool, resourceId);
+    recordPageCache = new RecordPageCache(bufferPool, resourceId);
+    revisionRootPageCache = new RevisionRootPageCache(bufferPool, resourceId);
   }
 
   @Override
@@ -38,15 +53,24 @@ public final class BufferManagerImpl implements BufferManager {
   }
 
   @Override
-  public Cache<RBIndexKey, RBNode<?, ?>> getIndexCache() {
-    return redBlackTreeNodeCache;
+  public CacheStatistics getStatistics(final BufferPool.Kind kind) {
+    return bufferPool.getStatistics(resourceId, kind);
   }
 
   @Override
-  public void close() {
+  public void clearAllCaches() {
     pageCache.clear();
     recordPageCache.clear();
     revisionRootPageCache.clear();
-    redBlackTreeNodeCache.clear();
+  }
+
+  @Override
+  public BufferManager newGeneration() {
+    return new BufferManagerImpl(bufferPool, GENERATION_IDS.decrementAndGet());
+  }
+
+  @Override
+  public void close() {
+    clearAllCaches();
   }
 }
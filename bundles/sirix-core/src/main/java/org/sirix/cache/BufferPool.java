@@ -0,0 +1,306 @@
+package org.sirix.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import org.sirix.page.OverflowPage;
+import org.sirix.page.PageReference;
+import org.sirix.page.UnorderedKeyValuePage;
+import org.sirix.page.interfaces.KeyValuePage;
+import org.sirix.page.interfaces.Page;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A memory budgeted pool of in-memory pages and revision root pages, which is shared amongst all resources of a
+ * database. Instead of bounding each cache by its number of entries, all entries are weighed by their
+ * estimated retained size in bytes and compete for a single budget. Entries never expire based on time.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class BufferPool {
+
+  /**
+   * The kind of entries stored in the pool.
+   */
+  public enum Kind {
+    /**
+     * Indirect pages, name pages, path summary pages...
+     */
+    PAGE,
+
+    /**
+     * Reconstructed record pages.
+     */
+    RECORD_PAGE,
+
+    /**
+     * Revision root pages.
+     */
+    REVISION_ROOT_PAGE
+  }
+
+  /**
+   * Estimated fixed overhead of each cache entry (key, node of the cache, page object header...).
+   */
+  private static final int ENTRY_OVERHEAD = 96;
+
+  /**
+   * Estimated retained size of a page reference.
+   */
+  private static final int REFERENCE_SIZE = 48;
+
+  /**
+   * Estimated retained size of a deserialized record.
+   */
+  private static final int RECORD_SIZE = 192;
+
+  /**
+   * Estimated retained size of a revision root page.
+   */
+  private static final int REVISION_ROOT_PAGE_SIZE = 2_048;
+
+  /**
+   * The underlying cache.
+   */
+  private final com.github.benmanes.caffeine.cache.Cache<Key, Object> cache;
+
+  /**
+   * Hit/miss/eviction counters for each kind of entries of each resource.
+   */
+  private final ConcurrentMap<CountersKey, Counters> counters;
+
+  /**
+   * Constructor.
+   *
+   * @param maxWeightInBytes the memory budget in bytes
+   */
+  public BufferPool(final @Nonnegative long maxWeightInBytes) {
+    checkArgument(maxWeightInBytes > 0, "The memory budget must be > 0!");
+
+    counters = new ConcurrentHashMap<>();
+
+    final RemovalListener<Key, Object> removalListener = (Key key, Object value, RemovalCause cause) -> {
+      assert key != null;
+      assert value != null;
+
+      if (cause.wasEvicted()) {
+        getCounters(key.resourceId(), key.kind()).evictions.increment();
+      }
+
+      if (key.kind() == Kind.PAGE || key.kind() == Kind.RECORD_PAGE) {
+        ((PageReference) key.key()).setPage(null);
+      }
+    };
+
+    cache = Caffeine.newBuilder()
+                    .maximumWeight(maxWeightInBytes)
+                    .weigher((Key key, Object value) -> weigh(key.kind(), value))
+                    .removalListener(removalListener)
+                    .build();
+  }
+
+  private static int weigh(final Kind kind, final Object value) {
+    return switch (kind) {
+      case PAGE, RECORD_PAGE -> weigh((Page) value);
+      case REVISION_ROOT_PAGE -> REVISION_ROOT_PAGE_SIZE;
+    };
+  }
+
+  /**
+   * Estimate the retained size of a page in bytes.
+   *
+   * @param page the page
+   * @return the estimated retained size
+   */
+  static int weigh(final Page page) {
+    if (page instanceof UnorderedKeyValuePage recordPage) {
+      // Records might be kept in their serialized and their deserialized form.
+      return ENTRY_OVERHEAD + recordPage.size() * RECORD_SIZE + recordPage.getSerializedRecordsSize();
+    }
+    if (page instanceof KeyValuePage<?, ?> keyValuePage) {
+      return ENTRY_OVERHEAD + keyValuePage.size() * RECORD_SIZE;
+    }
+    if (page instanceof OverflowPage overflowPage) {
+      return ENTRY_OVERHEAD + overflowPage.getData().length;
+    }
+    try {
+      return ENTRY_OVERHEAD + page.getReferences().size() * REFERENCE_SIZE;
+    } catch (final UnsupportedOperationException e) {
+      return ENTRY_OVERHEAD;
+    }
+  }
+
+  /**
+   * Get the value related to a key of a resource.
+   *
+   * @param resourceId the unique ID of the resource
+   * @param kind       the kind of the entry
+   * @param key        the key
+   * @param <V>        the type of the value
+   * @return the value or {@code null}, if it is not cached
+   */
+  @SuppressWarnings("unchecked")
+  <V> V get(final long resourceId, final Kind kind, final Object key) {
+    final V value = (V) cache.getIfPresent(new Key(resourceId, kind, key));
+    final Counters kindCounters = getCounters(resourceId, kind);
+    if (value == null) {
+      kindCounters.misses.increment();
+    } else {
+      kindCounters.hits.increment();
+    }
+    return value;
+  }
+
+  private Counters getCounters(final long resourceId, final Kind kind) {
+    return counters.computeIfAbsent(new CountersKey(resourceId, kind), unused -> new Counters());
+  }
+
+  /**
+   * Get all cached values related to the keys of a resource.
+   *
+   * @param resourceId the unique ID of the resource
+   * @param kind       the kind of the entries
+   * @param keys       the keys
+   * @param <K>        the type of the keys
+   * @param <V>        the type of the values
+   * @return the cached values
+   */
+  <K, V> Map<K, V> getAll(final long resourceId, final Kind kind, final Iterable<? extends K> keys) {
+    final Map<K, V> values = new HashMap<>();
+    for (final K key : keys) {
+      final V value = get(resourceId, kind, key);
+      if (value != null) {
+        values.put(key, value);
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Put a value of a resource into the pool.
+   *
+   * @param resourceId the unique ID of the resource
+   * @param kind       the kind of the entry
+   * @param key        the key
+   * @param value      the value
+   */
+  void put(final long resourceId, final Kind kind, final Object key, final @Nonnull Object value) {
+    cache.put(new Key(resourceId, kind, key), checkNotNull(value));
+  }
+
+  /**
+   * Remove a value of a resource from the pool.
+   *
+   * @param resourceId the unique ID of the resource
+   * @param kind       the kind of the entry
+   * @param key        the key
+   */
+  void remove(final long resourceId, final Kind kind, final Object key) {
+    cache.invalidate(new Key(resourceId, kind, key));
+  }
+
+  /**
+   * Remove all entries of a specific kind of a resource.
+   *
+   * @param resourceId the unique ID of the resource
+   * @param kind       the kind of the entries
+   */
+  void clear(final long resourceId, final Kind kind) {
+    cache.invalidateAll(cache.asMap()
+                             .keySet()
+                             .stream()
+                             .filter(key -> key.resourceId() == resourceId && key.kind() == kind)
+                             .collect(Collectors.toList()));
+  }
+
+  /**
+   * Remove all entries of a resource, for instance once the resource has been removed.
+   *
+   * @param resourceId the unique ID of the resource
+   */
+  public void clear(final long resourceId) {
+    cache.invalidateAll(cache.asMap()
+                             .keySet()
+                             .stream()
+                             .filter(key -> key.resourceId() == resourceId)
+                             .collect(Collectors.toList()));
+  }
+
+  /**
+   * Remove all entries.
+   */
+  public void clear() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * Get the hit/miss/eviction statistics of a kind of entries (accumulated over all resources).
+   *
+   * @param kind the kind of the entries
+   * @return the statistics
+   */
+  public CacheStatistics getStatistics(final Kind kind) {
+    checkNotNull(kind);
+    long hits = 0;
+    long misses = 0;
+    long evictions = 0;
+    for (final Map.Entry<CountersKey, Counters> entry : counters.entrySet()) {
+      if (entry.getKey().kind() == kind) {
+        hits += entry.getValue().hits.sum();
+        misses += entry.getValue().misses.sum();
+        evictions += entry.getValue().evictions.sum();
+      }
+    }
+    return new CacheStatistics(hits, misses, evictions);
+  }
+
+  /**
+   * Get the hit/miss/eviction statistics of a kind of entries of a resource.
+   *
+   * @param resourceId the unique ID of the resource
+   * @param kind       the kind of the entries
+   * @return the statistics
+   */
+  public CacheStatistics getStatistics(final long resourceId, final Kind kind) {
+    final Counters kindCounters = counters.get(new CountersKey(resourceId, checkNotNull(kind)));
+    if (kindCounters == null) {
+      return new CacheStatistics(0, 0, 0);
+    }
+    return new CacheStatistics(kindCounters.hits.sum(), kindCounters.misses.sum(), kindCounters.evictions.sum());
+  }
+
+  /**
+   * Get the estimated size in bytes of all entries currently held in the pool.
+   *
+   * @return the estimated size in bytes
+   */
+  public long getWeightedSize() {
+    cache.cleanUp();
+    return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+  }
+
+  private record Key(long resourceId, Kind kind, Object key) {
+  }
+
+  private record CountersKey(long resourceId, Kind kind) {
+  }
+
+  private static final class Counters {
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+  }
+}
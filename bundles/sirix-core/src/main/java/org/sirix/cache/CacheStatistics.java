@@ -0,0 +1,18 @@
+package org.sirix.cache;
+
+/**
+ * Hit, miss and eviction counts of a cache.
+ *
+ * @author Johannes Lichtenberger
+ */
+public record CacheStatistics(long hitCount, long missCount, long evictionCount) {
+  /**
+   * Get the ratio of cache hits to all requests.
+   *
+   * @return the hit rate, or {@code 1.0} if no request has been made so far
+   */
+  public double hitRate() {
+    final long requestCount = hitCount + missCount;
+    return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+  }
+}
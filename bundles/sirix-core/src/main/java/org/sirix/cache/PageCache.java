@@ -1,47 +1,42 @@
 package org.sirix.cache;
 
-import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import org.sirix.page.PageReference;
 import org.sirix.page.interfaces.Page;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.RemovalCause;
-import com.github.benmanes.caffeine.cache.RemovalListener;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
 
 public final class PageCache implements Cache<PageReference, Page> {
 
-  private final com.github.benmanes.caffeine.cache.Cache<PageReference, Page> pageCache;
+  private final BufferPool bufferPool;
 
-  public PageCache(final int maxSize) {
-    RemovalListener<PageReference, Page> removalListener =
-        (PageReference key, Page value, RemovalCause cause) -> key.setPage(null);
+  private final long resourceId;
 
-    pageCache = Caffeine.newBuilder()
-                        .maximumSize(maxSize)
-                        .expireAfterWrite(5, TimeUnit.SECONDS)
-                        .expireAfterAccess(5, TimeUnit.SECONDS)
-                        .removalListener(removalListener)
-                        .build();
+  public PageCache(final BufferPool bufferPool, final long resourceId) {
+    this.bufferPool = checkNotNull(bufferPool);
+    this.resourceId = resourceId;
   }
 
   @Override
   public void clear() {
-    pageCache.invalidateAll();
+    bufferPool.clear(resourceId, BufferPool.Kind.PAGE);
   }
 
   @Override
   public Page get(PageReference key) {
-    return pageCache.getIfPresent(key);
+    return bufferPool.get(resourceId, BufferPool.Kind.PAGE, key);
   }
 
   @Override
-  public void put(PageReference key, Page value) {
-    pageCache.put(key, value);
+  public void put(PageReference key, @Nonnull Page value) {
+    bufferPool.put(resourceId, BufferPool.Kind.PAGE, key, value);
   }
 
   @Override
   public void putAll(Map<? extends PageReference, ? extends Page> map) {
-    pageCache.putAll(map);
+    map.forEach(this::put);
   }
 
   @Override
@@ -51,14 +46,15 @@ public final class PageCache implements Cache<PageReference, Page> {
 
   @Override
   public Map<PageReference, Page> getAll(Iterable<? extends PageReference> keys) {
-    return pageCache.getAllPresent(keys);
+    return bufferPool.getAll(resourceId, BufferPool.Kind.PAGE, keys);
   }
 
   @Override
   public void remove(PageReference key) {
-    pageCache.invalidate(key);
+    bufferPool.remove(resourceId, BufferPool.Kind.PAGE, key);
   }
 
   @Override
-  public void close() {}
+  public void close() {
+  }
 }
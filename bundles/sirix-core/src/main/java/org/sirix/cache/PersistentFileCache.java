@@ -1,67 +1,223 @@
 package org.sirix.cache;
 
-import static com.google.common.base.Preconditions.checkNotNull;
 import org.sirix.api.PageReadOnlyTrx;
-import org.sirix.io.Writer;
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.bytepipe.ByteHandler;
+import org.sirix.page.PagePersister;
 import org.sirix.page.PageReference;
+import org.sirix.page.SerializationType;
 import org.sirix.page.interfaces.KeyValuePage;
 import org.sirix.page.interfaces.Page;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Stores the page containers, which are evicted from the in-memory part of the {@link TransactionIntentLog}, in a
+ * memory mapped scratch file, such that they are kept off-heap. The file is mapped in fixed size chunks, thus it can
+ * grow beyond 2GB without remapping already written parts. Serialized containers are appended and the offset of a
+ * container is stored as the persistent log key of its page reference.
+ *
+ * @author Johannes Lichtenberger
+ */
 public final class PersistentFileCache implements AutoCloseable {
-  /** Write to a persistent file. */
-  private final Writer writer;
 
-  public PersistentFileCache(final Writer writer) {
-    this.writer = checkNotNull(writer);
+  /**
+   * The size of a mapped chunk of the scratch file.
+   */
+  private static final int CHUNK_SIZE = 1 << 26;
+
+  /**
+   * The channel of the scratch file.
+   */
+  private final FileChannel channel;
+
+  /**
+   * The byte handler pipeline applied to serialized pages.
+   */
+  private final ByteHandler byteHandler;
+
+  /**
+   * Transforms in-memory pages into byte-arrays and back.
+   */
+  private final PagePersister pagePersister;
+
+  /**
+   * The mapped chunks of the scratch file.
+   */
+  private final List<MappedByteBuffer> chunks;
+
+  /**
+   * The number of used bytes of the scratch file.
+   */
+  private long size;
+
+  /**
+   * Constructor.
+   *
+   * @param scratchFile   the scratch file, which is truncated
+   * @param byteHandler   the byte handler pipeline applied to serialized pages
+   * @param pagePersister transforms in-memory pages into byte-arrays and back
+   */
+  public PersistentFileCache(final Path scratchFile, final ByteHandler byteHandler,
+      final PagePersister pagePersister) {
+    this.byteHandler = checkNotNull(byteHandler);
+    this.pagePersister = checkNotNull(pagePersister);
+    chunks = new ArrayList<>();
+    try {
+      channel = FileChannel.open(checkNotNull(scratchFile), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                 StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
   }
 
-  public PageContainer get(PageReference reference, final PageReadOnlyTrx pageReadTrx) {
+  /**
+   * Get the page container stored for a reference.
+   *
+   * @param reference   the reference, whose persistent log key denotes the stored container
+   * @param pageReadTrx the page read-only transaction used to deserialize the pages
+   * @return the page container or the empty instance, if no container is stored for the reference
+   */
+  public PageContainer get(final PageReference reference, final PageReadOnlyTrx pageReadTrx) {
     checkNotNull(pageReadTrx);
 
-    if (reference.getPersistentLogKey() < 0)
+    final long offset = reference.getPersistentLogKey();
+    if (offset < 0)
       return PageContainer.emptyInstance();
 
-    final Page modifiedPage = writer.read(reference, pageReadTrx);
-    final Page completePage;
-
-    if (modifiedPage instanceof KeyValuePage) {
-      final long peristKey = reference.getPersistentLogKey();
-//      reference.setPersistentLogKey(peristKey + reference.getLength());
-      completePage = writer.read(reference, pageReadTrx);
-      reference.setPersistentLogKey(peristKey);
-    } else {
-      completePage = modifiedPage;
-    }
+    final int modifiedPageLength = readInt(offset);
+    final Page modifiedPage = deserializePage(readBytes(offset + 4, modifiedPageLength), pageReadTrx);
+    final int completePageLength = readInt(offset + 4 + modifiedPageLength);
+    final Page completePage = completePageLength == 0
+        ? modifiedPage
+        : deserializePage(readBytes(offset + 8 + modifiedPageLength, completePageLength), pageReadTrx);
 
     return PageContainer.getInstance(completePage, modifiedPage);
   }
 
-  public PersistentFileCache put(PageReference reference, PageContainer container) {
-    reference.setPage(container.getModified());
-    writer.write(reference);
-
-    if (container.getModified() instanceof KeyValuePage) {
-      final long offset = reference.getPersistentLogKey();
-//      int length = reference.getLength();
-      reference.setPage(container.getComplete());
-      writer.write(reference);
-//      length += reference.getLength();
-      reference.setPersistentLogKey(offset);
-//      reference.setLength(length);
-    }
+  /**
+   * Append a page container and store its offset as the persistent log key of the reference.
+   *
+   * @param reference the reference
+   * @param container the page container
+   * @return this cache instance
+   */
+  public PersistentFileCache put(final PageReference reference, final PageContainer container) {
+    final byte[] modifiedPage = serializePage(container.getModified());
+    final byte[] completePage = container.getModified() instanceof KeyValuePage
+        ? serializePage(container.getComplete())
+        : new byte[0];
 
+    final long offset = size;
+    ensureCapacity(offset + 8 + modifiedPage.length + completePage.length);
+    writeInt(offset, modifiedPage.length);
+    writeBytes(offset + 4, modifiedPage);
+    writeInt(offset + 4 + modifiedPage.length, completePage.length);
+    writeBytes(offset + 8 + modifiedPage.length, completePage);
+    size = offset + 8 + modifiedPage.length + completePage.length;
+
+    reference.setPersistentLogKey(offset);
     reference.setPage(null);
 
     return this;
   }
 
+  /**
+   * Discard all stored page containers. The already mapped chunks are reused.
+   *
+   * @return this cache instance
+   */
   public PersistentFileCache truncate() {
-    writer.truncate();
+    size = 0;
     return this;
   }
 
+  private byte[] serializePage(final Page page) {
+    try (final ByteArrayOutputStream output = new ByteArrayOutputStream();
+         final DataOutputStream dataOutput = new DataOutputStream(byteHandler.serialize(output))) {
+      pagePersister.serializePage(dataOutput, page, SerializationType.TRANSACTION_INTENT_LOG);
+      dataOutput.flush();
+      return output.toByteArray();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private Page deserializePage(final byte[] serializedPage, final PageReadOnlyTrx pageReadTrx) {
+    try (final DataInputStream input = new DataInputStream(byteHandler.deserialize(new ByteArrayInputStream(
+        serializedPage)))) {
+      return pagePersister.deserializePage(input, pageReadTrx, SerializationType.TRANSACTION_INTENT_LOG);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private void ensureCapacity(final long capacity) {
+    try {
+      while ((long) chunks.size() * CHUNK_SIZE < capacity) {
+        chunks.add(channel.map(FileChannel.MapMode.READ_WRITE, (long) chunks.size() * CHUNK_SIZE, CHUNK_SIZE));
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private int readInt(final long offset) {
+    final byte[] bytes = readBytes(offset, 4);
+    return ((bytes[0] & 0xFF) << 24) | ((bytes[1] & 0xFF) << 16) | ((bytes[2] & 0xFF) << 8) | (bytes[3] & 0xFF);
+  }
+
+  private void writeInt(final long offset, final int value) {
+    writeBytes(offset, new byte[] { (byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value });
+  }
+
+  private byte[] readBytes(final long offset, final int length) {
+    final byte[] bytes = new byte[length];
+    int copied = 0;
+    while (copied < length) {
+      final long position = offset + copied;
+      final MappedByteBuffer chunk = chunks.get((int) (position / CHUNK_SIZE));
+      final int chunkOffset = (int) (position % CHUNK_SIZE);
+      final int chunkLength = Math.min(length - copied, CHUNK_SIZE - chunkOffset);
+      // Absolute bulk get, such that the buffer position isn't shared between threads.
+      chunk.get(chunkOffset, bytes, copied, chunkLength);
+      copied += chunkLength;
+    }
+    return bytes;
+  }
+
+  private void writeBytes(final long offset, final byte[] bytes) {
+    int copied = 0;
+    while (copied < bytes.length) {
+      final long position = offset + copied;
+      final MappedByteBuffer chunk = chunks.get((int) (position / CHUNK_SIZE));
+      final int chunkOffset = (int) (position % CHUNK_SIZE);
+      final int chunkLength = Math.min(bytes.length - copied, CHUNK_SIZE - chunkOffset);
+      chunk.put(chunkOffset, bytes, copied, chunkLength);
+      copied += chunkLength;
+    }
+  }
+
   @Override
   public void close() {
-    writer.close();
+    chunks.clear();
+    size = 0;
+    try {
+      channel.close();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
   }
 }
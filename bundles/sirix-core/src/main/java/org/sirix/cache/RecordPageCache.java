@@ -1,52 +1,42 @@
 package org.sirix.cache;
 
-import java.util.Map;
-import java.util.concurrent.TimeUnit;
-
 import org.sirix.page.PageReference;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.RemovalCause;
-import com.github.benmanes.caffeine.cache.RemovalListener;
 import org.sirix.page.interfaces.Page;
 
 import javax.annotation.Nonnull;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
 
 public final class RecordPageCache implements Cache<PageReference, Page> {
 
-  private final com.github.benmanes.caffeine.cache.Cache<PageReference, Page> pageCache;
+  private final BufferPool bufferPool;
 
-  public RecordPageCache(final int maxSize) {
-    final RemovalListener<PageReference, Page> removalListener = (PageReference key, Page value, RemovalCause cause) -> {
-      assert key != null;
-      key.setPage(null);
-    };
+  private final long resourceId;
 
-    pageCache = Caffeine.newBuilder()
-                        .maximumSize(maxSize)
-                        .expireAfterWrite(5, TimeUnit.SECONDS)
-                        .expireAfterAccess(5, TimeUnit.SECONDS)
-                        .removalListener(removalListener)
-                        .build();
+  public RecordPageCache(final BufferPool bufferPool, final long resourceId) {
+    this.bufferPool = checkNotNull(bufferPool);
+    this.resourceId = resourceId;
   }
 
   @Override
   public void clear() {
-    pageCache.invalidateAll();
+    bufferPool.clear(resourceId, BufferPool.Kind.RECORD_PAGE);
   }
 
   @Override
   public Page get(PageReference key) {
-    return pageCache.getIfPresent(key);
+    return bufferPool.get(resourceId, BufferPool.Kind.RECORD_PAGE, key);
   }
 
   @Override
   public void put(PageReference key, @Nonnull Page value) {
-    pageCache.put(key, value);
+    bufferPool.put(resourceId, BufferPool.Kind.RECORD_PAGE, key, value);
   }
 
   @Override
   public void putAll(Map<? extends PageReference, ? extends Page> map) {
-    pageCache.putAll(map);
+    map.forEach(this::put);
   }
 
   @Override
@@ -56,12 +46,12 @@ public final class RecordPageCache implements Cache<PageReference, Page> {
 
   @Override
   public Map<PageReference, Page> getAll(Iterable<? extends PageReference> keys) {
-    return pageCache.getAllPresent(keys);
+    return bufferPool.getAll(resourceId, BufferPool.Kind.RECORD_PAGE, keys);
   }
 
   @Override
   public void remove(PageReference key) {
-    pageCache.invalidate(key);
+    bufferPool.remove(resourceId, BufferPool.Kind.RECORD_PAGE, key);
   }
 
   @Override
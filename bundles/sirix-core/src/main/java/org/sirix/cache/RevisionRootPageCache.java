@@ -27,44 +27,46 @@
  */
 package org.sirix.cache;
 
-import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import org.sirix.page.RevisionRootPage;
-import com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
  * @author Johannes Lichtenberger <a href="mailto:lichtenberger.johannes@gmail.com">mail</a>
  *
  */
 public final class RevisionRootPageCache implements Cache<Integer, RevisionRootPage> {
-  private final com.github.benmanes.caffeine.cache.Cache<Integer, RevisionRootPage> pageCache;
 
-  public RevisionRootPageCache(final int maxSize) {
-    pageCache = Caffeine.newBuilder()
-                        .maximumSize(maxSize)
-                        .expireAfterWrite(30, TimeUnit.SECONDS)
-                        .expireAfterAccess(30, TimeUnit.SECONDS)
-                        .build();
+  private final BufferPool bufferPool;
+
+  private final long resourceId;
+
+  public RevisionRootPageCache(final BufferPool bufferPool, final long resourceId) {
+    this.bufferPool = checkNotNull(bufferPool);
+    this.resourceId = resourceId;
   }
 
   @Override
   public void clear() {
-    pageCache.invalidateAll();
+    bufferPool.clear(resourceId, BufferPool.Kind.REVISION_ROOT_PAGE);
   }
 
   @Override
   public RevisionRootPage get(Integer key) {
-    return pageCache.getIfPresent(key);
+    return bufferPool.get(resourceId, BufferPool.Kind.REVISION_ROOT_PAGE, key);
   }
 
   @Override
-  public void put(Integer key, RevisionRootPage value) {
-    pageCache.put(key, value);
+  public void put(Integer key, @Nonnull RevisionRootPage value) {
+    bufferPool.put(resourceId, BufferPool.Kind.REVISION_ROOT_PAGE, key, value);
   }
 
   @Override
   public void putAll(Map<? extends Integer, ? extends RevisionRootPage> map) {
-    pageCache.putAll(map);
+    map.forEach(this::put);
   }
 
   @Override
@@ -74,14 +76,15 @@ public final class RevisionRootPageCache implements Cache<Integer, RevisionRootP
 
   @Override
   public Map<Integer, RevisionRootPage> getAll(Iterable<? extends Integer> keys) {
-    return pageCache.getAllPresent(keys);
+    return bufferPool.getAll(resourceId, BufferPool.Kind.REVISION_ROOT_PAGE, keys);
   }
 
   @Override
   public void remove(Integer key) {
-    pageCache.invalidate(key);
+    bufferPool.remove(resourceId, BufferPool.Kind.REVISION_ROOT_PAGE, key);
   }
 
   @Override
-  public void close() {}
+  public void close() {
+  }
 }
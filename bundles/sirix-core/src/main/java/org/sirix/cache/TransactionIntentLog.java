@@ -11,17 +11,25 @@ import javax.annotation.Nullable;
 import java.util.*;
 
 /**
- * The transaction intent log, used for logging everything a write transaction changes.
+ * The transaction intent log, used for logging everything a write transaction changes. Once the in-memory capacity is
+ * exceeded, the least recently used record page of the document index is evicted into the off-heap
+ * {@link PersistentFileCache}, one page at a time. All other pages (revision root pages, name pages, index pages...)
+ * are always kept in memory.
  *
  * @author Johannes Lichtenberger <a href="mailto:lichtenberger.johannes@gmail.com">mail</a>
  */
 public final class TransactionIntentLog implements AutoCloseable {
 
   /**
-   * The collection to hold the maps.
+   * The pages, which are evicted in least recently used order.
    */
   private final Map<PageReference, PageContainer> map;
 
+  /**
+   * The pages, which are never evicted.
+   */
+  private final Map<PageReference, PageContainer> pinnedMap;
+
   /**
    * Maps in-memory key to persistent key and vice versa.
    */
@@ -42,7 +50,7 @@ public final class TransactionIntentLog implements AutoCloseable {
    *
    * @param secondCache         the reference to the second {@link Cache} where the data is stored when it
    *                            gets removed from the first one.
-   * @param maxInMemoryCapacity the maximum size of the in-memory map
+   * @param maxInMemoryCapacity the maximum size of the in-memory map of evictable pages
    */
   public TransactionIntentLog(final PersistentFileCache secondCache, final int maxInMemoryCapacity) {
     // Assertion instead of checkNotNull(...).
@@ -50,52 +58,36 @@ public final class TransactionIntentLog implements AutoCloseable {
     logKey = 0;
     this.secondCache = secondCache;
     mapToPersistentLogKey = new HashMap<>(maxInMemoryCapacity >> 1);
-    map = new LinkedHashMap<>(maxInMemoryCapacity >> 1) {
+    pinnedMap = new HashMap<>();
+    map = new LinkedHashMap<>(maxInMemoryCapacity >> 1, 0.75f, true) {
       private static final long serialVersionUID = 1;
 
       @Override
       protected boolean removeEldestEntry(final @Nullable Map.Entry<PageReference, PageContainer> eldest) {
-        if (size() > maxInMemoryCapacity) {
-          int i = 0;
-          final var iter = map.entrySet().iterator();
-          final int size = size();
-          while (iter.hasNext() && i < (size / 2)) {
-            final Map.Entry<PageReference, PageContainer> entry = iter.next();
-
-            if (isImportant(entry))
-              continue;
-
-            i++;
-            final PageReference key = entry.getKey();
-            assert key.getLogKey() != Constants.NULL_ID_INT;
-            PageContainer value = entry.getValue();
-
-            if (value != null) {
-              iter.remove();
-              TransactionIntentLog.this.secondCache.put(key, value);
-              //noinspection UnusedAssignment
-              value = null;
-              mapToPersistentLogKey.put(key.getLogKey(), key.getPersistentLogKey());
-            }
-          }
+        if (eldest == null || size() <= maxInMemoryCapacity) {
+          return false;
         }
-        return false;
-      }
 
-      private boolean isImportant(Map.Entry<PageReference, PageContainer> eldest) {
-        final var page = eldest.getValue().getComplete();
-        if (page instanceof RevisionRootPage || page instanceof NamePage || page instanceof CASPage
-            || page instanceof PathPage || page instanceof PathSummaryPage || page instanceof UberPage) {
-          return true;
-        } else if (page instanceof UnorderedKeyValuePage) {
-          var dataPage = (UnorderedKeyValuePage) page;
-          return dataPage.getIndexType() != IndexType.DOCUMENT;
-        }
-        return false;
+        final PageReference key = eldest.getKey();
+        assert key.getLogKey() != Constants.NULL_ID_INT;
+        TransactionIntentLog.this.secondCache.put(key, eldest.getValue());
+        mapToPersistentLogKey.put(key.getLogKey(), key.getPersistentLogKey());
+        return true;
       }
     };
   }
 
+  private static boolean isImportant(final PageContainer container) {
+    final var page = container.getComplete();
+    if (page instanceof RevisionRootPage || page instanceof NamePage || page instanceof CASPage
+        || page instanceof PathPage || page instanceof PathSummaryPage || page instanceof UberPage) {
+      return true;
+    } else if (page instanceof UnorderedKeyValuePage dataPage) {
+      return dataPage.getIndexType() != IndexType.DOCUMENT;
+    }
+    return false;
+  }
+
   /**
    * Retrieves an entry from the cache.<br>
    *
@@ -104,7 +96,10 @@ public final class TransactionIntentLog implements AutoCloseable {
    * cache
    */
   public PageContainer get(final PageReference key, final PageReadOnlyTrx pageRtx) {
-    PageContainer value = map.get(key);
+    PageContainer value = pinnedMap.get(key);
+    if (value == null) {
+      value = map.get(key);
+    }
     if (value == null) {
       if (key.getLogKey() != Constants.NULL_ID_INT) {
         final Long persistentKey = mapToPersistentLogKey.get(key.getLogKey());
@@ -124,18 +119,23 @@ public final class TransactionIntentLog implements AutoCloseable {
 
   /**
    * Adds an entry to this cache. If the cache is full, the LRU (least recently used) entry is
-   * dropped.
+   * evicted into the second cache.
    *
    * @param key   the key with which the specified value is to be associated
    * @param value a value to be associated with the specified key
    */
   public void put(final PageReference key, final PageContainer value) {
     map.remove(key);
+    pinnedMap.remove(key);
 
     key.setKey(Constants.NULL_ID_LONG);
     key.setLogKey(logKey++);
     key.setPersistentLogKey(Constants.NULL_ID_LONG);
-    map.put(key, value);
+    if (isImportant(value)) {
+      pinnedMap.put(key, value);
+    } else {
+      map.put(key, value);
+    }
   }
 
   /**
@@ -145,6 +145,7 @@ public final class TransactionIntentLog implements AutoCloseable {
    */
   public void remove(final PageReference key) {
     map.remove(key);
+    pinnedMap.remove(key);
     mapToPersistentLogKey.remove(key.getLogKey());
   }
 
@@ -154,6 +155,7 @@ public final class TransactionIntentLog implements AutoCloseable {
   public void clear() {
     logKey = 0;
     map.clear();
+    pinnedMap.clear();
   }
 
   /**
@@ -162,7 +164,7 @@ public final class TransactionIntentLog implements AutoCloseable {
    * @return the number of entries currently in the cache.
    */
   public int usedEntries() {
-    return map.size();
+    return map.size() + pinnedMap.size();
   }
 
   /**
@@ -171,7 +173,10 @@ public final class TransactionIntentLog implements AutoCloseable {
    * @return a {@code Collection} with a copy of the cache content
    */
   public Collection<Map.Entry<? super PageReference, ? super PageContainer>> getAll() {
-    return new ArrayList<>(map.entrySet());
+    final List<Map.Entry<? super PageReference, ? super PageContainer>> entries =
+        new ArrayList<>(pinnedMap.entrySet());
+    entries.addAll(map.entrySet());
+    return entries;
   }
 
   //  @Override
@@ -180,12 +185,14 @@ public final class TransactionIntentLog implements AutoCloseable {
   //  }
 
   /**
-   * Get a view of the underlying map.
+   * Get a copy of the underlying maps.
    *
-   * @return an unmodifiable view of all entries in the cache
+   * @return an unmodifiable copy of all in-memory entries in the cache
    */
   public Map<PageReference, PageContainer> getMap() {
-    return Collections.unmodifiableMap(map);
+    final Map<PageReference, PageContainer> entries = new HashMap<>(pinnedMap);
+    entries.putAll(map);
+    return Collections.unmodifiableMap(entries);
   }
 
   /**
@@ -197,12 +204,14 @@ public final class TransactionIntentLog implements AutoCloseable {
     secondCache.close();
     mapToPersistentLogKey.clear();
     map.clear();
+    pinnedMap.clear();
     return this;
   }
 
   @Override
   public void close() {
     map.clear();
+    pinnedMap.clear();
     secondCache.close();
   }
 }
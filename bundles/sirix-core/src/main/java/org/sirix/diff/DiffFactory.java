@@ -133,6 +133,24 @@ public final class DiffFactory {
             (Builder<JsonNodeReadOnlyTrx, JsonNodeTrx>) builder;
         new JsonDiff(jsonDiffBuilder).diffMovement();
       }
+    },
+
+    /**
+     * JSON diff driven by the changed nodes index, falls back to the full JSON diff if not applicable.
+     */
+    JSON_INDEXED {
+      @Override
+      <R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor> void invoke(
+          final Builder<R, W> builder) {
+        @SuppressWarnings("unchecked")
+        final Builder<JsonNodeReadOnlyTrx, JsonNodeTrx> jsonDiffBuilder =
+            (Builder<JsonNodeReadOnlyTrx, JsonNodeTrx>) builder;
+        if (IndexedJsonDiff.isApplicable(jsonDiffBuilder)) {
+          new IndexedJsonDiff(jsonDiffBuilder).diffMovement();
+        } else {
+          new JsonDiff(jsonDiffBuilder).diffMovement();
+        }
+      }
     };
 
     /**
@@ -349,6 +367,17 @@ public final class DiffFactory {
     DiffAlgorithm.JSON.invoke(builder);
   }
 
+  /**
+   * Do a JSON diff, which only visits the nodes recorded as changed in the revisions in between. Only inserted,
+   * deleted and updated nodes are reported. If the changes of a revision in between aren't indexed, the full JSON diff
+   * is done instead.
+   *
+   * @param builder {@link Builder} reference
+   */
+  public static synchronized void invokeIndexedJsonDiff(final Builder<JsonNodeReadOnlyTrx, JsonNodeTrx> builder) {
+    DiffAlgorithm.JSON_INDEXED.invoke(builder);
+  }
+
   /**
    * Do a full diff.
    *
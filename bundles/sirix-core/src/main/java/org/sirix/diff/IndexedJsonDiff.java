@@ -0,0 +1,213 @@
+package org.sirix.diff;
+
+import org.sirix.api.ChangedNode;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.diff.DiffFactory.Builder;
+import org.sirix.diff.DiffFactory.DiffType;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.settings.Fixed;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * JSON diff, which doesn't traverse the revisions, but seeds the comparison with the nodes recorded in the changed
+ * nodes index of each revision in between. Thus, its cost is proportional to the number of changes instead of the size
+ * of the resource. Only the {@link DiffType#INSERTED}, {@link DiffType#DELETED} and {@link DiffType#UPDATED} tuples
+ * are fired, unchanged nodes are not reported (just like subtrees skipped by their hashes in {@link JsonDiff}). If the
+ * resource stores DeweyIDs, the tuples are fired in document order, otherwise in the order of the changes.
+ *
+ * @author Johannes Lichtenberger
+ */
+final class IndexedJsonDiff extends AbstractDiffObservable {
+
+  /**
+   * Read only transaction on new revision.
+   */
+  private final JsonNodeReadOnlyTrx newRtx;
+
+  /**
+   * Read only transaction on old revision.
+   */
+  private final JsonNodeReadOnlyTrx oldRtx;
+
+  /**
+   * The changed nodes between the old and the new revision.
+   */
+  private final Map<Long, DiffType> changedNodes;
+
+  /**
+   * Key of "root" node in new revision.
+   */
+  private final long newStartKey;
+
+  /**
+   * Key of "root" node in old revision.
+   */
+  private final long oldStartKey;
+
+  /**
+   * Depth of "root" node in new revision.
+   */
+  private final int newDepth;
+
+  /**
+   * Depth of "root" node in old revision.
+   */
+  private final int oldDepth;
+
+  /**
+   * Determines if subtrees should be skipped or not.
+   */
+  private final boolean skipSubtrees;
+
+  /**
+   * Determines if the tuples can be sorted in document order.
+   */
+  private final boolean sortByDeweyIDs;
+
+  /**
+   * Constructor.
+   *
+   * @param builder {@link Builder} reference
+   */
+  IndexedJsonDiff(final Builder<JsonNodeReadOnlyTrx, JsonNodeTrx> builder) {
+    checkNotNull(builder);
+    checkArgument(builder.newRev > builder.oldRev, "The new revision must be bigger than the old revision.");
+    skipSubtrees = builder.skipSubtrees;
+    newStartKey = builder.newStartKey;
+    oldStartKey = builder.oldStartKey;
+    newDepth = builder.newDepth;
+    oldDepth = builder.oldDepth;
+    sortByDeweyIDs = builder.resMgr.getResourceConfig().areDeweyIDsStored;
+    synchronized (builder.resMgr) {
+      newRtx = builder.resMgr.beginNodeReadOnlyTrx(builder.newRev);
+      oldRtx = builder.resMgr.beginNodeReadOnlyTrx(builder.oldRev);
+    }
+
+    try (final Stream<ChangedNode> changedNodeStream = builder.resMgr.getChangedNodes(builder.oldRev + 1,
+                                                                                      builder.newRev)) {
+      changedNodes = new LinkedHashMap<>();
+      changedNodeStream.forEach(this::addChangedNode);
+    }
+
+    synchronized (builder.observers) {
+      for (final DiffObserver observer : builder.observers) {
+        addObserver(observer);
+      }
+    }
+  }
+
+  /**
+   * Determines if an indexed diff can be done between the revisions of the builder.
+   *
+   * @param builder {@link Builder} reference
+   * @return {@code true}, if the new revision is bigger than the old revision, as changes are recorded forward only,
+   * and the changes of all revisions after the old revision up to the new revision are stored in the changed nodes
+   * index (which isn't the case for revisions committed before the index has been maintained or after reverting)
+   */
+  static boolean isApplicable(final Builder<JsonNodeReadOnlyTrx, JsonNodeTrx> builder) {
+    return builder.newRev > builder.oldRev && builder.resMgr.areChangedNodesIndexed(builder.oldRev + 1,
+                                                                                    builder.newRev);
+  }
+
+  /**
+   * Merge a change with the changes of the previous revisions.
+   */
+  private void addChangedNode(final ChangedNode changedNode) {
+    final DiffType previousDiffType = changedNodes.get(changedNode.nodeKey());
+
+    if (previousDiffType == null) {
+      changedNodes.put(changedNode.nodeKey(), changedNode.diffType());
+    } else if (previousDiffType == DiffType.INSERTED && changedNode.diffType() == DiffType.DELETED) {
+      changedNodes.remove(changedNode.nodeKey());
+    } else if (changedNode.diffType() == DiffType.DELETED) {
+      changedNodes.put(changedNode.nodeKey(), DiffType.DELETED);
+    }
+  }
+
+  /**
+   * Do the diff.
+   */
+  void diffMovement() {
+    final List<DiffTupleWithDeweyID> diffs = new ArrayList<>(changedNodes.size());
+
+    for (final Map.Entry<Long, DiffType> changedNode : changedNodes.entrySet()) {
+      final long nodeKey = changedNode.getKey();
+      final DiffType diffType = changedNode.getValue();
+
+      if (skipSubtrees && diffType != DiffType.UPDATED && isParentChangedTheSameWay(nodeKey, diffType)) {
+        continue;
+      }
+
+      final JsonNodeReadOnlyTrx rtx = diffType == DiffType.DELETED ? oldRtx : newRtx;
+      if (!rtx.moveTo(nodeKey).hasMoved()) {
+        continue;
+      }
+
+      final SirixDeweyID deweyID = sortByDeweyIDs ? rtx.getDeweyID() : null;
+      final int depth = diffType == DiffType.DELETED
+          ? depthBelowStartNode(rtx, oldStartKey, oldDepth)
+          : depthBelowStartNode(rtx, newStartKey, newDepth);
+
+      if (depth == -1) {
+        continue;
+      }
+
+      final DiffDepth diffDepth = diffType == DiffType.DELETED ? new DiffDepth(newDepth, depth)
+          : diffType == DiffType.INSERTED ? new DiffDepth(depth, oldDepth) : new DiffDepth(depth, depth);
+      diffs.add(new DiffTupleWithDeweyID(new DiffTuple(diffType, nodeKey, nodeKey, diffDepth), deweyID));
+    }
+
+    if (sortByDeweyIDs) {
+      diffs.sort(Comparator.comparing(DiffTupleWithDeweyID::deweyID,
+                                      Comparator.nullsLast(Comparator.naturalOrder())));
+    }
+
+    for (final DiffTupleWithDeweyID diff : diffs) {
+      final DiffTuple diffTuple = diff.diffTuple();
+      fireDiff(diffTuple.getDiff(), diffTuple.getNewNodeKey(), diffTuple.getOldNodeKey(), diffTuple.getDepth());
+    }
+
+    newRtx.close();
+    oldRtx.close();
+    done();
+  }
+
+  private boolean isParentChangedTheSameWay(final long nodeKey, final DiffType diffType) {
+    final JsonNodeReadOnlyTrx rtx = diffType == DiffType.DELETED ? oldRtx : newRtx;
+    return rtx.moveTo(nodeKey).hasMoved() && changedNodes.get(rtx.getParentKey()) == diffType;
+  }
+
+  /**
+   * Get the depth of the node the transaction is located at, relative to the start node.
+   *
+   * @return the depth or {@code -1}, if the node isn't a descendant-or-self of the start node
+   */
+  private static int depthBelowStartNode(final JsonNodeReadOnlyTrx rtx, final long startKey, final int startDepth) {
+    final boolean isDocumentRootStartNode = startKey == Fixed.DOCUMENT_NODE_KEY.getStandardProperty();
+
+    int distance = 0;
+    while (!rtx.isDocumentRoot()) {
+      if (!isDocumentRootStartNode && rtx.getNodeKey() == startKey) {
+        return startDepth + distance;
+      }
+      rtx.moveToParent();
+      distance++;
+    }
+
+    // The first child of the document root is at the start depth.
+    return isDocumentRootStartNode ? startDepth + distance - 1 : -1;
+  }
+
+  private record DiffTupleWithDeweyID(DiffTuple diffTuple, SirixDeweyID deweyID) {
+  }
+}
@@ -11,16 +11,16 @@ import org.sirix.service.json.serialize.JsonSerializer;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.UncheckedIOException;
-import java.util.Collection;
+import java.io.Writer;
 
 public final class JsonDiffSerializer {
   private final JsonResourceManager resourceManager;
   private final int oldRevisionNumber;
   private final int newRevisionNumber;
-  private final Collection<DiffTuple> diffs;
+  private final Iterable<DiffTuple> diffs;
 
   public JsonDiffSerializer(JsonResourceManager resourceManager, int oldRevisionNumber, int newRevisionNumber,
-      Collection<DiffTuple> diffs) {
+      Iterable<DiffTuple> diffs) {
     this.resourceManager = resourceManager;
     this.oldRevisionNumber = oldRevisionNumber;
     this.newRevisionNumber = newRevisionNumber;
@@ -28,35 +28,48 @@ public final class JsonDiffSerializer {
   }
 
   public String serialize(boolean emitFromDiffAlgorithm) {
+    try (final var writer = new StringWriter()) {
+      serialize(emitFromDiffAlgorithm, writer);
+      return writer.toString();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Serialize the diffs one by one to the writer, such that the whole JSON diff is never materialized in memory.
+   *
+   * @param emitFromDiffAlgorithm {@code true}, if the diffs are emitted by the diff algorithm, {@code false}, if they
+   *                              are the update operations of a transaction
+   * @param writer                the writer to write to
+   * @throws IOException if writing fails
+   */
+  public void serialize(boolean emitFromDiffAlgorithm, Writer writer) throws IOException {
     final var databaseName = resourceManager.getDatabase().getName();
     final var resourceName = resourceManager.getResourceConfig().getName();
 
     final var json = createMetaInfo(databaseName, resourceName, oldRevisionNumber, newRevisionNumber);
+    json.remove("diffs");
 
-    if (diffs.size() == 1) {
-      final var tuple = diffs.iterator().next();
-      if (tuple.getDiff() == DiffFactory.DiffType.SAME || tuple.getDiff() == DiffFactory.DiffType.SAMEHASH) {
-        return json.toString();
-      }
-    }
-
-    final var jsonDiffs = json.getAsJsonArray("diffs");
+    // Same output as if the diffs have been added to the "diffs" array of the meta info object.
+    final var metaInfo = json.toString();
+    writer.write(metaInfo, 0, metaInfo.length() - 1);
+    writer.write(",\"diffs\":[");
 
     try (final var oldRtx = resourceManager.beginNodeReadOnlyTrx(oldRevisionNumber);
          final var newRtx = resourceManager.beginNodeReadOnlyTrx(newRevisionNumber)) {
-      if (emitFromDiffAlgorithm) {
-        diffs.removeIf(diffTuple -> diffTuple.getDiff() == DiffFactory.DiffType.SAME
-            || diffTuple.getDiff() == DiffFactory.DiffType.SAMEHASH
-            || diffTuple.getDiff() == DiffFactory.DiffType.REPLACEDOLD);
-      }
-
-      if (diffs.isEmpty()) {
-        return json.toString();
-      }
+      boolean isFirstDiff = true;
 
       for (final var diffTuple : diffs) {
         final var diffType = diffTuple.getDiff();
 
+        if (diffType == DiffFactory.DiffType.SAME || diffType == DiffFactory.DiffType.SAMEHASH
+            || diffType == DiffFactory.DiffType.REPLACEDOLD) {
+          continue;
+        }
+
+        final var jsonDiffs = new JsonArray();
+
         if (diffType == DiffFactory.DiffType.INSERTED) {
           newRtx.moveTo(diffTuple.getNewNodeKey());
         } else if (diffType == DiffFactory.DiffType.DELETED) {
@@ -162,10 +175,18 @@ public final class JsonDiffSerializer {
           default:
             // Do nothing.
         }
+
+        for (final var jsonDiff : jsonDiffs) {
+          if (!isFirstDiff) {
+            writer.write(",");
+          }
+          writer.write(jsonDiff.toString());
+          isFirstDiff = false;
+        }
       }
     }
 
-    return json.toString();
+    writer.write("]}");
   }
 
   private void insertBasedOnNewRtx(JsonNodeReadOnlyTrx newRtx, JsonObject jsonInsertDiff) {
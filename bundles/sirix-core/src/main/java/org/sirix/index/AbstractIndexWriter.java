@@ -0,0 +1,202 @@
+package org.sirix.index;
+
+import org.sirix.api.PageTrx;
+import org.sirix.cache.PageContainer;
+import org.sirix.exception.SirixIOException;
+import org.sirix.index.keyvalue.References;
+import org.sirix.node.NodeKind;
+import org.sirix.node.delegates.NodeDelegate;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.node.interfaces.StructNode;
+import org.sirix.page.*;
+import org.sirix.settings.Fixed;
+import org.sirix.utils.LogWrapper;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnegative;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Writes a persistent index tree. The nodes are records in the record pages of the index, such that modified nodes
+ * are copied on write through the transaction intent log, just as any other record. The document root node of the
+ * index references the root node of the tree and counts the index entries. Subclasses implement the tree structure
+ * of an {@link IndexBackendType}.
+ *
+ * @param <K> the key to search for or insert
+ * @param <V> the value
+ * @param <N> the node of the tree
+ * @author Johannes Lichtenberger
+ */
+public abstract class AbstractIndexWriter<K extends Comparable<? super K>, V extends References, N extends DataRecord>
+    implements IndexWriter<K, V> {
+  /**
+   * Logger.
+   */
+  private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(AbstractIndexWriter.class));
+
+  /**
+   * {@link PageTrx} instance.
+   */
+  protected final PageTrx pageTrx;
+
+  /**
+   * The index type.
+   */
+  protected final IndexType indexType;
+
+  /**
+   * The index number.
+   */
+  protected final int index;
+
+  /**
+   * Constructor, which creates the index tree, if it doesn't exist yet.
+   *
+   * @param pageTrx {@link PageTrx} for persistent storage
+   * @param type    type of index
+   * @param index   the index number
+   */
+  protected AbstractIndexWriter(final PageTrx pageTrx, final IndexType type, final @Nonnegative int index) {
+    try {
+      final RevisionRootPage revisionRootPage = pageTrx.getActualRevisionRootPage();
+      final PageReference reference;
+      switch (type) {
+        case PATH:
+          // Create path index tree if needed.
+          final PathPage pathPage = pageTrx.getPathPage(revisionRootPage);
+          reference = revisionRootPage.getPathPageReference();
+          pageTrx.appendLogRecord(reference, PageContainer.getInstance(pathPage, pathPage));
+          pathPage.createPathIndexTree(pageTrx, index, pageTrx.getLog());
+          break;
+        case CAS:
+          // Create CAS index tree if needed.
+          final CASPage casPage = pageTrx.getCASPage(revisionRootPage);
+          reference = revisionRootPage.getCASPageReference();
+          pageTrx.appendLogRecord(reference, PageContainer.getInstance(casPage, casPage));
+          casPage.createCASIndexTree(pageTrx, index, pageTrx.getLog());
+          break;
+        case NAME:
+          // Create name index tree if needed.
+          final NamePage namePage = pageTrx.getNamePage(revisionRootPage);
+          reference = revisionRootPage.getNamePageReference();
+          pageTrx.appendLogRecord(reference, PageContainer.getInstance(namePage, namePage));
+          namePage.createNameIndexTree(pageTrx, index, pageTrx.getLog());
+          break;
+        default:
+          // Must not happen.
+      }
+    } catch (final SirixIOException e) {
+      LOGGER.error(e.getMessage(), e);
+    }
+    this.pageTrx = pageTrx;
+    this.indexType = type;
+    this.index = index;
+  }
+
+  /**
+   * Get the kind of the nodes of an index.
+   *
+   * @param type     the type of index
+   * @param pathKind the kind of the nodes of path indexes
+   * @param casKind  the kind of the nodes of CAS indexes
+   * @param nameKind the kind of the nodes of name indexes
+   * @return the kind of the nodes
+   */
+  protected static NodeKind getKind(final IndexType type, final NodeKind pathKind, final NodeKind casKind,
+      final NodeKind nameKind) {
+    // $CASES-OMITTED$
+    return switch (type) {
+      case PATH -> pathKind;
+      case CAS -> casKind;
+      case NAME -> nameKind;
+      default -> throw new IllegalStateException("Index type not supported: " + type);
+    };
+  }
+
+  /**
+   * Create the node delegate of a new node, which is going to get the next node key and is referenced by the
+   * document root node or by another node of the tree.
+   *
+   * @return the node delegate
+   */
+  protected NodeDelegate createNodeDelegate() {
+    return createNodeDelegate(getNewNodeKey(), Fixed.DOCUMENT_NODE_KEY.getStandardProperty());
+  }
+
+  /**
+   * Create the node delegate of a new node.
+   *
+   * @param nodeKey   the node key of the new node
+   * @param parentKey the node key of the parent node
+   * @return the node delegate
+   */
+  protected NodeDelegate createNodeDelegate(final long nodeKey, final long parentKey) {
+    return new NodeDelegate(nodeKey, parentKey, null, null, pageTrx.getRevisionNumber(), null);
+  }
+
+  /**
+   * Get the new maximum node key.
+   *
+   * @return maximum node key
+   * @throws SirixIOException If any I/O operation fails
+   */
+  protected long getNewNodeKey() {
+    final RevisionRootPage root = pageTrx.getActualRevisionRootPage();
+    // $CASES-OMITTED$
+    return switch (indexType) {
+      case PATH -> pageTrx.getPathPage(root).getMaxNodeKey(index) + 1;
+      case CAS -> pageTrx.getCASPage(root).getMaxNodeKey(index) + 1;
+      case NAME -> pageTrx.getNamePage(root).getMaxNodeKey(index) + 1;
+      default -> throw new IllegalStateException();
+    };
+  }
+
+  /**
+   * Store a new node of the tree.
+   *
+   * @param node the new node
+   * @return the stored node
+   */
+  protected N createNode(final N node) {
+    return pageTrx.createRecord(node.getNodeKey(), node, indexType, index);
+  }
+
+  /**
+   * Get a node of the tree, which is going to be modified.
+   *
+   * @param nodeKey the node key
+   * @return the node
+   */
+  protected N prepareNodeForModification(final long nodeKey) {
+    return pageTrx.prepareRecordForModification(nodeKey, indexType, index);
+  }
+
+  /**
+   * Get the document root node of the index, which is going to be modified.
+   *
+   * @return the document root node
+   */
+  protected StructNode prepareDocumentRootForModification() {
+    return pageTrx.prepareRecordForModification(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), indexType, index);
+  }
+
+  /**
+   * Finds the specified key in the index and returns its value.
+   *
+   * @param key  key to be found
+   * @param mode the search mode
+   * @return {@link Optional} reference (with the found value, or a reference which indicates that the
+   * value hasn't been found)
+   */
+  @Override
+  public Optional<V> get(final K key, final SearchMode mode) {
+    return getReader().get(checkNotNull(key), checkNotNull(mode));
+  }
+
+  @Override
+  public void close() {
+    getReader().close();
+  }
+}
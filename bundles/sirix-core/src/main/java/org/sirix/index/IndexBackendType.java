@@ -0,0 +1,91 @@
+package org.sirix.index;
+
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.api.PageTrx;
+import org.sirix.index.art.ARTReader;
+import org.sirix.index.art.ARTWriter;
+import org.sirix.index.bplustree.BPlusTreeReader;
+import org.sirix.index.bplustree.BPlusTreeWriter;
+import org.sirix.index.keyvalue.References;
+import org.sirix.index.redblacktree.RBTreeReader;
+import org.sirix.index.redblacktree.RBTreeWriter;
+
+/**
+ * The tree structure, which stores the entries of a path, CAS or name index.
+ *
+ * @author Johannes Lichtenberger
+ */
+public enum IndexBackendType {
+  /**
+   * A B+-tree, which stores many sorted keys per node and reads the leaves sequentially.
+   */
+  BPLUS_TREE {
+    @Override
+    public <K extends Comparable<? super K>, V extends References> IndexReader<K, V> createReader(
+        final PageReadOnlyTrx pageReadTrx, final IndexDef indexDef) {
+      return BPlusTreeReader.getInstance(pageReadTrx, indexDef.getType(), indexDef.getID());
+    }
+
+    @Override
+    public <K extends Comparable<? super K>, V extends References> IndexWriter<K, V> createWriter(
+        final PageTrx pageTrx, final IndexDef indexDef) {
+      return BPlusTreeWriter.getInstance(pageTrx, indexDef.getType(), indexDef.getID());
+    }
+  },
+
+  /**
+   * An adaptive radix tree, which stores the binary comparable keys path compressed. Entries are iterated in the
+   * order of their binary keys, which is the natural order for path indexes and string CAS indexes.
+   */
+  ART {
+    @Override
+    public <K extends Comparable<? super K>, V extends References> IndexReader<K, V> createReader(
+        final PageReadOnlyTrx pageReadTrx, final IndexDef indexDef) {
+      return ARTReader.getInstance(pageReadTrx, indexDef.getType(), indexDef.getID());
+    }
+
+    @Override
+    public <K extends Comparable<? super K>, V extends References> IndexWriter<K, V> createWriter(
+        final PageTrx pageTrx, final IndexDef indexDef) {
+      return ARTWriter.getInstance(pageTrx, indexDef.getType(), indexDef.getID());
+    }
+  },
+
+  /**
+   * A red-black tree, which stores one key per node. It's the tree structure of the indexes, which have been created
+   * before the B+-tree has been introduced, and is kept to read and maintain these indexes.
+   */
+  RED_BLACK_TREE {
+    @Override
+    public <K extends Comparable<? super K>, V extends References> IndexReader<K, V> createReader(
+        final PageReadOnlyTrx pageReadTrx, final IndexDef indexDef) {
+      return RBTreeReader.getInstance(pageReadTrx, indexDef.getType(), indexDef.getID());
+    }
+
+    @Override
+    public <K extends Comparable<? super K>, V extends References> IndexWriter<K, V> createWriter(
+        final PageTrx pageTrx, final IndexDef indexDef) {
+      return RBTreeWriter.getInstance(pageTrx, indexDef.getType(), indexDef.getID());
+    }
+  };
+
+  /**
+   * Create a reader for an index.
+   *
+   * @param pageReadTrx {@link PageReadOnlyTrx} for persistent storage
+   * @param indexDef    the index definition
+   * @return the reader
+   */
+  public abstract <K extends Comparable<? super K>, V extends References> IndexReader<K, V> createReader(
+      PageReadOnlyTrx pageReadTrx, IndexDef indexDef);
+
+  /**
+   * Create a writer for an index.
+   *
+   * @param pageTrx  {@link PageTrx} for persistent storage
+   * @param indexDef the index definition
+   * @return the writer
+   */
+  public abstract <K extends Comparable<? super K>, V extends References> IndexWriter<K, V> createWriter(
+      PageTrx pageTrx, IndexDef indexDef);
+}
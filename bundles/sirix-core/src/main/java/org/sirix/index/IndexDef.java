@@ -33,6 +33,8 @@ public final class IndexDef implements Materializable {
 
   private static final QNm ID_ATTRIBUTE = new QNm("id");
 
+  private static final QNm BACKEND_ATTRIBUTE = new QNm("backend");
+
   public static final QNm INDEX_TAG = new QNm("index");
 
   private IndexType type;
@@ -46,6 +48,9 @@ public final class IndexDef implements Materializable {
   // populated when index is built
   private int id;
 
+  // the tree structure, which stores the index entries
+  private IndexBackendType backendType = IndexBackendType.BPLUS_TREE;
+
   private final Set<Path<QNm>> paths = new HashSet<>();
 
   private final Set<QNm> excluded = new HashSet<>();
@@ -57,32 +62,36 @@ public final class IndexDef implements Materializable {
   /**
    * Name index.
    */
-  IndexDef(final Set<QNm> included, final Set<QNm> excluded, final int indexDefNo) {
+  IndexDef(final Set<QNm> included, final Set<QNm> excluded, final int indexDefNo,
+      final IndexBackendType backendType) {
     type = IndexType.NAME;
     this.included.addAll(included);
     this.excluded.addAll(excluded);
     id = indexDefNo;
+    this.backendType = checkNotNull(backendType);
   }
 
   /**
    * Path index.
    */
-  IndexDef(final Set<Path<QNm>> paths, final int indexDefNo) {
+  IndexDef(final Set<Path<QNm>> paths, final int indexDefNo, final IndexBackendType backendType) {
     type = IndexType.PATH;
     this.paths.addAll(paths);
     id = indexDefNo;
+    this.backendType = checkNotNull(backendType);
   }
 
   /**
    * CAS index.
    */
   IndexDef(final Type contentType, final Set<Path<QNm>> paths, final boolean unique,
-      final int indexDefNo) {
+      final int indexDefNo, final IndexBackendType backendType) {
     type = IndexType.CAS;
     this.contentType = checkNotNull(contentType);
     this.paths.addAll(paths);
     this.unique = unique;
     id = indexDefNo;
+    this.backendType = checkNotNull(backendType);
   }
 
   @Override
@@ -101,6 +110,8 @@ public final class IndexDef implements Materializable {
       tmp.attribute(UNIQUE_ATTRIBUTE, new Una(Boolean.toString(unique)));
     }
 
+    tmp.attribute(BACKEND_ATTRIBUTE, new Una(backendType.toString()));
+
     if (paths != null && !paths.isEmpty()) {
       for (final Path<QNm> path : paths) {
         tmp.openElement(PATH_TAG);
@@ -173,6 +184,14 @@ public final class IndexDef implements Materializable {
       unique = (Boolean.valueOf(attribute.getValue().stringValue()));
     }
 
+    // Indexes, which have been created before the backend has been stored, are red-black trees.
+    attribute = root.getAttribute(BACKEND_ATTRIBUTE);
+    if (attribute != null) {
+      backendType = (IndexBackendType.valueOf(attribute.getValue().stringValue()));
+    } else {
+      backendType = IndexBackendType.RED_BLACK_TREE;
+    }
+
     final Stream<? extends Node<?>> children = root.getChildren();
 
     try {
@@ -273,6 +292,10 @@ public final class IndexDef implements Materializable {
     return contentType;
   }
 
+  public IndexBackendType getBackendType() {
+    return backendType;
+  }
+
   @Override
   public int hashCode() {
     int result = id;
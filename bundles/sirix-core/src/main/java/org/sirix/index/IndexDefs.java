@@ -8,6 +8,8 @@ import org.sirix.page.PageConstants;
 
 import java.util.Set;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 /**
  * {@link IndexDef} factory.
  *
@@ -33,8 +35,25 @@ public final class IndexDefs {
    */
   public static IndexDef createCASIdxDef(final boolean unique, final Type optType, final Set<Path<QNm>> paths,
       final int indexDefNo) {
+    return createCASIdxDef(unique, optType, paths, indexDefNo, IndexBackendType.BPLUS_TREE);
+  }
+
+  /**
+   * Create a CAS {@link IndexDef} instance, which is stored in the given tree structure. An adaptive radix tree
+   * orders the keys by their binary representation, which is why it's only supported for string values.
+   *
+   * @param unique determine if it's unique
+   * @param optType an optional type
+   * @param paths the paths to index
+   * @param backendType the tree structure
+   * @return a new {@link IndexDef} instance
+   */
+  public static IndexDef createCASIdxDef(final boolean unique, final Type optType, final Set<Path<QNm>> paths,
+      final int indexDefNo, final IndexBackendType backendType) {
     final Type type = optType == null ? Type.STR : optType;
-    return new IndexDef(type, paths, unique, indexDefNo);
+    checkArgument(backendType != IndexBackendType.ART || type == Type.STR,
+        "An adaptive radix tree only supports string values.");
+    return new IndexDef(type, paths, unique, indexDefNo, backendType);
   }
 
   /**
@@ -44,7 +63,19 @@ public final class IndexDefs {
    * @return a new path {@link IndexDef} instance
    */
   public static IndexDef createPathIdxDef(final Set<Path<QNm>> paths, final int indexDefNo) {
-    return new IndexDef(paths, indexDefNo);
+    return createPathIdxDef(paths, indexDefNo, IndexBackendType.BPLUS_TREE);
+  }
+
+  /**
+   * Create a path {@link IndexDef}, which is stored in the given tree structure.
+   *
+   * @param paths the paths to index
+   * @param backendType the tree structure
+   * @return a new path {@link IndexDef} instance
+   */
+  public static IndexDef createPathIdxDef(final Set<Path<QNm>> paths, final int indexDefNo,
+      final IndexBackendType backendType) {
+    return new IndexDef(paths, indexDefNo, backendType);
   }
 
   public enum NameIndexType {
@@ -54,11 +85,18 @@ public final class IndexDefs {
   }
 
   public static IndexDef createNameIdxDef(final int indexDefNo, final NameIndexType type) {
+    return createNameIdxDef(indexDefNo, type, IndexBackendType.BPLUS_TREE);
+  }
+
+  public static IndexDef createNameIdxDef(final int indexDefNo, final NameIndexType type,
+      final IndexBackendType backendType) {
     switch (type) {
       case JSON:
-        return new IndexDef(ImmutableSet.of(), ImmutableSet.of(), PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo);
+        return new IndexDef(ImmutableSet.of(), ImmutableSet.of(), PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo,
+            backendType);
       case XML:
-        return new IndexDef(ImmutableSet.of(), ImmutableSet.of(), PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo);
+        return new IndexDef(ImmutableSet.of(), ImmutableSet.of(), PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo,
+            backendType);
       default:
         throw new IllegalStateException("Type " + type + " not known.");
     }
@@ -68,9 +106,11 @@ public final class IndexDefs {
       final NameIndexType type) {
     switch (type) {
       case JSON:
-        return new IndexDef(ImmutableSet.of(), excluded, PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo);
+        return new IndexDef(ImmutableSet.of(), excluded, PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo,
+            IndexBackendType.BPLUS_TREE);
       case XML:
-        return new IndexDef(ImmutableSet.of(), excluded, PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo);
+        return new IndexDef(ImmutableSet.of(), excluded, PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo,
+            IndexBackendType.BPLUS_TREE);
       default:
         throw new IllegalStateException("Type " + type + " not known.");
     }
@@ -80,9 +120,11 @@ public final class IndexDefs {
       final NameIndexType type) {
     switch (type) {
       case JSON:
-        return new IndexDef(included, ImmutableSet.of(), PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo);
+        return new IndexDef(included, ImmutableSet.of(), PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo,
+            IndexBackendType.BPLUS_TREE);
       case XML:
-        return new IndexDef(included, ImmutableSet.of(), PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo);
+        return new IndexDef(included, ImmutableSet.of(), PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo,
+            IndexBackendType.BPLUS_TREE);
       default:
         throw new IllegalStateException("Type " + type + " not known.");
     }
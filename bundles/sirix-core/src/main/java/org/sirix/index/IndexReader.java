@@ -0,0 +1,80 @@
+package org.sirix.index;
+
+import com.google.common.collect.Streams;
+import org.sirix.index.keyvalue.References;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads a persistent index tree, whereas the tree structure depends on the {@link IndexBackendType}.
+ *
+ * @param <K> the key to search for
+ * @param <V> the value
+ * @author Johannes Lichtenberger
+ */
+public interface IndexReader<K extends Comparable<? super K>, V extends References> extends AutoCloseable {
+  /**
+   * Finds the specified key in the index and returns its value.
+   *
+   * @param key  key to be found
+   * @param mode the search mode
+   * @return {@link Optional} reference (with the found value, or a reference which indicates that the
+   * value hasn't been found)
+   */
+  default Optional<V> get(K key, SearchMode mode) {
+    return getEntry(key, mode).map(Map.Entry::getValue);
+  }
+
+  /**
+   * Finds the entry, which matches the specified key and search mode.
+   *
+   * @param key  key to be found
+   * @param mode the search mode
+   * @return {@link Optional} reference to the entry
+   */
+  Optional<Map.Entry<K, V>> getEntry(K key, SearchMode mode);
+
+  /**
+   * Get an iterator over all entries in the order of the index.
+   *
+   * @return the iterator
+   */
+  Iterator<Map.Entry<K, V>> iterator();
+
+  /**
+   * Get an iterator over the entries in the order of the index, which starts at the first entry, whose key isn't
+   * lower than the given key with respect to the comparator.
+   *
+   * @param fromKey    the key to start from
+   * @param comparator the comparator, which must be consistent with the order of the index, but might consider keys
+   *                   as equal, which aren't equal regarding the order of the index
+   * @return the iterator
+   */
+  Iterator<Map.Entry<K, V>> iterator(K fromKey, Comparator<? super K> comparator);
+
+  /**
+   * Get an iterator over the entries, whose keys start with the given key regarding
+   * {@link SearchMode#STARTS_WITH}.
+   *
+   * @param prefixKey the key, which denotes the prefix
+   * @return the iterator
+   */
+  default Iterator<Map.Entry<K, V>> prefixIterator(K prefixKey) {
+    return Streams.stream(iterator(prefixKey, Comparator.naturalOrder()))
+                  .takeWhile(entry -> SearchMode.STARTS_WITH.compare(prefixKey, entry.getKey()) == 0)
+                  .iterator();
+  }
+
+  /**
+   * Returns the number of index entries.
+   *
+   * @return number of index entries
+   */
+  long size();
+
+  @Override
+  void close();
+}
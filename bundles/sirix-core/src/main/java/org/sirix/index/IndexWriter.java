@@ -0,0 +1,54 @@
+package org.sirix.index;
+
+import org.sirix.index.keyvalue.References;
+
+import javax.annotation.Nonnegative;
+import java.util.Optional;
+
+/**
+ * Writes a persistent index tree, whereas the tree structure depends on the {@link IndexBackendType}.
+ *
+ * @param <K> the key to search for or insert
+ * @param <V> the value
+ * @author Johannes Lichtenberger
+ */
+public interface IndexWriter<K extends Comparable<? super K>, V extends References> extends AutoCloseable {
+  /**
+   * Indexes the value with the specified key, that is either the value of an existing index entry is replaced or a
+   * new index entry is inserted.
+   *
+   * @param key   key to be indexed
+   * @param value node key references
+   * @return indexed node key references
+   */
+  V index(K key, V value);
+
+  /**
+   * Remove a node key from the value. The index entry itself is kept, even if no keys are stored anymore.
+   *
+   * @param key     the key for which to search the value
+   * @param nodeKey the nodeKey to remove from the value
+   * @return {@code true}, if the node key has been removed, {@code false} otherwise
+   */
+  boolean remove(K key, @Nonnegative long nodeKey);
+
+  /**
+   * Finds the specified key in the index and returns its value.
+   *
+   * @param key  key to be found
+   * @param mode the search mode
+   * @return {@link Optional} reference (with the found value, or a reference which indicates that the
+   * value hasn't been found)
+   */
+  Optional<V> get(K key, SearchMode mode);
+
+  /**
+   * Get the {@link IndexReader} used to search.
+   *
+   * @return {@link IndexReader} reference
+   */
+  IndexReader<K, V> getReader();
+
+  @Override
+  void close();
+}
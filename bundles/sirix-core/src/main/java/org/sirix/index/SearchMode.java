@@ -1,5 +1,8 @@
 package org.sirix.index;
 
+import org.brackit.xquery.atomic.Atomic;
+import org.sirix.index.keyvalue.CASValue;
+
 import javax.annotation.Nonnull;
 import java.util.Comparator;
 
@@ -78,8 +81,39 @@ public enum SearchMode {
         Comparator<? super K> comparator) {
       return comparator.compare(firstKey, secondKey);
     }
+  },
+
+  /**
+   * Matches keys, whose string value starts with the string value of the search key. CAS values additionally have to
+   * share the path class record of the search key.
+   */
+  STARTS_WITH {
+    @Override
+    public <K extends Comparable<? super K>> int compare(K firstKey, @Nonnull K secondKey) {
+      if (firstKey instanceof CASValue firstValue && secondKey instanceof CASValue secondValue
+          && firstValue.getPathNodeKey() != secondValue.getPathNodeKey()) {
+        return -1;
+      }
+      return stringValue(secondKey).startsWith(stringValue(firstKey)) ? 0 : -1;
+    }
+
+    @Override
+    public <K extends Comparable<? super K>> int compare(K firstKey, K secondKey,
+        Comparator<? super K> comparator) {
+      return compare(firstKey, secondKey);
+    }
   };
 
+  private static String stringValue(final Object key) {
+    if (key instanceof CASValue casValue) {
+      return casValue.getAtomicValue().stringValue();
+    }
+    if (key instanceof Atomic atomic) {
+      return atomic.stringValue();
+    }
+    return key.toString();
+  }
+
   /**
    * Compare two keys.
    *
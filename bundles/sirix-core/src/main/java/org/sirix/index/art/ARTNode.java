@@ -0,0 +1,501 @@
+package org.sirix.index.art;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import org.sirix.index.keyvalue.References;
+import org.sirix.node.AbstractForwardingNode;
+import org.sirix.node.NodeKind;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.node.delegates.NodeDelegate;
+import org.sirix.settings.Fixed;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A node of a persistent {@link ARTWriter adaptive radix tree}. In contrast to the in-memory {@link AdaptiveRadixTree}
+ * a node is a record in the record pages of an index, which references its children by their node keys. The node
+ * stores the compressed path (the prefix) between the partial key of its parent and its own partial keys, and the
+ * entry of the key, which ends in the node, if any. Just as in the in-memory tree, the layout of the children grows
+ * from {@link Layout#NODE_4} up to {@link Layout#NODE_256} with the number of children.
+ *
+ * <p>
+ * Partial keys are unsigned bytes, that is ints between {@code 0} and {@code 255}.
+ * </p>
+ *
+ * @param <K> the key
+ * @param <V> the value
+ * @author Johannes Lichtenberger
+ */
+public final class ARTNode<K extends Comparable<? super K>, V extends References> extends AbstractForwardingNode {
+
+  /**
+   * The layout of the children of a node.
+   */
+  public enum Layout {
+    /**
+     * Up to 4 children with sorted partial keys.
+     */
+    NODE_4(4),
+
+    /**
+     * Up to 16 children with sorted partial keys.
+     */
+    NODE_16(16),
+
+    /**
+     * Up to 48 children, which are indexed by an array of 256 slots.
+     */
+    NODE_48(48),
+
+    /**
+     * Up to 256 children, which are directly indexed by the partial key.
+     */
+    NODE_256(256);
+
+    /**
+     * The maximum number of children.
+     */
+    private final int capacity;
+
+    Layout(final int capacity) {
+      this.capacity = capacity;
+    }
+
+    /**
+     * Get the maximum number of children.
+     *
+     * @return the maximum number of children
+     */
+    public int getCapacity() {
+      return capacity;
+    }
+
+    /**
+     * Get the smallest layout, which is able to store the given number of children.
+     *
+     * @param childCount the number of children
+     * @return the layout
+     */
+    public static Layout forChildCount(final int childCount) {
+      for (final Layout layout : values()) {
+        if (childCount <= layout.capacity) {
+          return layout;
+        }
+      }
+      throw new IllegalArgumentException("Too many children: " + childCount);
+    }
+  }
+
+  /**
+   * Marks a missing slot in the slot index of {@link Layout#NODE_48}.
+   */
+  private static final byte ABSENT = -1;
+
+  /**
+   * The kind of node, which depends on the index type.
+   */
+  private final NodeKind kind;
+
+  /**
+   * {@link NodeDelegate} reference.
+   */
+  private final NodeDelegate nodeDelegate;
+
+  /**
+   * The compressed path.
+   */
+  private byte[] prefix;
+
+  /**
+   * The key, which ends in this node, or {@code null}.
+   */
+  private K key;
+
+  /**
+   * The value of the key, which ends in this node, or {@code null}.
+   */
+  private V value;
+
+  /**
+   * The layout of the children.
+   */
+  private Layout layout;
+
+  /**
+   * The sorted partial keys of {@link Layout#NODE_4} and {@link Layout#NODE_16} or the slot index of
+   * {@link Layout#NODE_48}. Unused for {@link Layout#NODE_256}.
+   */
+  private byte[] partialKeys;
+
+  /**
+   * The node keys of the children.
+   */
+  private long[] childKeys;
+
+  /**
+   * The number of children.
+   */
+  private int childCount;
+
+  /**
+   * Constructor.
+   *
+   * @param kind         the kind of node
+   * @param nodeDelegate the used node delegate
+   * @param prefix       the compressed path
+   * @param key          the key, which ends in this node, or {@code null}
+   * @param value        the value of the key, which ends in this node, or {@code null}
+   * @param partialKeys  the sorted partial keys of the children
+   * @param childKeys    the node keys of the children
+   */
+  public ARTNode(final NodeKind kind, final NodeDelegate nodeDelegate, final byte[] prefix, final @Nullable K key,
+      final @Nullable V value, final int[] partialKeys, final long[] childKeys) {
+    checkArgument(partialKeys.length == childKeys.length, "Number of partial keys doesn't match number of children.");
+    this.kind = checkNotNull(kind);
+    this.nodeDelegate = checkNotNull(nodeDelegate);
+    this.prefix = checkNotNull(prefix);
+    this.key = key;
+    this.value = value;
+    initChildren(Layout.forChildCount(childKeys.length));
+    for (int i = 0; i < childKeys.length; i++) {
+      addChild(partialKeys[i], childKeys[i]);
+    }
+  }
+
+  /**
+   * Create a node without children.
+   *
+   * @param kind         the kind of node
+   * @param nodeDelegate the used node delegate
+   * @param prefix       the compressed path
+   * @param key          the key, which ends in this node, or {@code null}
+   * @param value        the value of the key, which ends in this node, or {@code null}
+   * @return the node
+   */
+  static <K extends Comparable<? super K>, V extends References> ARTNode<K, V> createNode(final NodeKind kind,
+      final NodeDelegate nodeDelegate, final byte[] prefix, final @Nullable K key, final @Nullable V value) {
+    return new ARTNode<>(kind, nodeDelegate, prefix, key, value, new int[0], new long[0]);
+  }
+
+  private void initChildren(final Layout layout) {
+    this.layout = layout;
+    childCount = 0;
+    switch (layout) {
+      case NODE_4, NODE_16 -> {
+        partialKeys = new byte[layout.getCapacity()];
+        childKeys = new long[layout.getCapacity()];
+      }
+      case NODE_48 -> {
+        partialKeys = new byte[256];
+        Arrays.fill(partialKeys, ABSENT);
+        childKeys = new long[layout.getCapacity()];
+      }
+      case NODE_256 -> {
+        partialKeys = null;
+        childKeys = new long[256];
+        Arrays.fill(childKeys, Fixed.NULL_NODE_KEY.getStandardProperty());
+      }
+    }
+  }
+
+  @Override
+  public NodeKind getKind() {
+    return kind;
+  }
+
+  @Override
+  protected NodeDelegate delegate() {
+    return nodeDelegate;
+  }
+
+  @Override
+  public SirixDeweyID getDeweyID() {
+    return null;
+  }
+
+  /**
+   * Get the compressed path.
+   *
+   * @return the compressed path
+   */
+  public byte[] getPrefix() {
+    return prefix;
+  }
+
+  /**
+   * Set the compressed path.
+   *
+   * @param prefix the compressed path
+   */
+  void setPrefix(final byte[] prefix) {
+    this.prefix = checkNotNull(prefix);
+  }
+
+  /**
+   * Determines if a key ends in this node.
+   *
+   * @return {@code true}, if a key ends in this node, {@code false} otherwise
+   */
+  public boolean hasEntry() {
+    return value != null;
+  }
+
+  /**
+   * Get the key, which ends in this node.
+   *
+   * @return the key or {@code null}
+   */
+  public K getKey() {
+    return key;
+  }
+
+  /**
+   * Set the key, which ends in this node.
+   *
+   * @param key the key
+   */
+  public void setKey(final K key) {
+    this.key = checkNotNull(key);
+  }
+
+  /**
+   * Get the value of the key, which ends in this node.
+   *
+   * @return the value or {@code null}
+   */
+  public V getValue() {
+    return value;
+  }
+
+  /**
+   * Set the entry of the key, which ends in this node.
+   *
+   * @param key   the key
+   * @param value the value
+   */
+  void setEntry(final K key, final V value) {
+    this.key = checkNotNull(key);
+    this.value = checkNotNull(value);
+  }
+
+  /**
+   * Get the layout of the children.
+   *
+   * @return the layout
+   */
+  public Layout getLayout() {
+    return layout;
+  }
+
+  /**
+   * Get the number of children.
+   *
+   * @return the number of children
+   */
+  public int getChildCount() {
+    return childCount;
+  }
+
+  /**
+   * Find the child with the given partial key.
+   *
+   * @param partialKey the unsigned partial key
+   * @return the node key of the child or {@code Fixed.NULL_NODE_KEY.getStandardProperty()}, if there's no child
+   */
+  public long findChild(final int partialKey) {
+    return switch (layout) {
+      case NODE_4, NODE_16 -> {
+        final int position = search(partialKey);
+        yield position >= 0 ? childKeys[position] : Fixed.NULL_NODE_KEY.getStandardProperty();
+      }
+      case NODE_48 -> {
+        final byte slot = partialKeys[partialKey];
+        yield slot == ABSENT ? Fixed.NULL_NODE_KEY.getStandardProperty() : childKeys[slot];
+      }
+      case NODE_256 -> childKeys[partialKey];
+    };
+  }
+
+  /**
+   * Get the smallest partial key of a child, which is greater than or equal to the given partial key.
+   *
+   * @param partialKey the unsigned partial key to start from, might be {@code 256}
+   * @return the unsigned partial key or {@code -1}, if there's no such child
+   */
+  public int nextPartialKey(final int partialKey) {
+    switch (layout) {
+      case NODE_4, NODE_16 -> {
+        final int position = search(partialKey);
+        final int next = position >= 0 ? position : -position - 1;
+        return next < childCount ? Byte.toUnsignedInt(partialKeys[next]) : -1;
+      }
+      default -> {
+        for (int i = Math.max(partialKey, 0); i < 256; i++) {
+          if (findChild(i) != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+            return i;
+          }
+        }
+        return -1;
+      }
+    }
+  }
+
+  /**
+   * Get the greatest partial key of a child, which is lower than or equal to the given partial key.
+   *
+   * @param partialKey the unsigned partial key to start from, might be {@code -1}
+   * @return the unsigned partial key or {@code -1}, if there's no such child
+   */
+  public int previousPartialKey(final int partialKey) {
+    switch (layout) {
+      case NODE_4, NODE_16 -> {
+        final int position = search(partialKey);
+        final int previous = position >= 0 ? position : -position - 2;
+        return previous >= 0 ? Byte.toUnsignedInt(partialKeys[previous]) : -1;
+      }
+      default -> {
+        for (int i = Math.min(partialKey, 255); i >= 0; i--) {
+          if (findChild(i) != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+            return i;
+          }
+        }
+        return -1;
+      }
+    }
+  }
+
+  /**
+   * Get the unsigned partial keys of all children in ascending order.
+   *
+   * @return the partial keys
+   */
+  public int[] getPartialKeys() {
+    final int[] keys = new int[childCount];
+    int partialKey = nextPartialKey(0);
+    for (int i = 0; i < childCount; i++) {
+      keys[i] = partialKey;
+      partialKey = nextPartialKey(partialKey + 1);
+    }
+    return keys;
+  }
+
+  /**
+   * Binary search for a partial key in the sorted partial keys of {@link Layout#NODE_4} and {@link Layout#NODE_16}.
+   */
+  private int search(final int partialKey) {
+    int low = 0;
+    int high = childCount - 1;
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      final int middleKey = Byte.toUnsignedInt(partialKeys[middle]);
+      if (middleKey < partialKey) {
+        low = middle + 1;
+      } else if (middleKey > partialKey) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -(low + 1);
+  }
+
+  /**
+   * Add a new child, whereas the layout grows, if it's full.
+   *
+   * @param partialKey the unsigned partial key of the child
+   * @param childKey   the node key of the child
+   */
+  void addChild(final int partialKey, final long childKey) {
+    checkArgument(partialKey >= 0 && partialKey < 256, "Partial key out of range: %s", partialKey);
+    assert findChild(partialKey) == Fixed.NULL_NODE_KEY.getStandardProperty();
+    if (childCount == layout.getCapacity()) {
+      grow();
+    }
+    switch (layout) {
+      case NODE_4, NODE_16 -> {
+        final int position = -search(partialKey) - 1;
+        System.arraycopy(partialKeys, position, partialKeys, position + 1, childCount - position);
+        System.arraycopy(childKeys, position, childKeys, position + 1, childCount - position);
+        partialKeys[position] = (byte) partialKey;
+        childKeys[position] = childKey;
+      }
+      case NODE_48 -> {
+        partialKeys[partialKey] = (byte) childCount;
+        childKeys[childCount] = childKey;
+      }
+      case NODE_256 -> childKeys[partialKey] = childKey;
+    }
+    childCount++;
+  }
+
+  /**
+   * Replace the node key of an existing child.
+   *
+   * @param partialKey the unsigned partial key of the child
+   * @param childKey   the new node key of the child
+   */
+  void replaceChild(final int partialKey, final long childKey) {
+    switch (layout) {
+      case NODE_4, NODE_16 -> {
+        final int position = search(partialKey);
+        checkArgument(position >= 0, "No child with partial key %s.", partialKey);
+        childKeys[position] = childKey;
+      }
+      case NODE_48 -> {
+        final byte slot = partialKeys[partialKey];
+        checkArgument(slot != ABSENT, "No child with partial key %s.", partialKey);
+        childKeys[slot] = childKey;
+      }
+      case NODE_256 -> {
+        checkArgument(childKeys[partialKey] != Fixed.NULL_NODE_KEY.getStandardProperty(),
+                      "No child with partial key %s.",
+                      partialKey);
+        childKeys[partialKey] = childKey;
+      }
+    }
+  }
+
+  /**
+   * Switch to the next larger layout.
+   */
+  private void grow() {
+    final int[] keys = getPartialKeys();
+    final long[] children = new long[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      children[i] = findChild(keys[i]);
+    }
+    initChildren(Layout.values()[layout.ordinal() + 1]);
+    for (int i = 0; i < keys.length; i++) {
+      addChild(keys[i], children[i]);
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(nodeDelegate.getNodeKey());
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object obj) {
+    if (obj instanceof ARTNode<?, ?> other) {
+      return nodeDelegate.getNodeKey() == other.nodeDelegate.getNodeKey();
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("node delegate", nodeDelegate)
+                      .add("prefix", Arrays.toString(prefix))
+                      .add("key", key)
+                      .add("value", value)
+                      .add("layout", layout)
+                      .add("partial keys", Arrays.toString(getPartialKeys()))
+                      .toString();
+  }
+}
@@ -0,0 +1,533 @@
+package org.sirix.index.art;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+import org.brackit.xquery.atomic.QNm;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.index.IndexReader;
+import org.sirix.index.IndexType;
+import org.sirix.index.SearchMode;
+import org.sirix.index.keyvalue.References;
+import org.sirix.index.keyvalue.CASValue;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.node.interfaces.StructNode;
+import org.sirix.settings.Fixed;
+
+import javax.annotation.Nonnegative;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Reads a persistent adaptive radix tree index. The document root node of the index references the root node of the
+ * tree. Keys are transformed into binary comparable keys, whereas path class records and path node keys are stored
+ * as unsigned big endian longs and strings as UTF-16 code units, such that the order of the binary keys is the natural
+ * order of path index keys and string CAS index keys. Names are ordered by their local name, namespace URI and prefix.
+ *
+ * @param <K> the key to search for
+ * @param <V> the value
+ * @author Johannes Lichtenberger
+ */
+public final class ARTReader<K extends Comparable<? super K>, V extends References> implements IndexReader<K, V> {
+
+  /**
+   * Separates the components of a name.
+   */
+  private static final byte[] NAME_SEPARATOR = new byte[2];
+
+  /**
+   * {@link PageReadOnlyTrx} for persistent storage.
+   */
+  final PageReadOnlyTrx pageReadOnlyTrx;
+
+  /**
+   * The index type.
+   */
+  final IndexType indexType;
+
+  /**
+   * The index number.
+   */
+  final int index;
+
+  /**
+   * Transforms the keys into binary comparable keys.
+   */
+  final BinaryComparable<K> binaryComparable;
+
+  /**
+   * Determines if the reader is closed or not.
+   */
+  private boolean isClosed;
+
+  /**
+   * Private constructor.
+   *
+   * @param pageReadOnlyTrx {@link PageReadOnlyTrx} for persistent storage
+   * @param indexType       the index type
+   * @param index           the index number
+   */
+  private ARTReader(final PageReadOnlyTrx pageReadOnlyTrx, final IndexType indexType, final int index) {
+    this.pageReadOnlyTrx = checkNotNull(pageReadOnlyTrx);
+    this.indexType = checkNotNull(indexType);
+    this.index = index;
+    binaryComparable = getBinaryComparable(indexType);
+  }
+
+  /**
+   * Get a new instance.
+   *
+   * @param <K>         key instance which extends comparable
+   * @param <V>         value
+   * @param pageReadTrx {@link PageReadOnlyTrx} for persistent storage
+   * @param type        type of index
+   * @param index       the index number
+   * @return new tree instance
+   */
+  public static <K extends Comparable<? super K>, V extends References> ARTReader<K, V> getInstance(
+      final PageReadOnlyTrx pageReadTrx, final IndexType type, @Nonnegative final int index) {
+    return new ARTReader<>(pageReadTrx, type, index);
+  }
+
+  /**
+   * Get the transformation of the keys of an index into binary comparable keys.
+   *
+   * @param type the index type
+   * @return the transformation
+   */
+  @SuppressWarnings("unchecked")
+  private static <K> BinaryComparable<K> getBinaryComparable(final IndexType type) {
+    // $CASES-OMITTED$
+    return switch (type) {
+      case PATH -> key -> toBinary((Long) key);
+      case CAS -> key -> {
+        final CASValue value = (CASValue) key;
+        final byte[] pathNodeKey = toBinary(value.getPathNodeKey());
+        final byte[] atomic = value.getAtomicValue().stringValue().getBytes(StandardCharsets.UTF_16BE);
+        final byte[] bytes = Arrays.copyOf(pathNodeKey, pathNodeKey.length + atomic.length);
+        System.arraycopy(atomic, 0, bytes, pathNodeKey.length, atomic.length);
+        return bytes;
+      };
+      case NAME -> key -> {
+        final QNm name = (QNm) key;
+        final ByteBuffer buffer = ByteBuffer.allocate(
+            2 * (name.getLocalName().length() + name.getNamespaceURI().length() + name.getPrefix().length() + 2));
+        buffer.put(name.getLocalName().getBytes(StandardCharsets.UTF_16BE));
+        buffer.put(NAME_SEPARATOR);
+        buffer.put(name.getNamespaceURI().getBytes(StandardCharsets.UTF_16BE));
+        buffer.put(NAME_SEPARATOR);
+        buffer.put(name.getPrefix().getBytes(StandardCharsets.UTF_16BE));
+        return buffer.array();
+      };
+      default -> throw new IllegalStateException("Index type not supported: " + type);
+    };
+  }
+
+  private static byte[] toBinary(final long key) {
+    // Flip the sign bit, such that the unsigned order of the bytes is the order of the signed longs.
+    return ByteBuffer.allocate(Long.BYTES).putLong(key ^ Long.MIN_VALUE).array();
+  }
+
+  /**
+   * Finds the entry, which matches the specified key and search mode. Except for {@link SearchMode#EQUAL} the order
+   * of the binary keys is used.
+   *
+   * @param key  key to be found
+   * @param mode the search mode
+   * @return {@link Optional} reference to the entry
+   */
+  @Override
+  public Optional<Map.Entry<K, V>> getEntry(final K key, final SearchMode mode) {
+    assertNotClosed();
+    checkNotNull(key);
+    checkNotNull(mode);
+
+    final byte[] bytes = binaryComparable.get(key);
+
+    return switch (mode) {
+      case EQUAL -> find(bytes).map(this::entry);
+      case GREATER_OR_EQUAL -> first(seek(bytes));
+      case GREATER -> {
+        final Iterator<Map.Entry<K, V>> entries = seek(bytes);
+        Optional<Map.Entry<K, V>> entry = first(entries);
+        if (entry.isPresent() && Arrays.equals(binaryComparable.get(entry.get().getKey()), bytes)) {
+          entry = first(entries);
+        }
+        yield entry;
+      }
+      case LOWER_OR_EQUAL -> floor(bytes, true);
+      case LOWER -> floor(bytes, false);
+      case STARTS_WITH -> first(prefixIterator(key));
+    };
+  }
+
+  private Optional<Map.Entry<K, V>> first(final Iterator<Map.Entry<K, V>> entries) {
+    return entries.hasNext() ? Optional.of(entries.next()) : Optional.empty();
+  }
+
+  /**
+   * Find the node, in which the binary key ends.
+   *
+   * @param bytes the binary key
+   * @return the node, if it stores an entry with the binary key
+   */
+  Optional<ARTNode<K, V>> find(final byte[] bytes) {
+    long nodeKey = getRootKey();
+    int depth = 0;
+    while (nodeKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      final ARTNode<K, V> node = getNode(nodeKey);
+      final byte[] prefix = node.getPrefix();
+      if (mismatch(prefix, bytes, depth) != prefix.length) {
+        return Optional.empty();
+      }
+      depth += prefix.length;
+      if (depth == bytes.length) {
+        return node.hasEntry() ? Optional.of(node) : Optional.empty();
+      }
+      nodeKey = node.findChild(Byte.toUnsignedInt(bytes[depth]));
+      depth++;
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Get the entry with the greatest binary key, which is lower (or equal) than the given binary key.
+   */
+  private Optional<Map.Entry<K, V>> floor(final byte[] bytes, final boolean inclusive) {
+    long nodeKey = getRootKey();
+    // Either a node, whose entry is the result, or the root of the subtree, whose greatest entry is the result.
+    ARTNode<K, V> candidate = null;
+    boolean isCandidateSubtree = false;
+    int depth = 0;
+    while (nodeKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      final ARTNode<K, V> node = getNode(nodeKey);
+      final byte[] prefix = node.getPrefix();
+      final int mismatch = mismatch(prefix, bytes, depth);
+      if (mismatch < prefix.length) {
+        if (depth + mismatch < bytes.length
+            && Byte.toUnsignedInt(prefix[mismatch]) < Byte.toUnsignedInt(bytes[depth + mismatch])) {
+          // All keys of the subtree are lower.
+          return Optional.of(entry(getLast(node)));
+        }
+        break;
+      }
+      depth += prefix.length;
+      if (depth == bytes.length) {
+        if (inclusive && node.hasEntry()) {
+          return Optional.of(entry(node));
+        }
+        break;
+      }
+      if (node.hasEntry()) {
+        candidate = node;
+        isCandidateSubtree = false;
+      }
+      final int partialKey = Byte.toUnsignedInt(bytes[depth]);
+      final int lowerPartialKey = node.previousPartialKey(partialKey - 1);
+      if (lowerPartialKey != -1) {
+        candidate = getNode(node.findChild(lowerPartialKey));
+        isCandidateSubtree = true;
+      }
+      nodeKey = node.findChild(partialKey);
+      depth++;
+    }
+    if (candidate == null) {
+      return Optional.empty();
+    }
+    return Optional.of(entry(isCandidateSubtree ? getLast(candidate) : candidate));
+  }
+
+  /**
+   * Get the node with the greatest entry of a subtree.
+   */
+  private ARTNode<K, V> getLast(ARTNode<K, V> node) {
+    int partialKey;
+    while ((partialKey = node.previousPartialKey(255)) != -1) {
+      node = getNode(node.findChild(partialKey));
+    }
+    return node;
+  }
+
+  /**
+   * Get an iterator over all entries in the order of the binary keys.
+   *
+   * @return the iterator
+   */
+  @Override
+  public Iterator<Map.Entry<K, V>> iterator() {
+    assertNotClosed();
+    final NodeIterator iterator = new NodeIterator();
+    final long rootKey = getRootKey();
+    if (rootKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      iterator.push(getNode(rootKey), 0, true);
+    }
+    return iterator;
+  }
+
+  /**
+   * Get an iterator over the entries in the order of the binary keys, which starts at the first entry, whose key
+   * isn't lower than the given key with respect to the comparator.
+   *
+   * @param fromKey    the key to start from
+   * @param comparator the comparator, which must be consistent with the order of the binary keys, but might consider
+   *                   keys as equal, which aren't equal regarding the order of the binary keys
+   * @return the iterator
+   */
+  @Override
+  public Iterator<Map.Entry<K, V>> iterator(final K fromKey, final Comparator<? super K> comparator) {
+    assertNotClosed();
+    checkNotNull(fromKey);
+    checkNotNull(comparator);
+
+    if (comparator.equals(Comparator.naturalOrder()) && indexType != IndexType.NAME) {
+      return seek(binaryComparable.get(fromKey));
+    }
+
+    final NodeIterator iterator = new NodeIterator();
+    long nodeKey = getRootKey();
+    while (nodeKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      final ARTNode<K, V> node = getNode(nodeKey);
+      if (node.hasEntry() && comparator.compare(node.getKey(), fromKey) >= 0) {
+        iterator.push(node, 0, true);
+        break;
+      }
+      // Binary search for the first child, whose greatest key isn't lower than the key to start from.
+      final int[] partialKeys = node.getPartialKeys();
+      int low = 0;
+      int high = partialKeys.length;
+      while (low < high) {
+        final int middle = (low + high) >>> 1;
+        final K lastKey = getLast(getNode(node.findChild(partialKeys[middle]))).getKey();
+        if (comparator.compare(lastKey, fromKey) < 0) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      if (low == partialKeys.length) {
+        break;
+      }
+      iterator.push(node, partialKeys[low] + 1, false);
+      nodeKey = node.findChild(partialKeys[low]);
+    }
+    return iterator;
+  }
+
+  /**
+   * Get an iterator over the entries, whose binary keys aren't lower than the given binary key.
+   */
+  private Iterator<Map.Entry<K, V>> seek(final byte[] bytes) {
+    final NodeIterator iterator = new NodeIterator();
+    long nodeKey = getRootKey();
+    int depth = 0;
+    while (nodeKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      final ARTNode<K, V> node = getNode(nodeKey);
+      final byte[] prefix = node.getPrefix();
+      final int mismatch = mismatch(prefix, bytes, depth);
+      if (mismatch < prefix.length) {
+        // All keys of the subtree are either lower or greater.
+        if (depth + mismatch == bytes.length
+            || Byte.toUnsignedInt(prefix[mismatch]) > Byte.toUnsignedInt(bytes[depth + mismatch])) {
+          iterator.push(node, 0, true);
+        }
+        break;
+      }
+      depth += prefix.length;
+      if (depth == bytes.length) {
+        iterator.push(node, 0, true);
+        break;
+      }
+      // The entry of the node is lower, as well as the children with lower partial keys.
+      final int partialKey = Byte.toUnsignedInt(bytes[depth]);
+      iterator.push(node, partialKey + 1, false);
+      nodeKey = node.findChild(partialKey);
+      depth++;
+    }
+    return iterator;
+  }
+
+  /**
+   * Get an iterator over the entries, whose keys start with the given key regarding {@link SearchMode#STARTS_WITH}.
+   * The entries of CAS indexes are read from the subtree, which stores all binary keys with the binary key of the
+   * given key as prefix.
+   *
+   * @param prefixKey the key, which denotes the prefix
+   * @return the iterator
+   */
+  @Override
+  public Iterator<Map.Entry<K, V>> prefixIterator(final K prefixKey) {
+    assertNotClosed();
+    checkNotNull(prefixKey);
+
+    if (indexType != IndexType.CAS) {
+      return Iterators.filter(iterator(), entry -> SearchMode.STARTS_WITH.compare(prefixKey, entry.getKey()) == 0);
+    }
+
+    final byte[] bytes = binaryComparable.get(prefixKey);
+    final NodeIterator iterator = new NodeIterator();
+    long nodeKey = getRootKey();
+    int depth = 0;
+    while (nodeKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      final ARTNode<K, V> node = getNode(nodeKey);
+      final byte[] prefix = node.getPrefix();
+      final int mismatch = mismatch(prefix, bytes, depth);
+      if (depth + mismatch == bytes.length) {
+        iterator.push(node, 0, true);
+        break;
+      }
+      if (mismatch < prefix.length) {
+        break;
+      }
+      depth += prefix.length;
+      nodeKey = node.findChild(Byte.toUnsignedInt(bytes[depth]));
+      depth++;
+    }
+    return iterator;
+  }
+
+  /**
+   * Get the number of matching bytes of the prefix of a node and the binary key from the given depth on.
+   */
+  static int mismatch(final byte[] prefix, final byte[] bytes, final int depth) {
+    final int length = Math.min(prefix.length, bytes.length - depth);
+    int i = 0;
+    while (i < length && prefix[i] == bytes[depth + i]) {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * Returns the number of index entries.
+   *
+   * @return number of index entries
+   */
+  @Override
+  public long size() {
+    assertNotClosed();
+    return getDocumentRoot().getDescendantCount();
+  }
+
+  /**
+   * Get the node key of the root node of the tree.
+   *
+   * @return the node key of the root node or {@code Fixed.NULL_NODE_KEY.getStandardProperty()}, if the index is empty
+   */
+  long getRootKey() {
+    return getDocumentRoot().getFirstChildKey();
+  }
+
+  /**
+   * Get the document root node of the index.
+   *
+   * @return the document root node
+   */
+  StructNode getDocumentRoot() {
+    final Optional<? extends DataRecord> documentRoot =
+        pageReadOnlyTrx.getRecord(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), indexType, index);
+    return (StructNode) documentRoot.orElseThrow(() -> new IllegalStateException(
+        "Node couldn't be fetched from persistent storage!"));
+  }
+
+  /**
+   * Get a node of the tree.
+   *
+   * @param nodeKey the node key
+   * @return the node
+   */
+  ARTNode<K, V> getNode(final long nodeKey) {
+    final Optional<? extends DataRecord> node = pageReadOnlyTrx.getRecord(nodeKey, indexType, index);
+    @SuppressWarnings("unchecked")
+    final ARTNode<K, V> treeNode = (ARTNode<K, V>) node.orElseThrow(() -> new IllegalStateException(
+        "Node couldn't be fetched from persistent storage!"));
+    return treeNode;
+  }
+
+  private Map.Entry<K, V> entry(final ARTNode<K, V> node) {
+    return Map.entry(node.getKey(), node.getValue());
+  }
+
+  @Override
+  public void close() {
+    isClosed = true;
+  }
+
+  /**
+   * Make sure that the reader is not yet closed when calling this method.
+   */
+  void assertNotClosed() {
+    if (isClosed) {
+      throw new IllegalStateException("ART reader is already closed.");
+    }
+  }
+
+  /**
+   * Iterates over the entries of the nodes in the order of the binary keys, that is the entry of a node is followed
+   * by the entries of its children in the order of their partial keys.
+   */
+  private final class NodeIterator extends AbstractIterator<Map.Entry<K, V>> {
+
+    /**
+     * The nodes on the path to the current node, whereas the partial key of the next child to visit is stored for
+     * each node.
+     */
+    private final Deque<Frame<K, V>> stack = new ArrayDeque<>();
+
+    /**
+     * Push a node.
+     *
+     * @param node            the node
+     * @param nextPartialKey  the lowest partial key of the children to visit
+     * @param isEntryIncluded determines if the entry of the node has to be visited
+     */
+    void push(final ARTNode<K, V> node, final int nextPartialKey, final boolean isEntryIncluded) {
+      stack.push(new Frame<>(node, nextPartialKey, isEntryIncluded));
+    }
+
+    @Override
+    protected Map.Entry<K, V> computeNext() {
+      while (!stack.isEmpty()) {
+        final Frame<K, V> frame = stack.peek();
+        if (frame.isEntryIncluded) {
+          frame.isEntryIncluded = false;
+          if (frame.node.hasEntry()) {
+            return entry(frame.node);
+          }
+        }
+        final int partialKey = frame.node.nextPartialKey(frame.nextPartialKey);
+        if (partialKey == -1) {
+          stack.pop();
+        } else {
+          frame.nextPartialKey = partialKey + 1;
+          push(getNode(frame.node.findChild(partialKey)), 0, true);
+        }
+      }
+      return endOfData();
+    }
+  }
+
+  /**
+   * The state of a node during iteration.
+   */
+  private static final class Frame<K extends Comparable<? super K>, V extends References> {
+    private final ARTNode<K, V> node;
+
+    private int nextPartialKey;
+
+    private boolean isEntryIncluded;
+
+    Frame(final ARTNode<K, V> node, final int nextPartialKey, final boolean isEntryIncluded) {
+      this.node = node;
+      this.nextPartialKey = nextPartialKey;
+      this.isEntryIncluded = isEntryIncluded;
+    }
+  }
+}
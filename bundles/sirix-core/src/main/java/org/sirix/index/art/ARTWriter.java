@@ -0,0 +1,222 @@
+package org.sirix.index.art;
+
+import org.sirix.api.PageTrx;
+import org.sirix.exception.SirixIOException;
+import org.sirix.index.AbstractIndexWriter;
+import org.sirix.index.IndexType;
+import org.sirix.index.keyvalue.References;
+import org.sirix.node.NodeKind;
+import org.sirix.node.interfaces.StructNode;
+import org.sirix.settings.Fixed;
+
+import javax.annotation.Nonnegative;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Writes a persistent adaptive radix tree index. Paths without branches are compressed into the prefix of a node,
+ * such that a new key adds at most two nodes to the tree.
+ *
+ * @param <K> the key to search for or insert
+ * @param <V> the value
+ * @author Johannes Lichtenberger
+ */
+public final class ARTWriter<K extends Comparable<? super K>, V extends References>
+    extends AbstractIndexWriter<K, V, ARTNode<K, V>> {
+  /**
+   * {@link ARTReader} instance.
+   */
+  private final ARTReader<K, V> reader;
+
+  /**
+   * The kind of the nodes.
+   */
+  private final NodeKind kind;
+
+  /**
+   * Private constructor.
+   *
+   * @param pageTrx {@link PageTrx} for persistent storage
+   * @param type    type of index
+   * @param index   the index number
+   */
+  private ARTWriter(final PageTrx pageTrx, final IndexType type, final @Nonnegative int index) {
+    super(pageTrx, type, index);
+    reader = ARTReader.getInstance(pageTrx, type, index);
+    kind = getKind(type, NodeKind.PATH_ART_NODE, NodeKind.CAS_ART_NODE, NodeKind.NAME_ART_NODE);
+  }
+
+  /**
+   * Get a new instance.
+   *
+   * @param pageWriteTrx {@link PageTrx} for persistent storage
+   * @param type         type of index
+   * @param index        the index number
+   * @return new tree instance
+   */
+  public static <K extends Comparable<? super K>, V extends References> ARTWriter<K, V> getInstance(
+      final PageTrx pageWriteTrx, final IndexType type, final int index) {
+    return new ARTWriter<>(pageWriteTrx, type, index);
+  }
+
+  /**
+   * Indexes the value with the specified key, that is either the value of an existing index entry is replaced or a
+   * new index entry is inserted. If the binary key diverges from the prefix of a node, the node is split.
+   *
+   * @param key   key to be indexed
+   * @param value node key references
+   * @return indexed node key references
+   * @throws SirixIOException if an I/O error occurs
+   */
+  @Override
+  public V index(final K key, final V value) {
+    checkNotNull(key);
+    checkNotNull(value);
+    reader.assertNotClosed();
+
+    final byte[] bytes = reader.binaryComparable.get(key);
+
+    long nodeKey = reader.getRootKey();
+    if (nodeKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      // Index is empty.. create root node.
+      final long rootKey = createNode(bytes, 0, key, value);
+      final StructNode document = prepareDocumentRootForModification();
+      document.setFirstChildKey(rootKey);
+      document.incrementChildCount();
+      document.incrementDescendantCount();
+      return value;
+    }
+
+    long parentKey = Fixed.NULL_NODE_KEY.getStandardProperty();
+    int parentPartialKey = -1;
+    int depth = 0;
+    while (true) {
+      final ARTNode<K, V> node = reader.getNode(nodeKey);
+      final byte[] prefix = node.getPrefix();
+      final int mismatch = ARTReader.mismatch(prefix, bytes, depth);
+
+      if (mismatch < prefix.length) {
+        // The key diverges from the prefix.. split the node.
+        final long innerNodeKey = split(nodeKey, mismatch, bytes, depth + mismatch, key, value);
+        if (parentKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+          prepareDocumentRootForModification().setFirstChildKey(innerNodeKey);
+        } else {
+          prepareNodeForModification(parentKey).replaceChild(parentPartialKey, innerNodeKey);
+        }
+        prepareDocumentRootForModification().incrementDescendantCount();
+        return value;
+      }
+
+      depth += prefix.length;
+
+      if (depth == bytes.length) {
+        final ARTNode<K, V> modifiedNode = prepareNodeForModification(nodeKey);
+        if (!modifiedNode.hasEntry()) {
+          prepareDocumentRootForModification().incrementDescendantCount();
+        }
+        modifiedNode.setEntry(key, value);
+        return value;
+      }
+
+      final int partialKey = Byte.toUnsignedInt(bytes[depth]);
+      final long childKey = node.findChild(partialKey);
+
+      if (childKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+        final long leafKey = createNode(bytes, depth + 1, key, value);
+        prepareNodeForModification(nodeKey).addChild(partialKey, leafKey);
+        prepareDocumentRootForModification().incrementDescendantCount();
+        return value;
+      }
+
+      parentKey = nodeKey;
+      parentPartialKey = partialKey;
+      nodeKey = childKey;
+      depth++;
+    }
+  }
+
+  /**
+   * Split a node, whose prefix diverges from the binary key, that is a new node with the common part of the prefix
+   * becomes the parent of the node and of the new key.
+   *
+   * @param nodeKey  the node key of the node to split
+   * @param mismatch the length of the common part of the prefix
+   * @param bytes    the binary key
+   * @param depth    the position of the first diverging byte of the binary key
+   * @param key      the key
+   * @param value    the value
+   * @return the node key of the new parent node
+   */
+  private long split(final long nodeKey, final int mismatch, final byte[] bytes, final int depth, final K key,
+      final V value) {
+    final ARTNode<K, V> node = prepareNodeForModification(nodeKey);
+    final byte[] prefix = node.getPrefix();
+    node.setPrefix(Arrays.copyOfRange(prefix, mismatch + 1, prefix.length));
+
+    final ARTNode<K, V> innerNode;
+    if (depth == bytes.length) {
+      // The key ends in the new node.
+      innerNode = ARTNode.createNode(kind, createNodeDelegate(), Arrays.copyOf(prefix, mismatch), key, value);
+    } else {
+      final long leafKey = createNode(bytes, depth + 1, key, value);
+      innerNode = ARTNode.createNode(kind, createNodeDelegate(), Arrays.copyOf(prefix, mismatch), null, null);
+      innerNode.addChild(Byte.toUnsignedInt(bytes[depth]), leafKey);
+    }
+    innerNode.addChild(Byte.toUnsignedInt(prefix[mismatch]), nodeKey);
+
+    return createNode(innerNode).getNodeKey();
+  }
+
+  /**
+   * Create a node without children, in which the key ends.
+   *
+   * @param bytes the binary key
+   * @param from  the position of the first byte of the binary key, which is stored in the prefix
+   * @param key   the key
+   * @param value the value
+   * @return the node key of the new node
+   */
+  private long createNode(final byte[] bytes, final int from, final K key, final V value) {
+    final ARTNode<K, V> node = ARTNode.createNode(kind,
+                                                  createNodeDelegate(),
+                                                  Arrays.copyOfRange(bytes, from, bytes.length),
+                                                  key,
+                                                  value);
+    return createNode(node).getNodeKey();
+  }
+
+  /**
+   * Remove a node key from the value. The index entry itself is kept, even if no keys are stored anymore.
+   *
+   * @param key     the key for which to search the value
+   * @param nodeKey the nodeKey to remove from the value
+   * @return {@code true}, if the node key has been removed, {@code false} otherwise
+   * @throws SirixIOException if an I/O error occured
+   */
+  @Override
+  public boolean remove(final K key, final @Nonnegative long nodeKey) {
+    checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+    checkNotNull(key);
+    reader.assertNotClosed();
+
+    final Optional<ARTNode<K, V>> node = reader.find(reader.binaryComparable.get(key));
+    if (node.isEmpty() || !node.get().getValue().contains(nodeKey)) {
+      return false;
+    }
+
+    return prepareNodeForModification(node.get().getNodeKey()).getValue().removeNodeKey(nodeKey);
+  }
+
+  /**
+   * Get the {@link ARTReader} used to search.
+   *
+   * @return {@link ARTReader} reference
+   */
+  @Override
+  public ARTReader<K, V> getReader() {
+    return reader;
+  }
+}
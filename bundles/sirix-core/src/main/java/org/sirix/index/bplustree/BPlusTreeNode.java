@@ -0,0 +1,368 @@
+package org.sirix.index.bplustree;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import org.sirix.index.keyvalue.References;
+import org.sirix.node.AbstractForwardingNode;
+import org.sirix.node.NodeKind;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.node.delegates.NodeDelegate;
+import org.sirix.settings.Fixed;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A node of a {@link BPlusTreeWriter B+-tree}, which stores many sorted keys in one record. Leaf nodes store the
+ * values of the keys and are chained through the key of the next leaf, such that range scans read the leaves
+ * sequentially. Inner nodes store separator keys and the node keys of the children, whereas the child at position
+ * {@code i} stores all keys lower than the separator key at position {@code i}. The nodes don't store parent
+ * pointers, as writers remember the path from the root node.
+ *
+ * @param <K> the key
+ * @param <V> the value
+ * @author Johannes Lichtenberger
+ */
+public final class BPlusTreeNode<K extends Comparable<? super K>, V extends References> extends AbstractForwardingNode {
+
+  /**
+   * The kind of node, which depends on the index type.
+   */
+  private final NodeKind kind;
+
+  /**
+   * {@link NodeDelegate} reference.
+   */
+  private final NodeDelegate nodeDelegate;
+
+  /**
+   * Determines if the node is a leaf node.
+   */
+  private final boolean isLeaf;
+
+  /**
+   * The sorted keys of a leaf or the sorted separator keys of an inner node.
+   */
+  private final List<K> keys;
+
+  /**
+   * The values of a leaf node.
+   */
+  private final List<V> values;
+
+  /**
+   * The node keys of the children of an inner node.
+   */
+  private final List<Long> childKeys;
+
+  /**
+   * The node key of the next leaf node.
+   */
+  private long nextLeafKey;
+
+  /**
+   * Constructor.
+   *
+   * @param kind         the kind of node
+   * @param nodeDelegate the used node delegate
+   * @param isLeaf       {@code true}, if the node is a leaf node
+   * @param keys         the sorted keys
+   * @param values       the values of a leaf node (empty for inner nodes)
+   * @param childKeys    the node keys of the children of an inner node (empty for leaf nodes)
+   * @param nextLeafKey  the node key of the next leaf node
+   */
+  public BPlusTreeNode(final NodeKind kind, final NodeDelegate nodeDelegate, final boolean isLeaf, final List<K> keys,
+      final List<V> values, final List<Long> childKeys, final long nextLeafKey) {
+    this.kind = checkNotNull(kind);
+    this.nodeDelegate = checkNotNull(nodeDelegate);
+    this.isLeaf = isLeaf;
+    this.keys = new ArrayList<>(checkNotNull(keys));
+    this.values = new ArrayList<>(checkNotNull(values));
+    this.childKeys = new ArrayList<>(checkNotNull(childKeys));
+    this.nextLeafKey = nextLeafKey;
+    checkArgument(isLeaf ? this.values.size() == this.keys.size() : this.childKeys.size() == this.keys.size() + 1,
+                  "Number of keys doesn't match the number of values or children.");
+  }
+
+  /**
+   * Create a leaf node with a single entry.
+   *
+   * @param kind         the kind of node
+   * @param nodeDelegate the used node delegate
+   * @param key          the key
+   * @param value        the value
+   * @return the leaf node
+   */
+  static <K extends Comparable<? super K>, V extends References> BPlusTreeNode<K, V> createLeafNode(
+      final NodeKind kind, final NodeDelegate nodeDelegate, final K key, final V value) {
+    return new BPlusTreeNode<>(kind,
+                               nodeDelegate,
+                               true,
+                               List.of(key),
+                               List.of(value),
+                               List.of(),
+                               Fixed.NULL_NODE_KEY.getStandardProperty());
+  }
+
+  /**
+   * Create an inner node with two children.
+   *
+   * @param kind          the kind of node
+   * @param nodeDelegate  the used node delegate
+   * @param leftChildKey  the node key of the left child
+   * @param separator     the separator key, that is the lowest key of the right child
+   * @param rightChildKey the node key of the right child
+   * @return the inner node
+   */
+  static <K extends Comparable<? super K>, V extends References> BPlusTreeNode<K, V> createInnerNode(
+      final NodeKind kind, final NodeDelegate nodeDelegate, final long leftChildKey, final K separator,
+      final long rightChildKey) {
+    return new BPlusTreeNode<>(kind,
+                               nodeDelegate,
+                               false,
+                               List.of(separator),
+                               List.of(),
+                               List.of(leftChildKey, rightChildKey),
+                               Fixed.NULL_NODE_KEY.getStandardProperty());
+  }
+
+  @Override
+  public NodeKind getKind() {
+    return kind;
+  }
+
+  @Override
+  protected NodeDelegate delegate() {
+    return nodeDelegate;
+  }
+
+  @Override
+  public SirixDeweyID getDeweyID() {
+    return null;
+  }
+
+  /**
+   * Determines if the node is a leaf node.
+   *
+   * @return {@code true}, if the node is a leaf node, {@code false} if it's an inner node
+   */
+  public boolean isLeaf() {
+    return isLeaf;
+  }
+
+  /**
+   * Get the number of keys.
+   *
+   * @return the number of keys
+   */
+  public int getKeyCount() {
+    return keys.size();
+  }
+
+  /**
+   * Get the key at the given position.
+   *
+   * @param position the position
+   * @return the key
+   */
+  public K getKey(final int position) {
+    return keys.get(position);
+  }
+
+  /**
+   * Get an unmodifiable view of the keys.
+   *
+   * @return the sorted keys
+   */
+  public List<K> getKeys() {
+    return Collections.unmodifiableList(keys);
+  }
+
+  /**
+   * Get the value at the given position of a leaf node.
+   *
+   * @param position the position
+   * @return the value
+   */
+  public V getValue(final int position) {
+    return values.get(position);
+  }
+
+  /**
+   * Get an unmodifiable view of the values of a leaf node.
+   *
+   * @return the values
+   */
+  public List<V> getValues() {
+    return Collections.unmodifiableList(values);
+  }
+
+  /**
+   * Set the value at the given position of a leaf node.
+   *
+   * @param position the position
+   * @param value    the new value
+   */
+  public void setValue(final int position, final V value) {
+    values.set(position, checkNotNull(value));
+  }
+
+  /**
+   * Get the node key of the child at the given position of an inner node.
+   *
+   * @param position the position
+   * @return the node key of the child
+   */
+  public long getChildKey(final int position) {
+    return childKeys.get(position);
+  }
+
+  /**
+   * Get an unmodifiable view of the node keys of the children of an inner node.
+   *
+   * @return the node keys of the children
+   */
+  public List<Long> getChildKeys() {
+    return Collections.unmodifiableList(childKeys);
+  }
+
+  /**
+   * Get the node key of the next leaf node.
+   *
+   * @return the node key of the next leaf node or {@code Fixed.NULL_NODE_KEY.getStandardProperty()}, if the node is
+   * the last leaf node
+   */
+  public long getNextLeafKey() {
+    return nextLeafKey;
+  }
+
+  /**
+   * Determines if the leaf node has a next leaf node.
+   *
+   * @return {@code true}, if the leaf node has a next leaf node, {@code false} otherwise
+   */
+  public boolean hasNextLeaf() {
+    return nextLeafKey != Fixed.NULL_NODE_KEY.getStandardProperty();
+  }
+
+  /**
+   * Search for a key.
+   *
+   * @param key the key to search for
+   * @return the position of the key, if it is stored, otherwise {@code (-(insertion point) - 1)}
+   */
+  public int search(final K key) {
+    return Collections.binarySearch(keys, key);
+  }
+
+  /**
+   * Get the position of the child of an inner node, which might store the given key.
+   *
+   * @param key the key
+   * @return the position of the child
+   */
+  public int getChildPosition(final K key) {
+    final int position = search(key);
+    return position >= 0 ? position + 1 : -position - 1;
+  }
+
+  /**
+   * Insert an entry into a leaf node.
+   *
+   * @param position the position, at which to insert the entry
+   * @param key      the key
+   * @param value    the value
+   */
+  void insert(final int position, final K key, final V value) {
+    assert isLeaf;
+    keys.add(position, checkNotNull(key));
+    values.add(position, checkNotNull(value));
+  }
+
+  /**
+   * Insert a new child into an inner node, which is the right sibling of a split child.
+   *
+   * @param separator     the separator key, that is the lowest key of the new child
+   * @param rightChildKey the node key of the new child
+   */
+  void insertChild(final K separator, final long rightChildKey) {
+    assert !isLeaf;
+    final int position = getChildPosition(separator);
+    keys.add(position, separator);
+    childKeys.add(position + 1, rightChildKey);
+  }
+
+  /**
+   * Move the upper half of the entries of a leaf node into a new leaf node, which becomes the next leaf node.
+   *
+   * @param rightNodeDelegate the node delegate of the new leaf node
+   * @return the new leaf node
+   */
+  BPlusTreeNode<K, V> splitLeaf(final NodeDelegate rightNodeDelegate) {
+    assert isLeaf;
+    final int middle = keys.size() / 2;
+    final List<K> rightKeys = keys.subList(middle, keys.size());
+    final List<V> rightValues = values.subList(middle, values.size());
+    final BPlusTreeNode<K, V> right =
+        new BPlusTreeNode<>(kind, rightNodeDelegate, true, rightKeys, rightValues, List.of(), nextLeafKey);
+    rightKeys.clear();
+    rightValues.clear();
+    nextLeafKey = right.getNodeKey();
+    return right;
+  }
+
+  /**
+   * Move the upper half of the separator keys and children of an inner node into a new inner node. The separator key
+   * in the middle is removed and has to be inserted into the parent node.
+   *
+   * @param rightNodeDelegate the node delegate of the new inner node
+   * @return the new inner node
+   */
+  BPlusTreeNode<K, V> splitInner(final NodeDelegate rightNodeDelegate) {
+    assert !isLeaf;
+    final int middle = keys.size() / 2;
+    final List<K> rightKeys = keys.subList(middle + 1, keys.size());
+    final List<Long> rightChildKeys = childKeys.subList(middle + 1, childKeys.size());
+    final BPlusTreeNode<K, V> right = new BPlusTreeNode<>(kind,
+                                                          rightNodeDelegate,
+                                                          false,
+                                                          rightKeys,
+                                                          List.of(),
+                                                          rightChildKeys,
+                                                          Fixed.NULL_NODE_KEY.getStandardProperty());
+    rightKeys.clear();
+    rightChildKeys.clear();
+    keys.remove(middle);
+    return right;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(nodeDelegate.getNodeKey());
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object obj) {
+    if (obj instanceof BPlusTreeNode<?, ?> other) {
+      return nodeDelegate.getNodeKey() == other.nodeDelegate.getNodeKey();
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("node delegate", nodeDelegate)
+                      .add("leaf", isLeaf)
+                      .add("keys", keys)
+                      .add("values", values)
+                      .add("children", childKeys)
+                      .add("next leaf", nextLeafKey)
+                      .toString();
+  }
+}
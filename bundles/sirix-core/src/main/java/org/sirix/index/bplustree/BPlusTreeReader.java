@@ -0,0 +1,322 @@
+package org.sirix.index.bplustree;
+
+import com.google.common.collect.AbstractIterator;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.index.IndexReader;
+import org.sirix.index.IndexType;
+import org.sirix.index.SearchMode;
+import org.sirix.index.keyvalue.References;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.node.interfaces.StructNode;
+import org.sirix.settings.Fixed;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nullable;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Reads a persistent B+-tree index. The document root node of the index references the root node of the tree, which
+ * is either a leaf node or an inner node.
+ *
+ * @param <K> the key to search for
+ * @param <V> the value
+ * @author Johannes Lichtenberger
+ */
+public final class BPlusTreeReader<K extends Comparable<? super K>, V extends References> implements IndexReader<K, V> {
+
+  /**
+   * {@link PageReadOnlyTrx} for persistent storage.
+   */
+  final PageReadOnlyTrx pageReadOnlyTrx;
+
+  /**
+   * The index type.
+   */
+  final IndexType indexType;
+
+  /**
+   * The index number.
+   */
+  final int index;
+
+  /**
+   * Determines if the reader is closed or not.
+   */
+  private boolean isClosed;
+
+  /**
+   * Private constructor.
+   *
+   * @param pageReadOnlyTrx {@link PageReadOnlyTrx} for persistent storage
+   * @param indexType       the index type
+   * @param index           the index number
+   */
+  private BPlusTreeReader(final PageReadOnlyTrx pageReadOnlyTrx, final IndexType indexType, final int index) {
+    this.pageReadOnlyTrx = checkNotNull(pageReadOnlyTrx);
+    this.indexType = checkNotNull(indexType);
+    this.index = index;
+  }
+
+  /**
+   * Get a new instance.
+   *
+   * @param <K>         key instance which extends comparable
+   * @param <V>         value
+   * @param pageReadTrx {@link PageReadOnlyTrx} for persistent storage
+   * @param type        type of index
+   * @param index       the index number
+   * @return new tree instance
+   */
+  public static <K extends Comparable<? super K>, V extends References> BPlusTreeReader<K, V> getInstance(
+      final PageReadOnlyTrx pageReadTrx, final IndexType type, @Nonnegative final int index) {
+    return new BPlusTreeReader<>(pageReadTrx, type, index);
+  }
+
+  /**
+   * Finds the entry, which matches the specified key and search mode. That is the entry with the given key for
+   * {@link SearchMode#EQUAL}, the entry with the lowest key, which is greater (or equal) than the given key for
+   * {@link SearchMode#GREATER} ({@link SearchMode#GREATER_OR_EQUAL}) and the entry with the greatest key, which is
+   * lower (or equal) than the given key for {@link SearchMode#LOWER} ({@link SearchMode#LOWER_OR_EQUAL}). For
+   * {@link SearchMode#STARTS_WITH} it's the entry with the lowest key, which starts with the given key.
+   *
+   * @param key  key to be found
+   * @param mode the search mode
+   * @return {@link Optional} reference to the entry
+   */
+  @Override
+  public Optional<Map.Entry<K, V>> getEntry(final K key, final SearchMode mode) {
+    assertNotClosed();
+    checkNotNull(key);
+    checkNotNull(mode);
+
+    long nodeKey = getRootKey();
+    if (nodeKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      return Optional.empty();
+    }
+
+    // The closest subtree with lower keys than the searched key.
+    long lowerSubtreeKey = Fixed.NULL_NODE_KEY.getStandardProperty();
+    BPlusTreeNode<K, V> node = getNode(nodeKey);
+    while (!node.isLeaf()) {
+      final int childPosition = node.getChildPosition(key);
+      if (childPosition > 0) {
+        lowerSubtreeKey = node.getChildKey(childPosition - 1);
+      }
+      node = getNode(node.getChildKey(childPosition));
+    }
+
+    final int position = node.search(key);
+    final int insertionPoint = position >= 0 ? position : -position - 1;
+
+    return switch (mode) {
+      case EQUAL -> position >= 0 ? Optional.of(entry(node, position)) : Optional.empty();
+      case GREATER_OR_EQUAL -> getEntryAtOrAfter(node, insertionPoint);
+      case GREATER -> getEntryAtOrAfter(node, position >= 0 ? position + 1 : insertionPoint);
+      case LOWER_OR_EQUAL -> getEntryBefore(node, position >= 0 ? position + 1 : insertionPoint, lowerSubtreeKey);
+      case LOWER -> getEntryBefore(node, insertionPoint, lowerSubtreeKey);
+      case STARTS_WITH -> getEntryAtOrAfter(node, insertionPoint).filter(
+          entry -> mode.compare(key, entry.getKey()) == 0);
+    };
+  }
+
+  private Optional<Map.Entry<K, V>> getEntryAtOrAfter(BPlusTreeNode<K, V> leaf, int position) {
+    while (position == leaf.getKeyCount()) {
+      if (!leaf.hasNextLeaf()) {
+        return Optional.empty();
+      }
+      leaf = getNode(leaf.getNextLeafKey());
+      position = 0;
+    }
+    return Optional.of(entry(leaf, position));
+  }
+
+  private Optional<Map.Entry<K, V>> getEntryBefore(final BPlusTreeNode<K, V> leaf, final int position,
+      final long lowerSubtreeKey) {
+    if (position > 0) {
+      return Optional.of(entry(leaf, position - 1));
+    }
+    if (lowerSubtreeKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      return Optional.empty();
+    }
+    // The greatest entry of the closest subtree with lower keys.
+    BPlusTreeNode<K, V> node = getNode(lowerSubtreeKey);
+    while (!node.isLeaf()) {
+      node = getNode(node.getChildKey(node.getKeyCount()));
+    }
+    return Optional.of(entry(node, node.getKeyCount() - 1));
+  }
+
+  /**
+   * Get an iterator over all entries in ascending key order, which reads the leaf nodes sequentially.
+   *
+   * @return the iterator
+   */
+  @Override
+  public Iterator<Map.Entry<K, V>> iterator() {
+    assertNotClosed();
+    long nodeKey = getRootKey();
+    if (nodeKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      return new LeafIterator(null, 0);
+    }
+    BPlusTreeNode<K, V> node = getNode(nodeKey);
+    while (!node.isLeaf()) {
+      node = getNode(node.getChildKey(0));
+    }
+    return new LeafIterator(node, 0);
+  }
+
+  /**
+   * Get an iterator over the entries in ascending key order, which starts at the first entry, whose key isn't lower
+   * than the given key with respect to the comparator. The leaf nodes are read sequentially.
+   *
+   * @param fromKey    the key to start from
+   * @param comparator the comparator, which must be consistent with the natural ordering of the keys, but might
+   *                   consider keys as equal, which aren't equal regarding their natural ordering
+   * @return the iterator
+   */
+  @Override
+  public Iterator<Map.Entry<K, V>> iterator(final K fromKey, final Comparator<? super K> comparator) {
+    assertNotClosed();
+    checkNotNull(fromKey);
+    checkNotNull(comparator);
+
+    long nodeKey = getRootKey();
+    if (nodeKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      return new LeafIterator(null, 0);
+    }
+    BPlusTreeNode<K, V> node = getNode(nodeKey);
+    while (!node.isLeaf()) {
+      node = getNode(node.getChildKey(lowerBound(node, fromKey, comparator)));
+    }
+    return new LeafIterator(node, lowerBound(node, fromKey, comparator));
+  }
+
+  /**
+   * Get the position of the first key of a node, which isn't lower than the given key.
+   */
+  private int lowerBound(final BPlusTreeNode<K, V> node, final K key, final Comparator<? super K> comparator) {
+    int low = 0;
+    int high = node.getKeyCount();
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (comparator.compare(node.getKey(middle), key) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Returns the number of index entries.
+   *
+   * @return number of index entries
+   */
+  @Override
+  public long size() {
+    assertNotClosed();
+    return getDocumentRoot().getDescendantCount();
+  }
+
+  /**
+   * Get the node key of the root node of the tree.
+   *
+   * @return the node key of the root node or {@code Fixed.NULL_NODE_KEY.getStandardProperty()}, if the index is empty
+   */
+  long getRootKey() {
+    return getDocumentRoot().getFirstChildKey();
+  }
+
+  /**
+   * Get the document root node of the index.
+   *
+   * @return the document root node
+   */
+  StructNode getDocumentRoot() {
+    final Optional<? extends DataRecord> documentRoot =
+        pageReadOnlyTrx.getRecord(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), indexType, index);
+    return (StructNode) documentRoot.orElseThrow(() -> new IllegalStateException(
+        "Node couldn't be fetched from persistent storage!"));
+  }
+
+  /**
+   * Get a node of the tree.
+   *
+   * @param nodeKey the node key
+   * @return the node
+   */
+  BPlusTreeNode<K, V> getNode(final long nodeKey) {
+    final Optional<? extends DataRecord> node = pageReadOnlyTrx.getRecord(nodeKey, indexType, index);
+    @SuppressWarnings("unchecked")
+    final BPlusTreeNode<K, V> treeNode = (BPlusTreeNode<K, V>) node.orElseThrow(() -> new IllegalStateException(
+        "Node couldn't be fetched from persistent storage!"));
+    return treeNode;
+  }
+
+  private Map.Entry<K, V> entry(final BPlusTreeNode<K, V> leaf, final int position) {
+    return Map.entry(leaf.getKey(position), leaf.getValue(position));
+  }
+
+  @Override
+  public void close() {
+    isClosed = true;
+  }
+
+  /**
+   * Make sure that the reader is not yet closed when calling this method.
+   */
+  void assertNotClosed() {
+    if (isClosed) {
+      throw new IllegalStateException("B+-tree reader is already closed.");
+    }
+  }
+
+  /**
+   * Iterates over the entries of the leaf nodes, starting at a position of a leaf node.
+   */
+  private final class LeafIterator extends AbstractIterator<Map.Entry<K, V>> {
+
+    /**
+     * The current leaf node.
+     */
+    private BPlusTreeNode<K, V> leaf;
+
+    /**
+     * The position of the next entry in the current leaf node.
+     */
+    private int position;
+
+    /**
+     * Constructor.
+     *
+     * @param leaf     the leaf node to start from, or {@code null} if the index is empty
+     * @param position the position of the first entry
+     */
+    LeafIterator(final @Nullable BPlusTreeNode<K, V> leaf, final int position) {
+      this.leaf = leaf;
+      this.position = position;
+    }
+
+    @Override
+    protected Map.Entry<K, V> computeNext() {
+      if (leaf == null) {
+        return endOfData();
+      }
+      while (position == leaf.getKeyCount()) {
+        if (!leaf.hasNextLeaf()) {
+          leaf = null;
+          return endOfData();
+        }
+        leaf = getNode(leaf.getNextLeafKey());
+        position = 0;
+      }
+      return entry(leaf, position++);
+    }
+  }
+}
@@ -0,0 +1,201 @@
+package org.sirix.index.bplustree;
+
+import org.sirix.api.PageTrx;
+import org.sirix.exception.SirixIOException;
+import org.sirix.index.AbstractIndexWriter;
+import org.sirix.index.IndexType;
+import org.sirix.index.keyvalue.References;
+import org.sirix.node.NodeKind;
+import org.sirix.node.interfaces.StructNode;
+import org.sirix.settings.Fixed;
+
+import javax.annotation.Nonnegative;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Writes a persistent B+-tree index. Each node stores up to {@link #MAX_NUMBER_OF_KEYS} keys, which are serialized
+ * prefix-compressed.
+ *
+ * @param <K> the key to search for or insert
+ * @param <V> the value
+ * @author Johannes Lichtenberger
+ */
+public final class BPlusTreeWriter<K extends Comparable<? super K>, V extends References>
+    extends AbstractIndexWriter<K, V, BPlusTreeNode<K, V>> {
+  /**
+   * The maximum number of keys of a node, before it is split.
+   */
+  static final int MAX_NUMBER_OF_KEYS = 64;
+
+  /**
+   * {@link BPlusTreeReader} instance.
+   */
+  private final BPlusTreeReader<K, V> reader;
+
+  /**
+   * The kind of the nodes.
+   */
+  private final NodeKind kind;
+
+  /**
+   * Private constructor.
+   *
+   * @param pageTrx {@link PageTrx} for persistent storage
+   * @param type    type of index
+   * @param index   the index number
+   */
+  private BPlusTreeWriter(final PageTrx pageTrx, final IndexType type, final @Nonnegative int index) {
+    super(pageTrx, type, index);
+    reader = BPlusTreeReader.getInstance(pageTrx, type, index);
+    kind = getKind(type, NodeKind.PATH_BPLUS_TREE_NODE, NodeKind.CAS_BPLUS_TREE_NODE, NodeKind.NAME_BPLUS_TREE_NODE);
+  }
+
+  /**
+   * Get a new instance.
+   *
+   * @param pageWriteTrx {@link PageTrx} for persistent storage
+   * @param type         type of index
+   * @param index        the index number
+   * @return new tree instance
+   */
+  public static <K extends Comparable<? super K>, V extends References> BPlusTreeWriter<K, V> getInstance(
+      final PageTrx pageWriteTrx, final IndexType type, final int index) {
+    return new BPlusTreeWriter<>(pageWriteTrx, type, index);
+  }
+
+  /**
+   * Indexes the value with the specified key, that is either the value of an existing index entry is replaced or a
+   * new index entry is inserted into the leaf node, which is split if it overflows.
+   *
+   * @param key   key to be indexed
+   * @param value node key references
+   * @return indexed node key references
+   * @throws SirixIOException if an I/O error occurs
+   */
+  @Override
+  public V index(final K key, final V value) {
+    checkNotNull(key);
+    checkNotNull(value);
+    reader.assertNotClosed();
+
+    final long rootKey = reader.getRootKey();
+    if (rootKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      // Index is empty.. create root node.
+      final BPlusTreeNode<K, V> root =
+          createNode(BPlusTreeNode.createLeafNode(kind, createNodeDelegate(), key, value));
+      final StructNode document = prepareDocumentRootForModification();
+      document.setFirstChildKey(root.getNodeKey());
+      document.incrementChildCount();
+      document.incrementDescendantCount();
+      return value;
+    }
+
+    // Remember the inner nodes from the root node to the leaf node.
+    final Deque<Long> path = new ArrayDeque<>();
+    long nodeKey = rootKey;
+    BPlusTreeNode<K, V> node = reader.getNode(nodeKey);
+    while (!node.isLeaf()) {
+      path.push(nodeKey);
+      nodeKey = node.getChildKey(node.getChildPosition(key));
+      node = reader.getNode(nodeKey);
+    }
+
+    final BPlusTreeNode<K, V> leaf = prepareNodeForModification(nodeKey);
+    final int position = leaf.search(key);
+    if (position >= 0) {
+      leaf.setValue(position, value);
+      return value;
+    }
+
+    leaf.insert(-position - 1, key, value);
+    prepareDocumentRootForModification().incrementDescendantCount();
+
+    if (leaf.getKeyCount() > MAX_NUMBER_OF_KEYS) {
+      split(leaf, path);
+    }
+    return value;
+  }
+
+  /**
+   * Splits an overflowing node and all overflowing ancestor nodes. If the root node is split a new root node is
+   * created.
+   *
+   * @param node the overflowing node
+   * @param path the node keys of the ancestor nodes, the parent node on top
+   */
+  private void split(BPlusTreeNode<K, V> node, final Deque<Long> path) {
+    while (node.getKeyCount() > MAX_NUMBER_OF_KEYS) {
+      final K separator;
+      final BPlusTreeNode<K, V> right;
+      if (node.isLeaf()) {
+        right = createNode(node.splitLeaf(createNodeDelegate()));
+        separator = right.getKey(0);
+      } else {
+        separator = node.getKey(node.getKeyCount() / 2);
+        right = createNode(node.splitInner(createNodeDelegate()));
+      }
+
+      if (path.isEmpty()) {
+        final BPlusTreeNode<K, V> root = createNode(BPlusTreeNode.createInnerNode(kind,
+                                                                                  createNodeDelegate(),
+                                                                                  node.getNodeKey(),
+                                                                                  separator,
+                                                                                  right.getNodeKey()));
+        prepareDocumentRootForModification().setFirstChildKey(root.getNodeKey());
+        return;
+      }
+
+      final BPlusTreeNode<K, V> parent = prepareNodeForModification(path.pop());
+      parent.insertChild(separator, right.getNodeKey());
+      node = parent;
+    }
+  }
+
+  /**
+   * Remove a node key from the value. The index entry itself is kept, even if no keys are stored anymore.
+   *
+   * @param key     the key for which to search the value
+   * @param nodeKey the nodeKey to remove from the value
+   * @return {@code true}, if the node key has been removed, {@code false} otherwise
+   * @throws SirixIOException if an I/O error occured
+   */
+  @Override
+  public boolean remove(final K key, final @Nonnegative long nodeKey) {
+    checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+    checkNotNull(key);
+    reader.assertNotClosed();
+
+    long treeNodeKey = reader.getRootKey();
+    if (treeNodeKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      return false;
+    }
+
+    BPlusTreeNode<K, V> node = reader.getNode(treeNodeKey);
+    while (!node.isLeaf()) {
+      treeNodeKey = node.getChildKey(node.getChildPosition(key));
+      node = reader.getNode(treeNodeKey);
+    }
+
+    final int position = node.search(key);
+    if (position < 0 || !node.getValue(position).contains(nodeKey)) {
+      return false;
+    }
+
+    final BPlusTreeNode<K, V> leaf = prepareNodeForModification(treeNodeKey);
+    return leaf.getValue(position).removeNodeKey(nodeKey);
+  }
+
+  /**
+   * Get the {@link BPlusTreeReader} used to search.
+   *
+   * @return {@link BPlusTreeReader} reference
+   */
+  @Override
+  public BPlusTreeReader<K, V> getReader() {
+    return reader;
+  }
+}
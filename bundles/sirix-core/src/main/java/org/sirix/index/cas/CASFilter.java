@@ -5,9 +5,7 @@ import org.brackit.xquery.atomic.QNm;
 import org.brackit.xquery.util.path.Path;
 import org.sirix.index.Filter;
 import org.sirix.index.SearchMode;
-import org.sirix.index.redblacktree.RBNode;
-import org.sirix.index.redblacktree.keyvalue.CASValue;
-import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.index.keyvalue.CASValue;
 import org.sirix.index.path.PCRCollector;
 import org.sirix.index.path.PathFilter;
 
@@ -68,17 +66,16 @@ public final class CASFilter implements Filter {
   }
 
   /**
-   * Filter the node.
+   * Filter the key.
    *
-   * @param node node to filter
-   * @return {@code true} if the node has been filtered, {@code false} otherwise
+   * @param key key to filter
+   * @return {@code true} if the key has been filtered, {@code false} otherwise
    */
   @Override
-  public <K extends Comparable<? super K>> boolean filter(final RBNode<K, NodeReferences> node) {
-    final K key = node.getKey();
+  public <K extends Comparable<? super K>> boolean filter(final K key) {
     if (key instanceof CASValue) {
       final CASValue casValue = (CASValue) key;
-      return pathFilter.filter(node) && (this.key == null || mode.compare(this.key, casValue.getAtomicValue()) == 0);
+      return pathFilter.filter(key) && (this.key == null || mode.compare(this.key, casValue.getAtomicValue()) == 0);
     }
     return true;
   }
@@ -5,9 +5,7 @@ import org.brackit.xquery.atomic.QNm;
 import org.brackit.xquery.util.path.Path;
 import org.sirix.index.AtomicUtil;
 import org.sirix.index.Filter;
-import org.sirix.index.redblacktree.RBNode;
-import org.sirix.index.redblacktree.keyvalue.CASValue;
-import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.index.keyvalue.CASValue;
 import org.sirix.index.path.PCRCollector;
 import org.sirix.index.path.PathFilter;
 
@@ -61,12 +59,23 @@ public final class CASFilterRange implements Filter {
     mIncMax = incMax;
   }
 
+  public Set<Long> getPCRs() {
+    return mPathFilter.getPCRs();
+  }
+
+  public Atomic getMin() {
+    return mMin;
+  }
+
+  public Atomic getMax() {
+    return mMax;
+  }
+
   @Override
-  public <K extends Comparable<? super K>> boolean filter(final RBNode<K, NodeReferences> node) {
-    final K key = node.getKey();
+  public <K extends Comparable<? super K>> boolean filter(final K key) {
     if (key instanceof CASValue) {
       final CASValue casValue = (CASValue) key;
-      final boolean filtered = mPathFilter.filter(node);
+      final boolean filtered = mPathFilter.filter(key);
 
       if (filtered) {
         return inRange(AtomicUtil.toType(casValue.getAtomicValue(), casValue.getType()));
@@ -1,24 +1,24 @@
 package org.sirix.index.cas;
 
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Streams;
 import org.brackit.xquery.atomic.Atomic;
 import org.sirix.api.NodeCursor;
 import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.api.PageTrx;
 import org.sirix.index.ChangeListener;
+import org.sirix.index.Filter;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexFilterAxis;
+import org.sirix.index.IndexReader;
 import org.sirix.index.SearchMode;
-import org.sirix.index.redblacktree.RBNode;
-import org.sirix.index.redblacktree.RBTreeReader;
-import org.sirix.index.redblacktree.keyvalue.CASValue;
-import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.index.keyvalue.CASValue;
+import org.sirix.index.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
-import org.sirix.settings.Fixed;
 
 import java.util.*;
-import java.util.function.Function;
+import java.util.function.Predicate;
 
 public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx & NodeCursor> {
   B createBuilder(R rtx, PageTrx pageWriteTrx, PathSummaryReader pathSummaryReader, IndexDef indexDef);
@@ -26,105 +26,67 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
   L createListener(PageTrx pageWriteTrx, PathSummaryReader pathSummaryReader, IndexDef indexDef);
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, CASFilterRange filter) {
-    final RBTreeReader<CASValue, NodeReferences> reader =
-        RBTreeReader.getInstance(pageRtx.getResourceManager().getIndexCache(),
-                                 pageRtx,
-                                 indexDef.getType(),
-                                 indexDef.getID());
+    final IndexReader<CASValue, NodeReferences> reader = indexDef.getBackendType().createReader(pageRtx, indexDef);
 
-    final Iterator<RBNode<CASValue, NodeReferences>> iter =
-        reader.new RBNodeIterator(Fixed.DOCUMENT_NODE_KEY.getStandardProperty());
+    final Set<Long> pcrs = filter.getPCRs();
 
-    return new IndexFilterAxis<>(iter, Set.of(filter));
+    if (pcrs.isEmpty()) {
+      return new IndexFilterAxis<>(reader.iterator(), Set.of(filter));
+    }
+
+    // Read the leaves sequentially from the minimum up to the maximum value of each path class record.
+    final Atomic min = filter.getMin();
+    final Atomic max = filter.getMax();
+
+    return Iterators.concat(pcrs.stream().sorted().map(pcr -> {
+      final CASValue fromValue = new CASValue(min, min.type(), pcr);
+      final CASValue toValue = new CASValue(max, max.type(), pcr);
+
+      return scan(reader.iterator(fromValue, Comparator.naturalOrder()), key -> key.compareTo(toValue) <= 0, filter);
+    }).iterator());
   }
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, CASFilter filter) {
-    final RBTreeReader<CASValue, NodeReferences> reader =
-        RBTreeReader.getInstance(pageRtx.getResourceManager().getIndexCache(),
-                                 pageRtx,
-                                 indexDef.getType(),
-                                 indexDef.getID());
+    final IndexReader<CASValue, NodeReferences> reader = indexDef.getBackendType().createReader(pageRtx, indexDef);
 
     // PCRs requested.
     final Set<Long> pcrsRequested = filter == null ? Collections.emptySet() : filter.getPCRs();
 
-    // PCRs available in index.
-    final Set<Long> pcrsAvailable = filter == null
-        ? Collections.emptySet()
-        : filter.getPCRCollector().getPCRsForPaths(indexDef.getPaths()).getPCRs();
-
-    // Only one path indexed and requested. All PCRs are the same in each CASValue.
-    if (pcrsAvailable.size() <= 1 && pcrsRequested.size() == 1) {
-      final Atomic atomic = filter.getKey();
-      final long pcr = pcrsRequested.iterator().next();
-      final SearchMode mode = filter.getMode();
-
-      final CASValue value = new CASValue(atomic, atomic != null ? atomic.type() : null, pcr);
-
-      if (mode == SearchMode.EQUAL) {
-        // Compare for equality by PCR and atomic value.
-        final Optional<RBNode<CASValue, NodeReferences>> optionalNode = reader.getCurrentAVLNode(value, mode);
-
-        return optionalNode.map(node -> Iterators.forArray(node.getValue()))
-                           .orElse(Iterators.unmodifiableIterator(Collections.emptyIterator()));
-      } else {
-        // Compare for search criteria by PCR and atomic value.
-        final Optional<RBNode<CASValue, NodeReferences>> optionalNode = reader.getCurrentAVLNode(value, mode);
-
-        return optionalNode.map(concatWithFilterAxis(filter, reader)).orElse(Collections.emptyIterator());
-      }
-    } else if (pcrsRequested.size() == 1) {
+    if (pcrsRequested.size() == 1 && filter.getKey() != null) {
       final Atomic atomic = filter.getKey();
       final long pcr = pcrsRequested.iterator().next();
       final SearchMode mode = filter.getMode();
 
       final CASValue value = new CASValue(atomic, atomic.type(), pcr);
 
-      if (mode == SearchMode.EQUAL) {
+      return switch (mode) {
         // Compare for equality by PCR and atomic value.
-        final Optional<RBNode<CASValue, NodeReferences>> optionalNode = reader.getCurrentAVLNode(value, mode);
-
-        return optionalNode.map(concatWithFilterAxis(filter, reader)).orElse(Collections.emptyIterator());
-      } else {
-        // Compare for equality only by PCR.
-        final Optional<RBNode<CASValue, NodeReferences>> optionalNode =
-            reader.getCurrentAVLNode(value, SearchMode.EQUAL, Comparator.comparingLong(CASValue::getPathNodeKey));
-
-        return optionalNode.map(findFirstNodeWithMatchingPCRAndAtomicValue(filter, reader, mode, value))
-                           .orElse(Collections.emptyIterator());
-      }
+        case EQUAL -> reader.get(value, mode)
+                            .map(references -> Iterators.forArray(references))
+                            .orElse(Iterators.unmodifiableIterator(Collections.emptyIterator()));
+        // Read the leaves sequentially from the atomic value up to the last value of the PCR.
+        case GREATER, GREATER_OR_EQUAL -> scan(reader.iterator(value, Comparator.naturalOrder()),
+                                               key -> key.getPathNodeKey() == pcr,
+                                               filter);
+        // Read the leaves sequentially from the first value of the PCR up to the atomic value.
+        case LOWER, LOWER_OR_EQUAL -> scan(reader.iterator(value, Comparator.comparingLong(CASValue::getPathNodeKey)),
+                                           key -> key.compareTo(value) <= 0,
+                                           filter);
+        // Read the entries of the PCR, whose atomic values start with the given value.
+        case STARTS_WITH -> new IndexFilterAxis<>(reader.prefixIterator(value), Set.of(filter));
+      };
     } else {
-      final Iterator<RBNode<CASValue, NodeReferences>> iter =
-          reader.new RBNodeIterator(Fixed.DOCUMENT_NODE_KEY.getStandardProperty());
+      final Set<Filter> setFilter = filter == null ? Set.of() : Set.of(filter);
 
-      return new IndexFilterAxis<>(iter, Set.of(filter));
+      return new IndexFilterAxis<>(reader.iterator(), setFilter);
     }
   }
 
-  private Function<RBNode<CASValue, NodeReferences>, Iterator<NodeReferences>> findFirstNodeWithMatchingPCRAndAtomicValue(
-      CASFilter filter, RBTreeReader<CASValue, NodeReferences> reader, SearchMode mode, CASValue value) {
-    return node -> {
-      // Now compare for equality by PCR and atomic value and find first
-      // node which satisfies criteria.
-      final Optional<RBNode<CASValue, NodeReferences>> firstFoundNode =
-          reader.getCurrentAVLNode(node.getNodeKey(), value, mode);
-
-      return firstFoundNode.map(theNode -> {
-        // Iterate over subtree.
-        final Iterator<RBNode<CASValue, NodeReferences>> iter = reader.new RBNodeIterator(theNode.getNodeKey());
-
-        return (Iterator<NodeReferences>) new IndexFilterAxis<>(iter, Set.of(filter));
-      }).orElse(Collections.emptyIterator());
-    };
-  }
-
-  private Function<RBNode<CASValue, NodeReferences>, Iterator<NodeReferences>> concatWithFilterAxis(CASFilter filter,
-      RBTreeReader<CASValue, NodeReferences> reader) {
-    return node -> {
-      // Iterate over subtree.
-      final Iterator<RBNode<CASValue, NodeReferences>> iter = reader.new RBNodeIterator(node.getNodeKey());
+  private Iterator<NodeReferences> scan(Iterator<Map.Entry<CASValue, NodeReferences>> entries,
+      Predicate<CASValue> isInRange, Filter filter) {
+    final Iterator<Map.Entry<CASValue, NodeReferences>> entriesInRange =
+        Streams.stream(entries).takeWhile(entry -> isInRange.test(entry.getKey())).iterator();
 
-      return new IndexFilterAxis<>(iter, Set.of(filter));
-    };
+    return new IndexFilterAxis<>(entriesInRange, Set.of(filter));
   }
 }
@@ -11,10 +11,9 @@ import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixRuntimeException;
 import org.sirix.index.AtomicUtil;
 import org.sirix.index.SearchMode;
-import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
-import org.sirix.index.redblacktree.RBTreeWriter;
-import org.sirix.index.redblacktree.keyvalue.CASValue;
-import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.index.IndexWriter;
+import org.sirix.index.keyvalue.CASValue;
+import org.sirix.index.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.immutable.json.ImmutableBooleanNode;
 import org.sirix.node.immutable.json.ImmutableNumberNode;
@@ -31,7 +30,7 @@ import java.util.Set;
 public final class CASIndexBuilder {
   private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(CASIndexBuilder.class));
 
-  private final RBTreeWriter<CASValue, NodeReferences> avlTreeWriter;
+  private final IndexWriter<CASValue, NodeReferences> treeWriter;
 
   private final PathSummaryReader pathSummaryReader;
 
@@ -39,11 +38,11 @@ public final class CASIndexBuilder {
 
   private final Type type;
 
-  public CASIndexBuilder(final RBTreeWriter<CASValue, NodeReferences> avlTreeWriter,
+  public CASIndexBuilder(final IndexWriter<CASValue, NodeReferences> treeWriter,
       final PathSummaryReader pathSummaryReader, final Set<Path<QNm>> paths, final Type type) {
     this.pathSummaryReader = pathSummaryReader;
     this.paths = paths;
-    this.avlTreeWriter = avlTreeWriter;
+    this.treeWriter = treeWriter;
     this.type = type;
   }
 
@@ -76,7 +75,7 @@ public final class CASIndexBuilder {
 
         if (isOfType) {
           final CASValue value = new CASValue(strValue, type, pathNodeKey);
-          final Optional<NodeReferences> textReferences = avlTreeWriter.get(value, SearchMode.EQUAL);
+          final Optional<NodeReferences> textReferences = treeWriter.get(value, SearchMode.EQUAL);
           if (textReferences.isPresent()) {
             setNodeReferences(node, textReferences.get(), value);
           } else {
@@ -92,6 +91,6 @@ public final class CASIndexBuilder {
 
   private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final CASValue value)
       throws SirixIOException {
-    avlTreeWriter.index(value, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
+    treeWriter.index(value, references.addNodeKey(node.getNodeKey()));
   }
 }
@@ -9,10 +9,9 @@ import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixRuntimeException;
 import org.sirix.index.AtomicUtil;
 import org.sirix.index.SearchMode;
-import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
-import org.sirix.index.redblacktree.RBTreeWriter;
-import org.sirix.index.redblacktree.keyvalue.CASValue;
-import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.index.IndexWriter;
+import org.sirix.index.keyvalue.CASValue;
+import org.sirix.index.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 
@@ -21,15 +20,15 @@ import java.util.Set;
 
 public final class CASIndexListener {
 
-  private final RBTreeWriter<CASValue, NodeReferences> redBlackTreeWriter;
+  private final IndexWriter<CASValue, NodeReferences> treeWriter;
   private final PathSummaryReader pathSummaryReader;
   private final Set<Path<QNm>> paths;
   private final Type type;
 
   public CASIndexListener(final PathSummaryReader pathSummaryReader,
-      final RBTreeWriter<CASValue, NodeReferences> redBlackTreeWriter, final Set<Path<QNm>> paths, final Type type) {
+      final IndexWriter<CASValue, NodeReferences> treeWriter, final Set<Path<QNm>> paths, final Type type) {
     this.pathSummaryReader = pathSummaryReader;
-    this.redBlackTreeWriter = redBlackTreeWriter;
+    this.treeWriter = treeWriter;
     this.paths = paths;
     this.type = type;
   }
@@ -44,7 +43,7 @@ public final class CASIndexListener {
         break;
       case DELETE:
         if (pathSummaryReader.getPCRsForPaths(paths, false).contains(pathNodeKey)) {
-          redBlackTreeWriter.remove(new CASValue(value, this.type, pathNodeKey), node.getNodeKey());
+          treeWriter.remove(new CASValue(value, this.type, pathNodeKey), node.getNodeKey());
         }
         break;
       default:
@@ -61,7 +60,7 @@ public final class CASIndexListener {
 
     if (isOfType) {
       final CASValue indexValue = new CASValue(value, type, pathNodeKey);
-      final Optional<NodeReferences> textReferences = redBlackTreeWriter.get(indexValue, SearchMode.EQUAL);
+      final Optional<NodeReferences> textReferences = treeWriter.get(indexValue, SearchMode.EQUAL);
       if (textReferences.isPresent()) {
         setNodeReferences(node, new NodeReferences(textReferences.get().getNodeKeys()), indexValue);
       } else {
@@ -71,6 +70,6 @@ public final class CASIndexListener {
   }
 
   private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final CASValue indexValue) {
-    redBlackTreeWriter.index(indexValue, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
+    treeWriter.index(indexValue, references.addNodeKey(node.getNodeKey()));
   }
 }
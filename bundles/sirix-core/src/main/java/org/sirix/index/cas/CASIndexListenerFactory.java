@@ -3,9 +3,9 @@ package org.sirix.index.cas;
 import static com.google.common.base.Preconditions.checkNotNull;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexDef;
-import org.sirix.index.redblacktree.RBTreeWriter;
-import org.sirix.index.redblacktree.keyvalue.CASValue;
-import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.index.IndexWriter;
+import org.sirix.index.keyvalue.CASValue;
+import org.sirix.index.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
 
 public final class CASIndexListenerFactory {
@@ -13,11 +13,11 @@ public final class CASIndexListenerFactory {
   public CASIndexListener create(final PageTrx pageTrx,
       final PathSummaryReader pathSummaryReader, final IndexDef indexDef) {
     final var pathSummary = checkNotNull(pathSummaryReader);
-    final var avlTreeWriter =
-        RBTreeWriter.<CASValue, NodeReferences>getInstance(pageTrx, indexDef.getType(), indexDef.getID());
+    final var treeWriter =
+        indexDef.getBackendType().<CASValue, NodeReferences>createWriter(pageTrx, indexDef);
     final var type = checkNotNull(indexDef.getContentType());
     final var paths = checkNotNull(indexDef.getPaths());
 
-    return new CASIndexListener(pathSummary, avlTreeWriter, paths, type);
+    return new CASIndexListener(pathSummary, treeWriter, paths, type);
   }
 }
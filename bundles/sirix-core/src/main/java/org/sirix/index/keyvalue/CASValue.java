@@ -1,4 +1,4 @@
-package org.sirix.index.redblacktree.keyvalue;
+package org.sirix.index.keyvalue;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
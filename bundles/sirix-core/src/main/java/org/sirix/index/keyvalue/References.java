@@ -1,4 +1,4 @@
-package org.sirix.index.redblacktree.interfaces;
+package org.sirix.index.keyvalue;
 
 import java.util.Set;
 import javax.annotation.Nonnegative;
@@ -2,8 +2,6 @@ package org.sirix.index.name;
 
 import org.brackit.xquery.atomic.QNm;
 import org.sirix.index.Filter;
-import org.sirix.index.redblacktree.RBNode;
-import org.sirix.index.redblacktree.keyvalue.NodeReferences;
 
 import java.util.Collections;
 import java.util.Set;
@@ -30,11 +28,11 @@ public final class NameFilter implements Filter {
   }
 
   @Override
-  public <K extends Comparable<? super K>> boolean filter(final RBNode<K, NodeReferences> node) {
-    if (!(node.getKey() instanceof QNm))
+  public <K extends Comparable<? super K>> boolean filter(final K key) {
+    if (!(key instanceof QNm))
       throw new IllegalStateException("Key is not of type QNm!");
 
-    final QNm name = (QNm) node.getKey();
+    final QNm name = (QNm) key;
     final boolean included = (includes.isEmpty() || includes.contains(name));
     final boolean excluded = (!excludes.isEmpty() && excludes.contains(name));
 
@@ -11,11 +11,9 @@ import org.sirix.index.ChangeListener;
 import org.sirix.index.Filter;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexFilterAxis;
+import org.sirix.index.IndexReader;
 import org.sirix.index.SearchMode;
-import org.sirix.index.redblacktree.RBNode;
-import org.sirix.index.redblacktree.RBTreeReader;
-import org.sirix.index.redblacktree.keyvalue.NodeReferences;
-import org.sirix.settings.Fixed;
+import org.sirix.index.keyvalue.NodeReferences;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterators;
 
@@ -25,22 +23,16 @@ public interface NameIndex<B, L extends ChangeListener> {
   L createListener(PageTrx pageTrx, IndexDef indexDef);
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, NameFilter filter) {
-    final RBTreeReader<QNm, NodeReferences> reader =
-        RBTreeReader.getInstance(pageRtx.getResourceManager().getIndexCache(),
-                                 pageRtx,
-                                 indexDef.getType(),
-                                 indexDef.getID());
+    final IndexReader<QNm, NodeReferences> reader = indexDef.getBackendType().createReader(pageRtx, indexDef);
 
     if (filter.getIncludes().size() == 1 && filter.getExcludes().isEmpty()) {
       final Optional<NodeReferences> optionalNodeReferences =
           reader.get(filter.getIncludes().iterator().next(), SearchMode.EQUAL);
       return Iterators.forArray(optionalNodeReferences.orElse(new NodeReferences()));
     } else {
-      final Iterator<RBNode<QNm, NodeReferences>> iter =
-          reader.new RBNodeIterator(Fixed.DOCUMENT_NODE_KEY.getStandardProperty());
       final Set<Filter> setFilter = filter == null ? ImmutableSet.of() : ImmutableSet.of(filter);
 
-      return new IndexFilterAxis<>(iter, setFilter);
+      return new IndexFilterAxis<>(reader.iterator(), setFilter);
     }
   }
 }
@@ -6,9 +6,8 @@ import org.brackit.xquery.atomic.QNm;
 import org.sirix.api.visitor.VisitResultType;
 import org.sirix.exception.SirixIOException;
 import org.sirix.index.SearchMode;
-import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
-import org.sirix.index.redblacktree.RBTreeWriter;
-import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.index.IndexWriter;
+import org.sirix.index.keyvalue.NodeReferences;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 import org.sirix.utils.LogWrapper;
 import org.slf4j.LoggerFactory;
@@ -18,13 +17,13 @@ public final class NameIndexBuilder {
 
   public Set<QNm> mIncludes;
   public Set<QNm> mExcludes;
-  public RBTreeWriter<QNm, NodeReferences> mAVLTreeWriter;
+  public IndexWriter<QNm, NodeReferences> mTreeWriter;
 
   public NameIndexBuilder(final Set<QNm> includes, final Set<QNm> excludes,
-      final RBTreeWriter<QNm, NodeReferences> avlTreeWriter) {
+      final IndexWriter<QNm, NodeReferences> treeWriter) {
     mIncludes = includes;
     mExcludes = excludes;
-    mAVLTreeWriter = avlTreeWriter;
+    mTreeWriter = treeWriter;
   }
 
   public VisitResultType build(QNm name, ImmutableNode node) {
@@ -35,7 +34,7 @@ public final class NameIndexBuilder {
       return VisitResultType.CONTINUE;
     }
 
-    final Optional<NodeReferences> textReferences = mAVLTreeWriter.get(name, SearchMode.EQUAL);
+    final Optional<NodeReferences> textReferences = mTreeWriter.get(name, SearchMode.EQUAL);
 
     try {
       textReferences.ifPresentOrElse(nodeReferences -> setNodeReferences(node, nodeReferences, name),
@@ -48,6 +47,6 @@ public final class NameIndexBuilder {
   }
 
   private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final QNm name) {
-    mAVLTreeWriter.index(name, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
+    mTreeWriter.index(name, references.addNodeKey(node.getNodeKey()));
   }
 }
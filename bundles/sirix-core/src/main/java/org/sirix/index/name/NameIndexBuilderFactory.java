@@ -5,8 +5,8 @@ import org.brackit.xquery.atomic.QNm;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexType;
-import org.sirix.index.redblacktree.RBTreeWriter;
-import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.index.IndexWriter;
+import org.sirix.index.keyvalue.NodeReferences;
 
 public final class NameIndexBuilderFactory {
 
@@ -15,9 +15,9 @@ public final class NameIndexBuilderFactory {
     final var includes = checkNotNull(indexDefinition.getIncluded());
     final var excludes = checkNotNull(indexDefinition.getExcluded());
     assert indexDefinition.getType() == IndexType.NAME;
-    final var avlTreeWriter = RBTreeWriter.<QNm, NodeReferences>getInstance(pageTrx, indexDefinition.getType(),
-                                                                            indexDefinition.getID());
+    final var treeWriter =
+        indexDefinition.getBackendType().<QNm, NodeReferences>createWriter(pageTrx, indexDefinition);
 
-    return new NameIndexBuilder(includes, excludes, avlTreeWriter);
+    return new NameIndexBuilder(includes, excludes, treeWriter);
   }
 }
@@ -6,22 +6,21 @@ import javax.annotation.Nonnull;
 import org.brackit.xquery.atomic.QNm;
 import org.sirix.access.trx.node.xml.XmlIndexController.ChangeType;
 import org.sirix.index.SearchMode;
-import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
-import org.sirix.index.redblacktree.RBTreeWriter;
-import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.index.IndexWriter;
+import org.sirix.index.keyvalue.NodeReferences;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 
 public final class NameIndexListener {
 
   private final Set<QNm> mIncludes;
   private final Set<QNm> mExcludes;
-  private final RBTreeWriter<QNm, NodeReferences> mAVLTreeWriter;
+  private final IndexWriter<QNm, NodeReferences> mTreeWriter;
 
   public NameIndexListener(final Set<QNm> includes, final Set<QNm> excludes,
-      final RBTreeWriter<QNm, NodeReferences> avlTreeWriter) {
+      final IndexWriter<QNm, NodeReferences> treeWriter) {
     mIncludes = includes;
     mExcludes = excludes;
-    mAVLTreeWriter = avlTreeWriter;
+    mTreeWriter = treeWriter;
   }
 
   public void listen(ChangeType type, @Nonnull ImmutableNode node, QNm name) {
@@ -34,7 +33,7 @@ public final class NameIndexListener {
 
     switch (type) {
       case INSERT:
-        final Optional<NodeReferences> textReferences = mAVLTreeWriter.get(name, SearchMode.EQUAL);
+        final Optional<NodeReferences> textReferences = mTreeWriter.get(name, SearchMode.EQUAL);
         if (textReferences.isPresent()) {
           setNodeReferences(node, textReferences.get(), name);
         } else {
@@ -42,14 +41,14 @@ public final class NameIndexListener {
         }
         break;
       case DELETE:
-        mAVLTreeWriter.remove(name, node.getNodeKey());
+        mTreeWriter.remove(name, node.getNodeKey());
         break;
       default:
     }
   }
 
   private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final QNm name) {
-    mAVLTreeWriter.index(name, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
+    mTreeWriter.index(name, references.addNodeKey(node.getNodeKey()));
   }
 
 }
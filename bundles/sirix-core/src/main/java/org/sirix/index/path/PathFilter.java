@@ -3,9 +3,7 @@ package org.sirix.index.path;
 import org.brackit.xquery.atomic.QNm;
 import org.brackit.xquery.util.path.Path;
 import org.sirix.index.Filter;
-import org.sirix.index.redblacktree.RBNode;
-import org.sirix.index.redblacktree.keyvalue.CASValue;
-import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.index.keyvalue.CASValue;
 import org.sirix.index.path.summary.PathSummaryReader;
 
 import java.util.Collections;
@@ -61,19 +59,17 @@ public final class PathFilter implements Filter {
   }
 
   /**
-   * Filter the node.
+   * Filter the key.
    *
-   * @param node node to filter
-   * @return {@code true} if the node has been filtered, {@code false} otherwise
+   * @param key key to filter
+   * @return {@code true} if the key has been filtered, {@code false} otherwise
    */
   @Override
-  public <K extends Comparable<? super K>> boolean filter(final RBNode<K, NodeReferences> node) {
+  public <K extends Comparable<? super K>> boolean filter(final K key) {
     if (genericPath) {
       return true;
     }
 
-    final K key = node.getKey();
-
     long pcr;
     if (key instanceof Long)
       pcr = (Long) key;
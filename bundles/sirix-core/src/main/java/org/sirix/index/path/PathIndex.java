@@ -10,12 +10,10 @@ import org.sirix.index.ChangeListener;
 import org.sirix.index.Filter;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexFilterAxis;
+import org.sirix.index.IndexReader;
 import org.sirix.index.SearchMode;
-import org.sirix.index.redblacktree.RBNode;
-import org.sirix.index.redblacktree.RBTreeReader;
-import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.index.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
-import org.sirix.settings.Fixed;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterators;
 
@@ -26,22 +24,16 @@ public interface PathIndex<B, L extends ChangeListener> {
 
   default Iterator<NodeReferences> openIndex(final PageReadOnlyTrx pageRtx, final IndexDef indexDef,
       final PathFilter filter) {
-    final RBTreeReader<Long, NodeReferences> reader =
-        RBTreeReader.getInstance(pageRtx.getResourceManager().getIndexCache(),
-                                 pageRtx,
-                                 indexDef.getType(),
-                                 indexDef.getID());
+    final IndexReader<Long, NodeReferences> reader = indexDef.getBackendType().createReader(pageRtx, indexDef);
 
     if (filter != null && filter.getPCRs().size() == 1) {
       final Optional<NodeReferences> optionalNodeReferences =
           reader.get(filter.getPCRs().iterator().next(), SearchMode.EQUAL);
       return Iterators.forArray(optionalNodeReferences.orElse(new NodeReferences()));
     } else {
-      final Iterator<RBNode<Long, NodeReferences>> iter =
-          reader.new RBNodeIterator(Fixed.DOCUMENT_NODE_KEY.getStandardProperty());
       final Set<Filter> setFilter = filter == null ? ImmutableSet.of() : ImmutableSet.of(filter);
 
-      return new IndexFilterAxis<>(iter, setFilter);
+      return new IndexFilterAxis<>(reader.iterator(), setFilter);
     }
   }
 }
@@ -4,8 +4,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexType;
-import org.sirix.index.redblacktree.RBTreeWriter;
-import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.index.IndexWriter;
+import org.sirix.index.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
 
 public final class PathIndexBuilderFactory {
@@ -15,9 +15,9 @@ public final class PathIndexBuilderFactory {
     final var pathSummary = checkNotNull(pathSummaryReader);
     final var paths = checkNotNull(indexDef.getPaths());
     assert indexDef.getType() == IndexType.PATH;
-    final var avlTreeWriter =
-        RBTreeWriter.<Long, NodeReferences>getInstance(pageTrx, indexDef.getType(), indexDef.getID());
+    final var treeWriter =
+        indexDef.getBackendType().<Long, NodeReferences>createWriter(pageTrx, indexDef);
 
-    return new PathIndexBuilder(avlTreeWriter, pathSummary, paths);
+    return new PathIndexBuilder(treeWriter, pathSummary, paths);
   }
 }
@@ -8,21 +8,20 @@ import org.brackit.xquery.util.path.PathException;
 import org.sirix.access.trx.node.xml.XmlIndexController.ChangeType;
 import org.sirix.exception.SirixIOException;
 import org.sirix.index.SearchMode;
-import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
-import org.sirix.index.redblacktree.RBTreeWriter;
-import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.index.IndexWriter;
+import org.sirix.index.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 
 public final class PathIndexListener {
 
-  private final RBTreeWriter<Long, NodeReferences> avlTreeWriter;
+  private final IndexWriter<Long, NodeReferences> treeWriter;
   private final PathSummaryReader pathSummaryReader;
   private final Set<Path<QNm>> paths;
 
   public PathIndexListener(final Set<Path<QNm>> paths, final PathSummaryReader pathSummaryReader,
-      final RBTreeWriter<Long, NodeReferences> avlTreeWriter) {
-    this.avlTreeWriter = avlTreeWriter;
+      final IndexWriter<Long, NodeReferences> treeWriter) {
+    this.treeWriter = treeWriter;
     this.pathSummaryReader = pathSummaryReader;
     this.paths = paths;
   }
@@ -33,7 +32,7 @@ public final class PathIndexListener {
       switch (type) {
         case INSERT:
           if (pathSummaryReader.getPCRsForPaths(paths, false).contains(pathNodeKey)) {
-            final Optional<NodeReferences> textReferences = avlTreeWriter.get(pathNodeKey, SearchMode.EQUAL);
+            final Optional<NodeReferences> textReferences = treeWriter.get(pathNodeKey, SearchMode.EQUAL);
             if (textReferences.isPresent()) {
               setNodeReferences(node, textReferences.get(), pathNodeKey);
             } else {
@@ -43,7 +42,7 @@ public final class PathIndexListener {
           break;
         case DELETE:
           if (pathSummaryReader.getPCRsForPaths(paths, false).contains(pathNodeKey)) {
-            avlTreeWriter.remove(pathNodeKey, node.getNodeKey());
+            treeWriter.remove(pathNodeKey, node.getNodeKey());
           }
           break;
         default:
@@ -55,6 +54,6 @@ public final class PathIndexListener {
 
   private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final long pathNodeKey)
       throws SirixIOException {
-    avlTreeWriter.index(pathNodeKey, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
+    treeWriter.index(pathNodeKey, references.addNodeKey(node.getNodeKey()));
   }
 }
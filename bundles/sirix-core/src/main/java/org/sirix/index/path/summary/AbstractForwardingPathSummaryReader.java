@@ -38,6 +38,21 @@ public abstract class AbstractForwardingPathSummaryReader extends ForwardingObje
     return delegate().storeDeweyIDs();
   }
 
+  @Override
+  public boolean isFlyweightModeSupported() {
+    return delegate().isFlyweightModeSupported();
+  }
+
+  @Override
+  public void setFlyweightMode(boolean enabled) {
+    delegate().setFlyweightMode(enabled);
+  }
+
+  @Override
+  public boolean isFlyweightMode() {
+    return delegate().isFlyweightMode();
+  }
+
   @Override
   public Optional<User> getUser() {
     return delegate().getUser();
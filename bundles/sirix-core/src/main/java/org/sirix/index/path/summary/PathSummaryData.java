@@ -0,0 +1,177 @@
+package org.sirix.index.path.summary;
+
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.util.path.Path;
+import org.sirix.api.NodeReadOnlyTrx;
+import org.sirix.api.NodeTrx;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.api.ResourceManager;
+import org.sirix.index.IndexType;
+import org.sirix.node.interfaces.StructNode;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An immutable snapshot of the path summary of a revision, which is shared amongst all {@link PathSummaryReader}s of
+ * the revision. A snapshot is either built by traversing the whole path summary or derived from the snapshot of the
+ * previous revision and the path nodes, which have been changed by the commit of the revision.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PathSummaryData {
+
+  /**
+   * Mapping of a path node key to the path node/document root node.
+   */
+  private final Map<Long, StructNode> pathNodeMapping;
+
+  /**
+   * Mapping of a {@link QNm} to a set of path nodes.
+   */
+  private final Map<QNm, Set<PathNode>> qnmMapping;
+
+  /**
+   * Mapping of a path node key to the name of the path node.
+   */
+  private final Map<Long, QNm> nameMapping;
+
+  /**
+   * The path cache, filled by the readers of the revision.
+   */
+  private final Map<Path<QNm>, Set<Long>> pathCache;
+
+  /**
+   * Private constructor.
+   *
+   * @param pathNodeMapping mapping of a path node key to the path node/document root node
+   * @param qnmMapping      mapping of a {@link QNm} to a set of path nodes
+   * @param nameMapping     mapping of a path node key to the name of the path node
+   */
+  private PathSummaryData(final Map<Long, StructNode> pathNodeMapping, final Map<QNm, Set<PathNode>> qnmMapping,
+      final Map<Long, QNm> nameMapping) {
+    this.pathNodeMapping = Collections.unmodifiableMap(pathNodeMapping);
+    this.qnmMapping = Collections.unmodifiableMap(qnmMapping);
+    this.nameMapping = Collections.unmodifiableMap(nameMapping);
+    pathCache = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Create the snapshot of a revision by traversing all path nodes.
+   *
+   * @param pageReadTrx     the page reader, which is bound to the revision
+   * @param resourceManager the resource manager
+   * @return the snapshot of the revision
+   */
+  public static PathSummaryData create(final PageReadOnlyTrx pageReadTrx,
+      final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager) {
+    // The reader isn't closed, as the page reader is used afterwards.
+    final PathSummaryReader pathSummaryReader = PathSummaryReader.getInstance(pageReadTrx, resourceManager);
+    return of(pathSummaryReader.getPathNodeMapping(), pathSummaryReader.getQnmMapping());
+  }
+
+  /**
+   * Create a snapshot from the mappings of a path summary reader.
+   *
+   * @param pathNodeMapping mapping of a path node key to the path node/document root node
+   * @param qnmMapping      mapping of a {@link QNm} to a set of path nodes
+   * @return the snapshot
+   */
+  private static PathSummaryData of(final Map<Long, StructNode> pathNodeMapping,
+      final Map<QNm, Set<PathNode>> qnmMapping) {
+    final Map<Long, StructNode> pathNodes = new HashMap<>(pathNodeMapping);
+    final Map<QNm, Set<PathNode>> names = new HashMap<>();
+    final Map<Long, QNm> nameMapping = new HashMap<>();
+
+    qnmMapping.forEach((name, nodes) -> {
+      names.put(name, Collections.unmodifiableSet(new HashSet<>(nodes)));
+      nodes.forEach(node -> nameMapping.put(node.getNodeKey(), name));
+    });
+
+    return new PathSummaryData(pathNodes, names, nameMapping);
+  }
+
+  /**
+   * Derive the snapshot of a revision from the snapshot of the previous revision by reading the changed path nodes.
+   *
+   * @param pageReadTrx         the page reader, which is bound to the revision
+   * @param changedPathNodeKeys the keys of the path nodes, which have been inserted, modified or removed by the
+   *                            commit of the revision
+   * @return the snapshot of the revision
+   */
+  public PathSummaryData update(final PageReadOnlyTrx pageReadTrx, final Set<Long> changedPathNodeKeys) {
+    checkNotNull(pageReadTrx);
+    checkNotNull(changedPathNodeKeys);
+
+    final Map<Long, StructNode> pathNodes = new HashMap<>(pathNodeMapping);
+    final Map<QNm, Set<PathNode>> names = new HashMap<>(qnmMapping);
+    final Map<Long, QNm> nameMapping = new HashMap<>(this.nameMapping);
+    final Set<QNm> copiedNames = new HashSet<>();
+
+    for (final long pathNodeKey : changedPathNodeKeys) {
+      final StructNode oldNode = pathNodes.remove(pathNodeKey);
+      final QNm oldName = nameMapping.remove(pathNodeKey);
+
+      if (oldNode instanceof PathNode && oldName != null) {
+        final Set<PathNode> nodes = copyOnce(names, copiedNames, oldName);
+        nodes.removeIf(node -> node.getNodeKey() == pathNodeKey);
+
+        if (nodes.isEmpty()) {
+          names.remove(oldName);
+          copiedNames.remove(oldName);
+        }
+      }
+
+      final Optional<StructNode> newNode = pageReadTrx.getRecord(pathNodeKey, IndexType.PATH_SUMMARY, 0);
+
+      if (newNode.isEmpty()) {
+        continue;
+      }
+
+      pathNodes.put(pathNodeKey, newNode.get());
+
+      if (newNode.get() instanceof PathNode pathNode) {
+        final QNm name = PathSummaryReader.getName(pageReadTrx, pathNode);
+        copyOnce(names, copiedNames, name).add(pathNode);
+        nameMapping.put(pathNodeKey, name);
+      }
+    }
+
+    names.replaceAll((name, nodes) -> copiedNames.contains(name) ? Collections.unmodifiableSet(nodes) : nodes);
+
+    return new PathSummaryData(pathNodes, names, nameMapping);
+  }
+
+  /**
+   * Get a mutable copy of the path nodes with the given name, which is only created once per update.
+   */
+  private static Set<PathNode> copyOnce(final Map<QNm, Set<PathNode>> names, final Set<QNm> copiedNames,
+      final QNm name) {
+    if (copiedNames.add(name)) {
+      final Set<PathNode> nodes = names.get(name);
+      final Set<PathNode> copy = nodes == null ? new HashSet<>() : new HashSet<>(nodes);
+      names.put(name, copy);
+      return copy;
+    }
+    return names.get(name);
+  }
+
+  Map<Long, StructNode> getPathNodeMapping() {
+    return pathNodeMapping;
+  }
+
+  Map<QNm, Set<PathNode>> getQnmMapping() {
+    return qnmMapping;
+  }
+
+  Map<Path<QNm>, Set<Long>> getPathCache() {
+    return pathCache;
+  }
+}
@@ -32,6 +32,7 @@ import org.sirix.settings.Fixed;
 import org.sirix.utils.NamePageHash;
 
 import javax.annotation.Nonnegative;
+import javax.annotation.Nullable;
 import java.math.BigInteger;
 import java.time.Instant;
 import java.util.*;
@@ -87,10 +88,12 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
    *
    * @param pageReadTrx     page reader
    * @param resourceManager {@link ResourceManager} reference
+   * @param pathSummaryData the shared snapshot of the path summary of the revision, or {@code null}, if the path
+   *                        summary has to be traversed to build mappings, which are kept up-to-date by a writer
    */
   private PathSummaryReader(final PageReadOnlyTrx pageReadTrx,
-      final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager) {
-    pathCache = new HashMap<>();
+      final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager,
+      final @Nullable PathSummaryData pathSummaryData) {
     this.pageReadTrx = pageReadTrx;
     isClosed = false;
     this.resourceManager = resourceManager;
@@ -100,6 +103,15 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
     currentNode = (StructNode) node.orElseThrow(() -> new IllegalStateException(
         "Node couldn't be fetched from persistent storage!"));
 
+    if (pathSummaryData != null) {
+      pathNodeMapping = pathSummaryData.getPathNodeMapping();
+      qnmMapping = pathSummaryData.getQnmMapping();
+      pathCache = pathSummaryData.getPathCache();
+      init = false;
+      return;
+    }
+
+    pathCache = new HashMap<>();
     pathNodeMapping = new HashMap<>();
     qnmMapping = new HashMap<>();
     boolean first = true;
@@ -129,13 +141,30 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
     return false;
   }
 
+  @Override
+  public boolean isFlyweightModeSupported() {
+    return false;
+  }
+
+  @Override
+  public void setFlyweightMode(final boolean enabled) {
+    if (enabled) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  @Override
+  public boolean isFlyweightMode() {
+    return false;
+  }
+
   @Override
   public PageReadOnlyTrx getPageTrx() {
     return pageReadTrx;
   }
 
   /**
-   * Get a new path summary reader instance.
+   * Get a new path summary reader instance, which traverses the whole path summary.
    *
    * @param pageReadTrx     the {@link PageReadOnlyTrx} instance
    * @param resourceManager the {@link ResourceManager} instance
@@ -143,7 +172,30 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
    */
   public static PathSummaryReader getInstance(final PageReadOnlyTrx pageReadTrx,
       final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager) {
-    return new PathSummaryReader(checkNotNull(pageReadTrx), checkNotNull(resourceManager));
+    return new PathSummaryReader(checkNotNull(pageReadTrx), checkNotNull(resourceManager), null);
+  }
+
+  /**
+   * Get a new path summary reader instance, which is backed by the shared snapshot of the path summary of the revision.
+   *
+   * @param pageReadTrx     the {@link PageReadOnlyTrx} instance
+   * @param resourceManager the {@link ResourceManager} instance
+   * @param pathSummaryData the snapshot of the path summary of the revision the page reader is bound to
+   * @return new path summary reader instance
+   */
+  public static PathSummaryReader getInstance(final PageReadOnlyTrx pageReadTrx,
+      final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager,
+      final PathSummaryData pathSummaryData) {
+    return new PathSummaryReader(checkNotNull(pageReadTrx), checkNotNull(resourceManager),
+                                 checkNotNull(pathSummaryData));
+  }
+
+  Map<Long, StructNode> getPathNodeMapping() {
+    return pathNodeMapping;
+  }
+
+  Map<QNm, Set<PathNode>> getQnmMapping() {
+    return qnmMapping;
   }
 
   // package private, only used in writer to keep the mapping always up-to-date
@@ -320,16 +372,13 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
    * @throws SirixException if anything went wrong
    */
   public Set<Long> getPCRsForPath(final Path<QNm> path, final boolean useCache) throws PathException {
-    final Set<Long> pcrSet;
     if (useCache) {
-      if (pathCache.containsKey(path) && pathCache.get(path) != null) {
-        return pathCache.get(path);
-      } else {
-        pcrSet = new HashSet<>();
+      final Set<Long> cachedPcrSet = pathCache.get(path);
+      if (cachedPcrSet != null) {
+        return cachedPcrSet;
       }
-    } else {
-      pcrSet = new HashSet<>();
     }
+    final Set<Long> pcrSet = new HashSet<>();
 
     final boolean isAttributePattern = path.isAttribute();
     final int pathLength = path.getLength();
@@ -362,7 +411,8 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
     }
     moveTo(nodeKey);
     if (useCache) {
-      pathCache.put(path, pcrSet);
+      // The cache might be shared amongst the readers of a revision.
+      pathCache.put(path, Collections.unmodifiableSet(pcrSet));
     }
     return pcrSet;
   }
@@ -532,23 +582,32 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
   @Override
   public QNm getName() {
     assertNotClosed();
-    if (currentNode instanceof NameNode) {
-      final int uriKey = ((NameNode) currentNode).getURIKey();
-      final String uri = uriKey == -1 || pageReadTrx.getResourceManager() instanceof JsonResourceManager
-          ? ""
-          : pageReadTrx.getName(((NameNode) currentNode).getURIKey(), NodeKind.NAMESPACE);
-      final int prefixKey = ((NameNode) currentNode).getPrefixKey();
-      final String prefix =
-          prefixKey == -1 ? "" : pageReadTrx.getName(prefixKey, ((PathNode) currentNode).getPathKind());
-      final int localNameKey = ((NameNode) currentNode).getLocalNameKey();
-      final String localName =
-          localNameKey == -1 ? "" : pageReadTrx.getName(localNameKey, ((PathNode) currentNode).getPathKind());
-      return new QNm(uri, prefix, localName);
+    if (currentNode instanceof PathNode pathNode) {
+      return getName(pageReadTrx, pathNode);
     } else {
       return null;
     }
   }
 
+  /**
+   * Get the name of a path node.
+   *
+   * @param pageReadTrx the page reader to read the names with
+   * @param pathNode    the path node
+   * @return the name of the path node
+   */
+  static QNm getName(final PageReadOnlyTrx pageReadTrx, final PathNode pathNode) {
+    final int uriKey = pathNode.getURIKey();
+    final String uri = uriKey == -1 || pageReadTrx.getResourceManager() instanceof JsonResourceManager
+        ? ""
+        : pageReadTrx.getName(uriKey, NodeKind.NAMESPACE);
+    final int prefixKey = pathNode.getPrefixKey();
+    final String prefix = prefixKey == -1 ? "" : pageReadTrx.getName(prefixKey, pathNode.getPathKind());
+    final int localNameKey = pathNode.getLocalNameKey();
+    final String localName = localNameKey == -1 ? "" : pageReadTrx.getName(localNameKey, pathNode.getPathKind());
+    return new QNm(uri, prefix, localName);
+  }
+
   @Override
   public int keyForName(final String pName) {
     assertNotClosed();
@@ -28,6 +28,9 @@ import org.sirix.settings.Fixed;
 
 import javax.annotation.Nonnegative;
 import javax.xml.namespace.QName;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -96,6 +99,11 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
    */
   private final R nodeRtx;
 
+  /**
+   * The keys of the path nodes, which have been inserted, modified or removed since the writer has been created.
+   */
+  private final Set<Long> changedPathNodeKeys;
+
   /**
    * Constructor.
    *
@@ -110,6 +118,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
     pathSummaryReader = PathSummaryReader.getInstance(pageTrx, resMgr);
     nodeRtx = checkNotNull(rtx);
     this.nodeFactory = checkNotNull(nodeFactory);
+    changedPathNodeKeys = new HashSet<>();
   }
 
   /**
@@ -121,6 +130,16 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
     return pathSummaryReader;
   }
 
+  /**
+   * Get the keys of the path nodes, which have been inserted, modified or removed since the writer has been created,
+   * that is since the last commit or rollback.
+   *
+   * @return the keys of the changed path nodes
+   */
+  public Set<Long> getChangedPathNodeKeys() {
+    return Collections.unmodifiableSet(changedPathNodeKeys);
+  }
+
   /**
    * Insert a new path node or increment the counter of an existing node and return the path node key.
    *
@@ -150,7 +169,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
     if (axis.hasNext()) {
       axis.next();
       retVal = pathSummaryReader.getNodeKey();
-      final PathNode pathNode = pageTrx.prepareRecordForModification(retVal, IndexType.PATH_SUMMARY, 0);
+      final PathNode pathNode = prepareRecordForModification(retVal);
       pathNode.incrementReferenceCount();
     } else {
       assert nodeKey == pathSummaryReader.getNodeKey();
@@ -193,6 +212,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
     final long rightSibKey = pathSummaryReader.getFirstChildKey();
     final PathNode node = nodeFactory.createPathNode(parentKey, leftSibKey, rightSibKey, name, pathKind, level);
 
+    changedPathNodeKeys.add(node.getNodeKey());
     pathSummaryReader.putMapping(node.getNodeKey(), node);
     pathSummaryReader.moveTo(node.getNodeKey());
     adaptForInsert(node);
@@ -215,18 +235,18 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
 
     if (newNode instanceof StructNode) {
       final StructNode strucNode = (StructNode) newNode;
-      final StructNode parent = pageTrx.prepareRecordForModification(newNode.getParentKey(), IndexType.PATH_SUMMARY, 0);
+      final StructNode parent = prepareRecordForModification(newNode.getParentKey());
       parent.incrementChildCount();
       parent.setFirstChildKey(newNode.getNodeKey());
 
       if (strucNode.hasRightSibling()) {
         final StructNode rightSiblingNode =
-            pageTrx.prepareRecordForModification(strucNode.getRightSiblingKey(), IndexType.PATH_SUMMARY, 0);
+            prepareRecordForModification(strucNode.getRightSiblingKey());
         rightSiblingNode.setLeftSiblingKey(newNode.getNodeKey());
       }
       if (strucNode.hasLeftSibling()) {
         final StructNode leftSiblingNode =
-            pageTrx.prepareRecordForModification(strucNode.getLeftSiblingKey(), IndexType.PATH_SUMMARY, 0);
+            prepareRecordForModification(strucNode.getLeftSiblingKey());
         leftSiblingNode.setRightSiblingKey(newNode.getNodeKey());
       }
     }
@@ -279,7 +299,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
           /* The path summary just needs to be updated for the new renamed node. */
           pathSummaryReader.moveTo(oldPathNodeKey);
           final PathNode pathNode =
-              pageTrx.prepareRecordForModification(pathSummaryReader.getNodeKey(), IndexType.PATH_SUMMARY, 0);
+              prepareRecordForModification(pathSummaryReader.getNodeKey());
           pathNode.setPrefixKey(prefixKey);
           pathNode.setLocalNameKey(localNameKey);
           pathNode.setURIKey(uriKey);
@@ -425,7 +445,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
 
     // Set new reference count of the root.
     final PathNode currNode =
-        pageTrx.prepareRecordForModification(pathSummaryReader.getNodeKey(), IndexType.PATH_SUMMARY, 0);
+        prepareRecordForModification(pathSummaryReader.getNodeKey());
     currNode.setReferenceCount(currNode.getReferences() + 1);
     currNode.setLocalNameKey(localNameKey);
     currNode.setPrefixKey(prefixKey);
@@ -551,14 +571,14 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
 
   private void setReferenceCountToOne() {
     final PathNode currNode =
-        pageTrx.prepareRecordForModification(pathSummaryReader.getNodeKey(), IndexType.PATH_SUMMARY, 0);
+        prepareRecordForModification(pathSummaryReader.getNodeKey());
     currNode.setReferenceCount(1);
   }
 
   private void increaseReferenceCount() {
     // Set new reference count.
     final PathNode currNode =
-        pageTrx.prepareRecordForModification(pathSummaryReader.getNodeKey(), IndexType.PATH_SUMMARY, 0);
+        prepareRecordForModification(pathSummaryReader.getNodeKey());
     currNode.setReferenceCount(currNode.getReferences() + 1);
   }
 
@@ -610,27 +630,27 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
         axis.next();
         pathSummaryReader.removeMapping(pathSummaryReader.getNodeKey());
         pathSummaryReader.removeQNameMapping(pathSummaryReader.getPathNode(), pathSummaryReader.getName());
-        pageTrx.removeRecord(pathSummaryReader.getNodeKey(), IndexType.PATH_SUMMARY, 0);
+        removeRecord(pathSummaryReader.getNodeKey());
       }
     }
 
     // Adapt left sibling node if there is one.
     if (pathSummaryReader.hasLeftSibling()) {
       final StructNode leftSibling =
-          pageTrx.prepareRecordForModification(pathSummaryReader.getLeftSiblingKey(), IndexType.PATH_SUMMARY, 0);
+          prepareRecordForModification(pathSummaryReader.getLeftSiblingKey());
       leftSibling.setRightSiblingKey(pathSummaryReader.getRightSiblingKey());
     }
 
     // Adapt right sibling node if there is one.
     if (pathSummaryReader.hasRightSibling()) {
       final StructNode rightSibling =
-          pageTrx.prepareRecordForModification(pathSummaryReader.getRightSiblingKey(), IndexType.PATH_SUMMARY, 0);
+          prepareRecordForModification(pathSummaryReader.getRightSiblingKey());
       rightSibling.setLeftSiblingKey(pathSummaryReader.getLeftSiblingKey());
     }
 
     // Adapt parent. If node has no left sibling it is a first child.
     StructNode parent =
-        pageTrx.prepareRecordForModification(pathSummaryReader.getParentKey(), IndexType.PATH_SUMMARY, 0);
+        prepareRecordForModification(pathSummaryReader.getParentKey());
     if (!pathSummaryReader.hasLeftSibling()) {
       parent.setFirstChildKey(pathSummaryReader.getRightSiblingKey());
     }
@@ -639,7 +659,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
     // Remove node.
     pathSummaryReader.removeMapping(pathSummaryReader.getNodeKey());
     pathSummaryReader.removeQNameMapping(pathSummaryReader.getPathNode(), pathSummaryReader.getName());
-    pageTrx.removeRecord(pathSummaryReader.getNodeKey(), IndexType.PATH_SUMMARY, 0);
+    removeRecord(pathSummaryReader.getNodeKey());
   }
 
   private void deleteOrDecrement() {
@@ -649,7 +669,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
         removePathSummaryNode(RemoveSubtreePath.NO);
       } else {
         final PathNode pathNode =
-            pageTrx.prepareRecordForModification(pathSummaryReader.getNodeKey(), IndexType.PATH_SUMMARY, 0);
+            prepareRecordForModification(pathSummaryReader.getNodeKey());
         pathNode.decrementReferenceCount();
       }
     }
@@ -672,7 +692,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
         assert page.getCount(node.getLocalNameKey(), nodeKind, pageTrx) != 0;
         if (pathSummaryReader.getReferences() > 1) {
           final PathNode pathNode =
-              pageTrx.prepareRecordForModification(pathSummaryReader.getNodeKey(), IndexType.PATH_SUMMARY, 0);
+              prepareRecordForModification(pathSummaryReader.getNodeKey());
           pathNode.decrementReferenceCount();
         }
       }
@@ -683,4 +703,26 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
   protected PathSummaryReader delegate() {
     return pathSummaryReader;
   }
+
+  /**
+   * Prepare a path node for modification and remember its key.
+   *
+   * @param pathNodeKey the key of the path node
+   * @param <V>         the type of the path node or document root node
+   * @return the path node to modify
+   */
+  private <V> V prepareRecordForModification(final long pathNodeKey) {
+    changedPathNodeKeys.add(pathNodeKey);
+    return pageTrx.prepareRecordForModification(pathNodeKey, IndexType.PATH_SUMMARY, 0);
+  }
+
+  /**
+   * Remove a path node and remember its key.
+   *
+   * @param pathNodeKey the key of the path node
+   */
+  private void removeRecord(final long pathNodeKey) {
+    changedPathNodeKeys.add(pathNodeKey);
+    pageTrx.removeRecord(pathNodeKey, IndexType.PATH_SUMMARY, 0);
+  }
 }
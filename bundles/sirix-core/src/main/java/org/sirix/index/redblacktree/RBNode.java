@@ -3,8 +3,8 @@ package org.sirix.index.redblacktree;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
 import org.brackit.xquery.atomic.QNm;
-import org.sirix.index.redblacktree.interfaces.MutableRBNode;
-import org.sirix.index.redblacktree.keyvalue.CASValue;
+import org.sirix.index.keyvalue.CASValue;
+import org.sirix.index.keyvalue.References;
 import org.sirix.node.AbstractForwardingNode;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
@@ -16,41 +16,50 @@ import javax.annotation.Nullable;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
- * AVLNode which is mutable.
+ * A node of a {@link RBTreeWriter red-black tree}, which stores one entry. The parent key of the root node is the
+ * key of the document root node of the index. The color is stored as the 'changed' flag, whereas changed nodes are
+ * red.
  *
+ * @param <K> the key
+ * @param <V> the value
  * @author Johannes Lichtenberger
  */
-public final class RBNode<K extends Comparable<? super K>, V> extends AbstractForwardingNode
-    implements MutableRBNode<K, V> {
-  /** Key token. */
+public final class RBNode<K extends Comparable<? super K>, V extends References> extends AbstractForwardingNode {
+  /**
+   * Key token.
+   */
   private K key;
 
-  /** Value. */
+  /**
+   * Value.
+   */
   private V value;
 
-  /** Reference to the left node. */
+  /**
+   * Reference to the left node.
+   */
   private long left = Fixed.NULL_NODE_KEY.getStandardProperty();
 
-  /** Reference to the right node. */
+  /**
+   * Reference to the right node.
+   */
   private long right = Fixed.NULL_NODE_KEY.getStandardProperty();
 
-  /** 'changed' status of tree node. */
+  /**
+   * 'changed' status of tree node, that is the node is red.
+   */
   private boolean isChanged;
 
-  /** {@link NodeDelegate} reference. */
-  private NodeDelegate nodeDelegate;
-
-  private RBNode<K,V> parent;
-
-  private RBNode<K,V> leftChild;
-
-  private RBNode<K,V> rightChild;
+  /**
+   * {@link NodeDelegate} reference.
+   */
+  private final NodeDelegate nodeDelegate;
 
   /**
    * Constructor.
    *
-   * @param key the key
-   * @param value the value
+   * @param key          the key
+   * @param value        the value
    * @param nodeDelegate the used node delegate
    */
   public RBNode(final K key, final V value, final NodeDelegate nodeDelegate) {
@@ -78,83 +87,117 @@ public final class RBNode<K extends Comparable<? super K>, V> extends AbstractFo
     return nodeDelegate;
   }
 
-  @Override
+  /**
+   * Get the key of the node.
+   *
+   * @return the key
+   */
   public K getKey() {
     return key;
   }
 
-  @Override
+  /**
+   * Get the value of the node.
+   *
+   * @return the value
+   */
   public V getValue() {
     return value;
   }
 
   /**
-   * Flag which determines if node is changed.
+   * Flag which determines if node is changed, that is red.
    *
-   * @return {@code true} if it has been changed in memory, {@code false} otherwise
+   * @return {@code true} if it is red, {@code false} otherwise
    */
-  @Override
   public boolean isChanged() {
     return isChanged;
   }
 
-  @Override
+  /**
+   * Set the 'changed' flag, that is the color of the node.
+   *
+   * @param changed {@code true} if the node is red, {@code false} otherwise
+   */
   public void setChanged(final boolean changed) {
     isChanged = changed;
   }
 
-  @Override
+  /**
+   * Flag which determines if the node has a left child.
+   *
+   * @return {@code true}, if the node has a left child, {@code false} otherwise
+   */
   public boolean hasLeftChild() {
     return left != Fixed.NULL_NODE_KEY.getStandardProperty();
   }
 
-  @Override
+  /**
+   * Flag which determines if the node has a right child.
+   *
+   * @return {@code true}, if the node has a right child, {@code false} otherwise
+   */
   public boolean hasRightChild() {
     return right != Fixed.NULL_NODE_KEY.getStandardProperty();
   }
 
-  @Override
+  /**
+   * Get the node key of the left child, which stores the lower keys.
+   *
+   * @return the node key of the left child
+   */
   public long getLeftChildKey() {
     return left;
   }
 
-  @Override
+  /**
+   * Get the node key of the right child, which stores the greater keys.
+   *
+   * @return the node key of the right child
+   */
   public long getRightChildKey() {
     return right;
   }
 
-  public RBNode<K, V> getParent() {
-    return parent;
-  }
-
-  public RBNode<K, V> getLeftChild() {
-    return leftChild;
-  }
-
-  public RBNode<K, V> getRightChild() {
-    return rightChild;
-  }
-
-  public void setLeftChild(RBNode<K, V> leftChild) {
-    this.leftChild = leftChild;
+  /**
+   * Set the node key of the left child.
+   *
+   * @param left the node key of the left child
+   */
+  public void setLeftChildKey(final long left) {
+    this.left = left;
   }
 
-  public void setRightChild(RBNode<K, V> rightChild) {
-    this.rightChild = rightChild;
+  /**
+   * Set the node key of the right child.
+   *
+   * @param right the node key of the right child
+   */
+  public void setRightChildKey(final long right) {
+    this.right = right;
   }
 
-  public void setParent(RBNode<K, V> parent) {
-    this.parent = parent;
+  /**
+   * Set the key of the node.
+   *
+   * @param key the key
+   */
+  public void setKey(final K key) {
+    this.key = checkNotNull(key);
   }
 
-  @Override
-  public void setLeftChildKey(final long left) {
-    this.left = left;
+  /**
+   * Set the value of the node.
+   *
+   * @param value the value
+   */
+  public void setValue(final V value) {
+    this.value = checkNotNull(value);
   }
 
   @Override
-  public void setRightChildKey(final long right) {
-    this.right = right;
+  public SirixDeweyID getDeweyID() {
+    return null;
   }
 
   @Override
@@ -165,9 +208,8 @@ public final class RBNode<K extends Comparable<? super K>, V> extends AbstractFo
   @Override
   public boolean equals(final @Nullable Object obj) {
     if (obj instanceof RBNode) {
-      @SuppressWarnings("unchecked")
-      final RBNode<K, V> other = (RBNode<K, V>) obj;
-      return this.nodeDelegate.getNodeKey() == other.nodeDelegate.getNodeKey();
+      final RBNode<?, ?> other = (RBNode<?, ?>) obj;
+      return nodeDelegate.getNodeKey() == other.nodeDelegate.getNodeKey();
     }
     return false;
   }
@@ -183,19 +225,4 @@ public final class RBNode<K extends Comparable<? super K>, V> extends AbstractFo
                       .add("value", value)
                       .toString();
   }
-
-  @Override
-  public void setKey(final K key) {
-    this.key = checkNotNull(key);
-  }
-
-  @Override
-  public void setValue(final V value) {
-    this.value = checkNotNull(value);
-  }
-
-  @Override
-  public SirixDeweyID getDeweyID() {
-    return null;
-  }
 }
@@ -1,53 +1,40 @@
 package org.sirix.index.redblacktree;
 
 import com.google.common.collect.AbstractIterator;
-import org.sirix.api.Move;
-import org.sirix.api.NodeCursor;
 import org.sirix.api.PageReadOnlyTrx;
-import org.sirix.api.PageTrx;
-import org.sirix.axis.DescendantAxis;
-import org.sirix.axis.IncludeSelf;
-import org.sirix.cache.RBIndexKey;
-import org.sirix.cache.Cache;
-import org.sirix.exception.SirixIOException;
+import org.sirix.index.IndexReader;
 import org.sirix.index.IndexType;
 import org.sirix.index.SearchMode;
-import org.sirix.index.redblacktree.interfaces.References;
-import org.sirix.node.NodeKind;
-import org.sirix.node.NullNode;
+import org.sirix.index.keyvalue.References;
 import org.sirix.node.interfaces.DataRecord;
-import org.sirix.node.interfaces.Node;
 import org.sirix.node.interfaces.StructNode;
-import org.sirix.node.interfaces.immutable.ImmutableNode;
-import org.sirix.page.PageKind;
-import org.sirix.settings.Constants;
 import org.sirix.settings.Fixed;
 
 import javax.annotation.Nonnegative;
-import javax.annotation.Nonnull;
-import java.io.PrintStream;
 import java.util.ArrayDeque;
 import java.util.Comparator;
 import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 
-import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
- * Simple AVLTreeReader (balanced binary search-tree -- based on BaseX(.org) version).
+ * Reads a persistent red-black tree index. The document root node of the index references the root node of the
+ * tree. Red-black trees have been the index structure before {@link org.sirix.index.IndexBackendType#BPLUS_TREE
+ * B+-trees} and are only read and maintained for indexes, which have been created with them.
  *
- * @param <K> the key to search for or insert
+ * @param <K> the key to search for
  * @param <V> the value
- * @author Johannes Lichtenberger, University of Konstanz
+ * @author Johannes Lichtenberger
  */
-@SuppressWarnings("ConstantConditions")
-public final class RBTreeReader<K extends Comparable<? super K>, V extends References> implements NodeCursor {
+public final class RBTreeReader<K extends Comparable<? super K>, V extends References> implements IndexReader<K, V> {
 
   /**
-   * Cache.
+   * {@link PageReadOnlyTrx} for persistent storage.
    */
-  private final Cache<RBIndexKey, RBNode<?, ?>> cache;
+  final PageReadOnlyTrx pageReadOnlyTrx;
 
   /**
    * The index type.
@@ -57,46 +44,24 @@ public final class RBTreeReader<K extends Comparable<? super K>, V extends Refer
   /**
    * The index number.
    */
-  private final int indexNumber;
-
-  /**
-   * The revision number.
-   */
-  private final int revisionNumber;
+  final int index;
 
   /**
-   * Determines if tree is closed or not.
+   * Determines if the reader is closed or not.
    */
   private boolean isClosed;
 
   /**
-   * Strong reference to currently selected node.
-   */
-  private Node currentNode;
-
-  /**
-   * {@link PageReadOnlyTrx} for persistent storage.
-   */
-  final PageReadOnlyTrx pageReadOnlyTrx;
-
-  /**
-   * Index number.
-   */
-  final int index;
-
-  /**
-   * Determines movement of the internal cursor.
+   * Private constructor.
+   *
+   * @param pageReadOnlyTrx {@link PageReadOnlyTrx} for persistent storage
+   * @param indexType       the index type
+   * @param index           the index number
    */
-  public enum MoveCursor {
-    /**
-     * Cursor should be moved document root.
-     */
-    TO_DOCUMENT_ROOT,
-
-    /**
-     * Cursor should not be moved.
-     */
-    NO_MOVE
+  private RBTreeReader(final PageReadOnlyTrx pageReadOnlyTrx, final IndexType indexType, final int index) {
+    this.pageReadOnlyTrx = checkNotNull(pageReadOnlyTrx);
+    this.indexType = checkNotNull(indexType);
+    this.index = index;
   }
 
   /**
@@ -104,321 +69,203 @@ public final class RBTreeReader<K extends Comparable<? super K>, V extends Refer
    *
    * @param <K>         key instance which extends comparable
    * @param <V>         value
-   * @param cache       a cache shared between all read-only tree readers
    * @param pageReadTrx {@link PageReadOnlyTrx} for persistent storage
    * @param type        type of index
-   * @param index       index
+   * @param index       the index number
    * @return new tree instance
    */
   public static <K extends Comparable<? super K>, V extends References> RBTreeReader<K, V> getInstance(
-      final Cache<RBIndexKey, RBNode<?, ?>> cache, final PageReadOnlyTrx pageReadTrx, final IndexType type,
-      @Nonnegative final int index) {
-    return new RBTreeReader<>(cache, pageReadTrx, type, index);
+      final PageReadOnlyTrx pageReadTrx, final IndexType type, @Nonnegative final int index) {
+    return new RBTreeReader<>(pageReadTrx, type, index);
   }
 
   /**
-   * Private constructor.
+   * Finds the entry, which matches the specified key and search mode. That is the entry with the given key for
+   * {@link SearchMode#EQUAL}, the entry with the lowest key, which is greater (or equal) than the given key for
+   * {@link SearchMode#GREATER} ({@link SearchMode#GREATER_OR_EQUAL}) and the entry with the greatest key, which is
+   * lower (or equal) than the given key for {@link SearchMode#LOWER} ({@link SearchMode#LOWER_OR_EQUAL}). For
+   * {@link SearchMode#STARTS_WITH} it's the entry with the lowest key, which starts with the given key.
    *
-   * @param cache           a cache shared between all read-only tree readers
-   * @param pageReadOnlyTrx {@link PageReadOnlyTrx} for persistent storage
-   * @param indexType       kind of indexType
-   * @param indexNumber     the indexNumber number
+   * @param key  key to be found
+   * @param mode the search mode
+   * @return {@link Optional} reference to the entry
    */
-  private RBTreeReader(final Cache<RBIndexKey, RBNode<?, ?>> cache, final PageReadOnlyTrx pageReadOnlyTrx,
-      final IndexType indexType, final int indexNumber) {
-    this.cache = checkNotNull(cache);
-    this.pageReadOnlyTrx = checkNotNull(pageReadOnlyTrx);
-    this.indexType = checkNotNull(indexType);
-    this.indexNumber = indexNumber;
-    revisionNumber = pageReadOnlyTrx.getRevisionNumber();
-    isClosed = false;
-    this.index = indexNumber;
-
-    final Optional<? extends DataRecord> node =
-        this.pageReadOnlyTrx.getRecord(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), IndexType.PATH_SUMMARY, 0);
-    currentNode = (StructNode) node.orElseThrow(() -> new IllegalStateException(
-        "Node couldn't be fetched from persistent storage!"));
+  @Override
+  public Optional<Map.Entry<K, V>> getEntry(final K key, final SearchMode mode) {
+    assertNotClosed();
+    checkNotNull(key);
+    checkNotNull(mode);
 
-    for (final long nodeKey : new DescendantAxis(this, IncludeSelf.YES)) {
-      if (nodeKey == 0) {
-        continue;
+    // The closest nodes with a lower and a greater key than the searched key.
+    RBNode<K, V> lowerNode = null;
+    RBNode<K, V> greaterNode = null;
+    RBNode<K, V> equalNode = null;
+
+    long nodeKey = getRootKey();
+    while (nodeKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      final RBNode<K, V> node = getNode(nodeKey);
+      final int c = key.compareTo(node.getKey());
+      if (c == 0) {
+        equalNode = node;
+        break;
       }
+      if (c < 0) {
+        greaterNode = node;
+        nodeKey = node.getLeftChildKey();
+      } else {
+        lowerNode = node;
+        nodeKey = node.getRightChildKey();
+      }
+    }
 
-      if (pageReadOnlyTrx instanceof PageTrx) {
-        continue;
+    if (equalNode != null && mode != SearchMode.EQUAL) {
+      if (mode == SearchMode.GREATER) {
+        greaterNode = getSuccessor(equalNode, greaterNode);
+      } else if (mode == SearchMode.LOWER) {
+        lowerNode = getPredecessor(equalNode, lowerNode);
       }
-      this.cache.put(new RBIndexKey(nodeKey, revisionNumber, indexType, indexNumber), getCurrentAVLNode());
     }
+
+    final RBNode<K, V> node = switch (mode) {
+      case EQUAL -> equalNode;
+      case GREATER_OR_EQUAL, STARTS_WITH -> equalNode != null ? equalNode : greaterNode;
+      case GREATER -> greaterNode;
+      case LOWER_OR_EQUAL -> equalNode != null ? equalNode : lowerNode;
+      case LOWER -> lowerNode;
+    };
+
+    return Optional.ofNullable(node)
+                   .filter(entryNode -> mode != SearchMode.STARTS_WITH || mode.compare(key, entryNode.getKey()) == 0)
+                   .map(this::entry);
   }
 
   /**
-   * Dump the AVLTree in preorder.
+   * Get the node with the lowest key, which is greater than the key of a node.
    *
-   * @param out {@link PrintStream} to print to
+   * @param node        the node
+   * @param greaterNode the closest ancestor with a greater key
+   * @return the node with the next greater key, or {@code null}
    */
-  public void dump(final PrintStream out) {
-    assertNotClosed();
-    moveToDocumentRoot();
-    if (((StructNode) getNode()).hasFirstChild()) {
-      moveToFirstChild();
-    } else {
-      return;
-    }
-
-    internalDump(out);
-  }
-
-  // Internal function to dump data to a PrintStream instance.
-  private void internalDump(final PrintStream out) {
-    out.println(getCurrentAVLNode());
-    @SuppressWarnings("ConstantConditions")
-    final long nodeKey = getCurrentAVLNode().getNodeKey();
-    if (getCurrentAVLNode().hasLeftChild()) {
-      moveToFirstChild();
-      internalDump(out);
+  private RBNode<K, V> getSuccessor(final RBNode<K, V> node, final RBNode<K, V> greaterNode) {
+    if (!node.hasRightChild()) {
+      return greaterNode;
     }
-    moveTo(nodeKey);
-    if (getCurrentAVLNode().hasRightChild()) {
-      moveToLastChild();
-      internalDump(out);
+    RBNode<K, V> successor = getNode(node.getRightChildKey());
+    while (successor.hasLeftChild()) {
+      successor = getNode(successor.getLeftChildKey());
     }
+    return successor;
   }
 
   /**
-   * Get the {@link RBNode}.
+   * Get the node with the greatest key, which is lower than the key of a node.
    *
-   * @return {@link RBNode} instance
+   * @param node      the node
+   * @param lowerNode the closest ancestor with a lower key
+   * @return the node with the next lower key, or {@code null}
    */
-  RBNode<K, V> getCurrentAVLNode() {
-    assertNotClosed();
-    if (currentNode.getKind() != NodeKind.XML_DOCUMENT && currentNode.getKind() != NodeKind.JSON_DOCUMENT) {
-      @SuppressWarnings("unchecked")
-      final RBNode<K, V> node = (RBNode<K, V>) currentNode;
-      return node;
+  private RBNode<K, V> getPredecessor(final RBNode<K, V> node, final RBNode<K, V> lowerNode) {
+    if (!node.hasLeftChild()) {
+      return lowerNode;
+    }
+    RBNode<K, V> predecessor = getNode(node.getLeftChildKey());
+    while (predecessor.hasRightChild()) {
+      predecessor = getNode(predecessor.getRightChildKey());
     }
-    return null;
+    return predecessor;
   }
 
   /**
-   * Set the {@link RBNode}.
+   * Get an iterator over all entries in ascending key order.
    *
-   * @param node the node to set
-   * @return {@link RBNode} instance
+   * @return the iterator
    */
-  RBNode<K, V> setCurrentAVLNode(final RBNode<K, V> node) {
+  @Override
+  public Iterator<Map.Entry<K, V>> iterator() {
     assertNotClosed();
-    currentNode = node;
-    return node;
+    final var iterator = new InOrderIterator();
+    iterator.pushLeftPath(getRootKey());
+    return iterator;
   }
 
   /**
-   * Finds the specified key in the index and returns its value.
+   * Get an iterator over the entries in ascending key order, which starts at the first entry, whose key isn't lower
+   * than the given key with respect to the comparator.
    *
-   * @param startNodeKey the key of the node to start from
-   * @param key          key to be found
-   * @param mode         the search mode
-   * @return {@link Optional} reference (with the found value, or a reference which indicates that the
-   * value hasn't been found)
+   * @param fromKey    the key to start from
+   * @param comparator the comparator, which must be consistent with the natural ordering of the keys, but might
+   *                   consider keys as equal, which aren't equal regarding their natural ordering
+   * @return the iterator
    */
-  public Optional<V> get(final long startNodeKey, final K key, final SearchMode mode) {
-    assertNotClosed();
-    final boolean movedToStartNode = moveTo(startNodeKey).hasMoved();
-    if (!movedToStartNode) {
-      return Optional.empty();
-    }
-    moveToFirstChild();
-    RBNode<K, V> node = getCurrentAVLNode();
-    return getNode(key, mode, node);
-  }
-
-  @Nonnull
-  private Optional<V> getNode(K key, SearchMode mode, RBNode<K, V> node) {
-    while (true) {
-      final int c = mode.compare(key, node.getKey());
-      if (c == 0) {
-        return Optional.ofNullable(node.getValue());
-      }
-
-      boolean moved;
-
-      if (c < 0) {
-        if (node.getLeftChild() != null) {
-          node = node.getLeftChild();
-          currentNode = node;
-          moved = true;
-        } else if (node.hasLeftChild()) {
-          //noinspection unchecked
-          node = pageReadOnlyTrx instanceof PageTrx
-              ? null
-              : (RBNode<K, V>) cache.get(new RBIndexKey(node.getLeftChildKey(),
-                                                        revisionNumber,
-                                                        indexType,
-                                                        indexNumber));
-
-          if (node == null) {
-            moved = moveToFirstChild().hasMoved();
-            if (moved) {
-              node = getCurrentAVLNode();
-            }
-          } else {
-            currentNode = node;
-            moved = true;
-          }
-        } else {
-          moved = false;
-        }
+  @Override
+  public Iterator<Map.Entry<K, V>> iterator(final K fromKey, final Comparator<? super K> comparator) {
+    assertNotClosed();
+    checkNotNull(fromKey);
+    checkNotNull(comparator);
+
+    // Remember the nodes on the path to the first entry, whose keys aren't lower than the given key.
+    final var iterator = new InOrderIterator();
+    long nodeKey = getRootKey();
+    while (nodeKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      final RBNode<K, V> node = getNode(nodeKey);
+      if (comparator.compare(node.getKey(), fromKey) < 0) {
+        nodeKey = node.getRightChildKey();
       } else {
-        if (node.getRightChild() != null) {
-          node = node.getRightChild();
-          currentNode = node;
-          moved = true;
-        } else if (node.hasRightChild()) {
-          //noinspection unchecked
-          node = pageReadOnlyTrx instanceof PageTrx
-              ? null
-              : (RBNode<K, V>) cache.get(new RBIndexKey(node.getRightChildKey(),
-                                                        revisionNumber,
-                                                        indexType,
-                                                        indexNumber));
-
-          if (node == null) {
-            moved = moveToLastChild().hasMoved();
-            if (moved) {
-              node = getCurrentAVLNode();
-            }
-          } else {
-            currentNode = node;
-            moved = true;
-          }
-        } else {
-          moved = false;
-        }
-      }
-
-      if (!moved) {
-        break;
+        iterator.nodes.push(node);
+        nodeKey = node.getLeftChildKey();
       }
     }
-    return Optional.empty();
+    return iterator;
   }
 
   /**
-   * Finds the specified key in the index and returns its value.
+   * Returns the number of index entries.
    *
-   * @param key  key to be found
-   * @param mode the search mode
-   * @return {@link Optional} reference (with the found value, or a reference which indicates that the
-   * value hasn't been found)
+   * @return number of index entries
    */
-  public Optional<V> get(final K key, final SearchMode mode) {
+  @Override
+  public long size() {
     assertNotClosed();
-    moveToDocumentRoot();
-    if (!((StructNode) getNode()).hasFirstChild()) {
-      return Optional.empty();
-    }
-    moveToFirstChild();
-    RBNode<K, V> node = getCurrentAVLNode();
-    return getNode(key, mode, node);
+    return getDocumentRoot().getDescendantCount();
   }
 
   /**
-   * Finds the specified key in the index starting from the specified node key and returns its
-   * AVLNode.
+   * Get the node key of the root node of the tree.
    *
-   * @param startNodeKey specified node
-   * @param key          key to be found
-   * @param mode         the search mode
-   * @return Optional {@link RBNode} reference
+   * @return the node key of the root node or {@code Fixed.NULL_NODE_KEY.getStandardProperty()}, if the index is empty
    */
-  public Optional<RBNode<K, V>> getCurrentAVLNode(final long startNodeKey, final K key, final SearchMode mode) {
-    assertNotClosed();
-    final boolean movedToStartNode = moveTo(startNodeKey).hasMoved();
-    if (!movedToStartNode) {
-      return Optional.empty();
-    }
-    RBNode<K, V> node = getCurrentAVLNode();
-    return getTheSearchedNode(key, mode, node);
-  }
-
-  @Nonnull
-  private Optional<RBNode<K, V>> getTheSearchedNode(K key, SearchMode mode, RBNode<K, V> node) {
-    while (true) {
-      final int c = key.compareTo(node.getKey());
-      if (mode != SearchMode.EQUAL && mode.compare(key, node.getKey()) == 0) {
-        return Optional.ofNullable(node);
-      }
-      if (c == 0) {
-        if (mode == SearchMode.EQUAL) {
-          return Optional.ofNullable(node);
-        }
-      }
-      final boolean moved = c < 0 ? moveToFirstChild().hasMoved() : moveToLastChild().hasMoved();
-      if (moved) {
-        node = getCurrentAVLNode();
-      } else {
-        break;
-      }
-    }
-    return Optional.empty();
+  long getRootKey() {
+    return getDocumentRoot().getFirstChildKey();
   }
 
   /**
-   * Finds the specified key in the index and returns its AVLNode.
+   * Get the document root node of the index.
    *
-   * @param key  key to be found
-   * @param mode the search mode
-   * @return Optional {@link RBNode} reference
+   * @return the document root node
    */
-  public Optional<RBNode<K, V>> getCurrentAVLNode(final K key, final SearchMode mode) {
-    assertNotClosed();
-    moveToDocumentRoot();
-    if (!((StructNode) getNode()).hasFirstChild()) {
-      return Optional.empty();
-    }
-    moveToFirstChild();
-    RBNode<K, V> node = getCurrentAVLNode();
-    return getTheSearchedNode(key, mode, node);
+  StructNode getDocumentRoot() {
+    final Optional<? extends DataRecord> documentRoot =
+        pageReadOnlyTrx.getRecord(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), indexType, index);
+    return (StructNode) documentRoot.orElseThrow(() -> new IllegalStateException(
+        "Node couldn't be fetched from persistent storage!"));
   }
 
   /**
-   * Finds the specified key in the index and returns its AVLNode.
+   * Get a node of the tree.
    *
-   * @param key  key to be found
-   * @param mode the search mode
-   * @param comp comparator to be used to compare keys
-   * @return Optional {@link RBNode} reference
+   * @param nodeKey the node key
+   * @return the node
    */
-  public Optional<RBNode<K, V>> getCurrentAVLNode(final K key, final SearchMode mode,
-      final Comparator<? super K> comp) {
-    assertNotClosed();
-    moveToDocumentRoot();
-    if (!((StructNode) getNode()).hasFirstChild()) {
-      return Optional.empty();
-    }
-    moveToFirstChild();
-    RBNode<K, V> node = getCurrentAVLNode();
-    while (true) {
-      final int c = key.compareTo(node.getKey());
-      if (mode.compare(key, node.getKey(), comp) == 0) {
-        return Optional.ofNullable(node);
-      }
-      final boolean moved = c < 0 ? moveToFirstChild().hasMoved() : moveToLastChild().hasMoved();
-      if (moved) {
-        node = getCurrentAVLNode();
-      } else {
-        break;
-      }
-    }
-    return Optional.empty();
+  RBNode<K, V> getNode(final long nodeKey) {
+    final Optional<? extends DataRecord> node = pageReadOnlyTrx.getRecord(nodeKey, indexType, index);
+    @SuppressWarnings("unchecked")
+    final RBNode<K, V> treeNode = (RBNode<K, V>) node.orElseThrow(() -> new IllegalStateException(
+        "Node couldn't be fetched from persistent storage!"));
+    return treeNode;
   }
 
-  /**
-   * Returns the number of index entries.
-   *
-   * @return number of index entries
-   */
-  public long size() {
-    return ((StructNode) moveToDocumentRoot().trx().getNode()).getDescendantCount();
+  private Map.Entry<K, V> entry(final RBNode<K, V> node) {
+    return Map.entry(node.getKey(), node.getValue());
   }
 
   @Override
@@ -427,385 +274,46 @@ public final class RBTreeReader<K extends Comparable<? super K>, V extends Refer
   }
 
   /**
-   * Make sure that the path summary is not yet closed when calling this method.
+   * Make sure that the reader is not yet closed when calling this method.
    */
-  final void assertNotClosed() {
+  void assertNotClosed() {
     if (isClosed) {
-      throw new IllegalStateException("AVL tree reader is already closed.");
-    }
-  }
-
-  /**
-   * Get the structural node of the current node.
-   *
-   * @return structural node
-   */
-  private StructNode getStructuralNode() {
-    assertNotClosed();
-    if (currentNode instanceof StructNode) {
-      return (StructNode) currentNode;
-    } else {
-      return new NullNode(currentNode);
-    }
-  }
-
-  @Override
-  public boolean hasNode(final long key) {
-    assertNotClosed();
-    final long currKey = currentNode.getNodeKey();
-    final boolean moved = moveTo(key).hasMoved();
-    final Move<RBTreeReader<K, V>> movedCursor = moveTo(currKey);
-    assert movedCursor.hasMoved() : "Must be movable back!";
-    return moved;
-  }
-
-  @Override
-  public boolean hasParent() {
-    assertNotClosed();
-    return currentNode.hasParent();
-  }
-
-  @Override
-  public boolean hasFirstChild() {
-    assertNotClosed();
-    return getStructuralNode().hasFirstChild();
-  }
-
-  @Override
-  public boolean hasLastChild() {
-    assertNotClosed();
-    if (currentNode instanceof RBNode) {
-      return getCurrentAVLNode().hasRightChild();
-    }
-    return false;
-  }
-
-  @Override
-  public boolean hasLeftSibling() {
-    assertNotClosed();
-    return getStructuralNode().hasLeftSibling();
-  }
-
-  @Override
-  public boolean hasRightSibling() {
-    assertNotClosed();
-    return getStructuralNode().hasRightSibling();
-  }
-
-  @Override
-  public Move<RBTreeReader<K, V>> moveTo(final long nodeKey) {
-    assertNotClosed();
-
-    if (nodeKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
-      return Move.notMoved();
-    }
-
-    // Remember old node and fetch new one.
-    final Node oldNode = currentNode;
-    Optional<? extends Node> newNode;
-    try {
-      // Immediately return node from item list if node key negative.
-      newNode = pageReadOnlyTrx.getRecord(nodeKey, indexType, index);
-    } catch (final SirixIOException e) {
-      newNode = Optional.empty();
-    }
-
-    if (newNode.isPresent()) {
-      currentNode = newNode.get();
-      return Move.moved(this);
-    } else {
-      currentNode = oldNode;
-      return Move.notMoved();
-    }
-  }
-
-  @Override
-  public Move<RBTreeReader<K, V>> moveToDocumentRoot() {
-    assertNotClosed();
-    return moveTo(Fixed.DOCUMENT_NODE_KEY.getStandardProperty());
-  }
-
-  @Override
-  public Move<RBTreeReader<K, V>> moveToParent() {
-    assertNotClosed();
-    return moveTo(currentNode.getParentKey());
-  }
-
-  @Override
-  public Move<RBTreeReader<K, V>> moveToFirstChild() {
-    assertNotClosed();
-    if (currentNode instanceof RBNode) {
-      final RBNode<K, V> node = getCurrentAVLNode();
-      if (!node.hasLeftChild()) {
-        return Move.notMoved();
-      }
-      final var move = moveTo(node.getLeftChildKey());
-      @SuppressWarnings("unchecked")
-      final var currentNode = (RBNode<K, V>) this.currentNode;
-      node.setLeftChild(currentNode);
-      currentNode.setParent(node);
-      return move;
-    }
-    return moveTo(((StructNode) currentNode).getFirstChildKey());
-  }
-
-  @Override
-  public Move<RBTreeReader<K, V>> moveToLastChild() {
-    assertNotClosed();
-    if (currentNode instanceof RBNode) {
-      final RBNode<K, V> node = getCurrentAVLNode();
-      if (!node.hasRightChild()) {
-        return Move.notMoved();
-      }
-      final var move = moveTo(node.getRightChildKey());
-      @SuppressWarnings("unchecked")
-      final var currentNode = (RBNode<K, V>) this.currentNode;
-      node.setRightChild(currentNode);
-      currentNode.setParent(node);
-      return move;
+      throw new IllegalStateException("Red-black tree reader is already closed.");
     }
-    return Move.notMoved();
-  }
-
-  @Override
-  public Move<? extends NodeCursor> moveToPrevious() {
-    assertNotClosed();
-    return moveToParent();
-  }
-
-  @Override
-  public Move<? extends NodeCursor> moveToNext() {
-    assertNotClosed();
-    if (currentNode instanceof RBNode) {
-      @SuppressWarnings("unchecked")
-      final RBNode<K, V> node = (RBNode<K, V>) currentNode;
-      if (node.hasLeftChild()) {
-        moveToFirstChild();
-      } else if (node.hasRightChild()) {
-        moveToLastChild();
-      } else {
-        do {
-          moveToParent();
-        } while (getNode() instanceof RBNode && !hasLastChild());
-
-        if (getNode() instanceof RBNode) {
-          return Move.moved(moveToLastChild().trx());
-        } else {
-          return Move.notMoved();
-        }
-      }
-    }
-    if (moveToFirstChild().hasMoved()) {
-      return Move.moved(this);
-    } else {
-      return Move.notMoved();
-    }
-  }
-
-  @Override
-  public Move<RBTreeReader<K, V>> moveToLeftSibling() {
-    assertNotClosed();
-    return Move.notMoved();
-  }
-
-  @Override
-  public Move<RBTreeReader<K, V>> moveToRightSibling() {
-    assertNotClosed();
-    return Move.notMoved();
-  }
-
-  @Override
-  public long getNodeKey() {
-    assertNotClosed();
-    return currentNode.getNodeKey();
-  }
-
-  @Override
-  public NodeKind getRightSiblingKind() {
-    assertNotClosed();
-    return NodeKind.UNKNOWN;
-  }
-
-  @Override
-  public NodeKind getLeftSiblingKind() {
-    assertNotClosed();
-    return NodeKind.UNKNOWN;
-  }
-
-  @Override
-  public NodeKind getFirstChildKind() {
-    assertNotClosed();
-    final NodeKind firstChildKind;
-    if (moveToFirstChild().hasMoved()) {
-      firstChildKind = getNode().getKind();
-      moveToParent();
-    } else {
-      firstChildKind = NodeKind.UNKNOWN;
-    }
-    return firstChildKind;
-  }
-
-  @Override
-  public NodeKind getLastChildKind() {
-    assertNotClosed();
-    final NodeKind lastChildKind;
-    if (moveToLastChild().hasMoved()) {
-      lastChildKind = getNode().getKind();
-      moveToParent();
-    } else {
-      lastChildKind = NodeKind.UNKNOWN;
-    }
-    return lastChildKind;
-  }
-
-  @Override
-  public NodeKind getParentKind() {
-    assertNotClosed();
-    if (hasParent()) {
-      final long nodeKey = currentNode.getNodeKey();
-      final NodeKind parentKind = moveToParent().trx().getKind();
-      moveTo(nodeKey);
-      return parentKind;
-    }
-    return NodeKind.UNKNOWN;
-  }
-
-  @Override
-  public NodeKind getKind() {
-    assertNotClosed();
-    return currentNode.getKind();
-  }
-
-  @Override
-  public ImmutableNode getNode() {
-    assertNotClosed();
-    return currentNode;
-  }
-
-  @Override
-  public Move<? extends NodeCursor> moveToNextFollowing() {
-    throw new UnsupportedOperationException();
-  }
-
-  @Override
-  public long getLeftSiblingKey() {
-    assertNotClosed();
-    return Constants.NULL_ID_LONG;
-  }
-
-  @Override
-  public long getRightSiblingKey() {
-    assertNotClosed();
-    return Constants.NULL_ID_LONG;
-  }
-
-  @Override
-  public long getFirstChildKey() {
-    assertNotClosed();
-
-    final long firstChildKey;
-
-    if (moveToFirstChild().hasMoved()) {
-      firstChildKey = getNodeKey();
-      moveToParent();
-    } else {
-      firstChildKey = Fixed.NULL_NODE_KEY.getStandardProperty();
-    }
-
-    return firstChildKey;
-  }
-
-  @Override
-  public long getLastChildKey() {
-    assertNotClosed();
-    final long lastChildKey;
-
-    if (moveToLastChild().hasMoved()) {
-      lastChildKey = getNodeKey();
-      moveToParent();
-    } else {
-      lastChildKey = Fixed.NULL_NODE_KEY.getStandardProperty();
-    }
-
-    return lastChildKey;
-  }
-
-  @Override
-  public long getParentKey() {
-    return getNode().getParentKey();
   }
 
   /**
-   * Iterator supporting different search modes.
-   *
-   * @author Johannes Lichtenberger
+   * Iterates over the entries in ascending key order. The nodes, whose entries and right subtrees haven't been
+   * iterated yet, are kept on a stack, the node with the lowest key on top.
    */
-  public final class RBNodeIterator extends AbstractIterator<RBNode<K, V>> {
-
-    /**
-     * Determines if it's the first call.
-     */
-    private boolean first;
-
-    /**
-     * All AVLNode keys which are part of the result sequence.
-     */
-    private final Deque<Long> keys;
+  private final class InOrderIterator extends AbstractIterator<Map.Entry<K, V>> {
 
     /**
-     * Start node key.
+     * The nodes, whose entries and right subtrees haven't been iterated yet.
      */
-    private final long key;
+    private final Deque<RBNode<K, V>> nodes = new ArrayDeque<>();
 
     /**
-     * Constructor.
+     * Push a node and all its left descendants.
      *
-     * @param nodeKey node key to start from, root node of AVLTree is selected if
-     *                {@code Fixed.DOCUMENT_NODE_KEY.getStandardProperty} is specified.
+     * @param nodeKey the node key of the node
      */
-    public RBNodeIterator(final long nodeKey) {
-      first = true;
-      keys = new ArrayDeque<>();
-      checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
-      key = nodeKey;
+    void pushLeftPath(long nodeKey) {
+      while (nodeKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+        final RBNode<K, V> node = getNode(nodeKey);
+        nodes.push(node);
+        nodeKey = node.getLeftChildKey();
+      }
     }
 
     @Override
-    protected RBNode<K, V> computeNext() {
-      if (!first) {
-        if (!keys.isEmpty()) {
-          // Subsequent results.
-          final RBNode<K, V> node = moveTo(keys.pop()).trx().getCurrentAVLNode();
-          stackOperation(node);
-          return node;
-        }
+    protected Map.Entry<K, V> computeNext() {
+      if (nodes.isEmpty()) {
         return endOfData();
       }
-
-      // First search.
-      first = false;
-      boolean moved = moveTo(key).hasMoved();
-      if (key == Fixed.DOCUMENT_NODE_KEY.getStandardProperty()) {
-        moved = moveToFirstChild().hasMoved();
-      }
-      if (moved) {
-        final RBNode<K, V> node = getCurrentAVLNode();
-        stackOperation(node);
-        return node;
-      }
-      return endOfData();
-    }
-
-    private void stackOperation(final RBNode<K, V> node) {
-      if (node.hasRightChild()) {
-        final RBNode<K, V> right = moveToLastChild().trx().getCurrentAVLNode();
-        keys.push(right.getNodeKey());
-      }
-      moveTo(node.getNodeKey());
-      if (node.hasLeftChild()) {
-        final RBNode<K, V> left = moveToFirstChild().trx().getCurrentAVLNode();
-        keys.push(left.getNodeKey());
-      }
+      final RBNode<K, V> node = nodes.pop();
+      pushLeftPath(node.getRightChildKey());
+      return entry(node);
     }
   }
 }
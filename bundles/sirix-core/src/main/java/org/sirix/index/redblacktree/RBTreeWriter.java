@@ -1,92 +1,43 @@
 package org.sirix.index.redblacktree;
 
-import org.sirix.access.trx.node.AbstractForwardingNodeCursor;
-import org.sirix.api.NodeCursor;
 import org.sirix.api.PageTrx;
-import org.sirix.cache.PageContainer;
 import org.sirix.exception.SirixIOException;
+import org.sirix.index.AbstractIndexWriter;
 import org.sirix.index.IndexType;
-import org.sirix.index.SearchMode;
-import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
-import org.sirix.index.redblacktree.interfaces.References;
-import org.sirix.node.delegates.NodeDelegate;
+import org.sirix.index.keyvalue.References;
 import org.sirix.node.interfaces.StructNode;
-import org.sirix.page.*;
 import org.sirix.settings.Fixed;
-import org.sirix.utils.LogWrapper;
-import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnegative;
-import javax.annotation.Nullable;
-import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
- * Simple RBTreeWriter (balanced binary search-tree -- based on BaseX(.org) version).
+ * Writes a persistent red-black tree index, which has been created before the indexes have been stored in
+ * {@link org.sirix.index.IndexBackendType#BPLUS_TREE B+-trees}.
  *
  * @param <K> the key to search for or insert
  * @param <V> the value
- * @author Johannes Lichtenberger, University of Konstanz
+ * @author Johannes Lichtenberger
  */
 public final class RBTreeWriter<K extends Comparable<? super K>, V extends References>
-    extends AbstractForwardingNodeCursor {
-  /**
-   * Logger.
-   */
-  private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(RBTreeWriter.class));
-
+    extends AbstractIndexWriter<K, V, RBNode<K, V>> {
   /**
    * {@link RBTreeReader} instance.
    */
-  private final RBTreeReader<K, V> rbTreeReader;
-
-  /**
-   * {@link PageTrx} instance.
-   */
-  private final PageTrx pageTrx;
+  private final RBTreeReader<K, V> reader;
 
   /**
    * Private constructor.
    *
    * @param pageTrx {@link PageTrx} for persistent storage
    * @param type    type of index
+   * @param index   the index number
    */
   private RBTreeWriter(final PageTrx pageTrx, final IndexType type, final @Nonnegative int index) {
-    try {
-      final RevisionRootPage revisionRootPage = pageTrx.getActualRevisionRootPage();
-      final PageReference reference;
-      switch (type) {
-        case PATH:
-          // Create path index tree if needed.
-          final PathPage pathPage = pageTrx.getPathPage(revisionRootPage);
-          reference = revisionRootPage.getPathPageReference();
-          pageTrx.appendLogRecord(reference, PageContainer.getInstance(pathPage, pathPage));
-          pathPage.createPathIndexTree(pageTrx, index, pageTrx.getLog());
-          break;
-        case CAS:
-          // Create CAS index tree if needed.
-          final CASPage casPage = pageTrx.getCASPage(revisionRootPage);
-          reference = revisionRootPage.getCASPageReference();
-          pageTrx.appendLogRecord(reference, PageContainer.getInstance(casPage, casPage));
-          casPage.createCASIndexTree(pageTrx, index, pageTrx.getLog());
-          break;
-        case NAME:
-          // Create name index tree if needed.
-          final NamePage namePage = pageTrx.getNamePage(revisionRootPage);
-          reference = revisionRootPage.getNamePageReference();
-          pageTrx.appendLogRecord(reference, PageContainer.getInstance(namePage, namePage));
-          namePage.createNameIndexTree(pageTrx, index, pageTrx.getLog());
-          break;
-        default:
-          // Must not happen.
-      }
-    } catch (final SirixIOException e) {
-      LOGGER.error(e.getMessage(), e);
-    }
-    rbTreeReader = RBTreeReader.getInstance(pageTrx.getResourceManager().getIndexCache(), pageTrx, type, index);
-    this.pageTrx = pageTrx;
+    super(pageTrx, type, index);
+    reader = RBTreeReader.getInstance(pageTrx, type, index);
   }
 
   /**
@@ -103,412 +54,228 @@ public final class RBTreeWriter<K extends Comparable<? super K>, V extends Refer
   }
 
   /**
-   * Checks if the specified token is already indexed; if yes, returns its reference. Otherwise,
-   * creates a new index entry and returns a reference of the indexed token.
+   * Indexes the value with the specified key, that is either the value of an existing index entry is replaced or a
+   * new index entry is inserted as a red leaf node, whereupon the tree is rebalanced.
    *
-   * @param key   token to be indexed
+   * @param key   key to be indexed
    * @param value node key references
-   * @param move  determines if AVLNode cursor must be moved to document root/root node or not
    * @return indexed node key references
    * @throws SirixIOException if an I/O error occurs
    */
-  public V index(final K key, final V value, final MoveCursor move) {
-    if (move == MoveCursor.TO_DOCUMENT_ROOT) {
-      moveToDocumentRoot();
-    }
-    final RevisionRootPage root = pageTrx.getActualRevisionRootPage();
-    if (rbTreeReader.getCurrentAVLNode() == null
-        && ((StructNode) getNode()).getFirstChildKey() == Fixed.NULL_NODE_KEY.getStandardProperty()) {
-      // Index is empty.. create root node.
-      final long nodeKey = getNewNodeKey(root);
-      final RBNode<K, V> treeRoot = pageTrx.createRecord(nodeKey,
-                                                         new RBNode<>(key,
-                                                                      value,
-                                                                      new NodeDelegate(nodeKey,
-                                                                                         Fixed.DOCUMENT_NODE_KEY.getStandardProperty(),
-                                                                                         null,
-                                                                                         null,
-                                                                                         0,
-                                                                                         null)),
-                                                         rbTreeReader.indexType,
-                                                         rbTreeReader.index);
-      final StructNode document = pageTrx.prepareRecordForModification(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(),
-                                                                       rbTreeReader.indexType,
-                                                                       rbTreeReader.index);
-      document.setFirstChildKey(treeRoot.getNodeKey());
-      document.incrementChildCount();
-      document.incrementDescendantCount();
-      return value;
-    }
-
-    if (move == MoveCursor.TO_DOCUMENT_ROOT || rbTreeReader.getCurrentAVLNode() == null) {
-      moveToDocumentRoot();
-      moveToFirstChild();
-    }
-    RBNode<K, V> node = rbTreeReader.getCurrentAVLNode();
-    while (true) {
-      final int c = key.compareTo(node.getKey());
+  @Override
+  public V index(final K key, final V value) {
+    checkNotNull(key);
+    checkNotNull(value);
+    reader.assertNotClosed();
+
+    long parentKey = Fixed.DOCUMENT_NODE_KEY.getStandardProperty();
+    int c = 0;
+    long nodeKey = reader.getRootKey();
+    while (nodeKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      final RBNode<K, V> node = reader.getNode(nodeKey);
+      c = key.compareTo(node.getKey());
       if (c == 0) {
         if (!value.equals(node.getValue())) {
-          final RBNode<K, V> RBNode =
-              pageTrx.prepareRecordForModification(node.getNodeKey(), rbTreeReader.indexType, rbTreeReader.index);
-          RBNode.setValue(value);
+          prepareNodeForModification(nodeKey).setValue(value);
         }
-        return node.getValue();
+        return value;
       }
+      parentKey = nodeKey;
+      nodeKey = c < 0 ? node.getLeftChildKey() : node.getRightChildKey();
+    }
 
-      final boolean moved = c < 0 ? moveToFirstChild().hasMoved() : moveToLastChild().hasMoved();
-      if (moved) {
-        node = rbTreeReader.getCurrentAVLNode();
-        continue;
-      }
+    final RBNode<K, V> newNode = new RBNode<>(key, value, createNodeDelegate(getNewNodeKey(), parentKey));
+    newNode.setChanged(true);
+    final RBNode<K, V> node = createNode(newNode);
 
-      final long nodeKey = getNewNodeKey(root);
-      final RBNode<K, V> child = pageTrx.createRecord(nodeKey,
-                                                      new RBNode<>(key,
-                                                                   value,
-                                                                   new NodeDelegate(nodeKey,
-                                                                                      node.getNodeKey(),
-                                                                                      null,
-                                                                                      null,
-                                                                                      0,
-                                                                                      null)),
-                                                      rbTreeReader.indexType,
-                                                      rbTreeReader.index);
-      node = pageTrx.prepareRecordForModification(node.getNodeKey(), rbTreeReader.indexType, rbTreeReader.index);
-      if (c < 0) {
-        node.setLeftChildKey(child.getNodeKey());
-      } else {
-        node.setRightChildKey(child.getNodeKey());
-      }
-      adjust(child);
-      final StructNode document = pageTrx.prepareRecordForModification(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(),
-                                                                       rbTreeReader.indexType,
-                                                                       rbTreeReader.index);
-      document.incrementDescendantCount();
-      return value;
+    final StructNode document = prepareDocumentRootForModification();
+    document.incrementDescendantCount();
+    if (parentKey == Fixed.DOCUMENT_NODE_KEY.getStandardProperty()) {
+      // Index is empty.. the new node is the root node.
+      document.setFirstChildKey(node.getNodeKey());
+      document.incrementChildCount();
+    } else if (c < 0) {
+      prepareNodeForModification(parentKey).setLeftChildKey(node.getNodeKey());
+    } else {
+      prepareNodeForModification(parentKey).setRightChildKey(node.getNodeKey());
     }
-  }
 
-  /**
-   * Get the new maximum node key.
-   *
-   * @param root the current {@link RevisionRootPage}
-   * @return maximum node key
-   * @throws SirixIOException If any I/O operation fails
-   */
-  private long getNewNodeKey(final RevisionRootPage root) {
-    // $CASES-OMITTED$
-    return switch (rbTreeReader.indexType) {
-      case PATH -> pageTrx.getPathPage(root).getMaxNodeKey(rbTreeReader.index) + 1;
-      case CAS -> pageTrx.getCASPage(root).getMaxNodeKey(rbTreeReader.index) + 1;
-      case NAME -> pageTrx.getNamePage(root).getMaxNodeKey(rbTreeReader.index) + 1;
-      case PATH_SUMMARY -> pageTrx.getPathSummaryPage(root).getMaxNodeKey(rbTreeReader.index) + 1;
-      default -> throw new IllegalStateException();
-    };
+    adjust(node.getNodeKey());
+    return value;
   }
 
   /**
-   * Remove a node key from the value, or remove the whole node, if no keys are stored anymore.
+   * Adjusts the tree balance after a red node has been inserted, such that no red node has a red parent.
    *
-   * @param key     the key for which to search the value
-   * @param nodeKey the nodeKey to remove from the value
-   * @throws SirixIOException if an I/O error occured
+   * @param nodeKey the node key of the inserted node
+   * @throws SirixIOException if an I/O error occurs
    */
-  public boolean remove(final K key, final @Nonnegative long nodeKey) {
-    checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
-    final Optional<V> searchedValue = rbTreeReader.get(checkNotNull(key), SearchMode.EQUAL);
-    boolean removed = false;
-    if (searchedValue.isPresent()) {
-      final V value = searchedValue.get();
-
-      removed = value.removeNodeKey(nodeKey);
-
-      if (removed) {
-        final RBNode<K, V> node = pageTrx.prepareRecordForModification(rbTreeReader.getNodeKey(),
-                                                                       rbTreeReader.indexType,
-                                                                       rbTreeReader.index);
-        node.getValue().removeNodeKey(nodeKey);
+  private void adjust(long nodeKey) {
+    while (!isRoot(nodeKey) && isRed(parentKey(nodeKey))) {
+      final long parentKey = parentKey(nodeKey);
+      // The parent is red, thus it isn't the root node.
+      final long grandParentKey = parentKey(parentKey);
+      final boolean isParentLeftChild = reader.getNode(grandParentKey).getLeftChildKey() == parentKey;
+      final long uncleKey = isParentLeftChild
+          ? reader.getNode(grandParentKey).getRightChildKey()
+          : reader.getNode(grandParentKey).getLeftChildKey();
+
+      if (isRed(uncleKey)) {
+        setRed(parentKey, false);
+        setRed(uncleKey, false);
+        setRed(grandParentKey, true);
+        nodeKey = grandParentKey;
+        continue;
       }
-    }
-    return removed;
-  }
 
-  /**
-   * Adjusts the tree balance.
-   *
-   * @param node node to be adjusted
-   * @throws SirixIOException if an I/O error occurs
-   */
-  private void adjust(RBNode<K, V> node) {
-    setChanged(node, true);
-
-    while (node != null && node.getParentKey() != Fixed.DOCUMENT_NODE_KEY.getStandardProperty() && parent(node) != null
-        && parent(node).isChanged()) {
-      if (parent(node).equals(left(parent(parent(node))))) {
-        final RBNode<K, V> y = right(parent(parent(node)));
-        if (y != null && y.isChanged()) {
-          setChanged(parent(node), false);
-          y.setChanged(false);
-          setChanged(parent(parent(node)), true);
-          node = parent(parent(node));
-        } else {
-          if (node.equals(right(parent(node)))) {
-            node = parent(node);
-            rotateLeft(node);
-          }
-          setChanged(parent(node), false);
-          setChanged(parent(parent(node)), true);
-          if (parent(parent(node)) != null)
-            rotateRight(parent(parent(node)));
-        }
-      } else if (parent(node).equals(right(parent(parent(node))))) {
-        final RBNode<K, V> y = left(parent(parent(node)));
-        if (y != null && y.isChanged()) {
-          setChanged(parent(node), false);
-          setChanged(y, false);
-          setChanged(parent(parent(node)), true);
-          node = parent(parent(node));
-        } else {
-          if (node.equals(left(parent(node)))) {
-            node = parent(node);
-            rotateRight(node);
-          }
-          setChanged(parent(node), false);
-          setChanged(parent(parent(node)), true);
-          if (parent(parent(node)) != null)
-            rotateLeft(parent(parent(node)));
-        }
+      final RBNode<K, V> parent = reader.getNode(parentKey);
+      if (isParentLeftChild && parent.getRightChildKey() == nodeKey) {
+        nodeKey = parentKey;
+        rotateLeft(nodeKey);
+      } else if (!isParentLeftChild && parent.getLeftChildKey() == nodeKey) {
+        nodeKey = parentKey;
+        rotateRight(nodeKey);
+      }
+
+      setRed(parentKey(nodeKey), false);
+      setRed(grandParentKey, true);
+      if (isParentLeftChild) {
+        rotateRight(grandParentKey);
       } else {
-        node = null;
+        rotateLeft(grandParentKey);
       }
     }
 
-    final long nodeKey = getNodeKey();
-    moveToDocumentRoot();
-    if (((StructNode) getNode()).hasFirstChild()) {
-      moveToFirstChild();
-      //noinspection ConstantConditions
-      setChanged(rbTreeReader.getCurrentAVLNode(), false);
-    }
-    moveTo(nodeKey);
+    setRed(reader.getRootKey(), false);
   }
 
   /**
-   * Set changed value.
+   * Left rotation, that is the right child of the node takes its place.
    *
-   * @param nodeToChange node to adjust
-   * @param changed      changed value
+   * @param nodeKey the node key of the node to be rotated
    * @throws SirixIOException if an I/O error occurs
    */
-  private void setChanged(final RBNode<K, V> nodeToChange, final boolean changed) {
-    final RBNode<K, V> node =
-        pageTrx.prepareRecordForModification(nodeToChange.getNodeKey(), rbTreeReader.indexType, rbTreeReader.index);
-    node.setChanged(changed);
-  }
-
-  /**
-   * Returns the left child node.
-   *
-   * @param node node from which to move to and return the left sibling
-   * @return left child node or {@code null}
-   */
-  private RBNode<K, V> left(@Nullable final RBNode<K, V> node) {
-    if (node == null || node.getLeftChildKey() == Fixed.NULL_NODE_KEY.getStandardProperty()) {
-      return null;
+  private void rotateLeft(final long nodeKey) {
+    final RBNode<K, V> node = reader.getNode(nodeKey);
+    final long parentKey = node.getParentKey();
+    final long rightKey = node.getRightChildKey();
+    final long rightLeftKey = reader.getNode(rightKey).getLeftChildKey();
+
+    prepareNodeForModification(nodeKey).setRightChildKey(rightLeftKey);
+    if (rightLeftKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      prepareNodeForModification(rightLeftKey).setParentKey(nodeKey);
     }
-    final var leftChild = node.getLeftChild();
-    if (leftChild != null) {
-      rbTreeReader.setCurrentAVLNode(leftChild);
-      assert node.getLeftChildKey() == leftChild.getNodeKey();
-      return leftChild;
-    }
-    return moveTo(node.getLeftChildKey()).hasMoved() ? rbTreeReader.getCurrentAVLNode() : null;
-  }
 
-  /**
-   * Returns the right child node.
-   *
-   * @param node node from which to move to and return the right sibling
-   * @return right child node or {@code null}
-   */
-  private RBNode<K, V> right(@Nullable final RBNode<K, V> node) {
-    if (node == null || node.getRightChildKey() == Fixed.NULL_NODE_KEY.getStandardProperty()) {
-      return null;
-    }
-    final var rightChild = node.getRightChild();
-    if (rightChild != null) {
-      rbTreeReader.setCurrentAVLNode(rightChild);
-      assert node.getRightChildKey() == rightChild.getNodeKey();
-      return rightChild;
-    }
-    return moveTo(node.getRightChildKey()).hasMoved() ? rbTreeReader.getCurrentAVLNode() : null;
-  }
+    replaceChild(parentKey, nodeKey, rightKey);
 
-  /**
-   * Returns the parent node.
-   *
-   * @param node node from which to move to and return the parent node
-   * @return parent node or {@code null}
-   */
-  private RBNode<K, V> parent(@Nullable final RBNode<K, V> node) {
-    if (node == null || node.getParentKey() == Fixed.NULL_NODE_KEY.getStandardProperty()) {
-      return null;
-    }
-    final var parent = node.getParent();
-    if (parent != null) {
-      rbTreeReader.setCurrentAVLNode(parent);
-      assert node.getParentKey() == parent.getNodeKey();
-      return parent;
-    }
-    return moveTo(node.getParentKey()).hasMoved() ? rbTreeReader.getCurrentAVLNode() : null;
+    final RBNode<K, V> right = prepareNodeForModification(rightKey);
+    right.setParentKey(parentKey);
+    right.setLeftChildKey(nodeKey);
+    prepareNodeForModification(nodeKey).setParentKey(rightKey);
   }
 
   /**
-   * Left rotation.
+   * Right rotation, that is the left child of the node takes its place.
    *
-   * @param node node to be rotated
+   * @param nodeKey the node key of the node to be rotated
    * @throws SirixIOException if an I/O error occurs
    */
-  @SuppressWarnings({ "unchecked" })
-  private void rotateLeft(RBNode<K, V> node) {
-    moveTo(node.getNodeKey());
-
-    RBNode<K, V> right = ((RBTreeReader<K, V>) moveToLastChild().trx()).getCurrentAVLNode();
-
-    node = pageTrx.prepareRecordForModification(node.getNodeKey(), rbTreeReader.indexType, rbTreeReader.index);
-    assert right != null;
-    node.setRightChildKey(right.getLeftChildKey());
-    node.setRightChild(right.getLeftChild());
-
-    if (right.hasLeftChild()) {
-      final RBNode<K, V> rightLeftChild =
-          pageTrx.prepareRecordForModification(right.getLeftChildKey(), rbTreeReader.indexType, rbTreeReader.index);
-      rightLeftChild.setParentKey(node.getNodeKey());
-      rightLeftChild.setParent(node);
+  private void rotateRight(final long nodeKey) {
+    final RBNode<K, V> node = reader.getNode(nodeKey);
+    final long parentKey = node.getParentKey();
+    final long leftKey = node.getLeftChildKey();
+    final long leftRightKey = reader.getNode(leftKey).getRightChildKey();
+
+    prepareNodeForModification(nodeKey).setLeftChildKey(leftRightKey);
+    if (leftRightKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      prepareNodeForModification(leftRightKey).setParentKey(nodeKey);
     }
 
-    right = pageTrx.prepareRecordForModification(right.getNodeKey(), rbTreeReader.indexType, rbTreeReader.index);
-    right.setParentKey(node.getParentKey());
-    right.setParent(node.getParent());
-
-    if (node.getParentKey() == Fixed.DOCUMENT_NODE_KEY.getStandardProperty()) {
-      final StructNode parent = pageTrx.prepareRecordForModification(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(),
-                                                                     rbTreeReader.indexType,
-                                                                     rbTreeReader.index);
-      parent.setFirstChildKey(right.getNodeKey());
-    } else //noinspection ConstantConditions
-      if (moveTo(node.getParentKey()).hasMoved() && rbTreeReader.getCurrentAVLNode().getLeftChildKey() == node.getNodeKey()) {
-        final RBNode<K, V> parent = pageTrx.prepareRecordForModification(rbTreeReader.getNodeKey(),
-                                                                         rbTreeReader.indexType,
-                                                                         rbTreeReader.index);
-        parent.setLeftChildKey(right.getNodeKey());
-        parent.setLeftChild(right);
-      } else {
-        final RBNode<K, V> parent = pageTrx.prepareRecordForModification(rbTreeReader.getNodeKey(),
-                                                                         rbTreeReader.indexType,
-                                                                         rbTreeReader.index);
-        parent.setRightChildKey(right.getNodeKey());
-        parent.setRightChild(right);
-      }
-
-    right = pageTrx.prepareRecordForModification(right.getNodeKey(), rbTreeReader.indexType, rbTreeReader.index);
-    right.setLeftChildKey(node.getNodeKey());
-    right.setLeftChild(node);
+    replaceChild(parentKey, nodeKey, leftKey);
 
-    node = pageTrx.prepareRecordForModification(node.getNodeKey(), rbTreeReader.indexType, rbTreeReader.index);
-    node.setParentKey(right.getNodeKey());
-    node.setParent(right);
+    final RBNode<K, V> left = prepareNodeForModification(leftKey);
+    left.setParentKey(parentKey);
+    left.setRightChildKey(nodeKey);
+    prepareNodeForModification(nodeKey).setParentKey(leftKey);
   }
 
   /**
-   * Right rotation.
+   * Replace the child of a node or the root node of the tree.
    *
-   * @param node node to be rotated
-   * @throws SirixIOException if an I/O error occurs
+   * @param parentKey   the node key of the parent node, which is the document root node for the root node
+   * @param oldChildKey the node key of the child to replace
+   * @param newChildKey the node key of the new child
    */
-  @SuppressWarnings({ "unchecked" })
-  private void rotateRight(RBNode<K, V> node) {
-    moveTo(node.getNodeKey());
-
-    RBNode<K, V> leftChild = ((RBTreeReader<K, V>) moveToFirstChild().trx()).getCurrentAVLNode();
-    node = pageTrx.prepareRecordForModification(node.getNodeKey(), rbTreeReader.indexType, rbTreeReader.index);
-    assert leftChild != null;
-    node.setLeftChildKey(leftChild.getRightChildKey());
-    node.setLeftChild(leftChild.getRightChild());
-
-    if (leftChild.hasRightChild()) {
-      final RBNode<K, V> leftRightChild = pageTrx.prepareRecordForModification(leftChild.getRightChildKey(),
-                                                                               rbTreeReader.indexType,
-                                                                               rbTreeReader.index);
-      leftRightChild.setParentKey(node.getNodeKey());
-      leftRightChild.setParent(node);
+  private void replaceChild(final long parentKey, final long oldChildKey, final long newChildKey) {
+    if (parentKey == Fixed.DOCUMENT_NODE_KEY.getStandardProperty()) {
+      prepareDocumentRootForModification().setFirstChildKey(newChildKey);
+      return;
     }
+    final RBNode<K, V> parent = prepareNodeForModification(parentKey);
+    if (parent.getLeftChildKey() == oldChildKey) {
+      parent.setLeftChildKey(newChildKey);
+    } else {
+      parent.setRightChildKey(newChildKey);
+    }
+  }
 
-    leftChild =
-        pageTrx.prepareRecordForModification(leftChild.getNodeKey(), rbTreeReader.indexType, rbTreeReader.index);
-    leftChild.setParentKey(node.getParentKey());
-    leftChild.setParent(node.getParent());
-
-    if (node.getParentKey() == Fixed.DOCUMENT_NODE_KEY.getStandardProperty()) {
-      final StructNode parent = pageTrx.prepareRecordForModification(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(),
-                                                                     rbTreeReader.indexType,
-                                                                     rbTreeReader.index);
-      parent.setFirstChildKey(leftChild.getNodeKey());
-    } else //noinspection ConstantConditions
-      if (moveTo(node.getParentKey()).hasMoved()
-          && rbTreeReader.getCurrentAVLNode().getRightChildKey() == node.getNodeKey()) {
-        final RBNode<K, V> parent = pageTrx.prepareRecordForModification(rbTreeReader.getNodeKey(),
-                                                                         rbTreeReader.indexType,
-                                                                         rbTreeReader.index);
-        parent.setRightChildKey(leftChild.getNodeKey());
-        parent.setRightChild(leftChild);
-      } else {
-        final RBNode<K, V> parent = pageTrx.prepareRecordForModification(rbTreeReader.getNodeKey(),
-                                                                         rbTreeReader.indexType,
-                                                                         rbTreeReader.index);
-        parent.setLeftChildKey(leftChild.getNodeKey());
-        parent.setLeftChild(leftChild);
-      }
-
-    leftChild =
-        pageTrx.prepareRecordForModification(leftChild.getNodeKey(), rbTreeReader.indexType, rbTreeReader.index);
-    leftChild.setRightChildKey(node.getNodeKey());
-    leftChild.setRightChild(node);
+  private boolean isRoot(final long nodeKey) {
+    return parentKey(nodeKey) == Fixed.DOCUMENT_NODE_KEY.getStandardProperty();
+  }
 
-    node = pageTrx.prepareRecordForModification(node.getNodeKey(), rbTreeReader.indexType, rbTreeReader.index);
-    node.setParentKey(leftChild.getNodeKey());
-    node.setParent(leftChild);
+  private long parentKey(final long nodeKey) {
+    return reader.getNode(nodeKey).getParentKey();
   }
 
-  @Override
-  public void close() {
-    rbTreeReader.close();
+  /**
+   * Determines if a node is red, whereas missing nodes are black.
+   */
+  private boolean isRed(final long nodeKey) {
+    return nodeKey != Fixed.NULL_NODE_KEY.getStandardProperty() && reader.getNode(nodeKey).isChanged();
   }
 
-  @Override
-  protected NodeCursor delegate() {
-    return rbTreeReader;
+  private void setRed(final long nodeKey, final boolean isRed) {
+    if (reader.getNode(nodeKey).isChanged() != isRed) {
+      prepareNodeForModification(nodeKey).setChanged(isRed);
+    }
   }
 
   /**
-   * Finds the specified key in the index and returns its value.
+   * Remove a node key from the value. The index entry itself is kept, even if no keys are stored anymore.
    *
-   * @param key  key to be found
-   * @param mode the search mode
-   * @return {@link Optional} reference (with the found value, or a reference which indicates that the
-   * value hasn't been found)
+   * @param key     the key for which to search the value
+   * @param nodeKey the nodeKey to remove from the value
+   * @return {@code true}, if the node key has been removed, {@code false} otherwise
+   * @throws SirixIOException if an I/O error occured
    */
-  public Optional<V> get(final K key, final SearchMode mode) {
-    return rbTreeReader.get(checkNotNull(key), checkNotNull(mode));
+  @Override
+  public boolean remove(final K key, final @Nonnegative long nodeKey) {
+    checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+    checkNotNull(key);
+    reader.assertNotClosed();
+
+    long treeNodeKey = reader.getRootKey();
+    while (treeNodeKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      final RBNode<K, V> node = reader.getNode(treeNodeKey);
+      final int c = key.compareTo(node.getKey());
+      if (c == 0) {
+        if (!node.getValue().contains(nodeKey)) {
+          return false;
+        }
+        return prepareNodeForModification(treeNodeKey).getValue().removeNodeKey(nodeKey);
+      }
+      treeNodeKey = c < 0 ? node.getLeftChildKey() : node.getRightChildKey();
+    }
+    return false;
   }
 
   /**
-   * Get the {@link RBTreeReader} used to navigate.
+   * Get the {@link RBTreeReader} used to search.
    *
    * @return {@link RBTreeReader} reference
    */
+  @Override
   public RBTreeReader<K, V> getReader() {
-    return rbTreeReader;
+    return reader;
   }
 }
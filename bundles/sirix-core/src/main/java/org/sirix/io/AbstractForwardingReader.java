@@ -7,6 +7,7 @@ import org.sirix.page.RevisionRootPage;
 import org.sirix.page.interfaces.Page;
 
 import javax.annotation.Nullable;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Forwards all methods to the delegate.
@@ -24,6 +25,11 @@ public abstract class AbstractForwardingReader extends ForwardingObject implemen
     return delegate().read(reference, pageReadTrx);
   }
 
+  @Override
+  public CompletableFuture<? extends Page> readAsync(PageReference reference, @Nullable PageReadOnlyTrx pageReadTrx) {
+    return delegate().readAsync(reference, pageReadTrx);
+  }
+
   @Override
   public PageReference readUberPageReference() {
     return delegate().readUberPageReference();
@@ -34,6 +40,16 @@ public abstract class AbstractForwardingReader extends ForwardingObject implemen
     return delegate().readRevisionRootPage(revision, pageReadTrx);
   }
 
+  @Override
+  public boolean isRevisionStored(int revision) {
+    return delegate().isRevisionStored(revision);
+  }
+
+  @Override
+  public long readRevisionTimestamp(int revision) {
+    return delegate().readRevisionTimestamp(revision);
+  }
+
   @Override
   protected abstract Reader delegate();
 }
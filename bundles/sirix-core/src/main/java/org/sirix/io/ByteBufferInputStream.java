@@ -0,0 +1,65 @@
+package org.sirix.io;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An {@link InputStream}, which reads from a {@link ByteBuffer} without copying its content, for instance from a
+ * slice of a memory-mapped file.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ByteBufferInputStream extends InputStream {
+
+  /**
+   * The buffer to read from.
+   */
+  private final ByteBuffer buffer;
+
+  /**
+   * Constructor.
+   *
+   * @param buffer the buffer to read from, starting at its current position up to its limit
+   */
+  public ByteBufferInputStream(final ByteBuffer buffer) {
+    this.buffer = checkNotNull(buffer);
+  }
+
+  @Override
+  public int read() {
+    if (!buffer.hasRemaining()) {
+      return -1;
+    }
+    return buffer.get() & 0xFF;
+  }
+
+  @Override
+  public int read(final byte[] bytes, final int offset, final int length) {
+    if (length == 0) {
+      return 0;
+    }
+    if (!buffer.hasRemaining()) {
+      return -1;
+    }
+    final int bytesToRead = Math.min(length, buffer.remaining());
+    buffer.get(bytes, offset, bytesToRead);
+    return bytesToRead;
+  }
+
+  @Override
+  public long skip(final long n) {
+    if (n <= 0) {
+      return 0;
+    }
+    final int bytesToSkip = (int) Math.min(n, buffer.remaining());
+    buffer.position(buffer.position() + bytesToSkip);
+    return bytesToSkip;
+  }
+
+  @Override
+  public int available() {
+    return buffer.remaining();
+  }
+}
@@ -0,0 +1,130 @@
+package org.sirix.io;
+
+import org.sirix.exception.SirixIOException;
+import org.sirix.utils.SirixFiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Handles the files of a compacted copy of a resource, which is written to a separate directory next to the data
+ * files of the resource and replaces them afterwards.
+ * <p>
+ * The data file and the revisions offset file are replaced one after the other. Thus, a marker file is created
+ * before, such that a replacement, which has been interrupted (for instance by a crash), is completed once the
+ * storage is opened again. A compaction directory without the marker file belongs to a compaction, which hasn't been
+ * completed, and is removed.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class CompactionFiles {
+
+  /**
+   * The name of the directory the compacted copy is written to.
+   */
+  private static final String COMPACTION_DIRECTORY = "compaction";
+
+  /**
+   * The name of the marker file, which denotes that the compacted copy is complete.
+   */
+  static final String COMPLETED_MARKER = ".completed";
+
+  /**
+   * Utility methods only.
+   */
+  private CompactionFiles() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Get the directory the compacted copy of the data files in the given directory is written to.
+   *
+   * @param dataDirectory the directory of the data files
+   * @return the compaction directory
+   */
+  public static Path getCompactionDirectory(final Path dataDirectory) {
+    return dataDirectory.resolve(COMPACTION_DIRECTORY);
+  }
+
+  /**
+   * Create an empty compaction directory. The files of a previous compaction, which hasn't been completed, are
+   * removed.
+   *
+   * @param dataDirectory the directory of the data files
+   * @return the compaction directory
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public static Path createCompactionDirectory(final Path dataDirectory) {
+    final Path compactionDirectory = getCompactionDirectory(dataDirectory);
+    try {
+      SirixFiles.recursiveRemove(compactionDirectory);
+      return Files.createDirectories(compactionDirectory);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Replace the data files with the files of the compacted copy.
+   *
+   * @param dataDirectory the directory of the data files
+   * @param fileNames     the names of the files to replace, in the order in which they are replaced
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public static void replace(final Path dataDirectory, final String... fileNames) {
+    final Path compactionDirectory = getCompactionDirectory(dataDirectory);
+    try {
+      for (final String fileName : fileNames) {
+        if (!Files.exists(compactionDirectory.resolve(fileName))) {
+          throw new SirixIOException("The compacted copy doesn't contain " + fileName + ".");
+        }
+      }
+      Files.createFile(compactionDirectory.resolve(COMPLETED_MARKER));
+      move(dataDirectory, fileNames);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Complete the replacement of the data files, if it has been interrupted, or remove the files of a compaction,
+   * which hasn't been completed.
+   *
+   * @param dataDirectory the directory of the data files
+   * @param fileNames     the names of the files to replace, in the order in which they are replaced
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public static void recover(final Path dataDirectory, final String... fileNames) {
+    final Path compactionDirectory = getCompactionDirectory(dataDirectory);
+    if (!Files.exists(compactionDirectory)) {
+      return;
+    }
+    try {
+      if (Files.exists(compactionDirectory.resolve(COMPLETED_MARKER))) {
+        move(dataDirectory, fileNames);
+      } else {
+        SirixFiles.recursiveRemove(compactionDirectory);
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private static void move(final Path dataDirectory, final String... fileNames) throws IOException {
+    final Path compactionDirectory = getCompactionDirectory(dataDirectory);
+    for (final String fileName : fileNames) {
+      final Path compactedFile = compactionDirectory.resolve(fileName);
+      // The file has already been moved, if the replacement is completed after an interruption.
+      if (Files.exists(compactedFile)) {
+        Files.move(compactedFile,
+                   dataDirectory.resolve(fileName),
+                   StandardCopyOption.REPLACE_EXISTING,
+                   StandardCopyOption.ATOMIC_MOVE);
+      }
+    }
+    SirixFiles.recursiveRemove(compactionDirectory);
+  }
+}
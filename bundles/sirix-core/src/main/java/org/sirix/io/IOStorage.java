@@ -70,4 +70,29 @@ public interface IOStorage {
    * @return byte handler pipeline
    */
   ByteHandler getByteHandler();
+
+  /**
+   * Create an empty storage of the same kind, to which a compacted copy of this storage is written. The compaction
+   * storage doesn't affect this storage until it replaces it through {@link #replaceWith(IOStorage)}.
+   *
+   * @return the compaction storage
+   * @throws SirixIOException if the compaction storage can't be created
+   * @throws UnsupportedOperationException if the storage can't be compacted
+   */
+  default IOStorage createCompactionStorage() {
+    throw new UnsupportedOperationException("The storage can't be compacted.");
+  }
+
+  /**
+   * Replace the files of this storage with the files of a compaction storage, which has been created by
+   * {@link #createCompactionStorage()}. Readers and writers created afterwards access the compacted files, whereas
+   * readers created before keep reading the replaced files until they are closed.
+   *
+   * @param compactionStorage the compaction storage
+   * @throws SirixIOException if an I/O error occurs
+   * @throws UnsupportedOperationException if the storage can't be compacted
+   */
+  default void replaceWith(IOStorage compactionStorage) {
+    throw new UnsupportedOperationException("The storage can't be compacted.");
+  }
 }
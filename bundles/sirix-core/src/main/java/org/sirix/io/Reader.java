@@ -29,6 +29,7 @@ import org.sirix.page.delegates.BitmapReferencesPage;
 import org.sirix.page.interfaces.Page;
 
 import javax.annotation.Nullable;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface for reading the stored pages in every backend.
@@ -39,6 +40,11 @@ import javax.annotation.Nullable;
  */
 public interface Reader extends AutoCloseable {
 
+  /**
+   * The size of an entry in the revisions offset file, that is the offset of the revision root page in the data file.
+   */
+  int REVISIONS_FILE_ENTRY_SIZE = 8;
+
   /**
    * Getting the first reference of the {@code Uberpage}.
    *
@@ -57,6 +63,20 @@ public interface Reader extends AutoCloseable {
    */
   Page read(PageReference key, @Nullable PageReadOnlyTrx pageReadTrx);
 
+  /**
+   * Asynchronously read the page for the given pointer. Implementations, which are able to issue
+   * concurrent reads override this method, such that multiple reads (for instance of page fragments)
+   * are in flight at the same time. The default implementation simply reads the page synchronously.
+   *
+   * @param key the reference for the page to be determined
+   * @param pageReadTrx {@link PageReadOnlyTrx} reference
+   * @return a future, which completes with the page once it has been read
+   * @throws SirixIOException if something bad happens during read
+   */
+  default CompletableFuture<? extends Page> readAsync(PageReference key, @Nullable PageReadOnlyTrx pageReadTrx) {
+    return CompletableFuture.completedFuture(read(key, pageReadTrx));
+  }
+
   /**
    * Closing the storage.
    *
@@ -73,4 +93,26 @@ public interface Reader extends AutoCloseable {
    * @return the revision root page
    */
   RevisionRootPage readRevisionRootPage(int revision, PageReadOnlyTrx pageReadTrx);
+
+  /**
+   * Determines if the revision root page of a revision is stored, that is if the revision hasn't been pruned by a
+   * compaction of the resource.
+   *
+   * @param revision the revision to check
+   * @return {@code true}, if the revision root page is stored, {@code false} if the revision has been pruned
+   * @throws SirixIOException if something bad happens during read
+   */
+  default boolean isRevisionStored(int revision) {
+    return true;
+  }
+
+  /**
+   * Read the commit timestamp of a revision from the {@link RevisionTimestamps}, without reading and deserializing
+   * the revision root page.
+   *
+   * @param revision the revision to read the timestamp for
+   * @return the commit timestamp in milliseconds since the epoch
+   * @throws SirixIOException if something bad happens during read
+   */
+  long readRevisionTimestamp(int revision);
 }
@@ -0,0 +1,178 @@
+package org.sirix.io;
+
+import org.sirix.exception.SirixIOException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The append-only file next to the revisions offset file, which stores the commit timestamp of each revision (in
+ * milliseconds since the epoch) as a fixed size entry, such that the timestamp of a revision is read without reading
+ * and deserializing its revision root page.
+ * <p>
+ * Resources, which have been created before the file has been introduced, don't have the file or only store the
+ * timestamps of the revisions committed afterwards. The missing entries are backfilled from the revision root pages
+ * once they are needed. The entries are always written at the position of their revision, thus concurrent
+ * backfills write the same bytes.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RevisionTimestamps implements AutoCloseable {
+
+  /**
+   * The name of the file.
+   */
+  public static final String FILENAME = "sirix.timestamps";
+
+  /**
+   * The size of an entry.
+   */
+  private static final int ENTRY_SIZE = 8;
+
+  /**
+   * The file channel.
+   */
+  private final FileChannel channel;
+
+  /**
+   * Constructor.
+   *
+   * @param file the file, which is created if it doesn't exist
+   * @throws SirixIOException if the file can't be opened
+   */
+  public RevisionTimestamps(final Path file) {
+    try {
+      channel = FileChannel.open(checkNotNull(file),
+                                 StandardOpenOption.CREATE,
+                                 StandardOpenOption.READ,
+                                 StandardOpenOption.WRITE);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Read the commit timestamp of a revision.
+   *
+   * @param revision the revision
+   * @param reader   reads the revision root pages of the revisions, whose entries are missing
+   * @return the commit timestamp in milliseconds since the epoch
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public synchronized long read(final int revision, final Reader reader) {
+    checkArgument(revision >= 0, "The revision must be >= 0!");
+    try {
+      backfill(revision + 1, reader);
+      return readEntry(revision);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Write the commit timestamp of a revision. The entries of the previous revisions are backfilled, if they are
+   * missing.
+   *
+   * @param revision  the revision
+   * @param timestamp the commit timestamp in milliseconds since the epoch
+   * @param reader    reads the revision root pages of the previous revisions, whose entries are missing
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public synchronized void write(final int revision, final long timestamp, final Reader reader) {
+    checkArgument(revision >= 0, "The revision must be >= 0!");
+    try {
+      backfill(revision, reader);
+      writeEntry(revision, timestamp);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Append the commit timestamp of the next revision.
+   *
+   * @param timestamp the commit timestamp in milliseconds since the epoch
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public synchronized void append(final long timestamp) {
+    try {
+      channel.write(toBuffer(timestamp), channel.size());
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Remove all entries.
+   *
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public synchronized void truncate() {
+    try {
+      channel.truncate(0);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Force the entries to the storage device.
+   *
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public void force() {
+    try {
+      channel.force(true);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      channel.close();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Write the missing entries up to the given revision (exclusive) from the revision root pages. The entries of
+   * pruned revisions, whose revision root pages don't exist anymore, get the timestamp of the previous revision.
+   */
+  private void backfill(final int untilRevision, final Reader reader) throws IOException {
+    int revision = (int) (channel.size() / ENTRY_SIZE);
+    long timestamp = revision == 0 ? 0 : readEntry(revision - 1);
+    for (; revision < untilRevision; revision++) {
+      if (reader.isRevisionStored(revision)) {
+        timestamp = reader.readRevisionRootPage(revision, null).getRevisionTimestamp();
+      }
+      writeEntry(revision, timestamp);
+    }
+  }
+
+  private long readEntry(final int revision) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(ENTRY_SIZE);
+    channel.read(buffer, (long) revision * ENTRY_SIZE);
+    return buffer.getLong(0);
+  }
+
+  private void writeEntry(final int revision, final long timestamp) throws IOException {
+    channel.write(toBuffer(timestamp), (long) revision * ENTRY_SIZE);
+  }
+
+  private static ByteBuffer toBuffer(final long timestamp) {
+    final ByteBuffer buffer = ByteBuffer.allocate(ENTRY_SIZE);
+    buffer.putLong(timestamp);
+    buffer.flip();
+    return buffer;
+  }
+}
@@ -23,6 +23,9 @@ package org.sirix.io;
 
 import org.sirix.exception.SirixIOException;
 import org.sirix.page.PageReference;
+import org.sirix.page.interfaces.Page;
+
+import javax.annotation.Nullable;
 
 /**
  * Interface to provide the abstract layer related to write access of the Sirix-backend.
@@ -38,7 +41,52 @@ public interface Writer extends Reader {
    * @throws SirixIOException execption to be thrown if something bad happens
    * @return this writer instance
    */
-  Writer write(PageReference pageReference) throws SirixIOException;
+  default Writer write(PageReference pageReference) throws SirixIOException {
+    return write(pageReference, serializePage(pageReference.getPage()));
+  }
+
+  /**
+   * Serialize a page, that is transform it into a byte-array and apply the byte handler pipeline. The storage is not
+   * touched, thus distinct pages may be serialized concurrently to each other and to
+   * {@link #write(PageReference, byte[])}.
+   *
+   * @param page the page to serialize
+   * @return the serialized page or {@code null}, if the storage keeps the page instances
+   * @throws SirixIOException if the page couldn't be serialized
+   */
+  @Nullable
+  byte[] serializePage(Page page) throws SirixIOException;
+
+  /**
+   * Writing a page related to the reference, which has been serialized by {@link #serializePage(Page)} before.
+   *
+   * @param pageReference  that points to a page
+   * @param serializedPage the serialized page
+   * @throws SirixIOException execption to be thrown if something bad happens
+   * @return this writer instance
+   */
+  Writer write(PageReference pageReference, @Nullable byte[] serializedPage) throws SirixIOException;
+
+  /**
+   * Force all written pages to the storage device.
+   *
+   * @throws SirixIOException if an I/O error occured
+   * @return this writer instance
+   */
+  default Writer force() throws SirixIOException {
+    return this;
+  }
+
+  /**
+   * Hand the resources of the writer, which are confined to the thread, which has created them, over to another
+   * thread. Must be invoked by the current owner.
+   *
+   * @param newOwner the thread, which continues to use the writer
+   * @return this writer instance
+   */
+  default Writer transferOwnership(Thread newOwner) {
+    return this;
+  }
 
   /**
    * Write beacon for the first reference.
@@ -49,6 +97,17 @@ public interface Writer extends Reader {
    */
   Writer writeUberPageReference(PageReference pageReference) throws SirixIOException;
 
+  /**
+   * Write the entry of a revision, which has been pruned by a compaction of the resource, to the revisions offset
+   * file. The entry keeps the commit timestamp, but doesn't point to a revision root page, such that the numbers of
+   * the subsequent revisions are preserved.
+   *
+   * @param revisionTimestamp the commit timestamp of the pruned revision
+   * @throws SirixIOException if an I/O error occured
+   * @return this writer instance
+   */
+  Writer writePrunedRevision(long revisionTimestamp);
+
   /**
    * Truncate to a specific revision.
    *
@@ -2,6 +2,7 @@ package org.sirix.io.bytepipe;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -74,4 +75,13 @@ public final class ByteHandlePipeline implements ByteHandler {
   public ByteHandler getInstance() {
     return new ByteHandlePipeline();
   }
+
+  @Override
+  public ByteHandlePipeline bindTo(final Path resourcePath) {
+    final ByteHandler[] boundHandlers = new ByteHandler[byteHandlers.size()];
+    for (int i = 0; i < boundHandlers.length; i++) {
+      boundHandlers[i] = byteHandlers.get(i).bindTo(resourcePath);
+    }
+    return new ByteHandlePipeline(boundHandlers);
+  }
 }
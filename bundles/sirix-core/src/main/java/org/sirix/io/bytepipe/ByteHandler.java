@@ -3,6 +3,7 @@ package org.sirix.io.bytepipe;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Path;
 
 /**
  * Interface for the decorator, representing any byte representation to be serialized or to
@@ -35,4 +36,15 @@ public interface ByteHandler {
    * @return new instance
    */
   ByteHandler getInstance();
+
+  /**
+   * Method to retrieve an instance, which is bound to a resource, for byte handlers, which store data in the folder
+   * of the resource.
+   *
+   * @param resourcePath the path of the resource
+   * @return the bound instance or this instance, if the byte handler doesn't depend on the resource
+   */
+  default ByteHandler bindTo(Path resourcePath) {
+    return this;
+  }
 }
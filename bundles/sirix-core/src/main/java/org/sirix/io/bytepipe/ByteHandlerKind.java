@@ -66,6 +66,43 @@ public enum ByteHandlerKind {
     }
   },
 
+  LZ4_COMPRESSOR(LZ4Compressor.class) {
+    @Override
+    public ByteHandler deserialize(JsonReader reader) {
+      return callDefaultConstructor(reader, LZ4Compressor.class.getName());
+    }
+
+    @Override
+    public void serialize(ByteHandler byteHandler, JsonWriter writer) throws IOException {
+      serializeDefaultConstructor(byteHandler, writer);
+    }
+  },
+
+  ZSTD_COMPRESSOR(ZstdCompressor.class) {
+    @Override
+    public ByteHandler deserialize(JsonReader reader) throws IOException {
+      switch (reader.peek()) {
+        case NULL:
+          reader.nextNull();
+          return new ZstdCompressor();
+        case STRING:
+          // Configurations written before the dictionary location has been derived from the resource path.
+          reader.nextString();
+          return new ZstdCompressor(true);
+        default:
+          return new ZstdCompressor(reader.nextBoolean());
+      }
+    }
+
+    @Override
+    public void serialize(ByteHandler byteHandler, JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name(byteHandler.getClass().getName());
+      writer.value(((ZstdCompressor) byteHandler).isUsingDictionary());
+      writer.endObject();
+    }
+  },
+
   ENCRYPTOR(Encryptor.class) {
     @Override
     public ByteHandler deserialize(JsonReader reader) {
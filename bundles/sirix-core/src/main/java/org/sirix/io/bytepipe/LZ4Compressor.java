@@ -0,0 +1,30 @@
+package org.sirix.io.bytepipe;
+
+import net.jpountz.lz4.LZ4BlockInputStream;
+import net.jpountz.lz4.LZ4BlockOutputStream;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * LZ4 compression/decompression, which trades a lower compression ratio for very fast decompression.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class LZ4Compressor implements ByteHandler {
+
+  @Override
+  public OutputStream serialize(final OutputStream toSerialize) {
+    return new LZ4BlockOutputStream(toSerialize);
+  }
+
+  @Override
+  public InputStream deserialize(final InputStream toDeserialize) {
+    return new LZ4BlockInputStream(toDeserialize);
+  }
+
+  @Override
+  public ByteHandler getInstance() {
+    return new LZ4Compressor();
+  }
+}
@@ -0,0 +1,276 @@
+package org.sirix.io.bytepipe;
+
+import com.github.luben.zstd.ZstdDictTrainer;
+import com.github.luben.zstd.ZstdException;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import org.sirix.access.ResourceConfiguration;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+
+/**
+ * Zstandard compression/decompression.
+ * <p>
+ * If the compressor uses a dictionary, it is bound to the resource once the storage of the resource is opened (see
+ * {@link #bindTo(Path)}), such that the location of the dictionary isn't persisted in the resource configuration
+ * and the resource can be moved. A dictionary is trained from the first serialized pages and stored in the data
+ * folder of the resource. Afterwards all pages are compressed with the dictionary, which considerably improves
+ * the compression ratio of small pages. Each compressed page is prefixed by a byte, which denotes if the dictionary
+ * has been used or not, such that pages written before the dictionary has been trained can still be read.
+ * </p>
+ * <p>
+ * Pages may be serialized concurrently (for instance during a commit), thus loading, sampling and training the
+ * dictionary is synchronized.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ZstdCompressor implements ByteHandler {
+
+  /**
+   * Name of the file in the data folder of a resource, which stores the dictionary.
+   */
+  public static final String DICTIONARY_FILENAME = "zstd.dictionary";
+
+  /**
+   * Size of the trained dictionary.
+   */
+  private static final int DICTIONARY_SIZE = 64 * 1024;
+
+  /**
+   * Maximum size of all samples used to train the dictionary.
+   */
+  private static final int MAX_SAMPLES_SIZE = 100 * DICTIONARY_SIZE;
+
+  /**
+   * Number of samples after which the dictionary is trained, if the maximum size hasn't been reached before.
+   */
+  private static final int NUMBER_OF_SAMPLES = 256;
+
+  private static final byte WITHOUT_DICTIONARY = 0;
+
+  private static final byte WITH_DICTIONARY = 1;
+
+  /**
+   * Determines if a dictionary should be used.
+   */
+  private final boolean useDictionary;
+
+  /**
+   * The path of the resource or {@code null}, if no dictionary should be used or the compressor isn't bound to a
+   * resource yet.
+   */
+  private final Path resourcePath;
+
+  /**
+   * The dictionary, once it has been trained or loaded.
+   */
+  private volatile byte[] dictionary;
+
+  /**
+   * The trainer, as long as samples are collected.
+   */
+  private ZstdDictTrainer dictTrainer;
+
+  private int numberOfSamples;
+
+  /**
+   * Determines if no dictionary is going to be trained anymore.
+   */
+  private volatile boolean trainingFinished;
+
+  /**
+   * Constructor, for compression without a dictionary.
+   */
+  public ZstdCompressor() {
+    this(false);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param useDictionary determines if a dictionary should be trained and used, once the compressor is bound to a
+   *                      resource
+   */
+  public ZstdCompressor(final boolean useDictionary) {
+    this(useDictionary, null);
+  }
+
+  /**
+   * Constructor, for compression with the dictionary of a resource.
+   *
+   * @param resourcePath the path of the resource to train and store the dictionary for
+   */
+  ZstdCompressor(final Path resourcePath) {
+    this(true, Objects.requireNonNull(resourcePath));
+  }
+
+  private ZstdCompressor(final boolean useDictionary, final @Nullable Path resourcePath) {
+    this.useDictionary = useDictionary;
+    this.resourcePath = resourcePath;
+    trainingFinished = resourcePath == null;
+  }
+
+  /**
+   * @return {@code true}, if a dictionary should be used, {@code false} otherwise
+   */
+  public boolean isUsingDictionary() {
+    return useDictionary;
+  }
+
+  @Override
+  public ByteHandler bindTo(final Path resourcePath) {
+    return useDictionary ? new ZstdCompressor(resourcePath) : this;
+  }
+
+  @Override
+  public OutputStream serialize(final OutputStream toSerialize) {
+    try {
+      final byte[] dictionary = getDictionary();
+      toSerialize.write(dictionary == null ? WITHOUT_DICTIONARY : WITH_DICTIONARY);
+      final var zstdOutputStream = new ZstdOutputStream(toSerialize);
+      if (dictionary != null) {
+        return zstdOutputStream.setDict(dictionary);
+      }
+      if (trainingFinished) {
+        return zstdOutputStream;
+      }
+      return new SamplingOutputStream(zstdOutputStream);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public InputStream deserialize(final InputStream toDeserialize) {
+    try {
+      final int dictionaryUsed = toDeserialize.read();
+      final var zstdInputStream = new ZstdInputStream(toDeserialize).setContinuous(true);
+      if (dictionaryUsed == WITH_DICTIONARY) {
+        final byte[] dictionary = getDictionary();
+        if (dictionary == null) {
+          throw new IllegalStateException("No dictionary found in " + getDictionaryPath());
+        }
+        zstdInputStream.setDict(dictionary);
+      }
+      return zstdInputStream;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Path getDictionaryPath() {
+    return resourcePath.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath()).resolve(DICTIONARY_FILENAME);
+  }
+
+  private synchronized byte[] getDictionary() throws IOException {
+    if (dictionary == null && resourcePath != null) {
+      final Path dictionaryPath = getDictionaryPath();
+      if (Files.exists(dictionaryPath)) {
+        dictionary = Files.readAllBytes(dictionaryPath);
+        trainingFinished = true;
+        dictTrainer = null;
+      }
+    }
+    return dictionary;
+  }
+
+  private synchronized void addSample(final byte[] sample) throws IOException {
+    if (trainingFinished || sample.length == 0) {
+      return;
+    }
+    if (dictTrainer == null) {
+      dictTrainer = new ZstdDictTrainer(MAX_SAMPLES_SIZE, DICTIONARY_SIZE);
+    }
+    final boolean added = dictTrainer.addSample(sample);
+    numberOfSamples++;
+    if (!added || numberOfSamples == NUMBER_OF_SAMPLES) {
+      trainDictionary();
+    }
+  }
+
+  private void trainDictionary() throws IOException {
+    trainingFinished = true;
+    final byte[] trainedDictionary;
+    try {
+      trainedDictionary = dictTrainer.trainSamples();
+    } catch (final ZstdException e) {
+      // Not enough or too diverse samples: keep compressing without a dictionary.
+      return;
+    } finally {
+      dictTrainer = null;
+    }
+
+    final Path dictionaryPath = getDictionaryPath();
+    if (Files.exists(dictionaryPath)) {
+      // Trained by another writer in the meantime.
+      getDictionary();
+      return;
+    }
+    final Path tempPath = dictionaryPath.resolveSibling(DICTIONARY_FILENAME + ".tmp");
+    Files.write(tempPath, trainedDictionary);
+    Files.move(tempPath, dictionaryPath, StandardCopyOption.ATOMIC_MOVE);
+    dictionary = trainedDictionary;
+  }
+
+  @Override
+  public ByteHandler getInstance() {
+    return new ZstdCompressor(useDictionary, resourcePath);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(useDictionary, resourcePath);
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    return other instanceof ZstdCompressor otherCompressor && useDictionary == otherCompressor.useDictionary
+        && Objects.equals(resourcePath, otherCompressor.resourcePath);
+  }
+
+  /**
+   * Compresses without a dictionary and collects the uncompressed bytes as a sample to train the dictionary.
+   */
+  private final class SamplingOutputStream extends FilterOutputStream {
+    private final ByteArrayOutputStream sample = new ByteArrayOutputStream();
+
+    private boolean closed;
+
+    SamplingOutputStream(final OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+      sample.write(b);
+      out.write(b);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+      sample.write(bytes, offset, length);
+      out.write(bytes, offset, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      super.close();
+      addSample(sample.toByteArray());
+    }
+  }
+}
@@ -27,9 +27,11 @@ import com.sun.nio.file.ExtendedOpenOption;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.Reader;
+import org.sirix.io.RevisionTimestamps;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.page.*;
 import org.sirix.page.interfaces.Page;
+import org.sirix.settings.Constants;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -37,9 +39,12 @@ import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -77,11 +82,21 @@ public final class FileChannelReader implements Reader {
    */
   private final FileChannel dataFileChannel;
 
+  /**
+   * Asynchronous data file channel, used to issue concurrent reads.
+   */
+  private final AsynchronousFileChannel asyncDataFileChannel;
+
   /**
    * Revisions offset file channel.
    */
   private final FileChannel revisionsOffsetChannel;
 
+  /**
+   * The commit timestamps of the revisions.
+   */
+  private final RevisionTimestamps revisionTimestamps;
+
   /**
    * The type of data to serialize.
    */
@@ -97,16 +112,20 @@ public final class FileChannelReader implements Reader {
    *
    * @param dataFile            the data file
    * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
+   * @param revisionTimestamps  the commit timestamps of the revisions
    * @param handler             {@link ByteHandler} instance
    * @throws SirixIOException if something bad happens
    */
-  public FileChannelReader(final Path dataFile, final Path revisionsOffsetFile, final ByteHandler handler,
-      final SerializationType type, final PagePersister pagePersistenter) throws IOException {
+  public FileChannelReader(final Path dataFile, final Path revisionsOffsetFile,
+      final RevisionTimestamps revisionTimestamps, final ByteHandler handler, final SerializationType type,
+      final PagePersister pagePersistenter) throws IOException {
     hashFunction = Hashing.sha256();
     this.dataFileChannel = FileChannel.open(dataFile, StandardOpenOption.READ);
+    this.asyncDataFileChannel = AsynchronousFileChannel.open(dataFile, StandardOpenOption.READ);
 
     this.revisionsOffsetChannel = type == SerializationType.DATA ? FileChannel.open(revisionsOffsetFile,
                                                                                     StandardOpenOption.READ) : null;
+    this.revisionTimestamps = type == SerializationType.DATA ? checkNotNull(revisionTimestamps) : null;
     byteHandler = checkNotNull(handler);
     this.type = checkNotNull(type);
     pagePersiter = checkNotNull(pagePersistenter);
@@ -140,16 +159,69 @@ public final class FileChannelReader implements Reader {
       buffer.position(0);
       buffer.get(page);
 
-      // Perform byte operations.
-      final DataInputStream input = new DataInputStream(byteHandler.deserialize(new ByteArrayInputStream(page)));
-
-      // Return reader required to instantiate and deserialize page.
-      return pagePersiter.deserializePage(input, pageReadTrx, type);
+      return deserialize(pageReadTrx, page);
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
   }
 
+  @Override
+  public CompletableFuture<? extends Page> readAsync(final @Nonnull PageReference reference,
+      final @Nullable PageReadOnlyTrx pageReadTrx) {
+    final long position = switch (type) {
+      case DATA -> reference.getKey();
+      case TRANSACTION_INTENT_LOG -> reference.getPersistentLogKey();
+    };
+
+    return readFully(ByteBuffer.allocate(4), position).thenCompose(lengthBuffer -> readFully(ByteBuffer.allocate(
+        lengthBuffer.getInt(0)), position + 4)).thenApply(pageBuffer -> {
+      try {
+        return deserialize(pageReadTrx, pageBuffer.array());
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+    });
+  }
+
+  /**
+   * Asynchronously fill the whole buffer with the bytes starting at the given position.
+   *
+   * @param buffer   the buffer to fill
+   * @param position the position in the data file
+   * @return a future, which completes with the filled (but not flipped) buffer
+   */
+  private CompletableFuture<ByteBuffer> readFully(final ByteBuffer buffer, final long position) {
+    final var future = new CompletableFuture<ByteBuffer>();
+
+    asyncDataFileChannel.read(buffer, position, buffer, new CompletionHandler<>() {
+      @Override
+      public void completed(final Integer bytesRead, final ByteBuffer attachment) {
+        if (bytesRead == -1) {
+          future.completeExceptionally(new SirixIOException("Unexpected end of file at offset " + position + "."));
+        } else if (attachment.hasRemaining()) {
+          asyncDataFileChannel.read(attachment, position + attachment.position(), attachment, this);
+        } else {
+          future.complete(attachment);
+        }
+      }
+
+      @Override
+      public void failed(final Throwable exc, final ByteBuffer attachment) {
+        future.completeExceptionally(new SirixIOException(exc));
+      }
+    });
+
+    return future;
+  }
+
+  private Page deserialize(final PageReadOnlyTrx pageReadTrx, final byte[] page) throws IOException {
+    // Perform byte operations.
+    final DataInputStream input = new DataInputStream(byteHandler.deserialize(new ByteArrayInputStream(page)));
+
+    // Return reader required to instantiate and deserialize page.
+    return pagePersiter.deserializePage(input, pageReadTrx, type);
+  }
+
   @Override
   public PageReference readUberPageReference() {
     final PageReference uberPageReference = new PageReference();
@@ -173,14 +245,13 @@ public final class FileChannelReader implements Reader {
   @Override
   public RevisionRootPage readRevisionRootPage(final int revision, final PageReadOnlyTrx pageReadTrx) {
     try {
-      revisionsOffsetChannel.position(revision * 8);
-
-      ByteBuffer buffer = ByteBuffer.allocate(8);
-      revisionsOffsetChannel.read(buffer);
-      buffer.position(0);
-      dataFileChannel.position(buffer.getLong());
+      final long offset = readRevisionOffset(revision);
+      if (offset == Constants.NULL_ID_LONG) {
+        throw new SirixIOException("Revision " + revision + " has been pruned.");
+      }
+      dataFileChannel.position(offset);
 
-      buffer = ByteBuffer.allocate(4);
+      ByteBuffer buffer = ByteBuffer.allocate(4);
       dataFileChannel.read(buffer);
       buffer.position(0);
       final int dataLength = buffer.getInt();
@@ -201,12 +272,36 @@ public final class FileChannelReader implements Reader {
     }
   }
 
+  @Override
+  public boolean isRevisionStored(final int revision) {
+    try {
+      return readRevisionOffset(revision) != Constants.NULL_ID_LONG;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private long readRevisionOffset(final int revision) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(8);
+    revisionsOffsetChannel.read(buffer, (long) revision * REVISIONS_FILE_ENTRY_SIZE);
+    return buffer.getLong(0);
+  }
+
+  @Override
+  public long readRevisionTimestamp(final int revision) {
+    return revisionTimestamps.read(revision, this);
+  }
+
   @Override
   public void close() {
     try {
       if (revisionsOffsetChannel != null) {
         revisionsOffsetChannel.close();
       }
+      if (revisionTimestamps != null) {
+        revisionTimestamps.close();
+      }
+      asyncDataFileChannel.close();
       dataFileChannel.close();
     } catch (final IOException e) {
       throw new SirixIOException(e);
@@ -25,10 +25,12 @@ import com.sun.nio.file.ExtendedOpenOption;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.AbstractForwardingReader;
 import org.sirix.io.Reader;
+import org.sirix.io.RevisionTimestamps;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.page.*;
 import org.sirix.page.interfaces.Page;
+import org.sirix.settings.Constants;
 
 import java.io.*;
 import java.nio.ByteBuffer;
@@ -64,6 +66,8 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
 
   private final FileChannel revisionsOffsetFileChannel;
 
+  private final RevisionTimestamps revisionTimestamps;
+
   private final PagePersister pagePersister;
 
   /**
@@ -71,11 +75,13 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
    *
    * @param dataFile            the data file
    * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
+   * @param revisionTimestamps  the commit timestamps of the revisions
    * @param handler             the byte handler
    * @param serializationType   the serialization type (for the transaction log or the data file)
    * @param pagePersister       transforms in-memory pages into byte-arrays and back
    */
-  public FileChannelWriter(final Path dataFile, final Path revisionsOffsetFile, final ByteHandler handler,
+  public FileChannelWriter(final Path dataFile, final Path revisionsOffsetFile,
+      final RevisionTimestamps revisionTimestamps, final ByteHandler handler,
       final SerializationType serializationType, final PagePersister pagePersister) throws IOException {
     this.dataFileChannel = FileChannel.open(dataFile, StandardOpenOption.WRITE);
     type = checkNotNull(serializationType);
@@ -83,8 +89,14 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
         ? FileChannel.open(revisionsOffsetFile,
                            StandardOpenOption.WRITE)
         : null;
+    this.revisionTimestamps = revisionTimestamps;
     this.pagePersister = checkNotNull(pagePersister);
-    reader = new FileChannelReader(dataFile, revisionsOffsetFile, handler, serializationType, pagePersister);
+    reader = new FileChannelReader(dataFile,
+                                   revisionsOffsetFile,
+                                   revisionTimestamps,
+                                   handler,
+                                   serializationType,
+                                   pagePersister);
   }
 
   @Override
@@ -106,29 +118,35 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
     return this;
   }
 
+  @Override
+  public byte[] serializePage(final Page page) {
+    assert page != null;
+
+    try (final ByteArrayOutputStream output = new ByteArrayOutputStream();
+         final DataOutputStream dataOutput = new DataOutputStream(reader.byteHandler.serialize(output))) {
+      pagePersister.serializePage(dataOutput, page, type);
+      dataOutput.flush();
+      return output.toByteArray();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
   /**
    * Write page contained in page reference to storage.
    *
-   * @param pageReference page reference to write
+   * @param pageReference  page reference to write
+   * @param serializedPage the serialized page
    * @throws SirixIOException if errors during writing occur
    */
   @Override
-  public FileChannelWriter write(final PageReference pageReference) throws SirixIOException {
+  public FileChannelWriter write(final PageReference pageReference, final byte[] serializedPage)
+      throws SirixIOException {
     // Perform byte operations.
     try {
-      // Serialize page.
       final Page page = pageReference.getPage();
       assert page != null;
 
-      final byte[] serializedPage;
-
-      try (final ByteArrayOutputStream output = new ByteArrayOutputStream();
-           final DataOutputStream dataOutput = new DataOutputStream(reader.byteHandler.serialize(output))) {
-        pagePersister.serializePage(dataOutput, page, type);
-        dataOutput.flush();
-        serializedPage = output.toByteArray();
-      }
-
       final int writtenPageLength = serializedPage.length + FileChannelReader.OTHER_BEACON;
       ByteBuffer buffer = ByteBuffer.allocate(writtenPageLength);
       buffer.putInt(serializedPage.length);
@@ -166,10 +184,13 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
 //      pageReference.setLength(writtenPageLength);
       pageReference.setHash(reader.hashFunction.hashBytes(serializedPage).asBytes());
 
-      if (type == SerializationType.DATA && page instanceof RevisionRootPage) {
+      if (type == SerializationType.DATA && page instanceof RevisionRootPage revisionRootPage) {
         revisionsOffsetFileChannel.position(revisionsOffsetFileChannel.size());
-        buffer = ByteBuffer.allocate(8);
+        buffer = ByteBuffer.allocate(REVISIONS_FILE_ENTRY_SIZE);
+        buffer.putLong(offset);
+        buffer.position(0);
         revisionsOffsetFileChannel.write(buffer);
+        revisionTimestamps.write(revisionRootPage.getRevision(), revisionRootPage.getRevisionTimestamp(), reader);
       }
 
       return this;
@@ -178,6 +199,36 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
     }
   }
 
+  @Override
+  public Writer writePrunedRevision(final long revisionTimestamp) {
+    try {
+      final ByteBuffer buffer = ByteBuffer.allocate(REVISIONS_FILE_ENTRY_SIZE);
+      buffer.putLong(Constants.NULL_ID_LONG);
+      buffer.position(0);
+      revisionsOffsetFileChannel.write(buffer, revisionsOffsetFileChannel.size());
+      revisionTimestamps.append(revisionTimestamp);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+
+    return this;
+  }
+
+  @Override
+  public Writer force() {
+    try {
+      dataFileChannel.force(true);
+      if (revisionsOffsetFileChannel != null) {
+        revisionsOffsetFileChannel.force(true);
+        revisionTimestamps.force();
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+
+    return this;
+  }
+
   @Override
   public void close() {
     try {
@@ -188,6 +239,7 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
       if (revisionsOffsetFileChannel != null) {
         revisionsOffsetFileChannel.force(true);
         revisionsOffsetFileChannel.close();
+        revisionTimestamps.force();
       }
       if (reader != null) {
         reader.close();
@@ -227,6 +279,7 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
 
       if (revisionsOffsetFileChannel != null) {
         revisionsOffsetFileChannel.truncate(0);
+        revisionTimestamps.truncate();
       }
     } catch (final IOException e) {
       throw new SirixIOException(e);
@@ -31,6 +31,7 @@ import javax.annotation.Nullable;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.Reader;
+import org.sirix.io.RevisionTimestamps;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.page.PagePersister;
 import org.sirix.page.PageReference;
@@ -38,6 +39,7 @@ import org.sirix.page.RevisionRootPage;
 import org.sirix.page.SerializationType;
 import org.sirix.page.UberPage;
 import org.sirix.page.interfaces.Page;
+import org.sirix.settings.Constants;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
 
@@ -69,6 +71,9 @@ public final class FileReader implements Reader {
   /** Revisions offset file. */
   private final RandomAccessFile revisionsOffsetFile;
 
+  /** The commit timestamps of the revisions. */
+  private final RevisionTimestamps revisionTimestamps;
+
   /** The type of data to serialize. */
   private final SerializationType type;
 
@@ -80,11 +85,12 @@ public final class FileReader implements Reader {
    *
    * @param dataFile the data file
    * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
+   * @param revisionTimestamps the commit timestamps of the revisions
    * @param handler {@link ByteHandler} instance
    * @throws SirixIOException if something bad happens
    */
   public FileReader(final RandomAccessFile dataFile, final RandomAccessFile revisionsOffsetFile,
-      final ByteHandler handler, final SerializationType type,
+      final RevisionTimestamps revisionTimestamps, final ByteHandler handler, final SerializationType type,
       final PagePersister pagePersistenter) {
     hashFunction = Hashing.sha256();
     this.dataFile = checkNotNull(dataFile);
@@ -92,6 +98,9 @@ public final class FileReader implements Reader {
     this.revisionsOffsetFile = type == SerializationType.DATA
         ? checkNotNull(revisionsOffsetFile)
         : null;
+    this.revisionTimestamps = type == SerializationType.DATA
+        ? checkNotNull(revisionTimestamps)
+        : null;
     byteHandler = checkNotNull(handler);
     this.type = checkNotNull(type);
     pagePersiter = checkNotNull(pagePersistenter);
@@ -148,8 +157,11 @@ public final class FileReader implements Reader {
   @Override
   public RevisionRootPage readRevisionRootPage(final int revision, final PageReadOnlyTrx pageReadTrx) {
     try {
-      revisionsOffsetFile.seek(revision * 8);
-      dataFile.seek(revisionsOffsetFile.readLong());
+      final long offset = readRevisionOffset(revision);
+      if (offset == Constants.NULL_ID_LONG) {
+        throw new SirixIOException("Revision " + revision + " has been pruned.");
+      }
+      dataFile.seek(offset);
 
       final int dataLength = dataFile.readInt();
       final byte[] page = new byte[dataLength];
@@ -166,12 +178,34 @@ public final class FileReader implements Reader {
     }
   }
 
+  @Override
+  public boolean isRevisionStored(final int revision) {
+    try {
+      return readRevisionOffset(revision) != Constants.NULL_ID_LONG;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private long readRevisionOffset(final int revision) throws IOException {
+    revisionsOffsetFile.seek((long) revision * REVISIONS_FILE_ENTRY_SIZE);
+    return revisionsOffsetFile.readLong();
+  }
+
+  @Override
+  public long readRevisionTimestamp(final int revision) {
+    return revisionTimestamps.read(revision, this);
+  }
+
   @Override
   public void close() {
     try {
       if (revisionsOffsetFile != null) {
         revisionsOffsetFile.close();
       }
+      if (revisionTimestamps != null) {
+        revisionTimestamps.close();
+      }
       dataFile.close();
     } catch (final IOException e) {
       throw new SirixIOException(e);
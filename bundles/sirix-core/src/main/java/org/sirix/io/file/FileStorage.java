@@ -23,8 +23,10 @@ package org.sirix.io.file;
 
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.CompactionFiles;
 import org.sirix.io.Reader;
 import org.sirix.io.IOStorage;
+import org.sirix.io.RevisionTimestamps;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandlePipeline;
 import org.sirix.io.bytepipe.ByteHandler;
@@ -51,8 +53,8 @@ public final class FileStorage implements IOStorage {
   /** Revisions file name. */
   private static final String REVISIONS_FILENAME = "sirix.revisions";
 
-  /** Instance to storage. */
-  private final Path file;
+  /** The directory of the data files. */
+  private final Path dataDirectory;
 
   /** Byte handler pipeline. */
   private final ByteHandlePipeline byteHandlerPipeline;
@@ -64,8 +66,20 @@ public final class FileStorage implements IOStorage {
    */
   public FileStorage(final ResourceConfiguration resourceConfig) {
     assert resourceConfig != null : "resourceConfig must not be null!";
-    file = resourceConfig.resourcePath;
-    byteHandlerPipeline = resourceConfig.byteHandlePipeline;
+    dataDirectory = resourceConfig.resourcePath.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath());
+    byteHandlerPipeline = resourceConfig.byteHandlePipeline.bindTo(resourceConfig.resourcePath);
+    CompactionFiles.recover(dataDirectory, REVISIONS_FILENAME, RevisionTimestamps.FILENAME, FILENAME);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param dataDirectory       the directory of the data files
+   * @param byteHandlerPipeline the byte handler pipeline
+   */
+  private FileStorage(final Path dataDirectory, final ByteHandlePipeline byteHandlerPipeline) {
+    this.dataDirectory = dataDirectory;
+    this.byteHandlerPipeline = byteHandlerPipeline;
   }
 
   @Override
@@ -75,7 +89,7 @@ public final class FileStorage implements IOStorage {
       final Path revisionsOffsetFilePath = getRevisionFilePath();
 
       return new FileReader(new RandomAccessFile(dataFilePath.toFile(), "r"),
-          new RandomAccessFile(revisionsOffsetFilePath.toFile(), "r"),
+          new RandomAccessFile(revisionsOffsetFilePath.toFile(), "r"), new RevisionTimestamps(getTimestampsFilePath()),
           new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister());
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
@@ -100,7 +114,7 @@ public final class FileStorage implements IOStorage {
       final Path revisionsOffsetFilePath = getRevisionFilePath();
 
       return new FileWriter(new RandomAccessFile(dataFilePath.toFile(), "rw"),
-          new RandomAccessFile(revisionsOffsetFilePath.toFile(), "rw"),
+          new RandomAccessFile(revisionsOffsetFilePath.toFile(), "rw"), new RevisionTimestamps(getTimestampsFilePath()),
           new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister());
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
@@ -118,7 +132,7 @@ public final class FileStorage implements IOStorage {
    * @return the path for this data file
    */
   private Path getDataFilePath() {
-    return file.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath()).resolve(FILENAME);
+    return dataDirectory.resolve(FILENAME);
   }
 
   /**
@@ -127,8 +141,16 @@ public final class FileStorage implements IOStorage {
    * @return the concrete storage for this database
    */
   private Path getRevisionFilePath() {
-    return file.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath())
-               .resolve(REVISIONS_FILENAME);
+    return dataDirectory.resolve(REVISIONS_FILENAME);
+  }
+
+  /**
+   * Getting the path of the file, which stores the commit timestamps of the revisions.
+   *
+   * @return the path of the timestamps file
+   */
+  private Path getTimestampsFilePath() {
+    return dataDirectory.resolve(RevisionTimestamps.FILENAME);
   }
 
   @Override
@@ -145,4 +167,18 @@ public final class FileStorage implements IOStorage {
   public ByteHandler getByteHandler() {
     return byteHandlerPipeline;
   }
+
+  @Override
+  public IOStorage createCompactionStorage() {
+    return new FileStorage(CompactionFiles.createCompactionDirectory(dataDirectory), byteHandlerPipeline);
+  }
+
+  @Override
+  public void replaceWith(final IOStorage compactionStorage) {
+    if (!(compactionStorage instanceof FileStorage storage)
+        || !storage.dataDirectory.equals(CompactionFiles.getCompactionDirectory(dataDirectory))) {
+      throw new IllegalArgumentException("The storage hasn't been created as the compaction storage of this storage.");
+    }
+    CompactionFiles.replace(dataDirectory, REVISIONS_FILENAME, RevisionTimestamps.FILENAME, FILENAME);
+  }
 }
@@ -31,6 +31,7 @@ import java.nio.ByteBuffer;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.AbstractForwardingReader;
 import org.sirix.io.Reader;
+import org.sirix.io.RevisionTimestamps;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.page.PagePersister;
@@ -39,6 +40,7 @@ import org.sirix.page.RevisionRootPage;
 import org.sirix.page.SerializationType;
 import org.sirix.page.UberPage;
 import org.sirix.page.interfaces.Page;
+import org.sirix.settings.Constants;
 
 /**
  * File Writer for providing read/write access for file as a Sirix backend.
@@ -63,6 +65,8 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
 
   private final RandomAccessFile revisionsOffsetFile;
 
+  private final RevisionTimestamps revisionTimestamps;
+
   private final PagePersister pagePersister;
 
   /**
@@ -70,21 +74,23 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
    *
    * @param dataFile the data file
    * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
+   * @param revisionTimestamps the commit timestamps of the revisions
    * @param handler the byte handler
    * @param serializationType the serialization type (for the transaction log or the data file)
    * @param pagePersister transforms in-memory pages into byte-arrays and back
    */
   public FileWriter(final RandomAccessFile dataFile, final RandomAccessFile revisionsOffsetFile,
-      final ByteHandler handler, final SerializationType serializationType,
-      final PagePersister pagePersister) {
+      final RevisionTimestamps revisionTimestamps, final ByteHandler handler,
+      final SerializationType serializationType, final PagePersister pagePersister) {
     this.dataFile = checkNotNull(dataFile);
     type = checkNotNull(serializationType);
     this.revisionsOffsetFile = type == SerializationType.DATA
         ? checkNotNull(revisionsOffsetFile)
         : null;
+    this.revisionTimestamps = revisionTimestamps;
     this.pagePersister = checkNotNull(pagePersister);
-    reader =
-        new FileReader(dataFile, revisionsOffsetFile, handler, serializationType, pagePersister);
+    reader = new FileReader(dataFile, revisionsOffsetFile, revisionTimestamps, handler, serializationType,
+        pagePersister);
   }
 
   @Override
@@ -107,30 +113,35 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
     return this;
   }
 
+  @Override
+  public byte[] serializePage(final Page page) {
+    assert page != null;
+
+    try (final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final DataOutputStream dataOutput =
+            new DataOutputStream(reader.byteHandler.serialize(output))) {
+      pagePersister.serializePage(dataOutput, page, type);
+      dataOutput.flush();
+      return output.toByteArray();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
   /**
    * Write page contained in page reference to storage.
    *
    * @param pageReference page reference to write
+   * @param serializedPage the serialized page
    * @throws SirixIOException if errors during writing occur
    */
   @Override
-  public FileWriter write(final PageReference pageReference) {
+  public FileWriter write(final PageReference pageReference, final byte[] serializedPage) {
     // Perform byte operations.
     try {
-      // Serialize page.
       final Page page = pageReference.getPage();
       assert page != null;
 
-      final byte[] serializedPage;
-
-      try (final ByteArrayOutputStream output = new ByteArrayOutputStream();
-          final DataOutputStream dataOutput =
-              new DataOutputStream(reader.byteHandler.serialize(output))) {
-        pagePersister.serializePage(dataOutput, page, type);
-        dataOutput.flush();
-        serializedPage = output.toByteArray();
-      }
-
       final byte[] writtenPage = new byte[serializedPage.length + FileReader.OTHER_BEACON];
       final ByteBuffer buffer = ByteBuffer.allocate(writtenPage.length);
       buffer.putInt(serializedPage.length);
@@ -170,9 +181,10 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
 //      pageReference.setLength(writtenPage.length);
       pageReference.setHash(reader.hashFunction.hashBytes(serializedPage).asBytes());
 
-      if (type == SerializationType.DATA && page instanceof RevisionRootPage) {
+      if (type == SerializationType.DATA && page instanceof RevisionRootPage revisionRootPage) {
         revisionsOffsetFile.seek(revisionsOffsetFile.length());
         revisionsOffsetFile.writeLong(offset);
+        revisionTimestamps.write(revisionRootPage.getRevision(), revisionRootPage.getRevisionTimestamp(), reader);
       }
 
       return this;
@@ -181,6 +193,34 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
     }
   }
 
+  @Override
+  public Writer writePrunedRevision(final long revisionTimestamp) {
+    try {
+      revisionsOffsetFile.seek(revisionsOffsetFile.length());
+      revisionsOffsetFile.writeLong(Constants.NULL_ID_LONG);
+      revisionTimestamps.append(revisionTimestamp);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+
+    return this;
+  }
+
+  @Override
+  public Writer force() {
+    try {
+      dataFile.getFD().sync();
+      if (revisionsOffsetFile != null) {
+        revisionsOffsetFile.getFD().sync();
+        revisionTimestamps.force();
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+
+    return this;
+  }
+
   @Override
   public void close() {
     try {
@@ -223,6 +263,7 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
 
       if (revisionsOffsetFile != null) {
         revisionsOffsetFile.setLength(0);
+        revisionTimestamps.truncate();
       }
     } catch (final IOException e) {
       throw new SirixIOException(e);
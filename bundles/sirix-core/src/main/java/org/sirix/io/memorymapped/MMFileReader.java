@@ -26,19 +26,23 @@ import com.google.common.hash.Hashing;
 import jdk.incubator.foreign.*;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.ByteBufferInputStream;
 import org.sirix.io.Reader;
+import org.sirix.io.RevisionTimestamps;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.page.*;
 import org.sirix.page.interfaces.Page;
+import org.sirix.settings.Constants;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -69,6 +73,11 @@ public final class MMFileReader implements Reader {
 
   private final Path revisionsOffsetFile;
 
+  /**
+   * The commit timestamps of the revisions.
+   */
+  private final RevisionTimestamps revisionTimestamps;
+
   /**
    * The type of data to serialize.
    */
@@ -83,37 +92,36 @@ public final class MMFileReader implements Reader {
 
   private MemorySegment revisionFileSegment;
 
-  private static final VarHandle BYTE_VAR_HANDLE = MemoryLayout.ofSequence(MemoryLayouts.JAVA_BYTE)
-                                                               .varHandle(byte.class,
-                                                                          MemoryLayout.PathElement.sequenceElement());
-
   private static final VarHandle INT_VAR_HANDLE = MemoryHandles.varHandle(int.class, ByteOrder.nativeOrder());
 
   private static final VarHandle LONG_VAR_HANDLE = MemoryHandles.varHandle(long.class, ByteOrder.nativeOrder());
 
+  /**
+   * Determines if the reader maps the files itself, such that it has to remap them once they have grown.
+   */
+  private final boolean remapOnGrowth;
+
   /**
    * Constructor.
    *
    * @param dataFile            the data file
    * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
+   * @param revisionTimestamps  the commit timestamps of the revisions
    * @param handler             {@link ByteHandler} instance
    */
-  public MMFileReader(final Path dataFile, final Path revisionsOffsetFile, final ByteHandler handler,
-      final SerializationType type, final PagePersister pagePersistenter) throws IOException {
+  public MMFileReader(final Path dataFile, final Path revisionsOffsetFile, final RevisionTimestamps revisionTimestamps,
+      final ByteHandler handler, final SerializationType type, final PagePersister pagePersistenter)
+      throws IOException {
     hashFunction = Hashing.sha256();
     this.dataFile = checkNotNull(dataFile);
     this.revisionsOffsetFile = checkNotNull(revisionsOffsetFile);
+    this.revisionTimestamps = checkNotNull(revisionTimestamps);
     byteHandler = checkNotNull(handler);
     this.type = checkNotNull(type);
     pagePersiter = checkNotNull(pagePersistenter);
-    dataFileSegment = MemorySegment.mapFromPath(checkNotNull(dataFile),
-                                    0,
-                                    dataFile.toFile().length(),
-                                    FileChannel.MapMode.READ_ONLY);
-    revisionFileSegment = MemorySegment.mapFromPath(revisionsOffsetFile,
-                                    0,
-                                    revisionsOffsetFile.toFile().length(),
-                                    FileChannel.MapMode.READ_ONLY);
+    remapOnGrowth = true;
+    dataFileSegment = map(dataFile);
+    revisionFileSegment = map(revisionsOffsetFile);
   }
 
   /**
@@ -121,54 +129,82 @@ public final class MMFileReader implements Reader {
    *
    * @param dataFile            the data file
    * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
+   * @param revisionTimestamps  the commit timestamps of the revisions
    * @param handler             {@link ByteHandler} instance
    */
-  public MMFileReader(final Path dataFile, final Path revisionsOffsetFile, final MemorySegment dataFileSegment,
-      final MemorySegment revisionFileSegment, final ByteHandler handler, final SerializationType type,
-      final PagePersister pagePersistenter) {
+  public MMFileReader(final Path dataFile, final Path revisionsOffsetFile, final RevisionTimestamps revisionTimestamps,
+      final MemorySegment dataFileSegment, final MemorySegment revisionFileSegment, final ByteHandler handler,
+      final SerializationType type, final PagePersister pagePersistenter) {
     hashFunction = Hashing.sha256();
     this.dataFile = checkNotNull(dataFile);
     this.revisionsOffsetFile = checkNotNull(revisionsOffsetFile);
+    this.revisionTimestamps = checkNotNull(revisionTimestamps);
     byteHandler = checkNotNull(handler);
     this.type = checkNotNull(type);
     pagePersiter = checkNotNull(pagePersistenter);
+    remapOnGrowth = false;
     this.dataFileSegment = dataFileSegment;
     this.revisionFileSegment = revisionFileSegment;
   }
 
+  private static MemorySegment map(final Path file) throws IOException {
+    return MemorySegment.mapFromPath(file, 0, Files.size(file), FileChannel.MapMode.READ_ONLY);
+  }
+
+  /**
+   * Map the files again, if the bytes to read are located behind the end of the currently mapped segments, that is
+   * if the files have grown since they have been mapped.
+   *
+   * @param dataFileSize      the minimum size of the data file segment
+   * @param revisionsFileSize the minimum size of the revisions file segment
+   */
+  private void remapIfNecessary(final long dataFileSize, final long revisionsFileSize) throws IOException {
+    if (!remapOnGrowth) {
+      return;
+    }
+    if (dataFileSize > dataFileSegment.byteSize()) {
+      dataFileSegment.close();
+      dataFileSegment = map(dataFile);
+    }
+    if (revisionsFileSize > revisionFileSegment.byteSize()) {
+      revisionFileSegment.close();
+      revisionFileSegment = map(revisionsOffsetFile);
+    }
+  }
+
+  /**
+   * Get a view of a length-prefixed serialized page in the data file, without copying its bytes.
+   *
+   * @param offset the offset of the page in the data file
+   * @return the serialized page
+   */
+  private ByteBuffer sliceOfPage(final long offset) throws IOException {
+    remapIfNecessary(offset + 4, 0);
+    final int dataLength = (int) INT_VAR_HANDLE.get(dataFileSegment.baseAddress().addOffset(offset));
+    remapIfNecessary(offset + 4 + dataLength, 0);
+    return dataFileSegment.asSlice(offset + 4, dataLength).asByteBuffer();
+  }
+
   @Override
   public Page read(final @Nonnull PageReference reference, final @Nullable PageReadOnlyTrx pageReadTrx) {
     try {
-      final MemoryAddress baseAddress = dataFileSegment.baseAddress();
-
-      final MemoryAddress baseAddressPlusOffsetPlusInt;
-
-      final int dataLength = switch (type) {
+      final long offset = switch (type) {
         case DATA -> {
           if (reference.getKey() < 0) {
             throw new SirixIOException("Reference key is not valid: " + reference.getKey());
           }
-          baseAddressPlusOffsetPlusInt = baseAddress.addOffset(reference.getKey() + 4);
-          yield (int) INT_VAR_HANDLE.get(baseAddress.addOffset(reference.getKey()));
+          yield reference.getKey();
         }
         case TRANSACTION_INTENT_LOG -> {
           if (reference.getLogKey() < 0) {
             throw new SirixIOException("Reference log key is not valid: " + reference.getKey());
           }
-          baseAddressPlusOffsetPlusInt = baseAddress.addOffset(reference.getPersistentLogKey() + 4);
-          yield (int) INT_VAR_HANDLE.get(baseAddress.addOffset(reference.getPersistentLogKey()));
+          yield reference.getPersistentLogKey();
         }
         default -> throw new AssertionError();
       };
 
-      //      reference.setLength(dataLength + MMFileReader.OTHER_BEACON);
-      final byte[] page = new byte[dataLength];
-
-      for (int i = 0; i < dataLength; i++) {
-        page[i] = (byte) BYTE_VAR_HANDLE.get(baseAddressPlusOffsetPlusInt, (long) i);
-      }
-
-      return deserialize(pageReadTrx, page);
+      return deserialize(pageReadTrx, sliceOfPage(offset));
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -191,29 +227,40 @@ public final class MMFileReader implements Reader {
   @Override
   public RevisionRootPage readRevisionRootPage(final int revision, final PageReadOnlyTrx pageReadTrx) {
     try {
-      final MemoryAddress revisionFileSegmentBaseAddress = revisionFileSegment.baseAddress();
-      MemoryAddress dataFileSegmentBaseAddress = dataFileSegment.baseAddress();
-
-      final long dataFileOffset = (long) LONG_VAR_HANDLE.get(revisionFileSegmentBaseAddress.addOffset(revision * 8));
-      final int dataLength = (int) INT_VAR_HANDLE.get(dataFileSegmentBaseAddress.addOffset(dataFileOffset));
-
-      dataFileSegmentBaseAddress = dataFileSegmentBaseAddress.addOffset(dataFileOffset + 4);
-
-      final byte[] page = new byte[dataLength];
-
-      for (int i = 0; i < dataLength; i++) {
-        page[i] = (byte) BYTE_VAR_HANDLE.get(dataFileSegmentBaseAddress, (long) i);
+      final long dataFileOffset = readRevisionOffset(revision);
+      if (dataFileOffset == Constants.NULL_ID_LONG) {
+        throw new SirixIOException("Revision " + revision + " has been pruned.");
       }
 
-      return (RevisionRootPage) deserialize(pageReadTrx, page);
+      return (RevisionRootPage) deserialize(pageReadTrx, sliceOfPage(dataFileOffset));
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  public boolean isRevisionStored(final int revision) {
+    try {
+      return readRevisionOffset(revision) != Constants.NULL_ID_LONG;
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
   }
 
-  private Page deserialize(PageReadOnlyTrx pageReadTrx, byte[] page) throws IOException {
-    // perform byte operations
-    final DataInputStream input = new DataInputStream(byteHandler.deserialize(new ByteArrayInputStream(page)));
+  private long readRevisionOffset(final int revision) throws IOException {
+    final long revisionsFileOffset = (long) revision * REVISIONS_FILE_ENTRY_SIZE;
+    remapIfNecessary(0, revisionsFileOffset + REVISIONS_FILE_ENTRY_SIZE);
+    return (long) LONG_VAR_HANDLE.get(revisionFileSegment.baseAddress().addOffset(revisionsFileOffset));
+  }
+
+  @Override
+  public long readRevisionTimestamp(final int revision) {
+    return revisionTimestamps.read(revision, this);
+  }
+
+  private Page deserialize(PageReadOnlyTrx pageReadTrx, ByteBuffer page) throws IOException {
+    // perform byte operations directly on the mapped memory
+    final DataInputStream input = new DataInputStream(byteHandler.deserialize(new ByteBufferInputStream(page)));
 
     // return deserialized page
     return pagePersiter.deserializePage(input, pageReadTrx, type);
@@ -227,9 +274,14 @@ public final class MMFileReader implements Reader {
     if (revisionFileSegment != null && revisionFileSegment.isAlive()) {
       revisionFileSegment.close();
     }
+    revisionTimestamps.close();
   }
 
   public void setDataSegment(MemorySegment dataSegment) {
     this.dataFileSegment = dataSegment;
   }
+
+  public void setRevisionFileSegment(MemorySegment revisionFileSegment) {
+    this.revisionFileSegment = revisionFileSegment;
+  }
 }
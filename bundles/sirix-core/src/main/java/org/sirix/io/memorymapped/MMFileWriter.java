@@ -25,10 +25,12 @@ import jdk.incubator.foreign.*;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.AbstractForwardingReader;
 import org.sirix.io.Reader;
+import org.sirix.io.RevisionTimestamps;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.page.*;
 import org.sirix.page.interfaces.Page;
+import org.sirix.settings.Constants;
 
 import java.io.*;
 import java.lang.invoke.VarHandle;
@@ -76,9 +78,11 @@ public final class MMFileWriter extends AbstractForwardingReader implements Writ
 
   private final Path revisionsOffsetFile;
 
+  private final RevisionTimestamps revisionTimestamps;
+
   private final PagePersister pagePersister;
 
-  private final MemorySegment revisionsOffsetSegment;
+  private MemorySegment revisionsOffsetSegment;
 
   private MemorySegment dataSegment;
 
@@ -91,17 +95,20 @@ public final class MMFileWriter extends AbstractForwardingReader implements Writ
    *
    * @param dataFile            the data file
    * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
+   * @param revisionTimestamps  the commit timestamps of the revisions
    * @param handler             the byte handler
    * @param serializationType   the serialization type (for the transaction log or the data file)
    * @param pagePersister       transforms in-memory pages into byte-arrays and back
    */
-  public MMFileWriter(final Path dataFile, final Path revisionsOffsetFile, final ByteHandler handler,
-      final SerializationType serializationType, final PagePersister pagePersister) throws IOException {
+  public MMFileWriter(final Path dataFile, final Path revisionsOffsetFile, final RevisionTimestamps revisionTimestamps,
+      final ByteHandler handler, final SerializationType serializationType, final PagePersister pagePersister)
+      throws IOException {
     this.dataFile = checkNotNull(dataFile);
     dataSegmentFileSize = Files.size(dataFile);
     type = checkNotNull(serializationType);
     this.revisionsOffsetFile = checkNotNull(revisionsOffsetFile);
     revisionsOffsetSize = Files.size(revisionsOffsetFile);
+    this.revisionTimestamps = checkNotNull(revisionTimestamps);
     this.pagePersister = checkNotNull(pagePersister);
 
     while (currByteSizeToMap < dataSegmentFileSize) {
@@ -116,6 +123,7 @@ public final class MMFileWriter extends AbstractForwardingReader implements Writ
 
     reader = new MMFileReader(dataFile,
                               revisionsOffsetFile,
+                              revisionTimestamps,
                               dataSegment,
                               revisionsOffsetSegment,
                               handler,
@@ -142,29 +150,34 @@ public final class MMFileWriter extends AbstractForwardingReader implements Writ
     return this;
   }
 
+  @Override
+  public byte[] serializePage(final Page page) {
+    assert page != null;
+
+    try (final ByteArrayOutputStream output = new ByteArrayOutputStream();
+         final DataOutputStream dataOutput = new DataOutputStream(reader.byteHandler.serialize(output))) {
+      pagePersister.serializePage(dataOutput, page, type);
+      dataOutput.flush();
+      return output.toByteArray();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
   /**
    * Write page contained in page reference to storage.
    *
-   * @param pageReference page reference to write
+   * @param pageReference  page reference to write
+   * @param serializedPage the serialized page
    * @throws SirixIOException if errors during writing occur
    */
   @Override
-  public MMFileWriter write(final PageReference pageReference) {
+  public MMFileWriter write(final PageReference pageReference, final byte[] serializedPage) {
     // Perform byte operations.
     try {
-      // Serialize page.
       final Page page = pageReference.getPage();
       assert page != null;
 
-      final byte[] serializedPage;
-
-      try (final ByteArrayOutputStream output = new ByteArrayOutputStream();
-           final DataOutputStream dataOutput = new DataOutputStream(reader.byteHandler.serialize(output))) {
-        pagePersister.serializePage(dataOutput, page, type);
-        dataOutput.flush();
-        serializedPage = output.toByteArray();
-      }
-
       // Getting actual offset and appending to the end of the current file.
       long offset = dataSegmentFileSize == 0 ? MMFileReader.FIRST_BEACON : dataSegmentFileSize;
       if (type == SerializationType.DATA) {
@@ -208,12 +221,14 @@ public final class MMFileWriter extends AbstractForwardingReader implements Writ
       //      pageReference.setLength(serializedPage.length + 4);
       pageReference.setHash(reader.hashFunction.hashBytes(serializedPage).asBytes());
 
-      if (type == SerializationType.DATA && page instanceof RevisionRootPage) {
+      if (type == SerializationType.DATA && page instanceof RevisionRootPage revisionRootPage) {
         final MemoryAddress revisionFileSegmentBaseAddress = revisionsOffsetSegment.baseAddress();
 
         LONG_VAR_HANDLE.set(revisionFileSegmentBaseAddress.addOffset(revisionsOffsetSize), offset);
 
-        revisionsOffsetSize += 8;
+        revisionsOffsetSize += REVISIONS_FILE_ENTRY_SIZE;
+
+        revisionTimestamps.write(revisionRootPage.getRevision(), revisionRootPage.getRevisionTimestamp(), reader);
       }
 
       return this;
@@ -222,6 +237,48 @@ public final class MMFileWriter extends AbstractForwardingReader implements Writ
     }
   }
 
+  @Override
+  public Writer writePrunedRevision(final long revisionTimestamp) {
+    final MemoryAddress revisionFileSegmentBaseAddress = revisionsOffsetSegment.baseAddress();
+
+    LONG_VAR_HANDLE.set(revisionFileSegmentBaseAddress.addOffset(revisionsOffsetSize), Constants.NULL_ID_LONG);
+
+    revisionsOffsetSize += REVISIONS_FILE_ENTRY_SIZE;
+
+    revisionTimestamps.append(revisionTimestamp);
+
+    return this;
+  }
+
+  @Override
+  public Writer force() {
+    if (dataSegment instanceof MappedMemorySegment mappedDataSegment) {
+      mappedDataSegment.force();
+    }
+    if (revisionsOffsetSegment instanceof MappedMemorySegment mappedRevisionsOffsetSegment) {
+      mappedRevisionsOffsetSegment.force();
+    }
+    revisionTimestamps.force();
+
+    return this;
+  }
+
+  /**
+   * Hand the mapped segments, which are confined to the thread, which has mapped them, over to another thread.
+   *
+   * @param newOwner the thread, which continues to use the writer
+   * @return this writer instance
+   */
+  @Override
+  public Writer transferOwnership(final Thread newOwner) {
+    checkNotNull(newOwner);
+    dataSegment = dataSegment.withOwnerThread(newOwner);
+    revisionsOffsetSegment = revisionsOffsetSegment.withOwnerThread(newOwner);
+    reader.setDataSegment(dataSegment);
+    reader.setRevisionFileSegment(revisionsOffsetSegment);
+    return this;
+  }
+
   private void reInstantiateSegment() throws IOException {
     if (dataSegmentFileSize > dataSegment.byteSize()) {
       do {
@@ -244,6 +301,7 @@ public final class MMFileWriter extends AbstractForwardingReader implements Writ
   @Override
   public void close() {
     if (reader != null) {
+      revisionTimestamps.force();
       reader.close();
       try (final FileChannel outChan = new FileOutputStream(dataFile.toFile(), true).getChannel()) {
         outChan.truncate(dataSegmentFileSize);
@@ -23,8 +23,10 @@ package org.sirix.io.memorymapped;
 
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.CompactionFiles;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Reader;
+import org.sirix.io.RevisionTimestamps;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandlePipeline;
 import org.sirix.io.bytepipe.ByteHandler;
@@ -50,8 +52,8 @@ public final class MMStorage implements IOStorage {
   /** Revisions file name. */
   private static final String REVISIONS_FILENAME = "sirix.revisions";
 
-  /** Instance to storage. */
-  private final Path file;
+  /** The directory of the data files. */
+  private final Path dataDirectory;
 
   /** Byte handler pipeline. */
   private final ByteHandlePipeline byteHandlerPipeline;
@@ -63,8 +65,20 @@ public final class MMStorage implements IOStorage {
    */
   public MMStorage(final ResourceConfiguration resourceConfig) {
     assert resourceConfig != null : "resourceConfig must not be null!";
-    file = resourceConfig.resourcePath;
-    byteHandlerPipeline = resourceConfig.byteHandlePipeline;
+    dataDirectory = resourceConfig.resourcePath.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath());
+    byteHandlerPipeline = resourceConfig.byteHandlePipeline.bindTo(resourceConfig.resourcePath);
+    CompactionFiles.recover(dataDirectory, REVISIONS_FILENAME, RevisionTimestamps.FILENAME, FILENAME);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param dataDirectory       the directory of the data files
+   * @param byteHandlerPipeline the byte handler pipeline
+   */
+  private MMStorage(final Path dataDirectory, final ByteHandlePipeline byteHandlerPipeline) {
+    this.dataDirectory = dataDirectory;
+    this.byteHandlerPipeline = byteHandlerPipeline;
   }
 
   @Override
@@ -77,6 +91,7 @@ public final class MMStorage implements IOStorage {
 
       return new MMFileReader(dataFilePath,
                               revisionsOffsetFilePath,
+                              new RevisionTimestamps(getTimestampsFilePath()),
                               new ByteHandlePipeline(byteHandlerPipeline),
                               SerializationType.DATA,
                               new PagePersister());
@@ -112,6 +127,7 @@ public final class MMStorage implements IOStorage {
 
       return new MMFileWriter(dataFilePath,
                               revisionsOffsetFilePath,
+                              new RevisionTimestamps(getTimestampsFilePath()),
                               new ByteHandlePipeline(byteHandlerPipeline),
                               SerializationType.DATA,
                               new PagePersister());
@@ -131,7 +147,7 @@ public final class MMStorage implements IOStorage {
    * @return the path for this data file
    */
   private Path getDataFilePath() {
-    return file.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath()).resolve(FILENAME);
+    return dataDirectory.resolve(FILENAME);
   }
 
   /**
@@ -140,7 +156,16 @@ public final class MMStorage implements IOStorage {
    * @return the concrete storage for this database
    */
   private Path getRevisionFilePath() {
-    return file.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath()).resolve(REVISIONS_FILENAME);
+    return dataDirectory.resolve(REVISIONS_FILENAME);
+  }
+
+  /**
+   * Getting the path of the file, which stores the commit timestamps of the revisions.
+   *
+   * @return the path of the timestamps file
+   */
+  private Path getTimestampsFilePath() {
+    return dataDirectory.resolve(RevisionTimestamps.FILENAME);
   }
 
   @Override
@@ -157,4 +182,18 @@ public final class MMStorage implements IOStorage {
   public ByteHandler getByteHandler() {
     return byteHandlerPipeline;
   }
+
+  @Override
+  public IOStorage createCompactionStorage() {
+    return new MMStorage(CompactionFiles.createCompactionDirectory(dataDirectory), byteHandlerPipeline);
+  }
+
+  @Override
+  public void replaceWith(final IOStorage compactionStorage) {
+    if (!(compactionStorage instanceof MMStorage storage)
+        || !storage.dataDirectory.equals(CompactionFiles.getCompactionDirectory(dataDirectory))) {
+      throw new IllegalArgumentException("The storage hasn't been created as the compaction storage of this storage.");
+    }
+    CompactionFiles.replace(dataDirectory, REVISIONS_FILENAME, RevisionTimestamps.FILENAME, FILENAME);
+  }
 }
@@ -130,10 +130,20 @@ public final class RAMStorage implements IOStorage {
     }
 
     @Override
-    public Writer write(final PageReference pageReference) throws SirixIOException {
+    public byte[] serializePage(final Page page) {
+      // Pages are kept as is.
+      return null;
+    }
+
+    @Override
+    public Writer write(final PageReference pageReference, final @Nullable byte[] serializedPage)
+        throws SirixIOException {
       final Page page = pageReference.getPage();
       pageReference.setKey(mPageKey);
       mResourceFileStorage.put(mPageKey++, page);
+      if (page instanceof RevisionRootPage revisionRootPage) {
+        mResourceRevisionRootsStorage.put(revisionRootPage.getRevision(), revisionRootPage);
+      }
       mExists = true;
       return this;
     }
@@ -148,6 +158,11 @@ public final class RAMStorage implements IOStorage {
       return this;
     }
 
+    @Override
+    public Writer writePrunedRevision(final long revisionTimestamp) {
+      throw new UnsupportedOperationException("Revisions of in-memory resources can't be pruned.");
+    }
+
     @Override
     public void close() throws SirixIOException {}
 
@@ -177,5 +192,10 @@ public final class RAMStorage implements IOStorage {
     public RevisionRootPage readRevisionRootPage(int revision, PageReadOnlyTrx pageReadTrx) {
       return mResourceRevisionRootsStorage.get(revision);
     }
+
+    @Override
+    public long readRevisionTimestamp(int revision) {
+      return mResourceRevisionRootsStorage.get(revision).getRevisionTimestamp();
+    }
   }
 }
@@ -72,11 +72,21 @@ public abstract class AbstractForwardingNode extends ForwardingObject implements
     return delegate().getHash();
   }
 
+  @Override
+  public Hash128 getHash(final Hash128 target) {
+    return delegate().getHash(target);
+  }
+
   @Override
   public void setHash(final BigInteger hash) {
     delegate().setHash(hash);
   }
 
+  @Override
+  public void setHash(final Hash128 hash) {
+    delegate().setHash(hash);
+  }
+
   @Override
   public long getRevision() {
     return delegate().getRevision();
@@ -0,0 +1,72 @@
+package org.sirix.node;
+
+import org.sirix.diff.DiffFactory.DiffType;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.node.interfaces.RecordSerializer;
+
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An entry of the changed nodes index, which references a node of the document, which has been changed in the
+ * revision the entry has been committed with.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ChangedNodeReferenceNode implements DataRecord {
+  private final long nodeKey;
+
+  private final long changedNodeKey;
+
+  private final DiffType diffType;
+
+  public ChangedNodeReferenceNode(final long nodeKey, final long changedNodeKey, final DiffType diffType) {
+    this.nodeKey = nodeKey;
+    this.changedNodeKey = changedNodeKey;
+    this.diffType = requireNonNull(diffType);
+  }
+
+  @Override
+  public long getNodeKey() {
+    return nodeKey;
+  }
+
+  @Override
+  public SirixDeweyID getDeweyID() {
+    return null;
+  }
+
+  @Override
+  public RecordSerializer getKind() {
+    return NodeKind.CHANGED_NODE_REFERENCE_NODE;
+  }
+
+  @Override
+  public long getRevision() {
+    throw new UnsupportedOperationException();
+  }
+
+  public long getChangedNodeKey() {
+    return changedNodeKey;
+  }
+
+  public DiffType getDiffType() {
+    return diffType;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(nodeKey, changedNodeKey, diffType);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (o == null || getClass() != o.getClass())
+      return false;
+    ChangedNodeReferenceNode that = (ChangedNodeReferenceNode) o;
+    return nodeKey == that.nodeKey && changedNodeKey == that.changedNodeKey && diffType == that.diffType;
+  }
+}
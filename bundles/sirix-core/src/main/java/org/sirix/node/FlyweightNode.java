@@ -0,0 +1,658 @@
+package org.sirix.node;
+
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.access.trx.node.HashType;
+import org.sirix.node.interfaces.Node;
+import org.sirix.node.interfaces.StructNode;
+import org.sirix.settings.Constants;
+import org.sirix.settings.Fixed;
+import org.sirix.utils.ValueCompressor;
+
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A reusable node, which reads the fields of a node directly from the serialized record, such that a cursor doesn't
+ * allocate a node object graph for each node it moves to. The structural fields are decoded once the node is bound to
+ * a record, whereas names and values are only decoded, once they are requested.
+ *
+ * <p>
+ * The node is bound to the record it has been read from last, that is it must not be kept once the cursor moves to
+ * another node. Kinds of nodes, which are not structural nodes (attributes, namespaces and index nodes for instance),
+ * are not supported. The node is immutable, all setters throw an {@link UnsupportedOperationException}.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class FlyweightNode implements StructNode {
+
+  /**
+   * Determines if hashes are stored.
+   */
+  private final boolean hashesStored;
+
+  /**
+   * Determines if the number of children is stored.
+   */
+  private final boolean childCountStored;
+
+  /**
+   * The serialized record.
+   */
+  private byte[] data;
+
+  /**
+   * The kind of node.
+   */
+  private NodeKind kind;
+
+  private long nodeKey;
+
+  private long parentKey;
+
+  private long revision;
+
+  private long rightSiblingKey;
+
+  private long leftSiblingKey;
+
+  private long firstChildKey;
+
+  private long lastChildKey;
+
+  private long childCount;
+
+  private long descendantCount;
+
+  /**
+   * The offset of the name keys, or {@code -1}, if the node has no name.
+   */
+  private int nameOffset;
+
+  /**
+   * The offset of the value, or {@code -1}, if the node has no value.
+   */
+  private int valueOffset;
+
+  /**
+   * Constructor.
+   *
+   * @param resourceConfig the configuration of the resource, the records are read from
+   */
+  public FlyweightNode(final ResourceConfiguration resourceConfig) {
+    checkNotNull(resourceConfig);
+    hashesStored = resourceConfig.hashType != HashType.NONE;
+    childCountStored = resourceConfig.getStoreChildCount();
+  }
+
+  /**
+   * Bind the node to a serialized record. The node isn't changed, if the kind of the record is not supported.
+   *
+   * @param nodeKey the node key of the record
+   * @param data    the serialized record, beginning with the kind of the record
+   * @return {@code true}, if the node is bound to the record, {@code false}, if the kind of the record is not supported
+   */
+  public boolean set(final long nodeKey, final byte[] data) {
+    final NodeKind kind = NodeKind.getKind(data[0]);
+
+    if (!isSupported(kind)) {
+      return false;
+    }
+
+    this.data = data;
+    this.kind = kind;
+    this.nodeKey = nodeKey;
+    rightSiblingKey = Fixed.NULL_NODE_KEY.getStandardProperty();
+    leftSiblingKey = Fixed.NULL_NODE_KEY.getStandardProperty();
+    firstChildKey = Fixed.NULL_NODE_KEY.getStandardProperty();
+    lastChildKey = Fixed.NULL_NODE_KEY.getStandardProperty();
+    childCount = 0;
+    descendantCount = 0;
+    nameOffset = -1;
+    valueOffset = -1;
+
+    int offset = 1;
+
+    // $CASES-OMITTED$
+    switch (kind) {
+      case OBJECT -> {
+        offset = skipHash(offset);
+        offset = readNodeDelegate(offset);
+        readStructDelegate(offset, true);
+      }
+      case ARRAY -> {
+        offset = skipHash(offset);
+        offset = readNodeDelegate(offset + Long.BYTES);
+        readStructDelegate(offset, true);
+      }
+      case OBJECT_KEY -> {
+        offset = skipHash(offset);
+        nameOffset = offset;
+        offset = skipVarLong(offset + Integer.BYTES);
+        offset = readNodeDelegate(offset);
+        readStructDelegate(offset, true);
+      }
+      case OBJECT_STRING_VALUE -> valueOffset = readNodeDelegate(offset);
+      case OBJECT_BOOLEAN_VALUE, OBJECT_NUMBER_VALUE -> {
+        valueOffset = offset;
+        readNodeDelegate(skipValue(offset));
+      }
+      case OBJECT_NULL_VALUE -> readNodeDelegate(offset);
+      case STRING_VALUE -> {
+        valueOffset = readNodeDelegate(offset);
+        readStructDelegate(skipValue(valueOffset), true);
+      }
+      case BOOLEAN_VALUE, NUMBER_VALUE -> {
+        valueOffset = offset;
+        offset = readNodeDelegate(skipValue(offset));
+        readStructDelegate(offset, true);
+      }
+      case NULL_VALUE -> readStructDelegate(readNodeDelegate(offset), true);
+      case JSON_DOCUMENT, XML_DOCUMENT -> readDocumentRoot(offset);
+      case ELEMENT, PROCESSING_INSTRUCTION -> {
+        offset = skipHash(offset);
+        offset = readNodeDelegate(offset);
+        nameOffset = readStructDelegate(offset, false);
+        if (kind == NodeKind.PROCESSING_INSTRUCTION) {
+          valueOffset = skipVarLong(nameOffset + 3 * Integer.BYTES);
+        }
+      }
+      case TEXT, COMMENT -> {
+        offset = skipHash(offset);
+        valueOffset = readNodeDelegate(offset);
+        offset = skipValue(valueOffset);
+        rightSiblingKey = nodeKey - readVarLong(offset);
+        offset = skipVarLong(offset);
+        leftSiblingKey = nodeKey - readVarLong(offset);
+        lastChildKey = Fixed.INVALID_KEY_FOR_TYPE_CHECK.getStandardProperty();
+      }
+      default -> throw new IllegalStateException("Node kind not supported: " + kind);
+    }
+
+    return true;
+  }
+
+  private static boolean isSupported(final @Nullable NodeKind kind) {
+    if (kind == null) {
+      return false;
+    }
+    // $CASES-OMITTED$
+    return switch (kind) {
+      case OBJECT, ARRAY, OBJECT_KEY, OBJECT_STRING_VALUE, OBJECT_BOOLEAN_VALUE, OBJECT_NUMBER_VALUE, OBJECT_NULL_VALUE,
+          STRING_VALUE, BOOLEAN_VALUE, NUMBER_VALUE, NULL_VALUE, JSON_DOCUMENT, ELEMENT, TEXT, COMMENT,
+          PROCESSING_INSTRUCTION, XML_DOCUMENT -> true;
+      default -> false;
+    };
+  }
+
+  private int skipHash(final int offset) {
+    return hashesStored ? offset + 1 + data[offset] : offset;
+  }
+
+  private int readNodeDelegate(int offset) {
+    parentKey = nodeKey - readVarLong(offset);
+    offset = skipVarLong(offset);
+    revision = readVarLong(offset);
+    return skipVarLong(offset);
+  }
+
+  private int readStructDelegate(int offset, final boolean isJsonNode) {
+    final boolean isValueNode =
+        kind == NodeKind.NUMBER_VALUE || kind == NodeKind.STRING_VALUE || kind == NodeKind.BOOLEAN_VALUE
+            || kind == NodeKind.NULL_VALUE;
+
+    rightSiblingKey = nodeKey - readVarLong(offset);
+    offset = skipVarLong(offset);
+    leftSiblingKey = nodeKey - readVarLong(offset);
+    offset = skipVarLong(offset);
+
+    if (isValueNode) {
+      return offset;
+    }
+
+    firstChildKey = nodeKey - readVarLong(offset);
+    offset = skipVarLong(offset);
+    lastChildKey = isJsonNode ? nodeKey - readVarLong(offset) : Fixed.INVALID_KEY_FOR_TYPE_CHECK.getStandardProperty();
+    offset = skipVarLong(offset);
+
+    if (childCountStored) {
+      childCount = nodeKey - readVarLong(offset);
+      offset = skipVarLong(offset);
+    }
+
+    if (hashesStored) {
+      descendantCount = readVarLong(offset) + childCount;
+      offset = skipVarLong(offset);
+    }
+
+    return offset;
+  }
+
+  private void readDocumentRoot(int offset) {
+    parentKey = Fixed.NULL_NODE_KEY.getStandardProperty();
+    revision = readVarLong(offset);
+    offset = skipVarLong(offset);
+    firstChildKey = readVarLong(offset);
+    offset = skipVarLong(offset);
+    if (kind == NodeKind.JSON_DOCUMENT) {
+      lastChildKey = readVarLong(offset);
+      offset = skipVarLong(offset);
+      childCount = data[offset] == (byte) 0 ? 0 : 1;
+      offset += 2;
+    } else {
+      lastChildKey = Fixed.INVALID_KEY_FOR_TYPE_CHECK.getStandardProperty();
+      childCount = data[offset] == (byte) 0 ? 0 : 1;
+      offset++;
+    }
+    descendantCount = readLong(offset);
+  }
+
+  /**
+   * Skip a value, that is either a string value, a boolean value or a number value depending on the kind of node.
+   */
+  private int skipValue(final int offset) {
+    // $CASES-OMITTED$
+    return switch (kind) {
+      case OBJECT_BOOLEAN_VALUE, BOOLEAN_VALUE -> offset + 1;
+      case OBJECT_NUMBER_VALUE, NUMBER_VALUE -> switch (data[offset]) {
+        case 0, 3 -> offset + 1 + Long.BYTES;
+        case 1, 2 -> offset + 1 + Integer.BYTES;
+        case 4 -> offset + 1 + Integer.BYTES + readInt(offset + 1);
+        case 5 -> offset + 1 + 2 * Integer.BYTES + readInt(offset + 1);
+        default -> throw new AssertionError("Type not known.");
+      };
+      default -> offset + 1 + Integer.BYTES + readInt(offset + 1);
+    };
+  }
+
+  private long readVarLong(final int offset) {
+    byte singleByte = data[offset];
+    long value = singleByte & 0x7F;
+    for (int shift = 7, i = offset + 1; (singleByte & 0x80) != 0; shift += 7, i++) {
+      singleByte = data[i];
+      value |= (singleByte & 0x7FL) << shift;
+    }
+    return value;
+  }
+
+  private int skipVarLong(int offset) {
+    while ((data[offset] & 0x80) != 0) {
+      offset++;
+    }
+    return offset + 1;
+  }
+
+  private int readInt(final int offset) {
+    return (data[offset] & 0xFF) << 24 | (data[offset + 1] & 0xFF) << 16 | (data[offset + 2] & 0xFF) << 8
+        | (data[offset + 3] & 0xFF);
+  }
+
+  private long readLong(final int offset) {
+    return ((long) readInt(offset) << 32) | (readInt(offset + Integer.BYTES) & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Determines if the node has a name, that is if it is an object key node, an element or a processing instruction.
+   *
+   * @return {@code true}, if the node has a name, {@code false} otherwise
+   */
+  public boolean isNameNode() {
+    return kind == NodeKind.OBJECT_KEY || kind == NodeKind.ELEMENT || kind == NodeKind.PROCESSING_INSTRUCTION;
+  }
+
+  /**
+   * Determines if the node has a string value, that is if it is a string value node, a text node, a comment or a
+   * processing instruction.
+   *
+   * @return {@code true}, if the node has a string value, {@code false} otherwise
+   */
+  public boolean isValueNode() {
+    return kind == NodeKind.OBJECT_STRING_VALUE || kind == NodeKind.STRING_VALUE || kind == NodeKind.TEXT
+        || kind == NodeKind.COMMENT || kind == NodeKind.PROCESSING_INSTRUCTION;
+  }
+
+  /**
+   * Get the key of the name of an object key node.
+   *
+   * @return the name key or {@code -1}, if the node is no object key node
+   */
+  public int getNameKey() {
+    return kind == NodeKind.OBJECT_KEY ? readInt(nameOffset) : -1;
+  }
+
+  /**
+   * Get the key of the URI of an element or a processing instruction.
+   *
+   * @return the URI key or {@code -1}, if the node has no URI
+   */
+  public int getURIKey() {
+    return hasQName() ? readInt(nameOffset) : -1;
+  }
+
+  /**
+   * Get the key of the prefix of an element or a processing instruction.
+   *
+   * @return the prefix key or {@code -1}, if the node has no prefix
+   */
+  public int getPrefixKey() {
+    return hasQName() ? readInt(nameOffset + Integer.BYTES) : -1;
+  }
+
+  /**
+   * Get the key of the local name of an element or a processing instruction.
+   *
+   * @return the local name key or {@code -1}, if the node has no local name
+   */
+  public int getLocalNameKey() {
+    return hasQName() ? readInt(nameOffset + 2 * Integer.BYTES) : -1;
+  }
+
+  private boolean hasQName() {
+    return kind == NodeKind.ELEMENT || kind == NodeKind.PROCESSING_INSTRUCTION;
+  }
+
+  /**
+   * Get the key of the path summary node of an object key node, an element or a processing instruction.
+   *
+   * @return the path node key or {@code -1}, if the node isn't referenced in the path summary
+   */
+  public long getPathNodeKey() {
+    // $CASES-OMITTED$
+    return switch (kind) {
+      case OBJECT_KEY -> readVarLong(nameOffset + Integer.BYTES);
+      case ELEMENT, PROCESSING_INSTRUCTION -> readVarLong(nameOffset + 3 * Integer.BYTES);
+      case JSON_DOCUMENT, XML_DOCUMENT -> 0;
+      default -> -1;
+    };
+  }
+
+  /**
+   * Get the uncompressed string value.
+   *
+   * @return the uncompressed string value
+   * @throws IllegalStateException if the node has no string value
+   */
+  public byte[] getRawValue() {
+    if (!isValueNode()) {
+      throw new IllegalStateException("Node has no string value: " + kind);
+    }
+    final ValueCompressor compressor = ValueCompressor.getKind(data[valueOffset]);
+    final int length = readInt(valueOffset + 1);
+    final int from = valueOffset + 1 + Integer.BYTES;
+    return compressor.decompress(Arrays.copyOfRange(data, from, from + length));
+  }
+
+  /**
+   * Get the string value.
+   *
+   * @return the string value
+   * @throws IllegalStateException if the node has no string value
+   */
+  public String getValue() {
+    return new String(getRawValue(), Constants.DEFAULT_ENCODING);
+  }
+
+  /**
+   * Get the value of a boolean node.
+   *
+   * @return the boolean value
+   * @throws IllegalStateException if the node is no boolean node
+   */
+  public boolean getBooleanValue() {
+    if (kind != NodeKind.BOOLEAN_VALUE && kind != NodeKind.OBJECT_BOOLEAN_VALUE) {
+      throw new IllegalStateException("Current node is no boolean node.");
+    }
+    return data[valueOffset] != (byte) 0;
+  }
+
+  /**
+   * Get the value of a number node.
+   *
+   * @return the number value
+   * @throws IllegalStateException if the node is no number node
+   */
+  public Number getNumberValue() {
+    if (kind != NodeKind.NUMBER_VALUE && kind != NodeKind.OBJECT_NUMBER_VALUE) {
+      throw new IllegalStateException("Current node is no number node.");
+    }
+    final int offset = valueOffset + 1;
+    return switch (data[valueOffset]) {
+      case 0 -> Double.longBitsToDouble(readLong(offset));
+      case 1 -> Float.intBitsToFloat(readInt(offset));
+      case 2 -> readInt(offset);
+      case 3 -> readLong(offset);
+      case 4 -> readBigInteger(offset);
+      case 5 -> new BigDecimal(readBigInteger(offset), readInt(offset + Integer.BYTES + readInt(offset)));
+      default -> throw new AssertionError("Type not known.");
+    };
+  }
+
+  private BigInteger readBigInteger(final int offset) {
+    final int from = offset + Integer.BYTES;
+    return new BigInteger(Arrays.copyOfRange(data, from, from + readInt(offset)));
+  }
+
+  /**
+   * Get the number of attributes of an element.
+   *
+   * @return the number of attributes, which is {@code 0} for all other nodes
+   */
+  public int getAttributeCount() {
+    return kind == NodeKind.ELEMENT ? readInt(getAttributesOffset()) : 0;
+  }
+
+  /**
+   * Get the node key of an attribute of an element.
+   *
+   * @param index the index of the attribute
+   * @return the node key of the attribute, or {@link Fixed#NULL_NODE_KEY}, if the element has no such attribute
+   */
+  public long getAttributeKey(final int index) {
+    if (index < 0 || index >= getAttributeCount()) {
+      return Fixed.NULL_NODE_KEY.getStandardProperty();
+    }
+    // Each attribute is stored as its node key followed by the key of its name.
+    return readLong(getAttributesOffset() + Integer.BYTES + index * 2 * Long.BYTES);
+  }
+
+  /**
+   * Get the number of namespaces of an element.
+   *
+   * @return the number of namespaces, which is {@code 0} for all other nodes
+   */
+  public int getNamespaceCount() {
+    return kind == NodeKind.ELEMENT ? readInt(getNamespacesOffset()) : 0;
+  }
+
+  /**
+   * Get the node key of a namespace of an element.
+   *
+   * @param index the index of the namespace
+   * @return the node key of the namespace, or {@link Fixed#NULL_NODE_KEY}, if the element has no such namespace
+   */
+  public long getNamespaceKey(final int index) {
+    if (index < 0 || index >= getNamespaceCount()) {
+      return Fixed.NULL_NODE_KEY.getStandardProperty();
+    }
+    return readLong(getNamespacesOffset() + Integer.BYTES + index * Long.BYTES);
+  }
+
+  private int getAttributesOffset() {
+    return skipVarLong(nameOffset + 3 * Integer.BYTES);
+  }
+
+  private int getNamespacesOffset() {
+    final int attributesOffset = getAttributesOffset();
+    return attributesOffset + Integer.BYTES + readInt(attributesOffset) * 2 * Long.BYTES;
+  }
+
+  @Override
+  public NodeKind getKind() {
+    return kind;
+  }
+
+  @Override
+  public long getNodeKey() {
+    return nodeKey;
+  }
+
+  @Override
+  public long getParentKey() {
+    return parentKey;
+  }
+
+  @Override
+  public boolean hasParent() {
+    return parentKey != Fixed.NULL_NODE_KEY.getStandardProperty();
+  }
+
+  @Override
+  public long getRevision() {
+    return revision;
+  }
+
+  @Override
+  public boolean hasFirstChild() {
+    return firstChildKey != Fixed.NULL_NODE_KEY.getStandardProperty();
+  }
+
+  @Override
+  public boolean hasLastChild() {
+    return lastChildKey != Fixed.INVALID_KEY_FOR_TYPE_CHECK.getStandardProperty()
+        && lastChildKey != Fixed.NULL_NODE_KEY.getStandardProperty();
+  }
+
+  @Override
+  public boolean hasLeftSibling() {
+    return leftSiblingKey != Fixed.NULL_NODE_KEY.getStandardProperty();
+  }
+
+  @Override
+  public boolean hasRightSibling() {
+    return rightSiblingKey != Fixed.NULL_NODE_KEY.getStandardProperty();
+  }
+
+  @Override
+  public long getChildCount() {
+    return childCount;
+  }
+
+  @Override
+  public long getDescendantCount() {
+    return descendantCount;
+  }
+
+  @Override
+  public long getFirstChildKey() {
+    return firstChildKey;
+  }
+
+  @Override
+  public long getLastChildKey() {
+    return lastChildKey;
+  }
+
+  @Override
+  public long getLeftSiblingKey() {
+    return leftSiblingKey;
+  }
+
+  @Override
+  public long getRightSiblingKey() {
+    return rightSiblingKey;
+  }
+
+  @Override
+  public boolean isSameItem(final @Nullable Node other) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public BigInteger getHash() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public BigInteger computeHash() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public SirixDeweyID getDeweyID() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setDeweyID(final SirixDeweyID id) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setTypeKey(final int typeKey) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setHash(final BigInteger hash) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setParentKey(final long nodeKey) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setRightSiblingKey(final long nodeKey) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setLeftSiblingKey(final long nodeKey) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setFirstChildKey(final long nodeKey) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setLastChildKey(final long nodeKey) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void decrementChildCount() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void incrementChildCount() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void decrementDescendantCount() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void incrementDescendantCount() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setDescendantCount(final long descendantCount) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String toString() {
+    return "FlyweightNode{kind=" + kind + ", nodeKey=" + nodeKey + ", parentKey=" + parentKey + '}';
+  }
+}
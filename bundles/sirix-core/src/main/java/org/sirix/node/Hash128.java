@@ -0,0 +1,368 @@
+package org.sirix.node;
+
+import org.sirix.node.interfaces.Node;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A mutable unsigned 128-bit hash, which is kept in two {@code long}s. All arithmetic is done modulo
+ * {@link Node#MAX_POSITIVE_VALUE_128_BIT} (2^128-1) on primitives, thus the results are the same as the ones of the
+ * {@link BigInteger} based computations, which have been used before, but no intermediate objects are allocated.
+ * Instances are meant to be reused as accumulators and are not thread safe.
+ *
+ * <p>
+ * As {@code 2^128} is congruent to {@code 1} modulo {@code 2^128-1}, overflows are folded back into the value (end
+ * around carry), and the negation of a value is its bitwise complement.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class Hash128 {
+
+  /**
+   * The upper 64 bits.
+   */
+  private long high;
+
+  /**
+   * The lower 64 bits.
+   */
+  private long low;
+
+  /**
+   * Constructor, creates a zero hash.
+   */
+  public Hash128() {
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param high the upper 64 bits
+   * @param low  the lower 64 bits
+   */
+  public Hash128(final long high, final long low) {
+    set(high, low);
+  }
+
+  /**
+   * Get the upper 64 bits.
+   *
+   * @return the upper 64 bits
+   */
+  public long getHigh() {
+    return high;
+  }
+
+  /**
+   * Get the lower 64 bits.
+   *
+   * @return the lower 64 bits
+   */
+  public long getLow() {
+    return low;
+  }
+
+  /**
+   * Determines if the hash is zero, which denotes that no hash has been computed, yet.
+   *
+   * @return {@code true}, if the hash is zero, {@code false} otherwise
+   */
+  public boolean isZero() {
+    return (high | low) == 0;
+  }
+
+  /**
+   * Set the hash to zero.
+   *
+   * @return this hash
+   */
+  public Hash128 clear() {
+    high = 0;
+    low = 0;
+    return this;
+  }
+
+  /**
+   * Set the hash.
+   *
+   * @param high the upper 64 bits
+   * @param low  the lower 64 bits
+   * @return this hash
+   */
+  public Hash128 set(final long high, final long low) {
+    // 2^128-1 is congruent to 0.
+    if (high == -1L && low == -1L) {
+      this.high = 0;
+      this.low = 0;
+    } else {
+      this.high = high;
+      this.low = low;
+    }
+    return this;
+  }
+
+  /**
+   * Set the hash to the value of another hash.
+   *
+   * @param other the other hash
+   * @return this hash
+   */
+  public Hash128 set(final Hash128 other) {
+    high = other.high;
+    low = other.low;
+    return this;
+  }
+
+  /**
+   * Set the hash to a (non-negative) {@link BigInteger} value modulo 2^128-1.
+   *
+   * @param value the value, may be {@code null}, which is treated as zero
+   * @return this hash
+   */
+  public Hash128 set(final BigInteger value) {
+    if (value == null) {
+      return clear();
+    }
+    final BigInteger reduced = Node.to128BitsAtMaximumBigInteger(value);
+    return set(reduced.shiftRight(64).longValue(), reduced.longValue());
+  }
+
+  /**
+   * Set the hash to the unsigned big-endian value of a byte array (for instance the bytes of a hash function)
+   * modulo 2^128-1. That is the same as {@code new BigInteger(1, bytes).mod(2^128-1)}.
+   *
+   * @param bytes the bytes
+   * @return this hash
+   */
+  public Hash128 set(final byte[] bytes) {
+    clear();
+    int end = bytes.length;
+    while (end > 0) {
+      final int start = Math.max(0, end - 16);
+      long chunkHigh = 0;
+      long chunkLow = 0;
+      for (int i = start; i < end; i++) {
+        chunkHigh = (chunkHigh << 8) | (chunkLow >>> 56);
+        chunkLow = (chunkLow << 8) | (bytes[i] & 0xFF);
+      }
+      add(chunkHigh, chunkLow);
+      end = start;
+    }
+    return this;
+  }
+
+  /**
+   * Add a value.
+   *
+   * @param otherHigh the upper 64 bits of the value to add
+   * @param otherLow  the lower 64 bits of the value to add
+   * @return this hash
+   */
+  public Hash128 add(final long otherHigh, final long otherLow) {
+    long sumLow = low + otherLow;
+    final long carry = Long.compareUnsigned(sumLow, low) < 0 ? 1 : 0;
+    long sumHigh = high + otherHigh;
+    boolean overflow = Long.compareUnsigned(sumHigh, high) < 0;
+    sumHigh += carry;
+    if (carry == 1 && sumHigh == 0) {
+      overflow = true;
+    }
+    if (overflow) {
+      // 2^128 is congruent to 1.
+      sumLow++;
+      if (sumLow == 0) {
+        sumHigh++;
+      }
+    }
+    return set(sumHigh, sumLow);
+  }
+
+  /**
+   * Add another hash.
+   *
+   * @param other the other hash
+   * @return this hash
+   */
+  public Hash128 add(final Hash128 other) {
+    return add(other.high, other.low);
+  }
+
+  /**
+   * Subtract a value.
+   *
+   * @param otherHigh the upper 64 bits of the value to subtract
+   * @param otherLow  the lower 64 bits of the value to subtract
+   * @return this hash
+   */
+  public Hash128 subtract(final long otherHigh, final long otherLow) {
+    return add(~otherHigh, ~otherLow);
+  }
+
+  /**
+   * Subtract another hash.
+   *
+   * @param other the other hash
+   * @return this hash
+   */
+  public Hash128 subtract(final Hash128 other) {
+    return subtract(other.high, other.low);
+  }
+
+  /**
+   * Multiply the hash with a factor.
+   *
+   * @param factor the non-negative factor
+   * @return this hash
+   */
+  public Hash128 multiply(final long factor) {
+    final long oldHigh = high;
+    final long oldLow = low;
+    clear();
+    return addProduct(oldHigh, oldLow, factor);
+  }
+
+  /**
+   * Add the product of another hash and a factor, that is {@code this + other * factor}.
+   *
+   * @param other  the other hash
+   * @param factor the non-negative factor
+   * @return this hash
+   */
+  public Hash128 addProduct(final Hash128 other, final long factor) {
+    return addProduct(other.high, other.low, factor);
+  }
+
+  /**
+   * Subtract the product of another hash and a factor, that is {@code this - other * factor}.
+   *
+   * @param other  the other hash
+   * @param factor the non-negative factor
+   * @return this hash
+   */
+  public Hash128 subtractProduct(final Hash128 other, final long factor) {
+    return combineProduct(other.high, other.low, factor, true);
+  }
+
+  private Hash128 addProduct(final long otherHigh, final long otherLow, final long factor) {
+    return combineProduct(otherHigh, otherLow, factor, false);
+  }
+
+  private Hash128 combineProduct(final long otherHigh, final long otherLow, final long factor,
+      final boolean subtract) {
+    checkArgument(factor >= 0, "The factor must be >= 0!");
+    final long productLow = otherLow * factor;
+    final long carry = unsignedMultiplyHigh(otherLow, factor);
+    final long productHighWithoutCarry = otherHigh * factor;
+    final long productHigh = productHighWithoutCarry + carry;
+    // The bits beyond 2^128 are less than the factor and are folded back, as 2^128 is congruent to 1.
+    final long overflow = unsignedMultiplyHigh(otherHigh, factor) + (
+        Long.compareUnsigned(productHigh, productHighWithoutCarry) < 0 ? 1 : 0);
+    if (subtract) {
+      subtract(productHigh, productLow);
+      return subtract(0, overflow);
+    }
+    add(productHigh, productLow);
+    return add(0, overflow);
+  }
+
+  private static long unsignedMultiplyHigh(final long x, final long y) {
+    return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+  }
+
+  /**
+   * Get the hash as a {@link BigInteger}.
+   *
+   * @return the hash as a non-negative {@link BigInteger}
+   */
+  public BigInteger toBigInteger() {
+    return toBigInteger(high, low);
+  }
+
+  /**
+   * Get an unsigned 128-bit value as a {@link BigInteger}.
+   *
+   * @param high the upper 64 bits
+   * @param low  the lower 64 bits
+   * @return the value as a non-negative {@link BigInteger}
+   */
+  public static BigInteger toBigInteger(final long high, final long low) {
+    if (high == 0 && low >= 0) {
+      return BigInteger.valueOf(low);
+    }
+    final byte[] bytes = new byte[16];
+    for (int i = 0; i < 8; i++) {
+      bytes[i] = (byte) (high >>> (56 - 8 * i));
+      bytes[i + 8] = (byte) (low >>> (56 - 8 * i));
+    }
+    return new BigInteger(1, bytes);
+  }
+
+  /**
+   * Serialize an unsigned 128-bit value in the same format as the two's-complement representation of a
+   * {@link BigInteger} prefixed with its length in bytes (that is the same as writing the length of
+   * {@link BigInteger#toByteArray()} and the byte array itself).
+   *
+   * @param sink the sink to write to
+   * @param high the upper 64 bits
+   * @param low  the lower 64 bits
+   * @throws IOException if an I/O error occurs
+   */
+  public static void serialize(final DataOutput sink, final long high, final long low) throws IOException {
+    final int bitLength = high != 0 ? 128 - Long.numberOfLeadingZeros(high) : 64 - Long.numberOfLeadingZeros(low);
+    // A leading sign bit is always needed.
+    final int length = bitLength / 8 + 1;
+    sink.writeByte(length);
+    for (int i = length - 1; i >= 0; i--) {
+      if (i >= 16) {
+        sink.writeByte(0);
+      } else if (i >= 8) {
+        sink.writeByte((int) (high >>> (8 * (i - 8))));
+      } else {
+        sink.writeByte((int) (low >>> (8 * i)));
+      }
+    }
+  }
+
+  /**
+   * Deserialize a value written by {@link #serialize(DataOutput, long, long)}.
+   *
+   * @param source the source to read from
+   * @return this hash
+   * @throws IOException if an I/O error occurs
+   */
+  public Hash128 deserialize(final DataInput source) throws IOException {
+    final int length = source.readByte();
+    long valueHigh = 0;
+    long valueLow = 0;
+    for (int i = 0; i < length; i++) {
+      valueHigh = (valueHigh << 8) | (valueLow >>> 56);
+      valueLow = (valueLow << 8) | (source.readByte() & 0xFF);
+    }
+    return set(valueHigh, valueLow);
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (!(other instanceof Hash128)) {
+      return false;
+    }
+    final Hash128 otherHash = (Hash128) other;
+    return high == otherHash.high && low == otherHash.low;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(high) * 31 + Long.hashCode(low);
+  }
+
+  @Override
+  public String toString() {
+    return toBigInteger().toString();
+  }
+}
@@ -31,11 +31,14 @@ import org.brackit.xquery.xdm.Type;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.trx.node.HashType;
 import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.diff.DiffFactory.DiffType;
 import org.sirix.index.AtomicUtil;
-import org.sirix.index.redblacktree.RBNode;
-import org.sirix.index.redblacktree.keyvalue.CASValue;
-import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.index.art.ARTNode;
+import org.sirix.index.bplustree.BPlusTreeNode;
+import org.sirix.index.keyvalue.CASValue;
+import org.sirix.index.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathNode;
+import org.sirix.index.redblacktree.RBNode;
 import org.sirix.node.delegates.NameNodeDelegate;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
@@ -49,6 +52,7 @@ import org.sirix.page.UnorderedKeyValuePage;
 import org.sirix.service.xml.xpath.AtomicValue;
 import org.sirix.settings.Constants;
 import org.sirix.settings.Fixed;
+import org.sirix.utils.ValueCompressor;
 
 import javax.annotation.Nonnegative;
 import java.io.DataInput;
@@ -76,10 +80,10 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hash = deserializeHash(source, pageReadTrx);
 
       // Node delegate.
-      final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
+      final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx, hash);
 
       // Struct delegate.
       final StructNodeDelegate structDel =
@@ -111,8 +115,7 @@ public enum NodeKind implements NodePersistenter {
       final int localNameKey = nameDel.getLocalNameKey();
       final String localName = localNameKey == -1 ? "" : pageReadTrx.getName(localNameKey, NodeKind.ELEMENT);
 
-      return new ElementNode(hashCode,
-                             structDel,
+      return new ElementNode(structDel,
                              nameDel,
                              attrKeys,
                              attrs,
@@ -125,7 +128,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final ElementNode node = (ElementNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getNodeDelegate());
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeStructDelegate(this,
                               node.getStructNodeDelegate(),
@@ -152,19 +155,16 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hash = deserializeHash(source, pageReadTrx);
 
       // Node delegate.
-      final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
+      final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx, hash);
 
       // Name delegate.
       final NameNodeDelegate nameDel = deserializeNameDelegate(nodeDel, source);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.readFully(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       final String uri = pageReadTrx.getName(nameDel.getURIKey(), NodeKind.NAMESPACE);
       final int prefixKey = nameDel.getPrefixKey();
@@ -175,7 +175,7 @@ public enum NodeKind implements NodePersistenter {
       final QNm name = new QNm(uri, prefix, localName);
 
       // Returning an instance.
-      return new AttributeNode(hashCode, nodeDel, nameDel, valDel, name);
+      return new AttributeNode(nodeDel, nameDel, valDel, name);
     }
 
     @Override
@@ -183,7 +183,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final AttributeNode node = (AttributeNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getNodeDelegate());
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeNameDelegate(node.getNameNodeDelegate(), sink);
       serializeValDelegate(node.getValNodeDelegate(), sink);
@@ -197,10 +197,10 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hash = deserializeHash(source, pageReadTrx);
 
       // Node delegate.
-      final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
+      final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx, hash);
 
       // Name delegate.
       final NameNodeDelegate nameDel = deserializeNameDelegate(nodeDel, source);
@@ -213,7 +213,7 @@ public enum NodeKind implements NodePersistenter {
 
       final QNm name = new QNm(uri, prefix, localName);
 
-      return new NamespaceNode(hashCode, nodeDel, nameDel, name);
+      return new NamespaceNode(nodeDel, nameDel, name);
     }
 
     @Override
@@ -221,7 +221,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final NamespaceNode node = (NamespaceNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getNodeDelegate());
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeNameDelegate(node.getNameNodeDelegate(), sink);
     }
@@ -234,16 +234,13 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hash = deserializeHash(source, pageReadTrx);
 
       // Node delegate.
-      final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
+      final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx, hash);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.readFully(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Struct delegate.
       final long nodeKey = nodeDel.getNodeKey();
@@ -255,7 +252,7 @@ public enum NodeKind implements NodePersistenter {
                                                                   0L);
 
       // Returning an instance.
-      return new TextNode(hashCode, valDel, structDel);
+      return new TextNode(valDel, structDel);
     }
 
     @Override
@@ -263,7 +260,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final TextNode node = (TextNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getNodeDelegate());
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeValDelegate(node.getValNodeDelegate(), sink);
       final StructNodeDelegate del = node.getStructNodeDelegate();
@@ -280,10 +277,10 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hash = deserializeHash(source, pageReadTrx);
 
       // Node delegate.
-      final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
+      final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx, hash);
 
       // Struct delegate.
       final StructNodeDelegate structDel =
@@ -293,13 +290,10 @@ public enum NodeKind implements NodePersistenter {
       final NameNodeDelegate nameDel = deserializeNameDelegate(nodeDel, source);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.readFully(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Returning an instance.
-      return new PINode(hashCode, structDel, nameDel, valDel, pageReadTrx);
+      return new PINode(structDel, nameDel, valDel, pageReadTrx);
     }
 
     @Override
@@ -307,7 +301,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final PINode node = (PINode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getNodeDelegate());
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeStructDelegate(this,
                               node.getStructNodeDelegate(),
@@ -325,16 +319,13 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hash = deserializeHash(source, pageReadTrx);
 
       // Node delegate.
-      final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
+      final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx, hash);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.readFully(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Struct delegate.
       final long nodeKey = nodeDel.getNodeKey();
@@ -346,7 +337,7 @@ public enum NodeKind implements NodePersistenter {
                                                                   0L);
 
       // Returning an instance.
-      return new CommentNode(hashCode, valDel, structDel);
+      return new CommentNode(valDel, structDel);
     }
 
     @Override
@@ -354,7 +345,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final CommentNode node = (CommentNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getNodeDelegate());
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeValDelegate(node.getValNodeDelegate(), sink);
       final StructNodeDelegate del = node.getStructNodeDelegate();
@@ -701,16 +692,6 @@ public enum NodeKind implements NodePersistenter {
       throw new UnsupportedOperationException();
     }
 
-    private Type resolveType(final String s) {
-      final QNm name =
-          new QNm(Namespaces.XS_NSURI, Namespaces.XS_PREFIX, s.substring(Namespaces.XS_PREFIX.length() + 1));
-      for (final Type type : Type.builtInTypes) {
-        if (type.getName().getLocalName().equals(name.getLocalName())) {
-          return type;
-        }
-      }
-      throw new IllegalStateException("Unknown content type: " + name);
-    }
   },
 
   /**
@@ -770,7 +751,7 @@ public enum NodeKind implements NodePersistenter {
   },
 
   /**
-   * Node kind is a PATH-RB node.
+   * Node kind is a NAME-RB node.
    */
   NAMERB((byte) 19, RBNode.class) {
     @Override
@@ -841,6 +822,305 @@ public enum NodeKind implements NodePersistenter {
     }
   },
 
+  /**
+   * Node kind is a node of a CAS B+-tree.
+   */
+  CAS_BPLUS_TREE_NODE((byte) 10, BPlusTreeNode.class) {
+    @Override
+    public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
+        final PageReadOnlyTrx pageReadTrx) throws IOException {
+      final boolean isLeaf = source.readBoolean();
+      final int keyCount = (int) getVarLong(source);
+      final List<Long> childKeys = deserializeChildKeys(source, isLeaf, keyCount);
+      final List<CASValue> keys = new ArrayList<>(keyCount);
+      long pathNodeKey = 0;
+      Type atomicType = null;
+      byte[] value = new byte[0];
+      for (int i = 0; i < keyCount; i++) {
+        pathNodeKey += getVarLong(source);
+        if (!source.readBoolean()) {
+          final byte[] type = new byte[source.readInt()];
+          source.readFully(type);
+          atomicType = resolveType(new String(type, Constants.DEFAULT_ENCODING));
+        }
+        value = deserializeFrontCoded(source, value);
+        keys.add(new CASValue(AtomicUtil.fromBytes(value, atomicType), atomicType, pathNodeKey));
+      }
+      return deserializeBPlusTreeNode(source, this, recordID, isLeaf, keys, childKeys);
+    }
+
+    @Override
+    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+        throws IOException {
+      @SuppressWarnings("unchecked")
+      final BPlusTreeNode<CASValue, NodeReferences> node = (BPlusTreeNode<CASValue, NodeReferences>) record;
+      serializeChildKeys(sink, node);
+      long pathNodeKey = 0;
+      Type atomicType = null;
+      byte[] value = new byte[0];
+      for (final CASValue key : node.getKeys()) {
+        // Keys are sorted by their path node key first.
+        putVarLong(sink, key.getPathNodeKey() - pathNodeKey);
+        pathNodeKey = key.getPathNodeKey();
+        // The type is only stored, if it differs from the type of the previous key.
+        final boolean isSameType = key.getType().equals(atomicType);
+        sink.writeBoolean(isSameType);
+        if (!isSameType) {
+          final byte[] type = key.getType().toString().getBytes(Constants.DEFAULT_ENCODING);
+          sink.writeInt(type.length);
+          sink.write(type);
+          atomicType = key.getType();
+        }
+        value = serializeFrontCoded(sink, value, key.getValue());
+      }
+      serializeBPlusTreeNode(sink, node);
+    }
+
+    @Override
+    public SirixDeweyID deserializeDeweyID(DataInput source, SirixDeweyID previousDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void serializeDeweyID(DataOutput sink, SirixDeweyID deweyID, SirixDeweyID prevDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+  },
+
+  /**
+   * Node kind is a node of a path B+-tree.
+   */
+  PATH_BPLUS_TREE_NODE((byte) 11, BPlusTreeNode.class) {
+    @Override
+    public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
+        final PageReadOnlyTrx pageReadTrx) throws IOException {
+      final boolean isLeaf = source.readBoolean();
+      final int keyCount = (int) getVarLong(source);
+      final List<Long> childKeys = deserializeChildKeys(source, isLeaf, keyCount);
+      final List<Long> keys = new ArrayList<>(keyCount);
+      long key = 0;
+      for (int i = 0; i < keyCount; i++) {
+        key += getVarLong(source);
+        keys.add(key);
+      }
+      return deserializeBPlusTreeNode(source, this, recordID, isLeaf, keys, childKeys);
+    }
+
+    @Override
+    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+        throws IOException {
+      @SuppressWarnings("unchecked")
+      final BPlusTreeNode<Long, NodeReferences> node = (BPlusTreeNode<Long, NodeReferences>) record;
+      serializeChildKeys(sink, node);
+      long previousKey = 0;
+      for (final long key : node.getKeys()) {
+        putVarLong(sink, key - previousKey);
+        previousKey = key;
+      }
+      serializeBPlusTreeNode(sink, node);
+    }
+
+    @Override
+    public SirixDeweyID deserializeDeweyID(DataInput source, SirixDeweyID previousDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void serializeDeweyID(DataOutput sink, SirixDeweyID deweyID, SirixDeweyID prevDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+  },
+
+  /**
+   * Node kind is a node of a name B+-tree.
+   */
+  NAME_BPLUS_TREE_NODE((byte) 12, BPlusTreeNode.class) {
+    @Override
+    public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
+        final PageReadOnlyTrx pageReadTrx) throws IOException {
+      final boolean isLeaf = source.readBoolean();
+      final int keyCount = (int) getVarLong(source);
+      final List<Long> childKeys = deserializeChildKeys(source, isLeaf, keyCount);
+      final List<QNm> keys = new ArrayList<>(keyCount);
+      byte[] nspBytes = new byte[0];
+      byte[] prefixBytes = new byte[0];
+      byte[] localNameBytes = new byte[0];
+      for (int i = 0; i < keyCount; i++) {
+        nspBytes = deserializeFrontCoded(source, nspBytes);
+        prefixBytes = deserializeFrontCoded(source, prefixBytes);
+        localNameBytes = deserializeFrontCoded(source, localNameBytes);
+        keys.add(new QNm(new String(nspBytes, Constants.DEFAULT_ENCODING),
+                         new String(prefixBytes, Constants.DEFAULT_ENCODING),
+                         new String(localNameBytes, Constants.DEFAULT_ENCODING)));
+      }
+      return deserializeBPlusTreeNode(source, this, recordID, isLeaf, keys, childKeys);
+    }
+
+    @Override
+    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+        throws IOException {
+      @SuppressWarnings("unchecked")
+      final BPlusTreeNode<QNm, NodeReferences> node = (BPlusTreeNode<QNm, NodeReferences>) record;
+      serializeChildKeys(sink, node);
+      byte[] nspBytes = new byte[0];
+      byte[] prefixBytes = new byte[0];
+      byte[] localNameBytes = new byte[0];
+      for (final QNm key : node.getKeys()) {
+        nspBytes = serializeFrontCoded(sink, nspBytes, key.getNamespaceURI().getBytes(Constants.DEFAULT_ENCODING));
+        prefixBytes = serializeFrontCoded(sink, prefixBytes, key.getPrefix().getBytes(Constants.DEFAULT_ENCODING));
+        localNameBytes =
+            serializeFrontCoded(sink, localNameBytes, key.getLocalName().getBytes(Constants.DEFAULT_ENCODING));
+      }
+      serializeBPlusTreeNode(sink, node);
+    }
+
+    @Override
+    public SirixDeweyID deserializeDeweyID(DataInput source, SirixDeweyID previousDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void serializeDeweyID(DataOutput sink, SirixDeweyID deweyID, SirixDeweyID prevDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+  },
+
+  /**
+   * Node kind is a node of a CAS adaptive radix tree.
+   */
+  CAS_ART_NODE((byte) 37, ARTNode.class) {
+    @Override
+    public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
+        final PageReadOnlyTrx pageReadTrx) throws IOException {
+      final ARTNode<CASValue, NodeReferences> node = deserializeARTNode(source, this, recordID);
+      if (node.hasEntry()) {
+        final long pathNodeKey = getVarLong(source);
+        final byte[] type = new byte[source.readInt()];
+        source.readFully(type);
+        final Type atomicType = resolveType(new String(type, Constants.DEFAULT_ENCODING));
+        final byte[] value = new byte[(int) getVarLong(source)];
+        source.readFully(value);
+        node.setKey(new CASValue(AtomicUtil.fromBytes(value, atomicType), atomicType, pathNodeKey));
+      }
+      return node;
+    }
+
+    @Override
+    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+        throws IOException {
+      @SuppressWarnings("unchecked")
+      final ARTNode<CASValue, NodeReferences> node = (ARTNode<CASValue, NodeReferences>) record;
+      serializeARTNode(sink, node);
+      if (node.hasEntry()) {
+        final CASValue key = node.getKey();
+        putVarLong(sink, key.getPathNodeKey());
+        final byte[] type = key.getType().toString().getBytes(Constants.DEFAULT_ENCODING);
+        sink.writeInt(type.length);
+        sink.write(type);
+        final byte[] value = key.getValue();
+        putVarLong(sink, value.length);
+        sink.write(value);
+      }
+    }
+
+    @Override
+    public SirixDeweyID deserializeDeweyID(DataInput source, SirixDeweyID previousDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void serializeDeweyID(DataOutput sink, SirixDeweyID deweyID, SirixDeweyID prevDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+  },
+
+  /**
+   * Node kind is a node of a path adaptive radix tree.
+   */
+  PATH_ART_NODE((byte) 38, ARTNode.class) {
+    @Override
+    public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
+        final PageReadOnlyTrx pageReadTrx) throws IOException {
+      final ARTNode<Long, NodeReferences> node = deserializeARTNode(source, this, recordID);
+      if (node.hasEntry()) {
+        node.setKey(getVarLong(source));
+      }
+      return node;
+    }
+
+    @Override
+    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+        throws IOException {
+      @SuppressWarnings("unchecked")
+      final ARTNode<Long, NodeReferences> node = (ARTNode<Long, NodeReferences>) record;
+      serializeARTNode(sink, node);
+      if (node.hasEntry()) {
+        putVarLong(sink, node.getKey());
+      }
+    }
+
+    @Override
+    public SirixDeweyID deserializeDeweyID(DataInput source, SirixDeweyID previousDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void serializeDeweyID(DataOutput sink, SirixDeweyID deweyID, SirixDeweyID prevDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+  },
+
+  /**
+   * Node kind is a node of a name adaptive radix tree.
+   */
+  NAME_ART_NODE((byte) 39, ARTNode.class) {
+    @Override
+    public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
+        final PageReadOnlyTrx pageReadTrx) throws IOException {
+      final ARTNode<QNm, NodeReferences> node = deserializeARTNode(source, this, recordID);
+      if (node.hasEntry()) {
+        node.setKey(new QNm(deserializeString(source), deserializeString(source), deserializeString(source)));
+      }
+      return node;
+    }
+
+    @Override
+    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+        throws IOException {
+      @SuppressWarnings("unchecked")
+      final ARTNode<QNm, NodeReferences> node = (ARTNode<QNm, NodeReferences>) record;
+      serializeARTNode(sink, node);
+      if (node.hasEntry()) {
+        final QNm key = node.getKey();
+        serializeString(sink, key.getNamespaceURI());
+        serializeString(sink, key.getPrefix());
+        serializeString(sink, key.getLocalName());
+      }
+    }
+
+    @Override
+    public SirixDeweyID deserializeDeweyID(DataInput source, SirixDeweyID previousDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void serializeDeweyID(DataOutput sink, SirixDeweyID deweyID, SirixDeweyID prevDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+  },
+
   /**
    * Node includes a deweyID &lt;=&gt; nodeKey mapping.
    */
@@ -876,17 +1156,17 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hash = deserializeHash(source, pageReadTrx);
 
       // Node delegate.
-      final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
+      final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx, hash);
 
       // Struct delegate.
       final StructNodeDelegate structDel =
           deserializeStructDel(this, nodeDel, source, pageReadTrx.getResourceManager().getResourceConfig());
 
       // Returning an instance.
-      return new ObjectNode(hashCode, structDel);
+      return new ObjectNode(structDel);
     }
 
     @Override
@@ -894,7 +1174,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final ObjectNode node = (ObjectNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE) {
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getNodeDelegate());
       }
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeStructDelegate(this,
@@ -923,19 +1203,19 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hash = deserializeHash(source, pageReadTrx);
 
       final long pathNodeKey = source.readLong();
 
       // Node delegate.
-      final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
+      final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx, hash);
 
       // Struct delegate.
       final StructNodeDelegate structDel =
           deserializeStructDel(this, nodeDel, source, pageReadTrx.getResourceManager().getResourceConfig());
 
       // Returning an instance.
-      return new ArrayNode(hashCode, structDel, pathNodeKey);
+      return new ArrayNode(structDel, pathNodeKey);
     }
 
     @Override
@@ -943,7 +1223,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final ArrayNode node = (ArrayNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getNodeDelegate());
       sink.writeLong(node.getPathNodeKey());
       serializeDelegate(node.getNodeDelegate(), sink);
       serializeStructDelegate(this,
@@ -972,13 +1252,13 @@ public enum NodeKind implements NodePersistenter {
     @Override
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
-      final BigInteger hashCode = getHash(source, pageReadTrx);
+      final Hash128 hash = deserializeHash(source, pageReadTrx);
 
       final int nameKey = source.readInt();
       final long pathNodeKey = getVarLong(source);
 
       // Node delegate.
-      final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
+      final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx, hash);
 
       // Struct delegate.
       final StructNodeDelegate structDel =
@@ -989,7 +1269,7 @@ public enum NodeKind implements NodePersistenter {
       // Name can be null for removed nodes (the previous record page still has the ObjectKeyNode).
 
       // Returning an instance.
-      return new ObjectKeyNode(hashCode, structDel, nameKey, name, pathNodeKey);
+      return new ObjectKeyNode(structDel, nameKey, name, pathNodeKey);
     }
 
     @Override
@@ -997,7 +1277,7 @@ public enum NodeKind implements NodePersistenter {
         throws IOException {
       final ObjectKeyNode node = (ObjectKeyNode) record;
       if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
-        writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
+        writeHash(sink, node.getNodeDelegate());
       sink.writeInt(node.getNameKey());
       putVarLong(sink, node.getPathNodeKey());
       serializeDelegate(node.getNodeDelegate(), sink);
@@ -1031,10 +1311,7 @@ public enum NodeKind implements NodePersistenter {
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.readFully(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Struct delegate.
       final StructNodeDelegate structDelegate = new StructNodeDelegate(nodeDel,
@@ -1279,10 +1556,7 @@ public enum NodeKind implements NodePersistenter {
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.readFully(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Struct delegate.
       final StructNodeDelegate structDel =
@@ -1528,12 +1802,17 @@ public enum NodeKind implements NodePersistenter {
                                                     null,
                                                     getVarLong(source),
                                                     SirixDeweyID.newRootID());
+      final long firstChildKey = getVarLong(source);
+      final long lastChildKey = getVarLong(source);
+      final long childCount = source.readByte() == ((byte) 0) ? 0 : 1;
+      // Skip whether the document has a last child, which is implied by the first child.
+      source.readByte();
       final StructNodeDelegate structDel = new StructNodeDelegate(nodeDel,
-                                                                  getVarLong(source),
-                                                                  getVarLong(source),
+                                                                  firstChildKey,
+                                                                  lastChildKey,
                                                                   Fixed.NULL_NODE_KEY.getStandardProperty(),
                                                                   Fixed.NULL_NODE_KEY.getStandardProperty(),
-                                                                  source.readByte() == ((byte) 0) ? 0 : 1,
+                                                                  childCount,
                                                                   source.readLong());
       return new JsonDocumentRootNode(nodeDel, structDel);
     }
@@ -1675,6 +1954,38 @@ public enum NodeKind implements NodePersistenter {
     }
   },
 
+  /**
+   * Changed nodes index entry.
+   */
+  CHANGED_NODE_REFERENCE_NODE((byte) 36, ChangedNodeReferenceNode.class) {
+    @Override
+    public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
+        final PageReadOnlyTrx pageReadTrx) throws IOException {
+      final long changedNodeKey = getVarLong(source);
+      final DiffType diffType = DiffType.values()[source.readByte()];
+      return new ChangedNodeReferenceNode(recordID, changedNodeKey, diffType);
+    }
+
+    @Override
+    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+        throws IOException {
+      final var changedNodeReferenceNode = (ChangedNodeReferenceNode) record;
+      putVarLong(sink, changedNodeReferenceNode.getChangedNodeKey());
+      sink.writeByte(changedNodeReferenceNode.getDiffType().ordinal());
+    }
+
+    @Override
+    public SirixDeweyID deserializeDeweyID(DataInput source, SirixDeweyID previousDeweyID,
+        ResourceConfiguration resourceConfig) {
+      return null;
+    }
+
+    @Override
+    public void serializeDeweyID(DataOutput sink, SirixDeweyID deweyID, SirixDeweyID prevDeweyID,
+        ResourceConfiguration resourceConfig) {
+    }
+  },
+
   /**
    * Node type not known.
    */
@@ -1790,14 +2101,11 @@ public enum NodeKind implements NodePersistenter {
       ResourceConfiguration resourceConfig) throws IOException {
   }
 
-  private static final BigInteger getHash(final DataInput source, final PageReadOnlyTrx pageReadTrx)
+  private static Hash128 deserializeHash(final DataInput source, final PageReadOnlyTrx pageReadTrx)
       throws IOException {
-    final BigInteger hashCode;
     if (pageReadTrx.getResourceManager().getResourceConfig().hashType == HashType.NONE)
-      hashCode = null;
-    else
-      hashCode = readHash(source);
-    return hashCode;
+      return null;
+    return new Hash128().deserialize(source);
   }
 
   private static final NodeDelegate deserializeNodeDelegateWithoutIDs(final DataInput source,
@@ -1811,11 +2119,201 @@ public enum NodeKind implements NodePersistenter {
 
   private static final NodeDelegate deserializeNodeDelegate(final DataInput source, final @Nonnegative long recordID,
       final SirixDeweyID id, final PageReadOnlyTrx pageReadTrx) throws IOException {
+    return deserializeNodeDelegate(source, recordID, id, pageReadTrx, null);
+  }
+
+  private static final NodeDelegate deserializeNodeDelegate(final DataInput source, final @Nonnegative long recordID,
+      final SirixDeweyID id, final PageReadOnlyTrx pageReadTrx, final Hash128 hash) throws IOException {
     final long nodeKey = recordID;
     final long parentKey = nodeKey - getVarLong(source);
     final long revision = getVarLong(source);
     final HashFunction hashFunction = pageReadTrx.getResourceManager().getResourceConfig().nodeHashFunction;
-    return new NodeDelegate(nodeKey, parentKey, hashFunction, null, revision, id);
+    return new NodeDelegate(nodeKey, parentKey, hashFunction, hash, revision, id);
+  }
+
+
+  private static Type resolveType(final String s) {
+    final QNm name =
+        new QNm(Namespaces.XS_NSURI, Namespaces.XS_PREFIX, s.substring(Namespaces.XS_PREFIX.length() + 1));
+    for (final Type type : Type.builtInTypes) {
+      if (type.getName().getLocalName().equals(name.getLocalName())) {
+        return type;
+      }
+    }
+    throw new IllegalStateException("Unknown content type: " + name);
+  }
+
+  /**
+   * Serialize the bytes of a key, whereas the common prefix with the bytes of the previous key is omitted.
+   *
+   * @return the bytes of the key
+   */
+  private static byte[] serializeFrontCoded(final DataOutput sink, final byte[] previousBytes, final byte[] bytes)
+      throws IOException {
+    final int maxPrefixLength = Math.min(previousBytes.length, bytes.length);
+    int prefixLength = 0;
+    while (prefixLength < maxPrefixLength && previousBytes[prefixLength] == bytes[prefixLength]) {
+      prefixLength++;
+    }
+    putVarLong(sink, prefixLength);
+    putVarLong(sink, bytes.length - prefixLength);
+    sink.write(bytes, prefixLength, bytes.length - prefixLength);
+    return bytes;
+  }
+
+  private static byte[] deserializeFrontCoded(final DataInput source, final byte[] previousBytes) throws IOException {
+    final int prefixLength = (int) getVarLong(source);
+    final int suffixLength = (int) getVarLong(source);
+    final byte[] bytes = Arrays.copyOf(previousBytes, prefixLength + suffixLength);
+    source.readFully(bytes, prefixLength, suffixLength);
+    return bytes;
+  }
+
+  private static void serializeChildKeys(final DataOutput sink, final BPlusTreeNode<?, ?> node) throws IOException {
+    sink.writeBoolean(node.isLeaf());
+    putVarLong(sink, node.getKeyCount());
+    if (!node.isLeaf()) {
+      for (final long childKey : node.getChildKeys()) {
+        putVarLong(sink, childKey);
+      }
+    }
+  }
+
+  private static List<Long> deserializeChildKeys(final DataInput source, final boolean isLeaf, final int keyCount)
+      throws IOException {
+    if (isLeaf) {
+      return List.of();
+    }
+    final List<Long> childKeys = new ArrayList<>(keyCount + 1);
+    for (int i = 0; i <= keyCount; i++) {
+      childKeys.add(getVarLong(source));
+    }
+    return childKeys;
+  }
+
+  private static void serializeBPlusTreeNode(final DataOutput sink, final BPlusTreeNode<?, NodeReferences> node)
+      throws IOException {
+    if (node.isLeaf()) {
+      for (final NodeReferences value : node.getValues()) {
+        serializeNodeReferences(sink, value);
+      }
+      putVarLong(sink, node.getNextLeafKey());
+    }
+    putVarLong(sink, node.getRevision());
+  }
+
+  private static <K extends Comparable<? super K>> BPlusTreeNode<K, NodeReferences> deserializeBPlusTreeNode(
+      final DataInput source, final NodeKind kind, final @Nonnegative long recordID, final boolean isLeaf,
+      final List<K> keys, final List<Long> childKeys) throws IOException {
+    final List<NodeReferences> values = new ArrayList<>(isLeaf ? keys.size() : 0);
+    long nextLeafKey = Fixed.NULL_NODE_KEY.getStandardProperty();
+    if (isLeaf) {
+      for (int i = 0, size = keys.size(); i < size; i++) {
+        values.add(deserializeNodeReferences(source));
+      }
+      nextLeafKey = getVarLong(source);
+    }
+    final long revision = getVarLong(source);
+    // B+-tree nodes don't store parent pointers. The transaction isn't used, as it's missing for overflow pages.
+    final NodeDelegate nodeDel =
+        new NodeDelegate(recordID, Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), null, null, revision, null);
+    return new BPlusTreeNode<>(kind, nodeDel, isLeaf, keys, values, childKeys, nextLeafKey);
+  }
+
+  private static void serializeNodeReferences(final DataOutput sink, final NodeReferences references)
+      throws IOException {
+    final List<Long> nodeKeys = new ArrayList<>(references.getNodeKeys());
+    Collections.sort(nodeKeys);
+    putVarLong(sink, nodeKeys.size());
+    long previousNodeKey = 0;
+    for (final long nodeKey : nodeKeys) {
+      putVarLong(sink, nodeKey - previousNodeKey);
+      previousNodeKey = nodeKey;
+    }
+  }
+
+  private static NodeReferences deserializeNodeReferences(final DataInput source) throws IOException {
+    final int nodeKeyCount = (int) getVarLong(source);
+    final Set<Long> nodeKeys = new HashSet<>(nodeKeyCount);
+    long nodeKey = 0;
+    for (int j = 0; j < nodeKeyCount; j++) {
+      nodeKey += getVarLong(source);
+      nodeKeys.add(nodeKey);
+    }
+    return new NodeReferences(nodeKeys);
+  }
+
+  private static void serializeString(final DataOutput sink, final String string) throws IOException {
+    final byte[] bytes = string.getBytes(Constants.DEFAULT_ENCODING);
+    putVarLong(sink, bytes.length);
+    sink.write(bytes);
+  }
+
+  private static String deserializeString(final DataInput source) throws IOException {
+    final byte[] bytes = new byte[(int) getVarLong(source)];
+    source.readFully(bytes);
+    return new String(bytes, Constants.DEFAULT_ENCODING);
+  }
+
+  private static void serializeARTNode(final DataOutput sink, final ARTNode<?, NodeReferences> node)
+      throws IOException {
+    final byte[] prefix = node.getPrefix();
+    putVarLong(sink, prefix.length);
+    sink.write(prefix);
+    final int[] partialKeys = node.getPartialKeys();
+    putVarLong(sink, partialKeys.length);
+    if (node.getLayout() == ARTNode.Layout.NODE_256) {
+      // A bitmap of the partial keys is smaller than the partial keys themselves.
+      final byte[] bitmap = new byte[32];
+      for (final int partialKey : partialKeys) {
+        bitmap[partialKey >>> 3] |= 1 << (partialKey & 7);
+      }
+      sink.write(bitmap);
+    } else {
+      for (final int partialKey : partialKeys) {
+        sink.writeByte(partialKey);
+      }
+    }
+    for (final int partialKey : partialKeys) {
+      putVarLong(sink, node.findChild(partialKey));
+    }
+    sink.writeBoolean(node.hasEntry());
+    if (node.hasEntry()) {
+      serializeNodeReferences(sink, node.getValue());
+    }
+    putVarLong(sink, node.getRevision());
+  }
+
+  private static <K extends Comparable<? super K>> ARTNode<K, NodeReferences> deserializeARTNode(
+      final DataInput source, final NodeKind kind, final @Nonnegative long recordID) throws IOException {
+    final byte[] prefix = new byte[(int) getVarLong(source)];
+    source.readFully(prefix);
+    final int childCount = (int) getVarLong(source);
+    final int[] partialKeys = new int[childCount];
+    if (ARTNode.Layout.forChildCount(childCount) == ARTNode.Layout.NODE_256) {
+      final byte[] bitmap = new byte[32];
+      source.readFully(bitmap);
+      for (int partialKey = 0, i = 0; partialKey < 256; partialKey++) {
+        if ((bitmap[partialKey >>> 3] & (1 << (partialKey & 7))) != 0) {
+          partialKeys[i++] = partialKey;
+        }
+      }
+    } else {
+      for (int i = 0; i < childCount; i++) {
+        partialKeys[i] = source.readUnsignedByte();
+      }
+    }
+    final long[] childKeys = new long[childCount];
+    for (int i = 0; i < childCount; i++) {
+      childKeys[i] = getVarLong(source);
+    }
+    final NodeReferences value = source.readBoolean() ? deserializeNodeReferences(source) : null;
+    final long revision = getVarLong(source);
+    // The key is deserialized afterwards by the node kind. The transaction isn't used, as it's missing for overflow
+    // pages.
+    final NodeDelegate nodeDel =
+        new NodeDelegate(recordID, Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), null, null, revision, null);
+    return new ARTNode<>(kind, nodeDel, prefix, null, value, partialKeys, childKeys);
   }
 
   private static final void serializeDelegate(final NodeDelegate nodeDel, final DataOutput sink) throws IOException {
@@ -1902,6 +2400,18 @@ public enum NodeKind implements NodePersistenter {
     return new NameNodeDelegate(nodeDel, uriKey, prefixKey, localNameKey, getVarLong(source));
   }
 
+  private static ValueNodeDelegate deserializeValDelegate(final NodeDelegate nodeDel, final DataInput source,
+      final PageReadOnlyTrx pageReadTrx) throws IOException {
+    final byte compressorID = source.readByte();
+    final byte[] vals = new byte[source.readInt()];
+    source.readFully(vals, 0, vals.length);
+    final ResourceConfiguration resourceConfig = pageReadTrx.getResourceManager().getResourceConfig();
+    final boolean isCompressed = compressorID != ValueCompressor.NONE.getId();
+    final ValueCompressor compressor =
+        isCompressed ? ValueCompressor.getKind(compressorID) : resourceConfig.getValueCompressor();
+    return new ValueNodeDelegate(nodeDel, vals, isCompressed, compressor, resourceConfig.valueCompressionThreshold);
+  }
+
   /**
    * Serializing the {@link NameNodeDelegate} instance.
    *
@@ -1925,31 +2435,14 @@ public enum NodeKind implements NodePersistenter {
   private static final void serializeValDelegate(final ValueNodeDelegate valueDel, final DataOutput sink)
       throws IOException {
     final boolean isCompressed = valueDel.isCompressed();
-    sink.writeByte(isCompressed ? (byte) 1 : (byte) 0);
+    sink.writeByte(isCompressed ? valueDel.getCompressor().getId() : ValueCompressor.NONE.getId());
     final byte[] value = isCompressed ? valueDel.getCompressed() : valueDel.getRawValue();
     sink.writeInt(value.length);
     sink.write(value);
   }
 
-  private static BigInteger readHash(final DataInput source) throws IOException {
-    final byte[] hashBytes = new byte[source.readByte()];
-    source.readFully(hashBytes);
-    return new BigInteger(1, hashBytes);
-  }
-
-  private static void writeHash(final DataOutput sink, final BigInteger hashCode) throws IOException {
-    final byte[] bigIntegerBytes = hashCode.toByteArray();
-    final List<Byte> bytes = new ArrayList<>();
-    final int maxLength = Math.min(bigIntegerBytes.length, 17);
-
-    for (int i = 1; i < maxLength; i++) {
-      bytes.add(bigIntegerBytes[i]);
-    }
-
-    assert bytes.size() < 17;
-
-    sink.writeByte(bigIntegerBytes.length);
-    sink.write(bigIntegerBytes);
+  private static void writeHash(final DataOutput sink, final NodeDelegate nodeDel) throws IOException {
+    Hash128.serialize(sink, nodeDel.getHashHigh(), nodeDel.getHashLow());
   }
 
   /**
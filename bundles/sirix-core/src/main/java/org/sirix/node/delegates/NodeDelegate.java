@@ -25,6 +25,7 @@ import com.google.common.base.Objects;
 import com.google.common.hash.Funnel;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.PrimitiveSink;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.interfaces.Node;
@@ -55,8 +56,11 @@ public class NodeDelegate implements Node {
   /** Key of the parent node. */
   private long parentKey;
 
-  /** Hash of the parent node. */
-  private final BigInteger hashCode;
+  /** Upper 64 bits of the hash of the node, which is {@code 0} together with the lower bits if no hash is set. */
+  private long hashHigh;
+
+  /** Lower 64 bits of the hash of the node. */
+  private long hashLow;
 
   /**
    * TypeKey of the parent node. Can be referenced later on over special pages.
@@ -77,19 +81,22 @@ public class NodeDelegate implements Node {
    *
    * @param nodeKey node key
    * @param parentKey parent node key
-   * @param hashCode hash code of the node
    * @param hashFunction the hash function used to compute hash codes
+   * @param hash hash of the node (may be {@code null})
    * @param revision revision this node was added
    * @param deweyID optional DeweyID
    */
   public NodeDelegate(final @Nonnegative long nodeKey, final long parentKey, final HashFunction hashFunction,
-      final BigInteger hashCode, final @Nonnegative long revision, final SirixDeweyID deweyID) {
+      final Hash128 hash, final @Nonnegative long revision, final SirixDeweyID deweyID) {
     assert nodeKey >= 0 : "nodeKey must be >= 0!";
     assert parentKey >= Fixed.NULL_NODE_KEY.getStandardProperty();
     this.nodeKey = nodeKey;
     this.parentKey = parentKey;
     mHashFunction = hashFunction;
-    this.hashCode = hashCode;
+    if (hash != null) {
+      hashHigh = hash.getHigh();
+      hashLow = hash.getLow();
+    }
     this.revision = revision;
     typeKey = TYPE_KEY;
     sirixDeweyID = deweyID;
@@ -129,17 +136,69 @@ public class NodeDelegate implements Node {
 
   @Override
   public BigInteger getHash() {
-    throw new UnsupportedOperationException();
+    return hasHash() ? Hash128.toBigInteger(hashHigh, hashLow) : null;
+  }
+
+  @Override
+  public Hash128 getHash(final Hash128 target) {
+    return target.set(hashHigh, hashLow);
   }
 
   @Override
   public void setHash(final BigInteger hash) {
-    throw new UnsupportedOperationException();
+    if (hash == null) {
+      clearHash();
+    } else {
+      final BigInteger reducedHash = Node.to128BitsAtMaximumBigInteger(hash);
+      hashHigh = reducedHash.shiftRight(64).longValue();
+      hashLow = reducedHash.longValue();
+    }
+  }
+
+  @Override
+  public void setHash(final Hash128 hash) {
+    hashHigh = hash.getHigh();
+    hashLow = hash.getLow();
+  }
+
+  /**
+   * Remove the stored hash, for instance if it has to be recomputed.
+   */
+  public void clearHash() {
+    hashHigh = 0;
+    hashLow = 0;
+  }
+
+  /**
+   * Determines if a hash is stored.
+   *
+   * @return {@code true}, if a (non-zero) hash is stored, {@code false} otherwise
+   */
+  public boolean hasHash() {
+    return (hashHigh | hashLow) != 0;
+  }
+
+  /**
+   * Get the upper 64 bits of the stored hash.
+   *
+   * @return the upper 64 bits of the hash
+   */
+  public long getHashHigh() {
+    return hashHigh;
+  }
+
+  /**
+   * Get the lower 64 bits of the stored hash.
+   *
+   * @return the lower 64 bits of the hash
+   */
+  public long getHashLow() {
+    return hashLow;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(nodeKey, typeKey, hashCode, parentKey);
+    return Objects.hashCode(nodeKey, typeKey, parentKey);
   }
 
   @Override
@@ -150,7 +209,7 @@ public class NodeDelegate implements Node {
     final NodeDelegate other = (NodeDelegate) otherObj;
 
     return Objects.equal(nodeKey, other.nodeKey) && Objects.equal(typeKey, other.typeKey)
-        && Objects.equal(hashCode, other.hashCode) && Objects.equal(parentKey, other.parentKey);
+        && Objects.equal(parentKey, other.parentKey);
   }
 
   @Override
@@ -159,7 +218,7 @@ public class NodeDelegate implements Node {
                       .add("node key", nodeKey)
                       .add("parent key", parentKey)
                       .add("type key", typeKey)
-                      .add("hash", hashCode)
+                      .add("hash", getHash())
                       .add("deweyID", sirixDeweyID)
                       .toString();
   }
@@ -22,14 +22,13 @@ package org.sirix.node.delegates;
 
 import java.math.BigInteger;
 import java.util.Arrays;
-import java.util.zip.Deflater;
 import javax.annotation.Nullable;
 import org.sirix.node.AbstractForwardingNode;
 import org.sirix.node.NodeKind;
 import org.sirix.node.interfaces.Node;
 import org.sirix.node.interfaces.ValueNode;
 import org.sirix.settings.Constants;
-import org.sirix.utils.Compression;
+import org.sirix.utils.ValueCompressor;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
 
@@ -51,6 +50,18 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
   /** Determines if input has been compressed. */
   private boolean mCompressed;
 
+  /** The codec, which is used to compress the value. */
+  private final ValueCompressor mCompressor;
+
+  /** Values with at most this number of bytes aren't compressed. */
+  private final int mCompressionThreshold;
+
+  /**
+   * The decompressed value, such that a compressed value is decompressed at most once. Readers might share the
+   * record, thus the field is volatile.
+   */
+  private volatile byte[] mDecompressedValue;
+
   /**
    * Constructor
    *
@@ -59,11 +70,29 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
    * @param compressed compress value or not
    */
   public ValueNodeDelegate(final NodeDelegate nodeDel, final byte[] val, final boolean compressed) {
+    this(nodeDel, val, compressed, ValueCompressor.DEFLATE, ValueCompressor.DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param nodeDel {@link NodeDelegate} reference
+   * @param val the value
+   * @param compressed determines if the value has been compressed with the {@code compressor}
+   * @param compressor the codec, which is used to compress values ({@link ValueCompressor#NONE}, if values should
+   *        never be compressed)
+   * @param compressionThreshold values with at most this number of bytes aren't compressed
+   */
+  public ValueNodeDelegate(final NodeDelegate nodeDel, final byte[] val, final boolean compressed,
+      final ValueCompressor compressor, final int compressionThreshold) {
     assert nodeDel != null : "nodeDel must not be null!";
     assert val != null : "val must not be null!";
+    assert compressor != null : "compressor must not be null!";
     mDelegate = nodeDel;
     mValue = val;
     mCompressed = compressed;
+    mCompressor = compressor;
+    mCompressionThreshold = compressionThreshold;
   }
 
   @Override
@@ -83,9 +112,15 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
 
   @Override
   public byte[] getRawValue() {
-    return mCompressed
-        ? Compression.decompress(mValue)
-        : mValue;
+    if (!mCompressed) {
+      return mValue;
+    }
+    byte[] decompressedValue = mDecompressedValue;
+    if (decompressedValue == null) {
+      decompressedValue = mCompressor.decompress(mValue);
+      mDecompressedValue = decompressedValue;
+    }
+    return decompressedValue;
   }
 
   @Override
@@ -104,12 +139,13 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
 
   @Override
   public void setValue(final byte[] value) {
-    mCompressed = new String(value).length() > 10
-        ? true
-        : false;
+    mCompressed = mCompressor.shouldCompress(value, mCompressionThreshold);
     mValue = mCompressed
-        ? Compression.compress(value, Deflater.DEFAULT_COMPRESSION)
+        ? mCompressor.compress(value)
         : value;
+    mDecompressedValue = mCompressed
+        ? value
+        : null;
   }
 
   /**
@@ -121,6 +157,15 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
     return mCompressed;
   }
 
+  /**
+   * Get the codec, which is used to compress the value.
+   *
+   * @return the codec
+   */
+  public ValueCompressor getCompressor() {
+    return mCompressor;
+  }
+
   /**
    * Set compression.
    *
@@ -128,6 +173,7 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
    */
   public void setCompressed(final boolean compressed) {
     mCompressed = compressed;
+    mDecompressedValue = null;
   }
 
   @Override
@@ -22,6 +22,7 @@
 package org.sirix.node.interfaces;
 
 import java.math.BigInteger;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
@@ -60,6 +61,15 @@ public interface Node extends ImmutableNode {
    */
   void setHash(BigInteger hash);
 
+  /**
+   * Set the actual hash of the structure without creating a {@link BigInteger}.
+   *
+   * @param hash hash for this node
+   */
+  default void setHash(Hash128 hash) {
+    setHash(hash.toBigInteger());
+  }
+
   /**
    * Set the parent key.
    *
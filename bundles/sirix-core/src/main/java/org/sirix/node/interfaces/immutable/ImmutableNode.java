@@ -2,6 +2,7 @@ package org.sirix.node.interfaces.immutable;
 
 import java.math.BigInteger;
 import javax.annotation.Nullable;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.interfaces.Node;
 import org.sirix.node.interfaces.DataRecord;
@@ -31,6 +32,16 @@ public interface ImmutableNode extends DataRecord {
    */
   BigInteger getHash();
 
+  /**
+   * Getting the stored hash without creating a {@link BigInteger}.
+   *
+   * @param target the hash to copy the stored hash into (it's cleared if no hash is stored)
+   * @return the target hash
+   */
+  default Hash128 getHash(final Hash128 target) {
+    return target.set(getHash());
+  }
+
   /**
    * Compute the hash code.
    * @return the computed hash code
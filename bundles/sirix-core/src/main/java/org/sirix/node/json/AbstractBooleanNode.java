@@ -2,6 +2,7 @@ package org.sirix.node.json;
 
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
 import org.sirix.node.immutable.json.ImmutableBooleanNode;
@@ -17,8 +18,6 @@ public abstract class AbstractBooleanNode extends AbstractStructForwardingNode i
 
   private boolean boolValue;
 
-  private BigInteger hashCode;
-
   public AbstractBooleanNode(StructNodeDelegate structNodeDelegate, final boolean boolValue) {
     this.structNodeDelegate = structNodeDelegate;
     this.boolValue = boolValue;
@@ -38,20 +37,22 @@ public abstract class AbstractBooleanNode extends AbstractStructForwardingNode i
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
-    if (hash != null) {
-      hashCode = Node.to128BitsAtMaximumBigInteger(hash);
-    } else {
-      hashCode = null;
-    }
+  public BigInteger getHash() {
+    computeHashIfAbsent();
+    return delegate().getHash();
   }
 
   @Override
-  public BigInteger getHash() {
-    if (hashCode == null) {
-      hashCode = computeHash();
+  public Hash128 getHash(final Hash128 target) {
+    computeHashIfAbsent();
+    return delegate().getHash(target);
+  }
+
+  private void computeHashIfAbsent() {
+    final NodeDelegate nodeDelegate = delegate();
+    if (!nodeDelegate.hasHash()) {
+      nodeDelegate.setHash(computeHash());
     }
-    return hashCode;
   }
 
   public void setValue(final boolean value) {
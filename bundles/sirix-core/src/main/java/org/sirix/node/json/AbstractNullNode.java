@@ -1,5 +1,6 @@
 package org.sirix.node.json;
 
+import org.sirix.node.Hash128;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
 import org.sirix.node.interfaces.Node;
@@ -11,8 +12,6 @@ import java.math.BigInteger;
 public abstract class AbstractNullNode extends AbstractStructForwardingNode implements ImmutableJsonNode {
   private StructNodeDelegate structNodeDelegate;
 
-  private BigInteger hashCode;
-
   public AbstractNullNode(StructNodeDelegate mStructNodeDel) {
     this.structNodeDelegate = mStructNodeDel;
   }
@@ -29,20 +28,22 @@ public abstract class AbstractNullNode extends AbstractStructForwardingNode impl
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
-    if (hash != null) {
-      hashCode = Node.to128BitsAtMaximumBigInteger(hash);
-    } else {
-      hashCode = null;
-    }
+  public BigInteger getHash() {
+    computeHashIfAbsent();
+    return delegate().getHash();
   }
 
   @Override
-  public BigInteger getHash() {
-    if (hashCode == null) {
-      hashCode = computeHash();
+  public Hash128 getHash(final Hash128 target) {
+    computeHashIfAbsent();
+    return delegate().getHash(target);
+  }
+
+  private void computeHashIfAbsent() {
+    final NodeDelegate nodeDelegate = delegate();
+    if (!nodeDelegate.hasHash()) {
+      nodeDelegate.setHash(computeHash());
     }
-    return hashCode;
   }
 
   @Override
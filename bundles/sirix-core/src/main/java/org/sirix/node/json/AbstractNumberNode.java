@@ -3,6 +3,7 @@ package org.sirix.node.json;
 import com.google.common.hash.HashCode;
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
 import org.sirix.node.immutable.json.ImmutableNumberNode;
@@ -17,8 +18,6 @@ public abstract class AbstractNumberNode extends AbstractStructForwardingNode im
   private StructNodeDelegate structNodeDelegate;
   private Number number;
 
-  private BigInteger hashCode;
-
   public AbstractNumberNode(StructNodeDelegate structNodeDel, Number number) {
     this.structNodeDelegate = structNodeDel;
     this.number = number;
@@ -42,20 +41,22 @@ public abstract class AbstractNumberNode extends AbstractStructForwardingNode im
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
-    if (hash != null) {
-      hashCode = Node.to128BitsAtMaximumBigInteger(hash);
-    } else {
-      hashCode = null;
-    }
+  public BigInteger getHash() {
+    computeHashIfAbsent();
+    return delegate().getHash();
   }
 
   @Override
-  public BigInteger getHash() {
-    if (hashCode == null) {
-      hashCode = computeHash();
+  public Hash128 getHash(final Hash128 target) {
+    computeHashIfAbsent();
+    return delegate().getHash(target);
+  }
+
+  private void computeHashIfAbsent() {
+    final NodeDelegate nodeDelegate = delegate();
+    if (!nodeDelegate.hasHash()) {
+      nodeDelegate.setHash(computeHash());
     }
-    return hashCode;
   }
 
   public void setValue(final Number number) {
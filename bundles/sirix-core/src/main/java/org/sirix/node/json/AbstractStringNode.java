@@ -1,5 +1,6 @@
 package org.sirix.node.json;
 
+import org.sirix.node.Hash128;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
 import org.sirix.node.delegates.ValueNodeDelegate;
@@ -17,8 +18,6 @@ public abstract class AbstractStringNode extends AbstractStructForwardingNode im
 
   private final StructNodeDelegate structNodeDelegate;
 
-  private BigInteger hashCode;
-
   public AbstractStringNode(ValueNodeDelegate valueNodeDelegate, StructNodeDelegate structNodeDelegate) {
     this.valueNodeDelegate = valueNodeDelegate;
     this.structNodeDelegate = structNodeDelegate;
@@ -38,20 +37,22 @@ public abstract class AbstractStringNode extends AbstractStructForwardingNode im
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
-    if (hash != null) {
-      hashCode = Node.to128BitsAtMaximumBigInteger(hash);
-    } else {
-      hashCode = null;
-    }
+  public BigInteger getHash() {
+    computeHashIfAbsent();
+    return delegate().getHash();
   }
 
   @Override
-  public BigInteger getHash() {
-    if (hashCode == null) {
-      hashCode = computeHash();
+  public Hash128 getHash(final Hash128 target) {
+    computeHashIfAbsent();
+    return delegate().getHash(target);
+  }
+
+  private void computeHashIfAbsent() {
+    final NodeDelegate nodeDelegate = delegate();
+    if (!nodeDelegate.hasHash()) {
+      nodeDelegate.setHash(computeHash());
     }
-    return hashCode;
   }
 
   @Override
@@ -52,8 +52,6 @@ public final class ArrayNode extends AbstractStructForwardingNode implements Imm
   /** The path node key. */
   private final long pathNodeKey;
 
-  private BigInteger hash;
-
   /**
    * Constructor
    *
@@ -66,19 +64,6 @@ public final class ArrayNode extends AbstractStructForwardingNode implements Imm
     this.pathNodeKey = pathNodeKey;
   }
 
-  /**
-   * Constructor
-   *
-   * @param structDel {@link StructNodeDelegate} to be set
-   * @param pathNodeKey the path node key
-   */
-  public ArrayNode(final BigInteger hashCode, final StructNodeDelegate structDel, final long pathNodeKey) {
-    hash = hashCode;
-    assert structDel != null;
-    structNodeDel = structDel;
-    this.pathNodeKey = pathNodeKey;
-  }
-
   @Override
   public NodeKind getKind() {
     return NodeKind.ARRAY;
@@ -94,16 +79,6 @@ public final class ArrayNode extends AbstractStructForwardingNode implements Imm
     return Node.to128BitsAtMaximumBigInteger(result);
   }
 
-  @Override
-  public void setHash(final BigInteger hash) {
-    this.hash = Node.to128BitsAtMaximumBigInteger(hash);
-  }
-
-  @Override
-  public BigInteger getHash() {
-    return hash;
-  }
-
   @Override
   protected NodeDelegate delegate() {
     return structNodeDel.getNodeDelegate();
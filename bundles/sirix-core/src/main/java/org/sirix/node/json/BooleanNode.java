@@ -22,7 +22,6 @@
 package org.sirix.node.json;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import java.math.BigInteger;
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.node.NodeKind;
@@ -42,18 +41,6 @@ import org.sirix.node.xml.AbstractStructForwardingNode;
  */
 public final class BooleanNode extends AbstractBooleanNode {
 
-  /**
-   * Constructor.
-   *
-   * @param hashCode the hash code of the node
-   * @param boolValue the boolean value
-   * @param structNodeDelegate delegate for {@link StructNode} implementation
-   */
-  public BooleanNode(final BigInteger hashCode, final boolean boolValue, final StructNodeDelegate structNodeDelegate) {
-    super(structNodeDelegate, boolValue);
-    setHash(hashCode);
-  }
-
   /**
    * Constructor.
    *
@@ -27,6 +27,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
@@ -52,9 +53,6 @@ public final class JsonDocumentRootNode extends AbstractStructForwardingNode imp
   /** {@link StructNodeDelegate} reference. */
   private final StructNodeDelegate mStructNodeDel;
 
-  /** The hash code of the node. */
-  private BigInteger mHash;
-
   /**
    * Constructor.
    *
@@ -82,15 +80,21 @@ public final class JsonDocumentRootNode extends AbstractStructForwardingNode imp
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
-    mHash = Node.to128BitsAtMaximumBigInteger(hash);
+  public BigInteger getHash() {
+    computeHashIfAbsent();
+    return mNodeDel.getHash();
   }
 
   @Override
-  public BigInteger getHash() {
-    if (mHash == null)
-      mHash = Node.to128BitsAtMaximumBigInteger(computeHash());
-    return mHash;
+  public Hash128 getHash(final Hash128 target) {
+    computeHashIfAbsent();
+    return mNodeDel.getHash(target);
+  }
+
+  private void computeHashIfAbsent() {
+    if (!mNodeDel.hasHash()) {
+      mNodeDel.setHash(computeHash());
+    }
   }
 
   @Override
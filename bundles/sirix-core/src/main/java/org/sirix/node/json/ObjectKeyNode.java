@@ -60,8 +60,6 @@ public final class ObjectKeyNode extends AbstractStructForwardingNode implements
 
   private long pathNodeKey;
 
-  private BigInteger hash;
-
   /**
    * Constructor
    *
@@ -78,25 +76,6 @@ public final class ObjectKeyNode extends AbstractStructForwardingNode implements
     this.pathNodeKey = pathNodeKey;
   }
 
-  /**
-   * Constructor
-   *
-   * @param hashCode the hash code
-   * @param structDel {@link StructNodeDelegate} to be set
-   * @param nameKey the key of the name
-   * @param name the String name
-   * @param pathNodeKey the path node key
-   */
-  public ObjectKeyNode(final BigInteger hashCode, final StructNodeDelegate structDel, final int nameKey, final String name,
-      final long pathNodeKey) {
-    hash = hashCode;
-    assert structDel != null;
-    structNodeDel = structDel;
-    this.nameKey = nameKey;
-    this.name = name;
-    this.pathNodeKey = pathNodeKey;
-  }
-
   @Override
   public NodeKind getKind() {
     return NodeKind.OBJECT_KEY;
@@ -117,16 +96,6 @@ public final class ObjectKeyNode extends AbstractStructForwardingNode implements
     return Node.to128BitsAtMaximumBigInteger(result);
   }
 
-  @Override
-  public void setHash(final BigInteger hash) {
-    this.hash = Node.to128BitsAtMaximumBigInteger(hash);
-  }
-
-  @Override
-  public BigInteger getHash() {
-    return hash;
-  }
-
   public int getNameKey() {
     return nameKey;
   }
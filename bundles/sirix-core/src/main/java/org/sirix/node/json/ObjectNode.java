@@ -47,18 +47,6 @@ public final class ObjectNode extends AbstractStructForwardingNode implements Im
 
   /** {@link StructNodeDelegate} reference. */
   private final StructNodeDelegate structNodeDel;
-  private BigInteger hash;
-
-  /**
-   * Constructor
-   *
-   * @param structDel {@link StructNodeDelegate} to be set
-   */
-  public ObjectNode(final BigInteger hashCode, final StructNodeDelegate structDel) {
-    hash = hashCode;
-    assert structDel != null;
-    structNodeDel = structDel;
-  }
 
   /**
    * Constructor
@@ -85,18 +73,6 @@ public final class ObjectNode extends AbstractStructForwardingNode implements Im
     return Node.to128BitsAtMaximumBigInteger(result);
   }
 
-  @Override
-  public void setHash(final BigInteger hash) {
-    this.hash = Node.to128BitsAtMaximumBigInteger(hash);
-
-    assert this.hash.toByteArray().length <= 17;
-  }
-
-  @Override
-  public BigInteger getHash() {
-    return hash;
-  }
-
   @Override
   public VisitResult acceptVisitor(final JsonNodeVisitor visitor) {
     return visitor.visit(ImmutableObjectNode.of(this));
@@ -6,7 +6,6 @@ import org.sirix.node.delegates.StructNodeDelegate;
 import org.sirix.node.interfaces.StructNode;
 
 import javax.annotation.Nonnegative;
-import java.math.BigInteger;
 
 /**
  * Skeletal implementation of {@link StructNode} interface.
@@ -32,11 +31,6 @@ public abstract class AbstractStructForwardingNode extends AbstractForwardingNod
     return structDelegate();
   }
 
-  @Override
-  public BigInteger getHash() {
-    return structDelegate().getHash();
-  }
-
   @Override
   public boolean hasFirstChild() {
     return structDelegate().hasFirstChild();
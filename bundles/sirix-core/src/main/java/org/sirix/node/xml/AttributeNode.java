@@ -64,8 +64,6 @@ public final class AttributeNode extends AbstractForwardingNode implements Value
   /** The qualified name. */
   private final QNm mQNm;
 
-  private BigInteger mHash;
-
   /**
    * Creating an attribute.
    *
@@ -85,26 +83,6 @@ public final class AttributeNode extends AbstractForwardingNode implements Value
     mQNm = qNm;
   }
 
-  /**
-   * Creating an attribute.
-   *
-   * @param nodeDel {@link NodeDelegate} to be set
-   * @param nodeDel {@link StructNodeDelegate} to be set
-   * @param valDel {@link ValueNodeDelegate} to be set
-   */
-  public AttributeNode(final BigInteger hashCode, final NodeDelegate nodeDel, final NameNodeDelegate nameDel,
-      final ValueNodeDelegate valDel, final QNm qNm) {
-    mHash = hashCode;
-    assert nodeDel != null : "nodeDel must not be null!";
-    mNodeDel = nodeDel;
-    assert nameDel != null : "nameDel must not be null!";
-    mNameDel = nameDel;
-    assert valDel != null : "valDel must not be null!";
-    mValDel = valDel;
-    assert qNm != null : "qNm must not be null!";
-    mQNm = qNm;
-  }
-
   @Override
   public NodeKind getKind() {
     return NodeKind.ATTRIBUTE;
@@ -125,16 +103,6 @@ public final class AttributeNode extends AbstractForwardingNode implements Value
     return Node.to128BitsAtMaximumBigInteger(result);
   }
 
-  @Override
-  public void setHash(BigInteger hash) {
-    mHash = Node.to128BitsAtMaximumBigInteger(hash);
-  }
-
-  @Override
-  public BigInteger getHash() {
-    return mHash;
-  }
-
   @Override
   public VisitResult acceptVisitor(final XmlNodeVisitor visitor) {
     return visitor.visit(ImmutableAttributeNode.of(this));
@@ -38,22 +38,6 @@ public final class CommentNode extends AbstractStructForwardingNode implements V
   /** Value of the node. */
   private byte[] mValue;
 
-  private BigInteger mHash;
-
-  /**
-   * Constructor for TextNode.
-   *
-   * @param valDel delegate for {@link ValueNode} implementation
-   * @param structDel delegate for {@link StructNode} implementation
-   */
-  public CommentNode(final BigInteger hashCode, final ValueNodeDelegate valDel, final StructNodeDelegate structDel) {
-    mHash = hashCode;
-    assert valDel != null;
-    mValDel = valDel;
-    assert structDel != null;
-    mStructNodeDel = structDel;
-  }
-
   /**
    * Constructor for TextNode.
    *
@@ -87,16 +71,6 @@ public final class CommentNode extends AbstractStructForwardingNode implements V
     return Node.to128BitsAtMaximumBigInteger(result);
   }
 
-  @Override
-  public void setHash(final BigInteger hash) {
-    mHash = Node.to128BitsAtMaximumBigInteger(hash);
-  }
-
-  @Override
-  public BigInteger getHash() {
-    return mHash;
-  }
-
   @Override
   public byte[] getRawValue() {
     if (mValue == null) {
@@ -73,34 +73,6 @@ public final class ElementNode extends AbstractStructForwardingNode implements N
   /** The qualified name. */
   private final QNm mQNm;
 
-  private BigInteger mHash;
-
-  /**
-   * Constructor
-   *
-   * @param structDel {@link StructNodeDelegate} to be set
-   * @param nameDel {@link NameNodeDelegate} to be set
-   * @param attributeKeys list of attribute keys
-   * @param attributes attribute nameKey / nodeKey mapping in both directions
-   * @param namespaceKeys keys of namespaces to be set
-   */
-  public ElementNode(final BigInteger hashCode, final StructNodeDelegate structDel, final NameNodeDelegate nameDel, final List<Long> attributeKeys,
-      final BiMap<Long, Long> attributes, final List<Long> namespaceKeys, final QNm qNm) {
-    mHash = hashCode;
-    assert structDel != null;
-    structNodeDel = structDel;
-    assert nameDel != null;
-    mNameDel = nameDel;
-    assert attributeKeys != null;
-    mAttributeKeys = attributeKeys;
-    assert attributes != null;
-    mAttributes = attributes;
-    assert namespaceKeys != null;
-    mNamespaceKeys = namespaceKeys;
-    assert qNm != null;
-    mQNm = qNm;
-  }
-
   /**
    * Constructor
    *
@@ -294,18 +266,6 @@ public final class ElementNode extends AbstractStructForwardingNode implements N
     return Node.to128BitsAtMaximumBigInteger(result);
   }
 
-  @Override
-  public void setHash(final BigInteger hash) {
-    mHash = Node.to128BitsAtMaximumBigInteger(hash);
-
-    assert mHash.toByteArray().length <= 17;
-  }
-
-  @Override
-  public BigInteger getHash() {
-    return mHash;
-  }
-
   @Override
   public int hashCode() {
     return Objects.hashCode(delegate(), mNameDel);
@@ -56,8 +56,6 @@ public final class NamespaceNode extends AbstractForwardingNode implements NameN
   /** The qualified name. */
   private final QNm mQNm;
 
-  private BigInteger mHash;
-
   /**
    * Constructor.
    *
@@ -74,25 +72,6 @@ public final class NamespaceNode extends AbstractForwardingNode implements NameN
     mQNm = qNm;
   }
 
-  /**
-   * Constructor.
-   *
-   * @param hashCode hash code
-   * @param nodeDel {@link NodeDelegate} reference
-   * @param nameDel {@link NameNodeDelegate} reference
-   * @param qNm The qualified name.
-   */
-  public NamespaceNode(final BigInteger hashCode, final NodeDelegate nodeDel, final NameNodeDelegate nameDel,
-      final QNm qNm) {
-    assert nodeDel != null;
-    assert nameDel != null;
-    assert qNm != null;
-    mHash = hashCode;
-    mNodeDel = nodeDel;
-    mNameDel = nameDel;
-    mQNm = qNm;
-  }
-
   @Override
   public NodeKind getKind() {
     return NodeKind.NAMESPACE;
@@ -108,16 +87,6 @@ public final class NamespaceNode extends AbstractForwardingNode implements NameN
     return Node.to128BitsAtMaximumBigInteger(result);
   }
 
-  @Override
-  public void setHash(final BigInteger hash) {
-    mHash = Node.to128BitsAtMaximumBigInteger(hash);
-  }
-
-  @Override
-  public BigInteger getHash() {
-    return mHash;
-  }
-
   @Override
   public int getPrefixKey() {
     return mNameDel.getPrefixKey();
@@ -135,19 +104,19 @@ public final class NamespaceNode extends AbstractForwardingNode implements NameN
 
   @Override
   public void setPrefixKey(final int prefixKey) {
-    mHash = null;
+    delegate().clearHash();
     mNameDel.setPrefixKey(prefixKey);
   }
 
   @Override
   public void setLocalNameKey(final int localNameKey) {
-    mHash = null;
+    delegate().clearHash();
     mNameDel.setLocalNameKey(localNameKey);
   }
 
   @Override
   public void setURIKey(final int uriKey) {
-    mHash = null;
+    delegate().clearHash();
     mNameDel.setURIKey(uriKey);
   }
 
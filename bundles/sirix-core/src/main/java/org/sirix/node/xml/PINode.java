@@ -41,28 +41,6 @@ public final class PINode extends AbstractStructForwardingNode implements ValueN
   /** {@link PageReadOnlyTrx} reference. */
   private final PageReadOnlyTrx mPageReadTrx;
 
-  private BigInteger mHash;
-
-  /**
-   * Creating a processing instruction.
-   *
-   * @param structDel {@link StructNodeDelegate} to be set
-   * @param nameDel {@link NameNodeDelegate} to be set
-   * @param valDel {@link ValueNodeDelegate} to be set
-   */
-  public PINode(final BigInteger hashCode, final StructNodeDelegate structDel, final NameNodeDelegate nameDel,
-      final ValueNodeDelegate valDel, final PageReadOnlyTrx pageReadTrx) {
-    mHash = hashCode;
-    assert structDel != null : "structDel must not be null!";
-    mStructNodeDel = structDel;
-    assert nameDel != null : "nameDel must not be null!";
-    mNameDel = nameDel;
-    assert valDel != null : "valDel must not be null!";
-    mValDel = valDel;
-    assert pageReadTrx != null : "pageReadTrx must not be null!";
-    mPageReadTrx = pageReadTrx;
-  }
-
   /**
    * Creating a processing instruction.
    *
@@ -100,16 +78,6 @@ public final class PINode extends AbstractStructForwardingNode implements ValueN
     return Node.to128BitsAtMaximumBigInteger(result);
   }
 
-  @Override
-  public void setHash(final BigInteger hash) {
-    mHash = Node.to128BitsAtMaximumBigInteger(hash);
-  }
-
-  @Override
-  public BigInteger getHash() {
-    return mHash;
-  }
-
   @Override
   public VisitResult acceptVisitor(final XmlNodeVisitor visitor) {
     return visitor.visit(ImmutablePI.of(this));
@@ -141,19 +109,19 @@ public final class PINode extends AbstractStructForwardingNode implements ValueN
 
   @Override
   public void setPrefixKey(final int prefixKey) {
-    mHash = null;
+    delegate().clearHash();
     mNameDel.setPrefixKey(prefixKey);
   }
 
   @Override
   public void setLocalNameKey(final int localNameKey) {
-    mHash = null;
+    delegate().clearHash();
     mNameDel.setLocalNameKey(localNameKey);
   }
 
   @Override
   public void setURIKey(final int uriKey) {
-    mHash = null;
+    delegate().clearHash();
     mNameDel.setURIKey(uriKey);
   }
 
@@ -164,7 +132,7 @@ public final class PINode extends AbstractStructForwardingNode implements ValueN
 
   @Override
   public void setValue(final byte[] value) {
-    mHash = null;
+    delegate().clearHash();
     mValDel.setValue(value);
   }
 
@@ -184,7 +152,7 @@ public final class PINode extends AbstractStructForwardingNode implements ValueN
 
   @Override
   public void setPathNodeKey(final @Nonnegative long pathNodeKey) {
-    mHash = null;
+    delegate().clearHash();
     mNameDel.setPathNodeKey(pathNodeKey);
   }
 
@@ -57,22 +57,6 @@ public final class TextNode extends AbstractStructForwardingNode implements Valu
   /** Value of the node. */
   private byte[] mValue;
 
-  private BigInteger mHash;
-
-  /**
-   * Constructor for TextNode.
-   *
-   * @param valDel delegate for {@link ValueNode} implementation
-   * @param structDel delegate for {@link StructNode} implementation
-   */
-  public TextNode(final BigInteger hashCode, final ValueNodeDelegate valDel, final StructNodeDelegate structDel) {
-    mHash = hashCode;
-    assert structDel != null;
-    mStructNodeDel = structDel;
-    assert valDel != null;
-    mValDel = valDel;
-  }
-
   /**
    * Constructor for TextNode.
    *
@@ -97,16 +81,6 @@ public final class TextNode extends AbstractStructForwardingNode implements Valu
     return Node.to128BitsAtMaximumBigInteger(result);
   }
 
-  @Override
-  public void setHash(final BigInteger hash) {
-    mHash = Node.to128BitsAtMaximumBigInteger(hash);
-  }
-
-  @Override
-  public BigInteger getHash() {
-    return mHash;
-  }
-
   @Override
   public NodeKind getKind() {
     return NodeKind.TEXT;
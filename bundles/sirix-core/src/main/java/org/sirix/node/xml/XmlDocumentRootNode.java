@@ -24,6 +24,7 @@ package org.sirix.node.xml;
 import com.google.common.base.Objects;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.api.visitor.XmlNodeVisitor;
+import org.sirix.node.Hash128;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.delegates.NodeDelegate;
@@ -53,8 +54,6 @@ public final class XmlDocumentRootNode extends AbstractStructForwardingNode impl
   /** {@link StructNodeDelegate} reference. */
   private final StructNodeDelegate mStructNodeDel;
 
-  private BigInteger mHash;
-
   /**
    * Constructor.
    *
@@ -82,15 +81,21 @@ public final class XmlDocumentRootNode extends AbstractStructForwardingNode impl
   }
 
   @Override
-  public void setHash(final BigInteger hash) {
-    mHash = Node.to128BitsAtMaximumBigInteger(hash);
+  public BigInteger getHash() {
+    computeHashIfAbsent();
+    return mNodeDel.getHash();
   }
 
   @Override
-  public BigInteger getHash() {
-    if (mHash == null)
-      mHash = Node.to128BitsAtMaximumBigInteger(computeHash());
-    return mHash;
+  public Hash128 getHash(final Hash128 target) {
+    computeHashIfAbsent();
+    return mNodeDel.getHash(target);
+  }
+
+  private void computeHashIfAbsent() {
+    if (!mNodeDel.hasHash()) {
+      mNodeDel.setHash(computeHash());
+    }
   }
 
   @Override
@@ -88,6 +88,16 @@ public final class RevisionRootPage extends AbstractForwardingPage {
    */
   private static final int DEWEYID_REFERENCE_OFFSET = 7;
 
+  /**
+   * Flag, which denotes that a user is stored.
+   */
+  private static final int HAS_USER_FLAG = 1;
+
+  /**
+   * Flag, which denotes that the changes of the revision are stored in the changed nodes index.
+   */
+  private static final int CHANGED_NODES_INDEXED_FLAG = 1 << 1;
+
   /**
    * Last allocated node key.
    */
@@ -143,6 +153,17 @@ public final class RevisionRootPage extends AbstractForwardingPage {
    */
   private User user;
 
+  /**
+   * Determines if the changed nodes index stores all changes of the revision.
+   */
+  private boolean areChangedNodesIndexed;
+
+  /**
+   * Determines if the page has been read from the storage, such that it keeps its commit timestamp if it is written
+   * again, for instance by a compaction.
+   */
+  private final boolean isDeserialized;
+
   /**
    * Create revision root page.
    */
@@ -160,6 +181,7 @@ public final class RevisionRootPage extends AbstractForwardingPage {
     currentMaxLevelOfDocumentIndexIndirectPages = 1;
     currentMaxLevelOfChangedNodesIndirectPages = 1;
     currentMaxLevelOfRecordToRevisionsIndirectPages = 1;
+    isDeserialized = false;
   }
 
   /**
@@ -183,11 +205,15 @@ public final class RevisionRootPage extends AbstractForwardingPage {
     currentMaxLevelOfChangedNodesIndirectPages = in.readByte() & 0xFF;
     currentMaxLevelOfRecordToRevisionsIndirectPages = in.readByte() & 0xFF;
 
-    if (in.readBoolean()) {
+    // Pages written before the changed nodes index has been maintained only store if a user is stored.
+    final byte flags = in.readByte();
+    areChangedNodesIndexed = (flags & CHANGED_NODES_INDEXED_FLAG) != 0;
+    if ((flags & HAS_USER_FLAG) != 0) {
       user = new User(in.readUTF(), UUID.fromString(in.readUTF()));
     } else {
       user = null;
     }
+    isDeserialized = true;
   }
 
   /**
@@ -210,6 +236,7 @@ public final class RevisionRootPage extends AbstractForwardingPage {
     currentMaxLevelOfChangedNodesIndirectPages = committedRevisionRootPage.currentMaxLevelOfChangedNodesIndirectPages;
     currentMaxLevelOfRecordToRevisionsIndirectPages =
         committedRevisionRootPage.currentMaxLevelOfRecordToRevisionsIndirectPages;
+    isDeserialized = false;
   }
 
   /**
@@ -382,7 +409,9 @@ public final class RevisionRootPage extends AbstractForwardingPage {
 
   @Override
   public void serialize(final DataOutput out, final SerializationType type) throws IOException {
-    revisionTimestamp = Instant.now().toEpochMilli();
+    if (!isDeserialized) {
+      revisionTimestamp = Instant.now().toEpochMilli();
+    }
     delegate.serialize(checkNotNull(out), checkNotNull(type));
     out.writeInt(revision);
     out.writeLong(maxNodeKeyInDocumentIndex);
@@ -400,13 +429,33 @@ public final class RevisionRootPage extends AbstractForwardingPage {
     out.writeByte(currentMaxLevelOfChangedNodesIndirectPages);
     out.writeByte(currentMaxLevelOfRecordToRevisionsIndirectPages);
     final boolean hasUser = user != null;
-    out.writeBoolean(hasUser);
+    out.writeByte((hasUser ? HAS_USER_FLAG : 0) | (areChangedNodesIndexed ? CHANGED_NODES_INDEXED_FLAG : 0));
     if (hasUser) {
       out.writeUTF(user.getName());
       out.writeUTF(user.getId().toString());
     }
   }
 
+  /**
+   * Determines if the changed nodes index stores all changes of the revision relative to the previous retained
+   * revision. The changes of revisions, which have been committed before the index has been maintained, in XML
+   * resources or after reverting to a former revision, aren't indexed.
+   *
+   * @return {@code true}, if the changes of the revision are indexed, {@code false} otherwise
+   */
+  public boolean areChangedNodesIndexed() {
+    return areChangedNodesIndexed;
+  }
+
+  /**
+   * Set if the changed nodes index stores all changes of the revision.
+   *
+   * @param areChangedNodesIndexed {@code true}, if the changes of the revision are indexed, {@code false} otherwise
+   */
+  public void setChangedNodesIndexed(final boolean areChangedNodesIndexed) {
+    this.areChangedNodesIndexed = areChangedNodesIndexed;
+  }
+
   public int getCurrentMaxLevelOfDocumentIndexIndirectPages() {
     return currentMaxLevelOfDocumentIndexIndirectPages;
   }
@@ -145,6 +145,15 @@ public final class UberPage extends AbstractForwardingPage {
     return previousUberPageKey;
   }
 
+  /**
+   * Set the key of the previous uber page.
+   *
+   * @param previousUberPageKey the previous uber page key, or {@link Constants#NULL_ID_LONG} if there's none
+   */
+  public void setPreviousUberPageKey(final long previousUberPageKey) {
+    this.previousUberPageKey = previousUberPageKey;
+  }
+
   /**
    * Get indirect page reference.
    *
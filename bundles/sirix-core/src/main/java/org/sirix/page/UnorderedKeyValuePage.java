@@ -22,6 +22,7 @@ package org.sirix.page;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterators;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.api.PageReadOnlyTrx;
@@ -41,9 +42,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.*;
 import java.util.*;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Map.Entry;
+import java.util.function.IntFunction;
 
-import static java.util.stream.Collectors.toList;
 import static org.sirix.node.Utils.getVarLong;
 import static org.sirix.node.Utils.putVarLong;
 
@@ -67,25 +69,15 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
    */
   private boolean addedReferences;
 
-  /**
-   * References to overflow pages.
-   */
-  private final Map<Long, PageReference> references;
-
   /**
    * Key of record page. This is the base key of all contained nodes.
    */
   private final long recordPageKey;
 
   /**
-   * Records (must be a {@link LinkedHashMap} to provide consistent iteration order).
-   */
-  private final LinkedHashMap<Long, DataRecord> records;
-
-  /**
-   * Slots which have to be serialized.
+   * Records, slots and references to overflow pages, indexed by the offset of the record key in the page.
    */
-  private final Map<Long, byte[]> slots;
+  private final RecordSlots recordSlots;
 
   /**
    * Dewey IDs which have to be serialized.
@@ -120,10 +112,8 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
    */
   public UnorderedKeyValuePage(final PageReadOnlyTrx pageReadOnlyTrx, final UnorderedKeyValuePage pageToClone) {
     addedReferences = pageToClone.addedReferences;
-    references = pageToClone.references;
     recordPageKey = pageToClone.recordPageKey;
-    records = pageToClone.records;
-    slots = pageToClone.slots;
+    recordSlots = pageToClone.recordSlots;
     deweyIDs = pageToClone.deweyIDs;
     this.pageReadOnlyTrx = pageReadOnlyTrx;
     indexType = pageToClone.indexType;
@@ -146,10 +136,8 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     assert recordPageKey >= 0 : "recordPageKey must not be negative!";
     assert pageReadOnlyTrx != null : "The page reading trx must not be null!";
 
-    references = new LinkedHashMap<>();
     this.recordPageKey = recordPageKey;
-    records = new LinkedHashMap<>();
-    slots = new LinkedHashMap<>();
+    recordSlots = new RecordSlots();
     this.pageReadOnlyTrx = pageReadOnlyTrx;
     this.indexType = indexType;
     resourceConfig = pageReadOnlyTrx.getResourceManager().getResourceConfig();
@@ -166,7 +154,8 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
   }
 
   /**
-   * Constructor which reads the {@link UnorderedKeyValuePage} from the storage.
+   * Constructor which reads the {@link UnorderedKeyValuePage} from the storage. The records are kept in their
+   * serialized form and are only deserialized once they are requested.
    *
    * @param in          input bytes to read page from
    * @param pageReadTrx {@link PageReadOnlyTrx} implementation
@@ -177,25 +166,23 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     resourceConfig = pageReadTrx.getResourceManager().getResourceConfig();
     recordPersister = resourceConfig.recordPersister;
     this.pageReadOnlyTrx = pageReadTrx;
-    slots = new LinkedHashMap<>();
+    recordSlots = new RecordSlots();
 
     if (resourceConfig.areDeweyIDsStored && recordPersister instanceof NodePersistenter persistenter) {
       deweyIDs = new LinkedHashMap<>();
       final int deweyIDSize = in.readInt();
 
-      records = new LinkedHashMap<>(deweyIDSize);
       SirixDeweyID optionalDeweyId = null;
 
       for (int index = 0; index < deweyIDSize; index++) {
         optionalDeweyId = persistenter.deserializeDeweyID(in, optionalDeweyId, resourceConfig);
 
         if (optionalDeweyId != null) {
-          deserializeRecordAndPutIntoMap(in, optionalDeweyId);
+          readRecord(in, optionalDeweyId);
         }
       }
     } else {
       deweyIDs = Collections.emptyMap();
-      records = new LinkedHashMap<>();
     }
 
     final var entriesBitmap = SerializationType.deserializeBitSet(in);
@@ -206,48 +193,66 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     for (int index = 0; index < normalEntrySize; index++) {
       setBit = entriesBitmap.nextSetBit(setBit + 1);
       assert setBit >= 0;
-      final long key = recordPageKey * Constants.NDP_NODE_COUNT + setBit;
       final int dataSize = in.readInt();
       final byte[] data = new byte[dataSize];
       in.readFully(data);
-      final DataRecord record = recordPersister.deserialize(new DataInputStream(new ByteArrayInputStream(data)),
-                                                            key,
-                                                            null,
-                                                            this.pageReadOnlyTrx);
-      records.put(key, record);
+      recordSlots.setSerializedRecord(setBit, data, null);
     }
 
     final int overlongEntrySize = in.readInt();
-    references = new LinkedHashMap<>(overlongEntrySize);
     setBit = -1;
     for (int index = 0; index < overlongEntrySize; index++) {
       setBit = overlongEntriesBitmap.nextSetBit(setBit + 1);
       assert setBit >= 0;
-      final long key = recordPageKey * Constants.NDP_NODE_COUNT + setBit;
       final PageReference reference = new PageReference();
       reference.setKey(in.readLong());
-      references.put(key, reference);
+      recordSlots.setReference(setBit, reference);
     }
     assert pageReadTrx != null : "pageReadTrx must not be null!";
     indexType = IndexType.getType(in.readByte());
   }
 
-  private void deserializeRecordAndPutIntoMap(DataInput in, SirixDeweyID deweyId) {
+  private void readRecord(DataInput in, SirixDeweyID deweyId) {
     try {
       final long key = getVarLong(in);
       final int dataSize = in.readInt();
       final byte[] data = new byte[dataSize];
       in.readFully(data);
-      final DataRecord record = recordPersister.deserialize(new DataInputStream(new ByteArrayInputStream(data)),
-                                                            key,
-                                                            deweyId,
-                                                            pageReadOnlyTrx);
-      records.put(key, record);
+      recordSlots.setSerializedRecord(recordPageOffset(key), data, deweyId);
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
   }
 
+  /**
+   * Get a record, which is deserialized on first access, if the page has been read from the storage.
+   *
+   * @param offset      the offset of the record in the page
+   * @param pageReadTrx the transaction used to deserialize the record
+   * @return the record or {@code null}, if no record is stored at the offset
+   */
+  private DataRecord getRecord(final int offset, final PageReadOnlyTrx pageReadTrx) {
+    DataRecord record = recordSlots.getRecord(offset);
+    if (record == null) {
+      final byte[] data = recordSlots.getSerializedRecord(offset);
+      if (data == null) {
+        // Another transaction might have deserialized the record and discarded its serialized form in the meantime.
+        return recordSlots.getRecord(offset);
+      } else {
+        try {
+          record = recordPersister.deserialize(new DataInputStream(new ByteArrayInputStream(data)),
+                                               recordKey(offset),
+                                               recordSlots.getDeweyID(offset),
+                                               pageReadTrx);
+        } catch (final IOException e) {
+          throw new SirixIOException(e);
+        }
+        recordSlots.setDeserializedRecord(offset, record);
+      }
+    }
+    return record;
+  }
+
   @Override
   public long getPageKey() {
     return recordPageKey;
@@ -255,14 +260,27 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
 
   @Override
   public DataRecord getValue(final Long key) {
+    return getValue(key, pageReadOnlyTrx);
+  }
+
+  /**
+   * Get the record with the specified key. If the record hasn't been deserialized so far, the given transaction is
+   * used, as the page might be shared between transactions and outlive the transaction which has read it.
+   *
+   * @param key         the record key
+   * @param pageReadTrx the transaction used to deserialize the record
+   * @return the record with the given key, or {@code null} if not present
+   */
+  public DataRecord getValue(final Long key, final PageReadOnlyTrx pageReadTrx) {
     assert key != null : "key must not be null!";
-    DataRecord record = records.get(key);
+    final int offset = recordPageOffset(key);
+    DataRecord record = getRecord(offset, pageReadTrx);
     if (record == null) {
       byte[] data;
       try {
-        final PageReference reference = references.get(key);
+        final PageReference reference = recordSlots.getReference(offset);
         if (reference != null && reference.getKey() != Constants.NULL_ID_LONG) {
-          data = ((OverflowPage) pageReadOnlyTrx.getReader().read(reference, pageReadOnlyTrx)).getData();
+          data = ((OverflowPage) pageReadTrx.getReader().read(reference, pageReadTrx)).getData();
         } else {
           return null;
         }
@@ -275,16 +293,65 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
       } catch (final IOException e) {
         return null;
       }
-      records.put(key, record);
+      recordSlots.setRecord(offset, record);
     }
     return record;
   }
 
+  /**
+   * Get the serialized form of the record with the specified key, as it has been read from the storage. The record
+   * is not deserialized. Once the serialized form of a record has been requested, the serialized forms of all records
+   * of the page are kept after the records have been deserialized, until the records are set.
+   *
+   * @param key the record key
+   * @return the serialized record, beginning with the kind of the record, or {@code null}, if the record has been set,
+   * has been deserialized before the serialized form of a record of the page has been requested or is stored in an
+   * overflow page
+   */
+  public byte[] getSerializedValue(final long key) {
+    recordSlots.keepSerializedRecords();
+    return recordSlots.getSerializedRecord(recordPageOffset(key));
+  }
+
+  /**
+   * Get the size of the serialized records in bytes, which are kept in addition to or instead of the deserialized
+   * records.
+   *
+   * @return the size of the serialized records in bytes
+   */
+  public int getSerializedRecordsSize() {
+    return recordSlots.serializedRecordsSize;
+  }
+
   @Override
   public void setRecord(final Long key, @Nonnull final DataRecord value) {
     assert value != null : "record must not be null!";
     addedReferences = false;
-    records.put(key, value);
+    recordSlots.setRecord(recordPageOffset(key), value);
+  }
+
+  @Override
+  public boolean setRecordIfAbsent(final Long key, final KeyValuePage<Long, DataRecord> page) {
+    assert key != null : "key must not be null!";
+    final int offset = recordPageOffset(key);
+    if (recordSlots.containsRecord(offset) || recordSlots.getReference(offset) != null) {
+      return false;
+    }
+    addedReferences = false;
+    if (page instanceof UnorderedKeyValuePage other && other.recordSlots.getRecord(offset) == null) {
+      // Copy the record without deserializing it.
+      final byte[] data = other.recordSlots.getSerializedRecord(offset);
+      if (data != null) {
+        recordSlots.setSerializedRecord(offset, data, other.recordSlots.getDeweyID(offset));
+        return true;
+      }
+    }
+    // The page might have been read by another transaction, which has been closed in the meantime.
+    recordSlots.setRecord(offset,
+                          page instanceof UnorderedKeyValuePage other
+                              ? other.getValue(key, pageReadOnlyTrx)
+                              : page.getValue(key));
+    return true;
   }
 
   @Override
@@ -317,36 +384,33 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     }
 
     final var entriesBitmap = new BitSet(Constants.NDP_NODE_COUNT);
-    final var entriesSortedByKey = slots.entrySet().stream().sorted(Entry.comparingByKey()).collect(toList());
-    for (final Entry<Long, byte[]> entry : entriesSortedByKey) {
-      final var pageOffset = pageReadOnlyTrx.recordPageOffset(entry.getKey());
-      entriesBitmap.set(pageOffset);
-    }
-    SerializationType.serializeBitSet(out, entriesBitmap);
-
     final var overlongEntriesBitmap = new BitSet(Constants.NDP_NODE_COUNT);
-    final var overlongEntriesSortedByKey =
-        references.entrySet().stream().sorted(Entry.comparingByKey()).collect(toList());
-    for (final Map.Entry<Long, PageReference> entry : overlongEntriesSortedByKey) {
-      final var pageOffset = pageReadOnlyTrx.recordPageOffset(entry.getKey());
-      overlongEntriesBitmap.set(pageOffset);
+    for (int offset = 0; offset < Constants.NDP_NODE_COUNT; offset++) {
+      if (recordSlots.getSlot(offset) != null) {
+        entriesBitmap.set(offset);
+      }
+      if (recordSlots.getReference(offset) != null) {
+        overlongEntriesBitmap.set(offset);
+      }
     }
+    SerializationType.serializeBitSet(out, entriesBitmap);
     SerializationType.serializeBitSet(out, overlongEntriesBitmap);
 
     // Write normal entries.
-    out.writeInt(entriesSortedByKey.size());
-    for (final var entry : entriesSortedByKey) {
-      final byte[] data = entry.getValue();
+    out.writeInt(entriesBitmap.cardinality());
+    for (int offset = entriesBitmap.nextSetBit(0); offset >= 0; offset = entriesBitmap.nextSetBit(offset + 1)) {
+      final byte[] data = recordSlots.getSlot(offset);
       final int length = data.length;
       out.writeInt(length);
       out.write(data);
     }
 
     // Write overlong entries.
-    out.writeInt(overlongEntriesSortedByKey.size());
-    for (final var entry : overlongEntriesSortedByKey) {
+    out.writeInt(overlongEntriesBitmap.cardinality());
+    for (int offset = overlongEntriesBitmap.nextSetBit(0); offset >= 0;
+        offset = overlongEntriesBitmap.nextSetBit(offset + 1)) {
       // Write key in persistent storage.
-      out.writeLong(entry.getValue().getKey());
+      out.writeLong(recordSlots.getReference(offset).getKey());
     }
 
     out.writeByte(indexType.getID());
@@ -355,42 +419,88 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
   private void serializeDeweyRecord(SirixDeweyID id, DataOutput out) throws IOException {
     final long recordKey = deweyIDs.get(id);
     putVarLong(out, recordKey);
-    final byte[] data = slots.get(recordKey);
+    final int offset = recordPageOffset(recordKey);
+    final byte[] data = recordSlots.getSlot(offset);
     final int length = data.length;
     out.writeInt(length);
     out.write(data);
-    slots.remove(recordKey);
+    recordSlots.setSlot(offset, null);
   }
 
   @Override
   public String toString() {
     final MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this).add("pagekey", recordPageKey);
-    for (final DataRecord record : records.values()) {
+    for (final DataRecord record : values()) {
       helper.add("record", record);
     }
-    for (final PageReference reference : references.values()) {
-      helper.add("reference", reference);
+    for (final Entry<Long, PageReference> entry : referenceEntrySet()) {
+      helper.add("reference", entry.getValue());
     }
     return helper.toString();
   }
 
   @Override
   public Set<Entry<Long, DataRecord>> entrySet() {
-    return records.entrySet();
+    return entrySet(pageReadOnlyTrx);
+  }
+
+  @Override
+  public Set<Entry<Long, DataRecord>> entrySet(final PageReadOnlyTrx pageReadTrx) {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<Long, DataRecord>> iterator() {
+        return recordSlots.recordOffsetIterator(offset -> new RecordEntry(offset, pageReadTrx));
+      }
+
+      @Override
+      public int size() {
+        return recordSlots.recordCount;
+      }
+    };
   }
 
+  /**
+   * The hash code is based on the record keys, such that records aren't deserialized.
+   */
   @Override
   public int hashCode() {
-    return Objects.hashCode(recordPageKey, records, references);
+    int hashCode = Long.hashCode(recordPageKey);
+    for (final Entry<Long, DataRecord> entry : entrySet()) {
+      hashCode += entry.getKey().hashCode();
+    }
+    return Objects.hashCode(hashCode, ImmutableMap.copyOf(referenceEntrySet()));
   }
 
+  /**
+   * Records, which both pages store in their serialized form only, are compared by their serialized form, such that
+   * they aren't deserialized.
+   */
   @Override
   public boolean equals(final @Nullable Object obj) {
-    if (obj instanceof UnorderedKeyValuePage other) {
-      return recordPageKey == other.recordPageKey && Objects.equal(records, other.records) && Objects.equal(references,
-                                                                                                            other.references);
+    if (!(obj instanceof UnorderedKeyValuePage other)) {
+      return false;
+    }
+    if (recordPageKey != other.recordPageKey || recordSlots.recordCount != other.recordSlots.recordCount
+        || !Objects.equal(ImmutableMap.copyOf(referenceEntrySet()), ImmutableMap.copyOf(other.referenceEntrySet()))) {
+      return false;
     }
-    return false;
+    for (int index = 0; index < recordSlots.recordCount; index++) {
+      final int offset = recordSlots.recordOffsets[index];
+      if (!other.recordSlots.containsRecord(offset)) {
+        return false;
+      }
+      final byte[] data = recordSlots.getRecord(offset) == null ? recordSlots.getSerializedRecord(offset) : null;
+      final byte[] otherData =
+          other.recordSlots.getRecord(offset) == null ? other.recordSlots.getSerializedRecord(offset) : null;
+      if (data != null && otherData != null) {
+        if (!Arrays.equals(data, otherData)) {
+          return false;
+        }
+      } else if (!Objects.equal(getRecord(offset, pageReadOnlyTrx), other.getRecord(offset, other.pageReadOnlyTrx))) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
@@ -408,7 +518,8 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
       }
     }
 
-    for (final PageReference reference : references.values()) {
+    for (final Entry<Long, PageReference> entry : referenceEntrySet()) {
+      final PageReference reference = entry.getValue();
       if (!(reference.getPage() == null && reference.getKey() == Constants.NULL_ID_LONG
           && reference.getLogKey() == Constants.NULL_ID_LONG)) {
         pageWriteTrx.commit(reference);
@@ -424,7 +535,8 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     for (final var entry : entries) {
       final var record = entry.getValue();
       final var recordID = record.getNodeKey();
-      if (slots.get(recordID) == null) {
+      final int offset = recordPageOffset(recordID);
+      if (recordSlots.getSlot(offset) == null) {
         // Must be either a normal record or one which requires an overflow page.
         final byte[] data;
         try (final var output = new ByteArrayOutputStream(); final var out = new DataOutputStream(output)) {
@@ -435,9 +547,9 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
         if (data.length > PageConstants.MAX_RECORD_SIZE) {
           final var reference = new PageReference();
           reference.setPage(new OverflowPage(data));
-          references.put(recordID, reference);
+          recordSlots.setReference(offset, reference);
         } else {
-          slots.put(recordID, data);
+          recordSlots.setSlot(offset, data);
         }
       }
       if (storeDeweyIDs && recordPersister instanceof NodePersistenter && record.getDeweyID() != null
@@ -453,7 +565,7 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
 
   private List<Entry<Long, DataRecord>> sort() {
     // Sort entries which have deweyIDs according to their byte-length.
-    final List<Map.Entry<Long, DataRecord>> entries = new ArrayList<>(records.entrySet());
+    final List<Map.Entry<Long, DataRecord>> entries = new ArrayList<>(entrySet());
     final boolean storeDeweyIDs = pageReadOnlyTrx.getResourceManager().getResourceConfig().areDeweyIDsStored;
     if (storeDeweyIDs && recordPersister instanceof NodePersistenter) {
       entries.sort((a, b) -> {
@@ -483,7 +595,22 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
 
   @Override
   public Collection<DataRecord> values() {
-    return records.values();
+    return values(pageReadOnlyTrx);
+  }
+
+  @Override
+  public Collection<DataRecord> values(final PageReadOnlyTrx pageReadTrx) {
+    return new AbstractCollection<>() {
+      @Override
+      public Iterator<DataRecord> iterator() {
+        return recordSlots.recordOffsetIterator(offset -> getRecord(offset, pageReadTrx));
+      }
+
+      @Override
+      public int size() {
+        return recordSlots.recordCount;
+      }
+    };
   }
 
   @Override
@@ -515,24 +642,36 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
 
   @Override
   public int size() {
-    return records.size() + references.size();
+    return recordSlots.recordCount + recordSlots.referenceCount;
   }
 
   @Override
   public void setPageReference(final Long key, @Nonnull final PageReference reference) {
     assert key != null;
-    references.put(key, reference);
+    recordSlots.setReference(recordPageOffset(key), reference);
   }
 
   @Override
   public Set<Entry<Long, PageReference>> referenceEntrySet() {
-    return references.entrySet();
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<Long, PageReference>> iterator() {
+        return recordSlots.referenceOffsetIterator(offset -> new SimpleImmutableEntry<>(recordKey(offset),
+                                                                                        recordSlots.getReference(
+                                                                                            offset)));
+      }
+
+      @Override
+      public int size() {
+        return recordSlots.referenceCount;
+      }
+    };
   }
 
   @Override
   public PageReference getPageReference(final Long key) {
     assert key != null;
-    return references.get(key);
+    return recordSlots.getReference(recordPageOffset(key));
   }
 
   @Override
@@ -540,4 +679,278 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     return revision;
   }
 
+  /**
+   * Get the offset of a record in this page.
+   *
+   * @param recordKey the record key
+   * @return the offset of the record in this page
+   */
+  private int recordPageOffset(final long recordKey) {
+    final long offset = recordKey - (recordPageKey << Constants.NDP_NODE_COUNT_EXPONENT);
+    assert offset >= 0 && offset < Constants.NDP_NODE_COUNT : "record " + recordKey + " isn't stored in this page!";
+    return (int) offset;
+  }
+
+  private long recordKey(final int offset) {
+    return (recordPageKey << Constants.NDP_NODE_COUNT_EXPONENT) + offset;
+  }
+
+  /**
+   * A record entry, which deserializes the record once its value is requested.
+   */
+  private final class RecordEntry implements Entry<Long, DataRecord> {
+    private final int offset;
+
+    private final PageReadOnlyTrx pageReadTrx;
+
+    RecordEntry(final int offset, final PageReadOnlyTrx pageReadTrx) {
+      this.offset = offset;
+      this.pageReadTrx = pageReadTrx;
+    }
+
+    @Override
+    public Long getKey() {
+      return recordKey(offset);
+    }
+
+    @Override
+    public DataRecord getValue() {
+      return getRecord(offset, pageReadTrx);
+    }
+
+    @Override
+    public DataRecord setValue(final DataRecord value) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int hashCode() {
+      return getKey().hashCode() ^ getValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+      return obj instanceof Entry<?, ?> other && getKey().equals(other.getKey()) && Objects.equal(getValue(),
+                                                                                                   other.getValue());
+    }
+  }
+
+  /**
+   * Records, serialized records (slots) and references to overflow pages, stored in arrays indexed by the offset of
+   * the record keys in the page. The offsets of the records and references are additionally kept in insertion order
+   * to provide a consistent iteration order. Shared between a page and its copies.
+   * <p>
+   * The arrays are created lazily and grow with the greatest offset stored so far, whereas the arrays of the offsets
+   * in insertion order grow with the number of records and references. As record keys are assigned in ascending
+   * order, pages, which store a few records only, don't allocate arrays for all possible records.
+   * </p>
+   * <p>
+   * Records of pages read from the storage are kept in their serialized form until first accessed. The serialized
+   * form is discarded once the record has been deserialized, unless flyweight cursors read the serialized records of
+   * the page. Setting a record always discards the outdated serialized form.
+   * </p>
+   */
+  private static final class RecordSlots {
+    /**
+     * The initial length of the arrays.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    private DataRecord[] records;
+
+    /**
+     * Records which have been read from the storage, but might not have been deserialized so far.
+     */
+    private byte[][] serializedRecords;
+
+    /**
+     * The size of the serialized records in bytes.
+     */
+    private int serializedRecordsSize;
+
+    /**
+     * Determines if the serialized records are kept once they have been deserialized, as flyweight cursors read them.
+     */
+    private boolean keepSerializedRecords;
+
+    private SirixDeweyID[] deweyIDs;
+
+    private short[] recordOffsets;
+
+    private int recordCount;
+
+    private byte[][] slots;
+
+    /**
+     * References to overflow pages.
+     */
+    private PageReference[] references;
+
+    private short[] referenceOffsets;
+
+    private int referenceCount;
+
+    /**
+     * Make sure that an array is able to store an element at the given index.
+     *
+     * @param array    the array, might be {@code null}
+     * @param index    the index
+     * @param newArray creates a new array of the given length
+     * @param <T>      the type of the elements
+     * @return the array itself, if the index is within its bounds, otherwise a new or a grown copy of the array
+     */
+    private static <T> T[] ensureCapacity(final @Nullable T[] array, final int index, final IntFunction<T[]> newArray) {
+      final int length = array == null ? 0 : array.length;
+      if (index < length) {
+        return array;
+      }
+      final int capacity =
+          Math.min(Constants.NDP_NODE_COUNT, Math.max(index + 1, Math.max(INITIAL_CAPACITY, length << 1)));
+      return array == null ? newArray.apply(capacity) : Arrays.copyOf(array, capacity);
+    }
+
+    private static short[] addOffset(final @Nullable short[] offsets, final int count, final int offset) {
+      final short[] newOffsets;
+      if (offsets == null) {
+        newOffsets = new short[INITIAL_CAPACITY];
+      } else if (count == offsets.length) {
+        newOffsets = Arrays.copyOf(offsets, Math.min(Constants.NDP_NODE_COUNT, count << 1));
+      } else {
+        newOffsets = offsets;
+      }
+      newOffsets[count] = (short) offset;
+      return newOffsets;
+    }
+
+    private static <T> T get(final @Nullable T[] array, final int offset) {
+      return array == null || offset >= array.length ? null : array[offset];
+    }
+
+    DataRecord getRecord(final int offset) {
+      return get(records, offset);
+    }
+
+    boolean containsRecord(final int offset) {
+      return getRecord(offset) != null || getSerializedRecord(offset) != null;
+    }
+
+    private void addRecordOffset(final int offset) {
+      recordOffsets = addOffset(recordOffsets, recordCount++, offset);
+    }
+
+    private void putRecord(final int offset, final DataRecord record) {
+      records = ensureCapacity(records, offset, DataRecord[]::new);
+      records[offset] = record;
+    }
+
+    void setRecord(final int offset, final DataRecord record) {
+      if (!containsRecord(offset)) {
+        addRecordOffset(offset);
+      }
+      putRecord(offset, record);
+      discardSerializedRecord(offset);
+    }
+
+    void setDeserializedRecord(final int offset, final DataRecord record) {
+      putRecord(offset, record);
+      if (!keepSerializedRecords) {
+        discardSerializedRecord(offset);
+      }
+    }
+
+    void keepSerializedRecords() {
+      keepSerializedRecords = true;
+    }
+
+    private void discardSerializedRecord(final int offset) {
+      final byte[] data = getSerializedRecord(offset);
+      if (data != null) {
+        serializedRecordsSize -= data.length;
+        serializedRecords[offset] = null;
+      }
+    }
+
+    byte[] getSerializedRecord(final int offset) {
+      return get(serializedRecords, offset);
+    }
+
+    SirixDeweyID getDeweyID(final int offset) {
+      return get(deweyIDs, offset);
+    }
+
+    void setSerializedRecord(final int offset, final byte[] data, final @Nullable SirixDeweyID deweyID) {
+      if (!containsRecord(offset)) {
+        addRecordOffset(offset);
+      }
+      discardSerializedRecord(offset);
+      serializedRecords = ensureCapacity(serializedRecords, offset, byte[][]::new);
+      serializedRecords[offset] = data;
+      serializedRecordsSize += data.length;
+      if (deweyID != null) {
+        deweyIDs = ensureCapacity(deweyIDs, offset, SirixDeweyID[]::new);
+        deweyIDs[offset] = deweyID;
+      }
+    }
+
+    byte[] getSlot(final int offset) {
+      return get(slots, offset);
+    }
+
+    void setSlot(final int offset, final byte[] data) {
+      if (data == null && getSlot(offset) == null) {
+        return;
+      }
+      slots = ensureCapacity(slots, offset, byte[][]::new);
+      slots[offset] = data;
+    }
+
+    PageReference getReference(final int offset) {
+      return get(references, offset);
+    }
+
+    void setReference(final int offset, final PageReference reference) {
+      if (getReference(offset) == null) {
+        referenceOffsets = addOffset(referenceOffsets, referenceCount++, offset);
+      }
+      references = ensureCapacity(references, offset, PageReference[]::new);
+      references[offset] = reference;
+    }
+
+    <E> Iterator<E> recordOffsetIterator(final IntFunction<E> offsetToElement) {
+      return new OffsetIterator<>(recordOffsets, recordCount, offsetToElement);
+    }
+
+    <E> Iterator<E> referenceOffsetIterator(final IntFunction<E> offsetToElement) {
+      return new OffsetIterator<>(referenceOffsets, referenceCount, offsetToElement);
+    }
+  }
+
+  private static final class OffsetIterator<E> implements Iterator<E> {
+    private final short[] offsets;
+
+    private final int count;
+
+    private final IntFunction<E> offsetToElement;
+
+    private int index;
+
+    OffsetIterator(final short[] offsets, final int count, final IntFunction<E> offsetToElement) {
+      this.offsets = offsets;
+      this.count = count;
+      this.offsetToElement = offsetToElement;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return index < count;
+    }
+
+    @Override
+    public E next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return offsetToElement.apply(offsets[index++]);
+    }
+  }
 }
@@ -32,6 +32,7 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.io.DataInput;
 import java.io.DataOutput;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.List;
 
@@ -89,7 +90,8 @@ public final class FullReferencesPage implements Page {
 
   @Override
   public List<PageReference> getReferences() {
-    return List.of(references);
+    // Offsets, which haven't been referenced so far, are null.
+    return Arrays.asList(references);
   }
 
   /**
@@ -27,6 +27,17 @@ public interface KeyValuePage<K, V> extends Page {
    */
   Set<Entry<K, V>> entrySet();
 
+  /**
+   * Entry set of all nodes in the page, whereby records, which haven't been deserialized so far, are deserialized
+   * using the given transaction. A cached page might outlive the transaction, which has read it.
+   *
+   * @param pageReadTrx the transaction used to deserialize the records
+   * @return an entry set
+   */
+  default Set<Entry<K, V>> entrySet(PageReadOnlyTrx pageReadTrx) {
+    return entrySet();
+  }
+
   /**
    * All available records.
    *
@@ -34,6 +45,17 @@ public interface KeyValuePage<K, V> extends Page {
    */
   Collection<V> values();
 
+  /**
+   * All available records, whereby records, which haven't been deserialized so far, are deserialized using the given
+   * transaction.
+   *
+   * @param pageReadTrx the transaction used to deserialize the records
+   * @return all records
+   */
+  default Collection<V> values(PageReadOnlyTrx pageReadTrx) {
+    return values();
+  }
+
   /**
    * Get the unique page record identifier.
    *
@@ -58,6 +80,22 @@ public interface KeyValuePage<K, V> extends Page {
    */
   void setRecord(K key, @Nonnull V value);
 
+  /**
+   * Store the record with the given key of another page, if this page doesn't store a record with the key, yet.
+   * Implementations may copy the record without deserializing it.
+   *
+   * @param key the key of the record
+   * @param page the page to copy the record from
+   * @return {@code true}, if the record has been stored, {@code false} otherwise
+   */
+  default boolean setRecordIfAbsent(K key, KeyValuePage<K, V> page) {
+    if (getValue(key) != null) {
+      return false;
+    }
+    setRecord(key, page.getValue(key));
+    return true;
+  }
+
   Set<Entry<K, PageReference>> referenceEntrySet();
 
   /**
@@ -111,6 +111,11 @@ public abstract class AbstractSerializer<R extends NodeReadOnlyTrx & NodeCursor,
 
     for (int i = 1; i <= length; i++) {
       try (final R rtx = resMgr.beginNodeReadOnlyTrx((nrOfRevisions == 1 && revisions[0] < 0) ? i : revisions[i - 1])) {
+        // Read the fields of the nodes directly from the serialized records.
+        if (rtx.isFlyweightModeSupported()) {
+          rtx.setFlyweightMode(true);
+        }
+
         emitRevisionStartNode(rtx);
 
         rtx.moveTo(startNodeKey);
@@ -126,6 +126,11 @@ public abstract class AbstractSerializer implements Callable<Void> {
       try (final XmlNodeReadOnlyTrx rtx = mResMgr.beginNodeReadOnlyTrx((nrOfRevisions == 1 && mRevisions[0] < 0)
           ? i
           : mRevisions[i - 1])) {
+        // Read the fields of the nodes directly from the serialized records.
+        if (rtx.isFlyweightModeSupported()) {
+          rtx.setFlyweightMode(true);
+        }
+
         emitRevisionStartTag(rtx);
 
         rtx.moveTo(mNodeKey);
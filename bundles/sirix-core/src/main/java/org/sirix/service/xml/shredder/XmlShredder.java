@@ -354,6 +354,25 @@ public final class XmlShredder extends AbstractShredder implements Callable<Long
     }
   }
 
+  /**
+   * Create a new {@link XMLEventReader} instance on an input stream, for instance the body of a request, which is
+   * parsed while it's received.
+   *
+   * @param in the input stream
+   * @return an {@link XMLEventReader}
+   * @throws SirixException if creating the xml event reader fails.
+   */
+  public static XMLEventReader createReader(final InputStream in) {
+    checkNotNull(in);
+    final XMLInputFactory factory = XMLInputFactory.newInstance();
+    setProperties(factory);
+    try {
+      return factory.createXMLEventReader(in);
+    } catch (XMLStreamException e) {
+      throw new SirixException(e.getMessage(), e);
+    }
+  }
+
   private static void setProperties(final XMLInputFactory factory) {
     factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
     factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
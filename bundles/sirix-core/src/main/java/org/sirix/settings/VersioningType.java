@@ -58,7 +58,7 @@ public enum VersioningType {
     @Override
     public <K, V, T extends KeyValuePage<K, V>> PageContainer combineRecordPagesForModification(final List<T> pages,
         final @Nonnegative int revToRestore, final PageReadOnlyTrx pageReadTrx, final PageReference reference,
-        final TransactionIntentLog log) {
+        final TransactionIntentLog log, final boolean isFullDumpForced) {
       assert pages.size() == 1;
       final T firstPage = pages.get(0);
       final long recordPageKey = firstPage.getPageKey();
@@ -66,7 +66,7 @@ public enum VersioningType {
       returnVal.add(firstPage.newInstance(recordPageKey, firstPage.getIndexType(), pageReadTrx));
       returnVal.add(firstPage.newInstance(recordPageKey, firstPage.getIndexType(), pageReadTrx));
 
-      for (final Map.Entry<? extends K, ? extends V> entry : pages.get(0).entrySet()) {
+      for (final Map.Entry<? extends K, ? extends V> entry : pages.get(0).entrySet(pageReadTrx)) {
         returnVal.get(0).setRecord(entry.getKey(), entry.getValue());
         returnVal.get(1).setRecord(entry.getKey(), entry.getValue());
       }
@@ -99,8 +99,8 @@ public enum VersioningType {
       assert latest.getPageKey() == recordPageKey;
       assert fullDump.getPageKey() == recordPageKey;
 
-      for (final Map.Entry<K, V> entry : latest.entrySet()) {
-        returnVal.setRecord(entry.getKey(), entry.getValue());
+      for (final Map.Entry<K, V> entry : latest.entrySet(pageReadTrx)) {
+        returnVal.setRecordIfAbsent(entry.getKey(), latest);
       }
       for (final Map.Entry<K, PageReference> entry : latest.referenceEntrySet()) {
         returnVal.setPageReference(entry.getKey(), entry.getValue());
@@ -108,9 +108,8 @@ public enum VersioningType {
 
       // Skip full dump if not needed (fulldump equals latest page).
       if (pages.size() == 2) {
-        for (final Entry<K, V> entry : fullDump.entrySet()) {
-          if (returnVal.getValue(entry.getKey()) == null) {
-            returnVal.setRecord(entry.getKey(), entry.getValue());
+        for (final Entry<K, V> entry : fullDump.entrySet(pageReadTrx)) {
+          if (returnVal.setRecordIfAbsent(entry.getKey(), fullDump)) {
             if (returnVal.size() == Constants.NDP_NODE_COUNT) {
               break;
             }
@@ -131,24 +130,29 @@ public enum VersioningType {
     @Override
     public <K, V, T extends KeyValuePage<K, V>> PageContainer combineRecordPagesForModification(final List<T> pages,
         final @Nonnegative int revToRestore, final PageReadOnlyTrx pageReadTrx, final PageReference reference,
-        final TransactionIntentLog log) {
+        final TransactionIntentLog log, final boolean isFullDumpForced) {
       assert pages.size() <= 2;
       final T firstPage = pages.get(0);
       final long recordPageKey = firstPage.getPageKey();
       final int revision = pageReadTrx.getUberPage().getRevision();
       final List<T> returnVal = new ArrayList<>(2);
 
-      reference.setPageFragments(List.of(new PageFragmentKeyImpl(pageReadTrx.getRevisionNumber(), reference.getKey())));
+      if (isFullDumpForced) {
+        reference.setPageFragments(List.of());
+      } else {
+        reference.setPageFragments(List.of(new PageFragmentKeyImpl(pageReadTrx.getRevisionNumber(),
+                                                                   reference.getKey())));
+      }
 
       returnVal.add(firstPage.newInstance(recordPageKey, firstPage.getIndexType(), pageReadTrx));
       returnVal.add(firstPage.newInstance(recordPageKey, firstPage.getIndexType(), pageReadTrx));
 
       final T latest = firstPage;
       T fullDump = pages.size() == 1 ? firstPage : pages.get(1);
-      final boolean isFullDump = revision % revToRestore == 0;
+      final boolean isFullDump = isFullDumpForced || revision % revToRestore == 0;
 
       // Iterate through all nodes of the latest revision.
-      for (final Map.Entry<K, V> entry : latest.entrySet()) {
+      for (final Map.Entry<K, V> entry : latest.entrySet(pageReadTrx)) {
         returnVal.get(0).setRecord(entry.getKey(), entry.getValue());
         returnVal.get(1).setRecord(entry.getKey(), entry.getValue());
       }
@@ -161,7 +165,7 @@ public enum VersioningType {
       // If not all entries are filled.
       if (latest.size() != Constants.NDP_NODE_COUNT) {
         // Iterate through the full dump.
-        for (final Map.Entry<K, V> entry : fullDump.entrySet()) {
+        for (final Map.Entry<K, V> entry : fullDump.entrySet(pageReadTrx)) {
           if (returnVal.get(0).getValue(entry.getKey()) == null) {
             returnVal.get(0).setRecord(entry.getKey(), entry.getValue());
           }
@@ -232,10 +236,9 @@ public enum VersioningType {
         if (filledPage) {
           break;
         }
-        for (final Entry<K, V> entry : page.entrySet()) {
+        for (final Entry<K, V> entry : page.entrySet(pageReadTrx)) {
           final K recordKey = entry.getKey();
-          if (returnVal.getValue(recordKey) == null) {
-            returnVal.setRecord(recordKey, entry.getValue());
+          if (returnVal.setRecordIfAbsent(recordKey, page)) {
             if (returnVal.size() == Constants.NDP_NODE_COUNT) {
               filledPage = true;
               break;
@@ -262,22 +265,17 @@ public enum VersioningType {
     @Override
     public <K, V, T extends KeyValuePage<K, V>> PageContainer combineRecordPagesForModification(final List<T> pages,
         final int revToRestore, final PageReadOnlyTrx pageReadTrx, final PageReference reference,
-        final TransactionIntentLog log) {
+        final TransactionIntentLog log, final boolean isFullDumpForced) {
       final T firstPage = pages.get(0);
       final long recordPageKey = firstPage.getPageKey();
       final List<T> returnVal = new ArrayList<>(2);
-      final var previousPageFragmentKeys = new ArrayList<PageFragmentKey>(reference.getPageFragments().size() + 1);
-      previousPageFragmentKeys.add(new PageFragmentKeyImpl(pageReadTrx.getRevisionNumber(), reference.getKey()));
-      for (int i = 0, previousRefKeysSize = reference.getPageFragments().size();
-          i < previousRefKeysSize && previousPageFragmentKeys.size() < revToRestore - 1; i++) {
-        previousPageFragmentKeys.add(reference.getPageFragments().get(i));
-      }
-
-      reference.setPageFragments(previousPageFragmentKeys);
+      reference.setPageFragments(isFullDumpForced
+                                     ? List.of()
+                                     : getPreviousPageFragmentKeys(revToRestore, pageReadTrx, reference));
 
       returnVal.add(firstPage.newInstance(recordPageKey, firstPage.getIndexType(), pageReadTrx));
       returnVal.add(firstPage.newInstance(recordPageKey, firstPage.getIndexType(), pageReadTrx));
-      final boolean isFullDump = pages.size() == revToRestore;
+      final boolean isFullDump = isFullDumpForced || pages.size() == revToRestore;
 
       boolean filledPage = false;
       for (final T page : pages) {
@@ -286,7 +284,7 @@ public enum VersioningType {
           break;
         }
 
-        for (final Entry<K, V> entry : page.entrySet()) {
+        for (final Entry<K, V> entry : page.entrySet(pageReadTrx)) {
           // Caching the complete page.
           final K key = entry.getKey();
           assert key != null;
@@ -369,10 +367,9 @@ public enum VersioningType {
         if (filledPage) {
           break;
         }
-        for (final Entry<K, V> entry : page.entrySet()) {
+        for (final Entry<K, V> entry : page.entrySet(pageReadTrx)) {
           final K recordKey = entry.getKey();
-          if (returnVal.getValue(recordKey) == null) {
-            returnVal.setRecord(recordKey, entry.getValue());
+          if (returnVal.setRecordIfAbsent(recordKey, page)) {
             if (returnVal.size() == Constants.NDP_NODE_COUNT) {
               filledPage = true;
               break;
@@ -399,17 +396,12 @@ public enum VersioningType {
     @Override
     public <K, V, T extends KeyValuePage<K, V>> PageContainer combineRecordPagesForModification(final List<T> pages,
         final int revToRestore, final PageReadOnlyTrx pageReadTrx, final PageReference reference,
-        final TransactionIntentLog log) {
+        final TransactionIntentLog log, final boolean isFullDumpForced) {
       final T firstPage = pages.get(0);
       final long recordPageKey = firstPage.getPageKey();
-      final var previousPageFragmentKeys = new ArrayList<PageFragmentKey>(reference.getPageFragments().size() + 1);
-      previousPageFragmentKeys.add(new PageFragmentKeyImpl(pageReadTrx.getRevisionNumber(), reference.getKey()));
-      for (int i = 0, previousRefKeysSize = reference.getPageFragments().size();
-          i < previousRefKeysSize && previousPageFragmentKeys.size() < revToRestore - 1; i++) {
-        previousPageFragmentKeys.add(reference.getPageFragments().get(i));
-      }
-
-      reference.setPageFragments(previousPageFragmentKeys);
+      reference.setPageFragments(isFullDumpForced
+                                     ? List.of()
+                                     : getPreviousPageFragmentKeys(revToRestore, pageReadTrx, reference));
 
       final T completePage = firstPage.newInstance(recordPageKey, firstPage.getIndexType(), pageReadTrx);
       final T modifyingPage = firstPage.newInstance(recordPageKey, firstPage.getIndexType(), pageReadTrx);
@@ -424,7 +416,7 @@ public enum VersioningType {
 
         final boolean isPageOutOfSlidingWindow = (i == pages.size() - 1 && revToRestore == pages.size());
 
-        for (final Entry<K, V> entry : page.entrySet()) {
+        for (final Entry<K, V> entry : page.entrySet(pageReadTrx)) {
           // Caching the complete page.
           final K key = entry.getKey();
           assert key != null;
@@ -471,6 +463,16 @@ public enum VersioningType {
         }
       }
 
+      if (isFullDumpForced) {
+        // Write a complete version of the page, such that no previous fragment has to be read anymore.
+        for (final Entry<K, V> entry : completePage.entrySet()) {
+          modifyingPage.setRecord(entry.getKey(), entry.getValue());
+        }
+        for (final Entry<K, PageReference> entry : completePage.referenceEntrySet()) {
+          modifyingPage.setPageReference(entry.getKey(), entry.getValue());
+        }
+      }
+
       final var pageContainer = PageContainer.getInstance(completePage, modifyingPage);
       log.put(reference, pageContainer);
       return pageContainer;
@@ -512,14 +514,36 @@ public enum VersioningType {
    * Method to reconstruct a complete {@link KeyValuePage} for reading as well as a
    * {@link KeyValuePage} for serializing with the nodes to write.
    *
-   * @param pages         the base of the complete {@link KeyValuePage}
-   * @param revsToRestore the revisions needed to build the complete record page
+   * @param pages            the base of the complete {@link KeyValuePage}
+   * @param revsToRestore    the revisions needed to build the complete record page
+   * @param isFullDumpForced {@code true}, if a complete version of the page has to be written regardless of the
+   *                         versioning approach, such that reading the page doesn't involve any previous fragment
    * @return a {@link PageContainer} holding a complete {@link KeyValuePage} for reading and one for
    * writing
    */
   public abstract <K, V, T extends KeyValuePage<K, V>> PageContainer combineRecordPagesForModification(
       final List<T> pages, final @Nonnegative int revsToRestore, final PageReadOnlyTrx pageReadTrx,
-      final PageReference reference, final TransactionIntentLog log);
+      final PageReference reference, final TransactionIntentLog log, final boolean isFullDumpForced);
+
+  /**
+   * Get the keys of the page fragments, which have to be read to reconstruct the next version of a page: the current
+   * version plus the previous fragments within the window of revisions to restore.
+   *
+   * @param revToRestore the number of revisions needed to build the complete record page
+   * @param pageReadTrx  the page read-only transaction bound to the current version
+   * @param reference    the reference to the current version of the page
+   * @return the page fragment keys
+   */
+  private static List<PageFragmentKey> getPreviousPageFragmentKeys(final int revToRestore,
+      final PageReadOnlyTrx pageReadTrx, final PageReference reference) {
+    final var previousPageFragmentKeys = new ArrayList<PageFragmentKey>(reference.getPageFragments().size() + 1);
+    previousPageFragmentKeys.add(new PageFragmentKeyImpl(pageReadTrx.getRevisionNumber(), reference.getKey()));
+    for (int i = 0, previousRefKeysSize = reference.getPageFragments().size();
+        i < previousRefKeysSize && previousPageFragmentKeys.size() < revToRestore - 1; i++) {
+      previousPageFragmentKeys.add(reference.getPageFragments().get(i));
+    }
+    return previousPageFragmentKeys;
+  }
 
   /**
    * Get all revision root page numbers which are needed to restore a {@link KeyValuePage}.
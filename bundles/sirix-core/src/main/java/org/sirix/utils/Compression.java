@@ -3,6 +3,7 @@ package org.sirix.utils;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
 import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
 import java.util.zip.Inflater;
@@ -12,6 +13,11 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
  * Compression/Decompression for text values or any other data.
+ * <p>
+ * {@link Deflater} and {@link Inflater} instances aren't thread-safe, thus every thread uses its own instances, which
+ * are reset and reused for subsequent calls. The native resources of the instances are released by ending them once
+ * the owning thread has finished and became unreachable.
+ * </p>
  *
  * @author Johannes Lichtenberger, University of Konstanz
  *
@@ -21,11 +27,22 @@ public final class Compression {
   /** Buffer size. */
   public static final int BUFFER_SIZE = 1024;
 
-  /** Compressor. */
-  private static final Deflater mCompressor = new Deflater();
+  /** Ends the compressors and decompressors of finished threads. */
+  private static final Cleaner CLEANER = Cleaner.create();
 
-  /** Decompressor. */
-  private static final Inflater mDecompressor = new Inflater();
+  /** Compressor of the current thread. */
+  private static final ThreadLocal<Deflater> COMPRESSOR = ThreadLocal.withInitial(() -> {
+    final Deflater compressor = new Deflater();
+    CLEANER.register(Thread.currentThread(), compressor::end);
+    return compressor;
+  });
+
+  /** Decompressor of the current thread. */
+  private static final ThreadLocal<Inflater> DECOMPRESSOR = ThreadLocal.withInitial(() -> {
+    final Inflater decompressor = new Inflater();
+    CLEANER.register(Thread.currentThread(), decompressor::end);
+    return decompressor;
+  });
 
   /** Private constructor to prevent from instantiation. */
   private Compression() {
@@ -44,16 +61,18 @@ public final class Compression {
     checkNotNull(toCompress);
     checkArgument(level >= -1 && level <= 9, "level must be between 0 and 9!");
 
+    final Deflater compressor = COMPRESSOR.get();
+
     // Compressed result.
     byte[] compressed;
 
     // Set compression level.
-    mCompressor.setLevel(level);
+    compressor.setLevel(level);
 
     // Give the compressor the data to compress.
-    mCompressor.reset();
-    mCompressor.setInput(toCompress);
-    mCompressor.finish();
+    compressor.reset();
+    compressor.setInput(toCompress);
+    compressor.finish();
 
     /*
      * Create an expandable byte array to hold the compressed data. You cannot use an array that's the
@@ -63,8 +82,8 @@ public final class Compression {
     try (final ByteArrayOutputStream bos = new ByteArrayOutputStream(toCompress.length)) {
       // Compress the data.
       final byte[] buf = new byte[BUFFER_SIZE];
-      while (!mCompressor.finished()) {
-        final int count = mCompressor.deflate(buf);
+      while (!compressor.finished()) {
+        final int count = compressor.deflate(buf);
         bos.write(buf, 0, count);
       }
 
@@ -87,17 +106,19 @@ public final class Compression {
   public static byte[] decompress(final byte[] compressed) {
     checkNotNull(compressed);
 
+    final Inflater decompressor = DECOMPRESSOR.get();
+
     // Reset the decompressor and give it the data to compress.
-    mDecompressor.reset();
-    mDecompressor.setInput(compressed);
+    decompressor.reset();
+    decompressor.setInput(compressed);
 
     // Create an expandable byte array to hold the decompressed data.
     try (final ByteArrayOutputStream bos = new ByteArrayOutputStream(compressed.length)) {
       // Decompress the data.
       final byte[] buf = new byte[BUFFER_SIZE];
-      while (!mDecompressor.finished()) {
+      while (!decompressor.finished()) {
         try {
-          final int count = mDecompressor.inflate(buf);
+          final int count = decompressor.inflate(buf);
           bos.write(buf, 0, count);
         } catch (final DataFormatException e) {
           throw new IllegalStateException(e);
@@ -0,0 +1,174 @@
+package org.sirix.utils;
+
+import com.github.luben.zstd.Zstd;
+import net.jpountz.lz4.LZ4Factory;
+
+import java.util.zip.Deflater;
+
+/**
+ * Codecs to compress the values of text-, comment-, processing instruction-, attribute- and JSON string nodes.
+ * <p>
+ * The identifier of a codec is stored in front of each serialized value, thus values stored before the codec of a
+ * resource has been changed can still be read. The identifier of {@link #DEFLATE} is the former "is compressed" flag,
+ * such that existing resources stay readable. All codecs are thread-safe.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public enum ValueCompressor {
+  /**
+   * Values aren't compressed.
+   */
+  NONE((byte) 0) {
+    @Override
+    public byte[] compress(final byte[] value) {
+      return value;
+    }
+
+    @Override
+    public byte[] decompress(final byte[] compressed) {
+      return compressed;
+    }
+  },
+
+  /**
+   * Deflate compression.
+   */
+  DEFLATE((byte) 1) {
+    @Override
+    public byte[] compress(final byte[] value) {
+      return Compression.compress(value, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    @Override
+    public byte[] decompress(final byte[] compressed) {
+      return Compression.decompress(compressed);
+    }
+  },
+
+  /**
+   * LZ4 compression, which trades a lower compression ratio for very fast decompression. The length of the
+   * uncompressed value is stored in the first four bytes.
+   */
+  LZ4((byte) 2) {
+    @Override
+    public byte[] compress(final byte[] value) {
+      final var compressor = LZ4_FACTORY.fastCompressor();
+      final byte[] compressed = new byte[Integer.BYTES + compressor.maxCompressedLength(value.length)];
+      writeInt(compressed, value.length);
+      final int length =
+          compressor.compress(value, 0, value.length, compressed, Integer.BYTES, compressed.length - Integer.BYTES);
+      final byte[] result = new byte[Integer.BYTES + length];
+      System.arraycopy(compressed, 0, result, 0, result.length);
+      return result;
+    }
+
+    @Override
+    public byte[] decompress(final byte[] compressed) {
+      final byte[] value = new byte[readInt(compressed)];
+      LZ4_FACTORY.fastDecompressor().decompress(compressed, Integer.BYTES, value, 0, value.length);
+      return value;
+    }
+  },
+
+  /**
+   * Zstandard compression.
+   */
+  ZSTD((byte) 3) {
+    @Override
+    public byte[] compress(final byte[] value) {
+      return Zstd.compress(value, ZSTD_LEVEL);
+    }
+
+    @Override
+    public byte[] decompress(final byte[] compressed) {
+      return Zstd.decompress(compressed, (int) Zstd.decompressedSize(compressed));
+    }
+  };
+
+  /**
+   * Values with at most this number of bytes aren't compressed by default.
+   */
+  public static final int DEFAULT_THRESHOLD = 40;
+
+  private static final LZ4Factory LZ4_FACTORY = LZ4Factory.fastestInstance();
+
+  private static final int ZSTD_LEVEL = 3;
+
+  /**
+   * Unique identifier.
+   */
+  private final byte id;
+
+  /**
+   * Constructor.
+   *
+   * @param id unique identifier
+   */
+  ValueCompressor(final byte id) {
+    this.id = id;
+  }
+
+  /**
+   * Get the unique identifier.
+   *
+   * @return unique identifier
+   */
+  public byte getId() {
+    return id;
+  }
+
+  /**
+   * Determines if a value should be compressed.
+   *
+   * @param value     the uncompressed value
+   * @param threshold values with at most this number of bytes aren't compressed
+   * @return {@code true}, if the value should be compressed, {@code false} otherwise
+   */
+  public boolean shouldCompress(final byte[] value, final int threshold) {
+    return this != NONE && value.length > threshold;
+  }
+
+  /**
+   * Compress a value.
+   *
+   * @param value the value to compress
+   * @return the compressed value
+   */
+  public abstract byte[] compress(byte[] value);
+
+  /**
+   * Decompress a value.
+   *
+   * @param compressed the compressed value
+   * @return the uncompressed value
+   */
+  public abstract byte[] decompress(byte[] compressed);
+
+  /**
+   * Get the codec based on its unique identifier.
+   *
+   * @param id the unique identifier
+   * @return the codec
+   * @throws IllegalArgumentException if no codec with the identifier exists
+   */
+  public static ValueCompressor getKind(final byte id) {
+    for (final ValueCompressor compressor : values()) {
+      if (compressor.id == id) {
+        return compressor;
+      }
+    }
+    throw new IllegalArgumentException("No value compressor found for the identifier " + id);
+  }
+
+  private static void writeInt(final byte[] bytes, final int value) {
+    bytes[0] = (byte) (value >>> 24);
+    bytes[1] = (byte) (value >>> 16);
+    bytes[2] = (byte) (value >>> 8);
+    bytes[3] = (byte) value;
+  }
+
+  private static int readInt(final byte[] bytes) {
+    return ((bytes[0] & 0xFF) << 24) | ((bytes[1] & 0xFF) << 16) | ((bytes[2] & 0xFF) << 8) | (bytes[3] & 0xFF);
+  }
+}
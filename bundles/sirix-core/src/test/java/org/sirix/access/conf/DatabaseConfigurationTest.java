@@ -1,7 +1,11 @@
 package org.sirix.access.conf;
 
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
 import static org.testng.AssertJUnit.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
 import org.sirix.XmlTestHelper;
 import org.sirix.access.DatabaseConfiguration;
 import org.sirix.access.Databases;
@@ -44,4 +48,24 @@ public class DatabaseConfigurationTest {
         DatabaseConfiguration.deserialize(XmlTestHelper.PATHS.PATH1.getFile());
     assertEquals(conf.toString(), serializedConf.toString());
   }
+
+  /**
+   * Test that the memory budget of the buffer pool is only stored if it is set, such that it is otherwise computed from
+   * the heap size of the JVM the database is opened in.
+   *
+   * @throws IOException if an I/O exception occurs
+   */
+  @Test
+  public void testMaxBufferMemoryIsOnlyStoredIfSet() throws IOException {
+    final DatabaseConfiguration conf = new DatabaseConfiguration(XmlTestHelper.PATHS.PATH1.getFile());
+    assertTrue(Databases.createXmlDatabase(conf));
+    assertFalse(Files.readString(conf.getConfigFile()).contains("maxBufferMemoryInBytes"));
+    assertEquals(Runtime.getRuntime().maxMemory() / 4,
+        DatabaseConfiguration.deserialize(XmlTestHelper.PATHS.PATH1.getFile()).getMaxBufferMemoryInBytes());
+
+    conf.setMaxBufferMemoryInBytes(1_000_000);
+    DatabaseConfiguration.serialize(conf);
+    assertEquals(1_000_000,
+        DatabaseConfiguration.deserialize(XmlTestHelper.PATHS.PATH1.getFile()).getMaxBufferMemoryInBytes());
+  }
 }
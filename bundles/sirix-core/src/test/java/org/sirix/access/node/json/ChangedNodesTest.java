@@ -0,0 +1,115 @@
+package org.sirix.access.node.json;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.api.ChangedNode;
+import org.sirix.diff.DiffFactory.DiffType;
+import org.sirix.exception.SirixUsageException;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class ChangedNodesTest {
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testChangedNodesOfRevisions() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+         final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(4);
+      wtx.setStringValue("baz");
+      wtx.setStringValue("foobar");
+      wtx.commit();
+
+      wtx.moveTo(4);
+      wtx.remove();
+      wtx.commit();
+
+      try (final var changedNodes = manager.getChangedNodes(1, 1)) {
+        final List<ChangedNode> insertedNodes = changedNodes.collect(Collectors.toList());
+        assertFalse(insertedNodes.isEmpty());
+        assertTrue(insertedNodes.stream().allMatch(changedNode -> changedNode.revision() == 1));
+        assertTrue(insertedNodes.stream().allMatch(changedNode -> changedNode.diffType() == DiffType.INSERTED));
+        assertTrue(insertedNodes.stream().anyMatch(changedNode -> changedNode.nodeKey() == 4));
+      }
+
+      try (final var changedNodes = manager.getChangedNodes(2, 3)) {
+        assertEquals(List.of(new ChangedNode(2, 4, DiffType.UPDATED), new ChangedNode(3, 4, DiffType.DELETED)),
+                     changedNodes.collect(Collectors.toList()));
+      }
+    }
+  }
+
+  @Test
+  public void testChangesOfRevertedRevisionsAreNotIndexed() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+         final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(4);
+      wtx.remove();
+      wtx.commit();
+
+      // Revision 3 contains the removed node again, the changes since reverting don't describe that.
+      wtx.revertTo(1);
+      wtx.commit();
+
+      assertTrue(manager.areChangedNodesIndexed(1, 2));
+      assertFalse(manager.areChangedNodesIndexed(2, 3));
+
+      try (final var ignored = manager.getChangedNodes(3, 3)) {
+        fail("The changes of revision 3 aren't indexed.");
+      } catch (final SirixUsageException expected) {
+        // Expected.
+      }
+
+      // The revisions committed afterwards are indexed again.
+      wtx.moveTo(4);
+      wtx.setStringValue("baz");
+      wtx.commit();
+
+      try (final var changedNodes = manager.getChangedNodes(4, 4)) {
+        assertEquals(List.of(new ChangedNode(4, 4, DiffType.UPDATED)), changedNodes.collect(Collectors.toList()));
+      }
+    }
+  }
+
+  @Test
+  public void testNodesInsertedAndRemovedInTheSameRevisionAreOmitted() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+         final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(3);
+      wtx.insertStringValueAsFirstChild("foo");
+      final long nodeKey = wtx.getNodeKey();
+      wtx.remove();
+      wtx.commit();
+
+      try (final var changedNodes = manager.getChangedNodes(2, 2)) {
+        assertTrue(changedNodes.noneMatch(changedNode -> changedNode.nodeKey() == nodeKey));
+      }
+    }
+  }
+}
@@ -0,0 +1,167 @@
+package org.sirix.access.node.json;
+
+import org.brackit.xquery.atomic.QNm;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.access.trx.node.json.objectvalue.NumberValue;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.node.NodeKind;
+import org.sirix.service.json.shredder.JsonShredder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class FieldDirectoryTest {
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testMoveToFieldOfSmallObject() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("{\"foo\":1,\"bar\":2}"));
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+        rtx.moveToFirstChild();
+
+        assertTrue(rtx.moveToField(new QNm("bar")).hasMoved());
+        assertEquals(new QNm("bar"), rtx.getName());
+      }
+    }
+  }
+
+  @Test
+  public void testMoveToFieldOfBigObject() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(createBigObject()));
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+        rtx.moveToFirstChild();
+        final long objectNodeKey = rtx.getNodeKey();
+
+        for (int i = 0; i < 100; i++) {
+          assertTrue(rtx.moveToField(new QNm("field" + i)).hasMoved());
+          assertEquals(new QNm("field" + i), rtx.getName());
+          assertEquals(i, rtx.moveToFirstChild().trx().getNumberValue().intValue());
+          rtx.moveTo(objectNodeKey);
+        }
+
+        assertFalse(rtx.moveToField(new QNm("unknown")).hasMoved());
+        assertEquals(NodeKind.OBJECT, rtx.getKind());
+        assertEquals(objectNodeKey, rtx.getNodeKey());
+      }
+    }
+  }
+
+  @Test
+  public void testFieldDirectoryIsAdaptedOnChanges() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(createBigObject()));
+      wtx.moveToDocumentRoot();
+      wtx.moveToFirstChild();
+      final long objectNodeKey = wtx.getNodeKey();
+
+      // Builds the directory.
+      assertTrue(wtx.moveToField(new QNm("field1")).hasMoved());
+
+      wtx.setObjectKeyName("renamed");
+      assertFieldIsFound(wtx, objectNodeKey, "renamed");
+      assertFieldIsNotFound(wtx, objectNodeKey, "field1");
+
+      wtx.moveToField(new QNm("field2"));
+      wtx.remove();
+      assertFieldIsNotFound(wtx, objectNodeKey, "field2");
+
+      wtx.moveTo(objectNodeKey);
+      wtx.insertObjectRecordAsLastChild("inserted", new NumberValue(1));
+      assertFieldIsFound(wtx, objectNodeKey, "inserted");
+
+      // A duplicate name preceding the former field is found instead.
+      wtx.moveTo(objectNodeKey);
+      wtx.insertObjectRecordAsFirstChild("field3", new NumberValue(-1));
+      final long duplicateNodeKey = wtx.moveToParent().trx().getNodeKey();
+      wtx.moveTo(objectNodeKey);
+      assertTrue(wtx.moveToField(new QNm("field3")).hasMoved());
+      assertEquals(duplicateNodeKey, wtx.getNodeKey());
+
+      wtx.rollback();
+      assertFieldIsFound(wtx, objectNodeKey, "field1");
+      assertFieldIsNotFound(wtx, objectNodeKey, "renamed");
+    }
+  }
+
+  @Test
+  public void testFieldDirectoriesAreSharedPerRevision() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      final long objectNodeKey;
+      try (final var wtx = manager.beginNodeTrx()) {
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(createBigObject()));
+        wtx.moveToDocumentRoot();
+        objectNodeKey = wtx.moveToFirstChild().trx().getNodeKey();
+      }
+      final int revision = manager.getMostRecentRevisionNumber();
+
+      // Builds the directory, which is shared with the following transactions on the revision.
+      try (final var rtx = manager.beginNodeReadOnlyTrx(revision)) {
+        assertFieldIsFound(rtx, objectNodeKey, "field1");
+      }
+
+      try (final var wtx = manager.beginNodeTrx()) {
+        wtx.moveTo(objectNodeKey);
+        wtx.moveToField(new QNm("field1"));
+        wtx.setObjectKeyName("renamed");
+        wtx.commit();
+      }
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx(revision)) {
+        assertFieldIsFound(rtx, objectNodeKey, "field1");
+        assertFieldIsNotFound(rtx, objectNodeKey, "renamed");
+      }
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+        assertFieldIsFound(rtx, objectNodeKey, "renamed");
+        assertFieldIsNotFound(rtx, objectNodeKey, "field1");
+      }
+    }
+  }
+
+  private static void assertFieldIsFound(final JsonNodeReadOnlyTrx rtx, final long objectNodeKey, final String name) {
+    rtx.moveTo(objectNodeKey);
+    assertTrue(rtx.moveToField(new QNm(name)).hasMoved());
+    assertEquals(new QNm(name), rtx.getName());
+  }
+
+  private static void assertFieldIsNotFound(final JsonNodeReadOnlyTrx rtx, final long objectNodeKey,
+      final String name) {
+    rtx.moveTo(objectNodeKey);
+    assertFalse(rtx.moveToField(new QNm(name)).hasMoved());
+  }
+
+  private static String createBigObject() {
+    final var json = new StringBuilder("{");
+    for (int i = 0; i < 100; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("\"field").append(i).append("\":").append(i);
+    }
+    return json.append('}').toString();
+  }
+}
@@ -0,0 +1,175 @@
+package org.sirix.access.node.json;
+
+import com.google.gson.stream.JsonReader;
+import org.brackit.xquery.atomic.QNm;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.axis.IncludeSelf;
+import org.sirix.index.IndexType;
+import org.sirix.node.NodeKind;
+import org.sirix.service.json.shredder.JsonShredder;
+import org.sirix.service.xml.shredder.InsertPosition;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public final class FlyweightNodeTest {
+
+  private static final Path JSON = Paths.get("src", "test", "resources", "json");
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testFlyweightNodesEqualDeserializedNodes() {
+    shred(JsonShredder.createFileReader(JSON.resolve("abc-location-stations.json")));
+
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var rtx = manager.beginNodeReadOnlyTrx();
+         final var flyweightRtx = manager.beginNodeReadOnlyTrx()) {
+      flyweightRtx.setFlyweightMode(true);
+      assertTrue(flyweightRtx.isFlyweightMode());
+
+      final var flyweightAxis = new DescendantAxis(flyweightRtx, IncludeSelf.YES);
+
+      // The flyweight transaction moves first, such that the pages keep the serialized records, which are
+      // deserialized by the other transaction afterwards. The other transaction moves to the nodes without an axis,
+      // which would enable the flyweight mode.
+      while (flyweightAxis.hasNext()) {
+        final long nodeKey = flyweightAxis.next();
+        assertNotNull(flyweightRtx.getPageTrx().getSerializedRecord(nodeKey, IndexType.DOCUMENT, -1));
+        assertTrue(rtx.moveTo(nodeKey).hasMoved());
+        assertFalse(rtx.isFlyweightMode());
+        assertNodeEquals(rtx, flyweightRtx);
+      }
+
+      assertTrue(flyweightRtx.isFlyweightMode());
+    }
+  }
+
+  @Test
+  public void testMoveToFieldInFlyweightMode() {
+    final var bigObject = new StringBuilder("{");
+    for (int i = 0; i < 100; i++) {
+      if (i > 0) {
+        bigObject.append(',');
+      }
+      bigObject.append("\"field").append(i).append("\":").append(i);
+    }
+    shred(JsonShredder.createStringReader(bigObject.append('}').toString()));
+
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var rtx = manager.beginNodeReadOnlyTrx()) {
+      rtx.setFlyweightMode(true);
+      rtx.moveToFirstChild();
+      final long objectNodeKey = rtx.getNodeKey();
+
+      for (int i = 0; i < 100; i++) {
+        assertTrue(rtx.moveToField(new QNm("field" + i)).hasMoved());
+        assertEquals(new QNm("field" + i), rtx.getName());
+        assertEquals(i, rtx.moveToFirstChild().trx().getNumberValue().intValue());
+        rtx.moveTo(objectNodeKey);
+      }
+
+      assertFalse(rtx.moveToField(new QNm("unknown")).hasMoved());
+      assertEquals(NodeKind.OBJECT, rtx.getKind());
+      assertEquals(objectNodeKey, rtx.getNodeKey());
+      assertEquals(100, rtx.getChildCount());
+    }
+  }
+
+  @Test
+  public void testDescendantAxisEnablesFlyweightModeDuringTraversal() {
+    shred(JsonShredder.createFileReader(JSON.resolve("abc-location-stations.json")));
+
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var rtx = manager.beginNodeReadOnlyTrx();
+         final var wtx = manager.beginNodeTrx()) {
+      assertTrue(rtx.isFlyweightModeSupported());
+      assertFalse(wtx.isFlyweightModeSupported());
+
+      final var axis = new DescendantAxis(rtx, IncludeSelf.YES);
+      assertTrue(axis.hasNext());
+      axis.next();
+      assertTrue(rtx.isFlyweightMode());
+      while (axis.hasNext()) {
+        axis.next();
+      }
+      assertFalse(rtx.isFlyweightMode());
+
+      // The axis doesn't disable the flyweight mode, if it has been enabled before.
+      rtx.setFlyweightMode(true);
+      final var flyweightAxis = new DescendantAxis(rtx, IncludeSelf.YES);
+      while (flyweightAxis.hasNext()) {
+        flyweightAxis.next();
+      }
+      assertTrue(rtx.isFlyweightMode());
+
+      // Write transactions aren't switched to the flyweight mode.
+      final var writeTrxAxis = new DescendantAxis(wtx, IncludeSelf.YES);
+      assertTrue(writeTrxAxis.hasNext());
+      writeTrxAxis.next();
+      assertFalse(wtx.isFlyweightMode());
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testFlyweightModeIsNotSupportedByWriteTrx() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.setFlyweightMode(true);
+    }
+  }
+
+  private static void shred(final JsonReader reader) {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      new JsonShredder.Builder(wtx, reader, InsertPosition.AS_FIRST_CHILD).commitAfterwards().build().call();
+    }
+    // Close the database, such that the records are read from the storage afterwards.
+    JsonTestHelper.closeEverything();
+  }
+
+  private static void assertNodeEquals(final JsonNodeReadOnlyTrx expected, final JsonNodeReadOnlyTrx actual) {
+    assertEquals(expected.getKind(), actual.getKind());
+    assertEquals(expected.getParentKey(), actual.getParentKey());
+    assertEquals(expected.getLeftSiblingKey(), actual.getLeftSiblingKey());
+    assertEquals(expected.getRightSiblingKey(), actual.getRightSiblingKey());
+    assertEquals(expected.getFirstChildKey(), actual.getFirstChildKey());
+    assertEquals(expected.getLastChildKey(), actual.getLastChildKey());
+    assertEquals(expected.getChildCount(), actual.getChildCount());
+    assertEquals(expected.getDescendantCount(), actual.getDescendantCount());
+    assertEquals(expected.getPathNodeKey(), actual.getPathNodeKey());
+    assertEquals(expected.getNameKey(), actual.getNameKey());
+    assertEquals(expected.getName(), actual.getName());
+    assertEquals(expected.getValue(), actual.getValue());
+    assertEquals(expected.getHash(), actual.getHash());
+    if (expected.isNumberValue()) {
+      assertEquals(expected.getNumberValue(), actual.getNumberValue());
+    }
+    if (expected.isBooleanValue()) {
+      assertEquals(expected.getBooleanValue(), actual.getBooleanValue());
+    }
+  }
+}
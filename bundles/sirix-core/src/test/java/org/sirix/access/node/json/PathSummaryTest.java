@@ -5,7 +5,9 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.sirix.JsonTestHelper;
+import org.sirix.access.trx.node.json.objectvalue.NumberValue;
 import org.sirix.api.Axis;
+import org.sirix.api.json.JsonResourceManager;
 import org.sirix.axis.DescendantAxis;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.NodeKind;
@@ -44,6 +46,91 @@ public class PathSummaryTest {
     }
   }
 
+  @Test
+  public void testPathSummaryIsDerivedFromPreviousRevision() {
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      final int revision = manager.getMostRecentRevisionNumber();
+
+      // Caches the path summary of the revision.
+      try (final var pathSummary = manager.openPathSummary(revision)) {
+        testInsertHelper(pathSummary);
+      }
+
+      try (final var wtx = manager.beginNodeTrx()) {
+        wtx.moveToDocumentRoot();
+        wtx.moveToFirstChild();
+        wtx.insertObjectRecordAsFirstChild("inserted", new NumberValue(1));
+        wtx.moveToDocumentRoot();
+        wtx.moveToFirstChild();
+        wtx.moveToField(new QNm("baz"));
+        wtx.remove();
+        wtx.commit();
+      }
+
+      try (final var pathSummary = manager.openPathSummary(revision + 1)) {
+        assertEquals(1, pathSummary.match(new QNm("inserted"), 0).cardinality());
+        assertEquals(1, pathSummary.match(new QNm("baz"), 0).cardinality());
+        assertEqualToTraversedPathSummary(manager, pathSummary);
+      }
+    }
+  }
+
+  @Test
+  public void testPathSummaryOfRevertedRevisionIsRebuilt() {
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      final int revision = manager.getMostRecentRevisionNumber();
+
+      try (final var wtx = manager.beginNodeTrx()) {
+        wtx.moveToDocumentRoot();
+        wtx.moveToFirstChild();
+        wtx.insertObjectRecordAsFirstChild("inserted", new NumberValue(1));
+        wtx.commit();
+
+        // Caches the path summary of the revision, which contains the inserted path.
+        try (final var pathSummary = manager.openPathSummary(revision + 1)) {
+          assertEquals(1, pathSummary.match(new QNm("inserted"), 0).cardinality());
+        }
+
+        wtx.revertTo(revision);
+        wtx.commit();
+      }
+
+      try (final var pathSummary = manager.openPathSummary(revision + 2)) {
+        assertEquals(0, pathSummary.match(new QNm("inserted"), 0).cardinality());
+        assertEqualToTraversedPathSummary(manager, pathSummary);
+        testInsertHelper(pathSummary);
+      }
+    }
+  }
+
+  /**
+   * Compares the path summary with the one, which is built by traversing the whole path summary of the revision.
+   */
+  private static void assertEqualToTraversedPathSummary(final JsonResourceManager manager,
+      final PathSummaryReader pathSummary) {
+    try (final var traversedPathSummary =
+        PathSummaryReader.getInstance(manager.beginPageReadOnlyTrx(pathSummary.getRevisionNumber()), manager)) {
+      final var axis = new DescendantAxis(pathSummary);
+      final var traversedAxis = new DescendantAxis(traversedPathSummary);
+
+      while (traversedAxis.hasNext()) {
+        traversedAxis.next();
+        assertTrue(axis.hasNext());
+        axis.next();
+        assertEquals(traversedPathSummary.getNodeKey(), pathSummary.getNodeKey());
+        assertEquals(traversedPathSummary.getName(), pathSummary.getName());
+        assertEquals(traversedPathSummary.getReferences(), pathSummary.getReferences());
+        assertEquals(traversedPathSummary.getChildCount(), pathSummary.getChildCount());
+        assertEquals(traversedPathSummary.match(pathSummary.getName(), 0),
+                     pathSummary.match(pathSummary.getName(), 0));
+      }
+
+      assertFalse(axis.hasNext());
+    }
+  }
+
   private void testInsertHelper(final PathSummaryReader summaryReader) {
     final var axis = new DescendantAxis(summaryReader);
     PathSummaryReader summary = next(axis);
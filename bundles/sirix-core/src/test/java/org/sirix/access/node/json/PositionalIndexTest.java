@@ -0,0 +1,313 @@
+package org.sirix.access.node.json;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.node.NodeKind;
+import org.sirix.service.json.shredder.JsonShredder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class PositionalIndexTest {
+
+  private static final int NUMBER_OF_CHILDREN = 100;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testMoveToChildAt() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(createArray(NUMBER_OF_CHILDREN)));
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+        rtx.moveToFirstChild();
+        final long arrayNodeKey = rtx.getNodeKey();
+
+        // Backwards, such that the indexed positions are accessed before the scanned ones.
+        for (int i = NUMBER_OF_CHILDREN - 1; i >= 0; i--) {
+          assertValueAt(rtx, arrayNodeKey, i, i);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testIndexOutOfRange() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(
+          "{\"array\":" + createArray(NUMBER_OF_CHILDREN) + ",\"empty\":[]}"));
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+        rtx.moveToFirstChild();
+        final long objectNodeKey = rtx.getNodeKey();
+        rtx.moveToFirstChild();
+        rtx.moveToFirstChild();
+        final long arrayNodeKey = rtx.getNodeKey();
+
+        for (final long index : new long[] { NUMBER_OF_CHILDREN, NUMBER_OF_CHILDREN + 1, Integer.MAX_VALUE + 1L,
+            Long.MAX_VALUE }) {
+          assertNotMoved(rtx, arrayNodeKey, index);
+        }
+        assertNotMoved(rtx, objectNodeKey, 2);
+        assertNotMoved(rtx, objectNodeKey, NUMBER_OF_CHILDREN);
+
+        rtx.moveTo(objectNodeKey);
+        assertTrue(rtx.moveToChildAt(1).hasMoved());
+        assertEquals("empty", rtx.getName().getLocalName());
+        rtx.moveToFirstChild();
+        final long emptyArrayNodeKey = rtx.getNodeKey();
+        assertNotMoved(rtx, emptyArrayNodeKey, 0);
+        assertNotMoved(rtx, emptyArrayNodeKey, NUMBER_OF_CHILDREN);
+
+        // Only arrays and objects have positional children.
+        rtx.moveTo(arrayNodeKey);
+        rtx.moveToChildAt(50);
+        final long numberNodeKey = rtx.getNodeKey();
+        assertFalse(rtx.moveToChildAt(0).hasMoved());
+        assertEquals(numberNodeKey, rtx.getNodeKey());
+
+        rtx.moveTo(arrayNodeKey);
+        try {
+          rtx.moveToChildAt(-1);
+          throw new AssertionError("A negative index must be rejected.");
+        } catch (final IllegalArgumentException expected) {
+          assertEquals(arrayNodeKey, rtx.getNodeKey());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testPositionsAfterInsert() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(createArray(NUMBER_OF_CHILDREN)));
+      wtx.moveToDocumentRoot();
+      final long arrayNodeKey = wtx.moveToFirstChild().trx().getNodeKey();
+      final List<Integer> values = createValues(NUMBER_OF_CHILDREN);
+
+      // Collects the child node keys.
+      assertPositions(wtx, arrayNodeKey, values);
+
+      wtx.moveTo(arrayNodeKey);
+      wtx.insertNumberValueAsLastChild(1_000);
+      values.add(1_000);
+      assertPositions(wtx, arrayNodeKey, values);
+
+      wtx.moveTo(arrayNodeKey);
+      wtx.insertNumberValueAsFirstChild(1_001);
+      values.add(0, 1_001);
+      assertPositions(wtx, arrayNodeKey, values);
+
+      wtx.moveTo(arrayNodeKey);
+      wtx.moveToChildAt(60);
+      wtx.insertNumberValueAsRightSibling(1_002);
+      values.add(61, 1_002);
+      assertPositions(wtx, arrayNodeKey, values);
+
+      wtx.moveTo(arrayNodeKey);
+      wtx.moveToChildAt(20);
+      wtx.insertNumberValueAsLeftSibling(1_003);
+      values.add(20, 1_003);
+      assertPositions(wtx, arrayNodeKey, values);
+
+      wtx.moveTo(arrayNodeKey);
+      wtx.moveToChildAt(30);
+      wtx.insertSubtreeAsRightSibling(JsonShredder.createStringReader("[1,2,3]"),
+                                      JsonNodeTrx.Commit.No,
+                                      JsonNodeTrx.CheckParentNode.Yes);
+      wtx.moveTo(arrayNodeKey);
+      assertTrue(wtx.moveToChildAt(31).hasMoved());
+      assertEquals(NodeKind.ARRAY, wtx.getKind());
+      assertEquals(3, wtx.getChildCount());
+      wtx.remove();
+      assertPositions(wtx, arrayNodeKey, values);
+
+      wtx.commit();
+      assertPositions(wtx, arrayNodeKey, values);
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+        assertPositions(rtx, arrayNodeKey, values);
+      }
+    }
+  }
+
+  @Test
+  public void testPositionsAfterRemove() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(createArray(NUMBER_OF_CHILDREN)));
+      wtx.moveToDocumentRoot();
+      final long arrayNodeKey = wtx.moveToFirstChild().trx().getNodeKey();
+      final List<Integer> values = createValues(NUMBER_OF_CHILDREN);
+
+      assertPositions(wtx, arrayNodeKey, values);
+
+      for (final int index : new int[] { NUMBER_OF_CHILDREN - 1, 0, 50, 17, 16, 15, 90 }) {
+        wtx.moveTo(arrayNodeKey);
+        assertTrue(wtx.moveToChildAt(index).hasMoved());
+        wtx.remove();
+        values.remove(index);
+        assertPositions(wtx, arrayNodeKey, values);
+      }
+
+      wtx.commit();
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+        assertPositions(rtx, arrayNodeKey, values);
+      }
+
+      // Rollback and revert restore the positions of the last committed revision and of the reverted revision.
+      wtx.moveTo(arrayNodeKey);
+      wtx.moveToChildAt(40);
+      wtx.remove();
+      wtx.rollback();
+      assertPositions(wtx, arrayNodeKey, values);
+
+      wtx.revertTo(1);
+      assertPositions(wtx, arrayNodeKey, createValues(NUMBER_OF_CHILDREN));
+    }
+  }
+
+  @Test
+  public void testPositionsOfPartiallyCollectedChildren() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(createArray(NUMBER_OF_CHILDREN)));
+      wtx.moveToDocumentRoot();
+      final long arrayNodeKey = wtx.moveToFirstChild().trx().getNodeKey();
+      final List<Integer> values = createValues(NUMBER_OF_CHILDREN);
+
+      // Collects the first 21 child node keys.
+      assertValueAt(wtx, arrayNodeKey, 20, 20);
+
+      // Within the collected children.
+      wtx.moveTo(arrayNodeKey);
+      wtx.moveToChildAt(10);
+      wtx.insertNumberValueAsRightSibling(1_000);
+      values.add(11, 1_000);
+
+      wtx.moveTo(arrayNodeKey);
+      wtx.moveToChildAt(5);
+      wtx.remove();
+      values.remove(5);
+
+      // Behind the collected children.
+      wtx.moveTo(arrayNodeKey);
+      wtx.moveToLastChild();
+      wtx.insertNumberValueAsLeftSibling(1_001);
+      values.add(values.size() - 1, 1_001);
+
+      wtx.moveTo(arrayNodeKey);
+      wtx.moveToLastChild();
+      wtx.moveToLeftSibling();
+      wtx.moveToLeftSibling();
+      wtx.remove();
+      values.remove(values.size() - 3);
+
+      // In document order, such that the collected children are extended by one child at a time.
+      for (int i = 0; i < values.size(); i++) {
+        assertValueAt(wtx, arrayNodeKey, i, values.get(i));
+      }
+      assertNotMoved(wtx, arrayNodeKey, values.size());
+
+      wtx.commit();
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+        assertValueAt(rtx, arrayNodeKey, 30, values.get(30));
+        assertPositions(rtx, arrayNodeKey, values);
+      }
+    }
+  }
+
+  @Test
+  public void testPositionsOfObjectRecords() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      final var json = new StringBuilder("{");
+      for (int i = 0; i < NUMBER_OF_CHILDREN; i++) {
+        if (i > 0) {
+          json.append(',');
+        }
+        json.append("\"key").append(i).append("\":").append(i);
+      }
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(json.append('}').toString()));
+      wtx.moveToDocumentRoot();
+      final long objectNodeKey = wtx.moveToFirstChild().trx().getNodeKey();
+
+      wtx.moveTo(objectNodeKey);
+      assertTrue(wtx.moveToChildAt(70).hasMoved());
+      assertEquals("key70", wtx.getName().getLocalName());
+      wtx.remove();
+
+      wtx.moveTo(objectNodeKey);
+      assertTrue(wtx.moveToChildAt(70).hasMoved());
+      assertEquals("key71", wtx.getName().getLocalName());
+      assertNotMoved(wtx, objectNodeKey, NUMBER_OF_CHILDREN - 1);
+    }
+  }
+
+  private static void assertPositions(final JsonNodeReadOnlyTrx rtx, final long arrayNodeKey,
+      final List<Integer> values) {
+    for (int i = values.size() - 1; i >= 0; i--) {
+      assertValueAt(rtx, arrayNodeKey, i, values.get(i));
+    }
+    assertNotMoved(rtx, arrayNodeKey, values.size());
+  }
+
+  private static void assertValueAt(final JsonNodeReadOnlyTrx rtx, final long arrayNodeKey, final long index,
+      final int value) {
+    rtx.moveTo(arrayNodeKey);
+    assertTrue(rtx.moveToChildAt(index).hasMoved());
+    assertEquals(value, rtx.getNumberValue().intValue());
+  }
+
+  private static void assertNotMoved(final JsonNodeReadOnlyTrx rtx, final long nodeKey, final long index) {
+    rtx.moveTo(nodeKey);
+    assertFalse(rtx.moveToChildAt(index).hasMoved());
+    assertEquals(nodeKey, rtx.getNodeKey());
+  }
+
+  private static List<Integer> createValues(final int numberOfValues) {
+    final List<Integer> values = new ArrayList<>(numberOfValues);
+    for (int i = 0; i < numberOfValues; i++) {
+      values.add(i);
+    }
+    return values;
+  }
+
+  private static String createArray(final int numberOfValues) {
+    final var json = new StringBuilder("[");
+    for (int i = 0; i < numberOfValues; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append(i);
+    }
+    return json.append(']').toString();
+  }
+}
@@ -0,0 +1,149 @@
+package org.sirix.access.node.xml;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.XmlTestHelper;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.access.trx.node.HashType;
+import org.sirix.api.xml.XmlNodeReadOnlyTrx;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.axis.IncludeSelf;
+import org.sirix.index.IndexType;
+import org.sirix.node.NodeKind;
+import org.sirix.node.interfaces.immutable.ImmutableXmlNode;
+import org.sirix.utils.XmlDocumentCreator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public final class FlyweightNodeTest {
+
+  private static final String RESOURCE = "flyweight";
+
+  @Before
+  public void setUp() {
+    XmlTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    XmlTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testFlyweightNodesEqualDeserializedNodes() {
+    testFlyweightNodesEqualDeserializedNodes(ResourceConfiguration.newBuilder(RESOURCE).build());
+  }
+
+  @Test
+  public void testFlyweightNodesWithoutHashes() {
+    testFlyweightNodesEqualDeserializedNodes(
+        ResourceConfiguration.newBuilder(RESOURCE).hashKind(HashType.NONE).build());
+  }
+
+  @Test
+  public void testFlyweightNodesWithoutChildCounts() {
+    testFlyweightNodesEqualDeserializedNodes(
+        ResourceConfiguration.newBuilder(RESOURCE).storeChildCount(false).build());
+  }
+
+  @Test
+  public void testSerializedRecordsAreKeptAfterDeserialization() {
+    createDocument(ResourceConfiguration.newBuilder(RESOURCE).build());
+
+    final var database = XmlTestHelper.getDatabase(XmlTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(RESOURCE);
+         final var rtx = manager.beginNodeReadOnlyTrx()) {
+      rtx.setFlyweightMode(true);
+      rtx.moveToFirstChild();
+      final long elementNodeKey = rtx.getNodeKey();
+
+      // Hands out the node, thus the record is deserialized.
+      final ImmutableXmlNode node = rtx.getNode();
+      assertEquals(elementNodeKey, node.getNodeKey());
+      assertNotNull(rtx.getPageTrx().getSerializedRecord(elementNodeKey, IndexType.DOCUMENT, -1));
+
+      rtx.moveToDocumentRoot();
+      assertTrue(rtx.moveTo(elementNodeKey).hasMoved());
+      assertEquals(NodeKind.ELEMENT, rtx.getKind());
+      assertEquals(1, rtx.getAttributeCount());
+      assertEquals(1, rtx.getNamespaceCount());
+    }
+  }
+
+  private static void testFlyweightNodesEqualDeserializedNodes(final ResourceConfiguration resourceConfig) {
+    createDocument(resourceConfig);
+
+    final var database = XmlTestHelper.getDatabase(XmlTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(RESOURCE);
+         final var rtx = manager.beginNodeReadOnlyTrx();
+         final var flyweightRtx = manager.beginNodeReadOnlyTrx()) {
+      flyweightRtx.setFlyweightMode(true);
+      assertTrue(flyweightRtx.isFlyweightMode());
+
+      final var flyweightAxis = new DescendantAxis(flyweightRtx, IncludeSelf.YES);
+
+      // The other transaction moves to the nodes without an axis, which would enable the flyweight mode.
+      while (flyweightAxis.hasNext()) {
+        final long nodeKey = flyweightAxis.next();
+        assertTrue(rtx.moveTo(nodeKey).hasMoved());
+        assertFalse(rtx.isFlyweightMode());
+        assertNodeEquals(rtx, flyweightRtx);
+
+        for (int i = 0, attributes = rtx.getAttributeCount(); i < attributes; i++) {
+          assertTrue(rtx.moveToAttribute(i).hasMoved());
+          assertTrue(flyweightRtx.moveToAttribute(i).hasMoved());
+          assertNodeEquals(rtx, flyweightRtx);
+          rtx.moveTo(nodeKey);
+          flyweightRtx.moveTo(nodeKey);
+        }
+
+        for (int i = 0, namespaces = rtx.getNamespaceCount(); i < namespaces; i++) {
+          assertTrue(rtx.moveToNamespace(i).hasMoved());
+          assertTrue(flyweightRtx.moveToNamespace(i).hasMoved());
+          assertNodeEquals(rtx, flyweightRtx);
+          rtx.moveTo(nodeKey);
+          flyweightRtx.moveTo(nodeKey);
+        }
+      }
+
+      assertTrue(flyweightRtx.isFlyweightMode());
+    }
+  }
+
+  private static void createDocument(final ResourceConfiguration resourceConfig) {
+    final var database = XmlTestHelper.getDatabase(XmlTestHelper.PATHS.PATH1.getFile());
+    database.createResource(resourceConfig);
+    try (final var manager = database.openResourceManager(RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      XmlDocumentCreator.createCommentPI(wtx);
+      wtx.commit();
+    }
+    // Close the database, such that the records are read from the storage afterwards.
+    XmlTestHelper.closeEverything();
+  }
+
+  private static void assertNodeEquals(final XmlNodeReadOnlyTrx expected, final XmlNodeReadOnlyTrx actual) {
+    assertEquals(expected.getNodeKey(), actual.getNodeKey());
+    assertEquals(expected.getKind(), actual.getKind());
+    assertEquals(expected.getParentKey(), actual.getParentKey());
+    assertEquals(expected.getLeftSiblingKey(), actual.getLeftSiblingKey());
+    assertEquals(expected.getRightSiblingKey(), actual.getRightSiblingKey());
+    assertEquals(expected.getFirstChildKey(), actual.getFirstChildKey());
+    assertEquals(expected.getLastChildKey(), actual.getLastChildKey());
+    assertEquals(expected.getChildCount(), actual.getChildCount());
+    assertEquals(expected.getDescendantCount(), actual.getDescendantCount());
+    assertEquals(expected.getAttributeCount(), actual.getAttributeCount());
+    assertEquals(expected.getNamespaceCount(), actual.getNamespaceCount());
+    assertEquals(expected.getPathNodeKey(), actual.getPathNodeKey());
+    assertEquals(expected.getURIKey(), actual.getURIKey());
+    assertEquals(expected.getPrefixKey(), actual.getPrefixKey());
+    assertEquals(expected.getLocalNameKey(), actual.getLocalNameKey());
+    assertEquals(expected.getName(), actual.getName());
+    assertEquals(expected.getValue(), actual.getValue());
+    assertEquals(expected.getHash(), actual.getHash());
+  }
+}
@@ -173,6 +173,29 @@ public class PathSummaryTest {
     pathSummary.close();
   }
 
+  /**
+   * Test that the path summary of a reverted revision isn't derived from the one of the previous revision.
+   */
+  @Test
+  public void testRevertAndCommit() {
+    wtx.commit();
+    wtx.moveTo(9);
+    wtx.remove();
+    wtx.commit();
+
+    // Caches the path summary of the revision, in which the subtree has been removed.
+    PathSummaryReader pathSummary = holder.getResourceManager().openPathSummary(2);
+    testDeleteHelper(pathSummary);
+    pathSummary.close();
+
+    wtx.revertTo(1);
+    wtx.commit();
+    wtx.close();
+    pathSummary = holder.getResourceManager().openPathSummary(3);
+    testInsertHelper(pathSummary);
+    pathSummary.close();
+  }
+
   private void testDeleteHelper(final PathSummaryReader summaryReader) {
     final Axis axis = new DescendantAxis(summaryReader);
     PathSummaryReader summary = next(axis);
@@ -0,0 +1,157 @@
+package org.sirix.access.node.xml;
+
+import org.brackit.xquery.atomic.QNm;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.XmlTestHelper;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.xml.XmlNodeReadOnlyTrx;
+import org.sirix.index.IndexType;
+import org.sirix.node.delegates.ValueNodeDelegate;
+import org.sirix.node.interfaces.ValueNode;
+import org.sirix.node.xml.AttributeNode;
+import org.sirix.node.xml.PINode;
+import org.sirix.node.xml.TextNode;
+import org.sirix.utils.ValueCompressor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the values of attributes, processing instructions and text nodes are compressed with the codec and the
+ * threshold of the resource configuration.
+ */
+public final class ValueCompressionTest {
+
+  private static final String RESOURCE = "compression";
+
+  private static final String VALUE = "value ".repeat(20);
+
+  @Before
+  public void setUp() {
+    XmlTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    XmlTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testValuesAreCompressedWithTheConfiguredCodec() {
+    final long[] nodeKeys = createDocument(
+        ResourceConfiguration.newBuilder(RESOURCE).valueCompressor(ValueCompressor.ZSTD).build());
+
+    final var database = XmlTestHelper.getDatabase(XmlTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(RESOURCE);
+         final var rtx = manager.beginNodeReadOnlyTrx()) {
+      assertAttributeDelegate(rtx, nodeKeys[0], true, ValueCompressor.ZSTD, VALUE);
+      assertPIDelegate(rtx, nodeKeys[1], true, ValueCompressor.ZSTD, VALUE);
+      assertTextDelegate(rtx, nodeKeys[2], true, ValueCompressor.ZSTD, VALUE);
+    }
+
+    // Modified values are compressed with the configured codec, too.
+    final String newValue = "new value ".repeat(20);
+    try (final var manager = database.openResourceManager(RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      for (final long nodeKey : nodeKeys) {
+        wtx.moveTo(nodeKey);
+        wtx.setValue(newValue);
+      }
+      wtx.commit();
+    }
+
+    try (final var manager = database.openResourceManager(RESOURCE);
+         final var rtx = manager.beginNodeReadOnlyTrx()) {
+      assertAttributeDelegate(rtx, nodeKeys[0], true, ValueCompressor.ZSTD, newValue);
+      assertPIDelegate(rtx, nodeKeys[1], true, ValueCompressor.ZSTD, newValue);
+      assertTextDelegate(rtx, nodeKeys[2], true, ValueCompressor.ZSTD, newValue);
+    }
+  }
+
+  @Test
+  public void testValuesBelowTheThresholdAreNotCompressed() {
+    final long[] nodeKeys = createDocument(ResourceConfiguration.newBuilder(RESOURCE)
+                                                                .valueCompressor(ValueCompressor.LZ4)
+                                                                .valueCompressionThreshold(VALUE.length())
+                                                                .build());
+
+    final var database = XmlTestHelper.getDatabase(XmlTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(RESOURCE);
+         final var rtx = manager.beginNodeReadOnlyTrx()) {
+      assertAttributeDelegate(rtx, nodeKeys[0], false, ValueCompressor.LZ4, VALUE);
+      assertPIDelegate(rtx, nodeKeys[1], false, ValueCompressor.LZ4, VALUE);
+      assertTextDelegate(rtx, nodeKeys[2], false, ValueCompressor.LZ4, VALUE);
+    }
+  }
+
+  @Test
+  public void testValuesAreNotCompressedWithoutTextCompression() {
+    final long[] nodeKeys =
+        createDocument(ResourceConfiguration.newBuilder(RESOURCE).useTextCompression(false).build());
+
+    final var database = XmlTestHelper.getDatabase(XmlTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(RESOURCE);
+         final var rtx = manager.beginNodeReadOnlyTrx()) {
+      assertAttributeDelegate(rtx, nodeKeys[0], false, ValueCompressor.NONE, VALUE);
+      assertPIDelegate(rtx, nodeKeys[1], false, ValueCompressor.NONE, VALUE);
+      assertTextDelegate(rtx, nodeKeys[2], false, ValueCompressor.NONE, VALUE);
+    }
+  }
+
+  /**
+   * Creates an element with an attribute, a processing instruction and a text node.
+   *
+   * @return the node keys of the attribute, the processing instruction and the text node
+   */
+  private static long[] createDocument(final ResourceConfiguration resourceConfig) {
+    final var database = XmlTestHelper.getDatabase(XmlTestHelper.PATHS.PATH1.getFile());
+    database.createResource(resourceConfig);
+    try (final var manager = database.openResourceManager(RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.insertElementAsFirstChild(new QNm("foo"));
+      final long elementNodeKey = wtx.getNodeKey();
+      final long attributeNodeKey = wtx.insertAttribute(new QNm("bar"), VALUE).getNodeKey();
+      wtx.moveTo(elementNodeKey);
+      final long piNodeKey = wtx.insertPIAsFirstChild(VALUE, "baz").getNodeKey();
+      final long textNodeKey = wtx.insertTextAsRightSibling(VALUE).getNodeKey();
+      wtx.commit();
+      return new long[] { attributeNodeKey, piNodeKey, textNodeKey };
+    }
+  }
+
+  private static void assertAttributeDelegate(final XmlNodeReadOnlyTrx rtx, final long nodeKey,
+      final boolean compressed, final ValueCompressor compressor, final String value) {
+    final AttributeNode node = getRecord(rtx, nodeKey);
+    assertDelegate(node, node.getValNodeDelegate(), compressed, compressor, value);
+  }
+
+  private static void assertPIDelegate(final XmlNodeReadOnlyTrx rtx, final long nodeKey, final boolean compressed,
+      final ValueCompressor compressor, final String value) {
+    final PINode node = getRecord(rtx, nodeKey);
+    assertDelegate(node, node.getValNodeDelegate(), compressed, compressor, value);
+  }
+
+  private static void assertTextDelegate(final XmlNodeReadOnlyTrx rtx, final long nodeKey, final boolean compressed,
+      final ValueCompressor compressor, final String value) {
+    final TextNode node = getRecord(rtx, nodeKey);
+    assertDelegate(node, node.getValNodeDelegate(), compressed, compressor, value);
+  }
+
+  private static <T> T getRecord(final XmlNodeReadOnlyTrx rtx, final long nodeKey) {
+    return rtx.getPageTrx().<Long, T>getRecord(nodeKey, IndexType.DOCUMENT, -1).orElseThrow();
+  }
+
+  private static void assertDelegate(final ValueNode node, final ValueNodeDelegate delegate,
+      final boolean compressed, final ValueCompressor compressor, final String value) {
+    if (compressed) {
+      assertTrue(delegate.isCompressed());
+      assertEquals(compressor, delegate.getCompressor());
+    } else {
+      assertFalse(delegate.isCompressed());
+    }
+    assertEquals(value, node.getValue());
+  }
+}
@@ -22,12 +22,14 @@
 package org.sirix.access.node.xml;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import java.time.Instant;
 import java.util.concurrent.TimeUnit;
+import org.brackit.xquery.atomic.QNm;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
@@ -40,6 +42,7 @@ import org.sirix.api.xml.XmlResourceManager;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.api.xml.XmlNodeTrx;
 import org.sirix.exception.SirixException;
+import org.sirix.exception.SirixUsageException;
 import org.sirix.node.NodeKind;
 import org.sirix.settings.Constants;
 import org.sirix.utils.XmlDocumentCreator;
@@ -245,6 +248,51 @@ public class XmlResourceManagerTest {
     }
   }
 
+  @Test
+  public void testRevisionNumberOfAGivenPointInTime() throws InterruptedException {
+    final Instant beforeFirstCommit = Instant.now();
+    final Instant afterFirstCommit;
+    final Instant afterSecondCommit;
+    try (final XmlNodeTrx wtx = holder.getResourceManager().beginNodeTrx()) {
+      TimeUnit.MILLISECONDS.sleep(50);
+      XmlDocumentCreator.create(wtx);
+      wtx.commit();
+      TimeUnit.MILLISECONDS.sleep(50);
+      afterFirstCommit = Instant.now();
+      TimeUnit.MILLISECONDS.sleep(200);
+      wtx.moveTo(1);
+      wtx.insertElementAsFirstChild(new QNm("foo"));
+      wtx.commit();
+      TimeUnit.MILLISECONDS.sleep(50);
+      afterSecondCommit = Instant.now();
+    }
+
+    final XmlResourceManager manager = holder.getResourceManager();
+    assertEquals(0, manager.getRevisionNumber(beforeFirstCommit));
+    assertEquals(1, manager.getRevisionNumber(afterFirstCommit));
+    assertEquals(2, manager.getRevisionNumber(afterSecondCommit));
+
+    try (final XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx(afterFirstCommit)) {
+      assertEquals(1, rtx.getRevisionNumber());
+    }
+  }
+
+  @Test
+  public void testChangedNodesAreNotIndexed() {
+    final XmlResourceManager manager = holder.getResourceManager();
+    try (final XmlNodeTrx wtx = manager.beginNodeTrx()) {
+      XmlDocumentCreator.create(wtx);
+      wtx.commit();
+    }
+
+    assertFalse(manager.areChangedNodesIndexed(1, 1));
+    try (final var ignored = manager.getChangedNodes(1, 1)) {
+      fail("The changes of XML resources aren't indexed.");
+    } catch (final SirixUsageException expected) {
+      // Expected.
+    }
+  }
+
   @Ignore
   @Test
   public void testFetchingOfClosestRevisionToAGivenPointInTime() throws InterruptedException {
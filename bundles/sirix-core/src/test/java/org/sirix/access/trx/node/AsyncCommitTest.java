@@ -0,0 +1,123 @@
+package org.sirix.access.trx.node;
+
+import org.brackit.xquery.atomic.QNm;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.XmlTestHelper;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.io.StorageType;
+import org.sirix.page.UberPage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class AsyncCommitTest {
+
+  private static final String RESOURCE = "asyncCommit";
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+    XmlTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+    XmlTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testCommitAsyncWithFileStorage() {
+    testJsonCommitAsync(StorageType.FILE);
+  }
+
+  @Test
+  public void testCommitAsyncWithMemoryMappedStorage() {
+    testJsonCommitAsync(StorageType.MEMORY_MAPPED);
+  }
+
+  @Test
+  public void testXmlCommitAsync() {
+    final var database = XmlTestHelper.getDatabase(XmlTestHelper.PATHS.PATH1.getFile());
+    database.createResource(ResourceConfiguration.newBuilder(RESOURCE).storageType(StorageType.MEMORY_MAPPED).build());
+
+    try (final var manager = database.openResourceManager(RESOURCE); final var wtx = manager.beginNodeTrx()) {
+      wtx.insertElementAsFirstChild(new QNm("foo"));
+
+      final UberPage uberPage = wtx.commitAsync("async").join();
+
+      assertEquals(1, uberPage.getRevisionNumber());
+      assertEquals(1, manager.getMostRecentRevisionNumber());
+      assertEquals("async", manager.getHistory().get(0).getCommitMessage().orElseThrow());
+
+      // The transaction is usable on the calling thread again.
+      wtx.moveToDocumentRoot();
+      wtx.moveToFirstChild();
+      wtx.insertElementAsFirstChild(new QNm("bar"));
+      wtx.commit();
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx(1)) {
+        assertTrue(rtx.moveToFirstChild().hasMoved());
+        assertEquals(new QNm("foo"), rtx.getName());
+        assertFalse(rtx.moveToFirstChild().hasMoved());
+      }
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx(2)) {
+        assertTrue(rtx.moveToFirstChild().hasMoved());
+        assertTrue(rtx.moveToFirstChild().hasMoved());
+        assertEquals(new QNm("bar"), rtx.getName());
+      }
+    }
+  }
+
+  private static void testJsonCommitAsync(final StorageType storageType) {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    database.createResource(ResourceConfiguration.newBuilder(RESOURCE).storageType(storageType).build());
+
+    final var postCommitThreads = new Thread[1];
+
+    try (final var manager = database.openResourceManager(RESOURCE); final var wtx = manager.beginNodeTrx()) {
+      wtx.addPostCommitHook(trx -> postCommitThreads[0] = Thread.currentThread());
+      wtx.insertArrayAsFirstChild();
+      wtx.insertNumberValueAsFirstChild(1);
+
+      final UberPage uberPage = wtx.commitAsync().join();
+
+      assertEquals(1, uberPage.getRevisionNumber());
+      assertFalse(Thread.currentThread().equals(postCommitThreads[0]));
+      assertEquals(1, manager.getMostRecentRevisionNumber());
+      assertEquals(2, wtx.getRevisionNumber());
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx(1)) {
+        assertTrue(rtx.moveToFirstChild().hasMoved());
+        assertTrue(rtx.isArray());
+        assertTrue(rtx.moveToFirstChild().hasMoved());
+        assertEquals(1, rtx.getNumberValue().intValue());
+      }
+
+      // The transaction is usable on the calling thread again and commits on top of the asynchronous commit.
+      wtx.moveToDocumentRoot();
+      wtx.moveToFirstChild();
+      wtx.insertNumberValueAsLastChild(2);
+      assertEquals(2, wtx.commitAsync().join().getRevisionNumber());
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+        assertEquals(2, rtx.getRevisionNumber());
+        rtx.moveToFirstChild();
+        assertTrue(rtx.moveToLastChild().hasMoved());
+        assertEquals(2, rtx.getNumberValue().intValue());
+      }
+    }
+
+    try (final var manager = database.openResourceManager(RESOURCE);
+         final var rtx = manager.beginNodeReadOnlyTrx()) {
+      assertEquals(2, rtx.getRevisionNumber());
+      rtx.moveToFirstChild();
+      assertEquals(2, rtx.getChildCount());
+    }
+  }
+}
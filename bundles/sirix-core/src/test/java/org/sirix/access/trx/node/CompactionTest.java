@@ -0,0 +1,229 @@
+package org.sirix.access.trx.node;
+
+import org.brackit.xquery.atomic.QNm;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.XmlTestHelper;
+import org.sirix.access.DatabaseConfiguration;
+import org.sirix.access.Databases;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.Database;
+import org.sirix.api.xml.XmlNodeReadOnlyTrx;
+import org.sirix.api.xml.XmlNodeTrx;
+import org.sirix.api.xml.XmlResourceManager;
+import org.sirix.exception.SirixUsageException;
+import org.sirix.io.StorageType;
+import org.sirix.settings.VersioningType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class CompactionTest {
+
+  private static final int NUMBER_OF_REVISIONS = 6;
+
+  private Database<XmlResourceManager> database;
+
+  @Before
+  public void setUp() {
+    XmlTestHelper.deleteEverything();
+    Databases.createXmlDatabase(new DatabaseConfiguration(XmlTestHelper.PATHS.PATH1.getFile()));
+    database = Databases.openXmlDatabase(XmlTestHelper.PATHS.PATH1.getFile());
+  }
+
+  @After
+  public void tearDown() {
+    database.close();
+    XmlTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testCompactionRetainingAllRevisions() throws IOException {
+    createResource(StorageType.FILE);
+
+    try (final XmlResourceManager manager = database.openResourceManager(XmlTestHelper.RESOURCE)) {
+      createRevisions(manager);
+
+      manager.compactAsync(new CompactionOptions.Builder().build()).join();
+
+      assertEquals(NUMBER_OF_REVISIONS, manager.getMostRecentRevisionNumber());
+      for (int revision = 0; revision <= NUMBER_OF_REVISIONS; revision++) {
+        assertChildren(manager, revision);
+      }
+      assertFalse(Files.exists(getDataDirectory(manager).resolve("compaction")));
+    }
+  }
+
+  @Test
+  public void testCompactionPruningRevisions() throws IOException {
+    testCompactionPruningRevisions(StorageType.FILE);
+  }
+
+  @Test
+  public void testCompactionPruningRevisionsWithFileChannelStorage() throws IOException {
+    testCompactionPruningRevisions(StorageType.DIRECT);
+  }
+
+  @Test
+  public void testCompactionPruningRevisionsWithMemoryMappedStorage() throws IOException {
+    testCompactionPruningRevisions(StorageType.MEMORY_MAPPED);
+  }
+
+  @Test
+  public void testReaderOpenDuringCompaction() {
+    createResource(StorageType.FILE);
+
+    try (final XmlResourceManager manager = database.openResourceManager(XmlTestHelper.RESOURCE)) {
+      createRevisions(manager);
+
+      try (final XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx(3)) {
+        // Buffers the pages of the revision before the compaction.
+        rtx.moveToFirstChild();
+
+        manager.compactAsync(new CompactionOptions.Builder().keepRecentRevisions(2).build()).join();
+
+        // The reader keeps reading the revision from the replaced data files, although the revision has been pruned.
+        rtx.moveToDocumentRoot();
+        for (int i = 0; i < 3; i++) {
+          assertTrue(rtx.moveToFirstChild().hasMoved());
+          assertEquals(new QNm("foo"), rtx.getName());
+        }
+        assertFalse(rtx.moveToFirstChild().hasMoved());
+
+        // Readers started after the compaction read from the compacted data files.
+        assertChildren(manager, NUMBER_OF_REVISIONS);
+      }
+
+      try (final XmlNodeReadOnlyTrx ignored = manager.beginNodeReadOnlyTrx(3)) {
+        fail("Revision 3 should have been pruned.");
+      } catch (final SirixUsageException expected) {
+        // Expected.
+      }
+      assertChildren(manager, NUMBER_OF_REVISIONS - 1);
+    }
+  }
+
+  @Test
+  public void testPointInTimeOfPrunedRevision() throws InterruptedException {
+    createResource(StorageType.FILE);
+
+    try (final XmlResourceManager manager = database.openResourceManager(XmlTestHelper.RESOURCE)) {
+      try (final XmlNodeTrx wtx = manager.beginNodeTrx()) {
+        for (int revision = 1; revision <= NUMBER_OF_REVISIONS; revision++) {
+          // Commits the revisions at distinct points in time.
+          Thread.sleep(5);
+          wtx.insertElementAsFirstChild(new QNm("foo"));
+          wtx.commit();
+        }
+      }
+
+      final Instant pointInTime;
+      try (final XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx(3)) {
+        pointInTime = rtx.getRevisionTimestamp();
+      }
+      assertEquals(3, manager.getRevisionNumber(pointInTime));
+      final Instant retainedPointInTime;
+      try (final XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx(NUMBER_OF_REVISIONS - 1)) {
+        retainedPointInTime = rtx.getRevisionTimestamp();
+      }
+
+      manager.compactAsync(new CompactionOptions.Builder().keepRecentRevisions(2).build()).join();
+
+      // Revision 3 has been pruned, the nearest retained revision before it is revision 0.
+      assertEquals(0, manager.getRevisionNumber(pointInTime));
+      try (final XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx(pointInTime)) {
+        assertEquals(0, rtx.getRevisionNumber());
+      }
+
+      // Retained revisions keep their commit timestamps.
+      try (final XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx(NUMBER_OF_REVISIONS - 1)) {
+        assertEquals(retainedPointInTime, rtx.getRevisionTimestamp());
+      }
+      assertEquals(NUMBER_OF_REVISIONS - 1, manager.getRevisionNumber(retainedPointInTime));
+    }
+  }
+
+  private void testCompactionPruningRevisions(final StorageType storageType) throws IOException {
+    createResource(storageType);
+
+    try (final XmlResourceManager manager = database.openResourceManager(XmlTestHelper.RESOURCE)) {
+      createRevisions(manager);
+      final long dataFileSize = Files.size(getDataDirectory(manager).resolve("sirix.data"));
+
+      manager.compactAsync(new CompactionOptions.Builder().keepRecentRevisions(2).build()).join();
+
+      assertTrue(Files.size(getDataDirectory(manager).resolve("sirix.data")) < dataFileSize);
+      assertEquals(NUMBER_OF_REVISIONS, manager.getMostRecentRevisionNumber());
+      assertChildren(manager, 0);
+      assertChildren(manager, NUMBER_OF_REVISIONS - 1);
+      assertChildren(manager, NUMBER_OF_REVISIONS);
+      assertEquals(2, manager.getHistory().size());
+
+      for (int revision = 1; revision < NUMBER_OF_REVISIONS - 1; revision++) {
+        try (final XmlNodeReadOnlyTrx ignored = manager.beginNodeReadOnlyTrx(revision)) {
+          fail("Revision " + revision + " should have been pruned.");
+        } catch (final SirixUsageException expected) {
+          // Expected.
+        }
+      }
+
+      // A new revision is committed on top of the compacted data files.
+      try (final XmlNodeTrx wtx = manager.beginNodeTrx()) {
+        for (int i = 0; i < NUMBER_OF_REVISIONS; i++) {
+          wtx.moveToFirstChild();
+        }
+        wtx.insertElementAsFirstChild(new QNm("foo"));
+        wtx.commit();
+      }
+      assertChildren(manager, NUMBER_OF_REVISIONS + 1);
+    }
+
+    try (final XmlResourceManager manager = database.openResourceManager(XmlTestHelper.RESOURCE)) {
+      assertChildren(manager, NUMBER_OF_REVISIONS - 1);
+      assertChildren(manager, NUMBER_OF_REVISIONS + 1);
+    }
+  }
+
+  private void createResource(final StorageType storageType) {
+    database.createResource(
+        new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).versioningApproach(VersioningType.INCREMENTAL)
+                                                                 .storageType(storageType)
+                                                                 .hashKind(HashType.NONE)
+                                                                 .revisionsToRestore(3)
+                                                                 .build());
+  }
+
+  private static void createRevisions(final XmlResourceManager manager) {
+    try (final XmlNodeTrx wtx = manager.beginNodeTrx()) {
+      for (int revision = 1; revision <= NUMBER_OF_REVISIONS; revision++) {
+        wtx.insertElementAsFirstChild(new QNm("foo"));
+        wtx.commit();
+      }
+    }
+  }
+
+  /**
+   * Each revision appends a nested "foo" element to the one of the previous revision.
+   */
+  private static void assertChildren(final XmlResourceManager manager, final int revision) {
+    try (final XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx(revision)) {
+      for (int i = 0; i < revision; i++) {
+        assertTrue(rtx.moveToFirstChild().hasMoved());
+        assertEquals(new QNm("foo"), rtx.getName());
+      }
+      assertFalse(rtx.moveToFirstChild().hasMoved());
+    }
+  }
+
+  private static Path getDataDirectory(final XmlResourceManager manager) {
+    return manager.getResourceConfig().getResource().resolve(ResourceConfiguration.ResourcePaths.DATA.getPath());
+  }
+}
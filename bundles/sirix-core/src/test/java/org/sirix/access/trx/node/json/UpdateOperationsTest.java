@@ -0,0 +1,67 @@
+package org.sirix.access.trx.node.json;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.diff.DiffFactory.DiffType;
+import org.sirix.diff.DiffTuple;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class UpdateOperationsTest {
+
+  private Path spillDirectory;
+
+  @Before
+  public void setUp() throws IOException {
+    spillDirectory = Files.createTempDirectory("update-operations");
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    try (final var files = Files.list(spillDirectory)) {
+      assertTrue(files.findAny().isEmpty());
+    }
+    Files.delete(spillDirectory);
+  }
+
+  @Test
+  public void testSpilledOperationsAreMergedInKeyOrderAndReplacedByLaterOperations() {
+    final var updateOperations = new UpdateOperations<>(UpdateOperations.NODE_KEY_PERSISTER, spillDirectory, 10);
+
+    for (long nodeKey = 100; nodeKey > 0; nodeKey--) {
+      updateOperations.put(nodeKey, new DiffTuple(DiffType.INSERTED, nodeKey, 0, null));
+    }
+
+    // Delete every second node, the inserts of which have been spilled.
+    for (long nodeKey = 2; nodeKey <= 100; nodeKey += 2) {
+      updateOperations.put(nodeKey, new DiffTuple(DiffType.DELETED, 0, nodeKey, null));
+    }
+
+    final List<DiffTuple> diffTuples = new ArrayList<>();
+    updateOperations.forEach(diffTuples::add);
+
+    assertEquals(100, diffTuples.size());
+    for (int i = 0; i < diffTuples.size(); i++) {
+      final long nodeKey = i + 1;
+      final DiffTuple diffTuple = diffTuples.get(i);
+      if (nodeKey % 2 == 0) {
+        assertEquals(DiffType.DELETED, diffTuple.getDiff());
+        assertEquals(nodeKey, diffTuple.getOldNodeKey());
+      } else {
+        assertEquals(DiffType.INSERTED, diffTuple.getDiff());
+        assertEquals(nodeKey, diffTuple.getNewNodeKey());
+      }
+    }
+
+    updateOperations.clear();
+    assertTrue(updateOperations.isEmpty());
+  }
+}
@@ -0,0 +1,86 @@
+package org.sirix.access.trx.page;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.sirix.io.Writer;
+import org.sirix.page.PageReference;
+import org.sirix.page.interfaces.KeyValuePage;
+import org.sirix.page.interfaces.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class PageCommitPipelineTest {
+
+  private ExecutorService executor;
+
+  private Writer writer;
+
+  @Before
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(4);
+    writer = mock(Writer.class);
+    when(writer.serializePage(any())).thenReturn(new byte[0]);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  public void testPagesAreWrittenInEnqueueOrder() {
+    final var pipeline = new PageCommitPipeline(writer, executor);
+    final List<PageReference> references = new ArrayList<>();
+
+    for (int i = 0; i < 1_000; i++) {
+      final var reference = new PageReference();
+      reference.setPage(i % 10 == 9 ? mock(Page.class) : mock(KeyValuePage.class));
+      references.add(reference);
+      pipeline.enqueue(reference);
+    }
+
+    pipeline.flush();
+
+    final InOrder inOrder = inOrder(writer);
+    for (final PageReference reference : references) {
+      inOrder.verify(writer).write(same(reference), any());
+      assertNull(reference.getPage());
+    }
+  }
+
+  @Test
+  public void testParentPageIsSerializedAfterChildrenAreWritten() {
+    final var pipeline = new PageCommitPipeline(writer, executor);
+
+    final var firstChildReference = new PageReference();
+    firstChildReference.setPage(mock(KeyValuePage.class));
+    final var secondChildReference = new PageReference();
+    secondChildReference.setPage(mock(KeyValuePage.class));
+    final Page parentPage = mock(Page.class);
+    final var parentReference = new PageReference();
+    parentReference.setPage(parentPage);
+
+    pipeline.enqueue(firstChildReference);
+    pipeline.enqueue(secondChildReference);
+    pipeline.enqueue(parentReference);
+    pipeline.flush();
+
+    final InOrder inOrder = inOrder(writer);
+    inOrder.verify(writer).write(same(firstChildReference), any());
+    inOrder.verify(writer).write(same(secondChildReference), any());
+    inOrder.verify(writer).serializePage(same(parentPage));
+    inOrder.verify(writer).write(same(parentReference), any());
+  }
+}
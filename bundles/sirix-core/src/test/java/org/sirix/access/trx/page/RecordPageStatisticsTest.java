@@ -0,0 +1,64 @@
+package org.sirix.access.trx.page;
+
+import org.junit.Test;
+import org.sirix.index.IndexType;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class RecordPageStatisticsTest {
+
+  private static final RecordPageStatistics.PageKey PAGE_KEY =
+      new RecordPageStatistics.PageKey(IndexType.DOCUMENT, -1, 0);
+
+  @Test
+  public void testStatistics() {
+    final var statistics = new RecordPageStatistics();
+    assertTrue(statistics.getStatistics(PAGE_KEY).isEmpty());
+
+    statistics.recordRead(PAGE_KEY, 3, 100);
+    statistics.recordRead(PAGE_KEY, 1, 20);
+    statistics.recordWrite(PAGE_KEY, 2, 10, false);
+
+    final var pageStatistics = statistics.getStatistics(PAGE_KEY).orElseThrow();
+    assertEquals(2, pageStatistics.reads());
+    assertEquals(4, pageStatistics.fragmentsRead());
+    assertEquals(2.0, pageStatistics.averageFragmentChainLength(), 0.0);
+    assertEquals(60.0, pageStatistics.averageReconstructionNanos(), 0.0);
+    assertEquals(2, pageStatistics.readCost());
+    assertEquals(2, pageStatistics.lastFragmentChainLength());
+    assertEquals(10.0, pageStatistics.writeAmplification(), 0.0);
+    assertEquals(0, pageStatistics.adaptiveFullDumps());
+  }
+
+  @Test
+  public void testFullDumpRequired() {
+    final var statistics = new RecordPageStatistics();
+    assertFalse(statistics.isFullDumpRequired(PAGE_KEY, 2));
+
+    statistics.recordRead(PAGE_KEY, 2, 0);
+    assertFalse(statistics.isFullDumpRequired(PAGE_KEY, 2));
+
+    statistics.recordRead(PAGE_KEY, 2, 0);
+    assertTrue(statistics.isFullDumpRequired(PAGE_KEY, 2));
+    assertFalse("Adaptive full dumps are disabled.", statistics.isFullDumpRequired(PAGE_KEY, 0));
+
+    statistics.recordWrite(PAGE_KEY, 1, 5, true);
+    assertFalse(statistics.isFullDumpRequired(PAGE_KEY, 2));
+
+    final var pageStatistics = statistics.getStatistics(PAGE_KEY).orElseThrow();
+    assertEquals(0, pageStatistics.readCost());
+    assertEquals(1, pageStatistics.adaptiveFullDumps());
+  }
+
+  @Test
+  public void testPagesAreDistinguished() {
+    final var statistics = new RecordPageStatistics();
+    statistics.recordRead(PAGE_KEY, 5, 0);
+
+    final var otherIndex = new RecordPageStatistics.PageKey(IndexType.CAS, 0, 0);
+    assertTrue(statistics.isFullDumpRequired(PAGE_KEY, 4));
+    assertFalse(statistics.isFullDumpRequired(otherIndex, 4));
+  }
+}
@@ -0,0 +1,52 @@
+package org.sirix.cache;
+
+import org.junit.Test;
+import org.sirix.page.IndirectPage;
+import org.sirix.page.PageReference;
+import org.sirix.page.interfaces.Page;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class BufferPoolTest {
+  @Test
+  public void testResourcesDoNotShareEntries() {
+    final var bufferPool = new BufferPool(10_000_000);
+    final var firstPageCache = new PageCache(bufferPool, 0);
+    final var secondPageCache = new PageCache(bufferPool, 1);
+
+    final var page = new IndirectPage();
+    firstPageCache.put(new PageReference().setKey(5), page);
+
+    assertSame(page, firstPageCache.get(new PageReference().setKey(5)));
+    assertNull(secondPageCache.get(new PageReference().setKey(5)));
+
+    final CacheStatistics statistics = bufferPool.getStatistics(BufferPool.Kind.PAGE);
+    assertEquals(1, statistics.hitCount());
+    assertEquals(1, statistics.missCount());
+
+    // The statistics are recorded per resource, too.
+    assertEquals(new CacheStatistics(1, 0, 0), bufferPool.getStatistics(0, BufferPool.Kind.PAGE));
+    assertEquals(new CacheStatistics(0, 1, 0), bufferPool.getStatistics(1, BufferPool.Kind.PAGE));
+    assertEquals(new CacheStatistics(0, 0, 0), bufferPool.getStatistics(0, BufferPool.Kind.RECORD_PAGE));
+
+    bufferPool.clear(0);
+    assertNull(firstPageCache.get(new PageReference().setKey(5)));
+  }
+
+  @Test
+  public void testMemoryBudgetIsRespected() {
+    final Page page = new IndirectPage();
+    final int pageWeight = BufferPool.weigh(page);
+    final var bufferPool = new BufferPool(100L * pageWeight);
+    final var pageCache = new PageCache(bufferPool, 0);
+
+    for (int i = 0; i < 1_000; i++) {
+      pageCache.put(new PageReference().setKey(i), new IndirectPage());
+    }
+
+    assertTrue(bufferPool.getWeightedSize() <= 100L * pageWeight);
+  }
+}
@@ -7,18 +7,16 @@ import org.sirix.JsonTestHelper;
 import org.sirix.index.IndexType;
 import org.sirix.io.bytepipe.ByteHandlePipeline;
 import org.sirix.io.bytepipe.SnappyCompressor;
-import org.sirix.io.file.FileWriter;
 import org.sirix.page.PageKind;
 import org.sirix.page.PagePersister;
 import org.sirix.page.PageReference;
-import org.sirix.page.SerializationType;
 import org.sirix.page.UnorderedKeyValuePage;
 
-import java.io.FileNotFoundException;
-import java.io.RandomAccessFile;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 
 public class TransactionIntentLogTest {
@@ -33,17 +31,13 @@ public class TransactionIntentLogTest {
   }
 
   @Test
-  public void integrationTest() throws FileNotFoundException {
+  public void integrationTest() {
     try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
       final var resourceManager = database.openResourceManager(JsonTestHelper.RESOURCE);
       final var pageReadOnlyTrx = resourceManager.beginPageReadOnlyTrx()) {
-      final RandomAccessFile file = new RandomAccessFile(JsonTestHelper.PATHS.PATH2.getFile().toFile(), "rw");
-
-      final FileWriter fileWriter =
-          new FileWriter(file, null, new ByteHandlePipeline(new ByteHandlePipeline(new SnappyCompressor())),
-                         SerializationType.TRANSACTION_INTENT_LOG, new PagePersister());
-
-      final var persistentCache = new PersistentFileCache(fileWriter);
+      final var persistentCache =
+          new PersistentFileCache(JsonTestHelper.PATHS.PATH2.getFile(),
+                                  new ByteHandlePipeline(new SnappyCompressor()), new PagePersister());
       final var trxIntentLog = new TransactionIntentLog(persistentCache, 1);
 
       final var firstCompletePage = new UnorderedKeyValuePage(1, IndexType.DOCUMENT, pageReadOnlyTrx);
@@ -65,4 +59,46 @@ public class TransactionIntentLogTest {
       assertEquals(secondPageContainer, trxIntentLog.get(secondPageReference, pageReadOnlyTrx));
     }
   }
+
+  @Test
+  public void testLeastRecentlyUsedPagesAreEvictedOneByOne() {
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+      final var resourceManager = database.openResourceManager(JsonTestHelper.RESOURCE);
+      final var pageReadOnlyTrx = resourceManager.beginPageReadOnlyTrx()) {
+      final var persistentCache =
+          new PersistentFileCache(JsonTestHelper.PATHS.PATH2.getFile(), new ByteHandlePipeline(new SnappyCompressor()),
+                                  new PagePersister());
+      final var trxIntentLog = new TransactionIntentLog(persistentCache, 2);
+
+      final var pathSummaryPageReference = new PageReference();
+      final var pathSummaryPageContainer =
+          PageContainer.getInstance(new UnorderedKeyValuePage(0, IndexType.PATH_SUMMARY, pageReadOnlyTrx),
+                                    new UnorderedKeyValuePage(0, IndexType.PATH_SUMMARY, pageReadOnlyTrx));
+      trxIntentLog.put(pathSummaryPageReference, pathSummaryPageContainer);
+
+      final List<PageReference> references = new ArrayList<>();
+      final List<PageContainer> containers = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        final var reference = new PageReference();
+        final var container =
+            PageContainer.getInstance(new UnorderedKeyValuePage(i, IndexType.DOCUMENT, pageReadOnlyTrx),
+                                      new UnorderedKeyValuePage(i, IndexType.DOCUMENT, pageReadOnlyTrx));
+        references.add(reference);
+        containers.add(container);
+        trxIntentLog.put(reference, container);
+      }
+
+      // Two evictable pages and the pinned path summary page are kept in memory.
+      assertEquals(3, trxIntentLog.usedEntries());
+      assertEquals(pathSummaryPageContainer, trxIntentLog.getMap().get(pathSummaryPageReference));
+      for (int i = 0; i < 3; i++) {
+        assertTrue(references.get(i).getPersistentLogKey() >= 0);
+      }
+
+      for (int i = 0; i < 5; i++) {
+        assertEquals(containers.get(i), trxIntentLog.get(references.get(i), pageReadOnlyTrx));
+      }
+      assertEquals(3, trxIntentLog.usedEntries());
+    }
+  }
 }
@@ -0,0 +1,225 @@
+package org.sirix.diff;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.access.trx.node.json.objectvalue.ObjectValue;
+import org.sirix.access.trx.node.json.objectvalue.StringValue;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.diff.DiffFactory.DiffOptimized;
+import org.sirix.diff.DiffFactory.DiffType;
+import org.sirix.service.json.shredder.JsonShredder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class IndexedJsonDiffTest {
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testInsertedSubtreeIsReportedLikeTheFullDiff() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(4);
+      wtx.insertSubtreeAsRightSibling(JsonShredder.createStringReader("{\"new\":\"stuff\"}"));
+
+      final List<DiffTuple> fullDiffs = new ArrayList<>();
+      DiffFactory.invokeJsonDiff(builder(manager, 2, 1, fullDiffs));
+
+      final List<DiffTuple> indexedDiffs = new ArrayList<>();
+      DiffFactory.invokeIndexedJsonDiff(builder(manager, 2, 1, indexedDiffs));
+
+      final List<Long> fullDiffInsertedNodeKeys = insertedNodeKeys(fullDiffs);
+      assertFalse(fullDiffInsertedNodeKeys.isEmpty());
+      assertEquals(fullDiffInsertedNodeKeys, insertedNodeKeys(indexedDiffs));
+      assertEquals(fullDiffInsertedNodeKeys.size(), indexedDiffs.size());
+    }
+  }
+
+  @Test
+  public void testReplacedValueIsReportedLikeTheFullDiff() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      // The value of the "baz" record.
+      wtx.moveTo(13);
+      wtx.replaceObjectRecordValue(new StringValue("replaced"));
+      wtx.commit();
+
+      assertChangesLikeTheFullDiff(manager, 2, 1);
+    }
+  }
+
+  @Test
+  public void testRemovedSubtreeIsReportedLikeTheFullDiff() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      // The "bar" record with its object value.
+      wtx.moveTo(7);
+      wtx.remove();
+      wtx.commit();
+
+      assertChangesLikeTheFullDiff(manager, 2, 1);
+    }
+  }
+
+  @Test
+  public void testChangesOfSeveralRevisionsAreReportedLikeTheFullDiff() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(4);
+      wtx.setStringValue("updated");
+      wtx.moveTo(2);
+      wtx.setObjectKeyName("renamed");
+      wtx.commit();
+
+      wtx.moveTo(5);
+      wtx.remove();
+      wtx.moveTo(13);
+      wtx.replaceObjectRecordValue(new ObjectValue());
+      wtx.commit();
+
+      // Inserted and removed in between, thus not reported at all.
+      wtx.moveTo(4);
+      wtx.insertSubtreeAsRightSibling(JsonShredder.createStringReader("{\"new\":\"stuff\"}"), JsonNodeTrx.Commit.No);
+      final long insertedNodeKey = wtx.getNodeKey();
+      wtx.commit();
+      wtx.moveTo(insertedNodeKey);
+      wtx.remove();
+      wtx.commit();
+
+      final Set<String> changes = assertChangesLikeTheFullDiff(manager, 5, 1);
+      assertTrue(changes.contains(DiffType.UPDATED + ":" + 4));
+      assertTrue(changes.contains(DiffType.UPDATED + ":" + 2));
+      assertTrue(changes.contains(DiffType.DELETED + ":" + 5));
+      assertFalse(changes.contains(DiffType.INSERTED + ":" + insertedNodeKey));
+    }
+  }
+
+  @Test
+  public void testFullDiffIsDoneForRevertedRevisions() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(7);
+      wtx.remove();
+      wtx.commit();
+
+      wtx.revertTo(1);
+      wtx.moveTo(4);
+      wtx.setStringValue("updated");
+      wtx.commit();
+
+      assertTrue(IndexedJsonDiff.isApplicable(builder(manager, 2, 1, new ArrayList<>())));
+      assertFalse(IndexedJsonDiff.isApplicable(builder(manager, 3, 2, new ArrayList<>())));
+      assertFalse(IndexedJsonDiff.isApplicable(builder(manager, 3, 1, new ArrayList<>())));
+
+      final List<DiffTuple> fullDiffs = new ArrayList<>();
+      DiffFactory.invokeJsonDiff(builder(manager, 3, 2, fullDiffs));
+
+      final List<DiffTuple> indexedDiffs = new ArrayList<>();
+      DiffFactory.invokeIndexedJsonDiff(builder(manager, 3, 2, indexedDiffs));
+
+      // The reinserted subtree isn't recorded in the changed nodes index of revision 3.
+      assertTrue(changes(fullDiffs).contains(DiffType.INSERTED + ":" + 7));
+      assertEquals(changes(fullDiffs), changes(indexedDiffs));
+      assertEquals(fullDiffs.size(), indexedDiffs.size());
+    }
+  }
+
+  /**
+   * Asserts that the indexed diff reports the same inserted, deleted and updated nodes as the full diff.
+   *
+   * @return the changes
+   */
+  private static Set<String> assertChangesLikeTheFullDiff(final JsonResourceManager manager, final int newRevision,
+      final int oldRevision) {
+    final List<DiffTuple> fullDiffs = new ArrayList<>();
+    DiffFactory.invokeJsonDiff(builder(manager, newRevision, oldRevision, fullDiffs));
+
+    final List<DiffTuple> indexedDiffs = new ArrayList<>();
+    DiffFactory.invokeIndexedJsonDiff(builder(manager, newRevision, oldRevision, indexedDiffs));
+
+    final Set<String> changes = changes(fullDiffs);
+    assertFalse(changes.isEmpty());
+    assertEquals(changes, changes(indexedDiffs));
+    assertEquals(changes.size(), indexedDiffs.size());
+    return changes;
+  }
+
+  private static DiffFactory.Builder<JsonNodeReadOnlyTrx, JsonNodeTrx> builder(final JsonResourceManager manager,
+      final int newRevision, final int oldRevision, final List<DiffTuple> diffs) {
+    final DiffObserver observer = new DiffObserver() {
+      @Override
+      public void diffListener(DiffType diffType, long newNodeKey, long oldNodeKey, DiffDepth depth) {
+        diffs.add(new DiffTuple(diffType, newNodeKey, oldNodeKey, depth));
+      }
+
+      @Override
+      public void diffDone() {
+      }
+    };
+
+    return new DiffFactory.Builder<>(manager, newRevision, oldRevision, DiffOptimized.HASHED,
+                                     Set.of(observer)).skipSubtrees(false);
+  }
+
+  /**
+   * Get the inserted, deleted and updated nodes, whereby replaced nodes are treated as deleted and inserted nodes.
+   */
+  private static Set<String> changes(final List<DiffTuple> diffs) {
+    final Set<String> changes = new HashSet<>();
+    for (final DiffTuple diff : diffs) {
+      switch (diff.getDiff()) {
+        case INSERTED, UPDATED -> changes.add(diff.getDiff() + ":" + diff.getNewNodeKey());
+        case REPLACEDNEW -> changes.add(DiffType.INSERTED + ":" + diff.getNewNodeKey());
+        case DELETED -> changes.add(DiffType.DELETED + ":" + diff.getOldNodeKey());
+        case REPLACEDOLD -> changes.add(DiffType.DELETED + ":" + diff.getOldNodeKey());
+        default -> {
+        }
+      }
+    }
+    return changes;
+  }
+
+  private static List<Long> insertedNodeKeys(final List<DiffTuple> diffs) {
+    final List<Long> nodeKeys = new ArrayList<>();
+    for (final DiffTuple diff : diffs) {
+      if (diff.getDiff() == DiffType.INSERTED) {
+        nodeKeys.add(diff.getNewNodeKey());
+      }
+    }
+    return nodeKeys;
+  }
+}
@@ -0,0 +1,185 @@
+package org.sirix.index;
+
+import org.brackit.xquery.atomic.Str;
+import org.brackit.xquery.xdm.Type;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.index.art.ARTReader;
+import org.sirix.index.path.json.JsonPCRCollector;
+import org.sirix.index.keyvalue.CASValue;
+import org.sirix.index.keyvalue.NodeReferences;
+import org.sirix.service.json.shredder.JsonShredder;
+import org.sirix.service.xml.shredder.InsertPosition;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+import static org.brackit.xquery.util.path.Path.parse;
+import static org.junit.Assert.*;
+
+public final class JsonARTIntegrationTest {
+  private static final Path JSON = Paths.get("src", "test", "resources", "json");
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testCreateCASIndexWhileListeningAndCASIndexOnDemand() {
+    final var jsonPath = JSON.resolve("abc-location-stations.json");
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx()) {
+      var indexController = manager.getWtxIndexController(trx.getRevisionNumber());
+
+      final var pathToFeatureType = parse("/features/[]/type");
+
+      final var idxDefOfFeatureType = IndexDefs.createCASIdxDef(false,
+                                                                Type.STR,
+                                                                Collections.singleton(pathToFeatureType),
+                                                                0,
+                                                                IndexBackendType.ART);
+
+      indexController.createIndexes(Set.of(idxDefOfFeatureType), trx);
+
+      final var shredder = new JsonShredder.Builder(trx,
+                                                    JsonShredder.createFileReader(jsonPath),
+                                                    InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
+      shredder.call();
+
+      final var indexDef = indexController.getIndexes().getIndexDef(0, IndexType.CAS);
+
+      assertEquals(IndexBackendType.ART, indexDef.getBackendType());
+
+      final ARTReader<CASValue, NodeReferences> reader =
+          ARTReader.getInstance(trx.getPageTrx(), indexDef.getType(), indexDef.getID());
+
+      final var pathNodeKeys = trx.getPathSummary().getPCRsForPath(pathToFeatureType, false);
+
+      assertEquals(1, pathNodeKeys.size());
+
+      final var references =
+          reader.get(new CASValue(new Str("Feature"), Type.STR, pathNodeKeys.iterator().next()), SearchMode.EQUAL);
+
+      assertTrue(references.isPresent());
+      assertEquals(53, references.get().getNodeKeys().size());
+
+      final var pathToName = parse("/features/[]/properties/name");
+      final var idxDefOfPathToName =
+          IndexDefs.createCASIdxDef(false, Type.STR, Collections.singleton(pathToName), 1, IndexBackendType.ART);
+
+      indexController.createIndexes(Set.of(idxDefOfPathToName), trx);
+
+      final var casIndexDef = indexController.getIndexes().getIndexDef(1, IndexType.CAS);
+
+      final ARTReader<CASValue, NodeReferences> namesReader =
+          ARTReader.getInstance(trx.getPageTrx(), casIndexDef.getType(), casIndexDef.getID());
+
+      final List<CASValue> names = new ArrayList<>();
+      namesReader.iterator().forEachRemaining(entry -> names.add(entry.getKey()));
+
+      assertEquals(namesReader.size(), names.size());
+
+      for (int i = 1; i < names.size(); i++) {
+        assertTrue(names.get(i - 1).compareTo(names.get(i)) < 0);
+      }
+
+      final var index = indexController.openCASIndex(trx.getPageTrx(),
+                                                     casIndexDef,
+                                                     indexController.createCASFilter(Set.of(
+                                                         "/features/[]/properties/name"),
+                                                                                     new Str("ABC Radio Adelaide"),
+                                                                                     SearchMode.EQUAL,
+                                                                                     new JsonPCRCollector(trx)));
+
+      assertTrue(index.hasNext());
+
+      index.forEachRemaining(nodeReferences -> {
+        assertEquals(1, nodeReferences.getNodeKeys().size());
+        for (final long nodeKey : nodeReferences.getNodeKeys()) {
+          trx.moveTo(nodeKey);
+          assertEquals("ABC Radio Adelaide", trx.getValue());
+        }
+      });
+
+      final var prefix = "ABC Radio";
+      final long expectedNumberOfNames =
+          names.stream().filter(name -> name.getAtomicValue().stringValue().startsWith(prefix)).count();
+
+      assertTrue(expectedNumberOfNames > 0);
+
+      final var indexWithPrefix = indexController.openCASIndex(trx.getPageTrx(),
+                                                               casIndexDef,
+                                                               indexController.createCASFilter(Set.of(
+                                                                   "/features/[]/properties/name"),
+                                                                                               new Str(prefix),
+                                                                                               SearchMode.STARTS_WITH,
+                                                                                               new JsonPCRCollector(
+                                                                                                   trx)));
+
+      long numberOfNames = 0;
+      while (indexWithPrefix.hasNext()) {
+        for (final long nodeKey : indexWithPrefix.next().getNodeKeys()) {
+          trx.moveTo(nodeKey);
+          assertTrue(trx.getValue().startsWith(prefix));
+        }
+        numberOfNames++;
+      }
+
+      assertEquals(expectedNumberOfNames, numberOfNames);
+
+      final var entryGreaterOrEqual =
+          namesReader.getEntry(new CASValue(new Str(prefix), Type.STR, names.get(0).getPathNodeKey()),
+                               SearchMode.GREATER_OR_EQUAL);
+
+      assertTrue(entryGreaterOrEqual.isPresent());
+      assertTrue(entryGreaterOrEqual.get().getKey().getAtomicValue().stringValue().startsWith(prefix));
+    }
+  }
+
+  @Test
+  public void testPathIndexWhileListeningAndPathIndexOnDemand() {
+    final var jsonPath = JSON.resolve("abc-location-stations.json");
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx()) {
+      var indexController = manager.getWtxIndexController(trx.getRevisionNumber());
+
+      final var pathToFeatureType = parse("/features/[]/type");
+
+      final var idxDefOfFeatureType =
+          IndexDefs.createPathIdxDef(Collections.singleton(pathToFeatureType), 0, IndexBackendType.ART);
+
+      indexController.createIndexes(Set.of(idxDefOfFeatureType), trx);
+
+      final var shredder = new JsonShredder.Builder(trx,
+                                                    JsonShredder.createFileReader(jsonPath),
+                                                    InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
+      shredder.call();
+
+      final var indexDef = indexController.getIndexes().getIndexDef(0, IndexType.PATH);
+
+      final ARTReader<Long, NodeReferences> reader =
+          ARTReader.getInstance(trx.getPageTrx(), indexDef.getType(), indexDef.getID());
+
+      final var pathNodeKeys = trx.getPathSummary().getPCRsForPath(pathToFeatureType, false);
+
+      assertEquals(1, pathNodeKeys.size());
+
+      final var references = reader.get(pathNodeKeys.iterator().next(), SearchMode.EQUAL);
+
+      assertTrue(references.isPresent());
+      assertEquals(53, references.get().getNodeKeys().size());
+      assertEquals(1, reader.size());
+    }
+  }
+}
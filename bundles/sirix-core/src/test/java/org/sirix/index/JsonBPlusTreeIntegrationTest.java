@@ -8,11 +8,10 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.sirix.JsonTestHelper;
-import org.sirix.index.redblacktree.RBTreeReader;
-import org.sirix.index.redblacktree.keyvalue.CASValue;
-import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.index.bplustree.BPlusTreeReader;
+import org.sirix.index.keyvalue.CASValue;
+import org.sirix.index.keyvalue.NodeReferences;
 import org.sirix.index.path.json.JsonPCRCollector;
-import org.sirix.node.NodeKind;
 import org.sirix.service.json.shredder.JsonShredder;
 import org.sirix.service.xml.shredder.InsertPosition;
 
@@ -24,7 +23,7 @@ import java.util.stream.StreamSupport;
 import static org.brackit.xquery.util.path.Path.parse;
 import static org.junit.Assert.*;
 
-public final class JsonRedBlackTreeIntegrationTest {
+public final class JsonBPlusTreeIntegrationTest {
   private static final Path JSON = Paths.get("src", "test", "resources", "json");
 
   @Before
@@ -146,74 +145,64 @@ public final class JsonRedBlackTreeIntegrationTest {
 
       assertFalse(allStreetAddressesIndex.hasNext());
 
-      final var allStreetAddressesIndexReader = RBTreeReader.getInstance(manager.getIndexCache(),
-                                                                         trx.getPageTrx(),
-                                                                         allStreetAddresses.getType(),
-                                                                         allStreetAddresses.getID());
+      final BPlusTreeReader<QNm, NodeReferences> allStreetAddressesIndexReader =
+          BPlusTreeReader.getInstance(trx.getPageTrx(), allStreetAddresses.getType(), allStreetAddresses.getID());
 
-      final var firstChildKey = allStreetAddressesIndexReader.getFirstChildKey();
-      final var firstChildKind = allStreetAddressesIndexReader.getFirstChildKind();
-      final var lastChildKey = allStreetAddressesIndexReader.getLastChildKey();
-      final var lastChildKind = allStreetAddressesIndexReader.getLastChildKind();
+      assertEquals(1, allStreetAddressesIndexReader.size());
 
-      assertEquals(3, firstChildKey);
-      assertEquals(NodeKind.NAMERB, firstChildKind);
-      assertEquals(-1, lastChildKey);
-      assertEquals(NodeKind.UNKNOWN, lastChildKind);
+      final BPlusTreeReader<QNm, NodeReferences> allObjectKeyNamesIndexReader =
+          BPlusTreeReader.getInstance(trx.getPageTrx(), allObjectKeyNames.getType(), allObjectKeyNames.getID());
 
-      final RBTreeReader<QNm, NodeReferences> allObjectKeyNamesIndexReader =
-          RBTreeReader.getInstance(manager.getIndexCache(),
-                                   trx.getPageTrx(),
-                                   allObjectKeyNames.getType(),
-                                   allObjectKeyNames.getID());
+      final List<QNm> names = new ArrayList<>();
+      allObjectKeyNamesIndexReader.iterator().forEachRemaining(entry -> names.add(entry.getKey()));
 
-      final var avlNodeIterator = allObjectKeyNamesIndexReader.new RBNodeIterator(0);
+      assertEquals(18, names.size());
+      assertEquals(18, allObjectKeyNamesIndexReader.size());
 
-      avlNodeIterator.forEachRemaining(avlNode -> {
-        System.out.println(avlNode);
-        System.out.println(avlNode.getKey());
-      });
+      for (int i = 1; i < names.size(); i++) {
+        assertTrue(names.get(i - 1).compareTo(names.get(i)) < 0);
+      }
 
       final var name = new QNm("streetaddress");
+      final int position = names.indexOf(name);
 
-      final var nodeGreater = allObjectKeyNamesIndexReader.getCurrentAVLNode(name, SearchMode.GREATER);
+      assertTrue(position > 0);
 
-      assertTrue(nodeGreater.isPresent());
-      assertEquals("twitteraccount", nodeGreater.get().getKey().getLocalName());
+      final var entryGreater = allObjectKeyNamesIndexReader.getEntry(name, SearchMode.GREATER);
 
-      final var nodeGreaterNotPresent =
-          allObjectKeyNamesIndexReader.getCurrentAVLNode(new QNm("type"), SearchMode.GREATER);
+      assertTrue(entryGreater.isPresent());
+      assertEquals(names.get(position + 1), entryGreater.get().getKey());
 
-      assertFalse(nodeGreaterNotPresent.isPresent());
+      final var entryGreaterNotPresent =
+          allObjectKeyNamesIndexReader.getEntry(names.get(names.size() - 1), SearchMode.GREATER);
 
-      final var nodeGreaterOrEqual = allObjectKeyNamesIndexReader.getCurrentAVLNode(name, SearchMode.GREATER_OR_EQUAL);
+      assertFalse(entryGreaterNotPresent.isPresent());
 
-      assertTrue(nodeGreaterOrEqual.isPresent());
-      assertEquals("streetaddress", nodeGreaterOrEqual.get().getKey().getLocalName());
+      final var entryGreaterOrEqual = allObjectKeyNamesIndexReader.getEntry(name, SearchMode.GREATER_OR_EQUAL);
 
-      final var nodeLess = allObjectKeyNamesIndexReader.getCurrentAVLNode(name, SearchMode.LOWER);
+      assertTrue(entryGreaterOrEqual.isPresent());
+      assertEquals("streetaddress", entryGreaterOrEqual.get().getKey().getLocalName());
 
-      assertTrue(nodeLess.isPresent());
-      assertEquals("id", nodeLess.get().getKey().getLocalName());
+      final var entryLess = allObjectKeyNamesIndexReader.getEntry(name, SearchMode.LOWER);
 
-      final var nodeLessOrEqual = allObjectKeyNamesIndexReader.getCurrentAVLNode(nodeGreaterOrEqual.get().getNodeKey(),
-                                                                                 name,
-                                                                                 SearchMode.LOWER_OR_EQUAL);
+      assertTrue(entryLess.isPresent());
+      assertEquals(names.get(position - 1), entryLess.get().getKey());
 
-      assertTrue(nodeLessOrEqual.isPresent());
-      assertEquals("streetaddress", nodeLessOrEqual.get().getKey().getLocalName());
+      final var entryLessOrEqual = allObjectKeyNamesIndexReader.getEntry(name, SearchMode.LOWER_OR_EQUAL);
 
-      final var avlIterator = allObjectKeyNamesIndexReader.new RBNodeIterator(0);
+      assertTrue(entryLessOrEqual.isPresent());
+      assertEquals("streetaddress", entryLessOrEqual.get().getKey().getLocalName());
 
-      final var stream =
-          StreamSupport.stream(Spliterators.spliteratorUnknownSize(avlIterator, Spliterator.ORDERED), false);
+      final var entryLessNotPresent = allObjectKeyNamesIndexReader.getEntry(names.get(0), SearchMode.LOWER);
 
-      assertEquals(18, stream.count());
+      assertFalse(entryLessNotPresent.isPresent());
 
-      final var nodeGreaterWithComp =
-          allObjectKeyNamesIndexReader.getCurrentAVLNode(name, SearchMode.GREATER, Comparator.naturalOrder());
+      final var iterator = allObjectKeyNamesIndexReader.iterator(name, Comparator.naturalOrder());
+
+      final var stream =
+          StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
 
-      assertEquals("twitteraccount", nodeGreaterWithComp.get().getKey().getLocalName());
+      assertEquals(names.size() - position, stream.count());
 
       final var nameIndex = indexController.getIndexes().findNameIndex(new QNm("twitteraccount"), new QNm("type"));
 
@@ -243,8 +232,8 @@ public final class JsonRedBlackTreeIntegrationTest {
 
       final var indexDef = indexController.getIndexes().getIndexDef(0, IndexType.CAS);
 
-      RBTreeReader<CASValue, NodeReferences> reader =
-          RBTreeReader.getInstance(manager.getIndexCache(), trx.getPageTrx(), indexDef.getType(), indexDef.getID());
+      BPlusTreeReader<CASValue, NodeReferences> reader =
+          BPlusTreeReader.getInstance(trx.getPageTrx(), indexDef.getType(), indexDef.getID());
 
       final var pathNodeKeys = trx.getPathSummary().getPCRsForPath(pathToFeatureType, false);
 
@@ -387,8 +376,8 @@ public final class JsonRedBlackTreeIntegrationTest {
 
       final var indexDef = indexController.getIndexes().getIndexDef(0, IndexType.PATH);
 
-      RBTreeReader<Long, NodeReferences> reader =
-          RBTreeReader.getInstance(manager.getIndexCache(), trx.getPageTrx(), indexDef.getType(), indexDef.getID());
+      BPlusTreeReader<Long, NodeReferences> reader =
+          BPlusTreeReader.getInstance(trx.getPageTrx(), indexDef.getType(), indexDef.getID());
 
       final var pathNodeKeys = trx.getPathSummary().getPCRsForPath(pathToFeatureType, false);
 
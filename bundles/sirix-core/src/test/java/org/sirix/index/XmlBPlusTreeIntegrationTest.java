@@ -14,9 +14,9 @@ import org.sirix.XmlTestHelper;
 import org.sirix.access.trx.node.xml.XmlIndexController;
 import org.sirix.api.Movement;
 import org.sirix.api.xml.XmlNodeTrx;
-import org.sirix.index.redblacktree.RBTreeReader;
-import org.sirix.index.redblacktree.keyvalue.CASValue;
-import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.index.bplustree.BPlusTreeReader;
+import org.sirix.index.keyvalue.CASValue;
+import org.sirix.index.keyvalue.NodeReferences;
 
 import java.util.Collections;
 import java.util.Optional;
@@ -26,11 +26,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
- * Test the AVLTree implementation.
+ * Test the B+-tree implementation.
  *
  * @author Johannes Lichtenberger
  */
-public final class XmlRedBlackTreeIntegrationTest {
+public final class XmlBPlusTreeIntegrationTest {
 
   /**
    * {@link Holder} reference.
@@ -73,11 +73,10 @@ public final class XmlRedBlackTreeIntegrationTest {
 
     final IndexDef indexDef = indexController.getIndexes().getIndexDef(0, IndexType.CAS);
 
-    RBTreeReader<CASValue, NodeReferences> reader =
-        RBTreeReader.getInstance(holder.getResourceManager().getIndexCache(),
-                                 wtx.getPageTrx(),
-                                 indexDef.getType(),
-                                 indexDef.getID());
+    BPlusTreeReader<CASValue, NodeReferences> reader =
+        BPlusTreeReader.getInstance(wtx.getPageTrx(),
+                                    indexDef.getType(),
+                                    indexDef.getID());
 
     final var pathNodeKeys = wtx.getPathSummary().getPCRsForPath(Path.parse("//bla/@foobar"), false);
 
@@ -96,10 +95,9 @@ public final class XmlRedBlackTreeIntegrationTest {
     final var secondNodeKey = wtx.moveToAttributeByName(new QNm("foobar")).trx().getNodeKey();
     wtx.commit();
 
-    reader = RBTreeReader.getInstance(holder.getResourceManager().getIndexCache(),
-                                      wtx.getPageTrx(),
-                                      indexDef.getType(),
-                                      indexDef.getID());
+    reader = BPlusTreeReader.getInstance(wtx.getPageTrx(),
+                                         indexDef.getType(),
+                                         indexDef.getID());
 
     final Optional<NodeReferences> bazRefs3 = reader.get(new CASValue(new Str("bbbb"), Type.STR, 8), SearchMode.EQUAL);
 
@@ -109,10 +107,9 @@ public final class XmlRedBlackTreeIntegrationTest {
     wtx.remove();
     wtx.commit();
 
-    reader = RBTreeReader.getInstance(holder.getResourceManager().getIndexCache(),
-                                      wtx.getPageTrx(),
-                                      indexDef.getType(),
-                                      indexDef.getID());
+    reader = BPlusTreeReader.getInstance(wtx.getPageTrx(),
+                                         indexDef.getType(),
+                                         indexDef.getID());
 
     final Optional<NodeReferences> bazRefs4 = reader.get(new CASValue(new Str("bbbb"), Type.STR, 8), SearchMode.EQUAL);
 
@@ -122,10 +119,9 @@ public final class XmlRedBlackTreeIntegrationTest {
     wtx.remove();
     wtx.commit();
 
-    reader = RBTreeReader.getInstance(holder.getResourceManager().getIndexCache(),
-                                      wtx.getPageTrx(),
-                                      indexDef.getType(),
-                                      indexDef.getID());
+    reader = BPlusTreeReader.getInstance(wtx.getPageTrx(),
+                                         indexDef.getType(),
+                                         indexDef.getID());
 
     final Optional<NodeReferences> bazRefs5 = reader.get(new CASValue(new Str("bbbb"), Type.STR, 8), SearchMode.EQUAL);
 
@@ -156,11 +152,10 @@ public final class XmlRedBlackTreeIntegrationTest {
 
     final IndexDef indexDef = indexController.getIndexes().getIndexDef(0, IndexType.CAS);
 
-    RBTreeReader<CASValue, NodeReferences> reader =
-        RBTreeReader.getInstance(holder.getResourceManager().getIndexCache(),
-                                 wtx.getPageTrx(),
-                                 indexDef.getType(),
-                                 indexDef.getID());
+    BPlusTreeReader<CASValue, NodeReferences> reader =
+        BPlusTreeReader.getInstance(wtx.getPageTrx(),
+                                    indexDef.getType(),
+                                    indexDef.getID());
 
     Optional<NodeReferences> blablaRefs = reader.get(new CASValue(new Str("törööö"), Type.STR, 2), SearchMode.EQUAL);
 
@@ -169,10 +164,9 @@ public final class XmlRedBlackTreeIntegrationTest {
     wtx.moveTo(nodeKey);
     wtx.remove();
 
-    reader = RBTreeReader.getInstance(holder.getResourceManager().getIndexCache(),
-                                      wtx.getPageTrx(),
-                                      indexDef.getType(),
-                                      indexDef.getID());
+    reader = BPlusTreeReader.getInstance(wtx.getPageTrx(),
+                                         indexDef.getType(),
+                                         indexDef.getID());
 
     blablaRefs = reader.get(new CASValue(new Str("törööö"), Type.STR, 2), SearchMode.EQUAL);
 
@@ -184,10 +178,9 @@ public final class XmlRedBlackTreeIntegrationTest {
     wtx.remove();
     wtx.commit();
 
-    reader = RBTreeReader.getInstance(holder.getResourceManager().getIndexCache(),
-                                      wtx.getPageTrx(),
-                                      indexDef.getType(),
-                                      indexDef.getID());
+    reader = BPlusTreeReader.getInstance(wtx.getPageTrx(),
+                                         indexDef.getType(),
+                                         indexDef.getID());
 
     blablaRefs = reader.get(new CASValue(new Str("törööö"), Type.STR, 2), SearchMode.EQUAL);
 
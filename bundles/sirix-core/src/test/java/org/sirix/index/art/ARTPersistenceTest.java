@@ -0,0 +1,249 @@
+package org.sirix.index.art;
+
+import org.brackit.xquery.atomic.QNm;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.index.IndexType;
+import org.sirix.index.SearchMode;
+import org.sirix.index.keyvalue.NodeReferences;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the persistent adaptive radix tree, whose nodes are stored in the versioned index pages.
+ */
+public final class ARTPersistenceTest {
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testNodesGrow() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      final ARTWriter<Long, NodeReferences> writer = ARTWriter.getInstance(wtx.getPageWtx(), IndexType.PATH, 0);
+      final ARTReader<Long, NodeReferences> reader = writer.getReader();
+
+      index(writer, 0, 4);
+      assertEquals(ARTNode.Layout.NODE_4, getRoot(reader).getLayout());
+
+      index(writer, 4, 16);
+      assertEquals(ARTNode.Layout.NODE_16, getRoot(reader).getLayout());
+
+      index(writer, 16, 40);
+      assertEquals(ARTNode.Layout.NODE_48, getRoot(reader).getLayout());
+      assertEquals(40, getRoot(reader).getChildCount());
+
+      // The keys from 256 on differ in the second lowest byte, thus the root is split.
+      index(writer, 40, 300);
+      final ARTNode<Long, NodeReferences> root = getRoot(reader);
+      assertEquals(ARTNode.Layout.NODE_4, root.getLayout());
+      assertEquals(2, root.getChildCount());
+
+      final ARTNode<Long, NodeReferences> lowerChild = reader.getNode(root.findChild(0));
+      assertEquals(ARTNode.Layout.NODE_256, lowerChild.getLayout());
+      assertEquals(256, lowerChild.getChildCount());
+
+      final ARTNode<Long, NodeReferences> upperChild = reader.getNode(root.findChild(1));
+      assertEquals(ARTNode.Layout.NODE_48, upperChild.getLayout());
+      assertEquals(44, upperChild.getChildCount());
+
+      assertEntries(reader, 0, 300);
+    }
+  }
+
+  @Test
+  public void testLowerAndLowerOrEqual() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      final ARTWriter<Long, NodeReferences> writer = ARTWriter.getInstance(wtx.getPageWtx(), IndexType.PATH, 0);
+      final ARTReader<Long, NodeReferences> reader = writer.getReader();
+
+      // Even keys up to 200 (a node with 256 children) and the keys from 300 to 310 in another subtree.
+      for (long key = 0; key <= 200; key += 2) {
+        writer.index(key, new NodeReferences(Set.of(key)));
+      }
+      index(writer, 300, 311);
+
+      assertKey(50, reader.getEntry(51L, SearchMode.LOWER_OR_EQUAL));
+      assertKey(50, reader.getEntry(50L, SearchMode.LOWER_OR_EQUAL));
+      assertKey(48, reader.getEntry(50L, SearchMode.LOWER));
+      assertKey(0, reader.getEntry(0L, SearchMode.LOWER_OR_EQUAL));
+      assertFalse(reader.getEntry(0L, SearchMode.LOWER).isPresent());
+      assertFalse(reader.getEntry(-1L, SearchMode.LOWER_OR_EQUAL).isPresent());
+
+      // Across the subtrees.
+      assertKey(200, reader.getEntry(300L, SearchMode.LOWER));
+      assertKey(200, reader.getEntry(299L, SearchMode.LOWER_OR_EQUAL));
+      assertKey(300, reader.getEntry(200L, SearchMode.GREATER));
+      assertKey(310, reader.getEntry(Long.MAX_VALUE, SearchMode.LOWER));
+      assertFalse(reader.getEntry(311L, SearchMode.GREATER_OR_EQUAL).isPresent());
+    }
+  }
+
+  @Test
+  public void testRemove() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      final ARTWriter<Long, NodeReferences> writer = ARTWriter.getInstance(wtx.getPageWtx(), IndexType.PATH, 0);
+
+      for (long key = 0; key < 100; key++) {
+        writer.index(key, new NodeReferences(Set.of(key, key + 1_000)));
+      }
+
+      assertTrue(writer.remove(42L, 42));
+      assertFalse(writer.remove(42L, 42));
+      assertFalse(writer.remove(42L, 43));
+      assertFalse(writer.remove(1_000L, 1_000));
+      assertEquals(Set.of(1_042L), writer.get(42L, SearchMode.EQUAL).orElseThrow().getNodeKeys());
+
+      // The entry is kept without any node keys.
+      assertTrue(writer.remove(42L, 1_042));
+      final Optional<NodeReferences> references = writer.get(42L, SearchMode.EQUAL);
+      assertTrue(references.isPresent());
+      assertFalse(references.get().hasNodeKeys());
+
+      assertEquals(100, writer.getReader().size());
+      assertEquals(Set.of(41L, 1_041L), writer.get(41L, SearchMode.EQUAL).orElseThrow().getNodeKeys());
+      assertEquals(Set.of(43L, 1_043L), writer.get(43L, SearchMode.EQUAL).orElseThrow().getNodeKeys());
+    }
+  }
+
+  @Test
+  public void testNameIndex() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      final ARTWriter<QNm, NodeReferences> writer = ARTWriter.getInstance(wtx.getPageWtx(), IndexType.NAME, 0);
+      final ARTReader<QNm, NodeReferences> reader = writer.getReader();
+
+      for (int i = 0; i < 60; i++) {
+        writer.index(new QNm("name" + i), new NodeReferences(Set.of((long) i)));
+      }
+      writer.index(new QNm("http://sirix.io", "s", "name1"), new NodeReferences(Set.of(100L)));
+      writer.index(new QNm("name"), new NodeReferences(Set.of(101L)));
+
+      assertEquals(62, reader.size());
+      assertEquals(Set.of(1L), reader.get(new QNm("name1"), SearchMode.EQUAL).orElseThrow().getNodeKeys());
+      assertEquals(Set.of(100L),
+                   reader.get(new QNm("http://sirix.io", "s", "name1"), SearchMode.EQUAL).orElseThrow().getNodeKeys());
+      assertEquals(Set.of(101L), reader.get(new QNm("name"), SearchMode.EQUAL).orElseThrow().getNodeKeys());
+      assertFalse(reader.get(new QNm("nam"), SearchMode.EQUAL).isPresent());
+      assertFalse(reader.get(new QNm("name60"), SearchMode.EQUAL).isPresent());
+
+      // The names are iterated in the order of the local names, the namespace URIs and the prefixes.
+      final List<QNm> names = new ArrayList<>();
+      reader.iterator().forEachRemaining(entry -> names.add(entry.getKey()));
+      assertEquals(62, names.size());
+      assertEquals(new QNm("name"), names.get(0));
+      assertEquals(new QNm("name0"), names.get(1));
+      assertEquals(new QNm("name1"), names.get(2));
+      assertEquals(new QNm("http://sirix.io", "s", "name1"), names.get(3));
+      assertEquals(new QNm("name10"), names.get(4));
+
+      assertTrue(writer.remove(new QNm("name1"), 1));
+      assertFalse(reader.get(new QNm("name1"), SearchMode.EQUAL).orElseThrow().hasNodeKeys());
+      assertEquals(Set.of(100L),
+                   reader.get(new QNm("http://sirix.io", "s", "name1"), SearchMode.EQUAL).orElseThrow().getNodeKeys());
+    }
+  }
+
+  @Test
+  public void testReopenAfterCommit() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final JsonNodeTrx wtx = manager.beginNodeTrx()) {
+      final ARTWriter<Long, NodeReferences> writer = ARTWriter.getInstance(wtx.getPageWtx(), IndexType.PATH, 0);
+      index(writer, 0, 300);
+      wtx.commit();
+    }
+
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      try (final var rtx = manager.beginNodeReadOnlyTrx(1)) {
+        assertEntries(getReader(rtx.getPageTrx()), 0, 300);
+      }
+
+      try (final JsonNodeTrx wtx = manager.beginNodeTrx()) {
+        final ARTWriter<Long, NodeReferences> writer = ARTWriter.getInstance(wtx.getPageWtx(), IndexType.PATH, 0);
+        assertTrue(writer.remove(10L, 10));
+        index(writer, 300, 400);
+        wtx.commit();
+      }
+    }
+
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      // The previous revision is unchanged.
+      try (final var rtx = manager.beginNodeReadOnlyTrx(1)) {
+        final ARTReader<Long, NodeReferences> reader = getReader(rtx.getPageTrx());
+        assertEntries(reader, 0, 300);
+        assertFalse(reader.get(300L, SearchMode.EQUAL).isPresent());
+      }
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx(2)) {
+        final ARTReader<Long, NodeReferences> reader = getReader(rtx.getPageTrx());
+        assertEquals(400, reader.size());
+        assertFalse(reader.get(10L, SearchMode.EQUAL).orElseThrow().hasNodeKeys());
+        assertEquals(Set.of(399L), reader.get(399L, SearchMode.EQUAL).orElseThrow().getNodeKeys());
+        assertKey(299, reader.getEntry(300L, SearchMode.LOWER));
+      }
+    }
+  }
+
+  private static ARTReader<Long, NodeReferences> getReader(final PageReadOnlyTrx pageReadOnlyTrx) {
+    return ARTReader.getInstance(pageReadOnlyTrx, IndexType.PATH, 0);
+  }
+
+  private static ARTNode<Long, NodeReferences> getRoot(final ARTReader<Long, NodeReferences> reader) {
+    return reader.getNode(reader.getRootKey());
+  }
+
+  private static void index(final ARTWriter<Long, NodeReferences> writer, final long fromKey, final long toKey) {
+    for (long key = fromKey; key < toKey; key++) {
+      writer.index(key, new NodeReferences(Set.of(key)));
+    }
+  }
+
+  private static void assertEntries(final ARTReader<Long, NodeReferences> reader, final long fromKey,
+      final long toKey) {
+    assertEquals(toKey - fromKey, reader.size());
+
+    for (long key = fromKey; key < toKey; key++) {
+      assertEquals(Set.of(key), reader.get(key, SearchMode.EQUAL).orElseThrow().getNodeKeys());
+    }
+
+    final Iterator<Map.Entry<Long, NodeReferences>> entries = reader.iterator();
+    for (long key = fromKey; key < toKey; key++) {
+      assertTrue(entries.hasNext());
+      assertEquals(key, entries.next().getKey().longValue());
+    }
+    assertFalse(entries.hasNext());
+  }
+
+  private static void assertKey(final long expectedKey, final Optional<Map.Entry<Long, NodeReferences>> entry) {
+    assertTrue(entry.isPresent());
+    assertEquals(expectedKey, entry.get().getKey().longValue());
+  }
+}
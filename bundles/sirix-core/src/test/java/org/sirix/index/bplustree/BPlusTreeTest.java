@@ -0,0 +1,179 @@
+package org.sirix.index.bplustree;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.index.IndexType;
+import org.sirix.index.SearchMode;
+import org.sirix.index.keyvalue.NodeReferences;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the splits of the nodes of the persistent B+-tree, which stores at most
+ * {@link BPlusTreeWriter#MAX_NUMBER_OF_KEYS} keys per node.
+ */
+public final class BPlusTreeTest {
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testLeafSplit() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      final BPlusTreeWriter<Long, NodeReferences> writer =
+          BPlusTreeWriter.getInstance(wtx.getPageWtx(), IndexType.PATH, 0);
+      final BPlusTreeReader<Long, NodeReferences> reader = writer.getReader();
+
+      index(writer, List.of(createKeys(BPlusTreeWriter.MAX_NUMBER_OF_KEYS)));
+      assertTrue(getRoot(reader).isLeaf());
+      assertEquals(BPlusTreeWriter.MAX_NUMBER_OF_KEYS, getRoot(reader).getKeyCount());
+
+      // One more key overflows the root leaf.
+      index(writer, List.of(2L * BPlusTreeWriter.MAX_NUMBER_OF_KEYS));
+      final BPlusTreeNode<Long, NodeReferences> root = getRoot(reader);
+      assertFalse(root.isLeaf());
+      assertEquals(1, root.getKeyCount());
+
+      final BPlusTreeNode<Long, NodeReferences> left = reader.getNode(root.getChildKey(0));
+      final BPlusTreeNode<Long, NodeReferences> right = reader.getNode(root.getChildKey(1));
+      assertTrue(left.isLeaf());
+      assertTrue(right.isLeaf());
+      assertEquals(BPlusTreeWriter.MAX_NUMBER_OF_KEYS + 1, left.getKeyCount() + right.getKeyCount());
+      assertEquals(right.getKey(0), root.getKey(0));
+      assertEquals(right.getNodeKey(), left.getNextLeafKey());
+      assertFalse(right.hasNextLeaf());
+
+      assertEntries(reader, BPlusTreeWriter.MAX_NUMBER_OF_KEYS + 1);
+      assertLeafBoundaries(reader);
+    }
+  }
+
+  @Test
+  public void testInnerSplit() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    final int numberOfKeys = 6_000;
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final JsonNodeTrx wtx = manager.beginNodeTrx()) {
+      final BPlusTreeWriter<Long, NodeReferences> writer =
+          BPlusTreeWriter.getInstance(wtx.getPageWtx(), IndexType.PATH, 0);
+      final BPlusTreeReader<Long, NodeReferences> reader = writer.getReader();
+
+      // In random order, such that not only the rightmost nodes are split.
+      final List<Long> keys = new ArrayList<>(List.of(createKeys(numberOfKeys)));
+      Collections.shuffle(keys, new Random(42));
+      index(writer, keys);
+
+      // The inner nodes below the root have been split, too.
+      final BPlusTreeNode<Long, NodeReferences> root = getRoot(reader);
+      assertFalse(root.isLeaf());
+      final BPlusTreeNode<Long, NodeReferences> firstChild = reader.getNode(root.getChildKey(0));
+      assertFalse(firstChild.isLeaf());
+      assertTrue(reader.getNode(firstChild.getChildKey(0)).isLeaf());
+      assertTrue(root.getKeyCount() <= BPlusTreeWriter.MAX_NUMBER_OF_KEYS);
+
+      assertEntries(reader, numberOfKeys);
+      assertLeafBoundaries(reader);
+      wtx.commit();
+    }
+
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var rtx = manager.beginNodeReadOnlyTrx()) {
+      final BPlusTreeReader<Long, NodeReferences> reader =
+          BPlusTreeReader.getInstance(rtx.getPageTrx(), IndexType.PATH, 0);
+      assertEntries(reader, numberOfKeys);
+      assertLeafBoundaries(reader);
+    }
+  }
+
+  private static BPlusTreeNode<Long, NodeReferences> getRoot(final BPlusTreeReader<Long, NodeReferences> reader) {
+    return reader.getNode(reader.getRootKey());
+  }
+
+  private static Long[] createKeys(final int numberOfKeys) {
+    // Only even keys, such that the odd keys are searched in between.
+    final Long[] keys = new Long[numberOfKeys];
+    for (int i = 0; i < numberOfKeys; i++) {
+      keys[i] = 2L * i;
+    }
+    return keys;
+  }
+
+  private static void index(final BPlusTreeWriter<Long, NodeReferences> writer, final List<Long> keys) {
+    for (final long key : keys) {
+      writer.index(key, new NodeReferences(Set.of(key / 2)));
+    }
+  }
+
+  private static void assertEntries(final BPlusTreeReader<Long, NodeReferences> reader, final int numberOfKeys) {
+    assertEquals(numberOfKeys, reader.size());
+
+    final Iterator<Map.Entry<Long, NodeReferences>> entries = reader.iterator();
+    for (long i = 0; i < numberOfKeys; i++) {
+      assertEquals(Set.of(i), reader.get(2 * i, SearchMode.EQUAL).orElseThrow().getNodeKeys());
+      assertFalse(reader.get(2 * i + 1, SearchMode.EQUAL).isPresent());
+      assertTrue(entries.hasNext());
+      assertEquals(2 * i, entries.next().getKey().longValue());
+    }
+    assertFalse(entries.hasNext());
+  }
+
+  /**
+   * Searches the neighbours of the first and the last key of each leaf, which are stored in other leaves.
+   */
+  private static void assertLeafBoundaries(final BPlusTreeReader<Long, NodeReferences> reader) {
+    BPlusTreeNode<Long, NodeReferences> leaf = getRoot(reader);
+    while (!leaf.isLeaf()) {
+      leaf = reader.getNode(leaf.getChildKey(0));
+    }
+
+    int numberOfLeaves = 1;
+    while (leaf.hasNextLeaf()) {
+      final BPlusTreeNode<Long, NodeReferences> nextLeaf = reader.getNode(leaf.getNextLeafKey());
+      final long lastKey = leaf.getKey(leaf.getKeyCount() - 1);
+      final long firstKey = nextLeaf.getKey(0);
+      assertEquals(lastKey + 2, firstKey);
+
+      assertKey(firstKey, reader.getEntry(lastKey, SearchMode.GREATER));
+      assertKey(firstKey, reader.getEntry(lastKey + 1, SearchMode.GREATER_OR_EQUAL));
+      assertKey(lastKey, reader.getEntry(firstKey, SearchMode.LOWER));
+      assertKey(lastKey, reader.getEntry(firstKey - 1, SearchMode.LOWER_OR_EQUAL));
+      assertKey(firstKey, reader.getEntry(firstKey, SearchMode.LOWER_OR_EQUAL));
+
+      leaf = nextLeaf;
+      numberOfLeaves++;
+    }
+
+    assertTrue(numberOfLeaves > 1);
+    final long lastKey = leaf.getKey(leaf.getKeyCount() - 1);
+    assertFalse(reader.getEntry(lastKey, SearchMode.GREATER).isPresent());
+    assertFalse(reader.getEntry(0L, SearchMode.LOWER).isPresent());
+  }
+
+  private static void assertKey(final long expectedKey, final Optional<Map.Entry<Long, NodeReferences>> entry) {
+    assertTrue(entry.isPresent());
+    assertEquals(expectedKey, entry.get().getKey().longValue());
+  }
+}
@@ -0,0 +1,162 @@
+package org.sirix.index.redblacktree;
+
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.atomic.Una;
+import org.brackit.xquery.node.parser.FragmentHelper;
+import org.brackit.xquery.xdm.DocumentException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.index.IndexBackendType;
+import org.sirix.index.IndexDef;
+import org.sirix.index.IndexDefs;
+import org.sirix.index.IndexType;
+import org.sirix.index.SearchMode;
+import org.sirix.index.keyvalue.NodeReferences;
+import org.sirix.settings.Fixed;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the red-black tree, which stores the indexes created before the B+-tree has been introduced.
+ */
+public final class RBTreeTest {
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testInsertedKeysAreBalancedAndSorted() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    final int numberOfKeys = 2_000;
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final JsonNodeTrx wtx = manager.beginNodeTrx()) {
+      final RBTreeWriter<Long, NodeReferences> writer = RBTreeWriter.getInstance(wtx.getPageWtx(), IndexType.PATH, 0);
+
+      final List<Long> keys = new ArrayList<>();
+      for (long i = 0; i < numberOfKeys; i++) {
+        // Only even keys, such that the odd keys are searched in between.
+        keys.add(2 * i);
+      }
+      Collections.shuffle(keys, new Random(42));
+      for (final long key : keys) {
+        writer.index(key, new NodeReferences(Set.of(key / 2)));
+      }
+
+      assertRedBlackTree(writer.getReader());
+      assertEntries(writer.getReader(), numberOfKeys);
+
+      assertTrue(writer.remove(4L, 2));
+      assertFalse(writer.remove(4L, 2));
+      assertTrue(writer.get(4L, SearchMode.EQUAL).orElseThrow().getNodeKeys().isEmpty());
+      writer.index(4L, new NodeReferences(Set.of(2L)));
+      wtx.commit();
+    }
+
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var rtx = manager.beginNodeReadOnlyTrx()) {
+      final RBTreeReader<Long, NodeReferences> reader = RBTreeReader.getInstance(rtx.getPageTrx(), IndexType.PATH, 0);
+      assertRedBlackTree(reader);
+      assertEntries(reader, numberOfKeys);
+    }
+  }
+
+  @Test
+  public void testIndexDefinitionsWithoutBackendAreRedBlackTrees() throws DocumentException {
+    // Index definitions, which have been stored before the backend has been stored.
+    final FragmentHelper legacyIndexDef = new FragmentHelper();
+    legacyIndexDef.openElement(IndexDef.INDEX_TAG);
+    legacyIndexDef.attribute(new QNm("type"), new Una(IndexType.PATH.toString()));
+    legacyIndexDef.attribute(new QNm("id"), new Una("0"));
+    legacyIndexDef.closeElement();
+
+    final IndexDef indexDef = new IndexDef();
+    indexDef.init(legacyIndexDef.getRoot());
+    assertEquals(IndexBackendType.RED_BLACK_TREE, indexDef.getBackendType());
+
+    final IndexDef bPlusTreeIndexDef = new IndexDef();
+    bPlusTreeIndexDef.init(IndexDefs.createPathIdxDef(Set.of(), 0).materialize());
+    assertEquals(IndexBackendType.BPLUS_TREE, bPlusTreeIndexDef.getBackendType());
+  }
+
+  private static void assertEntries(final RBTreeReader<Long, NodeReferences> reader, final int numberOfKeys) {
+    assertEquals(numberOfKeys, reader.size());
+
+    final Iterator<Map.Entry<Long, NodeReferences>> entries = reader.iterator();
+    for (long i = 0; i < numberOfKeys; i++) {
+      assertEquals(Set.of(i), reader.get(2 * i, SearchMode.EQUAL).orElseThrow().getNodeKeys());
+      assertFalse(reader.get(2 * i + 1, SearchMode.EQUAL).isPresent());
+      assertTrue(entries.hasNext());
+      assertEquals(2 * i, entries.next().getKey().longValue());
+
+      assertEquals(2 * i, reader.getEntry(2 * i - 1, SearchMode.GREATER_OR_EQUAL).orElseThrow().getKey().longValue());
+      assertEquals(2 * i, reader.getEntry(2 * i + 1, SearchMode.LOWER_OR_EQUAL).orElseThrow().getKey().longValue());
+      if (i > 0) {
+        assertEquals(2 * i - 2, reader.getEntry(2 * i, SearchMode.LOWER).orElseThrow().getKey().longValue());
+      }
+      if (i < numberOfKeys - 1) {
+        assertEquals(2 * i + 2, reader.getEntry(2 * i, SearchMode.GREATER).orElseThrow().getKey().longValue());
+      }
+    }
+    assertFalse(entries.hasNext());
+    assertFalse(reader.getEntry(0L, SearchMode.LOWER).isPresent());
+    assertFalse(reader.getEntry(2L * numberOfKeys - 2, SearchMode.GREATER).isPresent());
+
+    final Iterator<Map.Entry<Long, NodeReferences>> entriesFromKey =
+        reader.iterator(2L * numberOfKeys - 3, Long::compare);
+    assertEquals(2L * numberOfKeys - 2, entriesFromKey.next().getKey().longValue());
+    assertFalse(entriesFromKey.hasNext());
+  }
+
+  /**
+   * Asserts that the root node is black, that no red node has a red child and that every path from the root node to
+   * a missing child has the same number of black nodes.
+   */
+  private static void assertRedBlackTree(final RBTreeReader<Long, NodeReferences> reader) {
+    final RBNode<Long, NodeReferences> root = reader.getNode(reader.getRootKey());
+    assertFalse(root.isChanged());
+    assertEquals(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), root.getParentKey());
+    getBlackHeight(reader, root);
+  }
+
+  private static int getBlackHeight(final RBTreeReader<Long, NodeReferences> reader,
+      final RBNode<Long, NodeReferences> node) {
+    int leftBlackHeight = 0;
+    if (node.hasLeftChild()) {
+      final RBNode<Long, NodeReferences> left = reader.getNode(node.getLeftChildKey());
+      assertEquals(node.getNodeKey(), left.getParentKey());
+      assertTrue(left.getKey() < node.getKey());
+      assertFalse(node.isChanged() && left.isChanged());
+      leftBlackHeight = getBlackHeight(reader, left);
+    }
+    int rightBlackHeight = 0;
+    if (node.hasRightChild()) {
+      final RBNode<Long, NodeReferences> right = reader.getNode(node.getRightChildKey());
+      assertEquals(node.getNodeKey(), right.getParentKey());
+      assertTrue(right.getKey() > node.getKey());
+      assertFalse(node.isChanged() && right.isChanged());
+      rightBlackHeight = getBlackHeight(reader, right);
+    }
+    assertEquals(leftBlackHeight, rightBlackHeight);
+    return leftBlackHeight + (node.isChanged() ? 0 : 1);
+  }
+}
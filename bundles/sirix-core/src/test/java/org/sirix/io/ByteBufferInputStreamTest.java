@@ -0,0 +1,25 @@
+package org.sirix.io;
+
+import com.google.common.io.ByteStreams;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public final class ByteBufferInputStreamTest {
+  @Test
+  public void testReadsFromPositionToLimit() throws IOException {
+    final ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 1, 2, 3, 4, 5, (byte) 0xFF, 7 });
+    buffer.position(2).limit(6);
+
+    final var in = new ByteBufferInputStream(buffer);
+    assertEquals(4, in.available());
+    assertEquals(3, in.read());
+    assertEquals(1, in.skip(1));
+    assertArrayEquals(new byte[] { 5, (byte) 0xFF }, ByteStreams.toByteArray(in));
+    assertEquals(-1, in.read());
+  }
+}
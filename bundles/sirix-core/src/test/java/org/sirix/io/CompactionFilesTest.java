@@ -0,0 +1,132 @@
+package org.sirix.io;
+
+import org.brackit.xquery.atomic.QNm;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sirix.XmlTestHelper;
+import org.sirix.access.DatabaseConfiguration;
+import org.sirix.access.Databases;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.Database;
+import org.sirix.api.xml.XmlNodeReadOnlyTrx;
+import org.sirix.api.xml.XmlNodeTrx;
+import org.sirix.api.xml.XmlResourceManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class CompactionFilesTest {
+
+  private static final String DATA_FILE = "sirix.data";
+
+  private static final String REVISIONS_FILE = "sirix.revisions";
+
+  @Rule
+  public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testReplace() throws IOException {
+    final Path dataDirectory = createDataDirectory();
+    final Path compactionDirectory = CompactionFiles.createCompactionDirectory(dataDirectory);
+    write(compactionDirectory.resolve(REVISIONS_FILE), "new revisions");
+    write(compactionDirectory.resolve(DATA_FILE), "new data");
+
+    CompactionFiles.replace(dataDirectory, REVISIONS_FILE, DATA_FILE);
+
+    assertEquals("new revisions", read(dataDirectory.resolve(REVISIONS_FILE)));
+    assertEquals("new data", read(dataDirectory.resolve(DATA_FILE)));
+    assertFalse(Files.exists(compactionDirectory));
+  }
+
+  @Test
+  public void testRecoverCompletesInterruptedReplacement() throws IOException {
+    final Path dataDirectory = createDataDirectory();
+    final Path compactionDirectory = CompactionFiles.createCompactionDirectory(dataDirectory);
+
+    // Interrupted after the revisions file has been moved.
+    write(dataDirectory.resolve(REVISIONS_FILE), "new revisions");
+    write(compactionDirectory.resolve(DATA_FILE), "new data");
+    Files.createFile(compactionDirectory.resolve(CompactionFiles.COMPLETED_MARKER));
+
+    CompactionFiles.recover(dataDirectory, REVISIONS_FILE, DATA_FILE);
+
+    assertEquals("new revisions", read(dataDirectory.resolve(REVISIONS_FILE)));
+    assertEquals("new data", read(dataDirectory.resolve(DATA_FILE)));
+    assertFalse(Files.exists(compactionDirectory));
+  }
+
+  @Test
+  public void testRecoverRemovesIncompleteCompaction() throws IOException {
+    final Path dataDirectory = createDataDirectory();
+    final Path compactionDirectory = CompactionFiles.createCompactionDirectory(dataDirectory);
+    write(compactionDirectory.resolve(REVISIONS_FILE), "new revisions");
+    write(compactionDirectory.resolve(DATA_FILE), "new data");
+
+    CompactionFiles.recover(dataDirectory, REVISIONS_FILE, DATA_FILE);
+
+    assertEquals("old revisions", read(dataDirectory.resolve(REVISIONS_FILE)));
+    assertEquals("old data", read(dataDirectory.resolve(DATA_FILE)));
+    assertFalse(Files.exists(compactionDirectory));
+  }
+
+  @Test
+  public void testReplacementIsCompletedOnceTheResourceIsOpened() throws IOException {
+    XmlTestHelper.deleteEverything();
+    Databases.createXmlDatabase(new DatabaseConfiguration(XmlTestHelper.PATHS.PATH1.getFile()));
+
+    try (final Database<XmlResourceManager> database = Databases.openXmlDatabase(XmlTestHelper.PATHS.PATH1.getFile())) {
+      database.createResource(
+          ResourceConfiguration.newBuilder(XmlTestHelper.RESOURCE).storageType(StorageType.FILE).build());
+
+      final Path dataDirectory;
+      try (final XmlResourceManager manager = database.openResourceManager(XmlTestHelper.RESOURCE);
+           final XmlNodeTrx wtx = manager.beginNodeTrx()) {
+        wtx.insertElementAsFirstChild(new QNm("foo"));
+        wtx.commit();
+        dataDirectory =
+            manager.getResourceConfig().getResource().resolve(ResourceConfiguration.ResourcePaths.DATA.getPath());
+      }
+
+      // Simulates a crash after the compacted copy has been completed, but before the data files have been replaced.
+      final Path compactionDirectory = CompactionFiles.createCompactionDirectory(dataDirectory);
+      for (final String fileName : new String[] { REVISIONS_FILE, DATA_FILE }) {
+        Files.copy(dataDirectory.resolve(fileName), compactionDirectory.resolve(fileName));
+        Files.write(dataDirectory.resolve(fileName), new byte[0]);
+      }
+      Files.createFile(compactionDirectory.resolve(CompactionFiles.COMPLETED_MARKER));
+
+      try (final XmlResourceManager manager = database.openResourceManager(XmlTestHelper.RESOURCE);
+           final XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx()) {
+        assertFalse(Files.exists(compactionDirectory));
+        assertEquals(1, rtx.getRevisionNumber());
+        assertTrue(rtx.moveToFirstChild().hasMoved());
+        assertEquals(new QNm("foo"), rtx.getName());
+      }
+    } finally {
+      XmlTestHelper.closeEverything();
+    }
+  }
+
+  private Path createDataDirectory() throws IOException {
+    final Path dataDirectory = temporaryFolder.getRoot().toPath().resolve("data");
+    Files.createDirectories(dataDirectory);
+    write(dataDirectory.resolve(REVISIONS_FILE), "old revisions");
+    write(dataDirectory.resolve(DATA_FILE), "old data");
+    return dataDirectory;
+  }
+
+  private static void write(final Path file, final String content) throws IOException {
+    Files.writeString(file, content, StandardCharsets.UTF_8);
+  }
+
+  private static String read(final Path file) throws IOException {
+    return Files.readString(file, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,135 @@
+package org.sirix.io;
+
+import org.brackit.xquery.atomic.QNm;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.XmlTestHelper;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.xml.XmlResourceManager;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the commit timestamps of resources, which don't have a complete timestamps file, are backfilled from
+ * the revision root pages.
+ */
+public final class RevisionTimestampsTest {
+
+  private static final String RESOURCE = "timestamps";
+
+  @Before
+  public void setUp() {
+    XmlTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    XmlTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testMissingFileIsBackfilledOnRead() throws IOException {
+    for (final StorageType storageType : new StorageType[] { StorageType.FILE, StorageType.DIRECT,
+        StorageType.MEMORY_MAPPED }) {
+      XmlTestHelper.deleteEverything();
+      final ResourceConfiguration resourceConfig = createResource(storageType);
+      final Path timestampsFile = getTimestampsFile(resourceConfig);
+      assertEquals(3 * 8, Files.size(timestampsFile));
+
+      final long[] timestamps = readTimestamps(resourceConfig);
+      Files.delete(timestampsFile);
+
+      assertEquals(timestamps[2], readTimestamps(resourceConfig)[2]);
+      assertEquals(3 * 8, Files.size(timestampsFile));
+      assertTimestamps(resourceConfig, timestamps);
+      XmlTestHelper.closeEverything();
+    }
+  }
+
+  @Test
+  public void testShortFileIsBackfilledOnCommit() throws IOException {
+    for (final StorageType storageType : new StorageType[] { StorageType.FILE, StorageType.DIRECT,
+        StorageType.MEMORY_MAPPED }) {
+      XmlTestHelper.deleteEverything();
+      final ResourceConfiguration resourceConfig = createResource(storageType);
+      final Path timestampsFile = getTimestampsFile(resourceConfig);
+      final long[] timestamps = readTimestamps(resourceConfig);
+      try (final FileChannel channel = FileChannel.open(timestampsFile, StandardOpenOption.WRITE)) {
+        channel.truncate(8);
+      }
+
+      final var database = XmlTestHelper.getDatabase(XmlTestHelper.PATHS.PATH1.getFile());
+      try (final XmlResourceManager manager = database.openResourceManager(RESOURCE)) {
+        commit(manager, "baz");
+      }
+      assertEquals(4 * 8, Files.size(timestampsFile));
+      assertTimestamps(resourceConfig, timestamps);
+      XmlTestHelper.closeEverything();
+    }
+  }
+
+  private static ResourceConfiguration createResource(final StorageType storageType) {
+    final var database = XmlTestHelper.getDatabase(XmlTestHelper.PATHS.PATH1.getFile());
+    database.createResource(ResourceConfiguration.newBuilder(RESOURCE).storageType(storageType).build());
+    try (final XmlResourceManager manager = database.openResourceManager(RESOURCE)) {
+      commit(manager, "foo");
+      commit(manager, "bar");
+      return manager.getResourceConfig();
+    }
+  }
+
+  private static Path getTimestampsFile(final ResourceConfiguration resourceConfig) {
+    return resourceConfig.getResource()
+                         .resolve(ResourceConfiguration.ResourcePaths.DATA.getPath())
+                         .resolve(RevisionTimestamps.FILENAME);
+  }
+
+  /**
+   * Reads the commit timestamps of the revisions 0 to 2 through the storage.
+   */
+  private static long[] readTimestamps(final ResourceConfiguration resourceConfig) {
+    final IOStorage storage = StorageType.getStorage(resourceConfig);
+    try (final Reader reader = storage.createReader()) {
+      final long[] timestamps = new long[3];
+      for (int revision = 0; revision < timestamps.length; revision++) {
+        timestamps[revision] = reader.readRevisionTimestamp(revision);
+      }
+      return timestamps;
+    } finally {
+      storage.close();
+    }
+  }
+
+  /**
+   * Asserts that the entries match the timestamps of the revision root pages.
+   */
+  private static void assertTimestamps(final ResourceConfiguration resourceConfig, final long[] timestamps) {
+    final IOStorage storage = StorageType.getStorage(resourceConfig);
+    try (final Reader reader = storage.createReader()) {
+      for (int revision = 0; revision < timestamps.length; revision++) {
+        final long timestamp = reader.readRevisionRootPage(revision, null).getRevisionTimestamp();
+        assertEquals(timestamp, timestamps[revision]);
+        assertEquals(timestamp, reader.readRevisionTimestamp(revision));
+      }
+      assertTrue(timestamps[1] <= timestamps[2]);
+    } finally {
+      storage.close();
+    }
+  }
+
+  private static void commit(final XmlResourceManager manager, final String name) {
+    try (final var wtx = manager.beginNodeTrx()) {
+      wtx.moveToDocumentRoot();
+      wtx.insertElementAsFirstChild(new QNm(name));
+      wtx.commit();
+    }
+  }
+}
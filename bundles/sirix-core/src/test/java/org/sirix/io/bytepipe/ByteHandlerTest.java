@@ -85,11 +85,12 @@ public final class ByteHandlerTest {
 
     Object[][] returnVal = {{ByteHandler.class,
         new ByteHandler[] {new Encryptor(encryptionKeyPath), new DeflateCompressor(),
-            new SnappyCompressor(),
+            new SnappyCompressor(), new LZ4Compressor(), new ZstdCompressor(),
             new ByteHandlePipeline(new Encryptor(encryptionKeyPath), new DeflateCompressor()),
             new ByteHandlePipeline(new DeflateCompressor(), new Encryptor(encryptionKeyPath)),
             new ByteHandlePipeline(new Encryptor(encryptionKeyPath), new SnappyCompressor()),
-            new ByteHandlePipeline(new SnappyCompressor(), new Encryptor(encryptionKeyPath))}}};
+            new ByteHandlePipeline(new SnappyCompressor(), new Encryptor(encryptionKeyPath)),
+            new ByteHandlePipeline(new ZstdCompressor(), new Encryptor(encryptionKeyPath))}}};
     return returnVal;
   }
 
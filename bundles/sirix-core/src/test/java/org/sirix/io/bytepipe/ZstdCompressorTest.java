@@ -0,0 +1,103 @@
+package org.sirix.io.bytepipe;
+
+import com.google.common.io.ByteStreams;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sirix.access.ResourceConfiguration;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class ZstdCompressorTest {
+  @Rule
+  public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testDictionaryIsTrainedAndOlderPagesRemainReadable() throws IOException {
+    final Path resourcePath = temporaryFolder.getRoot().toPath();
+    Files.createDirectories(resourcePath.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath()));
+
+    final ByteHandler compressor = new ZstdCompressor(true).bindTo(resourcePath);
+    final List<byte[]> pages = new ArrayList<>();
+    final List<byte[]> compressedPages = new ArrayList<>();
+
+    for (int i = 0; i < 300; i++) {
+      final byte[] page = ("{\"id\":" + i + ",\"name\":\"name" + (i % 17) + "\",\"tags\":[\"a\",\"b\",\"c" + (i % 5)
+          + "\"],\"nested\":{\"value\":" + (i * 31) + ",\"flag\":" + (i % 2 == 0) + "}}").repeat(10)
+                                                                                        .getBytes(
+                                                                                            StandardCharsets.UTF_8);
+      pages.add(page);
+      compressedPages.add(compress(compressor, page));
+    }
+
+    assertTrue(Files.exists(resourcePath.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath())
+                                        .resolve(ZstdCompressor.DICTIONARY_FILENAME)));
+
+    // A new instance has to load the dictionary from the resource.
+    final ByteHandler otherCompressor = compressor.getInstance();
+    for (int i = 0; i < pages.size(); i++) {
+      assertArrayEquals(pages.get(i), decompress(otherCompressor, compressedPages.get(i)));
+    }
+  }
+
+  @Test
+  public void testResourcePathIsNotPersisted() throws IOException {
+    final Path resourcePath = temporaryFolder.getRoot().toPath();
+    final var stringWriter = new StringWriter();
+    try (final var jsonWriter = new JsonWriter(stringWriter)) {
+      ByteHandlerKind.ZSTD_COMPRESSOR.serialize(new ZstdCompressor(true).bindTo(resourcePath), jsonWriter);
+    }
+    assertFalse(stringWriter.toString().contains(resourcePath.toString()));
+
+    final ZstdCompressor compressor = deserialize(stringWriter.toString());
+    assertTrue(compressor.isUsingDictionary());
+    assertEquals(new ZstdCompressor(true), compressor);
+    assertEquals(new ZstdCompressor(resourcePath), compressor.bindTo(resourcePath));
+    assertFalse(deserialize("{\"" + ZstdCompressor.class.getName() + "\":false}").isUsingDictionary());
+
+    // Configurations, which stored the absolute resource path.
+    assertTrue(deserialize("{\"" + ZstdCompressor.class.getName() + "\":\"/moved/resource\"}").isUsingDictionary());
+  }
+
+  private static ZstdCompressor deserialize(final String json) throws IOException {
+    try (final var jsonReader = new JsonReader(new StringReader(json))) {
+      jsonReader.beginObject();
+      jsonReader.nextName();
+      final ByteHandler compressor = ByteHandlerKind.ZSTD_COMPRESSOR.deserialize(jsonReader);
+      jsonReader.endObject();
+      return (ZstdCompressor) compressor;
+    }
+  }
+
+  private static byte[] compress(final ByteHandler handler, final byte[] bytes) throws IOException {
+    final var output = new ByteArrayOutputStream();
+    try (final OutputStream out = handler.serialize(output)) {
+      out.write(bytes);
+    }
+    return output.toByteArray();
+  }
+
+  private static byte[] decompress(final ByteHandler handler, final byte[] bytes) throws IOException {
+    try (final InputStream in = handler.deserialize(new ByteArrayInputStream(bytes))) {
+      return ByteStreams.toByteArray(in);
+    }
+  }
+}
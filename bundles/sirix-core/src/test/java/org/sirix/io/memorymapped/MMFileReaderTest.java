@@ -0,0 +1,92 @@
+package org.sirix.io.memorymapped;
+
+import org.brackit.xquery.atomic.QNm;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.XmlTestHelper;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.xml.XmlResourceManager;
+import org.sirix.io.IOStorage;
+import org.sirix.io.Reader;
+import org.sirix.io.StorageType;
+import org.sirix.page.PageReference;
+import org.sirix.page.RevisionRootPage;
+import org.sirix.page.UberPage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class MMFileReaderTest {
+
+  private static final String RESOURCE = "mmfile";
+
+  @Before
+  public void setUp() {
+    XmlTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    XmlTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testReadPagesWrittenAfterMapping() throws IOException {
+    final var database = XmlTestHelper.getDatabase(XmlTestHelper.PATHS.PATH1.getFile());
+    database.createResource(ResourceConfiguration.newBuilder(RESOURCE).storageType(StorageType.MEMORY_MAPPED).build());
+
+    final ResourceConfiguration resourceConfig;
+    try (final XmlResourceManager manager = database.openResourceManager(RESOURCE)) {
+      resourceConfig = manager.getResourceConfig();
+      commit(manager, "foo");
+    }
+
+    final Path dataFile = resourceConfig.getResource()
+                                        .resolve(ResourceConfiguration.ResourcePaths.DATA.getPath())
+                                        .resolve("sirix.data");
+    final IOStorage storage = StorageType.getStorage(resourceConfig);
+    try (final Reader reader = storage.createReader()) {
+      // The reader maps the files with their current sizes.
+      final long mappedDataFileSize = Files.size(dataFile);
+      assertEquals(1, ((UberPage) reader.readUberPageReference().getPage()).getRevisionNumber());
+      assertFalse(reader.isRevisionStored(2));
+
+      try (final XmlResourceManager manager = database.openResourceManager(RESOURCE)) {
+        commit(manager, "bar");
+      }
+      assertTrue(Files.size(dataFile) > mappedDataFileSize);
+
+      // The pages of the new revision are stored behind the end of the mapped segments.
+      final PageReference uberPageReference = reader.readUberPageReference();
+      assertTrue(uberPageReference.getKey() >= mappedDataFileSize);
+      assertEquals(2, ((UberPage) uberPageReference.getPage()).getRevisionNumber());
+
+      assertTrue(reader.isRevisionStored(2));
+      final RevisionRootPage revisionRootPage = reader.readRevisionRootPage(2, null);
+      assertEquals(2, revisionRootPage.getRevision());
+      assertEquals(revisionRootPage.getRevisionTimestamp(), reader.readRevisionTimestamp(2));
+
+      // Pages stored before the remapping are still readable.
+      assertEquals(1, reader.readRevisionRootPage(1, null).getRevision());
+    } finally {
+      storage.close();
+    }
+  }
+
+  private static void commit(final XmlResourceManager manager, final String name) {
+    try (final var wtx = manager.beginNodeTrx()) {
+      wtx.moveToDocumentRoot();
+      wtx.insertElementAsFirstChild(new QNm(name));
+      for (int i = 0; i < 100; i++) {
+        wtx.insertElementAsRightSibling(new QNm(name + i));
+      }
+      wtx.commit();
+    }
+  }
+}
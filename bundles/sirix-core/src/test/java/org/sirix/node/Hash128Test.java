@@ -0,0 +1,96 @@
+package org.sirix.node;
+
+import org.junit.Test;
+import org.sirix.node.interfaces.Node;
+
+import java.io.*;
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the primitive 128-bit hash arithmetic against the formerly used {@link BigInteger} arithmetic.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class Hash128Test {
+
+  private static final BigInteger MODULUS = Node.MAX_POSITIVE_VALUE_128_BIT;
+
+  private static final long PRIME = 77081;
+
+  @Test
+  public void testArithmeticMatchesBigInteger() {
+    final Random random = new Random(42);
+
+    for (int i = 0; i < 10_000; i++) {
+      final BigInteger first = randomValue(random);
+      final BigInteger second = randomValue(random);
+      final BigInteger prime = BigInteger.valueOf(PRIME);
+
+      final Hash128 firstHash = new Hash128().set(first);
+      final Hash128 secondHash = new Hash128().set(second);
+
+      assertEquals(first, firstHash.toBigInteger());
+      assertEquals(first.add(second).mod(MODULUS), new Hash128().set(firstHash).add(secondHash).toBigInteger());
+      assertEquals(first.subtract(second).mod(MODULUS),
+                   new Hash128().set(firstHash).subtract(secondHash).toBigInteger());
+      assertEquals(first.multiply(prime).mod(MODULUS), new Hash128().set(firstHash).multiply(PRIME).toBigInteger());
+      assertEquals(first.add(second.multiply(prime)).mod(MODULUS),
+                   new Hash128().set(firstHash).addProduct(secondHash, PRIME).toBigInteger());
+      assertEquals(first.subtract(second.multiply(prime)).mod(MODULUS),
+                   new Hash128().set(firstHash).subtractProduct(secondHash, PRIME).toBigInteger());
+    }
+  }
+
+  @Test
+  public void testBytesMatchBigInteger() {
+    final Random random = new Random(42);
+
+    for (int i = 0; i < 1_000; i++) {
+      final byte[] bytes = new byte[random.nextInt(48)];
+      random.nextBytes(bytes);
+      assertEquals(new BigInteger(1, bytes).mod(MODULUS), new Hash128().set(bytes).toBigInteger());
+    }
+  }
+
+  @Test
+  public void testSerializationMatchesBigIntegerFormat() throws IOException {
+    final Random random = new Random(42);
+
+    for (int i = 0; i < 1_000; i++) {
+      final BigInteger value = i == 0 ? BigInteger.ZERO : randomValue(random);
+      final Hash128 hash = new Hash128().set(value);
+
+      final ByteArrayOutputStream output = new ByteArrayOutputStream();
+      Hash128.serialize(new DataOutputStream(output), hash.getHigh(), hash.getLow());
+
+      final byte[] bigIntegerBytes = value.toByteArray();
+      final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+      expected.write(bigIntegerBytes.length);
+      expected.write(bigIntegerBytes);
+
+      assertArrayEquals(expected.toByteArray(), output.toByteArray());
+
+      final Hash128 deserializedHash =
+          new Hash128().deserialize(new DataInputStream(new ByteArrayInputStream(output.toByteArray())));
+      assertEquals(hash, deserializedHash);
+    }
+  }
+
+  @Test
+  public void testModulusIsZero() {
+    assertTrue(new Hash128(-1L, -1L).isZero());
+    assertTrue(new Hash128(-1L, -2L).add(0, 1).isZero());
+    assertTrue(new Hash128(5, 7).subtract(5, 7).isZero());
+  }
+
+  private static BigInteger randomValue(final Random random) {
+    return switch (random.nextInt(3)) {
+      case 0 -> new BigInteger(128, random).mod(MODULUS);
+      case 1 -> MODULUS.subtract(BigInteger.valueOf(random.nextInt(3) + 1));
+      default -> BigInteger.valueOf(random.nextInt(5));
+    };
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2011, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met: * Redistributions of source code must retain the
+ * above copyright notice, this list of conditions and the following disclaimer. * Redistributions
+ * in binary form must reproduce the above copyright notice, this list of conditions and the
+ * following disclaimer in the documentation and/or other materials provided with the distribution.
+ * * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+package org.sirix.node.json;
+
+import com.google.common.hash.Hashing;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.api.Database;
+import org.sirix.api.PageTrx;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.exception.SirixException;
+import org.sirix.node.NodeKind;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.node.delegates.NodeDelegate;
+import org.sirix.node.delegates.StructNodeDelegate;
+import org.sirix.settings.Fixed;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * JSON document root node test.
+ */
+public class JsonDocumentRootNodeTest {
+
+  private PageTrx pageTrx;
+
+  private Database<JsonResourceManager> database;
+
+  @Before
+  public void setUp() throws SirixException {
+    JsonTestHelper.deleteEverything();
+    database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    pageTrx = database.openResourceManager(JsonTestHelper.RESOURCE).beginPageTrx();
+  }
+
+  @After
+  public void tearDown() throws SirixException {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testNode() throws IOException {
+    final NodeDelegate nodeDel =
+        new NodeDelegate(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), Fixed.NULL_NODE_KEY.getStandardProperty(),
+                         Hashing.sha256(), null, 0, SirixDeweyID.newRootID());
+    final StructNodeDelegate strucDel = new StructNodeDelegate(nodeDel, 1L, 1L,
+        Fixed.NULL_NODE_KEY.getStandardProperty(), Fixed.NULL_NODE_KEY.getStandardProperty(), 1L, 42L);
+    final JsonDocumentRootNode node = new JsonDocumentRootNode(nodeDel, strucDel);
+    check(node);
+
+    // Serialize and deserialize node.
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    node.getKind().serialize(new DataOutputStream(out), node, pageTrx);
+    final ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+    final JsonDocumentRootNode node2 =
+        (JsonDocumentRootNode) NodeKind.JSON_DOCUMENT.deserialize(new DataInputStream(in), node.getNodeKey(), null,
+            pageTrx);
+    check(node2);
+
+    // All serialized bytes have been consumed.
+    assertEquals(0, in.available());
+  }
+
+  private void check(final JsonDocumentRootNode node) {
+    // Now compare.
+    assertEquals(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), node.getNodeKey());
+    assertEquals(Fixed.NULL_NODE_KEY.getStandardProperty(), node.getParentKey());
+    assertEquals(1L, node.getFirstChildKey());
+    assertEquals(1L, node.getLastChildKey());
+    assertEquals(1L, node.getChildCount());
+    assertEquals(42L, node.getDescendantCount());
+    assertTrue(node.hasFirstChild());
+    assertEquals(NodeKind.JSON_DOCUMENT, node.getKind());
+  }
+
+}
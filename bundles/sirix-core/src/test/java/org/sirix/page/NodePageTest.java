@@ -21,13 +21,23 @@
 
 package org.sirix.page;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.brackit.xquery.atomic.QNm;
 import org.junit.After;
@@ -36,14 +46,18 @@ import org.junit.Test;
 import org.sirix.Holder;
 import org.sirix.XmlTestHelper;
 import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.cache.BufferPool;
+import org.sirix.cache.RecordPageCache;
 import org.sirix.exception.SirixException;
 import org.sirix.index.IndexType;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.delegates.NameNodeDelegate;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
+import org.sirix.node.interfaces.DataRecord;
 import org.sirix.node.interfaces.NameNode;
 import org.sirix.node.xml.ElementNode;
+import org.sirix.settings.VersioningType;
 import org.sirix.utils.NamePageHash;
 import com.google.common.collect.HashBiMap;
 import com.google.common.hash.Hashing;
@@ -121,4 +135,189 @@ public final class NodePageTest {
     assertEquals(7, ((NameNode) page2.getValue(0l)).getLocalNameKey());
     assertEquals(NamePageHash.generateHashForString("xs:untyped"), element.getTypeKey());
   }
+
+  @Test
+  public void testRecordsKeepInsertionOrder() {
+    final UnorderedKeyValuePage page = new UnorderedKeyValuePage(0L, IndexType.DOCUMENT, pageReadTrx);
+
+    for (final long nodeKey : new long[] { 5L, 1L, 1023L, 3L }) {
+      final NodeDelegate del = new NodeDelegate(nodeKey, 0, Hashing.sha256(), null, 0, SirixDeweyID.newRootID());
+      final StructNodeDelegate strucDel = new StructNodeDelegate(del, 12L, 4L, 3L, 1L, 0L);
+      final NameNodeDelegate nameDel = new NameNodeDelegate(del, 5, 6, 7, 1);
+      page.setRecord(nodeKey, new ElementNode(strucDel, nameDel, new ArrayList<>(), HashBiMap.create(),
+          new ArrayList<>(), new QNm("a", "b", "c")));
+    }
+
+    assertEquals(4, page.size());
+    assertEquals(List.of(5L, 1L, 1023L, 3L),
+                 page.entrySet().stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+    assertEquals(1023L, page.getValue(1023L).getNodeKey());
+    assertNull(page.getValue(2L));
+  }
+
+  @Test
+  public void testSlotsGrowWithTheRecords() throws IOException {
+    final UnorderedKeyValuePage page = new UnorderedKeyValuePage(0L, IndexType.DOCUMENT, pageReadTrx);
+    final List<Long> nodeKeys = new ArrayList<>();
+    for (long nodeKey = 100; nodeKey >= 1; nodeKey--) {
+      page.setRecord(nodeKey, createElement(nodeKey, 12L));
+      nodeKeys.add(nodeKey);
+    }
+
+    assertEquals(100, page.size());
+    assertEquals(nodeKeys, page.entrySet().stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+    assertNull(page.getValue(0L));
+    assertNull(page.getValue(1023L));
+
+    final UnorderedKeyValuePage deserializedPage = deserialize(serialize(page), pageReadTrx);
+    assertEquals(100, deserializedPage.size());
+    for (final long nodeKey : nodeKeys) {
+      assertEquals(nodeKey, deserializedPage.getValue(nodeKey).getNodeKey());
+    }
+    assertNull(deserializedPage.getValue(1023L));
+  }
+
+  @Test
+  public void testRecordsAreDeserializedLazily() throws IOException {
+    final byte[] serializedPage = serialize(createPage(1L, 2L, 3L));
+    final UnorderedKeyValuePage page;
+    final ElementNode element;
+
+    try (final PageReadOnlyTrx otherPageReadTrx = mHolder.getResourceManager().beginPageReadOnlyTrx()) {
+      page = deserialize(serializedPage, otherPageReadTrx);
+
+      assertEquals(3, page.size());
+      assertNotNull(page.getSerializedValue(1L));
+      assertNotNull(page.getSerializedValue(2L));
+      assertNotNull(page.getSerializedValue(3L));
+
+      element = (ElementNode) page.getValue(2L);
+      assertEquals(2L, element.getNodeKey());
+      assertEquals(12L, element.getFirstChildKey());
+    }
+
+    // The record has been deserialized once, whereas the other records haven't been deserialized so far and need an
+    // open transaction to resolve their names.
+    assertSame(element, page.getValue(2L));
+    try {
+      page.getValue(1L);
+      fail("The record should not have been deserialized.");
+    } catch (final IllegalStateException expected) {
+      // Expected.
+    }
+    assertEquals(1L, page.getValue(1L, pageReadTrx).getNodeKey());
+  }
+
+  @Test
+  public void testSerializedRecordsAreDiscardedOnceDeserialized() throws IOException {
+    final UnorderedKeyValuePage page = deserialize(serialize(createPage(1L, 2L, 3L)), pageReadTrx);
+    final int serializedRecordsSize = page.getSerializedRecordsSize();
+    assertTrue(serializedRecordsSize > 0);
+
+    // Without flyweight cursors the page keeps only one form of a record.
+    assertEquals(2L, page.getValue(2L).getNodeKey());
+    assertTrue(page.getSerializedRecordsSize() < serializedRecordsSize);
+    assertNull(page.getSerializedValue(2L));
+
+    // Once a flyweight cursor has requested a serialized record, both forms are kept.
+    assertNotNull(page.getSerializedValue(1L));
+    final int keptSerializedRecordsSize = page.getSerializedRecordsSize();
+    assertEquals(1L, page.getValue(1L).getNodeKey());
+    assertNotNull(page.getSerializedValue(1L));
+    assertEquals(keptSerializedRecordsSize, page.getSerializedRecordsSize());
+
+    // Setting a record always discards its outdated serialized form.
+    page.setRecord(1L, createElement(1L, 42L));
+    assertNull(page.getSerializedValue(1L));
+    assertTrue(page.getSerializedRecordsSize() < keptSerializedRecordsSize);
+  }
+
+  @Test
+  public void testEqualsDoesNotDeserializeRecords() throws IOException {
+    final byte[] serializedPage = serialize(createPage(1L, 2L, 3L));
+    final UnorderedKeyValuePage page = deserialize(serializedPage, pageReadTrx);
+    final UnorderedKeyValuePage otherPage = deserialize(serializedPage, pageReadTrx);
+
+    assertEquals(page, otherPage);
+    assertEquals(page.hashCode(), otherPage.hashCode());
+    for (final long key : new long[] { 1L, 2L, 3L }) {
+      assertArrayEquals(page.getSerializedValue(key), otherPage.getSerializedValue(key));
+    }
+
+    // A deserialized record is compared with the deserialized record of the other page.
+    page.getValue(1L);
+    assertEquals(page, otherPage);
+    assertEquals(page.hashCode(), otherPage.hashCode());
+
+    otherPage.setRecord(2L, createElement(2L, 42L));
+    assertNotEquals(page, otherPage);
+  }
+
+  @Test
+  public void testModificationAfterLazyRead() throws IOException {
+    final UnorderedKeyValuePage page = deserialize(serialize(createPage(1L, 2L, 3L)), pageReadTrx);
+
+    assertEquals(12L, ((ElementNode) page.getValue(2L)).getFirstChildKey());
+    page.setRecord(2L, createElement(2L, 42L));
+    assertEquals(42L, ((ElementNode) page.getValue(2L)).getFirstChildKey());
+
+    final UnorderedKeyValuePage newPage = deserialize(serialize(page), pageReadTrx);
+    assertEquals(3, newPage.size());
+    assertEquals(12L, ((ElementNode) newPage.getValue(1L)).getFirstChildKey());
+    assertEquals(42L, ((ElementNode) newPage.getValue(2L)).getFirstChildKey());
+    assertEquals(12L, ((ElementNode) newPage.getValue(3L)).getFirstChildKey());
+  }
+
+  @Test
+  public void testCachedPageOutlivesTransaction() throws IOException {
+    final var cache = new RecordPageCache(new BufferPool(1L << 20), 0L);
+    final var reference = new PageReference();
+    reference.setKey(0L);
+
+    try (final PageReadOnlyTrx otherPageReadTrx = mHolder.getResourceManager().beginPageReadOnlyTrx()) {
+      final UnorderedKeyValuePage page = deserialize(serialize(createPage(1L, 2L, 3L)), otherPageReadTrx);
+      assertEquals(1L, page.getValue(1L).getNodeKey());
+      cache.put(reference, page);
+    }
+
+    // The transaction, which has read the page, is closed, thus records are deserialized by the requesting one.
+    final UnorderedKeyValuePage cachedPage = (UnorderedKeyValuePage) cache.get(reference);
+    assertEquals(2L, cachedPage.getValue(2L, pageReadTrx).getNodeKey());
+    assertEquals(List.of(1L, 2L, 3L),
+                 cachedPage.values(pageReadTrx).stream().map(DataRecord::getNodeKey).collect(Collectors.toList()));
+
+    final UnorderedKeyValuePage combinedPage =
+        VersioningType.INCREMENTAL.combineRecordPages(List.of(cachedPage), 3, pageReadTrx);
+    for (final Map.Entry<Long, DataRecord> entry : combinedPage.entrySet()) {
+      assertEquals(entry.getKey().longValue(), entry.getValue().getNodeKey());
+    }
+  }
+
+  private UnorderedKeyValuePage createPage(final long... nodeKeys) {
+    final UnorderedKeyValuePage page = new UnorderedKeyValuePage(0L, IndexType.DOCUMENT, pageReadTrx);
+    for (final long nodeKey : nodeKeys) {
+      page.setRecord(nodeKey, createElement(nodeKey, 12L));
+    }
+    return page;
+  }
+
+  private static ElementNode createElement(final long nodeKey, final long firstChildKey) {
+    final NodeDelegate del = new NodeDelegate(nodeKey, 0, Hashing.sha256(), null, 0, SirixDeweyID.newRootID());
+    final StructNodeDelegate strucDel = new StructNodeDelegate(del, firstChildKey, 4L, 3L, 1L, 0L);
+    final NameNodeDelegate nameDel = new NameNodeDelegate(del, 5, 6, 7, 1);
+    return new ElementNode(strucDel, nameDel, new ArrayList<>(), HashBiMap.create(), new ArrayList<>(),
+        new QNm("a", "b", "c"));
+  }
+
+  private static byte[] serialize(final UnorderedKeyValuePage page) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new PagePersister().serializePage(new DataOutputStream(out), page, SerializationType.DATA);
+    return out.toByteArray();
+  }
+
+  private static UnorderedKeyValuePage deserialize(final byte[] page, final PageReadOnlyTrx pageReadTrx)
+      throws IOException {
+    return (UnorderedKeyValuePage) new PagePersister().deserializePage(new DataInputStream(new ByteArrayInputStream(
+        page)), pageReadTrx, SerializationType.DATA);
+  }
 }
@@ -22,6 +22,7 @@
 package org.sirix.settings;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import org.brackit.xquery.atomic.QNm;
 import org.junit.After;
@@ -32,11 +33,15 @@ import org.sirix.access.DatabaseConfiguration;
 import org.sirix.access.Databases;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.trx.node.HashType;
+import org.sirix.access.trx.node.InternalResourceManager;
+import org.sirix.access.trx.page.RecordPageStatistics;
 import org.sirix.api.Database;
 import org.sirix.api.xml.XmlResourceManager;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.api.xml.XmlNodeTrx;
 import org.sirix.exception.SirixException;
+import org.sirix.index.IndexType;
+import org.sirix.io.StorageType;
 
 /** Test revisioning. */
 public class VersioningTest {
@@ -166,6 +171,128 @@ public class VersioningTest {
     test2();
   }
 
+  @Test
+  public void testIncrementalWithDirectStorage() throws SirixException {
+    database.createResource(
+        new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).versioningApproach(VersioningType.INCREMENTAL)
+                                                                 .storageType(StorageType.DIRECT)
+                                                                 .hashKind(HashType.NONE)
+                                                                 .revisionsToRestore(3)
+                                                                 .build());
+    test();
+  }
+
+  @Test
+  public void testSlidingSnapshotWithDirectStorage() throws SirixException {
+    database.createResource(
+        new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).versioningApproach(VersioningType.SLIDING_SNAPSHOT)
+                                                                 .storageType(StorageType.DIRECT)
+                                                                 .hashKind(HashType.NONE)
+                                                                 .revisionsToRestore(3)
+                                                                 .build());
+    test1();
+  }
+
+  @Test
+  public void testIncrementalWithAdaptiveMilestones() throws SirixException {
+    database.createResource(
+        new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).versioningApproach(VersioningType.INCREMENTAL)
+                                                                 .hashKind(HashType.NONE)
+                                                                 .revisionsToRestore(4)
+                                                                 .adaptiveMilestoneThreshold(1)
+                                                                 .build());
+    testAdaptiveMilestones();
+  }
+
+  @Test
+  public void testDifferentialWithAdaptiveMilestones() throws SirixException {
+    database.createResource(
+        new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).versioningApproach(VersioningType.DIFFERENTIAL)
+                                                                 .hashKind(HashType.NONE)
+                                                                 .revisionsToRestore(4)
+                                                                 .adaptiveMilestoneThreshold(1)
+                                                                 .build());
+    testAdaptiveMilestones();
+  }
+
+  @Test
+  public void testSlidingSnapshotWithAdaptiveMilestones() throws SirixException {
+    database.createResource(
+        new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).versioningApproach(VersioningType.SLIDING_SNAPSHOT)
+                                                                 .hashKind(HashType.NONE)
+                                                                 .revisionsToRestore(4)
+                                                                 .adaptiveMilestoneThreshold(1)
+                                                                 .build());
+    testAdaptiveMilestones();
+  }
+
+  /**
+   * Test revisioning, if complete versions of a record page are written adaptively, as the page is read in between
+   * the modifications.
+   *
+   * @throws SirixException if anything in Sirix fails
+   */
+  public void testAdaptiveMilestones() throws SirixException {
+    final var pageKey = new RecordPageStatistics.PageKey(IndexType.DOCUMENT, -1, 0);
+    int numberOfElements = 0;
+    try (final XmlResourceManager manager = database.openResourceManager(XmlTestHelper.RESOURCE)) {
+      final RecordPageStatistics pageStatistics = ((InternalResourceManager<?, ?>) manager).getRecordPageStatistics();
+      try (final XmlNodeTrx wtx = manager.beginNodeTrx()) {
+        for (int revision = 1; revision <= 10; revision++) {
+          insertAndRead(manager, wtx, ++numberOfElements);
+        }
+
+        final var statistics = pageStatistics.getStatistics(pageKey);
+        assertTrue(statistics.isPresent());
+        assertTrue(statistics.get().writes() > 0);
+        assertTrue(statistics.get().adaptiveFullDumps() > 0);
+
+        // Modify the page until a complete version is written due to the read cost, which then is the most recent one.
+        final int maxNumberOfCommits = manager.getResourceConfig().numberOfRevisionsToRestore;
+        int commits = 0;
+        long adaptiveFullDumps;
+        do {
+          assertTrue(commits++ < maxNumberOfCommits);
+          adaptiveFullDumps = pageStatistics.getStatistics(pageKey).orElseThrow().adaptiveFullDumps();
+          insertAndRead(manager, wtx, ++numberOfElements);
+        } while (pageStatistics.getStatistics(pageKey).orElseThrow().adaptiveFullDumps() == adaptiveFullDumps);
+      }
+    }
+
+    // Reopen the database, such that the page is read from the storage.
+    database.close();
+    database = Databases.openXmlDatabase(XmlTestHelper.PATHS.PATH1.getFile());
+
+    try (final XmlResourceManager manager = database.openResourceManager(XmlTestHelper.RESOURCE);
+         final XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx()) {
+      for (int i = 0; i < numberOfElements; i++) {
+        assertTrue(rtx.moveToFirstChild().hasMoved());
+        assertEquals(new QNm("foo"), rtx.getName());
+      }
+      assertFalse(rtx.moveToFirstChild().hasMoved());
+
+      final var statistics =
+          ((InternalResourceManager<?, ?>) manager).getRecordPageStatistics().getStatistics(pageKey);
+      assertTrue(statistics.isPresent());
+      assertEquals(1, statistics.get().reads());
+      assertEquals(1, statistics.get().lastFragmentChainLength());
+    }
+  }
+
+  /**
+   * Insert an element as the first child of the most recently inserted element, commit and read all elements.
+   */
+  private static void insertAndRead(final XmlResourceManager manager, final XmlNodeTrx wtx,
+      final int numberOfElements) {
+    wtx.insertElementAsFirstChild(new QNm("foo"));
+    wtx.commit();
+    try (final XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx()) {
+      for (int i = 0; i < numberOfElements; i++) {
+        assertTrue(rtx.moveToFirstChild().hasMoved());
+      }
+    }
+  }
+
   /**
    * Test revisioning.
    *
@@ -0,0 +1,71 @@
+package org.sirix.utils;
+
+import org.junit.Test;
+import org.sirix.settings.Constants;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class ValueCompressorTest {
+
+  private static final Path JSON = Paths.get("src", "test", "resources", "json");
+
+  @Test
+  public void testCompressAndDecompress() throws Exception {
+    final byte[] value = Files.readString(JSON.resolve("test.json"), Constants.DEFAULT_ENCODING)
+                              .getBytes(Constants.DEFAULT_ENCODING);
+
+    for (final ValueCompressor compressor : ValueCompressor.values()) {
+      final byte[] compressed = compressor.compress(value);
+      if (compressor != ValueCompressor.NONE) {
+        assertTrue(compressor.name(), compressed.length < value.length);
+      }
+      assertArrayEquals(compressor.name(), value, compressor.decompress(compressed));
+      assertEquals(compressor, ValueCompressor.getKind(compressor.getId()));
+    }
+  }
+
+  @Test
+  public void testShouldCompress() {
+    final byte[] value = new byte[ValueCompressor.DEFAULT_THRESHOLD];
+    assertFalse(ValueCompressor.DEFLATE.shouldCompress(value, ValueCompressor.DEFAULT_THRESHOLD));
+    assertTrue(ValueCompressor.DEFLATE.shouldCompress(value, ValueCompressor.DEFAULT_THRESHOLD - 1));
+    assertFalse(ValueCompressor.NONE.shouldCompress(value, 0));
+  }
+
+  @Test
+  public void testConcurrentCompressAndDecompress() throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        final int task = i;
+        futures.add(executor.submit(() -> {
+          final byte[] value = ("value of task " + task + " ").repeat(100 + task).getBytes(Constants.DEFAULT_ENCODING);
+          for (final ValueCompressor compressor : ValueCompressor.values()) {
+            for (int j = 0; j < 50; j++) {
+              assertArrayEquals(value, compressor.decompress(compressor.compress(value)));
+            }
+          }
+          return null;
+        }));
+      }
+      for (final Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
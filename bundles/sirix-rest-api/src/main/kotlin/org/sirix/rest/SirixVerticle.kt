@@ -267,7 +267,7 @@ class SirixVerticle : CoroutineVerticle() {
             .coroutineHandler {
                 Auth(keycloak, AuthRole.MODIFY).handle(it)
                 it.next()
-            }.handler(BodyHandler.create()).coroutineHandler {
+            }.coroutineHandler {
                 JsonUpdate(location).handle(it)
             }
 
@@ -319,6 +319,12 @@ class SirixVerticle : CoroutineVerticle() {
         }.coroutineHandler {
             DiffHandler(location).handle(it)
         }
+        get("/:database/:resource/changedNodes").produces("application/json").coroutineHandler {
+            Auth(keycloak, AuthRole.VIEW).handle(it)
+            it.next()
+        }.coroutineHandler {
+            ChangedNodesHandler(location).handle(it)
+        }
         get("/:database/:resource/pathSummary").produces("application/json").coroutineHandler {
             Auth(keycloak, AuthRole.VIEW).handle(it)
             it.next()
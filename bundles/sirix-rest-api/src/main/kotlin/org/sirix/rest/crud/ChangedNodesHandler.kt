@@ -0,0 +1,91 @@
+package org.sirix.rest.crud
+
+import io.vertx.core.http.HttpHeaders
+import io.vertx.ext.web.Route
+import io.vertx.ext.web.RoutingContext
+import io.vertx.kotlin.coroutines.dispatcher
+import kotlinx.coroutines.withContext
+import org.sirix.access.DatabaseType
+import org.sirix.access.Databases.*
+import org.sirix.api.Database
+import java.nio.file.Path
+
+/**
+ * Streams the nodes, which have been changed in a range of revisions, as recorded in the changed nodes index
+ * of each revision. The response is written in chunks, thus it's not materialized as a whole.
+ */
+class ChangedNodesHandler(private val location: Path) {
+    companion object {
+        private const val CHANGED_NODES_PER_CHUNK = 1_000
+    }
+
+    suspend fun handle(ctx: RoutingContext): Route {
+        val databaseName = ctx.pathParam("database")
+        val resourceName = ctx.pathParam("resource")
+
+        @Suppress("WHEN_ENUM_CAN_BE_NULL_IN_JAVA") val database: Database<*> =
+            when (getDatabaseType(location.resolve(databaseName).toAbsolutePath())) {
+                DatabaseType.JSON -> openJsonDatabase(location.resolve(databaseName))
+                DatabaseType.XML -> openXmlDatabase(location.resolve(databaseName))
+            }
+
+        withContext(ctx.vertx().dispatcher()) {
+            database.use {
+                val manager = database.openResourceManager(resourceName)
+
+                manager.use {
+                    val startRevision = ctx.queryParam("startRevision")
+                    val endRevision = ctx.queryParam("endRevision")
+
+                    val endRevisionAsInt =
+                        if (endRevision.isEmpty()) manager.mostRecentRevisionNumber else endRevision[0].toInt()
+                    val startRevisionAsInt =
+                        if (startRevision.isEmpty()) endRevisionAsInt else startRevision[0].toInt()
+
+                    if (!manager.areChangedNodesIndexed(startRevisionAsInt, endRevisionAsInt)) {
+                        ctx.fail(IllegalStateException("The changes of the revisions aren't indexed."))
+                        return@use
+                    }
+
+                    val response = ctx.response().setStatusCode(200)
+                        .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                        .setChunked(true)
+
+                    val buffer = StringBuilder()
+                    buffer.append("{\"changedNodes\":[")
+
+                    manager.getChangedNodes(startRevisionAsInt, endRevisionAsInt).use { changedNodes ->
+                        var count = 0L
+
+                        changedNodes.forEach { changedNode ->
+                            if (count > 0)
+                                buffer.append(",")
+
+                            buffer.append("{\"revision\":")
+                            buffer.append(changedNode.revision())
+                            buffer.append(",\"nodeKey\":")
+                            buffer.append(changedNode.nodeKey())
+                            buffer.append(",\"diffType\":\"")
+                            buffer.append(changedNode.diffType())
+                            buffer.append("\"}")
+
+                            count++
+
+                            if (count % CHANGED_NODES_PER_CHUNK == 0L) {
+                                response.write(buffer.toString())
+                                buffer.setLength(0)
+                            }
+                        }
+                    }
+
+                    buffer.append("]}")
+
+                    response.write(buffer.toString())
+                    response.end()
+                }
+            }
+        }
+
+        return ctx.currentRoute()
+    }
+}
@@ -0,0 +1,121 @@
+package org.sirix.rest.crud
+
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.streams.ReadStream
+import java.io.IOException
+import java.io.InputStream
+import java.util.concurrent.LinkedBlockingQueue
+
+/**
+ * Reads the body of a request while it's received, such that it can be parsed on a worker thread without
+ * buffering the whole body or storing it in a temporary file. The read stream is paused as long as too many chunks
+ * are buffered and resumed once the reader has consumed them, thus the reader determines the pace of the upload.
+ * Must be created on the event loop before the read stream is resumed and must only be read on a worker thread.
+ */
+class RequestInputStream(
+    private val readStream: ReadStream<Buffer>,
+    private val maxBufferedChunks: Int = DEFAULT_MAX_BUFFERED_CHUNKS
+) : InputStream() {
+    companion object {
+        const val DEFAULT_MAX_BUFFERED_CHUNKS = 16
+
+        private val END_OF_STREAM: Buffer = Buffer.buffer(0)
+    }
+
+    private val chunks = LinkedBlockingQueue<Buffer>()
+
+    private val lock = Any()
+
+    private var isPaused = false
+
+    @Volatile
+    private var failure: Throwable? = null
+
+    private var currentChunk: Buffer? = null
+
+    private var position = 0
+
+    private var isEndOfStream = false
+
+    init {
+        readStream.handler { chunk ->
+            synchronized(lock) {
+                chunks.add(chunk)
+
+                if (!isPaused && chunks.size >= maxBufferedChunks) {
+                    isPaused = true
+                    readStream.pause()
+                }
+            }
+        }
+        readStream.exceptionHandler { e ->
+            failure = e
+            chunks.add(END_OF_STREAM)
+        }
+        readStream.endHandler {
+            chunks.add(END_OF_STREAM)
+        }
+    }
+
+    override fun read(): Int {
+        val chunk = nextChunk() ?: return -1
+        return chunk.getByte(position++).toInt() and 0xFF
+    }
+
+    override fun read(b: ByteArray, off: Int, len: Int): Int {
+        if (len == 0) {
+            return 0
+        }
+
+        val chunk = nextChunk() ?: return -1
+        val length = minOf(len, chunk.length() - position)
+        chunk.getBytes(position, position + length, b, off)
+        position += length
+        return length
+    }
+
+    override fun available(): Int {
+        val chunk = currentChunk ?: return 0
+        return chunk.length() - position
+    }
+
+    /**
+     * Get the chunk with unread bytes, waiting for the next chunk if the current one has been read.
+     *
+     * @return the chunk or `null`, if the end of the stream has been reached
+     */
+    private fun nextChunk(): Buffer? {
+        while (!isEndOfStream) {
+            val chunk = currentChunk
+
+            if (chunk != null && position < chunk.length()) {
+                return chunk
+            }
+
+            val nextChunk = try {
+                chunks.take()
+            } catch (e: InterruptedException) {
+                Thread.currentThread().interrupt()
+                throw IOException(e)
+            }
+
+            if (nextChunk === END_OF_STREAM) {
+                isEndOfStream = true
+                currentChunk = null
+                failure?.let { throw IOException("Reading the request failed.", it) }
+            } else {
+                currentChunk = nextChunk
+                position = 0
+            }
+
+            synchronized(lock) {
+                if (isPaused && chunks.size < maxBufferedChunks / 2) {
+                    isPaused = false
+                    readStream.resume()
+                }
+            }
+        }
+
+        return null
+    }
+}
@@ -0,0 +1,93 @@
+package org.sirix.rest.crud
+
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.http.HttpServerResponse
+import java.io.IOException
+import java.io.OutputStream
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+
+/**
+ * Writes the serialized output as chunks into an HTTP response, instead of materializing it as a whole. Status and
+ * headers must be set before the first chunk is written. If the write queue of the response is full, the writing
+ * thread is blocked until the response is drained, thus it must never be used on the event loop.
+ */
+class ResponseOutputStream(
+    private val response: HttpServerResponse,
+    private val chunkSize: Int = DEFAULT_CHUNK_SIZE
+) : OutputStream() {
+    companion object {
+        const val DEFAULT_CHUNK_SIZE = 64 * 1024
+
+        private const val DRAIN_POLL_INTERVAL_MILLIS = 100L
+
+        /**
+         * Abort the response after a failure. Once the headers have been sent, the status can't be changed anymore,
+         * thus the stream (or the connection for HTTP/1.x) is reset, such that the client doesn't take the truncated
+         * body for the complete one.
+         */
+        fun abort(response: HttpServerResponse) {
+            if (response.headWritten() && !response.closed()) {
+                response.reset()
+            }
+        }
+    }
+
+    private var buffer = Buffer.buffer(chunkSize)
+
+    override fun write(b: Int) {
+        buffer.appendByte(b.toByte())
+
+        if (buffer.length() >= chunkSize) {
+            writeChunk()
+        }
+    }
+
+    override fun write(b: ByteArray, off: Int, len: Int) {
+        buffer.appendBytes(b, off, len)
+
+        if (buffer.length() >= chunkSize) {
+            writeChunk()
+        }
+    }
+
+    override fun flush() {
+        if (buffer.length() > 0) {
+            writeChunk()
+        }
+    }
+
+    private fun writeChunk() {
+        awaitDrain()
+
+        if (!response.isChunked) {
+            response.isChunked = true
+        }
+
+        response.write(buffer)
+        buffer = Buffer.buffer(chunkSize)
+    }
+
+    private fun awaitDrain() {
+        if (!response.writeQueueFull()) {
+            return
+        }
+
+        val drained = CompletableFuture<Unit>()
+        response.drainHandler { drained.complete(Unit) }
+
+        // The queue might have been drained before the handler has been set.
+        while (response.writeQueueFull()) {
+            if (response.closed()) {
+                throw IOException("Connection closed by the client.")
+            }
+
+            try {
+                drained.get(DRAIN_POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)
+            } catch (e: TimeoutException) {
+                // Check again.
+            }
+        }
+    }
+}
@@ -1,16 +1,13 @@
 package org.sirix.rest.crud.json
 
+import com.google.gson.stream.JsonReader
 import io.vertx.core.Context
 import io.vertx.core.Promise
-import io.vertx.core.file.OpenOptions
 import io.vertx.core.file.impl.FileResolver
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
 import io.vertx.ext.web.handler.BodyHandler
 import io.vertx.kotlin.core.executeBlockingAwait
-import io.vertx.kotlin.core.file.deleteAwait
-import io.vertx.kotlin.core.file.openAwait
-import io.vertx.kotlin.core.http.pipeToAwait
 import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.withContext
 import org.sirix.access.DatabaseConfiguration
@@ -19,15 +16,18 @@ import org.sirix.access.DatabasesInternals
 import org.sirix.access.ResourceConfiguration
 import org.sirix.api.Database
 import org.sirix.api.json.JsonResourceManager
+import org.sirix.rest.crud.RequestInputStream
+import org.sirix.rest.crud.ResponseOutputStream
 import org.sirix.rest.crud.SirixDBUser
 import org.sirix.service.json.serialize.JsonSerializer
 import org.sirix.service.json.shredder.JsonShredder
 import org.sirix.utils.LogWrapper
 import org.slf4j.LoggerFactory
-import java.io.StringWriter
+import java.io.InputStreamReader
+import java.io.OutputStreamWriter
+import java.nio.charset.StandardCharsets
 import java.nio.file.Files
 import java.nio.file.Path
-import java.util.*
 
 private const val MAX_NODES_TO_SERIALIZE = 5000
 
@@ -113,7 +113,6 @@ class JsonCreate(
         val context = ctx.vertx().orCreateContext
         ctx.request().pause()
         createDatabaseIfNotExists(dbFile, context)
-        ctx.request().resume()
 
         insertResource(dbFile, resPathName, ctx)
     }
@@ -123,22 +122,10 @@ class JsonCreate(
         ctx: RoutingContext
     ) {
         ctx.request().pause()
-        val fileResolver = FileResolver()
-
-        val filePath = withContext(Dispatchers.IO) {
-            fileResolver.resolveFile(Files.createTempFile(UUID.randomUUID().toString(), null).toString())
-        }
-
-        val file = ctx.vertx().fileSystem().openAwait(
-            filePath.toString(),
-            OpenOptions()
-        )
-
-        ctx.request().resume()
-        ctx.request().pipeToAwait(file)
+        val commitNodeCount = ctx.queryParam("commitNodeCount").getOrNull(0)?.toInt() ?: 0
+        val requestBody = RequestInputStream(ctx.request())
 
         withContext(Dispatchers.IO) {
-            var body: String? = null
             val sirixDBUser = SirixDBUser.create(ctx)
             val database = Databases.openJsonDatabase(dbFile, sirixDBUser)
 
@@ -155,24 +142,20 @@ class JsonCreate(
                 val manager = database.openResourceManager(resPathName)
 
                 manager.use {
-                    val pathToFile = filePath.toPath()
-                    val maxNodeKey = insertJsonSubtreeAsFirstChild(manager, pathToFile.toAbsolutePath())
+                    ctx.request().resume()
 
-                    ctx.vertx().fileSystem().deleteAwait(pathToFile.toAbsolutePath().toString())
+                    val jsonReader = JsonShredder.createReader(InputStreamReader(requestBody, StandardCharsets.UTF_8))
+                    val maxNodeKey = insertJsonSubtreeAsFirstChild(manager, jsonReader, commitNodeCount)
 
                     if (maxNodeKey < MAX_NODES_TO_SERIALIZE) {
-                        body = serializeJson(manager, ctx)
+                        serializeJson(manager, ctx)
                     } else {
                         ctx.response().setStatusCode(200)
                     }
                 }
             }
 
-            if (body != null) {
-                ctx.response().end(body)
-            } else {
-                ctx.response().end()
-            }
+            ctx.response().end()
         }
 
     }
@@ -180,12 +163,12 @@ class JsonCreate(
     private fun serializeJson(
         manager: JsonResourceManager,
         routingCtx: RoutingContext
-    ): String {
-        val out = StringWriter()
+    ) {
+        val out = OutputStreamWriter(ResponseOutputStream(routingCtx.response()), StandardCharsets.UTF_8)
         val serializerBuilder = JsonSerializer.newBuilder(manager, out)
         val serializer = serializerBuilder.build()
 
-        return JsonSerializeHelper().serialize(
+        JsonSerializeHelper().serializeChunked(
             serializer,
             out,
             routingCtx,
@@ -234,11 +217,24 @@ class JsonCreate(
         manager: JsonResourceManager,
         resFileToStore: Path
     ): Long {
-        val wtx = manager.beginNodeTrx()
+        return insertJsonSubtreeAsFirstChild(manager, JsonShredder.createFileReader(resFileToStore), 0)
+    }
+
+    /**
+     * Shred the JSON while it's read, such that the input isn't buffered as a whole.
+     *
+     * @param commitNodeCount the number of node modifications after which the transaction auto-commits, or `0` to
+     * commit once at the end
+     */
+    private fun insertJsonSubtreeAsFirstChild(
+        manager: JsonResourceManager,
+        jsonReader: JsonReader,
+        commitNodeCount: Int
+    ): Long {
+        val wtx = manager.beginNodeTrx(commitNodeCount)
         return wtx.use {
-            val eventReader = JsonShredder.createFileReader(resFileToStore)
-            eventReader.use {
-                wtx.insertSubtreeAsFirstChild(eventReader)
+            jsonReader.use {
+                wtx.insertSubtreeAsFirstChild(jsonReader)
             }
             wtx.maxNodeKey
         }
@@ -17,6 +17,7 @@ import org.sirix.exception.SirixUsageException
 import org.sirix.rest.AuthRole
 import org.sirix.rest.crud.PermissionCheckingXQuery
 import org.sirix.rest.crud.QuerySerializer
+import org.sirix.rest.crud.ResponseOutputStream
 import org.sirix.rest.crud.Revisions
 import org.sirix.rest.crud.xml.XmlSessionDBStore
 import org.sirix.service.json.serialize.JsonRecordSerializer
@@ -26,7 +27,8 @@ import org.sirix.xquery.SirixCompileChain
 import org.sirix.xquery.SirixQueryContext
 import org.sirix.xquery.json.*
 import org.sirix.xquery.node.BasicXmlDBStore
-import java.io.StringWriter
+import java.io.OutputStreamWriter
+import java.nio.charset.StandardCharsets
 import java.nio.file.Path
 
 class JsonGet(private val location: Path, private val keycloak: OAuth2Auth) {
@@ -85,6 +87,8 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth) {
                             )
 
                         serializeResource(manager, revisions, nodeId?.toLongOrNull(), ctx, vertxContext)
+
+                        null
                     }
                 }
             } catch (e: SirixUsageException) {
@@ -281,15 +285,17 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth) {
         manager: JsonResourceManager, revisions: IntArray, nodeId: Long?,
         ctx: RoutingContext,
         vertxContext: Context
-    ): String {
-        val serializedString =  vertxContext.executeBlockingAwait { promise: Promise<String> ->
+    ) {
+        // Unordered, as the serialization blocks while a slow client drains the response, which must not stall the
+        // blocking code of other requests.
+        vertxContext.executeBlockingAwait({ promise: Promise<Unit> ->
             val nextTopLevelNodes = ctx.queryParam("nextTopLevelNodes").getOrNull(0)?.toInt()
             val lastTopLevelNodeKey = ctx.queryParam("lastTopLevelNodeKey").getOrNull(0)?.toLong()
 
             val numberOfNodes = ctx.queryParam("numberOfNodes").getOrNull(0)?.toLong()
             val maxChildren = ctx.queryParam("maxChildren").getOrNull(0)?.toLong()
 
-            val out = StringWriter()
+            val out = OutputStreamWriter(ResponseOutputStream(ctx.response()), StandardCharsets.UTF_8)
 
             val withMetaData: String? = ctx.queryParam("withMetaData").getOrNull(0)
             val maxLevel: String? = ctx.queryParam("maxLevel").getOrNull(0)
@@ -326,7 +332,7 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth) {
 
                 val serializer = serializerBuilder.build()
 
-                promise.complete(JsonSerializeHelper().serialize(serializer, out, ctx, manager, revisions, nodeId))
+                JsonSerializeHelper().serializeChunked(serializer, out, ctx, manager, revisions, nodeId)
             } else {
                 val serializerBuilder =
                     JsonRecordSerializer.newBuilder(manager, nextTopLevelNodes, out).revisions(revisions)
@@ -363,13 +369,10 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth) {
 
                 val serializer = serializerBuilder.build()
 
-                promise.complete(JsonSerializeHelper().serialize(serializer, out, ctx, manager, revisions, nodeId))
+                JsonSerializeHelper().serializeChunked(serializer, out, ctx, manager, revisions, nodeId)
             }
-        }
-
-        ctx.response().setStatusCode(200)
-            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
 
-        return serializedString!!
+            promise.complete()
+        }, false)
     }
 }
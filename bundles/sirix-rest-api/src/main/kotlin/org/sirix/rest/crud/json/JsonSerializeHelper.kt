@@ -4,7 +4,9 @@ import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.RoutingContext
 import org.sirix.access.trx.node.HashType
 import org.sirix.api.json.JsonResourceManager
+import org.sirix.rest.crud.ResponseOutputStream
 import java.io.StringWriter
+import java.io.Writer
 import java.util.concurrent.Callable
 
 class JsonSerializeHelper {
@@ -29,6 +31,36 @@ class JsonSerializeHelper {
         return body
     }
 
+    /**
+     * Serialize into a writer, which streams the output as chunks into the response. Status and headers are written
+     * upfront, as they can't be changed once the first chunk has been sent.
+     */
+    fun serializeChunked(
+        serializer: Callable<*>,
+        out: Writer,
+        ctx: RoutingContext,
+        manager: JsonResourceManager,
+        revisions: IntArray,
+        nodeId: Long?,
+    ) {
+        if (manager.resourceConfig.hashType == HashType.NONE) {
+            writeResponseWithoutHashValue(ctx)
+        } else {
+            writeResponseWithHashValue(manager, revisions[0], ctx, nodeId)
+        }
+
+        ctx.response().isChunked = true
+
+        try {
+            serializer.call()
+
+            out.flush()
+        } catch (e: Exception) {
+            ResponseOutputStream.abort(ctx.response())
+            throw e
+        }
+    }
+
     private fun writeResponseWithoutHashValue(ctx: RoutingContext) {
         ctx.response().setStatusCode(200)
             .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
@@ -11,14 +11,18 @@ import org.sirix.access.Databases
 import org.sirix.access.trx.node.HashType
 import org.sirix.access.trx.node.json.objectvalue.*
 import org.sirix.api.json.JsonNodeTrx
+import org.sirix.rest.crud.RequestInputStream
 import org.sirix.rest.crud.SirixDBUser
 import org.sirix.rest.crud.json.JsonInsertionMode.Companion.getInsertionModeByName
 import org.sirix.service.json.JsonNumber
 import org.sirix.service.json.serialize.JsonSerializer
 import org.sirix.service.json.shredder.JsonShredder
 import java.io.IOException
+import java.io.InputStream
+import java.io.InputStreamReader
 import java.io.StringWriter
 import java.math.BigInteger
+import java.nio.charset.StandardCharsets
 import java.nio.file.Path
 
 @Suppress("unused")
@@ -150,16 +154,18 @@ class JsonUpdate(private val location: Path) {
             throw IllegalArgumentException("Database name and resource name not given.")
         }
 
-        val body = ctx.bodyAsString
+        ctx.request().pause()
+        val commitNodeCount = ctx.queryParam("commitNodeCount").getOrNull(0)?.toInt() ?: 0
+        val requestBody = RequestInputStream(ctx.request())
 
-        update(databaseName, resource, nodeId?.toLongOrNull(), insertionMode, body, ctx)
+        update(databaseName, resource, nodeId?.toLongOrNull(), insertionMode, requestBody, commitNodeCount, ctx)
 
         return ctx.currentRoute()
     }
 
     private suspend fun update(
         databaseName: String, resPathName: String, nodeId: Long?, insertionModeAsString: String?,
-        resFileToStore: String, ctx: RoutingContext
+        requestBody: InputStream, commitNodeCount: Int, ctx: RoutingContext
     ) {
         val vertxContext = ctx.vertx().orCreateContext
 
@@ -174,7 +180,7 @@ class JsonUpdate(private val location: Path) {
                 val manager = database.openResourceManager(resPathName)
 
                 manager.use {
-                    val wtx = manager.beginNodeTrx()
+                    val wtx = manager.beginNodeTrx(commitNodeCount)
                     val revision = wtx.revisionNumber
                     val (maxNodeKey, hash) = wtx.use {
                         if (nodeId != null) {
@@ -198,7 +204,10 @@ class JsonUpdate(private val location: Path) {
                             throw IllegalArgumentException("Insertion mode must be given.")
                         }
 
-                        val jsonReader = JsonShredder.createStringReader(resFileToStore)
+                        ctx.request().resume()
+
+                        val jsonReader =
+                            JsonShredder.createReader(InputStreamReader(requestBody, StandardCharsets.UTF_8))
 
                         val insertionModeByName = getInsertionModeByName(insertionModeAsString)
 
@@ -2,15 +2,11 @@ package org.sirix.rest.crud.xml
 
 import io.vertx.core.Context
 import io.vertx.core.Promise
-import io.vertx.core.file.OpenOptions
 import io.vertx.core.file.impl.FileResolver
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
 import io.vertx.ext.web.handler.BodyHandler
 import io.vertx.kotlin.core.executeBlockingAwait
-import io.vertx.kotlin.core.file.deleteAwait
-import io.vertx.kotlin.core.file.openAwait
-import io.vertx.kotlin.core.http.pipeToAwait
 import io.vertx.kotlin.coroutines.dispatcher
 import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.Dispatchers
@@ -20,14 +16,15 @@ import org.sirix.access.Databases
 import org.sirix.access.ResourceConfiguration
 import org.sirix.api.Database
 import org.sirix.api.xml.XmlResourceManager
+import org.sirix.rest.crud.RequestInputStream
+import org.sirix.rest.crud.ResponseOutputStream
 import org.sirix.rest.crud.SirixDBUser
 import org.sirix.service.xml.serialize.XmlSerializer
 import org.sirix.service.xml.shredder.XmlShredder
-import java.io.ByteArrayOutputStream
 import java.io.FileInputStream
 import java.nio.file.Files
 import java.nio.file.Path
-import java.util.*
+import javax.xml.stream.XMLEventReader
 
 class XmlCreate(private val location: Path, private val createMultipleResources: Boolean = false) {
     suspend fun handle(ctx: RoutingContext): Route {
@@ -101,7 +98,6 @@ class XmlCreate(private val location: Path, private val createMultipleResources:
         val dispatcher = ctx.vertx().dispatcher()
         ctx.request().pause()
         createDatabaseIfNotExists(dbFile, context)
-        ctx.request().resume()
 
         insertResource(dbFile, resPathName, dispatcher, ctx)
     }
@@ -112,21 +108,10 @@ class XmlCreate(private val location: Path, private val createMultipleResources:
         ctx: RoutingContext
     ) {
         ctx.request().pause()
-        val fileResolver = FileResolver()
-
-        val filePath = withContext(Dispatchers.IO) {
-            fileResolver.resolveFile(Files.createTempFile(UUID.randomUUID().toString(), null).toString())
-        }
-
-        val file = ctx.vertx().fileSystem().openAwait(
-            filePath.toString(),
-            OpenOptions()
-        )
-        ctx.request().resume()
-        ctx.request().pipeToAwait(file)
+        val commitNodeCount = ctx.queryParam("commitNodeCount").getOrNull(0)?.toInt() ?: 0
+        val requestBody = RequestInputStream(ctx.request())
 
         withContext(Dispatchers.IO) {
-            var body: String? = null
             val sirixDBUser = SirixDBUser.create(ctx)
             val database = Databases.openXmlDatabase(dbFile, sirixDBUser)
 
@@ -136,36 +121,32 @@ class XmlCreate(private val location: Path, private val createMultipleResources:
                 val manager = database.openResourceManager(resPathName)
 
                 manager.use {
-                    val pathToFile = filePath.toPath()
-                    val maxNodeKey = insertXmlSubtreeAsFirstChild(manager, pathToFile.toAbsolutePath())
+                    ctx.request().resume()
 
-                    ctx.vertx().fileSystem().deleteAwait(filePath.toString())
+                    val eventReader = XmlShredder.createReader(requestBody)
+                    val maxNodeKey = insertXmlSubtreeAsFirstChild(manager, eventReader, commitNodeCount)
 
                     if (maxNodeKey < 5000) {
-                        body = serializeXml(manager, ctx)
+                        serializeXml(manager, ctx)
                     } else {
                         ctx.response().setStatusCode(200)
                     }
                 }
             }
 
-            if (body != null) {
-                ctx.response().end(body)
-            } else {
-                ctx.response().end()
-            }
+            ctx.response().end()
         }
     }
 
     private fun serializeXml(
         manager: XmlResourceManager,
         routingCtx: RoutingContext
-    ): String {
-        val out = ByteArrayOutputStream()
+    ) {
+        val out = ResponseOutputStream(routingCtx.response())
         val serializerBuilder = XmlSerializer.XmlSerializerBuilder(manager, out)
         val serializer = serializerBuilder.emitIDs().emitRESTful().emitRESTSequence().prettyPrint().build()
 
-        return XmlSerializeHelper().serializeXml(serializer, out, routingCtx, manager, null)
+        XmlSerializeHelper().serializeXmlChunked(serializer, out, routingCtx, manager, null)
     }
 
     private suspend fun createDatabaseIfNotExists(
@@ -206,15 +187,28 @@ class XmlCreate(private val location: Path, private val createMultipleResources:
         manager: XmlResourceManager,
         resFileToStore: Path
     ): Long {
-        val wtx = manager.beginNodeTrx()
+        val inputStream = FileInputStream(resFileToStore.toFile())
+        return inputStream.use {
+            insertXmlSubtreeAsFirstChild(manager, XmlShredder.createFileReader(inputStream), 0)
+        }
+    }
+
+    /**
+     * Shred the XML while it's read, such that the input isn't buffered as a whole.
+     *
+     * @param commitNodeCount the number of node modifications after which the transaction auto-commits, or `0` to
+     * commit once at the end
+     */
+    private fun insertXmlSubtreeAsFirstChild(
+        manager: XmlResourceManager,
+        eventReader: XMLEventReader,
+        commitNodeCount: Int
+    ): Long {
+        val wtx = manager.beginNodeTrx(commitNodeCount)
         return wtx.use {
-            val inputStream = FileInputStream(resFileToStore.toFile())
-            return@use inputStream.use {
-                val eventStream = XmlShredder.createFileReader(inputStream)
-                wtx.insertSubtreeAsFirstChild(eventStream)
-                eventStream.close()
-                wtx.maxNodeKey
-            }
+            wtx.insertSubtreeAsFirstChild(eventReader)
+            eventReader.close()
+            wtx.maxNodeKey
         }
     }
 }
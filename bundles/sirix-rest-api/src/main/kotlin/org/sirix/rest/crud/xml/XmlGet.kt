@@ -19,6 +19,7 @@ import org.sirix.exception.SirixUsageException
 import org.sirix.rest.AuthRole
 import org.sirix.rest.crud.PermissionCheckingXQuery
 import org.sirix.rest.crud.QuerySerializer
+import org.sirix.rest.crud.ResponseOutputStream
 import org.sirix.rest.crud.Revisions
 import org.sirix.rest.crud.json.JsonSessionDBStore
 import org.sirix.service.xml.serialize.XmlSerializer
@@ -90,7 +91,9 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth) {
                                 endRevisionTimestamp, manager, revision, revisionTimestamp
                             )
 
-                        serializeResource(manager, revisions, nodeId?.toLongOrNull(), ctx)
+                        serializeResource(manager, revisions, nodeId?.toLongOrNull(), ctx, vertxContext)
+
+                        null
                     }
                 }
             } catch (e: SirixUsageException) {
@@ -266,21 +269,28 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth) {
         }
     }
 
-    private fun serializeResource(
+    private suspend fun serializeResource(
         manager: XmlResourceManager, revisions: IntArray, nodeId: Long?,
-        ctx: RoutingContext
-    ): String {
-        val out = ByteArrayOutputStream()
+        ctx: RoutingContext,
+        vertxContext: Context
+    ) {
+        // Unordered, as the serialization blocks while a slow client drains the response, which must not stall the
+        // blocking code of other requests.
+        vertxContext.executeBlockingAwait({ promise: Promise<Unit> ->
+            val out = ResponseOutputStream(ctx.response())
+
+            val serializerBuilder = XmlSerializer.XmlSerializerBuilder(manager, out).revisions(revisions)
 
-        val serializerBuilder = XmlSerializer.XmlSerializerBuilder(manager, out).revisions(revisions)
+            nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
 
-        nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
+            if (ctx.queryParam("maxLevel").isNotEmpty())
+                serializerBuilder.maxLevel(ctx.queryParam("maxLevel")[0].toLong())
 
-        if (ctx.queryParam("maxLevel").isNotEmpty())
-            serializerBuilder.maxLevel(ctx.queryParam("maxLevel")[0].toLong())
+            val serializer = serializerBuilder.emitIDs().emitRESTful().emitRESTSequence().prettyPrint().build()
 
-        val serializer = serializerBuilder.emitIDs().emitRESTful().emitRESTSequence().prettyPrint().build()
+            XmlSerializeHelper().serializeXmlChunked(serializer, out, ctx, manager, nodeId)
 
-        return XmlSerializeHelper().serializeXml(serializer, out, ctx, manager, nodeId)
+            promise.complete()
+        }, false)
     }
 }
\ No newline at end of file
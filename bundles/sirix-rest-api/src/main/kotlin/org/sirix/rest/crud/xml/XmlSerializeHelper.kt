@@ -4,8 +4,10 @@ import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.RoutingContext
 import org.sirix.access.trx.node.HashType
 import org.sirix.api.xml.XmlResourceManager
+import org.sirix.rest.crud.ResponseOutputStream
 import org.sirix.service.xml.serialize.XmlSerializer
 import java.io.ByteArrayOutputStream
+import java.io.OutputStream
 import java.nio.charset.StandardCharsets
 
 class XmlSerializeHelper {
@@ -28,6 +30,35 @@ class XmlSerializeHelper {
         return body
     }
 
+    /**
+     * Serialize into an output stream, which streams the output as chunks into the response. Status and headers are
+     * written upfront, as they can't be changed once the first chunk has been sent.
+     */
+    fun serializeXmlChunked(
+        serializer: XmlSerializer,
+        out: OutputStream,
+        ctx: RoutingContext,
+        manager: XmlResourceManager,
+        nodeId: Long?
+    ) {
+        if (manager.resourceConfig.hashType == HashType.NONE) {
+            writeResponseWithoutHashValue(ctx)
+        } else {
+            writeResponseWithHashValue(manager, ctx, nodeId)
+        }
+
+        ctx.response().isChunked = true
+
+        try {
+            serializer.call()
+
+            out.flush()
+        } catch (e: Exception) {
+            ResponseOutputStream.abort(ctx.response())
+            throw e
+        }
+    }
+
     private fun writeResponseWithoutHashValue(ctx: RoutingContext) {
         ctx.response().setStatusCode(200)
             .putHeader(HttpHeaders.CONTENT_TYPE, "application/xml")
@@ -3,7 +3,10 @@ package org.sirix.rest
 import io.vertx.core.DeploymentOptions
 import io.vertx.core.Vertx
 import io.vertx.core.buffer.Buffer
+import io.vertx.core.http.HttpClientOptions
+import io.vertx.core.http.HttpClientResponse
 import io.vertx.core.http.HttpHeaders
+import io.vertx.core.json.JsonArray
 import io.vertx.core.json.JsonObject
 import io.vertx.ext.web.client.WebClient
 import io.vertx.ext.web.client.WebClientOptions
@@ -16,8 +19,10 @@ import io.vertx.kotlin.coroutines.dispatcher
 import io.vertx.kotlin.ext.web.client.sendAwait
 import io.vertx.kotlin.ext.web.client.sendBufferAwait
 import io.vertx.kotlin.ext.web.client.sendJsonAwait
+import kotlinx.coroutines.CompletableDeferred
 import kotlinx.coroutines.GlobalScope
 import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.delay
 import kotlinx.coroutines.launch
 import org.junit.jupiter.api.*
 import org.junit.jupiter.api.Assertions.*
@@ -1849,6 +1854,111 @@ class SirixVerticleJsonTest {
         }
     }
 
+    @Test
+    @Timeout(value = 60, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Testing that a paused client of a large resource doesn't block other requests")
+    fun testPausedClientDoesNotBlockOtherRequests(vertx: Vertx, testContext: VertxTestContext) {
+        GlobalScope.launch(vertx.dispatcher()) {
+            testContext.verifyCoroutine {
+                val numberOfObjects = 300_000
+
+                val document = StringBuilder("[")
+                for (i in 0 until numberOfObjects) {
+                    if (i > 0) document.append(',')
+                    document.append("""{"key":"value $i","number":$i}""")
+                }
+                document.append(']')
+
+                val credentials = json {
+                    obj(
+                        "username" to "admin",
+                        "password" to "admin"
+                    )
+                }
+
+                var response = client.postAbs("$server/token").sendJsonAwait(credentials)
+
+                testContext.verify {
+                    assertEquals(200, response.statusCode())
+                }
+
+                val user = response.bodyAsJsonObject()
+                accessToken = user.getString("access_token")
+
+                response = client.putAbs("$server$serverPath").putHeader(
+                    HttpHeaders.AUTHORIZATION
+                        .toString(), "Bearer $accessToken"
+                ).putHeader(HttpHeaders.CONTENT_TYPE.toString(), "application/json")
+                    .putHeader(HttpHeaders.ACCEPT.toString(), "application/json")
+                    .sendBufferAwait(Buffer.buffer(document.toString()))
+
+                testContext.verify {
+                    assertEquals(200, response.statusCode())
+                }
+
+                response = client.putAbs("$server/database/small-resource").putHeader(
+                    HttpHeaders.AUTHORIZATION
+                        .toString(), "Bearer $accessToken"
+                ).putHeader(HttpHeaders.CONTENT_TYPE.toString(), "application/json")
+                    .putHeader(HttpHeaders.ACCEPT.toString(), "application/json")
+                    .sendBufferAwait(Buffer.buffer("""{"foo":"bar"}"""))
+
+                testContext.verify {
+                    assertEquals(200, response.statusCode())
+                }
+
+                // The client doesn't read the large resource, thus the serialization on the server blocks as soon as
+                // the write queue of the response is full.
+                val httpClient = vertx.createHttpClient(HttpClientOptions().setSsl(true).setTrustAll(true))
+                val pausedResponse = CompletableDeferred<HttpClientResponse>()
+                httpClient.getAbs("$server$serverPath") { largeResponse ->
+                    largeResponse.pause()
+                    pausedResponse.complete(largeResponse)
+                }.putHeader(HttpHeaders.AUTHORIZATION.toString(), "Bearer $accessToken")
+                    .putHeader(HttpHeaders.ACCEPT.toString(), "application/json")
+                    .end()
+
+                val largeResponse = pausedResponse.await()
+
+                testContext.verify {
+                    assertEquals(200, largeResponse.statusCode())
+                }
+
+                delay(1_000)
+
+                response = client.getAbs("$server/database/small-resource").putHeader(
+                    HttpHeaders.AUTHORIZATION
+                        .toString(), "Bearer $accessToken"
+                ).putHeader(HttpHeaders.ACCEPT.toString(), "application/json").sendAwait()
+
+                testContext.verify {
+                    assertEquals(200, response.statusCode())
+                    JSONAssert.assertEquals("""{"foo":"bar"}""", response.bodyAsString(), false)
+                }
+
+                // Once the client reads the large resource, the serialization continues.
+                val body = CompletableDeferred<Buffer>()
+                val largeBody = Buffer.buffer()
+                largeResponse.handler { largeBody.appendBuffer(it) }
+                largeResponse.exceptionHandler { body.completeExceptionally(it) }
+                largeResponse.endHandler { body.complete(largeBody) }
+                largeResponse.resume()
+
+                val serializedResource = JsonArray(body.await())
+                httpClient.close()
+
+                testContext.verify {
+                    assertEquals(numberOfObjects, serializedResource.size())
+                    assertEquals(
+                        numberOfObjects - 1,
+                        serializedResource.getJsonObject(numberOfObjects - 1).getInteger("number")
+                    )
+                    testContext.completeNow()
+                }
+            }
+        }
+    }
+
     private suspend fun VertxTestContext.verifyCoroutine(block: suspend () -> Unit) = coroutineScope {
         launch(coroutineContext) {
             try {
@@ -154,6 +154,11 @@ public final class JNFun {
         new CreatePathIndex(CREATE_PATH_INDEX, new Signature(SequenceType.JSON_ITEM, SequenceType.JSON_ITEM)));
 
     // create-cas-index
+    Functions.predefine(new CreateCASIndex(CREATE_CAS_INDEX,
+        new Signature(SequenceType.JSON_ITEM, SequenceType.JSON_ITEM,
+            new SequenceType(AtomicType.STR, Cardinality.ZeroOrOne),
+            new SequenceType(AtomicType.STR, Cardinality.ZeroOrMany),
+            new SequenceType(AtomicType.STR, Cardinality.ZeroOrOne))));
     Functions.predefine(new CreateCASIndex(CREATE_CAS_INDEX,
         new Signature(SequenceType.JSON_ITEM, SequenceType.JSON_ITEM,
             new SequenceType(AtomicType.STR, Cardinality.ZeroOrOne),
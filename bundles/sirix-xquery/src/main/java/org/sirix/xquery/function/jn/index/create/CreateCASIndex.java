@@ -16,6 +16,7 @@ import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.api.json.JsonNodeTrx;
 import org.sirix.api.json.JsonResourceManager;
 import org.sirix.exception.SirixIOException;
+import org.sirix.index.IndexBackendType;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexDefs;
 import org.sirix.index.IndexType;
@@ -28,10 +29,12 @@ import java.util.Set;
 /**
  * <p>
  * Function for creating CAS indexes on stored documents, optionally restricted to a set of paths
- * and a content type. If successful, this function returns the document-node. Supported signatures
- * are:
+ * and a content type. The index is stored in a B+-tree, unless an adaptive radix tree is requested with the
+ * backend {@code "art"}, which supports prefix scans over string values. If successful, this function returns the
+ * document-node. Supported signatures are:
  * </p>
  * <ul>
+ * <li><code>jn:create-cas-index($doc as json-item(), $type as xs:string?, $paths as xs:string*, $backend as xs:string?) as json-item()</code></li>
  * <li><code>jn:create-cas-index($doc as json-item(), $type as xs:string?, $paths as xs:string*) as json-item()</code></li>
  * <li><code>jn:create-cas-index($doc as json-item(), $type as xs:string?) as json-item()</code></li>
  * <li><code>jn:create-cas-index($doc as json-item()) as json-item()</code></li>
@@ -57,7 +60,7 @@ public final class CreateCASIndex extends AbstractFunction {
 
   @Override
   public Sequence execute(StaticContext sctx, QueryContext ctx, Sequence[] args) {
-    if (args.length != 2 && args.length != 3) {
+    if (args.length < 2 || args.length > 4) {
       throw new QueryException(new QNm("No valid arguments specified!"));
     }
 
@@ -85,7 +88,7 @@ public final class CreateCASIndex extends AbstractFunction {
     }
 
     final Set<Path<QNm>> paths = new HashSet<>();
-    if (args.length == 3 && args[2] != null) {
+    if (args.length >= 3 && args[2] != null) {
       final Iter it = args[2].iterate();
       Item next = it.next();
       while (next != null) {
@@ -94,8 +97,23 @@ public final class CreateCASIndex extends AbstractFunction {
       }
     }
 
-    final IndexDef idxDef = IndexDefs.createCASIdxDef(false, type, paths,
-        controller.getIndexes().getNrOfIndexDefsWithType(IndexType.CAS));
+    IndexBackendType backendType = IndexBackendType.BPLUS_TREE;
+    if (args.length == 4 && args[3] != null) {
+      final String backend = ((Str) args[3]).stringValue();
+      backendType = switch (backend) {
+        case "bplustree" -> IndexBackendType.BPLUS_TREE;
+        case "art" -> IndexBackendType.ART;
+        default -> throw new QueryException(new QNm("Index backend not supported: " + backend));
+      };
+    }
+
+    final IndexDef idxDef;
+    try {
+      idxDef = IndexDefs.createCASIdxDef(false, type, paths,
+          controller.getIndexes().getNrOfIndexDefsWithType(IndexType.CAS), backendType);
+    } catch (final IllegalArgumentException e) {
+      throw new QueryException(new QNm(e.getMessage()), e);
+    }
     try {
       controller.createIndexes(ImmutableSet.of(idxDef), wtx);
     } catch (final SirixIOException e) {
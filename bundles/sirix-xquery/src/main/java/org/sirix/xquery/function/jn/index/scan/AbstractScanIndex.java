@@ -5,7 +5,7 @@ import org.brackit.xquery.function.AbstractFunction;
 import org.brackit.xquery.sequence.BaseIter;
 import org.brackit.xquery.sequence.LazySequence;
 import org.brackit.xquery.xdm.*;
-import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.index.keyvalue.NodeReferences;
 import org.sirix.xquery.json.JsonDBItem;
 import org.sirix.xquery.stream.json.SirixJsonItemKeyStream;
 
@@ -80,7 +80,7 @@ public final class ScanCASIndex extends AbstractScanIndex {
     final Type keyType = indexDef.getContentType();
     final Atomic key = Cast.cast(sctx, (Atomic) args[2], keyType, true);
     FunUtil.getBoolean(args, 3, "$include-low-key", true, true);
-    final int[] searchModes = new int[] {-2, -1, 0, 1, 2};
+    final int[] searchModes = new int[] {-2, -1, 0, 1, 2, 3};
     final int searchMode = FunUtil.getInt(args, 4, "$search-mode", 0, searchModes, true);
 
     final SearchMode mode;
@@ -100,11 +100,21 @@ public final class ScanCASIndex extends AbstractScanIndex {
       case 2:
         mode = SearchMode.GREATER_OR_EQUAL;
         break;
+      case 3:
+        mode = SearchMode.STARTS_WITH;
+        break;
       default:
         // May never happen.
         mode = SearchMode.EQUAL;
     }
 
+    // Prefixes are only defined for strings.
+    if (mode == SearchMode.STARTS_WITH && keyType != Type.STR) {
+      throw new QueryException(SDBFun.ERR_INVALID_ARGUMENT,
+          "Search mode 3 (starts with) requires a CAS index of type xs:string, but index no %s is of type %s.", idx,
+          keyType);
+    }
+
     final String paths = FunUtil.getString(args, 5, "$paths", null, null, false);
     final CASFilter filter = (paths != null)
         ? controller.createCASFilter(Set.of(paths.split(";")), key, mode, new JsonPCRCollector(rtx))
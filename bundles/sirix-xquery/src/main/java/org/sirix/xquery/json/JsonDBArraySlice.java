@@ -18,7 +18,6 @@ import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.api.json.JsonNodeTrx;
 import org.sirix.api.json.JsonResourceManager;
 import org.sirix.axis.AbstractTemporalAxis;
-import org.sirix.axis.ChildAxis;
 import org.sirix.axis.IncludeSelf;
 import org.sirix.axis.temporal.AllTimeAxis;
 import org.sirix.axis.temporal.FirstAxis;
@@ -149,14 +148,7 @@ public final class JsonDBArraySlice extends AbstractJsonDBArray<JsonDBArraySlice
   private Sequence getSequenceAtIndex(final JsonNodeReadOnlyTrx rtx, final int index) {
     moveRtx();
 
-    final var axis = new ChildAxis(rtx);
-
-    for (int i = 0; i < index && axis.hasNext(); i++)
-      axis.next();
-
-    if (axis.hasNext()) {
-      axis.next();
-
+    if (rtx.moveToChildAt(index).hasMoved()) {
       return jsonUtil.getSequence(rtx, collection);
     }
 
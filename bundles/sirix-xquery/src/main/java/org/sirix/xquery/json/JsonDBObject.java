@@ -20,14 +20,10 @@ import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.api.json.JsonNodeTrx;
 import org.sirix.api.json.JsonResourceManager;
 import org.sirix.axis.AbstractTemporalAxis;
-import org.sirix.axis.ChildAxis;
 import org.sirix.axis.IncludeSelf;
-import org.sirix.axis.filter.FilterAxis;
-import org.sirix.axis.filter.json.JsonNameFilter;
 import org.sirix.axis.temporal.*;
 import org.sirix.service.json.shredder.JsonShredder;
 import org.sirix.xquery.StructuredDBItem;
-import org.sirix.xquery.stream.json.SirixJsonStream;
 import org.sirix.xquery.stream.json.TemporalSirixJsonObjectStream;
 
 import java.io.ByteArrayOutputStream;
@@ -352,18 +348,7 @@ public final class JsonDBObject extends AbstractItem
   }
 
   private boolean findField(QNm field, JsonNodeTrx trx) {
-    trx.moveToFirstChild();
-
-    boolean isFound = false;
-
-    do {
-      if (trx.getName().equals(field)) {
-        isFound = true;
-        break;
-      }
-    } while (trx.moveToRightSibling().hasMoved());
-
-    return isFound;
+    return trx.moveToField(field).hasMoved();
   }
 
   @Override
@@ -459,11 +444,7 @@ public final class JsonDBObject extends AbstractItem
     moveRtx();
 
     return fields.computeIfAbsent(field, (unused) -> {
-      final var axis = new FilterAxis<>(new ChildAxis(rtx), new JsonNameFilter(rtx, field));
-
-      if (axis.hasNext()) {
-        axis.next();
-
+      if (rtx.moveToField(field).hasMoved()) {
         return jsonItemFactory.getSequence(rtx.moveToFirstChild().trx(), collection);
       }
 
@@ -481,15 +462,7 @@ public final class JsonDBObject extends AbstractItem
   }
 
   private Sequence getValueSequenceAtIndex(final JsonNodeReadOnlyTrx rtx, final int index) {
-    final var axis = new ChildAxis(rtx);
-
-    for (int i = 0; i < index && axis.hasNext(); i++) {
-      axis.next();
-    }
-
-    if (axis.hasNext()) {
-      axis.next();
-
+    if (rtx.moveToChildAt(index).hasMoved()) {
       return jsonItemFactory.getSequence(rtx.moveToFirstChild().trx(), collection);
     }
 
@@ -538,19 +511,11 @@ public final class JsonDBObject extends AbstractItem
   }
 
   private QNm getNameAtIndex(final JsonNodeReadOnlyTrx rtx, final int index) {
-    final var axis = new ChildAxis(rtx);
-
-    try (final var stream = new SirixJsonStream(axis, collection)) {
-      for (int i = 0; i < index && stream.next() != null; i++) {
-      }
-      final var jsonItem = stream.next();
-
-      if (jsonItem != null) {
-        return jsonItem.getTrx().getName();
-      }
-
-      return null;
+    if (rtx.moveToChildAt(index).hasMoved()) {
+      return rtx.getName();
     }
+
+    return null;
   }
 
   @Override